@@ -0,0 +1,82 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.benchmarks.client;
+
+import io.gravitee.am.benchmarks.support.Beans;
+import io.gravitee.am.gateway.handler.common.client.ClientManager;
+import io.gravitee.am.gateway.handler.common.client.ClientSyncService;
+import io.gravitee.am.gateway.handler.common.client.impl.ClientManagerImpl;
+import io.gravitee.am.gateway.handler.common.client.impl.ClientSyncServiceImpl;
+import io.gravitee.am.model.Domain;
+import io.gravitee.am.model.oidc.Client;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client lookups done by {@link ClientSyncServiceImpl} on every token and authorization request.
+ *
+ * @author GraviteeSource Team
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClientSyncServiceBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    public int clients;
+
+    private ClientSyncService clientSyncService;
+    private String lastClientId;
+    private String lastId;
+
+    @Setup
+    public void setup() {
+        Domain domain = new Domain();
+        domain.setId("benchmark-domain");
+        domain.setName("benchmark");
+
+        // the applications of the domain are deployed without any repository, as if they were already synchronized
+        ClientManager clientManager = new ClientManagerImpl();
+        for (int i = 0; i < clients; i++) {
+            Client client = new Client();
+            client.setId("id-" + i);
+            client.setClientId("client-" + i);
+            client.setDomain(domain.getId());
+            clientManager.deploy(client);
+        }
+
+        clientSyncService = new ClientSyncServiceImpl();
+        Beans.inject(clientSyncService, "domain", domain);
+        Beans.inject(clientSyncService, "clientManager", clientManager);
+
+        lastClientId = "client-" + (clients - 1);
+        lastId = "id-" + (clients - 1);
+    }
+
+    @Benchmark
+    public Client findByClientId() {
+        return clientSyncService.findByClientId(lastClientId).blockingGet();
+    }
+
+    @Benchmark
+    public Client findById() {
+        return clientSyncService.findById(lastId).blockingGet();
+    }
+}
@@ -0,0 +1,142 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.benchmarks.domain;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.gravitee.am.benchmarks.support.StubBeanFactory;
+import io.gravitee.am.gateway.handler.SecurityDomainRouterFactory;
+import io.gravitee.am.gateway.handler.spring.SharedHandlerConfiguration;
+import io.gravitee.am.model.Domain;
+import io.gravitee.am.model.ReferenceType;
+import io.vertx.reactivex.core.Vertx;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.support.PropertySourcesPlaceholderConfigurer;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deployment of N security domains by the {@link SecurityDomainRouterFactory}: creation of the domain contexts
+ * and start of their components.
+ *
+ * Repositories and plugin managers are no-op stubs, so the protocols (OAuth 2.0, OpenID Connect, ...) are not
+ * deployed: the benchmark measures the cost of the domain contexts themselves.
+ * The heap retained by each domain is logged at the end of each iteration.
+ *
+ * @author GraviteeSource Team
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class DomainDeploymentBenchmark {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DomainDeploymentBenchmark.class);
+
+    @Param({"100"})
+    public int domains;
+
+    private Vertx vertx;
+
+    private AnnotationConfigApplicationContext gatewayContext;
+
+    private SecurityDomainRouterFactory securityDomainRouterFactory;
+
+    private final List<Object> handlers = new ArrayList<>();
+
+    private long heapBefore;
+
+    @Setup
+    public void setup() throws IOException {
+        vertx = Vertx.vertx();
+
+        Path home = Files.createTempDirectory("gio-am-benchmark");
+        Files.createDirectories(home.resolve("templates"));
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("benchmark",
+                Collections.singletonMap("gravitee.home", home.toString())));
+
+        gatewayContext = new AnnotationConfigApplicationContext(new StubBeanFactory());
+        gatewayContext.setEnvironment(environment);
+        gatewayContext.getBeanFactory().registerSingleton("vertx", vertx);
+        gatewayContext.getBeanFactory().registerSingleton("objectMapper", new ObjectMapper());
+        PropertySourcesPlaceholderConfigurer configurer = new PropertySourcesPlaceholderConfigurer();
+        configurer.setIgnoreUnresolvablePlaceholders(true);
+        gatewayContext.addBeanFactoryPostProcessor(configurer);
+        gatewayContext.register(SharedHandlerConfiguration.class, SecurityDomainRouterFactory.class);
+        gatewayContext.refresh();
+
+        securityDomainRouterFactory = gatewayContext.getBean(SecurityDomainRouterFactory.class);
+    }
+
+    @Setup(Level.Iteration)
+    public void measureHeapBefore() {
+        handlers.clear();
+        heapBefore = usedHeap();
+    }
+
+    @TearDown(Level.Iteration)
+    public void logHeapPerDomain() {
+        long heapPerDomain = (usedHeap() - heapBefore) / domains;
+        LOGGER.info("Heap retained per domain: {} KB", heapPerDomain / 1024);
+        handlers.clear();
+    }
+
+    @TearDown
+    public void tearDown() {
+        gatewayContext.close();
+        vertx.close();
+    }
+
+    @Benchmark
+    public List<Object> deploy() {
+        for (int i = 0; i < domains; i++) {
+            handlers.add(securityDomainRouterFactory.create(domain(i)));
+        }
+        return handlers;
+    }
+
+    private static Domain domain(int index) {
+        Domain domain = new Domain();
+        domain.setId("domain-" + index);
+        domain.setName("Domain " + index);
+        domain.setPath("/domain-" + index);
+        domain.setReferenceType(ReferenceType.ENVIRONMENT);
+        domain.setReferenceId("DEFAULT");
+        domain.setEnabled(true);
+        return domain;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
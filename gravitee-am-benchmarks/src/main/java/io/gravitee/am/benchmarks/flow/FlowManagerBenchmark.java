@@ -0,0 +1,172 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.benchmarks.flow;
+
+import io.gravitee.am.benchmarks.support.Beans;
+import io.gravitee.am.benchmarks.support.InMemoryFlowRepository;
+import io.gravitee.am.common.policy.ExtensionPoint;
+import io.gravitee.am.gateway.handler.common.flow.FlowManager;
+import io.gravitee.am.gateway.handler.common.flow.FlowPredicate;
+import io.gravitee.am.gateway.handler.common.flow.impl.FlowManagerImpl;
+import io.gravitee.am.gateway.policy.Policy;
+import io.gravitee.am.model.Domain;
+import io.gravitee.am.model.ReferenceType;
+import io.gravitee.am.model.flow.Flow;
+import io.gravitee.am.model.flow.Step;
+import io.gravitee.am.model.flow.Type;
+import io.gravitee.am.model.oidc.Client;
+import io.gravitee.am.plugins.policy.core.PolicyPluginManager;
+import io.gravitee.am.service.impl.FlowServiceImpl;
+import io.gravitee.plugin.policy.PolicyPlugin;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolution of the policies to execute at an extension point by {@link FlowManagerImpl}.
+ *
+ * @author GraviteeSource Team
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FlowManagerBenchmark {
+
+    private static final int STEPS_PER_FLOW = 3;
+
+    @Param({"1", "10", "100"})
+    public int applications;
+
+    private FlowManager flowManager;
+    private Client client;
+
+    @Setup
+    public void setup() {
+        Domain domain = new Domain();
+        domain.setId("benchmark-domain");
+        domain.setName("benchmark");
+
+        // one domain login flow and one login flow per application
+        InMemoryFlowRepository flowRepository = new InMemoryFlowRepository();
+        flowRepository.create(flow(domain, "domain-login", null)).blockingGet();
+        for (int i = 0; i < applications; i++) {
+            flowRepository.create(flow(domain, "app-login-" + i, "app-" + i)).blockingGet();
+        }
+
+        FlowServiceImpl flowService = new FlowServiceImpl();
+        Beans.inject(flowService, "flowRepository", flowRepository);
+
+        FlowManagerImpl flowManager = new FlowManagerImpl();
+        Beans.inject(flowManager, "domain", domain);
+        Beans.inject(flowManager, "flowService", flowService);
+        Beans.inject(flowManager, "policyPluginManager", new NoOpPolicyPluginManager());
+        flowManager.afterPropertiesSet();
+        this.flowManager = flowManager;
+
+        client = new Client();
+        client.setId("app-" + (applications - 1));
+        client.setFlowsInherited(true);
+    }
+
+    @Benchmark
+    public List<Policy> findByExtensionPoint() {
+        return flowManager.findByExtensionPoint(ExtensionPoint.PRE_LOGIN, client, FlowPredicate.alwaysTrue()).blockingGet();
+    }
+
+    @Benchmark
+    public List<Policy> findByExtensionPoint_domainOnly() {
+        return flowManager.findByExtensionPoint(ExtensionPoint.PRE_LOGIN, null, FlowPredicate.alwaysTrue()).blockingGet();
+    }
+
+    private static Flow flow(Domain domain, String id, String application) {
+        Flow flow = new Flow();
+        flow.setId(id);
+        flow.setName(id);
+        flow.setType(Type.LOGIN);
+        flow.setReferenceType(ReferenceType.DOMAIN);
+        flow.setReferenceId(domain.getId());
+        flow.setApplication(application);
+        flow.setEnabled(true);
+        flow.setOrder(0);
+        flow.setPre(steps(id + "-pre"));
+        flow.setPost(steps(id + "-post"));
+        return flow;
+    }
+
+    private static List<Step> steps(String prefix) {
+        List<Step> steps = new ArrayList<>();
+        for (int i = 0; i < STEPS_PER_FLOW; i++) {
+            Step step = new Step();
+            step.setName(prefix + "-" + i);
+            step.setPolicy("policy-noop");
+            step.setConfiguration("{}");
+            step.setEnabled(true);
+            steps.add(step);
+        }
+        return steps;
+    }
+
+    private static class NoOpPolicyPluginManager implements PolicyPluginManager {
+
+        @Override
+        public Policy create(String type, String configuration) {
+            return new Policy() {
+                @Override
+                public String id() {
+                    return type;
+                }
+
+                @Override
+                public Map<String, Object> metadata() {
+                    return Collections.emptyMap();
+                }
+            };
+        }
+
+        @Override
+        public Collection<PolicyPlugin> getAll() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public PolicyPlugin get(String policyId) {
+            return null;
+        }
+
+        @Override
+        public String getSchema(String policyId) {
+            return null;
+        }
+
+        @Override
+        public String getIcon(String policyId) {
+            return null;
+        }
+
+        @Override
+        public String getDocumentation(String policyId) {
+            return null;
+        }
+    }
+}
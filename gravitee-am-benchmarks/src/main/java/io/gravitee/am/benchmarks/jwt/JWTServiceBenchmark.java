@@ -0,0 +1,89 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.benchmarks.jwt;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.gravitee.am.benchmarks.support.Beans;
+import io.gravitee.am.benchmarks.support.Certificates;
+import io.gravitee.am.benchmarks.support.InMemoryCertificateManager;
+import io.gravitee.am.common.jwt.JWT;
+import io.gravitee.am.gateway.certificate.CertificateProvider;
+import io.gravitee.am.gateway.handler.common.jwt.JWTService;
+import io.gravitee.am.gateway.handler.common.jwt.impl.JWTServiceImpl;
+import io.gravitee.am.model.oidc.Client;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Signature and verification of access tokens by {@link JWTServiceImpl}.
+ *
+ * @author GraviteeSource Team
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JWTServiceBenchmark {
+
+    @Param({"HS256", "RS256"})
+    public String algorithm;
+
+    private JWTService jwtService;
+    private Client client;
+    private JWT jwt;
+    private String encodedJwt;
+
+    @Setup
+    public void setup() {
+        CertificateProvider certificateProvider = "RS256".equals(algorithm) ? Certificates.rsa() : Certificates.hmac();
+        jwtService = new JWTServiceImpl();
+        Beans.inject(jwtService, "certificateManager", new InMemoryCertificateManager(certificateProvider));
+        Beans.inject(jwtService, "objectMapper", new ObjectMapper());
+
+        client = new Client();
+        client.setClientId("benchmark-client");
+
+        long now = Instant.now().getEpochSecond();
+        jwt = new JWT();
+        jwt.setIss("https://gravitee.am/benchmark/oidc");
+        jwt.setSub("benchmark-user");
+        jwt.setAud(client.getClientId());
+        jwt.setIat(now);
+        jwt.setExp(now + 7200);
+        jwt.setJti("benchmark-jti");
+        jwt.setScope("openid profile email");
+        encodedJwt = jwtService.encode(jwt, client).blockingGet();
+    }
+
+    @Benchmark
+    public String encode() {
+        return jwtService.encode(jwt, client).blockingGet();
+    }
+
+    @Benchmark
+    public JWT decodeAndVerify() {
+        return jwtService.decodeAndVerify(encodedJwt, client).blockingGet();
+    }
+
+    @Benchmark
+    public JWT decode() {
+        return jwtService.decode(encodedJwt).blockingGet();
+    }
+}
@@ -0,0 +1,134 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.benchmarks.reactor;
+
+import io.gravitee.am.gateway.reactor.impl.router.VHostRouter;
+import io.gravitee.am.model.Domain;
+import io.gravitee.am.model.VirtualHost;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Virtual host matching of the incoming requests against the domains mounted on the same path.
+ *
+ * The routing context and the domain routers are lightweight proxies so that only the matching done by
+ * {@link VHostRouter} is measured.
+ *
+ * @author GraviteeSource Team
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VHostRouterBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int domains;
+
+    private final List<Router> routers = new ArrayList<>();
+    private RoutingContext firstDomainContext;
+    private RoutingContext lastDomainContext;
+    private int matches;
+
+    @Setup
+    public void setup() {
+        Router domainRouter = proxy(Router.class, (method, args) -> {
+            if ("handleContext".equals(method)) {
+                matches++;
+            }
+            return null;
+        });
+
+        for (int i = 0; i < domains; i++) {
+            Domain domain = new Domain();
+            domain.setId("domain-" + i);
+            domain.setPath("/");
+            VirtualHost virtualHost = new VirtualHost();
+            virtualHost.setHost("domain-" + i + ".gravitee.am");
+            virtualHost.setPath("/");
+            routers.add(VHostRouter.router(domain, virtualHost, io.vertx.reactivex.ext.web.Router.newInstance(domainRouter)).getDelegate());
+        }
+
+        firstDomainContext = routingContext("domain-0.gravitee.am", "/oauth/token");
+        lastDomainContext = routingContext("domain-" + (domains - 1) + ".gravitee.am", "/oauth/token");
+    }
+
+    @Benchmark
+    public int route_firstDomain() {
+        return route(firstDomainContext);
+    }
+
+    @Benchmark
+    public int route_lastDomain() {
+        return route(lastDomainContext);
+    }
+
+    private int route(RoutingContext context) {
+        // the mounted routers are called in sequence until one of them handles the request
+        int before = matches;
+        for (Router router : routers) {
+            router.handleContext(context);
+            if (matches != before) {
+                break;
+            }
+        }
+        return matches;
+    }
+
+    private static RoutingContext routingContext(String host, String path) {
+        HttpServerRequest request = proxy(HttpServerRequest.class, (method, args) -> {
+            switch (method) {
+                case "host":
+                    return host;
+                case "path":
+                    return path;
+                default:
+                    return null;
+            }
+        });
+        return proxy(RoutingContext.class, (method, args) -> "request".equals(method) ? request : null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Handler handler) {
+        return (T) Proxy.newProxyInstance(VHostRouterBenchmark.class.getClassLoader(), new Class[]{type}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return type.getSimpleName() + "Proxy";
+                default:
+                    return handler.invoke(method.getName(), args);
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        Object invoke(String method, Object[] args);
+    }
+}
@@ -0,0 +1,129 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.benchmarks.repository;
+
+import com.github.dozermapper.core.DozerBeanMapperBuilder;
+import com.github.dozermapper.core.Mapper;
+import io.gravitee.am.model.LoginAttempt;
+import io.gravitee.am.model.User;
+import io.gravitee.am.repository.jdbc.management.api.model.JdbcLoginAttempt;
+import io.gravitee.am.repository.jdbc.management.api.model.JdbcUser;
+import io.gravitee.am.repository.jdbc.management.api.model.mapper.LoginAttemptMapper;
+import io.gravitee.am.repository.jdbc.management.api.model.mapper.UserMapper;
+import io.gravitee.am.repository.jdbc.oauth2.api.model.JdbcAccessToken;
+import io.gravitee.am.repository.jdbc.oauth2.api.model.mapper.TokenMapper;
+import io.gravitee.am.repository.oauth2.model.AccessToken;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping of the rows read by the JDBC repositories on each authentication and token introspection,
+ * Dozer mapping compared with the hand-written mappers.
+ *
+ * @author GraviteeSource Team
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JdbcMapperBenchmark {
+
+    private Mapper dozerMapper;
+
+    private JdbcAccessToken accessToken;
+    private JdbcLoginAttempt loginAttempt;
+    private JdbcUser user;
+
+    @Setup
+    public void setup() {
+        dozerMapper = DozerBeanMapperBuilder.create().withMappingFiles(Arrays.asList("dozer.xml")).build();
+
+        LocalDateTime now = LocalDateTime.now();
+        accessToken = new JdbcAccessToken();
+        accessToken.setId("b7d1b6c5-8f5e-4a8e-91b6-c58f5e2a8e91");
+        accessToken.setToken("eyJraWQiOiJkZWZhdWx0LWdyYXZpdGVlLUFNLWtleSIsImFsZyI6IkhTMjU2In0");
+        accessToken.setDomain("domain");
+        accessToken.setClient("client");
+        accessToken.setSubject("subject");
+        accessToken.setCreatedAt(now);
+        accessToken.setExpireAt(now.plusHours(2));
+
+        loginAttempt = new JdbcLoginAttempt();
+        loginAttempt.setId("4d0b8f9e-1c2a-4f3b-8b8f-9e1c2a0f3b8b");
+        loginAttempt.setDomain("domain");
+        loginAttempt.setClient("client");
+        loginAttempt.setIdentityProvider("idp");
+        loginAttempt.setUsername("bjensen");
+        loginAttempt.setAttempts(2);
+        loginAttempt.setCreatedAt(now);
+        loginAttempt.setUpdatedAt(now);
+        loginAttempt.setExpireAt(now.plusMinutes(15));
+
+        user = new JdbcUser();
+        user.setId("0d3c4e2f-7a1b-4c9d-bc4e-2f7a1b0c9d3c");
+        user.setExternalId("00u1dhhb1fkIGP7RL1d8");
+        user.setUsername("bjensen");
+        user.setEmail("bjensen@example.com");
+        user.setDisplayName("Barbara Jensen");
+        user.setFirstName("Barbara");
+        user.setLastName("Jensen");
+        user.setReferenceType("DOMAIN");
+        user.setReferenceId("domain");
+        user.setSource("idp");
+        user.setClient("client");
+        user.setLoginsCount(12);
+        user.setLoggedAt(now);
+        user.setCreatedAt(now.minusDays(30));
+        user.setUpdatedAt(now);
+        user.setFactors("[{\"factorId\":\"otp\",\"status\":\"ACTIVATED\",\"security\":{\"type\":\"SHARED_SECRET\",\"value\":\"JBSWY3DPEHPK3PXP\"}}]");
+        user.setAdditionalInformation("{\"sub\":\"bjensen\",\"email\":\"bjensen@example.com\",\"email_verified\":true}");
+    }
+
+    @Benchmark
+    public AccessToken accessTokenDozer() {
+        return dozerMapper.map(accessToken, AccessToken.class);
+    }
+
+    @Benchmark
+    public AccessToken accessTokenMapper() {
+        return TokenMapper.toAccessToken(accessToken);
+    }
+
+    @Benchmark
+    public LoginAttempt loginAttemptDozer() {
+        return dozerMapper.map(loginAttempt, LoginAttempt.class);
+    }
+
+    @Benchmark
+    public LoginAttempt loginAttemptMapper() {
+        return LoginAttemptMapper.toEntity(loginAttempt);
+    }
+
+    @Benchmark
+    public User userDozer() {
+        return dozerMapper.map(user, User.class);
+    }
+
+    @Benchmark
+    public User userMapper() {
+        return UserMapper.toEntity(user);
+    }
+}
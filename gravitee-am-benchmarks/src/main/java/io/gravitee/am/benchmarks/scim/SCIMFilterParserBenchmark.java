@@ -0,0 +1,98 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.benchmarks.scim;
+
+import io.gravitee.am.common.scim.filter.Filter;
+import io.gravitee.am.common.scim.filter.FilterEvaluator;
+import io.gravitee.am.common.scim.parser.SCIMFilterParser;
+import io.gravitee.am.repository.management.api.search.FilterCriteria;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing, translation and in-memory evaluation of the SCIM filters sent to the <code>/Users</code> and
+ * <code>/Groups</code> endpoints. The corpus mixes the filters of the Okta and Azure AD provisioning clients
+ * with the RFC 7644 examples.
+ *
+ * @author GraviteeSource Team
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SCIMFilterParserBenchmark {
+
+    @Param({
+            // Okta
+            "userName eq \"bjensen@example.com\"",
+            "externalId eq \"00u1dhhb1fkIGP7RL1d8\"",
+            // Azure AD
+            "userName eq \"Test_User_dfeef4c5-5681-4387-b016-bdf221e82081\"",
+            "displayName eq \"Engineering\" and externalId eq \"b6d4d2a4-9cdd-4a4e-8b64-6dc2dd9e1f6c\"",
+            // RFC 7644
+            "title pr and userType eq \"Employee\"",
+            "userType eq 1.99 and (emails co \"example.com\" or emails.value co \"example.org\")",
+            "name.familyName co \"O'Malley\" and (meta.lastModified gt \"2011-05-13T04:42:34Z\" or (title pr and userType ne \"Intern\"))"
+    })
+    public String filter;
+
+    private Filter parsedFilter;
+
+    private Map<String, Object> resource;
+
+    @Setup
+    public void setup() {
+        parsedFilter = SCIMFilterParser.parse(filter, false);
+
+        Map<String, Object> email = new HashMap<>();
+        email.put("value", "bjensen@example.com");
+        email.put("type", "work");
+        Map<String, Object> name = new HashMap<>();
+        name.put("familyName", "O'Malley");
+        resource = new HashMap<>();
+        resource.put("userName", "bjensen@example.com");
+        resource.put("externalId", "00u1dhhb1fkIGP7RL1d8");
+        resource.put("displayName", "Barbara Jensen");
+        resource.put("title", "Tour Guide");
+        resource.put("userType", "Employee");
+        resource.put("name", name);
+        resource.put("emails", Collections.singletonList(email));
+    }
+
+    @Benchmark
+    public Filter parse() {
+        return SCIMFilterParser.parse(filter, false);
+    }
+
+    @Benchmark
+    public Filter parseCached() {
+        return SCIMFilterParser.parse(filter);
+    }
+
+    @Benchmark
+    public FilterCriteria translate() {
+        return FilterCriteria.convert(SCIMFilterParser.parse(filter));
+    }
+
+    @Benchmark
+    public boolean evaluate() {
+        return FilterEvaluator.evaluate(parsedFilter, resource);
+    }
+}
@@ -0,0 +1,64 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.benchmarks.support;
+
+import io.gravitee.am.gateway.certificate.CertificateProvider;
+import io.gravitee.am.jwt.DefaultJWTBuilder;
+import io.gravitee.am.jwt.DefaultJWTParser;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+
+/**
+ * Certificate providers signing with real keys, as deployed by the certificate manager of a domain.
+ *
+ * @author GraviteeSource Team
+ */
+public final class Certificates {
+
+    private static final String HMAC_SECRET = "s3cR3t4grAv1t3310AMS1g1ingDftK3y";
+
+    private Certificates() {
+    }
+
+    public static CertificateProvider hmac() {
+        try {
+            SecretKeySpec key = new SecretKeySpec(HMAC_SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+            CertificateProvider certificateProvider = new CertificateProvider(null);
+            certificateProvider.setJwtBuilder(new DefaultJWTBuilder(key, "HS256", "default-hmac"));
+            certificateProvider.setJwtParser(new DefaultJWTParser(key));
+            return certificateProvider;
+        } catch (Exception ex) {
+            throw new IllegalStateException("Unable to create the HMAC certificate provider", ex);
+        }
+    }
+
+    public static CertificateProvider rsa() {
+        try {
+            KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+            keyPairGenerator.initialize(2048);
+            KeyPair keyPair = keyPairGenerator.generateKeyPair();
+            CertificateProvider certificateProvider = new CertificateProvider(null);
+            certificateProvider.setJwtBuilder(new DefaultJWTBuilder(keyPair.getPrivate(), "RS256", "default-rsa"));
+            certificateProvider.setJwtParser(new DefaultJWTParser(keyPair.getPublic()));
+            return certificateProvider;
+        } catch (Exception ex) {
+            throw new IllegalStateException("Unable to create the RSA certificate provider", ex);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.benchmarks.support;
+
+import io.gravitee.am.repository.oauth2.api.AccessTokenRepository;
+import io.gravitee.am.repository.oauth2.model.AccessToken;
+import io.reactivex.Completable;
+import io.reactivex.Maybe;
+import io.reactivex.Observable;
+import io.reactivex.Single;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class InMemoryAccessTokenRepository implements AccessTokenRepository {
+
+    private final Map<String, AccessToken> accessTokens = new ConcurrentHashMap<>();
+
+    @Override
+    public Maybe<AccessToken> findByToken(String token) {
+        AccessToken accessToken = accessTokens.get(token);
+        return accessToken != null ? Maybe.just(accessToken) : Maybe.empty();
+    }
+
+    @Override
+    public Single<AccessToken> create(AccessToken accessToken) {
+        accessTokens.put(accessToken.getToken(), accessToken);
+        return Single.just(accessToken);
+    }
+
+    @Override
+    public Completable delete(String token) {
+        accessTokens.remove(token);
+        return Completable.complete();
+    }
+
+    @Override
+    public Completable bulkWrite(List<AccessToken> accessTokens) {
+        accessTokens.forEach(accessToken -> this.accessTokens.put(accessToken.getToken(), accessToken));
+        return Completable.complete();
+    }
+
+    @Override
+    public Observable<AccessToken> findByClientIdAndSubject(String clientId, String subject) {
+        return findByClientId(clientId).filter(accessToken -> Objects.equals(subject, accessToken.getSubject()));
+    }
+
+    @Override
+    public Observable<AccessToken> findByClientId(String clientId) {
+        return Observable.fromIterable(accessTokens.values()).filter(accessToken -> Objects.equals(clientId, accessToken.getClient()));
+    }
+
+    @Override
+    public Observable<AccessToken> findByAuthorizationCode(String authorizationCode) {
+        return Observable.fromIterable(accessTokens.values()).filter(accessToken -> Objects.equals(authorizationCode, accessToken.getAuthorizationCode()));
+    }
+
+    @Override
+    public Single<Long> countByClientId(String clientId) {
+        return findByClientId(clientId).count();
+    }
+
+    @Override
+    public Completable deleteByUserId(String userId) {
+        accessTokens.values().removeIf(accessToken -> Objects.equals(userId, accessToken.getSubject()));
+        return Completable.complete();
+    }
+
+    @Override
+    public Completable deleteByDomainIdClientIdAndUserId(String domainId, String clientId, String userId) {
+        accessTokens.values().removeIf(accessToken -> Objects.equals(domainId, accessToken.getDomain())
+                && Objects.equals(clientId, accessToken.getClient())
+                && Objects.equals(userId, accessToken.getSubject()));
+        return Completable.complete();
+    }
+
+    @Override
+    public Completable deleteByDomainIdAndUserId(String domainId, String userId) {
+        accessTokens.values().removeIf(accessToken -> Objects.equals(domainId, accessToken.getDomain())
+                && Objects.equals(userId, accessToken.getSubject()));
+        return Completable.complete();
+    }
+
+    public void clear() {
+        accessTokens.clear();
+    }
+}
@@ -0,0 +1,68 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.benchmarks.support;
+
+import io.gravitee.am.gateway.certificate.CertificateProvider;
+import io.gravitee.am.gateway.handler.common.certificate.CertificateManager;
+import io.gravitee.common.service.AbstractService;
+import io.reactivex.Maybe;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Certificate manager serving a single certificate provider, used as the default one of the domain.
+ *
+ * @author GraviteeSource Team
+ */
+public class InMemoryCertificateManager extends AbstractService implements CertificateManager {
+
+    private final CertificateProvider defaultCertificateProvider;
+
+    public InMemoryCertificateManager(CertificateProvider defaultCertificateProvider) {
+        this.defaultCertificateProvider = defaultCertificateProvider;
+    }
+
+    @Override
+    public Maybe<CertificateProvider> get(String id) {
+        return Maybe.empty();
+    }
+
+    @Override
+    public Maybe<CertificateProvider> findByAlgorithm(String algorithm) {
+        return Maybe.empty();
+    }
+
+    @Override
+    public Collection<CertificateProvider> providers() {
+        return Collections.singletonList(defaultCertificateProvider);
+    }
+
+    @Override
+    public CertificateProvider defaultCertificateProvider() {
+        return defaultCertificateProvider;
+    }
+
+    @Override
+    public CertificateProvider noneAlgorithmCertificateProvider() {
+        return defaultCertificateProvider;
+    }
+
+    @Override
+    public io.gravitee.am.certificate.api.CertificateProvider getCertificate(String id) {
+        return null;
+    }
+}
@@ -0,0 +1,75 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.benchmarks.support;
+
+import io.gravitee.am.model.ReferenceType;
+import io.gravitee.am.model.flow.Flow;
+import io.gravitee.am.repository.management.api.FlowRepository;
+import io.reactivex.Completable;
+import io.reactivex.Flowable;
+import io.reactivex.Maybe;
+import io.reactivex.Single;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class InMemoryFlowRepository implements FlowRepository {
+
+    private final Map<String, Flow> flows = new ConcurrentHashMap<>();
+
+    @Override
+    public Maybe<Flow> findById(ReferenceType referenceType, String referenceId, String id) {
+        return findById(id).filter(flow -> flow.getReferenceType() == referenceType && flow.getReferenceId().equals(referenceId));
+    }
+
+    @Override
+    public Flowable<Flow> findAll(ReferenceType referenceType, String referenceId) {
+        return Flowable.fromIterable(flows.values())
+                .filter(flow -> flow.getReferenceType() == referenceType && flow.getReferenceId().equals(referenceId));
+    }
+
+    @Override
+    public Flowable<Flow> findByApplication(ReferenceType referenceType, String referenceId, String application) {
+        return findAll(referenceType, referenceId).filter(flow -> Objects.equals(application, flow.getApplication()));
+    }
+
+    @Override
+    public Maybe<Flow> findById(String id) {
+        Flow flow = flows.get(id);
+        return flow != null ? Maybe.just(flow) : Maybe.empty();
+    }
+
+    @Override
+    public Single<Flow> create(Flow item) {
+        flows.put(item.getId(), item);
+        return Single.just(item);
+    }
+
+    @Override
+    public Single<Flow> update(Flow item) {
+        return create(item);
+    }
+
+    @Override
+    public Completable delete(String id) {
+        flows.remove(id);
+        return Completable.complete();
+    }
+}
@@ -0,0 +1,84 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.benchmarks.support;
+
+import io.gravitee.am.repository.oauth2.api.RefreshTokenRepository;
+import io.gravitee.am.repository.oauth2.model.RefreshToken;
+import io.reactivex.Completable;
+import io.reactivex.Maybe;
+import io.reactivex.Single;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class InMemoryRefreshTokenRepository implements RefreshTokenRepository {
+
+    private final Map<String, RefreshToken> refreshTokens = new ConcurrentHashMap<>();
+
+    @Override
+    public Maybe<RefreshToken> findByToken(String token) {
+        RefreshToken refreshToken = refreshTokens.get(token);
+        return refreshToken != null ? Maybe.just(refreshToken) : Maybe.empty();
+    }
+
+    @Override
+    public Single<RefreshToken> create(RefreshToken refreshToken) {
+        refreshTokens.put(refreshToken.getToken(), refreshToken);
+        return Single.just(refreshToken);
+    }
+
+    @Override
+    public Completable bulkWrite(List<RefreshToken> refreshTokens) {
+        refreshTokens.forEach(refreshToken -> this.refreshTokens.put(refreshToken.getToken(), refreshToken));
+        return Completable.complete();
+    }
+
+    @Override
+    public Completable delete(String token) {
+        refreshTokens.remove(token);
+        return Completable.complete();
+    }
+
+    @Override
+    public Completable deleteByUserId(String userId) {
+        refreshTokens.values().removeIf(refreshToken -> Objects.equals(userId, refreshToken.getSubject()));
+        return Completable.complete();
+    }
+
+    @Override
+    public Completable deleteByDomainIdClientIdAndUserId(String domainId, String clientId, String userId) {
+        refreshTokens.values().removeIf(refreshToken -> Objects.equals(domainId, refreshToken.getDomain())
+                && Objects.equals(clientId, refreshToken.getClient())
+                && Objects.equals(userId, refreshToken.getSubject()));
+        return Completable.complete();
+    }
+
+    @Override
+    public Completable deleteByDomainIdAndUserId(String domainId, String userId) {
+        refreshTokens.values().removeIf(refreshToken -> Objects.equals(domainId, refreshToken.getDomain())
+                && Objects.equals(userId, refreshToken.getSubject()));
+        return Completable.complete();
+    }
+
+    public void clear() {
+        refreshTokens.clear();
+    }
+}
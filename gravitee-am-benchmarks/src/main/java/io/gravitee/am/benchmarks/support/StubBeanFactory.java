@@ -0,0 +1,120 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.benchmarks.support;
+
+import io.reactivex.Completable;
+import io.reactivex.Flowable;
+import io.reactivex.Maybe;
+import io.reactivex.Observable;
+import io.reactivex.Single;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.ResolvableType;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Bean factory providing no-op implementations of the infrastructure components of the gateway (repositories,
+ * plugin managers, node and event manager) so that the domain handlers can be started without any backend.
+ *
+ * The stubs are registered into the factory the first time they are looked up, so they are also visible
+ * from the child contexts.
+ *
+ * @author GraviteeSource Team
+ */
+public class StubBeanFactory extends DefaultListableBeanFactory {
+
+    private static final List<String> STUBBED_PACKAGES = Arrays.asList(
+            "io.gravitee.am.repository.",
+            "io.gravitee.am.plugins.",
+            "io.gravitee.am.common.event.",
+            "io.gravitee.am.gateway.certificate.",
+            "io.gravitee.node.",
+            "io.gravitee.plugin.");
+
+    @Override
+    public String[] getBeanNamesForType(ResolvableType type, boolean includeNonSingletons, boolean allowEagerInit) {
+        String[] names = super.getBeanNamesForType(type, includeNonSingletons, allowEagerInit);
+        return names.length == 0 ? stub(type.resolve()) : names;
+    }
+
+    @Override
+    public String[] getBeanNamesForType(Class<?> type, boolean includeNonSingletons, boolean allowEagerInit) {
+        String[] names = super.getBeanNamesForType(type, includeNonSingletons, allowEagerInit);
+        return names.length == 0 ? stub(type) : names;
+    }
+
+    private synchronized String[] stub(Class<?> type) {
+        if (type == null || !type.isInterface() || STUBBED_PACKAGES.stream().noneMatch(type.getName()::startsWith)) {
+            return new String[0];
+        }
+
+        final String name = "stub:" + type.getName();
+        if (!containsSingleton(name)) {
+            registerSingleton(name, Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                    (proxy, method, args) -> invoke(proxy, method, args)));
+        }
+        return new String[]{name};
+    }
+
+    private static Object invoke(Object proxy, Method method, Object[] args) {
+        final Class<?> returnType = method.getReturnType();
+        switch (method.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return "Stub of " + proxy.getClass().getInterfaces()[0].getName();
+        }
+
+        if (returnType.isInstance(proxy)) {
+            // fluent lifecycle methods (start, stop, ...)
+            return proxy;
+        } else if (returnType == Flowable.class) {
+            return Flowable.empty();
+        } else if (returnType == Maybe.class) {
+            return Maybe.empty();
+        } else if (returnType == Single.class) {
+            return Single.error(new IllegalStateException("No backend for " + method.getName()));
+        } else if (returnType == Completable.class) {
+            return Completable.complete();
+        } else if (returnType == Observable.class) {
+            return Observable.empty();
+        } else if (returnType == Optional.class) {
+            return Optional.empty();
+        } else if (returnType == List.class || returnType == Iterable.class) {
+            return Collections.emptyList();
+        } else if (returnType == Set.class) {
+            return Collections.emptySet();
+        } else if (returnType == Map.class) {
+            return Collections.emptyMap();
+        } else if (returnType == boolean.class) {
+            return false;
+        } else if (returnType.isPrimitive() && returnType != void.class) {
+            return returnType == long.class ? 0L : returnType == double.class ? 0d
+                    : returnType == float.class ? 0f : returnType == char.class ? (char) 0
+                    : returnType == byte.class ? (byte) 0 : returnType == short.class ? (short) 0 : 0;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,128 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.benchmarks.token;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.gravitee.am.benchmarks.support.Beans;
+import io.gravitee.am.benchmarks.support.Certificates;
+import io.gravitee.am.benchmarks.support.InMemoryAccessTokenRepository;
+import io.gravitee.am.benchmarks.support.InMemoryCertificateManager;
+import io.gravitee.am.benchmarks.support.InMemoryRefreshTokenRepository;
+import io.gravitee.am.common.oauth2.GrantType;
+import io.gravitee.am.gateway.certificate.CertificateProvider;
+import io.gravitee.am.gateway.handler.common.jwt.impl.JWTServiceImpl;
+import io.gravitee.am.gateway.handler.oauth2.service.request.OAuth2Request;
+import io.gravitee.am.gateway.handler.oauth2.service.token.Token;
+import io.gravitee.am.gateway.handler.oauth2.service.token.TokenService;
+import io.gravitee.am.gateway.handler.oauth2.service.token.impl.TokenEnhancerImpl;
+import io.gravitee.am.gateway.handler.oauth2.service.token.impl.TokenManagerImpl;
+import io.gravitee.am.gateway.handler.oauth2.service.token.impl.TokenServiceImpl;
+import io.gravitee.am.gateway.handler.oidc.service.discovery.OpenIDDiscoveryService;
+import io.gravitee.am.gateway.handler.oidc.service.discovery.OpenIDProviderMetadata;
+import io.gravitee.am.model.oidc.Client;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creation of the tokens of a <code>client_credentials</code> grant by {@link TokenServiceImpl#create}:
+ * JWT creation, signature and asynchronous storage into in-memory repositories.
+ *
+ * @author GraviteeSource Team
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TokenServiceBenchmark {
+
+    private static final String ISSUER = "https://gravitee.am/benchmark/oidc";
+
+    @Param({"HS256", "RS256"})
+    public String algorithm;
+
+    @Param({"false", "true"})
+    public boolean refreshToken;
+
+    private TokenService tokenService;
+    private TokenManagerImpl tokenManager;
+    private InMemoryAccessTokenRepository accessTokenRepository;
+    private InMemoryRefreshTokenRepository refreshTokenRepository;
+    private Client client;
+
+    @Setup
+    public void setup() throws Exception {
+        CertificateProvider certificateProvider = "RS256".equals(algorithm) ? Certificates.rsa() : Certificates.hmac();
+        JWTServiceImpl jwtService = new JWTServiceImpl();
+        Beans.inject(jwtService, "certificateManager", new InMemoryCertificateManager(certificateProvider));
+        Beans.inject(jwtService, "objectMapper", new ObjectMapper());
+
+        accessTokenRepository = new InMemoryAccessTokenRepository();
+        refreshTokenRepository = new InMemoryRefreshTokenRepository();
+        tokenManager = new TokenManagerImpl();
+        Beans.inject(tokenManager, "accessTokenRepository", accessTokenRepository);
+        Beans.inject(tokenManager, "refreshTokenRepository", refreshTokenRepository);
+        tokenManager.start();
+
+        tokenService = new TokenServiceImpl();
+        Beans.inject(tokenService, "accessTokenRepository", accessTokenRepository);
+        Beans.inject(tokenService, "refreshTokenRepository", refreshTokenRepository);
+        Beans.inject(tokenService, "tokenEnhancer", new TokenEnhancerImpl());
+        Beans.inject(tokenService, "jwtService", jwtService);
+        Beans.inject(tokenService, "openIDDiscoveryService", new OpenIDDiscoveryService() {
+            @Override
+            public OpenIDProviderMetadata getConfiguration(String basePath) {
+                return null;
+            }
+
+            @Override
+            public String getIssuer(String basePath) {
+                return ISSUER;
+            }
+        });
+        Beans.inject(tokenService, "tokenManager", tokenManager);
+
+        client = new Client();
+        client.setId("benchmark-app");
+        client.setClientId("benchmark-client");
+        client.setDomain("benchmark-domain");
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearRepositories() {
+        accessTokenRepository.clear();
+        refreshTokenRepository.clear();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        tokenManager.stop();
+    }
+
+    @Benchmark
+    public Token create() {
+        OAuth2Request oAuth2Request = new OAuth2Request();
+        oAuth2Request.setClientId(client.getClientId());
+        oAuth2Request.setGrantType(GrantType.CLIENT_CREDENTIALS);
+        oAuth2Request.setScopes(new HashSet<>(Collections.singletonList("read")));
+        oAuth2Request.setSupportRefreshToken(refreshToken);
+        return tokenService.create(oAuth2Request, client, null).blockingGet();
+    }
+}
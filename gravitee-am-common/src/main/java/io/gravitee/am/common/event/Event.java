@@ -84,6 +84,12 @@ public abstract class Event {
             case BOT_DETECTION:
                 event1 =  BotDetectionEvent.actionOf(action);
                 break;
+            case TOKEN:
+                event1 =  TokenEvent.actionOf(action);
+                break;
+            case UMA_RESOURCE:
+                event1 =  UmaResourceEvent.actionOf(action);
+                break;
         }
 
         return event1;
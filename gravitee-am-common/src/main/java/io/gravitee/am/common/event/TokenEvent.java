@@ -0,0 +1,80 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.common.event;
+
+/**
+ * Revocation events of access tokens which are not persisted (stateless mode).
+ *
+ * @author GraviteeSource Team
+ */
+public enum TokenEvent {
+
+    REVOKE,
+    REVOKE_SUBJECT;
+
+    /**
+     * Expiration date of the revoked access token (REVOKE)
+     */
+    public static final String EXPIRE_AT = "expireAt";
+
+    /**
+     * Date of the revocation, the tokens of the subject issued before this date are revoked (REVOKE_SUBJECT)
+     */
+    public static final String REVOKED_AT = "revokedAt";
+
+    public static TokenEvent actionOf(Action action) {
+        TokenEvent tokenEvent = null;
+        switch (action) {
+            case DELETE:
+                tokenEvent = TokenEvent.REVOKE;
+                break;
+            case BULK_DELETE:
+                tokenEvent = TokenEvent.REVOKE_SUBJECT;
+                break;
+        }
+        return tokenEvent;
+    }
+
+    /**
+     * Identifier of a subject revocation (REVOKE_SUBJECT), the client restricts the revocation to the tokens
+     * of the subject issued to this client.
+     *
+     * @param subject the token subject (end-user id)
+     * @param client the client id, may be <code>null</code> to revoke all the tokens of the subject
+     * @return the identifier used as the event payload id
+     */
+    public static String subjectKey(String subject, String client) {
+        return client == null ? subject : subject + "#" + client;
+    }
+
+    /**
+     * @param subjectKey the identifier of a subject revocation (see {@link #subjectKey(String, String)})
+     * @return the subject of the revocation
+     */
+    public static String subjectOf(String subjectKey) {
+        final int separator = subjectKey.indexOf('#');
+        return separator < 0 ? subjectKey : subjectKey.substring(0, separator);
+    }
+
+    /**
+     * @param subjectKey the identifier of a subject revocation (see {@link #subjectKey(String, String)})
+     * @return the client the revocation is restricted to, <code>null</code> for all the clients
+     */
+    public static String clientOf(String subjectKey) {
+        final int separator = subjectKey.indexOf('#');
+        return separator < 0 ? null : subjectKey.substring(separator + 1);
+    }
+}
@@ -42,4 +42,6 @@ public enum Type {
     ALERT_TRIGGER,
     ALERT_NOTIFIER,
     BOT_DETECTION,
+    TOKEN,
+    UMA_RESOURCE,
 }
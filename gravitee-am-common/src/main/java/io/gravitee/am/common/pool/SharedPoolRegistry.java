@@ -0,0 +1,294 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.common.pool;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Node-wide registry of driver clients and connection pools shared by the plugins (reporters, identity providers, ...)
+ * instantiated for each security domain.
+ *
+ * Plugins declaring the same connection settings get the same client: it is created by the first plugin acquiring it,
+ * reference-counted afterwards and destroyed when the last plugin using it releases its {@link Lease}.
+ * The sum of the maximum number of connections of all the pools can be capped, in which case acquiring a new pool
+ * fails instead of opening more connections than the database (or the node) can handle.
+ *
+ * Clients are only shared between plugins of the same type: the type is part of the pool key because each plugin
+ * embeds its own copy of the driver.
+ *
+ * @author GraviteeSource Team
+ */
+public final class SharedPoolRegistry {
+
+    private static final SharedPoolRegistry INSTANCE = new SharedPoolRegistry();
+
+    private final ConcurrentMap<Object, Pool<?>> pools = new ConcurrentHashMap<>();
+
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    private final AtomicInteger totalConnections = new AtomicInteger();
+
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    private volatile boolean enabled = true;
+
+    private volatile int maxConnections;
+
+    SharedPoolRegistry() { }
+
+    public static SharedPoolRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @param enabled <code>false</code> to give each plugin its own pool (pools are still tracked and capped)
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @param maxConnections maximum number of connections that all the pools together may open, 0 means unlimited
+     */
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    /**
+     * @return the sum of the maximum number of connections of the live pools
+     */
+    public int getTotalConnections() {
+        return totalConnections.get();
+    }
+
+    public Collection<Pool<?>> getPools() {
+        return Collections.unmodifiableCollection(pools.values());
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    public <T> Lease<T> acquire(String type, Object settings, int connections, Supplier<T> factory, Consumer<T> destroyer) {
+        return acquire(type, settings, connections, factory, destroyer, null);
+    }
+
+    /**
+     * Get the pool matching the given settings, creating it if needed.
+     *
+     * @param type the type of plugin requesting the pool, used to name the pool
+     * @param settings the connection settings, compared with {@link Object#equals(Object)}
+     * @param connections the maximum number of connections the pool may open
+     * @param factory creates the pool if there is no pool for these settings yet
+     * @param destroyer closes the pool once it is no longer used
+     * @param inUse gives the number of connections currently in use, may be <code>null</code>
+     * @return a lease on the pool, to release when the plugin stops
+     * @throws IllegalStateException if creating the pool would exceed the maximum number of connections
+     */
+    public <T> Lease<T> acquire(String type, Object settings, int connections, Supplier<T> factory,
+                                Consumer<T> destroyer, ToIntFunction<T> inUse) {
+        Objects.requireNonNull(type, "Pool type is required");
+        final Object key = enabled ? Arrays.asList(type, settings) : new Object();
+        @SuppressWarnings("unchecked")
+        final Pool<T> existing = (Pool<T>) pools.computeIfPresent(key, (k, current) -> {
+            current.references++;
+            return current;
+        });
+        if (existing != null) {
+            return new Lease<>(existing);
+        }
+
+        // the client is created outside of the map's compute functions: creating it may be slow (DNS resolution,
+        // first connections, ...) and must neither hold the lock of the map bin nor block the other pools
+        reserve(type, connections);
+        final T value;
+        try {
+            value = factory.get();
+        } catch (RuntimeException ex) {
+            totalConnections.addAndGet(-connections);
+            throw ex;
+        }
+
+        final Pool<T> newPool = new Pool<>(key, type + "-" + sequence.incrementAndGet(), type, connections,
+                value, destroyer, inUse);
+        @SuppressWarnings("unchecked")
+        final Pool<T> pool = (Pool<T>) pools.compute(key, (k, current) -> {
+            if (current == null) {
+                return newPool;
+            }
+            current.references++;
+            return current;
+        });
+
+        if (pool != newPool) {
+            // another plugin created the same pool in the meantime, keep the first one
+            totalConnections.addAndGet(-connections);
+            newPool.destroy();
+            return new Lease<>(pool);
+        }
+
+        listeners.forEach(listener -> listener.onCreated(pool));
+        return new Lease<>(pool);
+    }
+
+    private void reserve(String type, int connections) {
+        final int max = maxConnections;
+        final int total = totalConnections.addAndGet(connections);
+        if (max > 0 && total > max) {
+            totalConnections.addAndGet(-connections);
+            throw new IllegalStateException("Unable to create a " + type + " pool of " + connections
+                    + " connections, the limit of " + max + " connections for the node has been reached ("
+                    + (total - connections) + " connections already allocated)");
+        }
+    }
+
+    private void release(Pool<?> pool) {
+        final AtomicBoolean destroyed = new AtomicBoolean();
+        pools.computeIfPresent(pool.key, (k, existing) -> {
+            if (existing != pool || --existing.references > 0) {
+                return existing;
+            }
+            destroyed.set(true);
+            return null;
+        });
+
+        if (destroyed.get()) {
+            totalConnections.addAndGet(-pool.maxConnections);
+            try {
+                pool.destroy();
+            } finally {
+                listeners.forEach(listener -> listener.onDestroyed(pool));
+            }
+        }
+    }
+
+    /**
+     * A plugin's handle on a shared pool.
+     */
+    public final class Lease<T> implements AutoCloseable {
+
+        private final Pool<T> pool;
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Lease(Pool<T> pool) {
+            this.pool = pool;
+        }
+
+        public T get() {
+            return pool.value;
+        }
+
+        public Pool<T> getPool() {
+            return pool;
+        }
+
+        /**
+         * Give the pool back to the registry, the pool is destroyed if it is no longer used.
+         * Releasing a lease more than once has no effect.
+         */
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                SharedPoolRegistry.this.release(pool);
+            }
+        }
+
+        @Override
+        public void close() {
+            release();
+        }
+    }
+
+    public static final class Pool<T> {
+
+        private final Object key;
+        private final String id;
+        private final String type;
+        private final int maxConnections;
+        private final T value;
+        private final Consumer<T> destroyer;
+        private final ToIntFunction<T> inUse;
+        // only updated from the map's compute functions
+        private volatile int references = 1;
+
+        private Pool(Object key, String id, String type, int maxConnections, T value,
+                     Consumer<T> destroyer, ToIntFunction<T> inUse) {
+            this.key = key;
+            this.id = id;
+            this.type = type;
+            this.maxConnections = maxConnections;
+            this.value = value;
+            this.destroyer = destroyer;
+            this.inUse = inUse;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public int getMaxConnections() {
+            return maxConnections;
+        }
+
+        public int getReferences() {
+            return references;
+        }
+
+        /**
+         * @return the number of connections in use, or -1 if the pool does not expose it
+         */
+        public int getConnectionsInUse() {
+            return inUse == null ? -1 : inUse.applyAsInt(value);
+        }
+
+        private void destroy() {
+            if (destroyer != null) {
+                destroyer.accept(value);
+            }
+        }
+    }
+
+    public interface Listener {
+
+        void onCreated(Pool<?> pool);
+
+        void onDestroyed(Pool<?> pool);
+    }
+}
@@ -0,0 +1,202 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.common.scim.filter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+
+/**
+ * Evaluate a SCIM filter against an in-memory resource, for instance the values of a multi-valued attribute
+ * selected by a PATCH value path (<code>members[value eq "2819c223-7f76-453a-919d-413861904646"]</code>),
+ * without any repository query.
+ *
+ * The resource is described by a map of attributes, complex attributes are maps and multi-valued attributes
+ * are collections. Attribute names are case insensitive, a multi-valued attribute matches when one of its
+ * values matches.
+ *
+ * See <a href="https://tools.ietf.org/html/rfc7644#section-3.4.2.2">3.4.2.2. Filtering</a>
+ *
+ * @author GraviteeSource Team
+ */
+public final class FilterEvaluator {
+
+    private static final String VALUE = "value";
+
+    private FilterEvaluator() {}
+
+    /**
+     * @param filter the filter to evaluate
+     * @param resource the attributes of the resource
+     * @return <code>true</code> if the resource matches the filter
+     */
+    public static boolean evaluate(Filter filter, Map<String, ?> resource) {
+        if (filter == null || filter.getOperator() == null || resource == null) {
+            return false;
+        }
+
+        switch (filter.getOperator()) {
+            case AND:
+                return filter.getFilterComponents() != null && filter.getFilterComponents().stream().allMatch(component -> evaluate(component, resource));
+            case OR:
+                return filter.getFilterComponents() != null && filter.getFilterComponents().stream().anyMatch(component -> evaluate(component, resource));
+            case NOT_EQUAL:
+                return values(filter.getFilterAttribute(), resource).stream().noneMatch(value -> Objects.equals(compare(value, filter.getFilterValue()), 0));
+            case PRESENCE:
+                return values(filter.getFilterAttribute(), resource).stream().anyMatch(FilterEvaluator::isPresent);
+            default:
+                return values(filter.getFilterAttribute(), resource).stream().anyMatch(value -> match(filter.getOperator(), value, filter.getFilterValue()));
+        }
+    }
+
+    private static boolean match(Operator operator, Object value, String filterValue) {
+        if (value == null || filterValue == null) {
+            return false;
+        }
+
+        switch (operator) {
+            case EQUALITY:
+                return Objects.equals(compare(value, filterValue), 0);
+            case CONTAINS:
+                return value.toString().toLowerCase().contains(filterValue.toLowerCase());
+            case STARTS_WITH:
+                return value.toString().toLowerCase().startsWith(filterValue.toLowerCase());
+            case ENDS_WITH:
+                return value.toString().toLowerCase().endsWith(filterValue.toLowerCase());
+            default:
+                // boolean attributes can't be ordered
+                if (value instanceof Boolean) {
+                    return false;
+                }
+                Integer comparison = compare(value, filterValue);
+                if (comparison == null) {
+                    return false;
+                }
+                switch (operator) {
+                    case GREATER_THAN:
+                        return comparison > 0;
+                    case GREATER_OR_EQUAL:
+                        return comparison >= 0;
+                    case LESS_THAN:
+                        return comparison < 0;
+                    case LESS_OR_EQUAL:
+                        return comparison <= 0;
+                    default:
+                        return false;
+                }
+        }
+    }
+
+    /**
+     * Compare the attribute value with the filter value according to the attribute type: numbers are compared
+     * by value, dates chronologically and the other types lexicographically.
+     *
+     * @return the comparison result or <code>null</code> if the values can't be compared.
+     */
+    private static Integer compare(Object value, String filterValue) {
+        if (value == null || filterValue == null) {
+            return null;
+        }
+        try {
+            if (value instanceof Number) {
+                return new BigDecimal(value.toString()).compareTo(new BigDecimal(filterValue));
+            }
+            if (value instanceof Boolean) {
+                return "true".equalsIgnoreCase(filterValue) || "false".equalsIgnoreCase(filterValue) ?
+                        Boolean.compare((Boolean) value, Boolean.parseBoolean(filterValue)) : null;
+            }
+            if (value instanceof Date) {
+                return ((Date) value).toInstant().compareTo(parseInstant(filterValue));
+            }
+            if (value instanceof Instant) {
+                return ((Instant) value).compareTo(parseInstant(filterValue));
+            }
+        } catch (NumberFormatException | DateTimeParseException ex) {
+            return null;
+        }
+        return value.toString().compareTo(filterValue);
+    }
+
+    private static Instant parseInstant(String value) {
+        try {
+            return Instant.parse(value);
+        } catch (DateTimeParseException ex) {
+            return OffsetDateTime.parse(value).toInstant();
+        }
+    }
+
+    private static boolean isPresent(Object value) {
+        if (value == null) {
+            return false;
+        }
+        if (value instanceof String) {
+            return !((String) value).isEmpty();
+        }
+        if (value instanceof Map) {
+            return !((Map<?, ?>) value).isEmpty();
+        }
+        return true;
+    }
+
+    /**
+     * Collect the values of the attribute, multi-valued attributes are flattened and the "value" sub-attribute
+     * is used when a complex attribute is compared without sub-attribute.
+     */
+    private static List<Object> values(AttributePath attributePath, Map<String, ?> resource) {
+        if (attributePath == null || attributePath.getAttributeName() == null) {
+            return Collections.emptyList();
+        }
+
+        List<Object> values = new ArrayList<>();
+        collect(get(resource, attributePath.getAttributeName()), attributePath.getSubAttributeName(), values);
+        return values;
+    }
+
+    private static void collect(Object attribute, String subAttributeName, List<Object> values) {
+        if (attribute == null) {
+            return;
+        }
+        if (attribute instanceof Collection) {
+            ((Collection<?>) attribute).forEach(value -> collect(value, subAttributeName, values));
+        } else if (attribute instanceof Map) {
+            Map<String, ?> complexAttribute = (Map<String, ?>) attribute;
+            if (subAttributeName != null) {
+                collect(get(complexAttribute, subAttributeName), null, values);
+            } else if (get(complexAttribute, VALUE) != null) {
+                values.add(get(complexAttribute, VALUE));
+            } else {
+                values.add(complexAttribute);
+            }
+        } else if (subAttributeName == null) {
+            values.add(attribute);
+        }
+    }
+
+    private static Object get(Map<String, ?> resource, String attributeName) {
+        Object value = resource.get(attributeName);
+        if (value != null) {
+            return value;
+        }
+        for (Map.Entry<String, ?> entry : resource.entrySet()) {
+            if (entry.getKey().equalsIgnoreCase(attributeName)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+}
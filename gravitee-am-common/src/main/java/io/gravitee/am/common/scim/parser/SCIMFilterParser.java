@@ -21,10 +21,7 @@ import io.gravitee.am.common.scim.filter.Filter;
 import io.gravitee.am.common.scim.filter.Operator;
 
 import java.text.MessageFormat;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Stack;
+import java.util.*;
 
 /**
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
@@ -32,6 +29,22 @@ import java.util.Stack;
  */
 public final class SCIMFilterParser {
 
+    /**
+     * Maximum number of parsed filters kept in memory.
+     */
+    private static final int CACHE_MAX_SIZE = 1000;
+
+    /**
+     * Parsed filters by their string form, identity providers such as Okta or Azure AD send the same few
+     * filters over and over (the filters are immutable and can be shared between the requests).
+     */
+    private static final Map<String, Filter> CACHE = Collections.synchronizedMap(new LinkedHashMap<String, Filter>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Filter> eldest) {
+            return size() > CACHE_MAX_SIZE;
+        }
+    });
+
     /**
      * The filter to be parsed.
      */
@@ -82,6 +95,27 @@ public final class SCIMFilterParser {
      * @throws  IllegalArgumentException  If the filter string could not be parsed.
      */
     public static Filter parse(final String filterString) throws IllegalArgumentException {
+        return parse(filterString, true);
+    }
+
+    /**
+     * Parse the filter provided in the constructor.
+     *
+     * @param filterString the filter to be parsed.
+     * @param useCache <code>true</code> to look the filter up in (and add it to) the parsed filters cache.
+     * @return  A parsed SCIM filter.
+     *
+     * @throws  IllegalArgumentException  If the filter string could not be parsed.
+     */
+    public static Filter parse(final String filterString, boolean useCache) throws IllegalArgumentException {
+        if (useCache && filterString != null) {
+            Filter filter = CACHE.get(filterString);
+            if (filter == null) {
+                filter = parse(filterString, false);
+                CACHE.put(filterString, filter);
+            }
+            return filter;
+        }
         try {
             return new SCIMFilterParser(filterString, Schema.SCHEMA_URI_CORE).readFilter();
         } catch (Exception e) {
@@ -573,11 +607,11 @@ public final class SCIMFilterParser {
     }
 
     private static Filter createAndFilter(final List<Filter> filterComponents) {
-        return new Filter(Operator.AND, null, null, false, new ArrayList<>(filterComponents));
+        return new Filter(Operator.AND, null, null, false, Collections.unmodifiableList(new ArrayList<>(filterComponents)));
     }
 
     private static Filter createOrFilter(final List<Filter> filterComponents) {
-        return new Filter(Operator.OR, null, null, false, new ArrayList<>(filterComponents));
+        return new Filter(Operator.OR, null, null, false, Collections.unmodifiableList(new ArrayList<>(filterComponents)));
     }
 
     /**
@@ -0,0 +1,179 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.common.pool;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class SharedPoolRegistryTest {
+
+    private SharedPoolRegistry registry;
+
+    private AtomicInteger created;
+
+    private List<String> destroyed;
+
+    @Before
+    public void setUp() {
+        registry = new SharedPoolRegistry();
+        created = new AtomicInteger();
+        destroyed = new ArrayList<>();
+    }
+
+    @Test
+    public void shouldShareSamePoolForSameSettings() {
+        SharedPoolRegistry.Lease<String> first = acquire("mongodb", "localhost:27017", 10);
+        SharedPoolRegistry.Lease<String> second = acquire("mongodb", "localhost:27017", 10);
+
+        assertSame(first.get(), second.get());
+        assertEquals(1, created.get());
+        assertEquals(2, first.getPool().getReferences());
+        assertEquals(10, registry.getTotalConnections());
+    }
+
+    @Test
+    public void shouldNotSharePoolForDifferentSettingsOrType() {
+        SharedPoolRegistry.Lease<String> first = acquire("mongodb", "localhost:27017", 10);
+        SharedPoolRegistry.Lease<String> second = acquire("mongodb", "localhost:27018", 10);
+        SharedPoolRegistry.Lease<String> third = acquire("jdbc", "localhost:27017", 5);
+
+        assertNotSame(first.get(), second.get());
+        assertNotSame(first.get(), third.get());
+        assertEquals(3, created.get());
+        assertEquals(25, registry.getTotalConnections());
+    }
+
+    @Test
+    public void shouldDestroyPoolWhenLastLeaseIsReleased() {
+        SharedPoolRegistry.Lease<String> first = acquire("mongodb", "localhost:27017", 10);
+        SharedPoolRegistry.Lease<String> second = acquire("mongodb", "localhost:27017", 10);
+
+        first.release();
+        // releasing twice must not steal the other plugin's reference
+        first.release();
+        assertTrue(destroyed.isEmpty());
+        assertEquals(1, registry.getPools().size());
+
+        second.release();
+        assertEquals(1, destroyed.size());
+        assertTrue(registry.getPools().isEmpty());
+        assertEquals(0, registry.getTotalConnections());
+
+        // a new pool is created on the next acquisition
+        acquire("mongodb", "localhost:27017", 10);
+        assertEquals(2, created.get());
+    }
+
+    @Test
+    public void shouldNotSharePoolWhenDisabled() {
+        registry.setEnabled(false);
+
+        SharedPoolRegistry.Lease<String> first = acquire("mongodb", "localhost:27017", 10);
+        SharedPoolRegistry.Lease<String> second = acquire("mongodb", "localhost:27017", 10);
+
+        assertNotSame(first.get(), second.get());
+        assertEquals(20, registry.getTotalConnections());
+
+        first.release();
+        assertEquals(1, destroyed.size());
+    }
+
+    @Test
+    public void shouldRejectPoolExceedingMaxConnections() {
+        registry.setMaxConnections(15);
+
+        acquire("mongodb", "localhost:27017", 10);
+        // shared pools do not count twice
+        acquire("mongodb", "localhost:27017", 10);
+
+        try {
+            acquire("mongodb", "localhost:27018", 10);
+            fail("The connection limit should have been enforced");
+        } catch (IllegalStateException ex) {
+            // expected
+        }
+
+        assertEquals(1, created.get());
+        assertEquals(10, registry.getTotalConnections());
+        acquire("jdbc", "localhost:5432", 5);
+        assertEquals(15, registry.getTotalConnections());
+    }
+
+    @Test
+    public void shouldKeepFirstPoolWhenCreatedConcurrently() {
+        // the factory runs outside of the registry's lock, another plugin may create the same pool meanwhile
+        SharedPoolRegistry.Lease<String> lease = registry.acquire("mongodb", "localhost:27017", 10, () -> {
+            acquire("mongodb", "localhost:27017", 10);
+            return "concurrent";
+        }, destroyed::add);
+
+        assertEquals("mongodb@localhost:27017#1", lease.get());
+        assertEquals(2, lease.getPool().getReferences());
+        assertEquals(1, registry.getPools().size());
+        assertEquals(10, registry.getTotalConnections());
+        assertEquals(1, destroyed.size());
+        assertEquals("concurrent", destroyed.get(0));
+    }
+
+    @Test
+    public void shouldNotifyListeners() {
+        List<String> events = new ArrayList<>();
+        registry.addListener(new SharedPoolRegistry.Listener() {
+            @Override
+            public void onCreated(SharedPoolRegistry.Pool<?> pool) {
+                events.add("created:" + pool.getType());
+            }
+
+            @Override
+            public void onDestroyed(SharedPoolRegistry.Pool<?> pool) {
+                events.add("destroyed:" + pool.getType());
+            }
+        });
+
+        SharedPoolRegistry.Lease<String> first = acquire("mongodb", "localhost:27017", 10);
+        SharedPoolRegistry.Lease<String> second = acquire("mongodb", "localhost:27017", 10);
+        first.release();
+        second.release();
+
+        assertEquals(2, events.size());
+        assertEquals("created:mongodb", events.get(0));
+        assertEquals("destroyed:mongodb", events.get(1));
+    }
+
+    @Test
+    public void shouldExposeConnectionsInUse() {
+        SharedPoolRegistry.Lease<String> lease = registry.acquire("jdbc", "localhost:5432", 10,
+                () -> "pool", destroyed::add, String::length);
+        SharedPoolRegistry.Lease<String> withoutUsage = acquire("mongodb", "localhost:27017", 10);
+
+        assertEquals(4, lease.getPool().getConnectionsInUse());
+        assertEquals(-1, withoutUsage.getPool().getConnectionsInUse());
+    }
+
+    private SharedPoolRegistry.Lease<String> acquire(String type, String settings, int connections) {
+        return registry.acquire(type, settings, connections,
+                () -> type + "@" + settings + "#" + created.incrementAndGet(), destroyed::add);
+    }
+}
@@ -0,0 +1,111 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.common.scim.filter;
+
+import io.gravitee.am.common.scim.parser.SCIMFilterParser;
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class FilterEvaluatorTest {
+
+    private final Map<String, Object> user = user();
+
+    @Test
+    public void shouldEvaluate_attributeOperators() {
+        assertTrue(evaluate("userName eq \"bjensen\""));
+        assertFalse(evaluate("userName eq \"BJENSEN\""));
+        assertTrue(evaluate("userName ne \"jsmith\""));
+        assertTrue(evaluate("name.familyName co \"jen\""));
+        assertTrue(evaluate("name.familyName sw \"J\""));
+        assertTrue(evaluate("name.familyName ew \"SEN\""));
+        assertTrue(evaluate("title pr"));
+        assertFalse(evaluate("nickName pr"));
+    }
+
+    @Test
+    public void shouldEvaluate_comparisons() {
+        assertTrue(evaluate("loginCount gt 5"));
+        assertFalse(evaluate("loginCount le 5"));
+        assertTrue(evaluate("meta.lastModified gt \"2011-05-13T04:42:34Z\""));
+        assertFalse(evaluate("meta.lastModified lt \"2011-05-13T04:42:34Z\""));
+        assertTrue(evaluate("active eq true"));
+        assertFalse(evaluate("active gt false"));
+    }
+
+    @Test
+    public void shouldEvaluate_multiValuedAttributes() {
+        assertTrue(evaluate("emails co \"example.org\""));
+        assertTrue(evaluate("emails.type eq \"work\""));
+        assertFalse(evaluate("emails.type eq \"other\""));
+        assertTrue(evaluate("groups eq \"group-2\""));
+    }
+
+    @Test
+    public void shouldEvaluate_logicalOperators() {
+        assertTrue(evaluate("userName eq \"bjensen\" and (emails co \"example.com\" or emails.value co \"example.org\")"));
+        assertFalse(evaluate("userName eq \"bjensen\" and title eq \"Intern\""));
+        assertTrue(evaluate("userName eq \"jsmith\" or title eq \"Tour Guide\""));
+    }
+
+    @Test
+    public void shouldEvaluate_groupMember() {
+        Map<String, Object> member = new HashMap<>();
+        member.put("value", "2819c223-7f76-453a-919d-413861904646");
+        member.put("display", "Babs Jensen");
+
+        assertTrue(FilterEvaluator.evaluate(SCIMFilterParser.parse("value eq \"2819c223-7f76-453a-919d-413861904646\""), member));
+        assertFalse(FilterEvaluator.evaluate(SCIMFilterParser.parse("value eq \"902c246b-6245-4190-8e05-00816be7344a\""), member));
+    }
+
+    private boolean evaluate(String filter) {
+        return FilterEvaluator.evaluate(SCIMFilterParser.parse(filter), user);
+    }
+
+    private static Map<String, Object> user() {
+        Map<String, Object> name = new HashMap<>();
+        name.put("familyName", "Jensen");
+        name.put("givenName", "Barbara");
+
+        Map<String, Object> workEmail = new HashMap<>();
+        workEmail.put("value", "bjensen@example.com");
+        workEmail.put("type", "work");
+        Map<String, Object> homeEmail = new HashMap<>();
+        homeEmail.put("value", "babs@jensen.example.org");
+        homeEmail.put("type", "home");
+
+        Map<String, Object> meta = new HashMap<>();
+        meta.put("lastModified", new Date(1609459200000L));
+
+        Map<String, Object> user = new HashMap<>();
+        user.put("userName", "bjensen");
+        user.put("title", "Tour Guide");
+        user.put("nickName", "");
+        user.put("active", true);
+        user.put("loginCount", 12);
+        user.put("name", name);
+        user.put("emails", Arrays.asList(workEmail, homeEmail));
+        user.put("groups", Arrays.asList(Collections.singletonMap("value", "group-1"), Collections.singletonMap("value", "group-2")));
+        user.put("meta", meta);
+        return user;
+    }
+}
@@ -64,4 +64,11 @@ public class SCIMFilterParserTest {
         assertTrue("title".equals(filter.getFilterAttribute().toString()));
         assertNull(filter.getFilterValue());
     }
+
+    @Test
+    public void shouldParse_cachedFilter() {
+        Filter filter = SCIMFilterParser.parse("userName eq \"bjensen\"");
+        assertSame(filter, SCIMFilterParser.parse("userName eq \"bjensen\""));
+        assertNotSame(filter, SCIMFilterParser.parse("userName eq \"bjensen\"", false));
+    }
 }
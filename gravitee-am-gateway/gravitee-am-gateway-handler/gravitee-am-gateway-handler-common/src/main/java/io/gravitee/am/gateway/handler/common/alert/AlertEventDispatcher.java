@@ -0,0 +1,205 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.common.alert;
+
+import io.gravitee.alert.api.event.Event;
+import io.gravitee.am.service.utils.MetricsUtils;
+import io.gravitee.common.service.AbstractService;
+import io.gravitee.plugin.alert.AlertEventProducer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gateway-wide buffer of the events sent to the alert engine.
+ *
+ * Events are queued by the request threads and sent by a single dispatcher thread, in batches of events drained
+ * from the queue, so that a slow or reconnecting alert engine connector never delays the requests.
+ * Once the queue is filled above the sampling threshold, only one event out of <code>sampling.rate</code> is kept
+ * (whatever its type, so that the failure rates seen by the alert engine are preserved), and events are dropped
+ * when the queue is full.
+ *
+ * @author GraviteeSource Team
+ */
+public class AlertEventDispatcher extends AbstractService<AlertEventDispatcher> {
+
+    private static final Logger logger = LoggerFactory.getLogger(AlertEventDispatcher.class);
+
+    @Autowired
+    private AlertEventProducer eventProducer;
+
+    @Value("${alerts.events.queueCapacity:10000}")
+    private int queueCapacity;
+
+    @Value("${alerts.events.batchSize:100}")
+    private int batchSize;
+
+    @Value("${alerts.events.sampling.threshold:0.8}")
+    private double samplingThreshold;
+
+    @Value("${alerts.events.sampling.rate:10}")
+    private int samplingRate;
+
+    private BlockingQueue<Event> queue;
+
+    private int samplingSize;
+
+    private final AtomicLong overloadedEvents = new AtomicLong();
+
+    private volatile Thread dispatcher;
+
+    private Counter emittedCounter;
+
+    private Counter sampledCounter;
+
+    private Counter droppedCounter;
+
+    private Counter batchesCounter;
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+
+        queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        samplingSize = (int) (Math.max(1, queueCapacity) * samplingThreshold);
+
+        MeterRegistry registry = MetricsUtils.registry();
+        Gauge.builder("am_alert_events_queue_size", queue, BlockingQueue::size)
+                .description("Number of events waiting to be sent to the alert engine")
+                .register(registry);
+        emittedCounter = Counter.builder("am_alert_events_emitted")
+                .description("Number of events sent to the alert engine")
+                .register(registry);
+        sampledCounter = Counter.builder("am_alert_events_dropped")
+                .tag("reason", "sampling")
+                .description("Number of events not sent to the alert engine")
+                .register(registry);
+        droppedCounter = Counter.builder("am_alert_events_dropped")
+                .tag("reason", "full")
+                .description("Number of events not sent to the alert engine")
+                .register(registry);
+        batchesCounter = Counter.builder("am_alert_events_batches")
+                .description("Number of batches of events sent to the alert engine")
+                .register(registry);
+
+        dispatcher = new Thread(this::consume, "gio-am-alert-events");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+
+        logger.info("Alert events dispatcher started with a queue of {} events", queueCapacity);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+
+        final Thread thread = dispatcher;
+        if (thread != null) {
+            dispatcher = null;
+            thread.interrupt();
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+            // send what is left (best effort)
+            List<Event> batch = new ArrayList<>(queue.size());
+            queue.drainTo(batch);
+            send(batch);
+        }
+    }
+
+    /**
+     * Queue an event to be sent to the alert engine, never blocks the caller.
+     *
+     * @param event the event to send
+     * @return <code>true</code> if the event has been queued, <code>false</code> if it has been dropped
+     */
+    public boolean dispatch(Event event) {
+        if (queue == null) {
+            return false;
+        }
+
+        if (samplingRate > 1 && queue.size() >= samplingSize && overloadedEvents.getAndIncrement() % samplingRate != 0) {
+            sampledCounter.increment();
+            return false;
+        }
+
+        if (!queue.offer(event)) {
+            droppedCounter.increment();
+            logger.debug("Alert events queue is full, event dropped");
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * @return <code>true</code> if no alert engine connector is installed
+     */
+    public boolean isEmpty() {
+        return eventProducer.isEmpty();
+    }
+
+    private void consume() {
+        final List<Event> batch = new ArrayList<>(batchSize);
+        while (dispatcher != null) {
+            try {
+                Event event = queue.poll(1, TimeUnit.SECONDS);
+                if (event == null) {
+                    continue;
+                }
+                batch.add(event);
+                queue.drainTo(batch, batchSize - 1);
+                send(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void send(List<Event> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        logger.debug("Send {} event(s) to alert engine", batch.size());
+        batchesCounter.increment();
+        for (Event event : batch) {
+            try {
+                eventProducer.send(event);
+                emittedCounter.increment();
+            } catch (Exception e) {
+                logger.error("An error occurs while sending event to alert engine", e);
+            }
+        }
+    }
+
+    @Override
+    protected String name() {
+        return "Alert events dispatcher";
+    }
+}
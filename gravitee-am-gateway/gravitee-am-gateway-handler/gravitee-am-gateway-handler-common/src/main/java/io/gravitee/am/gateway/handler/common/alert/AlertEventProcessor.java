@@ -25,7 +25,6 @@ import io.gravitee.common.event.EventListener;
 import io.gravitee.common.service.AbstractService;
 import io.gravitee.gateway.api.Request;
 import io.gravitee.node.api.Node;
-import io.gravitee.plugin.alert.AlertEventProducer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -47,7 +46,7 @@ public class AlertEventProcessor extends AbstractService {
     private EventManager eventManager;
 
     @Autowired
-    private AlertEventProducer eventProducer;
+    private AlertEventDispatcher eventDispatcher;
 
     @Autowired
     private Domain domain;
@@ -77,6 +76,10 @@ public class AlertEventProcessor extends AbstractService {
     }
 
     private void onAuthenticationEvent(Event<AuthenticationEvent, AuthenticationDetails> eventItem) {
+        if (eventDispatcher.isEmpty()) {
+            // no alert engine connector, nothing to send
+            return;
+        }
 
         final AuthenticationDetails authenticationDetails = eventItem.content();
 
@@ -111,13 +114,8 @@ public class AlertEventProcessor extends AbstractService {
     }
 
     private void sendEvent(io.gravitee.alert.api.event.Event event) {
-        try {
-            logger.debug("Send event to alert engine");
-            eventProducer.send(event);
-        } catch (Exception e) {
-            logger.error("An error occurs while sending event to alert engine", e);
-        }
+        // the event is sent by the dispatcher thread, not on the request thread
+        logger.debug("Queue event to alert engine");
+        eventDispatcher.dispatch(event);
     }
-
-
 }
@@ -0,0 +1,67 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.common.audit;
+
+import io.gravitee.am.service.reporter.impl.AuditReporterVerticle;
+import io.gravitee.common.service.AbstractService;
+import io.vertx.reactivex.core.RxHelper;
+import io.vertx.reactivex.core.Vertx;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Deploy the verticle publishing the audits of all the security domains to the reporters.
+ *
+ * The verticle is deployed once for the gateway, each domain then only starts its own reporters.
+ *
+ * @author GraviteeSource Team
+ */
+public class AuditReporterLauncher extends AbstractService<AuditReporterLauncher> {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditReporterLauncher.class);
+
+    @Autowired
+    private Vertx vertx;
+
+    @Autowired
+    private AuditReporterVerticle auditReporterVerticle;
+
+    private String deploymentId;
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+
+        deploymentId = RxHelper.deployVerticle(vertx, auditReporterVerticle).blockingGet();
+        logger.info("Audit reporter verticle deployed");
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+
+        if (deploymentId != null) {
+            vertx.undeploy(deploymentId);
+            deploymentId = null;
+        }
+    }
+
+    @Override
+    protected String name() {
+        return "Audit reporter launcher";
+    }
+}
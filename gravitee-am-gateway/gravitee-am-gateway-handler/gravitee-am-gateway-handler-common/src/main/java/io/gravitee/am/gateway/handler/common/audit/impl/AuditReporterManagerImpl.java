@@ -26,14 +26,11 @@ import io.gravitee.am.model.common.event.Payload;
 import io.gravitee.am.plugins.reporter.core.ReporterPluginManager;
 import io.gravitee.am.repository.management.api.ReporterRepository;
 import io.gravitee.am.service.EnvironmentService;
-import io.gravitee.am.service.reporter.impl.AuditReporterVerticle;
 import io.gravitee.am.service.reporter.vertx.EventBusReporterWrapper;
 import io.gravitee.common.event.Event;
 import io.gravitee.common.event.EventListener;
 import io.gravitee.common.service.AbstractService;
-import io.reactivex.Single;
 import io.reactivex.schedulers.Schedulers;
-import io.vertx.reactivex.core.RxHelper;
 import io.vertx.reactivex.core.Vertx;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -51,7 +48,6 @@ import java.util.concurrent.ConcurrentMap;
 public class AuditReporterManagerImpl extends AbstractService implements AuditReporterManager, EventListener<ReporterEvent, Payload>, InitializingBean {
 
     private static final Logger logger = LoggerFactory.getLogger(AuditReporterManagerImpl.class);
-    private String deploymentId;
 
     @Autowired
     private Domain domain;
@@ -76,38 +72,28 @@ public class AuditReporterManagerImpl extends AbstractService implements AuditRe
     @Override
     public void afterPropertiesSet() throws Exception {
         logger.info("Initializing reporters for domain {}", domain.getName());
-        logger.info("\t Starting reporter verticle for domain {}", domain.getName());
-
-        Single<String> deployment = RxHelper.deployVerticle(vertx, applicationContext.getBean(AuditReporterVerticle.class));
-        deployment.subscribe(id -> {
-            // Deployed
-            deploymentId = id;
-
-            // Start reporters
-            reporterRepository.findByDomain(domain.getId()).toList()
-                    .flatMap(reporters ->
-                            environmentService
-                                    .findById(domain.getReferenceId())
-                                    .map(env -> new GraviteeContext(env.getOrganizationId(), env.getId(), domain.getId()))
-                                    .map(ctx -> Tuples.of(reporters, ctx)))
-                    .subscribeOn(Schedulers.io())
-                    .subscribe(tupleReportersContext -> {
-                                if (!tupleReportersContext.getT1().isEmpty()) {
-                                    tupleReportersContext.getT1().forEach(reporter -> {
-                                        startReporterProvider(reporter, tupleReportersContext.getT2());
-                                    });
-                                    logger.info("Reporters loaded for domain {}", domain.getName());
-                                } else {
-                                    logger.info("\tThere is no reporter to start");
-                                }
-                            },
-                            err -> {
-                                logger.error("Reporter service can not be started", err);
-                            });
-        }, err -> {
-            // Could not deploy
-            logger.error("Reporter service can not be started", err);
-        });
+
+        // audits are sent to the reporters through the gateway wide reporter verticle (see AuditReporterLauncher)
+        reporterRepository.findByDomain(domain.getId()).toList()
+                .flatMap(reporters ->
+                        environmentService
+                                .findById(domain.getReferenceId())
+                                .map(env -> new GraviteeContext(env.getOrganizationId(), env.getId(), domain.getId()))
+                                .map(ctx -> Tuples.of(reporters, ctx)))
+                .subscribeOn(Schedulers.io())
+                .subscribe(tupleReportersContext -> {
+                            if (!tupleReportersContext.getT1().isEmpty()) {
+                                tupleReportersContext.getT1().forEach(reporter -> {
+                                    startReporterProvider(reporter, tupleReportersContext.getT2());
+                                });
+                                logger.info("Reporters loaded for domain {}", domain.getName());
+                            } else {
+                                logger.info("\tThere is no reporter to start");
+                            }
+                        },
+                        err -> {
+                            logger.error("Reporter service can not be started", err);
+                        });
     }
 
     @Override
@@ -142,17 +128,13 @@ public class AuditReporterManagerImpl extends AbstractService implements AuditRe
         logger.info("Dispose event listener for reporter events for domain {}", domain.getName());
         eventManager.unsubscribeForEvents(this, ReporterEvent.class, domain.getId());
 
-        if (deploymentId != null) {
-            vertx.undeploy(deploymentId, event -> {
-                for(io.gravitee.am.reporter.api.provider.Reporter reporter : reporters.values()) {
-                    try {
-                        logger.info("Stopping reporter: {}", reporter);
-                        reporter.stop();
-                    } catch (Exception ex) {
-                        logger.error("Unexpected error while stopping reporter", ex);
-                    }
-                }
-            });
+        for (io.gravitee.am.reporter.api.provider.Reporter reporter : reporters.values()) {
+            try {
+                logger.info("Stopping reporter: {}", reporter);
+                reporter.stop();
+            } catch (Exception ex) {
+                logger.error("Unexpected error while stopping reporter", ex);
+            }
         }
     }
 
@@ -32,7 +32,9 @@ import io.gravitee.am.model.account.AccountSettings;
 import io.gravitee.am.model.oidc.Client;
 import io.gravitee.am.repository.management.api.search.LoginAttemptCriteria;
 import io.gravitee.am.service.LoginAttemptService;
+import io.gravitee.am.service.utils.MetricsUtils;
 import io.gravitee.common.event.EventManager;
+import io.micrometer.core.instrument.Timer;
 import io.reactivex.Completable;
 import io.reactivex.Maybe;
 import io.reactivex.Observable;
@@ -45,6 +47,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -55,6 +59,10 @@ import java.util.stream.Collectors;
 public class UserAuthenticationManagerImpl implements UserAuthenticationManager {
 
     private final Logger logger = LoggerFactory.getLogger(UserAuthenticationManagerImpl.class);
+    private static final String[] RESULTS = {MetricsUtils.RESULT_SUCCESS, MetricsUtils.RESULT_FAILURE, MetricsUtils.RESULT_ERROR};
+    private static final int SUCCESS = 0;
+    private static final int FAILURE = 1;
+    private static final int ERROR = 2;
 
     @Autowired
     private Domain domain;
@@ -71,6 +79,12 @@ public class UserAuthenticationManagerImpl implements UserAuthenticationManager
     @Autowired
     private UserAuthenticationService userAuthenticationService;
 
+    /**
+     * Authentication timers by identity provider, indexed by result.
+     * Only the identity providers of the domain are used, which keeps the number of meters bounded.
+     */
+    private final Map<String, Timer[]> timers = new ConcurrentHashMap<>();
+
     @Override
     public Single<User> authenticate(Client client, Authentication authentication, boolean preAuthenticated) {
         logger.debug("Trying to authenticate [{}]", authentication);
@@ -197,6 +211,7 @@ public class UserAuthenticationManagerImpl implements UserAuthenticationManager
                 .switchIfEmpty(Maybe.error(new BadCredentialsException("Unable to load authentication provider " + authProvider + ", an error occurred during the initialization stage")))
                 .flatMap(authenticationProvider -> {
                     logger.debug("Authentication attempt using identity provider {} ({})", authenticationProvider, authenticationProvider.getClass().getName());
+                    final long start = System.nanoTime();
                     return Maybe.just(preAuthenticated)
                             .flatMap(preAuth -> {
                                 if (preAuth) {
@@ -205,6 +220,7 @@ public class UserAuthenticationManagerImpl implements UserAuthenticationManager
                                     return authenticationProvider.loadUserByUsername(authentication);
                                 }
                             })
+                            .doOnEvent((user, throwable) -> timer(authProvider, result(user, throwable)).record(System.nanoTime() - start, TimeUnit.NANOSECONDS))
                             .switchIfEmpty(Maybe.error(new UsernameNotFoundException(authentication.getPrincipal().toString())));
                 })
                 .map(user -> {
@@ -279,6 +295,37 @@ public class UserAuthenticationManagerImpl implements UserAuthenticationManager
         return Completable.complete();
     }
 
+    private Timer timer(String authProvider, int result) {
+        Timer[] providerTimers = timers.get(authProvider);
+        if (providerTimers == null) {
+            providerTimers = timers.computeIfAbsent(authProvider, key -> {
+                final Timer[] newTimers = new Timer[RESULTS.length];
+                for (int i = 0; i < RESULTS.length; i++) {
+                    newTimers[i] = Timer.builder("am_idp_authentication")
+                            .description("Identity provider authentication latency")
+                            .tag(MetricsUtils.TAG_DOMAIN, String.valueOf(domain.getId()))
+                            .tag("idp", key)
+                            .tag(MetricsUtils.TAG_RESULT, RESULTS[i])
+                            .publishPercentiles(0.5, 0.95, 0.99)
+                            .register(MetricsUtils.registry());
+                }
+                return newTimers;
+            });
+        }
+        return providerTimers[result];
+    }
+
+    private static int result(Object user, Throwable throwable) {
+        if (user != null) {
+            return SUCCESS;
+        }
+        // unknown users and wrong credentials are expected outcomes, anything else is an identity provider error
+        if (throwable == null || (throwable instanceof AuthenticationException && !(throwable instanceof InternalAuthenticationServiceException))) {
+            return FAILURE;
+        }
+        return ERROR;
+    }
+
     private class UserAuthentication {
         private io.gravitee.am.identityprovider.api.User user;
         private Throwable lastException;
@@ -52,6 +52,14 @@ public interface ClientManager extends Service {
      */
     Client get(String clientId);
 
+    /**
+     * Retrieve a deployed client, templates excluded, using its client_id.
+     * @param domain The ID of the domain of the client.
+     * @param clientId The client_id of the deployed client.
+     * @return A deployed client
+     */
+    Client getByClientId(String domain, String clientId);
+
     void deployCrossDomain(Domain domain);
 
     void undeployCrossDomain(Domain domain);
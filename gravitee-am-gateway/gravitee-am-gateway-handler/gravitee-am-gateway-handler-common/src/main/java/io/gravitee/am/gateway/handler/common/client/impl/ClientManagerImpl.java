@@ -57,6 +57,9 @@ public class ClientManagerImpl extends AbstractService implements ClientManager,
 
     private final ConcurrentMap<String, Client> clients = new ConcurrentHashMap<>();
 
+    // domain and client_id -> client, templates excluded
+    private final ConcurrentMap<String, Client> clientsByClientId = new ConcurrentHashMap<>();
+
     private final ConcurrentMap<String, Domain> domains = new ConcurrentHashMap<>();
 
     @Override
@@ -68,7 +71,7 @@ public class ClientManagerImpl extends AbstractService implements ClientManager,
                 .subscribeOn(Schedulers.io())
                 .subscribe(
                         client -> {
-                            clients.put(client.getId(), client);
+                            putClient(client);
                             logger.info("Application {} loaded for domain {}", client.getClientName(), domain.getName());
                         },
                         error -> logger.error("An error has occurred when loading applications for domain {}", domain.getName(), error)
@@ -112,12 +115,12 @@ public class ClientManagerImpl extends AbstractService implements ClientManager,
 
     @Override
     public void deploy(Client client) {
-        clients.put(client.getId(), client);
+        putClient(client);
     }
 
     @Override
     public void undeploy(String clientId) {
-        clients.remove(clientId);
+        unindexClient(clients.remove(clientId));
     }
 
     @Override
@@ -130,6 +133,11 @@ public class ClientManagerImpl extends AbstractService implements ClientManager,
         return clients.get(clientId);
     }
 
+    @Override
+    public Client getByClientId(String domain, String clientId) {
+        return domain == null || clientId == null ? null : clientsByClientId.get(key(domain, clientId));
+    }
+
     @Override
     public void deployCrossDomain(Domain domain) {
         this.domains.put(domain.getId(), domain);
@@ -149,16 +157,35 @@ public class ClientManagerImpl extends AbstractService implements ClientManager,
                 .subscribeOn(Schedulers.io())
                 .subscribe(
                         client -> {
-                            clients.put(client.getId(), client);
+                            putClient(client);
                             logger.info("Application {} loaded for domain {}", applicationId, domain.getName());
                         },
                         error -> logger.error("An error has occurred when loading application {} for domain {}", applicationId, domain.getName(), error),
                         () -> logger.error("No application found with id {}", applicationId));
     }
 
+    private void putClient(Client client) {
+        unindexClient(clients.put(client.getId(), client));
+        if (!client.isTemplate() && client.getDomain() != null && client.getClientId() != null) {
+            clientsByClientId.put(key(client.getDomain(), client.getClientId()), client);
+        }
+    }
+
+    private void unindexClient(Client client) {
+        if (client != null && client.getDomain() != null && client.getClientId() != null) {
+            // the client_id may have been given to a new client meanwhile
+            clientsByClientId.remove(key(client.getDomain(), client.getClientId()), client);
+        }
+    }
+
+    private static String key(String domain, String clientId) {
+        return domain + ":" + clientId;
+    }
+
     private void removeClient(String applicationId) {
         logger.info("Removing application {} for domain {}", applicationId, domain.getName());
         Client deletedClient = clients.remove(applicationId);
+        unindexClient(deletedClient);
         if (deletedClient != null) {
             logger.info("Application {} has been removed for domain {}", applicationId, domain.getName());
         } else {
@@ -24,7 +24,6 @@ import io.reactivex.Single;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -54,11 +53,8 @@ public class ClientSyncServiceImpl implements ClientSyncService {
 
     @Override
     public Maybe<Client> findByDomainAndClientId(String domain, String clientId) {
-        final Optional<Client> optClient = clientManager.entities()
-                .stream()
-                .filter(client -> !client.isTemplate() && client.getDomain().equals(domain) && client.getClientId().equals(clientId))
-                .findFirst();
-        return optClient.isPresent() ? Maybe.just(optClient.get()) : Maybe.empty();
+        final Client client = clientManager.getByClientId(domain, clientId);
+        return client != null ? Maybe.just(client) : Maybe.empty();
     }
 
     @Override
@@ -15,9 +15,12 @@
  */
 package io.gravitee.am.gateway.handler.common.email;
 
+import freemarker.template.Template;
 import io.gravitee.am.model.Email;
 import io.gravitee.common.service.Service;
 
+import java.io.IOException;
+
 /**
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
  * @author GraviteeSource Team
@@ -27,4 +30,10 @@ public interface EmailManager extends Service {
     String TEMPLATE_NAME_SEPARATOR = "|";
 
     Email getEmail(String template, String defaultSubject, int defaultExpiresAfter);
+
+    /**
+     * Get the compiled template of an email subject. Subjects are compiled once and kept until an email of the domain
+     * is updated or removed.
+     */
+    Template getSubjectTemplate(String subject) throws IOException;
 }
@@ -31,6 +31,9 @@ import java.util.Map;
  */
 public interface EmailService {
 
+    /**
+     * Prepare the email and queue it to the outbound mail workers, the email is sent and audited asynchronously.
+     */
     void send(Template template, User user, Client client);
 
     EmailWrapper createEmail(io.gravitee.am.model.Template template, Client client, List<String> recipients, Map<String, Object> params) throws IOException, TemplateException;
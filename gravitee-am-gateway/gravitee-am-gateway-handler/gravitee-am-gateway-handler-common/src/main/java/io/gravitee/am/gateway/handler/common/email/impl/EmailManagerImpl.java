@@ -17,6 +17,7 @@ package io.gravitee.am.gateway.handler.common.email.impl;
 
 import freemarker.cache.StringTemplateLoader;
 import freemarker.template.Configuration;
+import freemarker.template.Template;
 import io.gravitee.am.common.event.EmailEvent;
 import io.gravitee.am.common.event.EventManager;
 import io.gravitee.am.gateway.handler.common.email.EmailManager;
@@ -34,6 +35,8 @@ import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 
+import java.io.IOException;
+import java.io.StringReader;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Pattern;
@@ -50,6 +53,7 @@ public class EmailManagerImpl extends AbstractService implements EmailManager, I
     private static final String TEMPLATE_SUFFIX = ".html";
     private ConcurrentMap<String, Email> emails = new ConcurrentHashMap<>();
     private ConcurrentMap<String, Email> emailTemplates = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Template> subjectTemplates = new ConcurrentHashMap<>();
 
     @Autowired
     private EmailRepository emailRepository;
@@ -131,6 +135,16 @@ public class EmailManagerImpl extends AbstractService implements EmailManager, I
         }
     }
 
+    @Override
+    public Template getSubjectTemplate(String subject) throws IOException {
+        Template subjectTemplate = subjectTemplates.get(subject);
+        if (subjectTemplate == null) {
+            subjectTemplate = new Template("subject", new StringReader(subject), configuration);
+            subjectTemplates.put(subject, subjectTemplate);
+        }
+        return subjectTemplate;
+    }
+
     private Email create(String template, String from, String fromName, String subject, int expiresAt) {
         Email email = new Email();
         email.setTemplate(template);
@@ -165,6 +179,7 @@ public class EmailManagerImpl extends AbstractService implements EmailManager, I
         if (deletedEmail != null) {
             emailTemplates.remove(getTemplateName(deletedEmail));
             templateLoader.removeTemplate(getTemplateName(deletedEmail) + TEMPLATE_SUFFIX);
+            evictTemplate(getTemplateName(deletedEmail) + TEMPLATE_SUFFIX);
         }
     }
 
@@ -180,7 +195,17 @@ public class EmailManagerImpl extends AbstractService implements EmailManager, I
 
     private void reloadTemplate(String templateName, String content) {
         templateLoader.putTemplate(templateName, content, System.currentTimeMillis());
-        configuration.clearTemplateCache();
+        evictTemplate(templateName);
+    }
+
+    private void evictTemplate(String templateName) {
+        // only evict the changed template, the other compiled templates of the domain are kept
+        try {
+            configuration.removeTemplateFromCache(templateName);
+        } catch (IOException e) {
+            logger.warn("Unable to evict email template {} from cache", templateName, e);
+        }
+        subjectTemplates.clear();
     }
 
     private String getTemplateName(Email email) {
@@ -32,12 +32,13 @@ import io.gravitee.am.service.AuditService;
 import io.gravitee.am.service.DomainService;
 import io.gravitee.am.service.reporter.builder.AuditBuilder;
 import io.gravitee.am.service.reporter.builder.EmailAuditBuilder;
+import io.reactivex.Single;
+import io.reactivex.schedulers.Schedulers;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 
 import java.io.IOException;
-import java.io.StringReader;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
@@ -102,20 +103,25 @@ public class EmailServiceImpl implements EmailService {
     @Override
     public void send(io.gravitee.am.model.Template template, User user, Client client) {
         if (enabled) {
-            // get raw email template
-            io.gravitee.am.model.Email emailTemplate = getEmailTemplate(template, client);
-            // prepare email
-            Email email = prepareEmail(template, emailTemplate, user, client);
-            // send email
-            sendEmail(email, user, client);
-
+            // the template lookup, the token signing and the rendering are done on a worker thread, not on the caller event loop
+            Single.fromCallable(() -> {
+                // get raw email template
+                io.gravitee.am.model.Email emailTemplate = getEmailTemplate(template, client);
+                // prepare email
+                return prepareEmail(template, emailTemplate, user, client);
+            })
+                    .subscribeOn(Schedulers.io())
+                    .subscribe(
+                            // send email
+                            email -> sendEmail(email, user, client),
+                            error -> auditService.report(emailAudit(new EmailBuilder().template(template.template()).build(), client).user(user).throwable(error)));
         }
     }
 
     private void sendEmail(Email email, User user, Client client) {
         try {
             final Template template = freemarkerConfiguration.getTemplate(email.getTemplate());
-            final Template plainTextTemplate = new Template("subject", new StringReader(email.getSubject()), freemarkerConfiguration);
+            final Template plainTextTemplate = emailManager.getSubjectTemplate(email.getSubject());
             // compute email subject
             final String subject = processTemplateIntoString(plainTextTemplate, email.getParams());
             // compute email content
@@ -123,13 +129,20 @@ public class EmailServiceImpl implements EmailService {
             final Email emailToSend = new Email(email);
             emailToSend.setSubject(subject);
             emailToSend.setContent(content);
-            emailService.send(emailToSend);
-            auditService.report(AuditBuilder.builder(EmailAuditBuilder.class).domain(domain.getId()).client(client).email(email).user(user));
+            emailService.sendAsync(emailToSend).subscribe(
+                    () -> auditService.report(emailAudit(email, client).user(user)),
+                    error -> auditService.report(emailAudit(email, client).throwable(error)));
         } catch (final Exception ex) {
-            auditService.report(AuditBuilder.builder(EmailAuditBuilder.class).domain(domain.getId()).client(client).email(email).throwable(ex));
+            auditService.report(emailAudit(email, client).throwable(ex));
         }
     }
 
+    private EmailAuditBuilder emailAudit(Email email, Client client) {
+        EmailAuditBuilder auditBuilder = AuditBuilder.builder(EmailAuditBuilder.class).domain(domain.getId()).email(email);
+        // emails can be sent outside of an application context
+        return client == null ? auditBuilder : auditBuilder.client(client);
+    }
+
     private Email prepareEmail(io.gravitee.am.model.Template template, io.gravitee.am.model.Email emailTemplate, User user, Client client) {
         Map<String, Object> params = prepareEmailParams(user, client, emailTemplate.getExpiresAfter(), template.redirectUri());
         Email email = new EmailBuilder()
@@ -184,7 +197,7 @@ public class EmailServiceImpl implements EmailService {
                 .build();
 
         // compute email subject
-        final Template plainTextTemplate = new Template("subject", new StringReader(emailTpl.getSubject()), freemarkerConfiguration);
+        final Template plainTextTemplate = emailManager.getSubjectTemplate(emailTpl.getSubject());
         email.setSubject(processTemplateIntoString(plainTextTemplate, params));
 
         // compute email content
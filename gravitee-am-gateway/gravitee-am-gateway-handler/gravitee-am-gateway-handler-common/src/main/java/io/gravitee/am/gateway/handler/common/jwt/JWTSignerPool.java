@@ -0,0 +1,138 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.common.jwt;
+
+import io.gravitee.am.service.utils.MetricsUtils;
+import io.gravitee.common.service.AbstractService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Gateway-wide pool of threads dedicated to JWT signing.
+ *
+ * Signing (especially with RSA keys) is CPU bound. Running it on a pool sized to the number of cores keeps
+ * the Vert.x event loops free to accept requests during token bursts.
+ * The pool is shared by all the security domains deployed on the gateway.
+ *
+ * @author GraviteeSource Team
+ */
+public class JWTSignerPool extends AbstractService<JWTSignerPool> {
+
+    private static final Logger logger = LoggerFactory.getLogger(JWTSignerPool.class);
+
+    @Value("${jwt.signer.pool.enabled:true}")
+    private boolean enabled;
+
+    @Value("${jwt.signer.pool.size:0}")
+    private int poolSize;
+
+    @Value("${jwt.signer.pool.queueCapacity:10000}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor executor;
+
+    private Scheduler scheduler;
+
+    private final AtomicBoolean metricsRegistered = new AtomicBoolean();
+
+    private Gauge queueSizeGauge;
+
+    private Gauge activeThreadsGauge;
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+
+        if (!enabled) {
+            logger.info("JWT signer pool is disabled, JWT will be signed on the caller thread");
+            return;
+        }
+
+        final int size = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        final AtomicInteger counter = new AtomicInteger();
+        // when the queue is full, the caller signs the JWT itself
+        executor = new ThreadPoolExecutor(size, size, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "gio-am-jwt-signer-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        scheduler = Schedulers.from(executor);
+
+        logger.info("JWT signer pool started with {} threads", size);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+
+        if (executor != null) {
+            scheduler = null;
+            executor.shutdown();
+        }
+
+        if (metricsRegistered.compareAndSet(true, false)) {
+            MeterRegistry registry = MetricsUtils.registry();
+            registry.remove(queueSizeGauge);
+            registry.remove(activeThreadsGauge);
+        }
+    }
+
+    /**
+     * @return the scheduler to sign JWT with, or <code>null</code> if the pool is disabled or not started
+     */
+    public Scheduler scheduler() {
+        final Scheduler current = scheduler;
+        if (current != null && !metricsRegistered.get()) {
+            registerMetrics();
+        }
+        return current;
+    }
+
+    /**
+     * Gauges are registered on first use rather than on start: the pool is started with the node, possibly before
+     * the node meter registry is available.
+     */
+    private void registerMetrics() {
+        if (metricsRegistered.compareAndSet(false, true)) {
+            MeterRegistry registry = MetricsUtils.registry();
+            queueSizeGauge = Gauge.builder("am_jwt_signer_queue_size", executor, e -> e.getQueue().size())
+                    .description("Number of JWT waiting to be signed")
+                    .register(registry);
+            activeThreadsGauge = Gauge.builder("am_jwt_signer_active_threads", executor, ThreadPoolExecutor::getActiveCount)
+                    .description("Number of threads currently signing JWT")
+                    .register(registry);
+        }
+    }
+
+    @Override
+    protected String name() {
+        return "JWT signer pool";
+    }
+}
@@ -22,8 +22,13 @@ import io.gravitee.am.common.jwt.JWT;
 import io.gravitee.am.gateway.certificate.CertificateProvider;
 import io.gravitee.am.gateway.handler.common.certificate.CertificateManager;
 import io.gravitee.am.gateway.handler.common.jwt.JWTService;
+import io.gravitee.am.gateway.handler.common.jwt.JWTSignerPool;
 import io.gravitee.am.model.oidc.Client;
+import io.reactivex.Scheduler;
 import io.reactivex.Single;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.reactivex.RxHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -47,6 +52,9 @@ public class JWTServiceImpl implements JWTService {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired(required = false)
+    private JWTSignerPool signerPool;
+
     @Override
     public Single<String> encode(JWT jwt, CertificateProvider certificateProvider) {
         Objects.requireNonNull(certificateProvider, "Certificate provider is required to sign JWT");
@@ -118,7 +126,7 @@ public class JWTServiceImpl implements JWTService {
     }
 
     private Single<String> sign(CertificateProvider certificateProvider, JWT jwt) {
-        return Single.create(emitter -> {
+        Single<String> signature = Single.create(emitter -> {
             try {
                 String encodedToken = certificateProvider.getJwtBuilder().sign(jwt);
                 emitter.onSuccess(encodedToken);
@@ -127,6 +135,17 @@ public class JWTServiceImpl implements JWTService {
                 emitter.onError(new InvalidTokenException("The JWT token couldn't be signed", ex));
             }
         });
+
+        // offload the signature to the signer pool only when called from a Vert.x context
+        // so the rest of the chain can be resumed on the same event loop
+        Scheduler signerScheduler = signerPool != null ? signerPool.scheduler() : null;
+        Context context = Vertx.currentContext();
+        if (signerScheduler == null || context == null) {
+            return signature;
+        }
+        return signature
+                .subscribeOn(signerScheduler)
+                .observeOn(RxHelper.scheduler(context));
     }
 
     private Single<Map<String, Object>> decode(CertificateProvider certificateProvider, String payload) {
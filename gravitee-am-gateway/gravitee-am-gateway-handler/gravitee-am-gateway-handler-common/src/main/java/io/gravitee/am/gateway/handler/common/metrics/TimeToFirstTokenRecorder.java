@@ -0,0 +1,72 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.common.metrics;
+
+import io.gravitee.am.service.utils.MetricsUtils;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Record the time between the deployment of a security domain and the first token it issues
+ * (<code>am_domain_time_to_first_token</code>), once per domain for the life of the gateway.
+ *
+ * The deployment time is the time at which the domain has been registered on the gateway, so that the measure also
+ * covers the domains deployed on their first request. Redeploying a domain doesn't record the measure again.
+ *
+ * @author GraviteeSource Team
+ */
+public class TimeToFirstTokenRecorder {
+
+    private static final Logger logger = LoggerFactory.getLogger(TimeToFirstTokenRecorder.class);
+
+    private final ConcurrentMap<String, Long> deployedAt = new ConcurrentHashMap<>();
+
+    private final Set<String> recorded = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param domain the id of the security domain being registered on the gateway
+     */
+    public void deployed(String domain) {
+        if (!recorded.contains(domain)) {
+            deployedAt.putIfAbsent(domain, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * @param domain the id of the security domain which has issued a token
+     */
+    public void tokenIssued(String domain) {
+        if (recorded.contains(domain)) {
+            return;
+        }
+        final Long deployTime = deployedAt.remove(domain);
+        if (deployTime != null && recorded.add(domain)) {
+            final long elapsed = System.currentTimeMillis() - deployTime;
+            Timer.builder("am_domain_time_to_first_token")
+                    .description("Time between the deployment of the domain and the first token it issues")
+                    .tag(MetricsUtils.TAG_DOMAIN, domain)
+                    .register(MetricsUtils.registry())
+                    .record(elapsed, TimeUnit.MILLISECONDS);
+            logger.info("First token of domain [{}] issued {} ms after its deployment", domain, elapsed);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.common.oauth2;
+
+import io.gravitee.am.model.common.event.Payload;
+import io.reactivex.Flowable;
+
+/**
+ * Token revocations recorded in the event log, shared by the {@link RevokedTokenManager} of every security domain.
+ *
+ * The event log is read once for all the domains deployed together (gateway startup), the domains deployed later
+ * only read the events created since.
+ *
+ * @author GraviteeSource Team
+ */
+public interface RevokedTokenHistory {
+
+    /**
+     * Find the token revocations of a domain which may still apply to valid access tokens.
+     * @param domain the domain identifier
+     * @return the payloads of the token events of the domain
+     */
+    Flowable<Payload> findByDomain(String domain);
+
+    /**
+     * @return the longest access token validity (in milliseconds) of the applications when the history has been read
+     */
+    long maxTokenValidity();
+}
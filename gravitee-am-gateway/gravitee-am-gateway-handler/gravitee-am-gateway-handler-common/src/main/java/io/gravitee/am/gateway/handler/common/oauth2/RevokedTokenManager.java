@@ -0,0 +1,48 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.common.oauth2;
+
+import io.gravitee.am.common.jwt.JWT;
+import io.gravitee.common.service.Service;
+import io.reactivex.Completable;
+
+import java.util.Date;
+
+/**
+ * Keep track of the revoked access tokens which are not persisted (stateless mode).
+ *
+ * Revocations are recorded as events so that every gateway serving the domain receives them
+ * through the synchronization process. The revocations of all the tokens of a subject are recorded by the
+ * {@link io.gravitee.am.service.TokenService} (logout, user deletion, consent revocation).
+ *
+ * @author GraviteeSource Team
+ */
+public interface RevokedTokenManager extends Service {
+
+    /**
+     * Check if the given access token has been revoked, either by itself or because all the tokens of its subject have been revoked.
+     * @param jwt the decoded access token
+     * @return true if the token has been revoked
+     */
+    boolean isRevoked(JWT jwt);
+
+    /**
+     * Revoke a single access token until its expiration.
+     * @param jti the access token identifier
+     * @param expireAt the access token expiration date
+     */
+    Completable revoke(String jti, Date expireAt);
+}
@@ -21,6 +21,7 @@ import io.gravitee.am.common.jwt.JWT;
 import io.gravitee.am.gateway.handler.common.client.ClientSyncService;
 import io.gravitee.am.gateway.handler.common.jwt.JWTService;
 import io.gravitee.am.gateway.handler.common.oauth2.IntrospectionTokenService;
+import io.gravitee.am.gateway.handler.common.oauth2.RevokedTokenManager;
 import io.gravitee.am.repository.oauth2.api.AccessTokenRepository;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
@@ -47,6 +48,9 @@ public class IntrospectionTokenServiceImpl implements IntrospectionTokenService
     @Autowired
     private ClientSyncService clientService;
 
+    @Autowired
+    private RevokedTokenManager revokedTokenManager;
+
     @Lazy
     @Autowired
     private AccessTokenRepository accessTokenRepository;
@@ -56,24 +60,9 @@ public class IntrospectionTokenServiceImpl implements IntrospectionTokenService
         return jwtService.decode(token)
                 .flatMapMaybe(jwt -> clientService.findByDomainAndClientId(jwt.getDomain(), jwt.getAud()))
                 .switchIfEmpty(Maybe.error(new InvalidTokenException("Invalid or unknown client for this token")))
-                .flatMapSingle(client -> jwtService.decodeAndVerify(token, client))
-                .flatMap(jwt -> {
-                    // Just check the JWT signature and JWT validity if offline verification option is enabled
-                    // or if the token has just been created (could not be in database so far because of async database storing process delay)
-                    if (offlineVerification || Instant.now().isBefore(Instant.ofEpochSecond(jwt.getIat() + OFFLINE_VERIFICATION_TIMER_SECONDS))) {
-                        return Single.just(jwt);
-                    }
-
-                    // check if token is not revoked
-                    return accessTokenRepository.findByToken(jwt.getJti())
-                            .switchIfEmpty(Single.error(new InvalidTokenException("The token is invalid", "Token with JTI [" + jwt.getJti() + "] not found in the database", jwt)))
-                            .map(accessToken -> {
-                                if (accessToken.getExpireAt().before(new Date())) {
-                                    throw new InvalidTokenException("The token expired", "Token with JTI [" + jwt.getJti() + "] is expired", jwt);
-                                }
-                                return jwt;
-                            });
-                })
+                .flatMapSingle(client -> jwtService.decodeAndVerify(token, client)
+                        // stateless access tokens are not stored, only check that they have not been revoked
+                        .flatMap(jwt -> client.isStatelessAccessToken() ? checkRevokedTokens(jwt) : checkTokenStore(jwt, offlineVerification)))
                 .onErrorResumeNext(ex -> {
                     if (ex instanceof JWTException) {
                         LOGGER.debug("An error occurs while decoding JWT access token : {}", token, ex);
@@ -89,4 +78,29 @@ public class IntrospectionTokenServiceImpl implements IntrospectionTokenService
                     return Single.error(ex);
                 });
     }
+
+    private Single<JWT> checkRevokedTokens(JWT jwt) {
+        if (revokedTokenManager.isRevoked(jwt)) {
+            return Single.error(new InvalidTokenException("The token is invalid", "Token with JTI [" + jwt.getJti() + "] has been revoked", jwt));
+        }
+        return Single.just(jwt);
+    }
+
+    private Single<JWT> checkTokenStore(JWT jwt, boolean offlineVerification) {
+        // Just check the JWT signature and JWT validity if offline verification option is enabled
+        // or if the token has just been created (could not be in database so far because of async database storing process delay)
+        if (offlineVerification || Instant.now().isBefore(Instant.ofEpochSecond(jwt.getIat() + OFFLINE_VERIFICATION_TIMER_SECONDS))) {
+            return Single.just(jwt);
+        }
+
+        // check if token is not revoked
+        return accessTokenRepository.findByToken(jwt.getJti())
+                .switchIfEmpty(Single.error(new InvalidTokenException("The token is invalid", "Token with JTI [" + jwt.getJti() + "] not found in the database", jwt)))
+                .map(accessToken -> {
+                    if (accessToken.getExpireAt().before(new Date())) {
+                        throw new InvalidTokenException("The token expired", "Token with JTI [" + jwt.getJti() + "] is expired", jwt);
+                    }
+                    return jwt;
+                });
+    }
 }
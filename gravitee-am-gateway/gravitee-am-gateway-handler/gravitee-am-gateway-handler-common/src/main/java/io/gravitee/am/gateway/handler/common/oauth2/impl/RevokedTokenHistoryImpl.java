@@ -0,0 +1,130 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.common.oauth2.impl;
+
+import io.gravitee.am.common.event.TokenEvent;
+import io.gravitee.am.common.event.Type;
+import io.gravitee.am.gateway.handler.common.oauth2.RevokedTokenHistory;
+import io.gravitee.am.model.ReferenceType;
+import io.gravitee.am.model.common.event.Payload;
+import io.gravitee.am.model.oidc.Client;
+import io.gravitee.am.repository.management.api.ApplicationRepository;
+import io.gravitee.am.repository.management.api.EventRepository;
+import io.reactivex.Flowable;
+import io.reactivex.Single;
+import io.reactivex.schedulers.Schedulers;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The whole history is read on the first request : the token events created during the longest access token validity
+ * of all the applications. The next requests only read the events created since the previous read, the domains
+ * deployed after the gateway startup may have missed them.
+ *
+ * @author GraviteeSource Team
+ */
+public class RevokedTokenHistoryImpl implements RevokedTokenHistory {
+
+    private static final Logger logger = LoggerFactory.getLogger(RevokedTokenHistoryImpl.class);
+    // the domains deployed at once share the same read of the event log
+    static final long REFRESH_DELAY = TimeUnit.SECONDS.toMillis(1);
+
+    @Lazy
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Lazy
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    // domain -> payloads of the token events, guarded by this
+    private Map<String, List<Payload>> revocations;
+
+    private long readUntil;
+
+    private volatile long maxTokenValidity = TimeUnit.SECONDS.toMillis(Client.DEFAULT_ACCESS_TOKEN_VALIDITY_SECONDS);
+
+    @Override
+    public Flowable<Payload> findByDomain(String domain) {
+        return Single.fromCallable(() -> revocations(domain))
+                .flattenAsFlowable(payloads -> payloads)
+                .subscribeOn(Schedulers.io());
+    }
+
+    @Override
+    public long maxTokenValidity() {
+        return maxTokenValidity;
+    }
+
+    private synchronized List<Payload> revocations(String domain) {
+        final long now = System.currentTimeMillis();
+        if (revocations == null) {
+            logger.info("Loading the revoked tokens history");
+            final long validity = applicationRepository.findAll()
+                    .map(application -> TimeUnit.SECONDS.toMillis(application.toClient().getAccessTokenValiditySeconds()))
+                    .reduce(maxTokenValidity, Math::max)
+                    .blockingGet();
+            final Map<String, List<Payload>> history = new HashMap<>();
+            read(history, now - validity, now);
+            maxTokenValidity = validity;
+            revocations = history;
+            readUntil = now;
+        } else if (now - readUntil > REFRESH_DELAY) {
+            read(revocations, readUntil, now);
+            readUntil = now;
+            purge(now);
+        }
+        final List<Payload> payloads = revocations.get(domain);
+        return payloads == null ? Collections.emptyList() : new ArrayList<>(payloads);
+    }
+
+    private void read(Map<String, List<Payload>> history, long from, long to) {
+        eventRepository.findByTimeFrame(from, to)
+                .filter(event -> event.getType() == Type.TOKEN
+                        && event.getPayload() != null
+                        && event.getPayload().getAction() != null
+                        && event.getPayload().getReferenceType() == ReferenceType.DOMAIN)
+                .blockingForEach(event -> history
+                        .computeIfAbsent(event.getPayload().getReferenceId(), key -> new ArrayList<>())
+                        .add(event.getPayload()));
+    }
+
+    private void purge(long now) {
+        final long subjectThreshold = now - maxTokenValidity;
+        revocations.values().forEach(payloads -> payloads.removeIf(payload -> isOutdated(payload, now, subjectThreshold)));
+        revocations.values().removeIf(List::isEmpty);
+    }
+
+    private static boolean isOutdated(Payload payload, long now, long subjectThreshold) {
+        if (TokenEvent.actionOf(payload.getAction()) == TokenEvent.REVOKE) {
+            // the revoked token is expired
+            Object expireAt = payload.get(TokenEvent.EXPIRE_AT);
+            return !(expireAt instanceof Number) || ((Number) expireAt).longValue() <= now;
+        }
+        // the tokens issued before the revocation are expired
+        Object revokedAt = payload.get(TokenEvent.REVOKED_AT);
+        return !(revokedAt instanceof Number) || ((Number) revokedAt).longValue() < subjectThreshold;
+    }
+}
@@ -0,0 +1,237 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.common.oauth2.impl;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import io.gravitee.am.common.event.Action;
+import io.gravitee.am.common.event.EventManager;
+import io.gravitee.am.common.event.TokenEvent;
+import io.gravitee.am.common.event.Type;
+import io.gravitee.am.common.jwt.JWT;
+import io.gravitee.am.gateway.handler.common.client.ClientManager;
+import io.gravitee.am.gateway.handler.common.oauth2.RevokedTokenHistory;
+import io.gravitee.am.gateway.handler.common.oauth2.RevokedTokenManager;
+import io.gravitee.am.model.Domain;
+import io.gravitee.am.model.ReferenceType;
+import io.gravitee.am.model.common.event.Payload;
+import io.gravitee.am.model.oidc.Client;
+import io.gravitee.am.repository.management.api.EventRepository;
+import io.gravitee.common.event.Event;
+import io.gravitee.common.event.EventListener;
+import io.gravitee.common.service.AbstractService;
+import io.reactivex.Completable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Revoked tokens are grouped into partitions by expiration hour : once the hour is over, every token of the partition
+ * is expired (and rejected by the JWT validation) so the whole partition can be dropped.
+ *
+ * Each partition holds a Bloom filter to answer quickly for the (very common) non revoked tokens and the exact list
+ * of the revoked JTIs to rule out false positives.
+ *
+ * Subject revocations are kept as long as a token issued before them may still be valid, that is the maximum access
+ * token validity of the domain applications.
+ *
+ * @author GraviteeSource Team
+ */
+public class RevokedTokenManagerImpl extends AbstractService implements RevokedTokenManager, EventListener<TokenEvent, Payload>, InitializingBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(RevokedTokenManagerImpl.class);
+    static final long PARTITION_DURATION = TimeUnit.HOURS.toMillis(1);
+
+    @Value("${oauth2.revocation.bloomFilter.expectedInsertions:10000}")
+    private int expectedInsertions;
+
+    @Value("${oauth2.revocation.bloomFilter.fpp:0.01}")
+    private double fpp;
+
+    @Autowired
+    private Domain domain;
+
+    @Autowired
+    private EventManager eventManager;
+
+    @Autowired
+    private ClientManager clientManager;
+
+    @Lazy
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private RevokedTokenHistory revokedTokenHistory;
+
+    private final ConcurrentNavigableMap<Long, Partition> partitions = new ConcurrentSkipListMap<>();
+
+    private final ConcurrentMap<String, Long> revokedSubjects = new ConcurrentHashMap<>();
+
+    // only grows, the tokens issued before an application update keep their validity
+    private final AtomicLong maxTokenValidity = new AtomicLong(TimeUnit.SECONDS.toMillis(Client.DEFAULT_ACCESS_TOKEN_VALIDITY_SECONDS));
+
+    @Override
+    public void afterPropertiesSet() {
+        logger.info("Initializing revoked tokens for domain {}", domain.getName());
+        // the event log is read once for all the domains deployed together
+        revokedTokenHistory.findByDomain(domain.getId())
+                .subscribe(
+                        payload -> apply(TokenEvent.actionOf(payload.getAction()), payload),
+                        error -> logger.error("An error has occurred when loading revoked tokens for domain {}", domain.getName(), error));
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+
+        logger.info("Register event listener for token events for domain {}", domain.getName());
+        eventManager.subscribeForEvents(this, TokenEvent.class, domain.getId());
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+
+        logger.info("Dispose event listener for token events for domain {}", domain.getName());
+        eventManager.unsubscribeForEvents(this, TokenEvent.class, domain.getId());
+    }
+
+    @Override
+    public void onEvent(Event<TokenEvent, Payload> event) {
+        if (isDomainEvent(event.content())) {
+            apply(event.type(), event.content());
+        }
+    }
+
+    @Override
+    public boolean isRevoked(JWT jwt) {
+        if (jwt.getSub() != null && !revokedSubjects.isEmpty()) {
+            // all the tokens of the subject, or only the ones issued to the token client (aud)
+            if (isRevokedSince(jwt, revokedSubjects.get(jwt.getSub()))
+                    || (jwt.getAud() != null && isRevokedSince(jwt, revokedSubjects.get(TokenEvent.subjectKey(jwt.getSub(), jwt.getAud()))))) {
+                return true;
+            }
+        }
+        Partition partition = partitions.get(partitionOf(TimeUnit.SECONDS.toMillis(jwt.getExp())));
+        return partition != null && partition.contains(jwt.getJti());
+    }
+
+    @Override
+    public Completable revoke(String jti, Date expireAt) {
+        Payload payload = new Payload(jti, ReferenceType.DOMAIN, domain.getId(), Action.DELETE);
+        payload.put(TokenEvent.EXPIRE_AT, expireAt.getTime());
+        return publish(TokenEvent.REVOKE, payload);
+    }
+
+    private Completable publish(TokenEvent type, Payload payload) {
+        // apply the revocation immediately on this gateway, other gateways will get it through the events synchronization
+        apply(type, payload);
+
+        io.gravitee.am.model.common.event.Event event = new io.gravitee.am.model.common.event.Event(Type.TOKEN, new Payload(payload));
+        event.setCreatedAt(new Date());
+        event.setUpdatedAt(event.getCreatedAt());
+        return eventRepository.create(event).ignoreElement();
+    }
+
+    private void apply(TokenEvent type, Payload payload) {
+        if (type == null) {
+            return;
+        }
+        final long now = System.currentTimeMillis();
+        switch (type) {
+            case REVOKE:
+                Object expireAt = payload.get(TokenEvent.EXPIRE_AT);
+                if (payload.getId() != null && expireAt instanceof Number && ((Number) expireAt).longValue() > now) {
+                    partitions
+                            .computeIfAbsent(partitionOf(((Number) expireAt).longValue()), key -> new Partition(expectedInsertions, fpp))
+                            .add(payload.getId());
+                }
+                break;
+            case REVOKE_SUBJECT:
+                Object revokedAt = payload.get(TokenEvent.REVOKED_AT);
+                if (payload.getId() != null && revokedAt instanceof Number) {
+                    revokedSubjects.merge(payload.getId(), ((Number) revokedAt).longValue(), Math::max);
+                }
+                break;
+        }
+        purge(now);
+    }
+
+    private void purge(long now) {
+        // partitions before the current one only contain expired tokens
+        partitions.headMap(partitionOf(now)).clear();
+        final long subjectThreshold = now - maxTokenValidity();
+        revokedSubjects.values().removeIf(revokedAt -> revokedAt < subjectThreshold);
+    }
+
+    private long maxTokenValidity() {
+        final long validity = clientManager.entities().stream()
+                .filter(client -> domain.getId().equals(client.getDomain()))
+                .mapToLong(client -> TimeUnit.SECONDS.toMillis(client.getAccessTokenValiditySeconds()))
+                .max()
+                .orElse(0L);
+        // the applications may not be loaded by the client manager yet
+        return maxTokenValidity.accumulateAndGet(Math.max(validity, revokedTokenHistory.maxTokenValidity()), Math::max);
+    }
+
+    private boolean isDomainEvent(Payload payload) {
+        return payload != null
+                && payload.getReferenceType() == ReferenceType.DOMAIN
+                && domain.getId().equals(payload.getReferenceId());
+    }
+
+    private static boolean isRevokedSince(JWT jwt, Long revokedAt) {
+        // iat is expressed in seconds, tokens issued during the same second than the revocation are considered as revoked
+        return revokedAt != null && TimeUnit.SECONDS.toMillis(jwt.getIat()) <= revokedAt;
+    }
+
+    private static long partitionOf(long expireAt) {
+        return expireAt / PARTITION_DURATION;
+    }
+
+    private static class Partition {
+
+        private final BloomFilter<CharSequence> filter;
+        private final Set<String> tokens = ConcurrentHashMap.newKeySet();
+
+        Partition(int expectedInsertions, double fpp) {
+            this.filter = BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), expectedInsertions, fpp);
+        }
+
+        void add(String jti) {
+            tokens.add(jti);
+            filter.put(jti);
+        }
+
+        boolean contains(String jti) {
+            return jti != null && filter.mightContain(jti) && tokens.contains(jti);
+        }
+    }
+}
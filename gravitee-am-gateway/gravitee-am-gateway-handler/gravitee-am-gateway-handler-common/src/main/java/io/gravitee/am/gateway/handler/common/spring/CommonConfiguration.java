@@ -40,7 +40,9 @@ import io.gravitee.am.gateway.handler.common.flow.impl.FlowManagerImpl;
 import io.gravitee.am.gateway.handler.common.jwt.JWTService;
 import io.gravitee.am.gateway.handler.common.jwt.impl.JWTServiceImpl;
 import io.gravitee.am.gateway.handler.common.oauth2.IntrospectionTokenService;
+import io.gravitee.am.gateway.handler.common.oauth2.RevokedTokenManager;
 import io.gravitee.am.gateway.handler.common.oauth2.impl.IntrospectionTokenServiceImpl;
+import io.gravitee.am.gateway.handler.common.oauth2.impl.RevokedTokenManagerImpl;
 import io.gravitee.am.gateway.handler.common.spring.web.WebConfiguration;
 import io.gravitee.am.gateway.handler.common.user.UserService;
 import io.gravitee.am.gateway.handler.common.user.impl.UserServiceImpl;
@@ -52,15 +54,9 @@ import io.gravitee.am.gateway.handler.context.ExecutionContextFactory;
 import io.gravitee.am.gateway.handler.context.TemplateVariableProviderFactory;
 import io.gravitee.am.gateway.handler.context.spring.ContextConfiguration;
 import io.gravitee.am.gateway.policy.spring.PolicyConfiguration;
-import io.vertx.ext.web.client.WebClientOptions;
-import io.vertx.reactivex.core.Vertx;
-import io.vertx.reactivex.ext.web.client.WebClient;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
-import org.springframework.core.env.Environment;
 
 /**
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
@@ -70,23 +66,6 @@ import org.springframework.core.env.Environment;
 @Import({WebConfiguration.class, FreemarkerConfiguration.class, PolicyConfiguration.class, ContextConfiguration.class})
 public class CommonConfiguration {
 
-    @Autowired
-    private Environment environment;
-
-    @Autowired
-    private Vertx vertx;
-
-    @Bean
-    @Qualifier("oidcWebClient")
-    public WebClient webClient() {
-        WebClientOptions options = new WebClientOptions()
-                .setConnectTimeout(Integer.valueOf(environment.getProperty("oidc.http.connectionTimeout", "10")) * 1000)
-                .setMaxPoolSize(Integer.valueOf(environment.getProperty("oidc.http.pool.maxTotalConnection", "200")))
-                .setTrustAll(Boolean.valueOf(environment.getProperty("oidc.http.client.trustAll", "true")));
-
-        return WebClient.create(vertx,options);
-    }
-
     @Bean
     public IdentityProviderManager identityProviderManager() {
         return new IdentityProviderManagerImpl();
@@ -167,6 +146,11 @@ public class CommonConfiguration {
         return new IntrospectionTokenServiceImpl();
     }
 
+    @Bean
+    public RevokedTokenManager revokedTokenManager() {
+        return new RevokedTokenManagerImpl();
+    }
+
     @Bean
     public UserService userService() {
         return new UserServiceImpl();
@@ -0,0 +1,114 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.common.alert;
+
+import io.gravitee.alert.api.event.Event;
+import io.gravitee.plugin.alert.AlertEventProducer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class AlertEventDispatcherTest {
+
+    @InjectMocks
+    private AlertEventDispatcher eventDispatcher = new AlertEventDispatcher();
+
+    @Mock
+    private AlertEventProducer eventProducer;
+
+    private final CountDownLatch producerLatch = new CountDownLatch(1);
+
+    @Before
+    public void setUp() {
+        ReflectionTestUtils.setField(eventDispatcher, "queueCapacity", 10);
+        ReflectionTestUtils.setField(eventDispatcher, "batchSize", 5);
+        ReflectionTestUtils.setField(eventDispatcher, "samplingThreshold", 0.5);
+        ReflectionTestUtils.setField(eventDispatcher, "samplingRate", 2);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        producerLatch.countDown();
+        eventDispatcher.stop();
+    }
+
+    @Test
+    public void shouldSendEvents() throws Exception {
+        eventDispatcher.start();
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(eventDispatcher.dispatch(Event.now().type("AUTHENTICATION").build()));
+        }
+
+        verify(eventProducer, timeout(5000).times(3)).send(any(Event.class));
+    }
+
+    @Test
+    public void shouldNotBlock_slowProducer() throws Exception {
+        CountDownLatch sending = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            sending.countDown();
+            producerLatch.await(10, TimeUnit.SECONDS);
+            return null;
+        }).when(eventProducer).send(any(Event.class));
+        eventDispatcher.start();
+
+        // the dispatcher thread is stuck on the first event
+        assertTrue(eventDispatcher.dispatch(Event.now().type("AUTHENTICATION").build()));
+        assertTrue(sending.await(5, TimeUnit.SECONDS));
+
+        // queued up to the sampling threshold
+        for (int i = 0; i < 5; i++) {
+            assertTrue(eventDispatcher.dispatch(Event.now().type("AUTHENTICATION").build()));
+        }
+
+        // then one event out of two until the queue is full, then dropped
+        int accepted = 0;
+        for (int i = 0; i < 20; i++) {
+            if (eventDispatcher.dispatch(Event.now().type("AUTHENTICATION").build())) {
+                accepted++;
+            }
+        }
+        assertEquals(5, accepted);
+
+        // every queued event is sent once the producer is back
+        producerLatch.countDown();
+        verify(eventProducer, timeout(5000).times(11)).send(any(Event.class));
+    }
+
+    @Test
+    public void shouldNotDispatch_notStarted() {
+        assertEquals(false, eventDispatcher.dispatch(Event.now().type("AUTHENTICATION").build()));
+        verify(eventProducer, never()).send(any(Event.class));
+    }
+}
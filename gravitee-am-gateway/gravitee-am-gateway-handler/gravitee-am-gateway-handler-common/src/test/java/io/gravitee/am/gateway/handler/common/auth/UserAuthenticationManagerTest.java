@@ -31,6 +31,8 @@ import io.gravitee.am.common.exception.authentication.AccountDisabledException;
 import io.gravitee.am.common.exception.authentication.BadCredentialsException;
 import io.gravitee.am.common.exception.authentication.InternalAuthenticationServiceException;
 import io.gravitee.common.event.EventManager;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
 import io.reactivex.observers.TestObserver;
@@ -44,6 +46,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.*;
@@ -193,6 +196,50 @@ public class UserAuthenticationManagerTest {
         verify(eventManager, times(1)).publishEvent(eq(AuthenticationEvent.FAILURE), any());
     }
 
+    @Test
+    public void shouldRecordIdentityProviderAuthentication() {
+        final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Metrics.globalRegistry.add(registry);
+        try {
+            Client client = new Client();
+            client.setClientId("client-id");
+            client.setIdentities(Collections.singleton("idp-1"));
+
+            when(domain.getId()).thenReturn("idp-domain");
+            IdentityProvider identityProvider = new IdentityProvider();
+            identityProvider.setId("idp-1");
+            when(identityProviderManager.getIdentityProvider("idp-1")).thenReturn(identityProvider);
+            when(userAuthenticationService.connect(any(), eq(true))).thenReturn(Single.just(new User()));
+            when(identityProviderManager.get("idp-1")).thenReturn(Maybe.just(new AuthenticationProvider() {
+                @Override
+                public Maybe<io.gravitee.am.identityprovider.api.User> loadUserByUsername(Authentication authentication) {
+                    if ("unknown".equals(authentication.getPrincipal())) {
+                        return Maybe.error(new BadCredentialsException());
+                    }
+                    if ("broken".equals(authentication.getPrincipal())) {
+                        return Maybe.error(new IllegalStateException());
+                    }
+                    return Maybe.just(new DefaultUser("username"));
+                }
+
+                @Override
+                public Maybe<io.gravitee.am.identityprovider.api.User> loadUserByUsername(String username) {
+                    return Maybe.empty();
+                }
+            }));
+
+            userAuthenticationManager.authenticate(client, authentication("username")).test().assertComplete();
+            userAuthenticationManager.authenticate(client, authentication("unknown")).test().assertError(BadCredentialsException.class);
+            userAuthenticationManager.authenticate(client, authentication("broken")).test().assertError(InternalAuthenticationServiceException.class);
+
+            assertEquals(1, idpTimerCount(registry, "success"));
+            assertEquals(1, idpTimerCount(registry, "failure"));
+            assertEquals(1, idpTimerCount(registry, "error"));
+        } finally {
+            Metrics.globalRegistry.remove(registry);
+        }
+    }
+
     @Test
     public void shouldAuthenticateUser_multipleIdentityProvider() {
         Client client = new Client();
@@ -326,4 +373,31 @@ public class UserAuthenticationManagerTest {
         observer.assertError(InternalAuthenticationServiceException.class);
         verifyZeroInteractions(userAuthenticationService);
     }
+
+    private static long idpTimerCount(SimpleMeterRegistry registry, String result) {
+        return registry.get("am_idp_authentication")
+                .tag("domain", "idp-domain")
+                .tag("idp", "idp-1")
+                .tag("result", result)
+                .timer().count();
+    }
+
+    private static Authentication authentication(String principal) {
+        return new Authentication() {
+            @Override
+            public Object getCredentials() {
+                return null;
+            }
+
+            @Override
+            public Object getPrincipal() {
+                return principal;
+            }
+
+            @Override
+            public AuthenticationContext getContext() {
+                return null;
+            }
+        };
+    }
 }
@@ -0,0 +1,73 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.common.client;
+
+import io.gravitee.am.gateway.handler.common.client.impl.ClientManagerImpl;
+import io.gravitee.am.model.oidc.Client;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class ClientManagerTest {
+
+    private final ClientManager clientManager = new ClientManagerImpl();
+
+    @Test
+    public void shouldGetByClientId() {
+        clientManager.deploy(client("app-1", "domain-1", "client-1", false));
+        clientManager.deploy(client("app-2", "domain-2", "client-1", false));
+
+        assertEquals("app-1", clientManager.getByClientId("domain-1", "client-1").getId());
+        assertEquals("app-2", clientManager.getByClientId("domain-2", "client-1").getId());
+        assertNull(clientManager.getByClientId("domain-1", "client-2"));
+    }
+
+    @Test
+    public void shouldNotGetTemplateByClientId() {
+        clientManager.deploy(client("app-1", "domain-1", "client-1", true));
+
+        assertNull(clientManager.getByClientId("domain-1", "client-1"));
+    }
+
+    @Test
+    public void shouldGetByClientId_clientIdUpdated() {
+        clientManager.deploy(client("app-1", "domain-1", "client-1", false));
+        clientManager.deploy(client("app-1", "domain-1", "client-2", false));
+
+        assertNull(clientManager.getByClientId("domain-1", "client-1"));
+        assertEquals("app-1", clientManager.getByClientId("domain-1", "client-2").getId());
+    }
+
+    @Test
+    public void shouldNotGetByClientId_undeployed() {
+        clientManager.deploy(client("app-1", "domain-1", "client-1", false));
+        clientManager.undeploy("app-1");
+
+        assertNull(clientManager.getByClientId("domain-1", "client-1"));
+    }
+
+    private static Client client(String id, String domain, String clientId, boolean template) {
+        Client client = new Client();
+        client.setId(id);
+        client.setDomain(domain);
+        client.setClientId(clientId);
+        client.setTemplate(template);
+        return client;
+    }
+}
@@ -31,6 +31,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 /**
@@ -102,6 +103,12 @@ public class ClientSyncServiceTest {
     public void setUp() {
         when(domain.getId()).thenReturn("domainA");
         when(clientManager.entities()).thenReturn(clientSet);
+        when(clientManager.getByClientId(anyString(), anyString())).thenAnswer(invocation -> clientSet.stream()
+                .filter(client -> !client.isTemplate()
+                        && client.getDomain().equals(invocation.getArgument(0))
+                        && client.getClientId().equals(invocation.getArgument(1)))
+                .findFirst()
+                .orElse(null));
     }
 
     @Test
@@ -0,0 +1,90 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.common.email;
+
+import io.gravitee.am.gateway.handler.common.email.impl.EmailServiceImpl;
+import io.gravitee.am.model.Domain;
+import io.gravitee.am.model.Template;
+import io.gravitee.am.model.User;
+import io.gravitee.am.service.AuditService;
+import io.gravitee.am.service.reporter.builder.EmailAuditBuilder;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class EmailServiceTest {
+
+    @InjectMocks
+    private EmailService emailService = new EmailServiceImpl();
+
+    @Mock
+    private EmailManager emailManager;
+
+    @Mock
+    private io.gravitee.am.service.EmailService sender;
+
+    @Mock
+    private Domain domain;
+
+    @Mock
+    private AuditService auditService;
+
+    @Before
+    public void setUp() {
+        ReflectionTestUtils.setField(emailService, "enabled", true);
+        ReflectionTestUtils.setField(emailService, "blockedAccountSubject", "Account has been locked");
+        ReflectionTestUtils.setField(emailService, "blockedAccountExpireAfter", 86400);
+    }
+
+    @Test
+    public void shouldPrepareEmailOffCallerThread_auditError() throws Exception {
+        final Thread caller = Thread.currentThread();
+        final CountDownLatch latch = new CountDownLatch(1);
+        final Thread[] preparedOn = new Thread[1];
+        when(emailManager.getEmail(anyString(), anyString(), anyInt())).thenAnswer(invocation -> {
+            preparedOn[0] = Thread.currentThread();
+            throw new IllegalStateException("template not available");
+        });
+        doAnswer(invocation -> {
+            latch.countDown();
+            return null;
+        }).when(auditService).report(any(EmailAuditBuilder.class));
+
+        User user = new User();
+        user.setId("user-id");
+        emailService.send(Template.BLOCKED_ACCOUNT, user, null);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertNotNull(preparedOn[0]);
+        assertNotEquals(caller, preparedOn[0]);
+        verify(sender, never()).sendAsync(any());
+    }
+}
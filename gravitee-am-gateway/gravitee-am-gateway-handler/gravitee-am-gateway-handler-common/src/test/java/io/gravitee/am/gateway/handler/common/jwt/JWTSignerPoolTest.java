@@ -0,0 +1,75 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.common.jwt;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class JWTSignerPoolTest {
+
+    private JWTSignerPool signerPool;
+
+    private SimpleMeterRegistry registry;
+
+    @Before
+    public void setUp() throws Exception {
+        registry = new SimpleMeterRegistry();
+        Metrics.globalRegistry.add(registry);
+
+        signerPool = new JWTSignerPool();
+        ReflectionTestUtils.setField(signerPool, "enabled", true);
+        ReflectionTestUtils.setField(signerPool, "poolSize", 1);
+        ReflectionTestUtils.setField(signerPool, "queueCapacity", 10);
+        signerPool.start();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        signerPool.stop();
+        Metrics.globalRegistry.remove(registry);
+    }
+
+    @Test
+    public void shouldRegisterGaugesOnFirstUse() {
+        assertNull(registry.find("am_jwt_signer_queue_size").gauge());
+
+        assertNotNull(signerPool.scheduler());
+        assertNotNull(registry.find("am_jwt_signer_queue_size").gauge());
+        assertNotNull(registry.find("am_jwt_signer_active_threads").gauge());
+
+        // registered only once
+        signerPool.scheduler();
+        assertEquals(1, registry.find("am_jwt_signer_queue_size").gauges().size());
+    }
+
+    @Test
+    public void shouldRemoveGaugesOnStop() throws Exception {
+        signerPool.scheduler();
+        signerPool.stop();
+
+        assertNull(signerPool.scheduler());
+        assertNull(Metrics.globalRegistry.find("am_jwt_signer_queue_size").gauge());
+    }
+}
@@ -0,0 +1,78 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.common.metrics;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class TimeToFirstTokenRecorderTest {
+
+    private TimeToFirstTokenRecorder recorder;
+
+    private SimpleMeterRegistry registry;
+
+    @Before
+    public void setUp() {
+        registry = new SimpleMeterRegistry();
+        Metrics.globalRegistry.add(registry);
+        recorder = new TimeToFirstTokenRecorder();
+    }
+
+    @After
+    public void tearDown() {
+        Metrics.globalRegistry.remove(registry);
+    }
+
+    @Test
+    public void shouldRecordFirstTokenOnce() {
+        recorder.deployed("domain-once");
+        recorder.tokenIssued("domain-once");
+        recorder.tokenIssued("domain-once");
+
+        Timer timer = registry.find("am_domain_time_to_first_token").tag("domain", "domain-once").timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    public void shouldNotRecordAgainAfterRedeploy() {
+        recorder.deployed("domain-redeploy");
+        recorder.tokenIssued("domain-redeploy");
+
+        recorder.deployed("domain-redeploy");
+        recorder.tokenIssued("domain-redeploy");
+
+        Timer timer = registry.find("am_domain_time_to_first_token").tag("domain", "domain-redeploy").timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    public void shouldNotRecordUndeployedDomain() {
+        recorder.tokenIssued("domain-unknown");
+
+        assertNull(registry.find("am_domain_time_to_first_token").tag("domain", "domain-unknown").timer());
+    }
+}
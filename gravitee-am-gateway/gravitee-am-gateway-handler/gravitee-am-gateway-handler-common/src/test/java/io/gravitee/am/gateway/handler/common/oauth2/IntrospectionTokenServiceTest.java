@@ -58,6 +58,9 @@ public class IntrospectionTokenServiceTest {
     @Mock
     private AccessTokenRepository accessTokenRepository;
 
+    @Mock
+    private RevokedTokenManager revokedTokenManager;
+
     @Test
     public void shouldIntrospect_validToken_offline_verification() {
         final String token = "token";
@@ -191,4 +194,49 @@ public class IntrospectionTokenServiceTest {
         testObserver.assertError(InvalidTokenException.class);
         verify(accessTokenRepository, times(1)).findByToken(jwt.getJti());
     }
+
+    @Test
+    public void shouldIntrospect_validToken_stateless() {
+        final String token = "token";
+        final JWT jwt = new JWT();
+        jwt.setJti("jti");
+        jwt.setDomain("domain");
+        jwt.setAud("client");
+        jwt.setIat(Instant.now().minus(1, ChronoUnit.DAYS).getEpochSecond());
+        final Client client = new Client();
+        client.setClientId("client-id");
+        client.setStatelessAccessToken(true);
+
+        when(jwtService.decode(token)).thenReturn(Single.just(jwt));
+        when(clientService.findByDomainAndClientId(jwt.getDomain(), jwt.getAud())).thenReturn(Maybe.just(client));
+        when(jwtService.decodeAndVerify(token, client)).thenReturn(Single.just(jwt));
+        when(revokedTokenManager.isRevoked(jwt)).thenReturn(false);
+
+        TestObserver testObserver = introspectionTokenService.introspect(token, false).test();
+        testObserver.assertComplete();
+        testObserver.assertNoErrors();
+        verify(accessTokenRepository, never()).findByToken(jwt.getJti());
+    }
+
+    @Test
+    public void shouldIntrospect_invalidValidToken_stateless_token_revoked() {
+        final String token = "token";
+        final JWT jwt = new JWT();
+        jwt.setJti("jti");
+        jwt.setDomain("domain");
+        jwt.setAud("client");
+        jwt.setIat(Instant.now().getEpochSecond());
+        final Client client = new Client();
+        client.setClientId("client-id");
+        client.setStatelessAccessToken(true);
+
+        when(jwtService.decode(token)).thenReturn(Single.just(jwt));
+        when(clientService.findByDomainAndClientId(jwt.getDomain(), jwt.getAud())).thenReturn(Maybe.just(client));
+        when(jwtService.decodeAndVerify(token, client)).thenReturn(Single.just(jwt));
+        when(revokedTokenManager.isRevoked(jwt)).thenReturn(true);
+
+        TestObserver testObserver = introspectionTokenService.introspect(token, true).test();
+        testObserver.assertError(InvalidTokenException.class);
+        verify(accessTokenRepository, never()).findByToken(jwt.getJti());
+    }
 }
@@ -0,0 +1,116 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.common.oauth2;
+
+import io.gravitee.am.common.event.Action;
+import io.gravitee.am.common.event.TokenEvent;
+import io.gravitee.am.common.event.Type;
+import io.gravitee.am.gateway.handler.common.oauth2.impl.RevokedTokenHistoryImpl;
+import io.gravitee.am.model.Application;
+import io.gravitee.am.model.ReferenceType;
+import io.gravitee.am.model.application.ApplicationOAuthSettings;
+import io.gravitee.am.model.application.ApplicationSettings;
+import io.gravitee.am.model.common.event.Event;
+import io.gravitee.am.model.common.event.Payload;
+import io.gravitee.am.repository.management.api.ApplicationRepository;
+import io.gravitee.am.repository.management.api.EventRepository;
+import io.reactivex.Flowable;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class RevokedTokenHistoryTest {
+
+    @InjectMocks
+    private RevokedTokenHistory revokedTokenHistory = new RevokedTokenHistoryImpl();
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Test
+    public void shouldReadEventLogOnce_severalDomains() {
+        when(applicationRepository.findAll()).thenReturn(Flowable.just(application(TimeUnit.DAYS.toSeconds(1))));
+        when(eventRepository.findByTimeFrame(anyLong(), anyLong())).thenReturn(Flowable.just(
+                tokenEvent("jti-a", "domain-a"),
+                tokenEvent("jti-b", "domain-b"),
+                new Event(Type.APPLICATION, new Payload("app", ReferenceType.DOMAIN, "domain-a", Action.UPDATE))));
+
+        revokedTokenHistory.findByDomain("domain-a").test().awaitDone(5, TimeUnit.SECONDS)
+                .assertValue(payload -> "jti-a".equals(payload.getId()));
+        revokedTokenHistory.findByDomain("domain-b").test().awaitDone(5, TimeUnit.SECONDS)
+                .assertValue(payload -> "jti-b".equals(payload.getId()));
+        revokedTokenHistory.findByDomain("domain-c").test().awaitDone(5, TimeUnit.SECONDS)
+                .assertNoValues();
+
+        verify(applicationRepository, times(1)).findAll();
+        verify(eventRepository, times(1)).findByTimeFrame(anyLong(), anyLong());
+        assertEquals(TimeUnit.DAYS.toMillis(1), revokedTokenHistory.maxTokenValidity());
+    }
+
+    @Test
+    public void shouldReadEventsCreatedSince_domainDeployedLater() {
+        when(applicationRepository.findAll()).thenReturn(Flowable.empty());
+        when(eventRepository.findByTimeFrame(anyLong(), anyLong())).thenReturn(
+                Flowable.just(tokenEvent("jti-a", "domain-a")),
+                Flowable.just(tokenEvent("jti-b", "domain-a")));
+
+        revokedTokenHistory.findByDomain("domain-a").test().awaitDone(5, TimeUnit.SECONDS).assertValueCount(1);
+        // the history has been read more than a second ago
+        ReflectionTestUtils.setField(revokedTokenHistory, "readUntil", System.currentTimeMillis() - TimeUnit.SECONDS.toMillis(10));
+        revokedTokenHistory.findByDomain("domain-a").test().awaitDone(5, TimeUnit.SECONDS).assertValueCount(2);
+
+        ArgumentCaptor<Long> from = ArgumentCaptor.forClass(Long.class);
+        verify(eventRepository, times(2)).findByTimeFrame(from.capture(), anyLong());
+        assertTrue(from.getAllValues().get(1) > from.getAllValues().get(0));
+        verify(applicationRepository, times(1)).findAll();
+    }
+
+    private static Event tokenEvent(String jti, String domain) {
+        Payload payload = new Payload(jti, ReferenceType.DOMAIN, domain, Action.DELETE);
+        payload.put(TokenEvent.EXPIRE_AT, Instant.now().plus(1, ChronoUnit.HOURS).toEpochMilli());
+        return new Event(Type.TOKEN, payload);
+    }
+
+    private static Application application(long accessTokenValiditySeconds) {
+        ApplicationOAuthSettings oAuthSettings = new ApplicationOAuthSettings();
+        oAuthSettings.setAccessTokenValiditySeconds((int) accessTokenValiditySeconds);
+        ApplicationSettings settings = new ApplicationSettings();
+        settings.setOauth(oAuthSettings);
+        Application application = new Application();
+        application.setSettings(settings);
+        return application;
+    }
+}
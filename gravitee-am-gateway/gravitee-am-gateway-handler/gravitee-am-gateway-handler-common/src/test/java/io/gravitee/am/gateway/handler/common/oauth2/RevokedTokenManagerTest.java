@@ -0,0 +1,222 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.common.oauth2;
+
+import io.gravitee.am.common.event.Action;
+import io.gravitee.am.common.event.TokenEvent;
+import io.gravitee.am.common.event.Type;
+import io.gravitee.am.common.jwt.JWT;
+import io.gravitee.am.gateway.handler.common.client.ClientManager;
+import io.gravitee.am.gateway.handler.common.oauth2.impl.RevokedTokenManagerImpl;
+import io.gravitee.am.model.Domain;
+import io.gravitee.am.model.ReferenceType;
+import io.gravitee.am.model.common.event.Event;
+import io.gravitee.am.model.common.event.Payload;
+import io.gravitee.am.model.oidc.Client;
+import io.gravitee.am.repository.management.api.EventRepository;
+import io.gravitee.common.event.impl.SimpleEvent;
+import io.reactivex.Flowable;
+import io.reactivex.Single;
+import io.reactivex.observers.TestObserver;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class RevokedTokenManagerTest {
+
+    private static final String DOMAIN_ID = "domain-id";
+
+    @InjectMocks
+    private RevokedTokenManagerImpl revokedTokenManager = new RevokedTokenManagerImpl();
+
+    @Mock
+    private Domain domain;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private ClientManager clientManager;
+
+    @Mock
+    private RevokedTokenHistory revokedTokenHistory;
+
+    @Before
+    public void setUp() {
+        ReflectionTestUtils.setField(revokedTokenManager, "expectedInsertions", 100);
+        ReflectionTestUtils.setField(revokedTokenManager, "fpp", 0.01d);
+        when(domain.getId()).thenReturn(DOMAIN_ID);
+    }
+
+    @Test
+    public void shouldRevokeToken() {
+        when(eventRepository.create(any())).thenAnswer(invocation -> Single.just(invocation.getArgument(0)));
+        JWT jwt = jwt("jti", "user");
+
+        TestObserver testObserver = revokedTokenManager.revoke(jwt.getJti(), new Date(jwt.getExp() * 1000)).test();
+        testObserver.assertComplete();
+
+        assertTrue(revokedTokenManager.isRevoked(jwt));
+        assertFalse(revokedTokenManager.isRevoked(jwt("other-jti", "user")));
+        verify(eventRepository).create(argThat(event -> event.getType() == Type.TOKEN
+                && "jti".equals(event.getPayload().getId())
+                && Action.DELETE == event.getPayload().getAction()));
+    }
+
+    @Test
+    public void shouldLoadRevocationsFromHistory() {
+        JWT jwt = jwt("jti", "user");
+        Payload payload = new Payload("jti", ReferenceType.DOMAIN, DOMAIN_ID, Action.DELETE);
+        payload.put(TokenEvent.EXPIRE_AT, jwt.getExp() * 1000);
+        when(revokedTokenHistory.findByDomain(DOMAIN_ID)).thenReturn(Flowable.just(payload, subjectRevocation("other-user", null, Instant.now())));
+
+        revokedTokenManager.afterPropertiesSet();
+
+        assertTrue(revokedTokenManager.isRevoked(jwt));
+        assertTrue(revokedTokenManager.isRevoked(jwt("other-jti", "other-user")));
+        verifyZeroInteractions(eventRepository);
+    }
+
+    @Test
+    public void shouldKeepSubjectRevocation_historyTokenValidity() {
+        // the applications of the domain are not loaded yet by the client manager
+        when(revokedTokenHistory.maxTokenValidity()).thenReturn(TimeUnit.DAYS.toMillis(2));
+
+        JWT jwt = jwt("jti", "user");
+        jwt.setIat(Instant.now().minus(30, ChronoUnit.HOURS).getEpochSecond());
+        revokedTokenManager.onEvent(new SimpleEvent<>(TokenEvent.REVOKE_SUBJECT, subjectRevocation("user", null, Instant.now().minus(25, ChronoUnit.HOURS))));
+
+        assertTrue(revokedTokenManager.isRevoked(jwt));
+    }
+
+    @Test
+    public void shouldRevokeSubject() {
+        revokedTokenManager.onEvent(new SimpleEvent<>(TokenEvent.REVOKE_SUBJECT, subjectRevocation("user", null, Instant.now())));
+
+        assertTrue(revokedTokenManager.isRevoked(jwt("jti", "user")));
+        assertFalse(revokedTokenManager.isRevoked(jwt("jti", "other-user")));
+    }
+
+    @Test
+    public void shouldRevokeSubject_client() {
+        revokedTokenManager.onEvent(new SimpleEvent<>(TokenEvent.REVOKE_SUBJECT, subjectRevocation("user", "client-a", Instant.now())));
+
+        JWT jwt = jwt("jti", "user");
+        jwt.setAud("client-a");
+        assertTrue(revokedTokenManager.isRevoked(jwt));
+        jwt.setAud("client-b");
+        assertFalse(revokedTokenManager.isRevoked(jwt));
+    }
+
+    @Test
+    public void shouldKeepSubjectRevocation_longTokenValidity() {
+        Client client = new Client();
+        client.setDomain(DOMAIN_ID);
+        client.setAccessTokenValiditySeconds((int) TimeUnit.DAYS.toSeconds(2));
+        when(clientManager.entities()).thenReturn(Collections.singletonList(client));
+
+        // revoked more than a day ago, the token issued before is still valid
+        JWT jwt = jwt("jti", "user");
+        jwt.setIat(Instant.now().minus(30, ChronoUnit.HOURS).getEpochSecond());
+        revokedTokenManager.onEvent(new SimpleEvent<>(TokenEvent.REVOKE_SUBJECT, subjectRevocation("user", null, Instant.now().minus(25, ChronoUnit.HOURS))));
+
+        assertTrue(revokedTokenManager.isRevoked(jwt));
+    }
+
+    @Test
+    public void shouldDropSubjectRevocation_tokensExpired() {
+        // the default access token validity is 2 hours, the tokens issued before the revocation are expired
+        JWT jwt = jwt("jti", "user");
+        jwt.setIat(Instant.now().minus(4, ChronoUnit.HOURS).getEpochSecond());
+        revokedTokenManager.onEvent(new SimpleEvent<>(TokenEvent.REVOKE_SUBJECT, subjectRevocation("user", null, Instant.now().minus(3, ChronoUnit.HOURS))));
+
+        assertFalse(revokedTokenManager.isRevoked(jwt));
+    }
+
+    @Test
+    public void shouldNotRevokeSubject_tokenIssuedAfterRevocation() {
+        revokedTokenManager.onEvent(new SimpleEvent<>(TokenEvent.REVOKE_SUBJECT, subjectRevocation("user", null, Instant.now().minus(5, ChronoUnit.MINUTES))));
+
+        assertFalse(revokedTokenManager.isRevoked(jwt("jti", "user")));
+    }
+
+    @Test
+    public void shouldApplySynchronizedRevocation() {
+        JWT jwt = jwt("jti", "user");
+        Payload payload = new Payload("jti", ReferenceType.DOMAIN, DOMAIN_ID, Action.DELETE);
+        payload.put(TokenEvent.EXPIRE_AT, jwt.getExp() * 1000);
+        revokedTokenManager.onEvent(new SimpleEvent<>(TokenEvent.REVOKE, payload));
+
+        assertTrue(revokedTokenManager.isRevoked(jwt));
+        verify(eventRepository, never()).create(any());
+    }
+
+    @Test
+    public void shouldIgnoreRevocation_otherDomain() {
+        JWT jwt = jwt("jti", "user");
+        Payload payload = new Payload("jti", ReferenceType.DOMAIN, "other-domain", Action.DELETE);
+        payload.put(TokenEvent.EXPIRE_AT, jwt.getExp() * 1000);
+        revokedTokenManager.onEvent(new SimpleEvent<>(TokenEvent.REVOKE, payload));
+
+        assertFalse(revokedTokenManager.isRevoked(jwt));
+    }
+
+    @Test
+    public void shouldIgnoreRevocation_expiredToken() {
+        JWT jwt = jwt("jti", "user");
+        jwt.setExp(Instant.now().minus(1, ChronoUnit.MINUTES).getEpochSecond());
+        Payload payload = new Payload("jti", ReferenceType.DOMAIN, DOMAIN_ID, Action.DELETE);
+        payload.put(TokenEvent.EXPIRE_AT, jwt.getExp() * 1000);
+        revokedTokenManager.onEvent(new SimpleEvent<>(TokenEvent.REVOKE, payload));
+
+        assertFalse(revokedTokenManager.isRevoked(jwt));
+    }
+
+    private static Payload subjectRevocation(String subject, String client, Instant revokedAt) {
+        Payload payload = new Payload(TokenEvent.subjectKey(subject, client), ReferenceType.DOMAIN, DOMAIN_ID, Action.BULK_DELETE);
+        payload.put(TokenEvent.REVOKED_AT, revokedAt.toEpochMilli());
+        return payload;
+    }
+
+    private static JWT jwt(String jti, String subject) {
+        JWT jwt = new JWT();
+        jwt.setJti(jti);
+        jwt.setSub(subject);
+        jwt.setIat(Instant.now().minus(1, ChronoUnit.MINUTES).getEpochSecond());
+        jwt.setExp(Instant.now().plus(1, ChronoUnit.HOURS).getEpochSecond());
+        return jwt;
+    }
+}
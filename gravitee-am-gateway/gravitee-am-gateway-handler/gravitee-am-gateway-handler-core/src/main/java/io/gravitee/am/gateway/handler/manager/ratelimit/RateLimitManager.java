@@ -0,0 +1,39 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.manager.ratelimit;
+
+import io.gravitee.common.service.Service;
+
+/**
+ * @author GraviteeSource Team
+ */
+public interface RateLimitManager extends Service {
+
+    /**
+     * @return <code>true</code> if at least one rate limit rule applies to the domain
+     */
+    boolean isEnabled();
+
+    /**
+     * Try to accept a request, the request is counted by all the matching rules.
+     *
+     * @param path the request path, relative to the domain path
+     * @param clientId the client id of the request (may be <code>null</code>)
+     * @param remoteAddress the remote address of the request (may be <code>null</code>)
+     * @return 0 if the request is accepted, otherwise the delay in milliseconds before a request is accepted again
+     */
+    long tryAcquire(String path, String clientId, String remoteAddress);
+}
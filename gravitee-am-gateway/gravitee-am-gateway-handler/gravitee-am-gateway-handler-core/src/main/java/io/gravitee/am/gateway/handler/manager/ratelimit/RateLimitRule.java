@@ -0,0 +1,121 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.manager.ratelimit;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A rate limit applied to the requests of a security domain, configured in the <code>http.rateLimit.rules</code>
+ * section of the gateway configuration.
+ *
+ * Requests are counted by {@link Key}, <code>limit</code> requests are allowed per <code>period</code> with bursts of
+ * up to <code>burst</code> requests.
+ *
+ * @author GraviteeSource Team
+ */
+public class RateLimitRule {
+
+    public enum Key {
+        /**
+         * all the requests of the domain share the same limit
+         */
+        DOMAIN,
+        /**
+         * requests are limited by client and IP, requests without client are limited by IP
+         */
+        CLIENT,
+        /**
+         * requests are limited by remote address
+         */
+        IP
+    }
+
+    private final String path;
+    private final Key key;
+    private final long limit;
+    private final long period;
+    private final long burst;
+    private final Set<String> domains;
+    private final Set<String> clients;
+
+    /**
+     * @param path the endpoint path prefix, relative to the domain path (<code>null</code> for all the endpoints)
+     * @param key the key used to count the requests
+     * @param limit the number of requests allowed per period
+     * @param period the period in milliseconds
+     * @param burst the maximum number of requests allowed at once
+     * @param domains the ids or hrids of the domains the rule applies to (empty for all the domains)
+     * @param clients the client ids the rule applies to (empty for all the clients)
+     */
+    public RateLimitRule(String path, Key key, long limit, long period, long burst, Set<String> domains, Set<String> clients) {
+        if (limit <= 0 || period <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("Rate limit rule requires a positive limit, period and burst");
+        }
+        this.path = path;
+        this.key = key;
+        this.limit = limit;
+        this.period = period;
+        this.burst = burst;
+        this.domains = domains == null ? Collections.emptySet() : domains;
+        this.clients = clients == null ? Collections.emptySet() : clients;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public Key getKey() {
+        return key;
+    }
+
+    public long getLimit() {
+        return limit;
+    }
+
+    public long getPeriod() {
+        return period;
+    }
+
+    public long getBurst() {
+        return burst;
+    }
+
+    public Set<String> getDomains() {
+        return domains;
+    }
+
+    public Set<String> getClients() {
+        return clients;
+    }
+
+    /**
+     * @return the time in nanoseconds between two requests at the sustained rate
+     */
+    public long getInterval() {
+        return TimeUnit.MILLISECONDS.toNanos(period) / limit;
+    }
+
+    public boolean appliesTo(String domainId, String domainHrid) {
+        return domains.isEmpty() || domains.contains(domainId) || (domainHrid != null && domains.contains(domainHrid));
+    }
+
+    public boolean matches(String requestPath, String clientId) {
+        return (path == null || requestPath.startsWith(path))
+                && (clients.isEmpty() || (clientId != null && clients.contains(clientId)));
+    }
+}
@@ -0,0 +1,40 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.manager.ratelimit;
+
+import io.reactivex.Single;
+
+/**
+ * Shared counters used to synchronize the rate limits of the gateway nodes.
+ *
+ * Without store, each node applies the rate limits to the requests it receives. With a store, each node periodically
+ * adds the requests it has accepted to the shared counters and consumes the requests accepted by the other nodes from
+ * its own limits.
+ *
+ * @author GraviteeSource Team
+ */
+public interface RateLimitStore {
+
+    /**
+     * Add the given number of requests to a counter.
+     *
+     * @param key the counter key, unique across the gateway nodes
+     * @param delta the number of requests to add
+     * @param ttl the time in milliseconds after which an unchanged counter may be reset
+     * @return the value of the counter after the update
+     */
+    Single<Long> incrementAndGet(String key, long delta, long ttl);
+}
@@ -0,0 +1,54 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.manager.ratelimit.impl;
+
+import io.gravitee.am.gateway.handler.manager.ratelimit.RateLimitStore;
+import io.reactivex.Single;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@link RateLimitStore} keeping the counters in memory, shared by the domains of a single gateway node (or by
+ * several gateways started in the same JVM, e.g. for testing purpose).
+ *
+ * @author GraviteeSource Team
+ */
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private final ConcurrentMap<String, Counter> counters = new ConcurrentHashMap<>();
+
+    @Override
+    public Single<Long> incrementAndGet(String key, long delta, long ttl) {
+        return Single.fromCallable(() -> {
+            final long now = System.currentTimeMillis();
+            return counters.compute(key, (k, counter) -> {
+                final long value = counter == null || counter.expireAt <= now ? delta : counter.value + delta;
+                return new Counter(value, now + ttl);
+            }).value;
+        });
+    }
+
+    private static final class Counter {
+        private final long value;
+        private final long expireAt;
+
+        private Counter(long value, long expireAt) {
+            this.value = value;
+            this.expireAt = expireAt;
+        }
+    }
+}
@@ -0,0 +1,258 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.manager.ratelimit.impl;
+
+import io.gravitee.am.gateway.handler.common.client.ClientManager;
+import io.gravitee.am.gateway.handler.manager.ratelimit.RateLimitManager;
+import io.gravitee.am.gateway.handler.manager.ratelimit.RateLimitRule;
+import io.gravitee.am.gateway.handler.manager.ratelimit.RateLimitStore;
+import io.gravitee.am.model.Domain;
+import io.gravitee.common.service.AbstractService;
+import io.vertx.reactivex.core.Vertx;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Apply the rate limit rules of the gateway configuration to the requests of the domain.
+ *
+ * Each rule keeps one {@link TokenBucket} per key (the domain, a client or an IP), buckets back to full are discarded
+ * periodically. When a {@link RateLimitStore} is registered into the gateway context, the buckets are synchronized
+ * with the other nodes at the same time.
+ *
+ * Requests are counted before the client is authenticated: a client bucket is shared by the requests of a client from
+ * the same IP only, so that a caller can't drain the bucket of another one by sending its client_id. Only the clients of
+ * the domain get their own bucket, the requests of unknown clients are limited by IP. The number of buckets per rule is
+ * bounded: once reached, the requests of new keys share the bucket of their IP or of the domain.
+ *
+ * @author GraviteeSource Team
+ */
+public class RateLimitManagerImpl extends AbstractService implements RateLimitManager, InitializingBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RateLimitManagerImpl.class);
+    private static final String PROPERTY_PREFIX = "http.rateLimit.";
+    private static final String DOMAIN_KEY = "domain";
+    private static final String CLIENT_KEY_PREFIX = "client:";
+    private static final String IP_KEY_PREFIX = "ip:";
+    private static final String SEPARATOR = ",";
+
+    @Autowired
+    private Domain domain;
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private Vertx vertx;
+
+    @Autowired
+    private ClientManager clientManager;
+
+    @Autowired(required = false)
+    private RateLimitStore rateLimitStore;
+
+    private List<RateLimitRule> rules = Collections.emptyList();
+
+    private List<ConcurrentMap<String, TokenBucket>> buckets = Collections.emptyList();
+
+    private long syncInterval;
+
+    private int maxKeys;
+
+    private long timerId = -1;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!environment.getProperty(PROPERTY_PREFIX + "enabled", Boolean.class, false)) {
+            return;
+        }
+
+        rules = loadRules().stream()
+                .filter(rule -> rule.appliesTo(domain.getId(), domain.getHrid()))
+                .collect(Collectors.toList());
+        buckets = rules.stream()
+                .map(rule -> new ConcurrentHashMap<String, TokenBucket>())
+                .collect(Collectors.toList());
+        syncInterval = environment.getProperty(PROPERTY_PREFIX + "sync.interval", Long.class, 1000L);
+        maxKeys = environment.getProperty(PROPERTY_PREFIX + "maxKeys", Integer.class, 10000);
+        LOGGER.info("{} rate limit rules loaded for domain {}", rules.size(), domain.getName());
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        if (isEnabled()) {
+            timerId = vertx.setPeriodic(syncInterval, id -> refresh());
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        if (timerId != -1) {
+            vertx.cancelTimer(timerId);
+            timerId = -1;
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return !rules.isEmpty();
+    }
+
+    @Override
+    public long tryAcquire(String path, String clientId, String remoteAddress) {
+        final long now = System.nanoTime();
+        final String ipKey = remoteAddress == null ? null : IP_KEY_PREFIX + remoteAddress;
+        String clientKey = null;
+        long wait = 0;
+        for (int i = 0; i < rules.size(); i++) {
+            final RateLimitRule rule = rules.get(i);
+            if (!rule.matches(path, clientId)) {
+                continue;
+            }
+            if (rule.getKey() == RateLimitRule.Key.CLIENT && clientKey == null) {
+                // looked up once, only for the requests a client rule applies to
+                clientKey = clientKey(clientId, ipKey);
+            }
+            final String key = key(rule, clientKey, ipKey);
+            if (key == null) {
+                continue;
+            }
+            wait = Math.max(wait, bucket(buckets.get(i), rule, key, ipKey, now).tryConsume(now));
+        }
+        // round up, a client retrying after the delay must be accepted
+        return wait == 0 ? 0 : (wait + TimeUnit.MILLISECONDS.toNanos(1) - 1) / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private String clientKey(String clientId, String ipKey) {
+        // the client id is not authenticated yet, only the clients of the domain are worth a bucket
+        if (clientId == null || clientManager.getByClientId(domain.getId(), clientId) == null) {
+            return ipKey;
+        }
+        return ipKey == null ? CLIENT_KEY_PREFIX + clientId : CLIENT_KEY_PREFIX + clientId + ":" + ipKey;
+    }
+
+    private TokenBucket bucket(ConcurrentMap<String, TokenBucket> ruleBuckets, RateLimitRule rule, String key, String ipKey, long now) {
+        TokenBucket bucket = ruleBuckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        String bucketKey = key;
+        if (ruleBuckets.size() >= maxKeys) {
+            // too many keys (e.g. spoofed addresses or random client ids), fall back to a coarser bucket
+            bucket = ipKey == null || ipKey.equals(key) ? null : ruleBuckets.get(ipKey);
+            if (bucket != null) {
+                return bucket;
+            }
+            LOGGER.debug("Too many rate limit keys for domain {}, {} is limited with the domain", domain.getName(), key);
+            bucketKey = DOMAIN_KEY;
+        }
+        return ruleBuckets.computeIfAbsent(bucketKey, k -> new TokenBucket(rule.getInterval(), rule.getBurst(), now));
+    }
+
+    /**
+     * Synchronize the buckets with the other nodes and discard the idle ones.
+     */
+    void refresh() {
+        final long now = System.nanoTime();
+        for (int i = 0; i < rules.size(); i++) {
+            final RateLimitRule rule = rules.get(i);
+            final int ruleIndex = i;
+            buckets.get(i).forEach((key, bucket) -> {
+                if (rateLimitStore == null) {
+                    // nothing to synchronize
+                    bucket.drainPending();
+                }
+                if (bucket.isIdle(now)) {
+                    buckets.get(ruleIndex).remove(key, bucket);
+                } else if (rateLimitStore != null) {
+                    synchronize(ruleIndex, rule, key, bucket);
+                }
+            });
+        }
+    }
+
+    private void synchronize(int ruleIndex, RateLimitRule rule, String key, TokenBucket bucket) {
+        final long delta = bucket.drainPending();
+        final long ttl = 2 * Math.max(rule.getPeriod(), syncInterval);
+        rateLimitStore.incrementAndGet(domain.getId() + ":" + ruleIndex + ":" + key, delta, ttl)
+                .subscribe(
+                        total -> {
+                            final long syncedTotal = bucket.getSyncedTotal();
+                            bucket.setSyncedTotal(total);
+                            // the requests accepted by the other nodes since the last synchronization
+                            final long others = total - syncedTotal - delta;
+                            if (syncedTotal >= 0 && others > 0) {
+                                bucket.consume(others, System.nanoTime());
+                            }
+                        },
+                        error -> {
+                            LOGGER.debug("Unable to synchronize rate limit {} of domain {}", key, domain.getName(), error);
+                            bucket.restorePending(delta);
+                        });
+    }
+
+    private static String key(RateLimitRule rule, String clientKey, String ipKey) {
+        switch (rule.getKey()) {
+            case DOMAIN:
+                return DOMAIN_KEY;
+            case CLIENT:
+                return clientKey;
+            default:
+                return ipKey;
+        }
+    }
+
+    private List<RateLimitRule> loadRules() {
+        final List<RateLimitRule> rules = new ArrayList<>();
+        int idx = 0;
+        String prefix = PROPERTY_PREFIX + "rules[" + idx + "].";
+        while (environment.containsProperty(prefix + "limit")) {
+            try {
+                final long limit = environment.getProperty(prefix + "limit", Long.class);
+                final long period = TimeUnit.SECONDS.toMillis(environment.getProperty(prefix + "period", Long.class, 1L));
+                rules.add(new RateLimitRule(
+                        environment.getProperty(prefix + "path"),
+                        RateLimitRule.Key.valueOf(environment.getProperty(prefix + "key", "ip").toUpperCase()),
+                        limit,
+                        period,
+                        environment.getProperty(prefix + "burst", Long.class, limit),
+                        readValues(prefix + "domains"),
+                        readValues(prefix + "clients")));
+            } catch (IllegalArgumentException e) {
+                LOGGER.error("Invalid rate limit rule {}, the rule is ignored", idx, e);
+            }
+            prefix = PROPERTY_PREFIX + "rules[" + (++idx) + "].";
+        }
+        return rules;
+    }
+
+    private Set<String> readValues(String property) {
+        return Arrays.stream(environment.getProperty(property, "").split(SEPARATOR))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .collect(Collectors.toSet());
+    }
+}
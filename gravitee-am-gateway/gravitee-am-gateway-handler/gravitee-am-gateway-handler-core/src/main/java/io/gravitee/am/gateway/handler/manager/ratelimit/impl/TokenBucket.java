@@ -0,0 +1,118 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.manager.ratelimit.impl;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket, implemented as a generic cell rate algorithm: instead of counting the tokens, the bucket
+ * keeps the theoretical arrival time of the next request at the sustained rate. A request is accepted if this time is
+ * not further in the future than the burst allows, and moves it forward by one interval.
+ *
+ * The whole state is a single <code>long</code> updated by compare-and-set, no allocation on the request path.
+ *
+ * @author GraviteeSource Team
+ */
+public class TokenBucket {
+
+    private final long interval;
+    private final long tolerance;
+    private final AtomicLong theoreticalArrivalTime;
+    // requests accepted since the last synchronization with the other nodes
+    private final AtomicLong pending = new AtomicLong();
+    private volatile long syncedTotal = -1;
+
+    /**
+     * @param interval the time in nanoseconds between two requests at the sustained rate
+     * @param burst the maximum number of requests accepted at once
+     * @param now the current time in nanoseconds
+     */
+    public TokenBucket(long interval, long burst, long now) {
+        this.interval = interval;
+        this.tolerance = interval * (burst - 1);
+        this.theoreticalArrivalTime = new AtomicLong(now);
+    }
+
+    /**
+     * @param now the current time in nanoseconds
+     * @return 0 if a token has been consumed, otherwise the delay in nanoseconds before the next token
+     */
+    public long tryConsume(long now) {
+        for (;;) {
+            final long current = theoreticalArrivalTime.get();
+            final long arrivalTime = Math.max(current, now);
+            final long wait = arrivalTime - tolerance - now;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrivalTime.compareAndSet(current, arrivalTime + interval)) {
+                pending.incrementAndGet();
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Consume the tokens of the requests accepted by other nodes. The bucket is at most emptied.
+     *
+     * @param tokens the number of tokens to consume
+     * @param now the current time in nanoseconds
+     */
+    public void consume(long tokens, long now) {
+        final long max = now + tolerance + interval;
+        theoreticalArrivalTime.updateAndGet(current -> {
+            final long arrivalTime = Math.max(current, now);
+            if (arrivalTime >= max) {
+                return arrivalTime;
+            }
+            // compare the number of tokens first to avoid any overflow
+            return tokens >= (max - arrivalTime) / interval ? max : arrivalTime + tokens * interval;
+        });
+    }
+
+    /**
+     * @return the number of requests accepted since the last call
+     */
+    public long drainPending() {
+        return pending.getAndSet(0);
+    }
+
+    /**
+     * Give back the requests which have not been synchronized.
+     */
+    public void restorePending(long count) {
+        pending.addAndGet(count);
+    }
+
+    /**
+     * @return the value of the shared counter at the last synchronization, -1 if the bucket has never been synchronized
+     */
+    public long getSyncedTotal() {
+        return syncedTotal;
+    }
+
+    public void setSyncedTotal(long syncedTotal) {
+        this.syncedTotal = syncedTotal;
+    }
+
+    /**
+     * @param now the current time in nanoseconds
+     * @return <code>true</code> if the bucket is full and all its requests have been synchronized, it can be discarded
+     */
+    public boolean isIdle(long now) {
+        return theoreticalArrivalTime.get() <= now && pending.get() == 0;
+    }
+}
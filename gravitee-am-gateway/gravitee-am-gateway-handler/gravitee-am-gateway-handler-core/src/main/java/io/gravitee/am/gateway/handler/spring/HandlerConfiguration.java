@@ -24,14 +24,14 @@ import io.gravitee.am.gateway.handler.manager.factor.FactorManager;
 import io.gravitee.am.gateway.handler.manager.factor.impl.FactorManagerImpl;
 import io.gravitee.am.gateway.handler.manager.form.FormManager;
 import io.gravitee.am.gateway.handler.manager.form.impl.FormManagerImpl;
+import io.gravitee.am.gateway.handler.manager.ratelimit.RateLimitManager;
+import io.gravitee.am.gateway.handler.manager.ratelimit.impl.RateLimitManagerImpl;
 import io.gravitee.am.gateway.handler.manager.resource.ResourceManager;
 import io.gravitee.am.gateway.handler.manager.resource.impl.ResourceManagerImpl;
 import io.gravitee.am.gateway.handler.root.spring.RootConfiguration;
 import io.gravitee.am.gateway.handler.vertx.auth.webauthn.WebAuthnFactory;
 import io.gravitee.am.gateway.handler.vertx.auth.webauthn.store.RepositoryCredentialStore;
 import io.gravitee.am.gateway.handler.vertx.spring.SecurityDomainRouterConfiguration;
-import io.gravitee.am.service.authentication.crypto.password.PasswordEncoder;
-import io.gravitee.am.service.authentication.crypto.password.bcrypt.BCryptPasswordEncoder;
 import io.vertx.reactivex.core.Vertx;
 import io.vertx.reactivex.ext.web.Router;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -54,11 +54,6 @@ public class HandlerConfiguration {
     @Autowired
     private Vertx vertx;
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
-
     @Bean
     public FormManager pageManager() {
         return new FormManagerImpl();
@@ -99,4 +94,9 @@ public class HandlerConfiguration {
         return new BotDetectionManagerImpl();
     }
 
+    @Bean
+    public RateLimitManager rateLimitManager() {
+        return new RateLimitManagerImpl();
+    }
+
 }
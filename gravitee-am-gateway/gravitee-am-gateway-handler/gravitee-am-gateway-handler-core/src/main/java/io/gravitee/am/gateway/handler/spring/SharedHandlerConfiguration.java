@@ -0,0 +1,76 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.spring;
+
+import io.gravitee.am.gateway.handler.common.audit.AuditReporterLauncher;
+import io.gravitee.am.gateway.handler.common.metrics.TimeToFirstTokenRecorder;
+import io.gravitee.am.service.authentication.crypto.password.PasswordEncoder;
+import io.gravitee.am.service.authentication.crypto.password.bcrypt.BCryptPasswordEncoder;
+import io.gravitee.am.service.spring.ServiceConfiguration;
+import io.vertx.ext.web.client.WebClientOptions;
+import io.vertx.reactivex.core.Vertx;
+import io.vertx.reactivex.ext.web.client.WebClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.env.Environment;
+
+/**
+ * Stateless beans used by the handlers of all the security domains.
+ *
+ * They are registered once into the gateway context and resolved from there by each domain context
+ * (see {@link HandlerConfiguration}), which only holds the beans bound to its domain.
+ *
+ * @author GraviteeSource Team
+ */
+@Configuration
+@Import(ServiceConfiguration.class)
+public class SharedHandlerConfiguration {
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private Vertx vertx;
+
+    @Bean
+    @Qualifier("oidcWebClient")
+    public WebClient webClient() {
+        WebClientOptions options = new WebClientOptions()
+                .setConnectTimeout(Integer.valueOf(environment.getProperty("oidc.http.connectionTimeout", "10")) * 1000)
+                .setMaxPoolSize(Integer.valueOf(environment.getProperty("oidc.http.pool.maxTotalConnection", "200")))
+                .setTrustAll(Boolean.valueOf(environment.getProperty("oidc.http.client.trustAll", "true")));
+
+        return WebClient.create(vertx,options);
+    }
+
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        return new BCryptPasswordEncoder();
+    }
+
+    @Bean
+    public AuditReporterLauncher auditReporterLauncher() {
+        return new AuditReporterLauncher();
+    }
+
+    @Bean
+    public TimeToFirstTokenRecorder timeToFirstTokenRecorder() {
+        return new TimeToFirstTokenRecorder();
+    }
+}
@@ -25,10 +25,13 @@ import io.gravitee.am.gateway.handler.common.certificate.CertificateManager;
 import io.gravitee.am.gateway.handler.common.client.ClientManager;
 import io.gravitee.am.gateway.handler.common.email.EmailManager;
 import io.gravitee.am.gateway.handler.common.flow.FlowManager;
+import io.gravitee.am.gateway.handler.common.oauth2.RevokedTokenManager;
 import io.gravitee.am.gateway.handler.manager.domain.CrossDomainManager;
 import io.gravitee.am.gateway.handler.manager.factor.FactorManager;
 import io.gravitee.am.gateway.handler.manager.form.FormManager;
+import io.gravitee.am.gateway.handler.manager.ratelimit.RateLimitManager;
 import io.gravitee.am.gateway.handler.root.RootProvider;
+import io.gravitee.am.gateway.handler.vertx.handler.RateLimitHandler;
 import io.gravitee.am.model.Domain;
 import io.gravitee.am.plugins.protocol.core.ProtocolPluginManager;
 import io.gravitee.common.component.LifecycleComponent;
@@ -76,10 +79,20 @@ public class VertxSecurityDomainHandler extends AbstractService<VertxSecurityDom
     @Autowired
     private Environment environment;
 
+    @Autowired
+    private RateLimitManager rateLimitManager;
+
     @Override
     protected void doStart() throws Exception {
         super.doStart();
 
+        // rate limits are checked before any other route of the domain
+        if (rateLimitManager.isEnabled()) {
+            router.route().handler(new RateLimitHandler(rateLimitManager,
+                    environment.getProperty("http.domain.errors[429].message", "Too many requests, please retry later."),
+                    environment.getProperty("http.rateLimit.trustedProxies", Integer.class, 0)));
+        }
+
         // start root protocol with required routes (login page, register, ...)
         startRootProtocol();
 
@@ -163,6 +176,8 @@ public class VertxSecurityDomainHandler extends AbstractService<VertxSecurityDom
         components.add(CrossDomainManager.class);
         components.add(ClientManager.class);
         components.add(CertificateManager.class);
+        components.add(RevokedTokenManager.class);
+        components.add(RateLimitManager.class);
 
         components.forEach(componentClass -> {
             LifecycleComponent lifecyclecomponent = applicationContext.getBean(componentClass);
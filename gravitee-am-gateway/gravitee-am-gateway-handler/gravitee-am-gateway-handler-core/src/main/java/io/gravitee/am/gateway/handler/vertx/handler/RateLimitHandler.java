@@ -0,0 +1,121 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.vertx.handler;
+
+import io.gravitee.am.common.oauth2.Parameters;
+import io.gravitee.am.gateway.handler.manager.ratelimit.RateLimitManager;
+import io.gravitee.common.http.HttpHeaders;
+import io.gravitee.common.http.HttpStatusCode;
+import io.vertx.core.Handler;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.reactivex.core.http.HttpServerRequest;
+import io.vertx.reactivex.core.http.HttpServerResponse;
+import io.vertx.reactivex.ext.web.RoutingContext;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reject the requests exceeding the rate limits of the domain with a <code>429 Too Many Requests</code> response
+ * (RFC 6585), the <code>Retry-After</code> header gives the number of seconds to wait before retrying.
+ *
+ * The handler runs before the body is read, the client of a request is taken from the <code>client_id</code> query
+ * parameter or from the HTTP Basic authentication of the client.
+ *
+ * The remote address of a request is the address of the connection. When the gateway runs behind reverse proxies, the
+ * number of trusted proxies gives the <code>X-Forwarded-For</code> entry to use, counted from the right: the entries on
+ * the left are set by the client and can't be trusted.
+ *
+ * @author GraviteeSource Team
+ */
+public class RateLimitHandler implements Handler<RoutingContext> {
+
+    private static final String BASIC_AUTH_PREFIX = "Basic ";
+
+    private final RateLimitManager rateLimitManager;
+    private final String message;
+    private final int trustedProxies;
+
+    public RateLimitHandler(RateLimitManager rateLimitManager, String message, int trustedProxies) {
+        this.rateLimitManager = rateLimitManager;
+        this.message = message;
+        this.trustedProxies = trustedProxies;
+    }
+
+    @Override
+    public void handle(RoutingContext context) {
+        final HttpServerRequest request = context.request();
+        final long retryAfter = rateLimitManager.tryAcquire(path(context), clientId(request), remoteAddress(request));
+        if (retryAfter == 0) {
+            context.next();
+            return;
+        }
+
+        final HttpServerResponse response = context.response();
+        response.setStatusCode(HttpStatusCode.TOO_MANY_REQUESTS_429);
+        response.headers().set(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, (retryAfter + TimeUnit.SECONDS.toMillis(1) - 1) / TimeUnit.SECONDS.toMillis(1))));
+        response.headers().set(HttpHeaders.CONTENT_TYPE, "text/plain");
+        response.headers().set(HttpHeaders.CACHE_CONTROL, "no-store");
+        response.end(message);
+    }
+
+    private static String path(RoutingContext context) {
+        final String path = context.normalisedPath();
+        final String mountPoint = context.mountPoint();
+        if (mountPoint == null || !path.startsWith(mountPoint)) {
+            return path;
+        }
+        final int length = mountPoint.endsWith("/") ? mountPoint.length() - 1 : mountPoint.length();
+        return path.substring(length);
+    }
+
+    private String remoteAddress(HttpServerRequest request) {
+        final SocketAddress address = request.getDelegate().remoteAddress();
+        final String remoteAddress = address != null ? address.host() : null;
+        if (trustedProxies <= 0) {
+            return remoteAddress;
+        }
+        final String xForwardedFor = request.getHeader(HttpHeaders.X_FORWARDED_FOR);
+        if (xForwardedFor == null) {
+            return remoteAddress;
+        }
+        // each trusted proxy appends the address it has received the request from
+        final String[] hops = xForwardedFor.split(",");
+        return hops.length >= trustedProxies ? hops[hops.length - trustedProxies].trim() : remoteAddress;
+    }
+
+    private static String clientId(HttpServerRequest request) {
+        final String clientId = request.getParam(Parameters.CLIENT_ID);
+        if (clientId != null) {
+            return clientId;
+        }
+        final String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.regionMatches(true, 0, BASIC_AUTH_PREFIX, 0, BASIC_AUTH_PREFIX.length())) {
+            return null;
+        }
+        try {
+            final String credentials = new String(Base64.getDecoder().decode(authorization.substring(BASIC_AUTH_PREFIX.length()).trim()), StandardCharsets.UTF_8);
+            final int idx = credentials.indexOf(':');
+            // client credentials are form-urlencoded (RFC 6749 section 2.3.1)
+            return idx > 0 ? URLDecoder.decode(credentials.substring(0, idx), StandardCharsets.UTF_8.name()) : null;
+        } catch (Exception e) {
+            // invalid credentials are rejected by the client authentication, the request is limited by IP
+            return null;
+        }
+    }
+}
@@ -18,7 +18,6 @@ package io.gravitee.am.gateway.handler.vertx.spring;
 import io.gravitee.am.gateway.handler.common.spring.FreemarkerConfiguration;
 import io.gravitee.am.gateway.handler.vertx.VertxSecurityDomainHandler;
 import io.gravitee.am.gateway.handler.vertx.view.thymeleaf.ThymeleafConfiguration;
-import io.gravitee.am.service.spring.ServiceConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
@@ -30,7 +29,6 @@ import org.springframework.context.annotation.Import;
  */
 @Import({
         ThymeleafConfiguration.class,
-        ServiceConfiguration.class,
         FreemarkerConfiguration.class
 })
 @Configuration
@@ -21,7 +21,6 @@ import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
 import org.thymeleaf.templateresource.ITemplateResource;
 
 import java.util.Map;
-import java.util.regex.Pattern;
 
 /**
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
@@ -31,8 +30,9 @@ public class CustomClassLoaderTemplateResolver extends ClassLoaderTemplateResolv
 
     @Override
     protected ITemplateResource computeTemplateResource(IEngineConfiguration configuration, String ownerTemplate, String template, String resourceName, String characterEncoding, Map<String, Object> templateResolutionAttributes) {
-        if (resourceName.contains(FormManager.TEMPLATE_NAME_SEPARATOR)) {
-            resourceName = resourceName.split(Pattern.quote(FormManager.TEMPLATE_NAME_SEPARATOR))[0] + ".html";
+        final int separatorIndex = resourceName.indexOf(FormManager.TEMPLATE_NAME_SEPARATOR);
+        if (separatorIndex != -1) {
+            resourceName = resourceName.substring(0, separatorIndex) + ".html";
         }
         return super.computeTemplateResource(configuration, ownerTemplate, template, resourceName, characterEncoding, templateResolutionAttributes);
     }
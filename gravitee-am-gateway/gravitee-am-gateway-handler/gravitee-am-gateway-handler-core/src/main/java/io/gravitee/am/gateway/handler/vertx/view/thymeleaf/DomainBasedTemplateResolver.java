@@ -16,16 +16,23 @@
 package io.gravitee.am.gateway.handler.vertx.view.thymeleaf;
 
 import io.gravitee.am.gateway.handler.manager.form.FormManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.thymeleaf.IEngineConfiguration;
 import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.cache.ICache;
+import org.thymeleaf.cache.TemplateCacheKey;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.engine.TemplateModel;
 import org.thymeleaf.templateresolver.AbstractConfigurableTemplateResolver;
 import org.thymeleaf.templateresource.ITemplateResource;
 import org.thymeleaf.templateresource.StringTemplateResource;
 
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -34,39 +41,80 @@ import java.util.regex.Pattern;
  */
 public class DomainBasedTemplateResolver extends AbstractConfigurableTemplateResolver {
 
+    private static final Logger logger = LoggerFactory.getLogger(DomainBasedTemplateResolver.class);
+
     private ConcurrentMap<String, StringTemplateResource> templates = new ConcurrentHashMap<>();
 
     private TemplateEngine templateEngine;
 
     @Override
     protected ITemplateResource computeTemplateResource(IEngineConfiguration configuration, String ownerTemplate, String template, String resourceName, String characterEncoding, Map<String, Object> templateResolutionAttributes) {
-        boolean templateFound = templates.containsKey(resourceName);
-        String[] templateParts = resourceName.split(Pattern.quote(FormManager.TEMPLATE_NAME_SEPARATOR));
+        StringTemplateResource templateResource = templates.get(resourceName);
 
         // template not found for the client, try at domain level
-        if (!templateFound && templateParts.length == 2) {
-            resourceName = templateParts[0];
-            templateFound = templates.containsKey(resourceName);
-        }
-
-        if (templateFound) {
-            return templates.get(resourceName);
+        if (templateResource == null) {
+            final int separatorIndex = resourceName.indexOf(FormManager.TEMPLATE_NAME_SEPARATOR);
+            if (separatorIndex != -1) {
+                templateResource = templates.get(resourceName.substring(0, separatorIndex));
+            }
         }
 
-        return null;
+        return templateResource;
     }
 
     public void addForm(String templateName, String templateContent) {
         templates.put(templateName, new StringTemplateResource(templateContent));
-        templateEngine.getCacheManager().clearAllCaches();
+        evict(templateName);
+        parse(templateName);
     }
 
     public void removeForm(String templateName) {
         templates.remove(templateName);
-        templateEngine.getCacheManager().clearAllCaches();
+        evict(templateName);
     }
 
     public void setTemplateEngine(TemplateEngine templateEngine) {
         this.templateEngine = templateEngine;
+        // parse the forms loaded before the template engine was available
+        templates.keySet().forEach(this::parse);
+    }
+
+    /**
+     * Evict the parsed templates resolved from the given form : the form itself and, for a domain form, the client
+     * templates falling back to it. Other forms and default templates stay in cache.
+     */
+    private void evict(String templateName) {
+        if (templateEngine == null) {
+            return;
+        }
+
+        final ICache<TemplateCacheKey, TemplateModel> templateCache = templateEngine.getCacheManager().getTemplateCache();
+        if (templateCache == null) {
+            return;
+        }
+
+        final String clientTemplatePrefix = templateName + FormManager.TEMPLATE_NAME_SEPARATOR;
+        final Set<String> evictedTemplates = templateCache.keySet()
+                .stream()
+                .map(TemplateCacheKey::getTemplate)
+                .filter(template -> template.equals(templateName) || template.startsWith(clientTemplatePrefix))
+                .collect(Collectors.toSet());
+        evictedTemplates.forEach(templateEngine::clearTemplateCacheFor);
+    }
+
+    /**
+     * Parse the form into the template cache so that the first request rendering it does not have to.
+     * Only the parsing is done, the template is not processed.
+     */
+    private void parse(String templateName) {
+        if (templateEngine == null) {
+            return;
+        }
+
+        try {
+            templateEngine.processThrottled(templateName, new Context());
+        } catch (Exception ex) {
+            logger.warn("Unable to parse template {}", templateName, ex);
+        }
     }
 }
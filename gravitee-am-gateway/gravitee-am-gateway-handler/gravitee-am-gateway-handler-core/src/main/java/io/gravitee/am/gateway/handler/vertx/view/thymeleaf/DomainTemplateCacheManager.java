@@ -0,0 +1,112 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.vertx.view.thymeleaf;
+
+import io.gravitee.am.service.utils.MetricsUtils;
+import io.micrometer.core.instrument.Counter;
+import org.thymeleaf.cache.AbstractCacheManager;
+import org.thymeleaf.cache.ExpressionCacheKey;
+import org.thymeleaf.cache.ICache;
+import org.thymeleaf.cache.ICacheEntryValidityChecker;
+import org.thymeleaf.cache.StandardCacheManager;
+import org.thymeleaf.cache.TemplateCacheKey;
+import org.thymeleaf.engine.TemplateModel;
+
+import java.util.Set;
+
+/**
+ * Thymeleaf cache manager, with the default caches settings, counting the hits and misses of the parsed templates cache of a security domain.
+ *
+ * @author GraviteeSource Team
+ */
+public class DomainTemplateCacheManager extends AbstractCacheManager {
+
+    private final StandardCacheManager standardCacheManager = new StandardCacheManager();
+    private final Counter hits;
+    private final Counter misses;
+
+    public DomainTemplateCacheManager(String domain) {
+        this.hits = counter(domain, "hit");
+        this.misses = counter(domain, "miss");
+    }
+
+    @Override
+    protected ICache<TemplateCacheKey, TemplateModel> initializeTemplateCache() {
+        final ICache<TemplateCacheKey, TemplateModel> templateCache = standardCacheManager.getTemplateCache();
+        return templateCache == null ? null : new MeteredCache<>(templateCache, hits, misses);
+    }
+
+    @Override
+    protected ICache<ExpressionCacheKey, Object> initializeExpressionCache() {
+        return standardCacheManager.getExpressionCache();
+    }
+
+    private static Counter counter(String domain, String result) {
+        return Counter.builder("am_template_cache_gets")
+                .description("Lookups of parsed templates")
+                .tag(MetricsUtils.TAG_DOMAIN, domain)
+                .tag("result", result)
+                .register(MetricsUtils.registry());
+    }
+
+    private static class MeteredCache<K, V> implements ICache<K, V> {
+
+        private final ICache<K, V> delegate;
+        private final Counter hits;
+        private final Counter misses;
+
+        MeteredCache(ICache<K, V> delegate, Counter hits, Counter misses) {
+            this.delegate = delegate;
+            this.hits = hits;
+            this.misses = misses;
+        }
+
+        @Override
+        public void put(K key, V value) {
+            delegate.put(key, value);
+        }
+
+        @Override
+        public V get(K key) {
+            return count(delegate.get(key));
+        }
+
+        @Override
+        public V get(K key, ICacheEntryValidityChecker<? super K, ? super V> validityChecker) {
+            return count(delegate.get(key, validityChecker));
+        }
+
+        @Override
+        public void clear() {
+            delegate.clear();
+        }
+
+        @Override
+        public void clearKey(K key) {
+            delegate.clearKey(key);
+        }
+
+        @Override
+        public Set<K> keySet() {
+            return delegate.keySet();
+        }
+
+        private V count(V value) {
+            (value != null ? hits : misses).increment();
+            return value;
+        }
+    }
+}
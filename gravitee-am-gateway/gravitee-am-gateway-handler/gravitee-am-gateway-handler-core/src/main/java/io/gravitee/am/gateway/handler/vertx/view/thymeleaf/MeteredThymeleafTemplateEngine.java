@@ -0,0 +1,66 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.vertx.view.thymeleaf;
+
+import io.gravitee.am.gateway.handler.manager.form.FormManager;
+import io.gravitee.am.service.utils.MetricsUtils;
+import io.micrometer.core.instrument.Timer;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.web.templ.thymeleaf.impl.ThymeleafTemplateEngineImpl;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Thymeleaf template engine recording the render time of the security domain templates.
+ *
+ * @author GraviteeSource Team
+ */
+public class MeteredThymeleafTemplateEngine extends ThymeleafTemplateEngineImpl {
+
+    private final String domain;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public MeteredThymeleafTemplateEngine(Vertx vertx, String domain) {
+        super(vertx);
+        this.domain = domain;
+    }
+
+    @Override
+    public void render(Map<String, Object> context, String templateFile, Handler<AsyncResult<Buffer>> handler) {
+        final Timer timer = timer(templateFile);
+        final long start = System.nanoTime();
+        super.render(context, templateFile, result -> {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            handler.handle(result);
+        });
+    }
+
+    private Timer timer(String templateFile) {
+        // client templates are tagged with their domain template name to keep the number of meters bounded
+        final int separatorIndex = templateFile.indexOf(FormManager.TEMPLATE_NAME_SEPARATOR);
+        final String template = separatorIndex == -1 ? templateFile : templateFile.substring(0, separatorIndex);
+        return timers.computeIfAbsent(template, key -> Timer.builder("am_template_render")
+                .description("Template render time")
+                .tag(MetricsUtils.TAG_DOMAIN, domain)
+                .tag("template", key)
+                .register(MetricsUtils.registry()));
+    }
+}
@@ -15,6 +15,7 @@
  */
 package io.gravitee.am.gateway.handler.vertx.view.thymeleaf;
 
+import io.gravitee.am.model.Domain;
 import io.vertx.reactivex.core.Vertx;
 import io.vertx.reactivex.ext.web.templ.thymeleaf.ThymeleafTemplateEngine;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -35,16 +36,21 @@ public class ThymeleafConfiguration {
     @Autowired
     private Vertx vertx;
 
+    @Autowired
+    private Domain domain;
+
     @Bean
     public ThymeleafTemplateEngine getTemplateEngine() {
-        ThymeleafTemplateEngine thymeleafTemplateEngine = ThymeleafTemplateEngine.create(vertx);
+        ThymeleafTemplateEngine thymeleafTemplateEngine = ThymeleafTemplateEngine.newInstance(new MeteredThymeleafTemplateEngine(vertx.getDelegate(), domain.getId()));
         TemplateEngine templateEngine = thymeleafTemplateEngine.getDelegate().getThymeleafTemplateEngine();
+        templateEngine.setCacheManager(new DomainTemplateCacheManager(domain.getId()));
 
         // set template resolvers
         DomainBasedTemplateResolver overrideTemplateResolver = (DomainBasedTemplateResolver) overrideTemplateResolver();
-        overrideTemplateResolver.setTemplateEngine(templateEngine);
         templateEngine.setTemplateResolver(overrideTemplateResolver);
         templateEngine.addTemplateResolver(defaultTemplateResolver());
+        // the engine must be fully configured before the forms already loaded are parsed
+        overrideTemplateResolver.setTemplateEngine(templateEngine);
 
         return thymeleafTemplateEngine;
     }
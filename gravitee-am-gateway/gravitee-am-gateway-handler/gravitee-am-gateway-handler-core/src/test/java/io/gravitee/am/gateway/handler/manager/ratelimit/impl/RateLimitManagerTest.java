@@ -0,0 +1,280 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.manager.ratelimit.impl;
+
+import io.gravitee.am.gateway.handler.common.client.ClientManager;
+import io.gravitee.am.gateway.handler.manager.ratelimit.RateLimitStore;
+import io.gravitee.am.model.Domain;
+import io.gravitee.am.model.oidc.Client;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class RateLimitManagerTest {
+
+    private Domain domain;
+
+    private MockEnvironment environment;
+
+    private ClientManager clientManager;
+
+    @Before
+    public void setUp() {
+        clientManager = mock(ClientManager.class);
+        when(clientManager.getByClientId(eq("domain-id"), anyString())).thenAnswer(invocation -> {
+            String clientId = invocation.getArgument(1);
+            return clientId.startsWith("client-") ? new Client() : null;
+        });
+        domain = new Domain();
+        domain.setId("domain-id");
+        domain.setHrid("my-domain");
+        domain.setName("my-domain");
+        environment = new MockEnvironment().withProperty("http.rateLimit.enabled", "true");
+    }
+
+    @Test
+    public void shouldBeDisabled_noRules() {
+        environment.setProperty("http.rateLimit.enabled", "false");
+        environment.setProperty("http.rateLimit.rules[0].limit", "1");
+
+        RateLimitManagerImpl manager = manager(null);
+
+        assertFalse(manager.isEnabled());
+        assertEquals(0, manager.tryAcquire("/login", null, "127.0.0.1"));
+        assertEquals(0, manager.tryAcquire("/login", null, "127.0.0.1"));
+    }
+
+    @Test
+    public void shouldIgnoreRulesOfOtherDomains() {
+        rule(0, "limit", "1");
+        rule(0, "domains", "other-domain, another-domain");
+
+        assertFalse(manager(null).isEnabled());
+    }
+
+    @Test
+    public void shouldApplyRulesOfDomainHrid() {
+        rule(0, "limit", "1");
+        rule(0, "domains", "other-domain,my-domain");
+
+        assertTrue(manager(null).isEnabled());
+    }
+
+    @Test
+    public void shouldLimitByIp() {
+        rule(0, "limit", "2");
+        rule(0, "period", "60");
+
+        RateLimitManagerImpl manager = manager(null);
+
+        assertEquals(0, manager.tryAcquire("/login", null, "10.0.0.1"));
+        assertEquals(0, manager.tryAcquire("/register", null, "10.0.0.1"));
+        long retryAfter = manager.tryAcquire("/login", null, "10.0.0.1");
+        assertTrue(retryAfter > 29000 && retryAfter <= 30000);
+        assertEquals(0, manager.tryAcquire("/login", null, "10.0.0.2"));
+    }
+
+    @Test
+    public void shouldLimitByClientOnEndpoint() {
+        rule(0, "path", "/oauth/token");
+        rule(0, "key", "client");
+        rule(0, "limit", "1");
+        rule(0, "period", "60");
+
+        RateLimitManagerImpl manager = manager(null);
+
+        assertEquals(0, manager.tryAcquire("/oauth/token", "client-1", "10.0.0.1"));
+        assertTrue(manager.tryAcquire("/oauth/token", "client-1", "10.0.0.1") > 0);
+        assertEquals(0, manager.tryAcquire("/oauth/token", "client-2", "10.0.0.1"));
+        // other endpoints are not limited
+        assertEquals(0, manager.tryAcquire("/oauth/authorize", "client-1", "10.0.0.1"));
+        // requests without client are limited by IP
+        assertEquals(0, manager.tryAcquire("/oauth/token", null, "10.0.0.1"));
+        assertTrue(manager.tryAcquire("/oauth/token", null, "10.0.0.1") > 0);
+    }
+
+    @Test
+    public void shouldLimitUnknownClientsByIp() {
+        rule(0, "key", "client");
+        rule(0, "limit", "1");
+        rule(0, "period", "60");
+
+        RateLimitManagerImpl manager = manager(null);
+
+        // random client ids don't get a bucket each, they are limited by IP
+        assertEquals(0, manager.tryAcquire("/oauth/token", UUID.randomUUID().toString(), "10.0.0.1"));
+        assertTrue(manager.tryAcquire("/oauth/token", UUID.randomUUID().toString(), "10.0.0.1") > 0);
+
+        List<Map<?, ?>> buckets = (List<Map<?, ?>>) ReflectionTestUtils.getField(manager, "buckets");
+        assertEquals(1, buckets.get(0).size());
+    }
+
+    @Test
+    public void shouldNotDrainClientBucketFromOtherIp() {
+        rule(0, "key", "client");
+        rule(0, "limit", "1");
+        rule(0, "period", "60");
+
+        RateLimitManagerImpl manager = manager(null);
+
+        // a caller sending the client_id of a known client doesn't consume the requests of that client
+        assertEquals(0, manager.tryAcquire("/oauth/token", "client-1", "10.0.0.2"));
+        assertTrue(manager.tryAcquire("/oauth/token", "client-1", "10.0.0.2") > 0);
+        assertEquals(0, manager.tryAcquire("/oauth/token", "client-1", "10.0.0.1"));
+    }
+
+    @Test
+    public void shouldNotLookUpClient_noClientRule() {
+        rule(0, "limit", "1");
+        rule(0, "period", "60");
+
+        RateLimitManagerImpl manager = manager(null);
+
+        assertEquals(0, manager.tryAcquire("/login", "client-1", "10.0.0.1"));
+        verify(clientManager, never()).getByClientId(anyString(), anyString());
+    }
+
+    @Test
+    public void shouldBoundBuckets() {
+        environment.setProperty("http.rateLimit.maxKeys", "10");
+        rule(0, "limit", "1");
+        rule(0, "period", "60");
+
+        RateLimitManagerImpl manager = manager(null);
+
+        for (int i = 0; i < 100; i++) {
+            manager.tryAcquire("/login", null, "10.0.1." + i);
+        }
+
+        List<Map<?, ?>> buckets = (List<Map<?, ?>>) ReflectionTestUtils.getField(manager, "buckets");
+        assertEquals(11, buckets.get(0).size());
+        // the addresses already known keep their own bucket
+        assertTrue(manager.tryAcquire("/login", null, "10.0.1.0") > 0);
+        // the new addresses share the domain bucket
+        assertTrue(manager.tryAcquire("/login", null, "10.0.2.1") > 0);
+    }
+
+    @Test
+    public void shouldLimitSelectedClients() {
+        rule(0, "key", "client");
+        rule(0, "limit", "1");
+        rule(0, "period", "60");
+        rule(0, "clients", "client-1");
+
+        RateLimitManagerImpl manager = manager(null);
+
+        assertEquals(0, manager.tryAcquire("/login", "client-1", "10.0.0.1"));
+        assertTrue(manager.tryAcquire("/login", "client-1", "10.0.0.1") > 0);
+        assertEquals(0, manager.tryAcquire("/login", "client-2", "10.0.0.1"));
+        assertEquals(0, manager.tryAcquire("/login", "client-2", "10.0.0.1"));
+    }
+
+    @Test
+    public void shouldApplyAllMatchingRules() {
+        rule(0, "key", "domain");
+        rule(0, "limit", "100");
+        rule(0, "period", "60");
+        rule(1, "key", "ip");
+        rule(1, "limit", "1");
+        rule(1, "period", "60");
+
+        RateLimitManagerImpl manager = manager(null);
+
+        assertEquals(0, manager.tryAcquire("/login", null, "10.0.0.1"));
+        assertTrue(manager.tryAcquire("/login", null, "10.0.0.1") > 0);
+    }
+
+    @Test
+    public void shouldIgnoreInvalidRule() {
+        rule(0, "limit", "0");
+        rule(1, "limit", "1");
+        rule(1, "key", "unknown");
+        rule(2, "limit", "1");
+        rule(2, "period", "60");
+
+        RateLimitManagerImpl manager = manager(null);
+
+        assertTrue(manager.isEnabled());
+        assertEquals(0, manager.tryAcquire("/login", null, "10.0.0.1"));
+        assertTrue(manager.tryAcquire("/login", null, "10.0.0.1") > 0);
+    }
+
+    @Test
+    public void shouldDiscardIdleBuckets() throws Exception {
+        rule(0, "limit", "1000");
+
+        RateLimitManagerImpl manager = manager(null);
+        manager.tryAcquire("/login", null, "10.0.0.1");
+        Thread.sleep(5);
+        manager.refresh();
+
+        List<Map<?, ?>> buckets = (List<Map<?, ?>>) ReflectionTestUtils.getField(manager, "buckets");
+        assertTrue(buckets.get(0).isEmpty());
+    }
+
+    @Test
+    public void shouldSynchronizeNodes() {
+        rule(0, "key", "domain");
+        rule(0, "limit", "4");
+        rule(0, "period", "60");
+
+        RateLimitStore store = new InMemoryRateLimitStore();
+        RateLimitManagerImpl node1 = manager(store);
+        RateLimitManagerImpl node2 = manager(store);
+
+        assertEquals(0, node1.tryAcquire("/login", null, "10.0.0.1"));
+        assertEquals(0, node2.tryAcquire("/login", null, "10.0.0.2"));
+        node1.refresh();
+        node2.refresh();
+
+        assertEquals(0, node1.tryAcquire("/login", null, "10.0.0.1"));
+        assertEquals(0, node1.tryAcquire("/login", null, "10.0.0.1"));
+        // node1 learns that node2 has accepted one request
+        node1.refresh();
+
+        assertTrue(node1.tryAcquire("/login", null, "10.0.0.1") > 0);
+    }
+
+    private void rule(int idx, String property, String value) {
+        environment.setProperty("http.rateLimit.rules[" + idx + "]." + property, value);
+    }
+
+    private RateLimitManagerImpl manager(RateLimitStore store) {
+        RateLimitManagerImpl manager = new RateLimitManagerImpl();
+        ReflectionTestUtils.setField(manager, "domain", domain);
+        ReflectionTestUtils.setField(manager, "environment", environment);
+        ReflectionTestUtils.setField(manager, "clientManager", clientManager);
+        ReflectionTestUtils.setField(manager, "rateLimitStore", store);
+        manager.afterPropertiesSet();
+        return manager;
+    }
+}
@@ -0,0 +1,75 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.manager.ratelimit.impl;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class TokenBucketTest {
+
+    private static final long INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    public void shouldAcceptBurst() {
+        TokenBucket bucket = new TokenBucket(INTERVAL, 3, 0);
+
+        assertEquals(0, bucket.tryConsume(0));
+        assertEquals(0, bucket.tryConsume(0));
+        assertEquals(0, bucket.tryConsume(0));
+        assertEquals(INTERVAL, bucket.tryConsume(0));
+        assertEquals(3, bucket.drainPending());
+    }
+
+    @Test
+    public void shouldRefillAtSustainedRate() {
+        TokenBucket bucket = new TokenBucket(INTERVAL, 1, 0);
+
+        assertEquals(0, bucket.tryConsume(0));
+        assertEquals(INTERVAL / 2, bucket.tryConsume(INTERVAL / 2));
+        assertEquals(0, bucket.tryConsume(INTERVAL));
+        assertFalse(bucket.isIdle(3 * INTERVAL));
+        assertEquals(2, bucket.drainPending());
+        assertFalse(bucket.isIdle(INTERVAL));
+        assertTrue(bucket.isIdle(2 * INTERVAL));
+    }
+
+    @Test
+    public void shouldConsumeTokensOfOtherNodes() {
+        TokenBucket bucket = new TokenBucket(INTERVAL, 3, 0);
+
+        bucket.consume(2, 0);
+        assertEquals(0, bucket.tryConsume(0));
+        assertEquals(INTERVAL, bucket.tryConsume(0));
+    }
+
+    @Test
+    public void shouldEmptyBucketAtMost() {
+        TokenBucket bucket = new TokenBucket(INTERVAL, 3, 0);
+
+        bucket.consume(Long.MAX_VALUE, 0);
+        // the next token is available after one interval whatever the number of tokens consumed elsewhere
+        assertEquals(INTERVAL, bucket.tryConsume(0));
+        assertEquals(0, bucket.tryConsume(INTERVAL));
+    }
+}
@@ -78,6 +78,9 @@ public class UserServiceTest {
     @Mock
     private AuditService auditService;
 
+    @Mock
+    private EmailService emailService;
+
     @Test
     public void shouldNotResetPassword_userInactive() {
         Client client = mock(Client.class);
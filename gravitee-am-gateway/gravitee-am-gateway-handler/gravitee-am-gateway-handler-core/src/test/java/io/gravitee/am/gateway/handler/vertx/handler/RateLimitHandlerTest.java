@@ -0,0 +1,97 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.vertx.handler;
+
+import io.gravitee.am.gateway.handler.common.vertx.RxWebTestBase;
+import io.gravitee.am.gateway.handler.manager.ratelimit.RateLimitManager;
+import io.vertx.core.http.HttpMethod;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class RateLimitHandlerTest extends RxWebTestBase {
+
+    @Mock
+    private RateLimitManager rateLimitManager;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+
+        router.route("/oauth/token")
+                .handler(new RateLimitHandler(rateLimitManager, "Too many requests", 0));
+        router.route("/proxied/oauth/token")
+                .handler(new RateLimitHandler(rateLimitManager, "Too many requests", 1));
+        router.route()
+                .handler(rc -> rc.response().end());
+    }
+
+    @Test
+    public void shouldAcceptRequest() throws Exception {
+        when(rateLimitManager.tryAcquire(eq("/oauth/token"), eq("client-1"), any())).thenReturn(0L);
+
+        testRequest(HttpMethod.POST, "/oauth/token?client_id=client-1", 200, "OK");
+    }
+
+    @Test
+    public void shouldRejectRequest() throws Exception {
+        when(rateLimitManager.tryAcquire(eq("/oauth/token"), isNull(), any())).thenReturn(1500L);
+
+        testRequest(HttpMethod.POST, "/oauth/token", null, resp -> {
+            assertEquals("2", resp.getHeader("Retry-After"));
+        }, 429, "Too Many Requests", "Too many requests");
+    }
+
+    @Test
+    public void shouldIgnoreForwardedFor_noTrustedProxy() throws Exception {
+        when(rateLimitManager.tryAcquire(any(), any(), eq("127.0.0.1"))).thenReturn(1000L);
+
+        testRequest(HttpMethod.POST, "/oauth/token", req -> req.putHeader("X-Forwarded-For", "10.0.0.1"),
+                429, "Too Many Requests", null);
+    }
+
+    @Test
+    public void shouldUseTrustedProxyForwardedFor() throws Exception {
+        when(rateLimitManager.tryAcquire(any(), any(), eq("10.0.0.2"))).thenReturn(1000L);
+
+        // the left-most address is set by the client, the right-most one by the trusted proxy
+        testRequest(HttpMethod.POST, "/proxied/oauth/token", req -> req.putHeader("X-Forwarded-For", "10.0.0.1, 10.0.0.2"),
+                429, "Too Many Requests", null);
+    }
+
+    @Test
+    public void shouldRejectRequest_clientFromBasicAuth() throws Exception {
+        when(rateLimitManager.tryAcquire(eq("/oauth/token"), eq("my client"), any())).thenReturn(10L);
+        final String credentials = Base64.getEncoder().encodeToString("my+client:secret".getBytes(StandardCharsets.UTF_8));
+
+        testRequest(HttpMethod.POST, "/oauth/token", req -> req.putHeader("Authorization", "Basic " + credentials), resp -> {
+            assertEquals("1", resp.getHeader("Retry-After"));
+        }, 429, "Too Many Requests", null);
+    }
+}
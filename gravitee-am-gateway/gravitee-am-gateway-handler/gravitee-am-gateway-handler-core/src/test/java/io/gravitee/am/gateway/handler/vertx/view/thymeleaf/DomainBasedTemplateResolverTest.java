@@ -0,0 +1,113 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.vertx.view.thymeleaf;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.cache.TemplateCacheKey;
+import org.thymeleaf.context.Context;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class DomainBasedTemplateResolverTest {
+
+    private TemplateEngine templateEngine;
+    private DomainBasedTemplateResolver templateResolver;
+
+    @Before
+    public void setUp() {
+        templateEngine = new TemplateEngine();
+        templateEngine.setCacheManager(new DomainTemplateCacheManager("domain"));
+        templateResolver = new DomainBasedTemplateResolver();
+        templateResolver.setTemplateMode("HTML");
+        templateEngine.setTemplateResolver(templateResolver);
+        templateResolver.setTemplateEngine(templateEngine);
+    }
+
+    @Test
+    public void shouldParseFormWhenAdded() {
+        templateResolver.addForm("login", "<p>login</p>");
+
+        assertTrue(cachedTemplates().contains("login"));
+        // the template is served from the cache populated by the form registration
+        long cached = cachedTemplates().size();
+        assertEquals("<p>login</p>", templateEngine.process("login", new Context()));
+        assertEquals(cached, cachedTemplates().size());
+    }
+
+    @Test
+    public void shouldParseFormsLoadedBeforeTemplateEngine() {
+        DomainBasedTemplateResolver resolver = new DomainBasedTemplateResolver();
+        resolver.addForm("login", "<p>login</p>");
+        TemplateEngine engine = new TemplateEngine();
+        engine.setTemplateResolver(resolver);
+
+        resolver.setTemplateEngine(engine);
+
+        assertTrue(engine.getCacheManager().getTemplateCache().keySet().stream().anyMatch(key -> key.getTemplate().equals("login")));
+    }
+
+    @Test
+    public void shouldEvictOnlyUpdatedForm() {
+        templateResolver.addForm("login", "<p>login</p>");
+        templateResolver.addForm("consent", "<p>consent</p>");
+
+        templateResolver.addForm("login", "<p>new login</p>");
+
+        assertTrue(cachedTemplates().contains("consent"));
+        assertEquals("<p>new login</p>", templateEngine.process("login", new Context()));
+    }
+
+    @Test
+    public void shouldEvictClientTemplatesFallingBackToDomainForm() {
+        templateResolver.addForm("login", "<p>login</p>");
+        templateResolver.addForm("consent|client", "<p>client consent</p>");
+        assertEquals("<p>login</p>", templateEngine.process("login|client", new Context()));
+        assertTrue(cachedTemplates().contains("login|client"));
+
+        templateResolver.addForm("login", "<p>new login</p>");
+
+        assertFalse(cachedTemplates().contains("login|client"));
+        assertTrue(cachedTemplates().contains("consent|client"));
+        assertEquals("<p>new login</p>", templateEngine.process("login|client", new Context()));
+    }
+
+    @Test
+    public void shouldEvictRemovedForm() {
+        templateResolver.addForm("login", "<p>login</p>");
+        templateResolver.addForm("login|client", "<p>client login</p>");
+
+        templateResolver.removeForm("login|client");
+
+        assertFalse(cachedTemplates().contains("login|client"));
+        assertTrue(cachedTemplates().contains("login"));
+        assertEquals("<p>login</p>", templateEngine.process("login|client", new Context()));
+    }
+
+    private Set<String> cachedTemplates() {
+        return templateEngine.getCacheManager().getTemplateCache().keySet()
+                .stream()
+                .map(TemplateCacheKey::getTemplate)
+                .collect(Collectors.toSet());
+    }
+}
@@ -19,6 +19,7 @@ import io.gravitee.am.common.policy.ExtensionPoint;
 import io.gravitee.am.gateway.handler.api.ProtocolProvider;
 import io.gravitee.am.gateway.handler.common.client.ClientSyncService;
 import io.gravitee.am.gateway.handler.common.jwt.JWTService;
+import io.gravitee.am.gateway.handler.common.metrics.TimeToFirstTokenRecorder;
 import io.gravitee.am.gateway.handler.common.vertx.web.endpoint.ErrorEndpoint;
 import io.gravitee.am.gateway.handler.common.vertx.web.handler.AuthenticationFlowContextHandler;
 import io.gravitee.am.gateway.handler.common.vertx.web.handler.AuthenticationFlowHandler;
@@ -153,6 +154,9 @@ public class OAuth2Provider extends AbstractService<ProtocolProvider> implements
     @Autowired
     private Environment environment;
 
+    @Autowired
+    private TimeToFirstTokenRecorder timeToFirstTokenRecorder;
+
     @Override
     protected void doStart() throws Exception {
         super.doStart();
@@ -232,7 +236,7 @@ public class OAuth2Provider extends AbstractService<ProtocolProvider> implements
                 .handler(corsHandler)
                 .handler(new TokenRequestParseHandler())
                 .handler(clientAuthHandler)
-                .handler(new TokenEndpoint(tokenGranter));
+                .handler(new TokenEndpoint(tokenGranter, timeToFirstTokenRecorder));
 
         // Introspection endpoint
         oauth2Router.route(HttpMethod.POST, "/introspect")
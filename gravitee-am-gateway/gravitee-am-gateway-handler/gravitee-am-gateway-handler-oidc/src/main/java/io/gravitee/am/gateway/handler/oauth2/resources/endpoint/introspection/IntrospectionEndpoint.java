@@ -23,12 +23,18 @@ import io.gravitee.am.gateway.handler.oauth2.exception.UnsupportedTokenType;
 import io.gravitee.am.gateway.handler.oauth2.service.introspection.IntrospectionRequest;
 import io.gravitee.am.gateway.handler.oauth2.service.introspection.IntrospectionService;
 import io.gravitee.am.model.oidc.Client;
+import io.gravitee.am.service.utils.MetricsUtils;
 import io.gravitee.common.http.HttpHeaders;
 import io.gravitee.common.http.MediaType;
+import io.micrometer.core.instrument.Timer;
 import io.vertx.core.Handler;
 import io.vertx.core.json.Json;
 import io.vertx.reactivex.ext.web.RoutingContext;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
 /**
  * OAuth 2.0 Token Introspection Endpoint
  *
@@ -41,6 +47,8 @@ public class IntrospectionEndpoint implements Handler<RoutingContext> {
 
     private IntrospectionService introspectionService;
 
+    private final Map<Boolean, Timer> timers = new ConcurrentHashMap<>();
+
     public IntrospectionEndpoint() {
     }
 
@@ -58,8 +66,10 @@ public class IntrospectionEndpoint implements Handler<RoutingContext> {
             throw new InvalidClientException();
         }
 
+        final long start = System.nanoTime();
         introspectionService
                 .introspect(createRequest(context))
+                .doOnSuccess(introspectionResponse -> timer(client, introspectionResponse.isActive()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS))
                 .doOnSuccess(introspectionResponse -> context.response()
                         .putHeader(HttpHeaders.CACHE_CONTROL, "no-store")
                         .putHeader(HttpHeaders.PRAGMA, "no-cache")
@@ -68,6 +78,19 @@ public class IntrospectionEndpoint implements Handler<RoutingContext> {
                 .subscribe();
     }
 
+    private Timer timer(Client client, boolean active) {
+        final Timer timer = timers.get(active);
+        if (timer != null) {
+            return timer;
+        }
+        return timers.computeIfAbsent(active, key -> Timer.builder("am_introspection_requests")
+                .description("Introspection endpoint latency")
+                .tag(MetricsUtils.TAG_DOMAIN, String.valueOf(client.getDomain()))
+                .tag("active", String.valueOf(key))
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(MetricsUtils.registry()));
+    }
+
     private static IntrospectionRequest createRequest(RoutingContext context) {
         String token = context.request().getParam(ConstantKeys.TOKEN_PARAM_KEY);
         String tokenTypeHint = context.request().getParam(ConstantKeys.TOKEN_TYPE_HINT_PARAM_KEY);
@@ -15,17 +15,24 @@
  */
 package io.gravitee.am.gateway.handler.oauth2.resources.endpoint.token;
 
+import io.gravitee.am.gateway.handler.common.metrics.TimeToFirstTokenRecorder;
 import io.gravitee.am.gateway.handler.oauth2.exception.InvalidClientException;
 import io.gravitee.am.gateway.handler.oauth2.resources.request.TokenRequestFactory;
 import io.gravitee.am.gateway.handler.oauth2.service.granter.TokenGranter;
 import io.gravitee.am.gateway.handler.oauth2.service.request.TokenRequest;
 import io.gravitee.am.model.oidc.Client;
+import io.gravitee.am.service.utils.MetricsUtils;
 import io.gravitee.common.http.HttpHeaders;
 import io.gravitee.common.http.MediaType;
+import io.micrometer.core.instrument.Timer;
 import io.vertx.core.Handler;
 import io.vertx.core.json.Json;
 import io.vertx.reactivex.ext.web.RoutingContext;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
 import static io.gravitee.am.gateway.handler.common.utils.ConstantKeys.CLIENT_CONTEXT_KEY;
 
 /**
@@ -40,7 +47,9 @@ import static io.gravitee.am.gateway.handler.common.utils.ConstantKeys.CLIENT_CO
  */
 public class TokenEndpoint implements Handler<RoutingContext> {
     private final TokenRequestFactory tokenRequestFactory = new TokenRequestFactory();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
     private TokenGranter tokenGranter;
+    private TimeToFirstTokenRecorder timeToFirstTokenRecorder;
 
     public TokenEndpoint() { }
 
@@ -48,6 +57,11 @@ public class TokenEndpoint implements Handler<RoutingContext> {
         this.tokenGranter = tokenGranter;
     }
 
+    public TokenEndpoint(TokenGranter tokenGranter, TimeToFirstTokenRecorder timeToFirstTokenRecorder) {
+        this.tokenGranter = tokenGranter;
+        this.timeToFirstTokenRecorder = timeToFirstTokenRecorder;
+    }
+
     @Override
     public void handle(RoutingContext context) {
         // Confidential clients or other clients issued client credentials MUST
@@ -74,7 +88,11 @@ public class TokenEndpoint implements Handler<RoutingContext> {
             throw new InvalidClientException("Invalid client: client must at least have one grant type configured");
         }
 
+        final Timer timer = timer(client, tokenRequest.getGrantType());
+        final long start = System.nanoTime();
         tokenGranter.grant(tokenRequest, client)
+                .doFinally(() -> timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS))
+                .doOnSuccess(accessToken -> firstToken(client))
                 .subscribe(accessToken -> context.response()
                         .putHeader(HttpHeaders.CACHE_CONTROL, "no-store")
                         .putHeader(HttpHeaders.PRAGMA, "no-cache")
@@ -82,4 +100,21 @@ public class TokenEndpoint implements Handler<RoutingContext> {
                         .end(Json.encodePrettily(accessToken))
                         , context::fail);
     }
+
+    private void firstToken(Client client) {
+        if (timeToFirstTokenRecorder != null && client.getDomain() != null) {
+            timeToFirstTokenRecorder.tokenIssued(client.getDomain());
+        }
+    }
+
+    private Timer timer(Client client, String grantType) {
+        // only tag with the grant types configured for the client to keep the number of meters bounded
+        final String tag = grantType != null && client.getAuthorizedGrantTypes().contains(grantType) ? grantType : "unauthorized";
+        return timers.computeIfAbsent(tag, key -> Timer.builder("am_token_requests")
+                .description("Token endpoint latency")
+                .tag(MetricsUtils.TAG_DOMAIN, String.valueOf(client.getDomain()))
+                .tag("grant_type", key)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(MetricsUtils.registry()));
+    }
 }
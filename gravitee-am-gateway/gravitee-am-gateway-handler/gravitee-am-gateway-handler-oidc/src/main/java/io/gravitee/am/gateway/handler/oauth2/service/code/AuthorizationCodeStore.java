@@ -0,0 +1,55 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.oauth2.service.code;
+
+import io.gravitee.am.repository.oauth2.model.AuthorizationCode;
+import io.reactivex.Maybe;
+import io.reactivex.Single;
+
+/**
+ * Storage of the authorization codes between the authorization and the token endpoints.
+ *
+ * An authorization code is short-lived and MUST be used only once, implementations have to guarantee that
+ * {@link #consume(AuthorizationCode)} succeeds for one caller only, even under concurrent token requests.
+ *
+ * @author GraviteeSource Team
+ */
+public interface AuthorizationCodeStore {
+
+    /**
+     * Store a new authorization code.
+     *
+     * @param authorizationCode the authorization code to store
+     * @return the stored authorization code
+     */
+    Single<AuthorizationCode> create(AuthorizationCode authorizationCode);
+
+    /**
+     * Find a non expired authorization code by its value.
+     *
+     * @param code the authorization code value
+     * @return the authorization code or empty if unknown or expired
+     */
+    Maybe<AuthorizationCode> findByCode(String code);
+
+    /**
+     * Atomically remove the authorization code from the store.
+     *
+     * @param authorizationCode the authorization code to consume
+     * @return the consumed authorization code or empty if it has already been consumed
+     */
+    Maybe<AuthorizationCode> consume(AuthorizationCode authorizationCode);
+}
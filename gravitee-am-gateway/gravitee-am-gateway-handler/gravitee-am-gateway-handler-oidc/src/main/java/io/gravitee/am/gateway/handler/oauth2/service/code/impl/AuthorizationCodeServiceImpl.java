@@ -19,11 +19,11 @@ import io.gravitee.am.common.utils.RandomString;
 import io.gravitee.am.common.utils.SecureRandomString;
 import io.gravitee.am.gateway.handler.oauth2.exception.InvalidGrantException;
 import io.gravitee.am.gateway.handler.oauth2.service.code.AuthorizationCodeService;
+import io.gravitee.am.gateway.handler.oauth2.service.code.AuthorizationCodeStore;
 import io.gravitee.am.gateway.handler.oauth2.service.request.AuthorizationRequest;
 import io.gravitee.am.model.oidc.Client;
 import io.gravitee.am.model.User;
 import io.gravitee.am.repository.oauth2.api.AccessTokenRepository;
-import io.gravitee.am.repository.oauth2.api.AuthorizationCodeRepository;
 import io.gravitee.am.repository.oauth2.api.RefreshTokenRepository;
 import io.gravitee.am.repository.oauth2.model.AuthorizationCode;
 import io.reactivex.Completable;
@@ -44,9 +44,8 @@ public class AuthorizationCodeServiceImpl implements AuthorizationCodeService {
     @Value("${authorization.code.validity:60000}")
     private int authorizationCodeValidity;
 
-    @Lazy
     @Autowired
-    private AuthorizationCodeRepository authorizationCodeRepository;
+    private AuthorizationCodeStore authorizationCodeStore;
 
     @Lazy
     @Autowired
@@ -70,12 +69,12 @@ public class AuthorizationCodeServiceImpl implements AuthorizationCodeService {
         authorizationCode.setExpireAt(new Date(System.currentTimeMillis() + authorizationCodeValidity));
         authorizationCode.setCreatedAt(new Date());
 
-        return authorizationCodeRepository.create(authorizationCode);
+        return authorizationCodeStore.create(authorizationCode);
     }
 
     @Override
     public Maybe<AuthorizationCode> remove(String code, Client client) {
-        return authorizationCodeRepository.findByCode(code)
+        return authorizationCodeStore.findByCode(code)
                 .switchIfEmpty(handleInvalidCode(code))
                 .flatMap(authorizationCode -> {
                     if (!authorizationCode.getClientId().equals(client.getClientId())) {
@@ -83,7 +82,9 @@ public class AuthorizationCodeServiceImpl implements AuthorizationCodeService {
                     }
                     return Maybe.just(authorizationCode);
                 })
-                .flatMap(authorizationCode -> authorizationCodeRepository.delete(authorizationCode.getId()));
+                .flatMap(authorizationCode -> authorizationCodeStore.consume(authorizationCode)
+                        // the code has been consumed by a concurrent token request in the meantime
+                        .switchIfEmpty(Maybe.defer(() -> handleInvalidCode(code))));
     }
 
 
@@ -96,7 +97,7 @@ public class AuthorizationCodeServiceImpl implements AuthorizationCodeService {
                 .flatMapCompletable(accessToken -> {
                     Completable deleteAccessTokenAction = accessTokenRepository.delete(accessToken.getToken());
                     if (accessToken.getRefreshToken() != null) {
-                        deleteAccessTokenAction.andThen(refreshTokenRepository.delete(accessToken.getRefreshToken()));
+                        deleteAccessTokenAction = deleteAccessTokenAction.andThen(refreshTokenRepository.delete(accessToken.getRefreshToken()));
                     }
                     return deleteAccessTokenAction;
                 })
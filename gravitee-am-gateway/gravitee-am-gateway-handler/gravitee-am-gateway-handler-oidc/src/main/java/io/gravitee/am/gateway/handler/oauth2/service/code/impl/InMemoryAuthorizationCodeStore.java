@@ -0,0 +1,83 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.oauth2.service.code.impl;
+
+import io.gravitee.am.gateway.handler.oauth2.service.code.AuthorizationCodeStore;
+import io.gravitee.am.repository.oauth2.model.AuthorizationCode;
+import io.reactivex.Maybe;
+import io.reactivex.Single;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Authorization codes kept in the memory of the gateway node which has issued them.
+ *
+ * The token request has to reach the same node as the authorization request (single node or sticky sessions),
+ * expired codes are purged while new codes are created.
+ *
+ * @author GraviteeSource Team
+ */
+public class InMemoryAuthorizationCodeStore implements AuthorizationCodeStore {
+
+    private static final long PURGE_INTERVAL = 30_000L;
+    private final ConcurrentMap<String, AuthorizationCode> authorizationCodes = new ConcurrentHashMap<>();
+    private final AtomicLong nextPurge = new AtomicLong();
+
+    @Override
+    public Single<AuthorizationCode> create(AuthorizationCode authorizationCode) {
+        return Single.fromCallable(() -> {
+            purgeExpiredCodes();
+            authorizationCodes.put(authorizationCode.getCode(), authorizationCode);
+            return authorizationCode;
+        });
+    }
+
+    @Override
+    public Maybe<AuthorizationCode> findByCode(String code) {
+        return Maybe.fromCallable(() -> {
+            AuthorizationCode authorizationCode = authorizationCodes.get(code);
+            if (authorizationCode != null && isExpired(authorizationCode, System.currentTimeMillis())) {
+                authorizationCodes.remove(code, authorizationCode);
+                return null;
+            }
+            return authorizationCode;
+        });
+    }
+
+    @Override
+    public Maybe<AuthorizationCode> consume(AuthorizationCode authorizationCode) {
+        return Maybe.fromCallable(() -> evict(authorizationCode) ? authorizationCode : null);
+    }
+
+    protected boolean evict(AuthorizationCode authorizationCode) {
+        // compare-and-remove, only one of the concurrent callers can remove the code
+        return authorizationCodes.remove(authorizationCode.getCode(), authorizationCode);
+    }
+
+    private void purgeExpiredCodes() {
+        final long now = System.currentTimeMillis();
+        final long next = nextPurge.get();
+        if (now >= next && nextPurge.compareAndSet(next, now + PURGE_INTERVAL)) {
+            authorizationCodes.values().removeIf(authorizationCode -> isExpired(authorizationCode, now));
+        }
+    }
+
+    private static boolean isExpired(AuthorizationCode authorizationCode, long now) {
+        return authorizationCode.getExpireAt() != null && authorizationCode.getExpireAt().getTime() < now;
+    }
+}
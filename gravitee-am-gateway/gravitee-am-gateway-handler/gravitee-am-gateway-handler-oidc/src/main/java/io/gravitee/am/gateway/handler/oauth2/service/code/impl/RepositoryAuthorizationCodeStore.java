@@ -0,0 +1,52 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.oauth2.service.code.impl;
+
+import io.gravitee.am.gateway.handler.oauth2.service.code.AuthorizationCodeStore;
+import io.gravitee.am.repository.oauth2.api.AuthorizationCodeRepository;
+import io.gravitee.am.repository.oauth2.model.AuthorizationCode;
+import io.reactivex.Maybe;
+import io.reactivex.Single;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+
+/**
+ * Authorization codes kept in the OAuth2 repository so that they can be exchanged on any gateway node.
+ *
+ * @author GraviteeSource Team
+ */
+public class RepositoryAuthorizationCodeStore implements AuthorizationCodeStore {
+
+    @Lazy
+    @Autowired
+    private AuthorizationCodeRepository authorizationCodeRepository;
+
+    @Override
+    public Single<AuthorizationCode> create(AuthorizationCode authorizationCode) {
+        return authorizationCodeRepository.create(authorizationCode);
+    }
+
+    @Override
+    public Maybe<AuthorizationCode> findByCode(String code) {
+        return authorizationCodeRepository.findByCode(code);
+    }
+
+    @Override
+    public Maybe<AuthorizationCode> consume(AuthorizationCode authorizationCode) {
+        // the repository deletion only returns the authorization code to the caller which has really removed it
+        return authorizationCodeRepository.delete(authorizationCode.getId());
+    }
+}
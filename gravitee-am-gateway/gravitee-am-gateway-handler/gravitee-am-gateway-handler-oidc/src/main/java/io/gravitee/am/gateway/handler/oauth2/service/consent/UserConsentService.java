@@ -19,6 +19,7 @@ import io.gravitee.am.identityprovider.api.User;
 import io.gravitee.am.model.oauth2.Scope;
 import io.gravitee.am.model.oauth2.ScopeApproval;
 import io.gravitee.am.model.oidc.Client;
+import io.gravitee.common.service.Service;
 import io.reactivex.Single;
 
 import java.util.List;
@@ -28,7 +29,7 @@ import java.util.Set;
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
  * @author GraviteeSource Team
  */
-public interface UserConsentService {
+public interface UserConsentService extends Service {
 
     Single<Set<String>> checkConsent(Client client, io.gravitee.am.model.User user);
 
@@ -15,29 +15,52 @@
  */
 package io.gravitee.am.gateway.handler.oauth2.service.consent.impl;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.gravitee.am.common.event.EventManager;
+import io.gravitee.am.common.event.TokenEvent;
 import io.gravitee.am.gateway.handler.oauth2.service.consent.UserConsentService;
 import io.gravitee.am.gateway.handler.oauth2.service.scope.ScopeService;
 import io.gravitee.am.identityprovider.api.User;
 import io.gravitee.am.model.Domain;
+import io.gravitee.am.model.ReferenceType;
+import io.gravitee.am.model.common.event.Payload;
 import io.gravitee.am.model.oauth2.Scope;
 import io.gravitee.am.model.oauth2.ScopeApproval;
 import io.gravitee.am.model.oidc.Client;
 import io.gravitee.am.service.ScopeApprovalService;
+import io.gravitee.am.service.utils.MetricsUtils;
+import io.gravitee.common.event.Event;
+import io.gravitee.common.event.EventListener;
+import io.gravitee.common.service.AbstractService;
+import io.micrometer.core.instrument.Counter;
 import io.reactivex.Single;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
  * @author GraviteeSource Team
  */
-public class UserConsentServiceImpl implements UserConsentService {
+public class UserConsentServiceImpl extends AbstractService implements UserConsentService, InitializingBean, EventListener<TokenEvent, Payload> {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserConsentServiceImpl.class);
 
     @Autowired
     private ScopeApprovalService scopeApprovalService;
 
+    @Autowired
+    private EventManager eventManager;
+
     @Autowired
     private ScopeService scopeService;
 
@@ -47,15 +70,70 @@ public class UserConsentServiceImpl implements UserConsentService {
     @Value("${oauth2.approval.expiry:-1}")
     private int approvalExpirySeconds;
 
+    @Value("${oauth2.approval.cache.maxSize:10000}")
+    private int approvalCacheMaxSize;
+
+    @Value("${oauth2.approval.cache.ttl:300}")
+    private int approvalCacheTtlSeconds;
+
+    /**
+     * Scope approvals of a user, grouped by client id.
+     * Entries are evicted by the gateway saving a consent, and on every gateway when the consents are revoked (consent
+     * revocations revoke the tokens of the user, token events are synchronized across gateways).
+     */
+    private Cache<String, ConcurrentMap<String, List<ScopeApproval>>> approvalsCache;
+
+    private Counter hits;
+
+    private Counter misses;
+
+    @Override
+    public void afterPropertiesSet() {
+        approvalsCache = CacheBuilder.newBuilder()
+                .maximumSize(approvalCacheMaxSize)
+                .expireAfterWrite(approvalCacheTtlSeconds, TimeUnit.SECONDS)
+                .build();
+        hits = counter("hit");
+        misses = counter("miss");
+
+        logger.info("Register event listener for token events for domain {}", domain.getName());
+        eventManager.subscribeForEvents(this, TokenEvent.class, domain.getId());
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+
+        logger.info("Dispose event listener for token events for domain {}", domain.getName());
+        eventManager.unsubscribeForEvents(this, TokenEvent.class, domain.getId());
+        approvalsCache.invalidateAll();
+    }
+
+    @Override
+    public void onEvent(Event<TokenEvent, Payload> event) {
+        if (event.type() == TokenEvent.REVOKE_SUBJECT
+                && event.content().getReferenceType() == ReferenceType.DOMAIN && domain.getId().equals(event.content().getReferenceId())) {
+            final String userId = TokenEvent.subjectOf(event.content().getId());
+            final String clientId = TokenEvent.clientOf(event.content().getId());
+            if (clientId == null) {
+                approvalsCache.invalidate(userId);
+            } else {
+                evictApprovals(clientId, userId);
+            }
+        }
+    }
+
     @Override
     public Single<Set<String>> checkConsent(Client client, io.gravitee.am.model.User user) {
-        return scopeApprovalService.findByDomainAndUserAndClient(domain.getId(), user.getId(), client.getClientId())
-                .filter(approval -> {
+        return findApprovals(client.getClientId(), user.getId())
+                .map(approvals -> {
                     Date today = new Date();
-                    return (approval.getExpiresAt().after(today) && approval.getStatus() == ScopeApproval.ApprovalStatus.APPROVED);
-                })
-                .map(ScopeApproval::getScope)
-                .collect(HashSet::new, Set::add);
+                    return approvals
+                            .stream()
+                            .filter(approval -> approval.getExpiresAt().after(today) && approval.getStatus() == ScopeApproval.ApprovalStatus.APPROVED)
+                            .map(ScopeApproval::getScope)
+                            .collect(Collectors.toCollection(HashSet::new));
+                });
     }
 
     @Override
@@ -63,7 +141,12 @@ public class UserConsentServiceImpl implements UserConsentService {
         // compute expiry date for each approval
         approvals.forEach(a -> a.setExpiresAt(computeExpiry(client, a.getScope())));
         // save consent
-        return scopeApprovalService.saveConsent(domain.getId(), client, approvals);
+        return scopeApprovalService.saveConsent(domain.getId(), client, approvals)
+                .doFinally(() -> approvals
+                        .stream()
+                        .map(ScopeApproval::getUserId)
+                        .distinct()
+                        .forEach(userId -> evictApprovals(client.getClientId(), userId)));
     }
 
     @Override
@@ -72,7 +155,8 @@ public class UserConsentServiceImpl implements UserConsentService {
                 .map(scopes -> {
                     List<Scope> requestedScopes = new ArrayList<>();
                     for (String requestScope : consent) {
-                        Scope requestedScope = scopes
+                        Scope exactScope = scopeService.findByKey(requestScope);
+                        Scope requestedScope = exactScope != null ? exactScope : scopes
                                 .stream()
                                 .filter(scope -> scope.getKey().equalsIgnoreCase(requestScope))
                                 .findAny()
@@ -84,6 +168,43 @@ public class UserConsentServiceImpl implements UserConsentService {
                 });
     }
 
+    private Single<List<ScopeApproval>> findApprovals(String clientId, String userId) {
+        ConcurrentMap<String, List<ScopeApproval>> userApprovals = approvalsCache.getIfPresent(userId);
+        List<ScopeApproval> cachedApprovals = userApprovals != null ? userApprovals.get(clientId) : null;
+        if (cachedApprovals != null) {
+            hits.increment();
+            return Single.just(cachedApprovals);
+        }
+        misses.increment();
+        return scopeApprovalService.findByDomainAndUserAndClient(domain.getId(), userId, clientId)
+                .toList()
+                .doOnSuccess(approvals -> {
+                    try {
+                        approvalsCache.get(userId, ConcurrentHashMap::new).put(clientId, Collections.unmodifiableList(approvals));
+                    } catch (Exception ex) {
+                        logger.debug("Unable to cache scope approvals for user {}", userId, ex);
+                    }
+                });
+    }
+
+    private Counter counter(String result) {
+        return Counter.builder("am_consent_cache_gets")
+                .description("Lookups of the scope approvals of a user and a client")
+                .tag(MetricsUtils.TAG_DOMAIN, String.valueOf(domain.getId()))
+                .tag(MetricsUtils.TAG_RESULT, result)
+                .register(MetricsUtils.registry());
+    }
+
+    private void evictApprovals(String clientId, String userId) {
+        if (userId == null) {
+            return;
+        }
+        ConcurrentMap<String, List<ScopeApproval>> userApprovals = approvalsCache.getIfPresent(userId);
+        if (userApprovals != null) {
+            userApprovals.remove(clientId);
+        }
+    }
+
     private Date computeExpiry(Client client, String scope) {
         Calendar expiresAt = Calendar.getInstance();
 
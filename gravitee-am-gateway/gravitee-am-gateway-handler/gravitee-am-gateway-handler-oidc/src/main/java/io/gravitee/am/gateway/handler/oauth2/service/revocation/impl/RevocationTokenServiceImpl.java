@@ -16,6 +16,7 @@
 package io.gravitee.am.gateway.handler.oauth2.service.revocation.impl;
 
 import io.gravitee.am.common.exception.oauth2.InvalidTokenException;
+import io.gravitee.am.gateway.handler.common.oauth2.RevokedTokenManager;
 import io.gravitee.am.gateway.handler.oauth2.exception.InvalidGrantException;
 import io.gravitee.am.gateway.handler.oauth2.service.revocation.RevocationTokenRequest;
 import io.gravitee.am.gateway.handler.oauth2.service.revocation.RevocationTokenService;
@@ -39,6 +40,9 @@ public class RevocationTokenServiceImpl implements RevocationTokenService {
     @Autowired
     private TokenService tokenService;
 
+    @Autowired
+    private RevokedTokenManager revokedTokenManager;
+
     @Override
     public Completable revoke(RevocationTokenRequest request, Client client) {
         String token = request.getToken();
@@ -127,6 +131,10 @@ public class RevocationTokenServiceImpl implements RevocationTokenService {
                         return Completable.error(new InvalidGrantException("Cannot revoke tokens issued to other clients."));
                     }
 
+                    // stateless access tokens are not stored, add them to the revocation list
+                    if (client.isStatelessAccessToken()) {
+                        return revokedTokenManager.revoke(accessToken.getValue(), accessToken.getExpireAt());
+                    }
                     return tokenService.deleteAccessToken(accessToken.getValue());
                 });
     }
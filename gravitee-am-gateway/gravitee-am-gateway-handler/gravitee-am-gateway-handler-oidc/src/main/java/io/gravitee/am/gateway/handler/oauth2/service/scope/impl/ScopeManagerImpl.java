@@ -46,6 +46,8 @@ public class ScopeManagerImpl extends AbstractService implements ScopeManager, I
 
     private static final Logger logger = LoggerFactory.getLogger(ScopeManagerImpl.class);
     private ConcurrentMap<String, Scope> scopes = new ConcurrentHashMap<>();
+    // read-only view of the scope catalog, rebuilt on scope events instead of being copied for each request
+    private volatile Set<Scope> scopesSnapshot = Collections.emptySet();
 
     @Autowired
     private ScopeService scopeService;
@@ -97,7 +99,7 @@ public class ScopeManagerImpl extends AbstractService implements ScopeManager, I
 
     @Override
     public Set<Scope> findAll() {
-        return new HashSet<>(scopes.values());
+        return scopesSnapshot;
     }
 
     @Override
@@ -112,6 +114,7 @@ public class ScopeManagerImpl extends AbstractService implements ScopeManager, I
                     this.scopes.put(scope.getKey(), scope);
                     logger.info("Scope {} loaded for domain {}", scope.getKey(), domain.getName());
                 });
+        refreshSnapshot();
     }
 
     private void updateScopes(Page<Scope> scopes) {
@@ -121,6 +124,7 @@ public class ScopeManagerImpl extends AbstractService implements ScopeManager, I
                     this.scopes.put(scope.getKey(), scope);
                     logger.info("Scope {} loaded for domain {}", scope.getKey(), domain.getName());
                 });
+        refreshSnapshot();
     }
 
     private void updateScope(String scopeId, ScopeEvent scopeEvent) {
@@ -139,5 +143,10 @@ public class ScopeManagerImpl extends AbstractService implements ScopeManager, I
     private void removeScope(String scopeId) {
         logger.info("Domain {} has received scope event, delete scope {}", domain.getName(), scopeId);
         scopes.values().removeIf(scope -> scopeId.equals(scope.getId()));
+        refreshSnapshot();
+    }
+
+    private void refreshSnapshot() {
+        scopesSnapshot = Collections.unmodifiableSet(new HashSet<>(scopes.values()));
     }
 }
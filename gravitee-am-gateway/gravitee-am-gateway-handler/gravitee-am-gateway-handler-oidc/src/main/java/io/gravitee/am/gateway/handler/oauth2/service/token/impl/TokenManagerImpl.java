@@ -18,17 +18,21 @@ package io.gravitee.am.gateway.handler.oauth2.service.token.impl;
 import io.gravitee.am.gateway.handler.oauth2.service.token.TokenManager;
 import io.gravitee.am.gateway.handler.oauth2.service.token.indexer.AccessTokenBulkProcessor;
 import io.gravitee.am.gateway.handler.oauth2.service.token.indexer.RefreshTokenBulkProcessor;
+import io.gravitee.am.model.Domain;
 import io.gravitee.am.repository.oauth2.api.AccessTokenRepository;
 import io.gravitee.am.repository.oauth2.api.RefreshTokenRepository;
 import io.gravitee.am.repository.oauth2.model.AccessToken;
 import io.gravitee.am.repository.oauth2.model.RefreshToken;
+import io.gravitee.am.service.utils.MetricsUtils;
 import io.gravitee.common.service.AbstractService;
+import io.micrometer.core.instrument.Gauge;
 import io.reactivex.processors.PublishProcessor;
 import io.reactivex.schedulers.Schedulers;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
@@ -51,10 +55,27 @@ public class TokenManagerImpl extends AbstractService implements TokenManager {
 
     private final PublishProcessor<RefreshToken> bulkProcessorRefreshToken = PublishProcessor.create();
 
+    @Autowired
+    private Domain domain;
+
+    /**
+     * Tokens stored but not handed to the bulk processors yet.
+     */
+    private final AtomicLong pendingAccessTokens = new AtomicLong();
+
+    private final AtomicLong pendingRefreshTokens = new AtomicLong();
+
+    private Gauge accessTokensGauge;
+
+    private Gauge refreshTokensGauge;
+
     @Override
     protected void doStart() throws Exception {
         super.doStart();
 
+        accessTokensGauge = gauge("access_token", pendingAccessTokens);
+        refreshTokensGauge = gauge("refresh_token", pendingRefreshTokens);
+
         // init bulk processors
         bulkProcessorAccessToken
                 .onBackpressureBuffer()
@@ -64,6 +85,7 @@ public class TokenManagerImpl extends AbstractService implements TokenManager {
                         TimeUnit.SECONDS,
                         bulkActions
                 )
+                .doOnNext(accessTokens -> pendingAccessTokens.addAndGet(-accessTokens.size()))
                 .filter(accessTokens -> accessTokens != null && !accessTokens.isEmpty())
                 .subscribe(new AccessTokenBulkProcessor(accessTokenRepository));
 
@@ -76,19 +98,39 @@ public class TokenManagerImpl extends AbstractService implements TokenManager {
                         TimeUnit.SECONDS,
                         bulkActions
                 )
+                .doOnNext(refreshTokens -> pendingRefreshTokens.addAndGet(-refreshTokens.size()))
                 .filter(refreshTokens -> refreshTokens != null && !refreshTokens.isEmpty())
                 .subscribe(new RefreshTokenBulkProcessor(refreshTokenRepository));
     }
 
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+
+        // the domain may be deployed again, the new instance registers its own gauges
+        MetricsUtils.registry().remove(accessTokensGauge);
+        MetricsUtils.registry().remove(refreshTokensGauge);
+    }
+
     @Override
     public void storeAccessToken(AccessToken accessToken) {
+        pendingAccessTokens.incrementAndGet();
         bulkProcessorAccessToken
                 .onNext(accessToken);
     }
 
     @Override
     public void storeRefreshToken(RefreshToken refreshToken) {
+        pendingRefreshTokens.incrementAndGet();
         bulkProcessorRefreshToken
                 .onNext(refreshToken);
     }
+
+    private Gauge gauge(String type, AtomicLong pending) {
+        return Gauge.builder("am_token_write_queue_size", pending, AtomicLong::get)
+                .description("Tokens waiting to be written by the bulk processor")
+                .tag(MetricsUtils.TAG_DOMAIN, domain.getId())
+                .tag("type", type)
+                .register(MetricsUtils.registry());
+    }
 }
@@ -25,6 +25,7 @@ import io.gravitee.am.common.utils.RandomString;
 import io.gravitee.am.common.utils.SecureRandomString;
 import io.gravitee.am.gateway.handler.common.jwt.JWTService;
 import io.gravitee.am.gateway.handler.common.oauth2.IntrospectionTokenService;
+import io.gravitee.am.gateway.handler.common.oauth2.RevokedTokenManager;
 import io.gravitee.am.gateway.handler.common.utils.ConstantKeys;
 import io.gravitee.am.gateway.handler.context.ExecutionContextFactory;
 import io.gravitee.am.gateway.handler.context.provider.ClientProperties;
@@ -44,9 +45,11 @@ import io.gravitee.am.model.oidc.Client;
 import io.gravitee.am.model.uma.PermissionRequest;
 import io.gravitee.am.repository.oauth2.api.AccessTokenRepository;
 import io.gravitee.am.repository.oauth2.api.RefreshTokenRepository;
+import io.gravitee.am.service.utils.MetricsUtils;
 import io.gravitee.common.util.MultiValueMap;
 import io.gravitee.gateway.api.ExecutionContext;
 import io.gravitee.gateway.api.context.SimpleExecutionContext;
+import io.micrometer.core.instrument.Timer;
 import io.reactivex.Completable;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
@@ -56,6 +59,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -90,6 +95,11 @@ public class TokenServiceImpl implements TokenService {
     @Autowired
     private IntrospectionTokenService introspectionTokenService;
 
+    @Autowired
+    private RevokedTokenManager revokedTokenManager;
+
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
     @Override
     public Maybe<Token> getAccessToken(String token, Client client) {
         return jwtService.decodeAndVerify(token, client)
@@ -99,7 +109,13 @@ public class TokenServiceImpl implements TokenService {
                     }
                     return Single.error(ex);
                 })
-                .flatMapMaybe(jwt -> accessTokenRepository.findByToken(jwt.getJti()).map(accessToken -> convertAccessToken(jwt)));
+                .flatMapMaybe(jwt -> {
+                    // stateless access tokens are not stored, check the revocation list instead
+                    if (client.isStatelessAccessToken()) {
+                        return revokedTokenManager.isRevoked(jwt) ? Maybe.empty() : Maybe.just(convertAccessToken(jwt));
+                    }
+                    return accessTokenRepository.findByToken(jwt.getJti()).map(accessToken -> convertAccessToken(jwt));
+                });
     }
 
     @Override
@@ -122,9 +138,17 @@ public class TokenServiceImpl implements TokenService {
 
     @Override
     public Single<Token> create(OAuth2Request oAuth2Request, Client client, User endUser) {
-        // create execution context
-        return Single.fromCallable(() -> createExecutionContext(oAuth2Request, client, endUser))
-                .flatMap(executionContext -> {
+        final long start = System.nanoTime();
+        return create0(oAuth2Request, client, endUser)
+                .doOnEvent((token, throwable) -> timer(client, throwable == null ? MetricsUtils.RESULT_SUCCESS : MetricsUtils.RESULT_ERROR)
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+    }
+
+    private Single<Token> create0(OAuth2Request oAuth2Request, Client client, User endUser) {
+        // create execution context (only required to evaluate custom claims or to generate the ID token)
+        return Single.fromCallable(() -> Optional.ofNullable(createExecutionContext(oAuth2Request, client, endUser)))
+                .flatMap(optionalExecutionContext -> {
+                    ExecutionContext executionContext = optionalExecutionContext.orElse(null);
                     // create JWT access token
                     JWT accessToken = createAccessTokenJWT(oAuth2Request, client, endUser, executionContext);
                     // create JWT refresh token
@@ -137,7 +161,7 @@ public class TokenServiceImpl implements TokenService {
                             (encodedAccessToken, optionalEncodedRefreshToken) -> convert(accessToken, encodedAccessToken, optionalEncodedRefreshToken.orElse(null), oAuth2Request))
                             .flatMap(accessToken1 -> tokenEnhancer.enhance(accessToken1, oAuth2Request, client, endUser, executionContext))
                             // on success store tokens in the repository
-                            .doOnSuccess(token -> storeTokens(accessToken, refreshToken, oAuth2Request));
+                            .doOnSuccess(token -> storeTokens(accessToken, refreshToken, oAuth2Request, client));
 
                 });
     }
@@ -176,9 +200,24 @@ public class TokenServiceImpl implements TokenService {
         return refreshTokenRepository.delete(refreshToken);
     }
 
-    private void storeTokens(JWT accessToken, JWT refreshToken, OAuth2Request oAuth2Request) {
-        // store access token
-        tokenManager.storeAccessToken(convert(accessToken, refreshToken,  oAuth2Request));
+    private Timer timer(Client client, String result) {
+        final Timer timer = timers.get(result);
+        if (timer != null) {
+            return timer;
+        }
+        return timers.computeIfAbsent(result, key -> Timer.builder("am_token_issuance")
+                .description("Time to create, sign and enhance the tokens of a token response")
+                .tag(MetricsUtils.TAG_DOMAIN, String.valueOf(client.getDomain()))
+                .tag(MetricsUtils.TAG_RESULT, key)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(MetricsUtils.registry()));
+    }
+
+    private void storeTokens(JWT accessToken, JWT refreshToken, OAuth2Request oAuth2Request, Client client) {
+        // store access token (stateless access tokens are only checked against the revocation list)
+        if (!client.isStatelessAccessToken()) {
+            tokenManager.storeAccessToken(convert(accessToken, refreshToken, oAuth2Request));
+        }
         // store refresh token (if exists)
         if (refreshToken != null) {
             tokenManager.storeRefreshToken(convert(refreshToken));
@@ -321,8 +360,15 @@ public class TokenServiceImpl implements TokenService {
         return jwt;
     }
 
+    private boolean hasCustomClaims(Client client, TokenTypeHint tokenTypeHint) {
+        List<TokenClaim> customClaims = client.getTokenCustomClaims();
+        return customClaims != null && customClaims
+                .stream()
+                .anyMatch(tokenClaim -> tokenTypeHint.equals(tokenClaim.getTokenType()));
+    }
+
     private void enhanceJWT(JWT jwt, List<TokenClaim> customClaims, TokenTypeHint tokenTypeHint, ExecutionContext executionContext) {
-        if (customClaims != null && !customClaims.isEmpty()) {
+        if (executionContext != null && customClaims != null && !customClaims.isEmpty()) {
             customClaims
                     .stream()
                     .filter(tokenClaim -> tokenTypeHint.equals(tokenClaim.getTokenType()))
@@ -342,6 +388,12 @@ public class TokenServiceImpl implements TokenService {
     }
 
     private ExecutionContext createExecutionContext(OAuth2Request request, Client client, User user) {
+        // bursts of client_credentials requests don't need any context, skip its creation
+        if (!request.shouldGenerateIDToken() && !hasCustomClaims(client, TokenTypeHint.ACCESS_TOKEN)) {
+            request.getContext().remove(ConstantKeys.AUTH_FLOW_CONTEXT_ATTRIBUTES_KEY);
+            return null;
+        }
+
         ExecutionContext simpleExecutionContext = new SimpleExecutionContext(request, null);
         ExecutionContext executionContext = executionContextFactory.create(simpleExecutionContext);
         executionContext.setAttribute("client", new ClientProperties(client));
@@ -21,7 +21,11 @@ import io.gravitee.am.gateway.handler.oauth2.OAuth2Provider;
 import io.gravitee.am.gateway.handler.oauth2.service.assertion.ClientAssertionService;
 import io.gravitee.am.gateway.handler.oauth2.service.assertion.impl.ClientAssertionServiceImpl;
 import io.gravitee.am.gateway.handler.oauth2.service.code.AuthorizationCodeService;
+import io.gravitee.am.gateway.handler.oauth2.service.code.AuthorizationCodeStore;
 import io.gravitee.am.gateway.handler.oauth2.service.code.impl.AuthorizationCodeServiceImpl;
+import io.gravitee.am.gateway.handler.oauth2.service.code.impl.InMemoryAuthorizationCodeStore;
+import io.gravitee.am.gateway.handler.oauth2.service.code.impl.RepositoryAuthorizationCodeStore;
+import io.gravitee.am.gateway.handler.oauth2.service.code.impl.WriteThroughAuthorizationCodeStore;
 import io.gravitee.am.gateway.handler.oauth2.service.consent.UserConsentService;
 import io.gravitee.am.gateway.handler.oauth2.service.consent.impl.UserConsentServiceImpl;
 import io.gravitee.am.gateway.handler.oauth2.service.granter.CompositeTokenGranter;
@@ -42,6 +46,7 @@ import io.gravitee.am.gateway.handler.oauth2.service.token.TokenService;
 import io.gravitee.am.gateway.handler.oauth2.service.token.impl.TokenEnhancerImpl;
 import io.gravitee.am.gateway.handler.oauth2.service.token.impl.TokenManagerImpl;
 import io.gravitee.am.gateway.handler.oauth2.service.token.impl.TokenServiceImpl;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -72,6 +77,20 @@ public class OAuth2Configuration implements ProtocolConfiguration {
         return new AuthorizationCodeServiceImpl();
     }
 
+    @Bean
+    public AuthorizationCodeStore authorizationCodeStore(@Value("${authorization.code.store.type:repository}") String type) {
+        switch (type) {
+            case "memory":
+                return new InMemoryAuthorizationCodeStore();
+            case "write-through":
+                return new WriteThroughAuthorizationCodeStore();
+            case "repository":
+                return new RepositoryAuthorizationCodeStore();
+            default:
+                throw new IllegalArgumentException("Unknown authorization code store type: " + type);
+        }
+    }
+
     @Bean
     public UserConsentService userConsentService() {
         return new UserConsentServiceImpl();
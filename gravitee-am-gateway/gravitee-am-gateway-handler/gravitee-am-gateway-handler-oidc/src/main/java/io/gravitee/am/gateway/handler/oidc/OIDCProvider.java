@@ -26,6 +26,7 @@ import io.gravitee.am.gateway.handler.oauth2.resources.auth.handler.ClientAuthHa
 import io.gravitee.am.gateway.handler.oauth2.resources.handler.ExceptionHandler;
 import io.gravitee.am.gateway.handler.oauth2.service.assertion.ClientAssertionService;
 import io.gravitee.am.gateway.handler.oauth2.service.granter.extensiongrant.ExtensionGrantManager;
+import io.gravitee.am.gateway.handler.oauth2.service.consent.UserConsentService;
 import io.gravitee.am.gateway.handler.oauth2.service.scope.ScopeManager;
 import io.gravitee.am.gateway.handler.oidc.resources.endpoint.*;
 import io.gravitee.am.gateway.handler.oidc.resources.handler.DynamicClientAccessHandler;
@@ -117,6 +118,9 @@ public class OIDCProvider extends AbstractService<ProtocolProvider> implements P
     @Autowired
     private ScopeManager scopeManager;
 
+    @Autowired
+    private UserConsentService userConsentService;
+
     @Autowired
     private RequestObjectService requestObjectService;
 
@@ -141,6 +145,7 @@ public class OIDCProvider extends AbstractService<ProtocolProvider> implements P
 
         extensionGrantManager.stop();
         scopeManager.stop();
+        userConsentService.stop();
     }
 
     @Override
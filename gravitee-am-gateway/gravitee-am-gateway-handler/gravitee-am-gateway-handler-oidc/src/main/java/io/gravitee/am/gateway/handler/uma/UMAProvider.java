@@ -15,6 +15,8 @@
  */
 package io.gravitee.am.gateway.handler.uma;
 
+import io.gravitee.am.common.event.EventManager;
+import io.gravitee.am.common.event.UmaResourceEvent;
 import io.gravitee.am.common.oidc.Scope;
 import io.gravitee.am.gateway.handler.api.ProtocolProvider;
 import io.gravitee.am.gateway.handler.common.vertx.web.auth.handler.OAuth2AuthHandler;
@@ -28,8 +30,12 @@ import io.gravitee.am.gateway.handler.uma.resources.handler.UMAProtectionApiAcce
 import io.gravitee.am.gateway.handler.uma.resources.handler.UmaExceptionHandler;
 import io.gravitee.am.gateway.handler.uma.service.discovery.UMADiscoveryService;
 import io.gravitee.am.model.Domain;
+import io.gravitee.am.model.ReferenceType;
+import io.gravitee.am.model.common.event.Payload;
 import io.gravitee.am.service.PermissionTicketService;
 import io.gravitee.am.service.ResourceService;
+import io.gravitee.common.event.Event;
+import io.gravitee.common.event.EventListener;
 import io.gravitee.common.http.HttpStatusCode;
 import io.gravitee.common.http.MediaType;
 import io.gravitee.common.service.AbstractService;
@@ -38,6 +44,8 @@ import io.vertx.reactivex.core.Vertx;
 import io.vertx.reactivex.ext.web.Router;
 import io.vertx.reactivex.ext.web.RoutingContext;
 import io.vertx.reactivex.ext.web.handler.CorsHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import static io.gravitee.am.gateway.handler.uma.constants.UMAConstants.*;
@@ -46,7 +54,9 @@ import static io.gravitee.am.gateway.handler.uma.constants.UMAConstants.*;
  * @author Alexandre FARIA (contact at alexandrefaria.net)
  * @author GraviteeSource Team
  */
-public class UMAProvider extends AbstractService<ProtocolProvider> implements ProtocolProvider{
+public class UMAProvider extends AbstractService<ProtocolProvider> implements ProtocolProvider, EventListener<UmaResourceEvent, Payload> {
+
+    private static final Logger logger = LoggerFactory.getLogger(UMAProvider.class);
 
     @Autowired
     private Vertx vertx;
@@ -72,6 +82,9 @@ public class UMAProvider extends AbstractService<ProtocolProvider> implements Pr
     @Autowired
     private PermissionTicketService permissionTicketService;
 
+    @Autowired
+    private EventManager eventManager;
+
     @Override
     protected void doStart() throws Exception {
         super.doStart();
@@ -79,12 +92,28 @@ public class UMAProvider extends AbstractService<ProtocolProvider> implements Pr
         if(domain.getUma()!=null && domain.getUma().isEnabled()) {
             // Init web router
             initRouter();
+
+            // the resources are kept in memory when issuing requesting party tokens
+            logger.info("Register event listener for UMA resource events for domain {}", domain.getName());
+            eventManager.subscribeForEvents(this, UmaResourceEvent.class, domain.getId());
         }
     }
 
     @Override
     protected void doStop() throws Exception {
         super.doStop();
+
+        if (domain.getUma() != null && domain.getUma().isEnabled()) {
+            logger.info("Dispose event listener for UMA resource events for domain {}", domain.getName());
+            eventManager.unsubscribeForEvents(this, UmaResourceEvent.class, domain.getId());
+        }
+    }
+
+    @Override
+    public void onEvent(Event<UmaResourceEvent, Payload> event) {
+        if (event.content().getReferenceType() == ReferenceType.DOMAIN && domain.getId().equals(event.content().getReferenceId())) {
+            resourceService.evict(event.content().getId());
+        }
     }
 
     @Override
@@ -31,6 +31,7 @@ public class DefaultRule implements Rule {
     private boolean enabled;
     private String condition;
     private Map<String, Object> metadata;
+    private String key;
 
     public DefaultRule() { }
 
@@ -48,6 +49,9 @@ public class DefaultRule implements Rule {
         this.description = accessPolicy.getDescription();
         this.enabled = accessPolicy.isEnabled();
         this.condition = accessPolicy.getCondition();
+        // a new key is used each time the access policy is updated
+        this.key = accessPolicy.getResource() + ":" + accessPolicy.getId() + ":" +
+                (accessPolicy.getUpdatedAt() != null ? accessPolicy.getUpdatedAt().getTime() : 0L);
     }
 
     @Override
@@ -83,4 +87,9 @@ public class DefaultRule implements Rule {
     public void setMetadata(Map<String, Object> metadata) {
         this.metadata = metadata;
     }
+
+    @Override
+    public String key() {
+        return key;
+    }
 }
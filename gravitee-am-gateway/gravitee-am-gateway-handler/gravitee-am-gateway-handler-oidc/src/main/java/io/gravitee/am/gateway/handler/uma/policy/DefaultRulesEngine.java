@@ -15,26 +15,39 @@
  */
 package io.gravitee.am.gateway.handler.uma.policy;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.gravitee.am.gateway.policy.Policy;
 import io.gravitee.am.gateway.policy.PolicyChainException;
 import io.gravitee.am.gateway.policy.PolicyChainProcessorFactory;
+import io.gravitee.am.gateway.policy.PolicyException;
+import io.gravitee.am.model.Domain;
 import io.gravitee.am.plugins.policy.core.PolicyPluginManager;
+import io.gravitee.am.service.utils.MetricsUtils;
 import io.gravitee.gateway.api.ExecutionContext;
+import io.micrometer.core.instrument.Counter;
 import io.reactivex.Completable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
+ * Policies are instantiated (and their scripts compiled) once per rule version (see {@link Rule#key()}) and shared
+ * by the executions, each execution only carrying its own metadata.
+ *
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
  * @author GraviteeSource Team
  */
-public class DefaultRulesEngine implements RulesEngine {
+public class DefaultRulesEngine implements RulesEngine, InitializingBean {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultRulesEngine.class);
 
@@ -44,6 +57,32 @@ public class DefaultRulesEngine implements RulesEngine {
     @Autowired
     private PolicyPluginManager policyPluginManager;
 
+    @Autowired
+    private Domain domain;
+
+    @Value("${uma.policies.cache.maxSize:1000}")
+    private int policiesCacheMaxSize;
+
+    @Value("${uma.policies.cache.ttl:3600}")
+    private int policiesCacheTtlSeconds;
+
+    private Cache<String, CachedPolicy> policiesCache;
+
+    private Counter hits;
+
+    private Counter misses;
+
+    @Override
+    public void afterPropertiesSet() {
+        // outdated rule versions are never requested again and expire
+        policiesCache = CacheBuilder.newBuilder()
+                .maximumSize(policiesCacheMaxSize)
+                .expireAfterAccess(policiesCacheTtlSeconds, TimeUnit.SECONDS)
+                .build();
+        hits = counter("hit");
+        misses = counter("miss");
+    }
+
     @Override
     public Completable fire(List<Rule> rules, ExecutionContext executionContext) {
         if (rules.isEmpty()) {
@@ -65,9 +104,8 @@ public class DefaultRulesEngine implements RulesEngine {
             return rules.stream()
                     .filter(rule -> rule.enabled())
                     .map(rule -> {
-                        Policy policy = policyPluginManager.create(rule.type(), rule.condition());
-                        policy.setMetadata(rule.metadata());
-                        return policy;
+                        Policy policy = getOrCreate(rule);
+                        return policy == null ? null : new RulePolicy(policy, rule.metadata());
                     })
                     .filter(Objects::nonNull)
                     .collect(Collectors.toList());
@@ -75,4 +113,82 @@ public class DefaultRulesEngine implements RulesEngine {
 
         return Collections.emptyList();
     }
+
+    private Policy getOrCreate(Rule rule) {
+        final String key = rule.key();
+        if (key == null) {
+            return policyPluginManager.create(rule.type(), rule.condition());
+        }
+
+        CachedPolicy cachedPolicy = policiesCache.getIfPresent(key);
+        // the condition is checked in case of two updates within the same millisecond
+        if (cachedPolicy != null && cachedPolicy.matches(rule)) {
+            hits.increment();
+            return cachedPolicy.policy;
+        }
+        misses.increment();
+
+        Policy policy = policyPluginManager.create(rule.type(), rule.condition());
+        if (policy != null) {
+            policiesCache.put(key, new CachedPolicy(rule.type(), rule.condition(), policy));
+        }
+        return policy;
+    }
+
+    private Counter counter(String result) {
+        return Counter.builder("am_uma_policy_cache_gets")
+                .description("Lookups of instantiated access policies")
+                .tag(MetricsUtils.TAG_DOMAIN, String.valueOf(domain.getId()))
+                .tag(MetricsUtils.TAG_RESULT, result)
+                .register(MetricsUtils.registry());
+    }
+
+    private static class CachedPolicy {
+        private final String type;
+        private final String condition;
+        private final Policy policy;
+
+        private CachedPolicy(String type, String condition, Policy policy) {
+            this.type = type;
+            this.condition = condition;
+            this.policy = policy;
+        }
+
+        private boolean matches(Rule rule) {
+            return Objects.equals(type, rule.type()) && Objects.equals(condition, rule.condition());
+        }
+    }
+
+    /**
+     * Shared policy instance bound to the metadata of a single execution.
+     */
+    private static class RulePolicy implements Policy {
+        private final Policy policy;
+        private final Map<String, Object> metadata;
+
+        private RulePolicy(Policy policy, Map<String, Object> metadata) {
+            this.policy = policy;
+            this.metadata = metadata;
+        }
+
+        @Override
+        public String id() {
+            return policy.id();
+        }
+
+        @Override
+        public Map<String, Object> metadata() {
+            return metadata;
+        }
+
+        @Override
+        public void execute(Object... args) throws PolicyException {
+            policy.execute(args);
+        }
+
+        @Override
+        public boolean isRunnable() {
+            return policy.isRunnable();
+        }
+    }
 }
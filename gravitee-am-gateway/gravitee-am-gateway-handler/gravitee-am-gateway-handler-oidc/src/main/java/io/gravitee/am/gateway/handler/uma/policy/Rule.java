@@ -29,4 +29,13 @@ public interface Rule {
     boolean enabled();
     String condition();
     Map<String, Object> metadata();
+
+    /**
+     * Identifies this version of the rule, rules sharing the same key share the same policy instance.
+     *
+     * @return the rule version key or <code>null</code> if the policy must be created for each execution
+     */
+    default String key() {
+        return null;
+    }
 }
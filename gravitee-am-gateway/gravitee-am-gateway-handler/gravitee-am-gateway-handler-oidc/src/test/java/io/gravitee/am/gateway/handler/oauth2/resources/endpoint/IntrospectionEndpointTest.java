@@ -18,8 +18,12 @@ package io.gravitee.am.gateway.handler.oauth2.resources.endpoint;
 import io.gravitee.am.gateway.handler.common.vertx.RxWebTestBase;
 import io.gravitee.am.gateway.handler.oauth2.resources.endpoint.introspection.IntrospectionEndpoint;
 import io.gravitee.am.gateway.handler.oauth2.resources.handler.ExceptionHandler;
+import io.gravitee.am.gateway.handler.oauth2.service.introspection.IntrospectionResponse;
 import io.gravitee.am.gateway.handler.oauth2.service.introspection.IntrospectionService;
 import io.gravitee.common.http.HttpStatusCode;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.reactivex.Single;
 import io.vertx.core.http.HttpMethod;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -27,6 +31,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
 /**
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
  * @author GraviteeSource Team
@@ -73,4 +81,32 @@ public class IntrospectionEndpointTest extends RxWebTestBase {
                 HttpStatusCode.BAD_REQUEST_400, "Bad Request");
     }
 
+    @Test
+    public void shouldRecordIntrospection() throws Exception {
+        final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Metrics.globalRegistry.add(registry);
+        try {
+            io.gravitee.am.model.oidc.Client client = new io.gravitee.am.model.oidc.Client();
+            client.setClientId("my-client-id");
+            client.setDomain("introspection-domain");
+
+            router.route().order(-1).handler(routingContext -> {
+                routingContext.put("client", client);
+                routingContext.next();
+            });
+            when(introspectionService.introspect(any())).thenReturn(Single.just(new IntrospectionResponse(true)));
+
+            testRequest(
+                    HttpMethod.POST,
+                    "/oauth/introspect?token=my-token",
+                    HttpStatusCode.OK_200, "OK");
+
+            assertEquals(1, registry.get("am_introspection_requests")
+                    .tag("domain", "introspection-domain")
+                    .tag("active", "true")
+                    .timer().count());
+        } finally {
+            Metrics.globalRegistry.remove(registry);
+        }
+    }
 }
@@ -17,6 +17,7 @@ package io.gravitee.am.gateway.handler.oauth2.service.code;
 
 import io.gravitee.am.gateway.handler.oauth2.exception.InvalidGrantException;
 import io.gravitee.am.gateway.handler.oauth2.service.code.impl.AuthorizationCodeServiceImpl;
+import io.gravitee.am.gateway.handler.oauth2.service.code.impl.RepositoryAuthorizationCodeStore;
 import io.gravitee.am.gateway.handler.oauth2.service.request.AuthorizationRequest;
 import io.gravitee.am.model.oidc.Client;
 import io.gravitee.am.model.User;
@@ -30,11 +31,13 @@ import io.reactivex.Maybe;
 import io.reactivex.Observable;
 import io.reactivex.Single;
 import io.reactivex.observers.TestObserver;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Arrays;
 import java.util.List;
@@ -61,6 +64,13 @@ public class AuthorizationCodeServiceTest {
     @Mock
     private RefreshTokenRepository refreshTokenRepository;
 
+    @Before
+    public void setUp() {
+        AuthorizationCodeStore authorizationCodeStore = new RepositoryAuthorizationCodeStore();
+        ReflectionTestUtils.setField(authorizationCodeStore, "authorizationCodeRepository", authorizationCodeRepository);
+        ReflectionTestUtils.setField(authorizationCodeService, "authorizationCodeStore", authorizationCodeStore);
+    }
+
     @Test
     public void shouldCreate_noExistingCode() {
         AuthorizationRequest authorizationRequest = new AuthorizationRequest();
@@ -181,4 +191,25 @@ public class AuthorizationCodeServiceTest {
         verify(refreshTokenRepository, times(2)).delete(anyString());
         verify(authorizationCodeRepository, never()).delete(any());
     }
+
+    @Test
+    public void shouldNotRemove_codeConsumedConcurrently() {
+        Client client = new Client();
+        client.setClientId("my-client-id");
+
+        AuthorizationCode authorizationCode = new AuthorizationCode();
+        authorizationCode.setId("code-id");
+        authorizationCode.setCode("my-code");
+        authorizationCode.setClientId("my-client-id");
+
+        when(authorizationCodeRepository.findByCode(authorizationCode.getCode())).thenReturn(Maybe.just(authorizationCode));
+        when(authorizationCodeRepository.delete(authorizationCode.getId())).thenReturn(Maybe.empty());
+        when(accessTokenRepository.findByAuthorizationCode(authorizationCode.getCode())).thenReturn(Observable.empty());
+
+        TestObserver<AuthorizationCode> testObserver = authorizationCodeService.remove(authorizationCode.getCode(), client).test();
+        testObserver.assertError(InvalidGrantException.class);
+
+        verify(authorizationCodeRepository, times(1)).delete(any());
+        verify(accessTokenRepository, times(2)).findByAuthorizationCode(anyString());
+    }
 }
@@ -0,0 +1,192 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.oauth2.service.code;
+
+import io.gravitee.am.gateway.handler.oauth2.exception.InvalidGrantException;
+import io.gravitee.am.gateway.handler.oauth2.service.code.impl.AuthorizationCodeServiceImpl;
+import io.gravitee.am.gateway.handler.oauth2.service.code.impl.InMemoryAuthorizationCodeStore;
+import io.gravitee.am.gateway.handler.oauth2.service.code.impl.WriteThroughAuthorizationCodeStore;
+import io.gravitee.am.model.oidc.Client;
+import io.gravitee.am.repository.oauth2.api.AccessTokenRepository;
+import io.gravitee.am.repository.oauth2.api.AuthorizationCodeRepository;
+import io.gravitee.am.repository.oauth2.model.AuthorizationCode;
+import io.reactivex.Maybe;
+import io.reactivex.Observable;
+import io.reactivex.Single;
+import io.reactivex.observers.TestObserver;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class AuthorizationCodeStoreTest {
+
+    private static final int CONCURRENT_REQUESTS = 16;
+
+    @Mock
+    private AuthorizationCodeRepository authorizationCodeRepository;
+
+    @Mock
+    private AccessTokenRepository accessTokenRepository;
+
+    @Test
+    public void shouldConsumeOnce_inMemory() {
+        AuthorizationCodeStore authorizationCodeStore = new InMemoryAuthorizationCodeStore();
+        AuthorizationCode authorizationCode = authorizationCode(60000);
+        authorizationCodeStore.create(authorizationCode).test().assertValue(authorizationCode);
+
+        authorizationCodeStore.findByCode("my-code").test().assertValue(authorizationCode);
+        authorizationCodeStore.consume(authorizationCode).test().assertValue(authorizationCode);
+        authorizationCodeStore.consume(authorizationCode).test().assertNoValues().assertComplete();
+        authorizationCodeStore.findByCode("my-code").test().assertNoValues().assertComplete();
+    }
+
+    @Test
+    public void shouldNotFind_expiredCode_inMemory() {
+        AuthorizationCodeStore authorizationCodeStore = new InMemoryAuthorizationCodeStore();
+        authorizationCodeStore.create(authorizationCode(-1000)).test().assertComplete();
+
+        authorizationCodeStore.findByCode("my-code").test().assertNoValues().assertComplete();
+    }
+
+    @Test
+    public void shouldConsumeOnce_inMemory_concurrentRequests() throws Exception {
+        AuthorizationCodeStore authorizationCodeStore = new InMemoryAuthorizationCodeStore();
+        AuthorizationCode authorizationCode = authorizationCode(60000);
+        authorizationCodeStore.create(authorizationCode).test().assertComplete();
+
+        List<Boolean> results = race(() -> authorizationCodeStore.findByCode("my-code")
+                .flatMap(authorizationCodeStore::consume)
+                .isEmpty()
+                .blockingGet());
+
+        assertEquals(1, results.stream().filter(empty -> !empty).count());
+    }
+
+    @Test
+    public void shouldRemoveOnce_concurrentTokenRequests() throws Exception {
+        AuthorizationCodeStore authorizationCodeStore = new InMemoryAuthorizationCodeStore();
+        AuthorizationCodeService authorizationCodeService = new AuthorizationCodeServiceImpl();
+        ReflectionTestUtils.setField(authorizationCodeService, "authorizationCodeStore", authorizationCodeStore);
+        ReflectionTestUtils.setField(authorizationCodeService, "accessTokenRepository", accessTokenRepository);
+        when(accessTokenRepository.findByAuthorizationCode("my-code")).thenReturn(Observable.empty());
+
+        authorizationCodeStore.create(authorizationCode(60000)).test().assertComplete();
+        Client client = new Client();
+        client.setClientId("my-client-id");
+
+        List<Boolean> results = race(() -> {
+            TestObserver<AuthorizationCode> testObserver = authorizationCodeService.remove("my-code", client).test();
+            testObserver.awaitTerminalEvent();
+            if (testObserver.errorCount() > 0) {
+                testObserver.assertError(InvalidGrantException.class);
+                return false;
+            }
+            testObserver.assertValueCount(1);
+            return true;
+        });
+
+        assertEquals(1, results.stream().filter(removed -> removed).count());
+    }
+
+    @Test
+    public void shouldConsumeOnce_writeThrough_concurrentRequests() throws Exception {
+        AuthorizationCodeStore authorizationCodeStore = new WriteThroughAuthorizationCodeStore();
+        ReflectionTestUtils.setField(authorizationCodeStore, "authorizationCodeRepository", authorizationCodeRepository);
+        AuthorizationCode authorizationCode = authorizationCode(60000);
+        AtomicBoolean deleted = new AtomicBoolean();
+        when(authorizationCodeRepository.create(authorizationCode)).thenReturn(Single.just(authorizationCode));
+        when(authorizationCodeRepository.delete("code-id")).thenReturn(Maybe.defer(() ->
+                deleted.compareAndSet(false, true) ? Maybe.just(authorizationCode) : Maybe.empty()));
+        // requests arriving after the local consumption fall back to the repository (timing dependent)
+        lenient().when(authorizationCodeRepository.findByCode("my-code")).thenReturn(Maybe.defer(() ->
+                deleted.get() ? Maybe.empty() : Maybe.just(authorizationCode)));
+
+        authorizationCodeStore.create(authorizationCode).test().assertComplete();
+
+        List<Boolean> results = race(() -> authorizationCodeStore.findByCode("my-code")
+                .flatMap(authorizationCodeStore::consume)
+                .isEmpty()
+                .blockingGet());
+
+        assertEquals(1, results.stream().filter(empty -> !empty).count());
+    }
+
+    @Test
+    public void shouldFind_writeThrough_codeIssuedByAnotherNode() {
+        AuthorizationCodeStore authorizationCodeStore = new WriteThroughAuthorizationCodeStore();
+        ReflectionTestUtils.setField(authorizationCodeStore, "authorizationCodeRepository", authorizationCodeRepository);
+        AuthorizationCode authorizationCode = authorizationCode(60000);
+        when(authorizationCodeRepository.findByCode("my-code")).thenReturn(Maybe.just(authorizationCode));
+        when(authorizationCodeRepository.delete("code-id")).thenReturn(Maybe.just(authorizationCode));
+
+        authorizationCodeStore.findByCode("my-code").test().assertValue(authorizationCode);
+        authorizationCodeStore.consume(authorizationCode).test().assertValue(authorizationCode);
+
+        verify(authorizationCodeRepository, never()).create(any());
+    }
+
+    private static AuthorizationCode authorizationCode(long validity) {
+        AuthorizationCode authorizationCode = new AuthorizationCode();
+        authorizationCode.setId("code-id");
+        authorizationCode.setCode("my-code");
+        authorizationCode.setClientId("my-client-id");
+        authorizationCode.setExpireAt(new Date(System.currentTimeMillis() + validity));
+        return authorizationCode;
+    }
+
+    private static <T> List<T> race(Callable<T> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<T>> futures = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get(10, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
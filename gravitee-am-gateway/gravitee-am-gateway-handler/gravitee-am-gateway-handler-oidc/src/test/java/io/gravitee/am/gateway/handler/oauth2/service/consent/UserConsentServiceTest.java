@@ -0,0 +1,157 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.oauth2.service.consent;
+
+import io.gravitee.am.common.event.Action;
+import io.gravitee.am.common.event.EventManager;
+import io.gravitee.am.common.event.TokenEvent;
+import io.gravitee.am.gateway.handler.oauth2.service.consent.impl.UserConsentServiceImpl;
+import io.gravitee.am.gateway.handler.oauth2.service.scope.ScopeService;
+import io.gravitee.am.model.Domain;
+import io.gravitee.am.model.ReferenceType;
+import io.gravitee.am.model.User;
+import io.gravitee.am.model.common.event.Payload;
+import io.gravitee.am.model.oauth2.ScopeApproval;
+import io.gravitee.am.model.oidc.Client;
+import io.gravitee.am.service.ScopeApprovalService;
+import io.gravitee.common.event.impl.SimpleEvent;
+import io.reactivex.Flowable;
+import io.reactivex.Single;
+import io.reactivex.observers.TestObserver;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class UserConsentServiceTest {
+
+    private static final String DOMAIN_ID = "domain-id";
+
+    @InjectMocks
+    private UserConsentServiceImpl userConsentService = new UserConsentServiceImpl();
+
+    @Mock
+    private ScopeApprovalService scopeApprovalService;
+
+    @Mock
+    private ScopeService scopeService;
+
+    @Mock
+    private EventManager eventManager;
+
+    @Mock
+    private Domain domain;
+
+    private Client client;
+
+    private User user;
+
+    @Before
+    public void setUp() {
+        ReflectionTestUtils.setField(userConsentService, "approvalCacheMaxSize", 100);
+        ReflectionTestUtils.setField(userConsentService, "approvalCacheTtlSeconds", 60);
+        when(domain.getId()).thenReturn(DOMAIN_ID);
+        userConsentService.afterPropertiesSet();
+
+        client = new Client();
+        client.setClientId("client-id");
+        user = new User();
+        user.setId("user-id");
+    }
+
+    @Test
+    public void shouldCheckConsent_cached() {
+        when(scopeApprovalService.findByDomainAndUserAndClient(DOMAIN_ID, "user-id", "client-id"))
+                .thenReturn(Flowable.just(approval("read", Instant.now().plus(1, ChronoUnit.DAYS)), approval("write", Instant.now().minus(1, ChronoUnit.DAYS))));
+
+        TestObserver<Set<String>> testObserver = userConsentService.checkConsent(client, user).test();
+        testObserver.assertComplete();
+        testObserver.assertValue(Collections.singleton("read"));
+
+        // second authorization is served from the cache
+        testObserver = userConsentService.checkConsent(client, user).test();
+        testObserver.assertComplete();
+        testObserver.assertValue(Collections.singleton("read"));
+
+        verify(scopeApprovalService, times(1)).findByDomainAndUserAndClient(DOMAIN_ID, "user-id", "client-id");
+    }
+
+    @Test
+    public void shouldCheckConsent_evictedOnSave() {
+        ScopeApproval approval = approval("read", Instant.now().plus(1, ChronoUnit.DAYS));
+        when(scopeApprovalService.findByDomainAndUserAndClient(DOMAIN_ID, "user-id", "client-id")).thenReturn(Flowable.empty());
+        when(scopeApprovalService.saveConsent(eq(DOMAIN_ID), eq(client), any())).thenReturn(Single.just(Collections.singletonList(approval)));
+
+        userConsentService.checkConsent(client, user).test().assertValue(Collections.emptySet());
+        userConsentService.saveConsent(client, Collections.singletonList(approval), null).test().assertComplete();
+        userConsentService.checkConsent(client, user).test().assertComplete();
+
+        verify(scopeApprovalService, times(2)).findByDomainAndUserAndClient(DOMAIN_ID, "user-id", "client-id");
+    }
+
+    @Test
+    public void shouldCheckConsent_evictedOnSubjectRevocation() {
+        when(scopeApprovalService.findByDomainAndUserAndClient(DOMAIN_ID, "user-id", "client-id")).thenReturn(Flowable.empty());
+
+        userConsentService.checkConsent(client, user).test().assertComplete();
+        userConsentService.onEvent(new SimpleEvent<>(TokenEvent.REVOKE_SUBJECT, new Payload("user-id", ReferenceType.DOMAIN, DOMAIN_ID, Action.BULK_DELETE)));
+        userConsentService.checkConsent(client, user).test().assertComplete();
+
+        verify(scopeApprovalService, times(2)).findByDomainAndUserAndClient(DOMAIN_ID, "user-id", "client-id");
+    }
+
+    @Test
+    public void shouldCheckConsent_evictedOnClientRevocation() {
+        when(scopeApprovalService.findByDomainAndUserAndClient(DOMAIN_ID, "user-id", "client-id")).thenReturn(Flowable.empty());
+
+        userConsentService.checkConsent(client, user).test().assertComplete();
+        // revocation for another client
+        userConsentService.onEvent(new SimpleEvent<>(TokenEvent.REVOKE_SUBJECT, new Payload(TokenEvent.subjectKey("user-id", "other-client-id"), ReferenceType.DOMAIN, DOMAIN_ID, Action.BULK_DELETE)));
+        userConsentService.checkConsent(client, user).test().assertComplete();
+        verify(scopeApprovalService, times(1)).findByDomainAndUserAndClient(DOMAIN_ID, "user-id", "client-id");
+
+        userConsentService.onEvent(new SimpleEvent<>(TokenEvent.REVOKE_SUBJECT, new Payload(TokenEvent.subjectKey("user-id", "client-id"), ReferenceType.DOMAIN, DOMAIN_ID, Action.BULK_DELETE)));
+        userConsentService.checkConsent(client, user).test().assertComplete();
+        verify(scopeApprovalService, times(2)).findByDomainAndUserAndClient(DOMAIN_ID, "user-id", "client-id");
+    }
+
+    private static ScopeApproval approval(String scope, Instant expiresAt) {
+        ScopeApproval approval = new ScopeApproval();
+        approval.setUserId("user-id");
+        approval.setClientId("client-id");
+        approval.setScope(scope);
+        approval.setStatus(ScopeApproval.ApprovalStatus.APPROVED);
+        approval.setExpiresAt(Date.from(expiresAt));
+        return approval;
+    }
+}
@@ -19,6 +19,7 @@ import io.gravitee.am.common.jwt.JWT;
 import io.gravitee.am.common.oauth2.TokenTypeHint;
 import io.gravitee.am.gateway.handler.common.client.ClientSyncService;
 import io.gravitee.am.gateway.handler.common.jwt.JWTService;
+import io.gravitee.am.gateway.handler.common.oauth2.RevokedTokenManager;
 import io.gravitee.am.gateway.handler.common.utils.ConstantKeys;
 import io.gravitee.am.gateway.handler.context.ExecutionContextFactory;
 import io.gravitee.am.gateway.handler.context.ReactableExecutionContext;
@@ -37,6 +38,8 @@ import io.gravitee.am.repository.oauth2.api.RefreshTokenRepository;
 import io.gravitee.am.repository.oauth2.model.RefreshToken;
 import io.gravitee.el.TemplateEngine;
 import io.gravitee.gateway.api.ExecutionContext;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.reactivex.Completable;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
@@ -48,11 +51,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
@@ -92,6 +97,9 @@ public class TokenServiceTest {
     @Mock
     private TokenManager tokenManager;
 
+    @Mock
+    private RevokedTokenManager revokedTokenManager;
+
     @Test
     public void shouldCreate() {
         OAuth2Request oAuth2Request = new OAuth2Request();
@@ -99,21 +107,101 @@ public class TokenServiceTest {
         Client client = new Client();
         client.setClientId("my-client-id");
 
-        ExecutionContext executionContext = mock(ExecutionContext.class);
-
         when(jwtService.encode(any(), any(Client.class))).thenReturn(Single.just(""));
         when(tokenEnhancer.enhance(any(), any(), any(), any(), any())).thenReturn(Single.just(new AccessToken("token-id")));
-        when(executionContextFactory.create(any())).thenReturn(executionContext);
         doNothing().when(tokenManager).storeAccessToken(any());
         TestObserver<Token> testObserver = tokenService.create(oAuth2Request, client, null).test();
         testObserver.assertComplete();
         testObserver.assertNoErrors();
 
+        // no custom claims and no ID token, the execution context is not required
+        verify(executionContextFactory, never()).create(any());
         verify(tokenManager, times(1)).storeAccessToken(any());
         verify(accessTokenRepository, never()).delete(anyString());
         verify(refreshTokenRepository, never()).delete(anyString());
     }
 
+    @Test
+    public void shouldCreate_statelessAccessToken() {
+        OAuth2Request oAuth2Request = new OAuth2Request();
+
+        Client client = new Client();
+        client.setClientId("my-client-id");
+        client.setStatelessAccessToken(true);
+
+        when(jwtService.encode(any(), any(Client.class))).thenReturn(Single.just(""));
+        when(tokenEnhancer.enhance(any(), any(), any(), any(), any())).thenReturn(Single.just(new AccessToken("token-id")));
+        TestObserver<Token> testObserver = tokenService.create(oAuth2Request, client, null).test();
+        testObserver.assertComplete();
+        testObserver.assertNoErrors();
+
+        // stateless access tokens are never stored
+        verify(tokenManager, never()).storeAccessToken(any());
+    }
+
+    @Test
+    public void shouldRecordTokenIssuance() {
+        final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Metrics.globalRegistry.add(registry);
+        try {
+            Client client = new Client();
+            client.setClientId("my-client-id");
+            client.setDomain("issuance-domain");
+
+            when(jwtService.encode(any(), any(Client.class))).thenReturn(Single.just(""), Single.error(new IllegalStateException()));
+            when(tokenEnhancer.enhance(any(), any(), any(), any(), any())).thenReturn(Single.just(new AccessToken("token-id")));
+            tokenService.create(new OAuth2Request(), client, null).test().assertComplete();
+            tokenService.create(new OAuth2Request(), client, null).test().assertError(IllegalStateException.class);
+
+            assertEquals(1, registry.get("am_token_issuance").tag("domain", "issuance-domain").tag("result", "success").timer().count());
+            assertEquals(1, registry.get("am_token_issuance").tag("domain", "issuance-domain").tag("result", "error").timer().count());
+        } finally {
+            Metrics.globalRegistry.remove(registry);
+        }
+    }
+
+    @Test
+    public void shouldGetAccessToken_statelessAccessToken() {
+        Client client = new Client();
+        client.setClientId("my-client-id");
+        client.setStatelessAccessToken(true);
+
+        JWT jwt = new JWT();
+        jwt.setJti("jti");
+        jwt.setAud("my-client-id");
+        jwt.setIat(Instant.now().getEpochSecond());
+        jwt.setExp(Instant.now().plusSeconds(60).getEpochSecond());
+
+        when(jwtService.decodeAndVerify("token", client)).thenReturn(Single.just(jwt));
+        when(revokedTokenManager.isRevoked(jwt)).thenReturn(false);
+        TestObserver<Token> testObserver = tokenService.getAccessToken("token", client).test();
+        testObserver.assertComplete();
+        testObserver.assertValue(token -> "jti".equals(token.getValue()));
+
+        verify(accessTokenRepository, never()).findByToken(anyString());
+    }
+
+    @Test
+    public void shouldNotGetAccessToken_statelessAccessToken_revoked() {
+        Client client = new Client();
+        client.setClientId("my-client-id");
+        client.setStatelessAccessToken(true);
+
+        JWT jwt = new JWT();
+        jwt.setJti("jti");
+        jwt.setAud("my-client-id");
+        jwt.setIat(Instant.now().getEpochSecond());
+        jwt.setExp(Instant.now().plusSeconds(60).getEpochSecond());
+
+        when(jwtService.decodeAndVerify("token", client)).thenReturn(Single.just(jwt));
+        when(revokedTokenManager.isRevoked(jwt)).thenReturn(true);
+        TestObserver<Token> testObserver = tokenService.getAccessToken("token", client).test();
+        testObserver.assertComplete();
+        testObserver.assertNoValues();
+
+        verify(accessTokenRepository, never()).findByToken(anyString());
+    }
+
     @Test
     public void shouldCreateWithPermissions() {
         OAuth2Request oAuth2Request = new OAuth2Request();
@@ -122,12 +210,9 @@ public class TokenServiceTest {
         Client client = new Client();
         client.setClientId("my-client-id");
 
-        ExecutionContext executionContext = mock(ExecutionContext.class);
-
         ArgumentCaptor<JWT> jwtCaptor = ArgumentCaptor.forClass(JWT.class);
         when(jwtService.encode(jwtCaptor.capture(), any(Client.class))).thenReturn(Single.just(""));
         when(tokenEnhancer.enhance(any(), any(), any(), any(), any())).thenReturn(Single.just(new AccessToken("token-id")));
-        when(executionContextFactory.create(any())).thenReturn(executionContext);
         doNothing().when(tokenManager).storeAccessToken(any());
         TestObserver<Token> testObserver = tokenService.create(oAuth2Request, client, null).test();
         testObserver.assertComplete();
@@ -15,18 +15,28 @@
  */
 package io.gravitee.am.gateway.handler.uma.policy;
 
+import io.gravitee.am.gateway.policy.Policy;
 import io.gravitee.am.gateway.policy.PolicyChainProcessorFactory;
+import io.gravitee.am.model.Domain;
+import io.gravitee.am.model.uma.policy.AccessPolicy;
+import io.gravitee.am.model.uma.policy.AccessPolicyType;
 import io.gravitee.am.plugins.policy.core.PolicyPluginManager;
 import io.gravitee.gateway.api.ExecutionContext;
 import io.reactivex.observers.TestObserver;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Date;
+import java.util.List;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -38,16 +48,26 @@ import static org.mockito.Mockito.*;
 public class RulesEngineTest {
 
     @InjectMocks
-    private RulesEngine rulesEngine = new DefaultRulesEngine();
+    private DefaultRulesEngine rulesEngine = new DefaultRulesEngine();
 
     @Mock
     private PolicyChainProcessorFactory policyChainProcessorFactory;
 
     @Mock
     private PolicyPluginManager policyPluginManager;
+
+    @Mock
+    private Domain domain;
     @Mock
     private ExecutionContext executionContext;
 
+    @Before
+    public void setUp() {
+        ReflectionTestUtils.setField(rulesEngine, "policiesCacheMaxSize", 100);
+        ReflectionTestUtils.setField(rulesEngine, "policiesCacheTtlSeconds", 60);
+        rulesEngine.afterPropertiesSet();
+    }
+
     @Test
     public void shouldNotInvoke_noPolicies() {
         TestObserver testObserver = rulesEngine.fire(Collections.emptyList(), executionContext).test();
@@ -56,4 +76,50 @@ public class RulesEngineTest {
         verify(policyPluginManager, never()).create(anyString(), anyString());
         verify(policyChainProcessorFactory, never()).create(any(), any());
     }
+
+    @Test
+    public void shouldCreatePolicyOnce_sameAccessPolicyVersion() {
+        AccessPolicy accessPolicy = accessPolicy(new Date(1000L));
+        when(policyPluginManager.create("groovy", "condition")).thenAnswer(invocation -> mock(Policy.class));
+
+        DefaultRule firstRule = new DefaultRule(accessPolicy);
+        firstRule.setMetadata(Collections.singletonMap("permissionRequest", "first"));
+        DefaultRule secondRule = new DefaultRule(accessPolicy);
+        secondRule.setMetadata(Collections.singletonMap("permissionRequest", "second"));
+
+        List<Policy> firstPolicies = rulesEngine.resolve(Arrays.asList(firstRule));
+        List<Policy> secondPolicies = rulesEngine.resolve(Arrays.asList(secondRule));
+
+        // the policy instance is shared but each execution keeps its own metadata
+        assertEquals("first", firstPolicies.get(0).metadata().get("permissionRequest"));
+        assertEquals("second", secondPolicies.get(0).metadata().get("permissionRequest"));
+        verify(policyPluginManager, times(1)).create("groovy", "condition");
+    }
+
+    @Test
+    public void shouldCreatePolicyAgain_updatedAccessPolicy() {
+        when(policyPluginManager.create(eq("groovy"), anyString())).thenAnswer(invocation -> mock(Policy.class));
+
+        rulesEngine.resolve(Arrays.asList(new DefaultRule(accessPolicy(new Date(1000L)))));
+        rulesEngine.resolve(Arrays.asList(new DefaultRule(accessPolicy(new Date(2000L)))));
+
+        // same version but another condition
+        AccessPolicy sameVersion = accessPolicy(new Date(2000L));
+        sameVersion.setCondition("updated condition");
+        rulesEngine.resolve(Arrays.asList(new DefaultRule(sameVersion)));
+
+        verify(policyPluginManager, times(2)).create("groovy", "condition");
+        verify(policyPluginManager, times(1)).create("groovy", "updated condition");
+    }
+
+    private static AccessPolicy accessPolicy(Date updatedAt) {
+        AccessPolicy accessPolicy = new AccessPolicy();
+        accessPolicy.setId("policy-id");
+        accessPolicy.setResource("resource-id");
+        accessPolicy.setType(AccessPolicyType.GROOVY);
+        accessPolicy.setEnabled(true);
+        accessPolicy.setCondition("condition");
+        accessPolicy.setUpdatedAt(updatedAt);
+        return accessPolicy;
+    }
 }
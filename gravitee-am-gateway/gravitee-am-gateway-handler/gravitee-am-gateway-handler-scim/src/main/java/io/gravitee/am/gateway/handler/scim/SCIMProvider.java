@@ -20,11 +20,13 @@ import io.gravitee.am.gateway.handler.api.ProtocolProvider;
 import io.gravitee.am.gateway.handler.common.vertx.web.auth.handler.OAuth2AuthHandler;
 import io.gravitee.am.gateway.handler.common.vertx.web.auth.provider.OAuth2AuthProvider;
 import io.gravitee.am.gateway.handler.scim.resources.ErrorHandler;
+import io.gravitee.am.gateway.handler.scim.resources.bulk.BulkEndpoint;
 import io.gravitee.am.gateway.handler.scim.resources.configuration.ServiceProviderConfigurationEndpointHandler;
 import io.gravitee.am.gateway.handler.scim.resources.groups.GroupEndpoint;
 import io.gravitee.am.gateway.handler.scim.resources.groups.GroupsEndpoint;
 import io.gravitee.am.gateway.handler.scim.resources.users.UserEndpoint;
 import io.gravitee.am.gateway.handler.scim.resources.users.UsersEndpoint;
+import io.gravitee.am.gateway.handler.scim.service.BulkService;
 import io.gravitee.am.gateway.handler.scim.service.GroupService;
 import io.gravitee.am.gateway.handler.scim.service.ServiceProviderConfigService;
 import io.gravitee.am.gateway.handler.scim.service.UserService;
@@ -62,6 +64,9 @@ public class SCIMProvider extends AbstractService<ProtocolProvider> implements P
     @Autowired
     private GroupService groupService;
 
+    @Autowired
+    private BulkService bulkService;
+
     @Autowired
     private OAuth2AuthProvider oAuth2AuthProvider;
 
@@ -112,6 +117,13 @@ public class SCIMProvider extends AbstractService<ProtocolProvider> implements P
             scimRouter.patch("/Groups/:id").handler(groupEndpoint::patch);
             scimRouter.delete("/Groups/:id").handler(groupEndpoint::delete);
 
+            // Bulk operations
+            // the payload size is checked while reading the body, this route comes before the body handler of the root router
+            final Integer bulkMaxPayloadSize = serviceProviderConfigService.get().blockingGet().getBulk().getMaxPayloadSize();
+            router.post(path() + "/Bulk").order(-1).handler(BulkEndpoint.bodyHandler(bulkMaxPayloadSize));
+            BulkEndpoint bulkEndpoint = new BulkEndpoint(bulkService, serviceProviderConfigService, objectMapper);
+            scimRouter.post("/Bulk").handler(bulkEndpoint::execute);
+
             // error handler
             scimRouter.route().failureHandler(new ErrorHandler());
 
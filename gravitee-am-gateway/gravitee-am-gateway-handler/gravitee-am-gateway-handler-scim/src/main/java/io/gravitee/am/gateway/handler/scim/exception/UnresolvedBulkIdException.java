@@ -0,0 +1,49 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.scim.exception;
+
+import io.gravitee.am.gateway.handler.scim.model.ScimType;
+
+/**
+ * Raised when a bulk operation references a bulkId which does not match a previously succeeded POST operation.
+ *
+ * See <a href="https://tools.ietf.org/html/rfc7644#section-3.7.2">3.7.2. "bulkId" Temporary Identifiers</a>
+ *
+ * @author GraviteeSource Team
+ */
+public class UnresolvedBulkIdException extends SCIMException {
+
+    public UnresolvedBulkIdException() {
+    }
+
+    public UnresolvedBulkIdException(String message) {
+        super(message);
+    }
+
+    public UnresolvedBulkIdException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    @Override
+    public int getHttpStatusCode() {
+        return 409;
+    }
+
+    @Override
+    public ScimType getScimType() {
+        return ScimType.INVALID_VALUE;
+    }
+}
@@ -0,0 +1,136 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.scim.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * A single operation of a bulk request, also used to describe its result in the bulk response.
+ *
+ * See <a href="https://tools.ietf.org/html/rfc7644#section-3.7">3.7. Bulk Operations</a>
+ *
+ * @author GraviteeSource Team
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkOperation {
+
+    /**
+     * The HTTP method of the current operation.  Possible values are "POST", "PUT", "PATCH", or "DELETE".  REQUIRED.
+     */
+    private String method;
+
+    /**
+     * The transient identifier of a newly created resource, unique within a bulk request and created by the client.
+     * REQUIRED when "method" is "POST".
+     */
+    private String bulkId;
+
+    /**
+     * The current resource version.  OPTIONAL.
+     */
+    private String version;
+
+    /**
+     * The resource's relative path to the SCIM service provider's root.  REQUIRED in a request.
+     */
+    private String path;
+
+    /**
+     * The resource data as it would appear for a single SCIM POST, PUT, or PATCH operation.  REQUIRED in a request
+     * when "method" is "POST", "PUT", or "PATCH".
+     */
+    private JsonNode data;
+
+    /**
+     * The resource endpoint URL.  REQUIRED in a response, except in the event of a POST failure.
+     */
+    private String location;
+
+    /**
+     * The HTTP response body for the specified request operation, only returned in the event of an error.
+     */
+    private Object response;
+
+    /**
+     * The HTTP response status code for the requested operation.  REQUIRED in a response.
+     */
+    private String status;
+
+    public String getMethod() {
+        return method;
+    }
+
+    public void setMethod(String method) {
+        this.method = method;
+    }
+
+    public String getBulkId() {
+        return bulkId;
+    }
+
+    public void setBulkId(String bulkId) {
+        this.bulkId = bulkId;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public void setVersion(String version) {
+        this.version = version;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public JsonNode getData() {
+        return data;
+    }
+
+    public void setData(JsonNode data) {
+        this.data = data;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public Object getResponse() {
+        return response;
+    }
+
+    public void setResponse(Object response) {
+        this.response = response;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+}
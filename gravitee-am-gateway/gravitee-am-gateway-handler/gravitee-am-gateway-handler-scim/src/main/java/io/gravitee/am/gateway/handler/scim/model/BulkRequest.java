@@ -0,0 +1,62 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.scim.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * See <a href="https://tools.ietf.org/html/rfc7644#section-3.7">3.7. Bulk Operations</a>
+ *
+ * @author GraviteeSource Team
+ */
+public class BulkRequest extends Resource {
+
+    public static final List<String> SCHEMAS = Collections.singletonList("urn:ietf:params:scim:api:messages:2.0:BulkRequest");
+
+    /**
+     * An integer specifying the number of errors that the service
+     *       provider will accept before the operation is terminated and an
+     *       error response is returned.  OPTIONAL in a request.
+     */
+    private Integer failOnErrors;
+
+    /**
+     * Defines operations within a bulk job.  Each operation
+     *       corresponds to a single HTTP request against a resource endpoint.
+     *       REQUIRED.
+     */
+    @JsonProperty("Operations")
+    private List<BulkOperation> operations;
+
+    public Integer getFailOnErrors() {
+        return failOnErrors;
+    }
+
+    public void setFailOnErrors(Integer failOnErrors) {
+        this.failOnErrors = failOnErrors;
+    }
+
+    public List<BulkOperation> getOperations() {
+        return operations;
+    }
+
+    public void setOperations(List<BulkOperation> operations) {
+        this.operations = operations;
+    }
+}
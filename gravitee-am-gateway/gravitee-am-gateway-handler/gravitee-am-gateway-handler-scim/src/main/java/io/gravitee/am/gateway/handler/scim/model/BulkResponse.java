@@ -0,0 +1,54 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.scim.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * See <a href="https://tools.ietf.org/html/rfc7644#section-3.7">3.7. Bulk Operations</a>
+ *
+ * @author GraviteeSource Team
+ */
+public class BulkResponse extends Resource {
+
+    public static final List<String> SCHEMAS = Collections.singletonList("urn:ietf:params:scim:api:messages:2.0:BulkResponse");
+
+    /**
+     * The results of the processed operations, in the order of the request.
+     */
+    @JsonProperty("Operations")
+    private List<BulkOperation> operations;
+
+    public BulkResponse() {
+        setSchemas(SCHEMAS);
+    }
+
+    public BulkResponse(List<BulkOperation> operations) {
+        this();
+        this.operations = operations;
+    }
+
+    public List<BulkOperation> getOperations() {
+        return operations;
+    }
+
+    public void setOperations(List<BulkOperation> operations) {
+        this.operations = operations;
+    }
+}
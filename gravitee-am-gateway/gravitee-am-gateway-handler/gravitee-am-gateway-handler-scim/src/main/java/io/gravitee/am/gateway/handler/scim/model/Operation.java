@@ -20,15 +20,17 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.gravitee.am.common.scim.filter.Filter;
-import io.gravitee.am.common.scim.filter.Operator;
+import io.gravitee.am.common.scim.filter.FilterEvaluator;
 
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -63,6 +65,7 @@ public abstract class Operation {
     private static final String SPLIT_PATH_PATTERN = "(?!\\d)\\.(?!\\d)";
     private static final String SQUARE_BRACKETS_PATTERN = "\\[(.*?)\\]";
     private static final Pattern PATH_FILTER_PATTERN = Pattern.compile(SQUARE_BRACKETS_PATTERN);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private final Path path;
 
     Operation(final String path) {
@@ -370,40 +373,8 @@ public abstract class Operation {
         if (filter == null) {
             return false;
         }
-        // no filter attribute, continue
-        if (filter.getFilterAttribute() == null) {
-            return false;
-        }
-        // no filter attribute field to check, continue
-        if (filter.getFilterAttribute().getAttributeName() == null) {
-            return false;
-        }
-        // no filter operator to check, continue
-        if (filter.getOperator() == null) {
-            return false;
-        }
 
-        // process filtering
-        final String filterValue = filter.getFilterValue();
-        final Operator operator = filter.getOperator();
-        final JsonNode attribute = n.get(filter.getFilterAttribute().getAttributeName());
-
-        // no node to check, continue
-        if (attribute == null) {
-            return false;
-        }
-
-        switch (operator) {
-            case EQUALITY:
-                return filterValue != null && attribute.asText().equals(filterValue);
-            case STARTS_WITH:
-                return filterValue != null && attribute.asText().startsWith(filterValue);
-            case ENDS_WITH:
-                return filterValue != null && attribute.asText().endsWith(filterValue);
-            case CONTAINS:
-                return filterValue != null && attribute.asText().contains(filterValue);
-            default:
-                return false;
-        }
+        // evaluate the filter against the attribute value, no repository lookup involved
+        return FilterEvaluator.evaluate(filter, OBJECT_MAPPER.convertValue(n, Map.class));
     }
 }
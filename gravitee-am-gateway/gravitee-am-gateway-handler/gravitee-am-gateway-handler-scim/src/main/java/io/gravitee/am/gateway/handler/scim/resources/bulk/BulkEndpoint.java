@@ -0,0 +1,122 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.scim.resources.bulk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.gravitee.am.gateway.handler.common.vertx.utils.UriBuilderRequest;
+import io.gravitee.am.gateway.handler.scim.exception.InvalidSyntaxException;
+import io.gravitee.am.gateway.handler.scim.exception.InvalidValueException;
+import io.gravitee.am.gateway.handler.scim.exception.TooLargeException;
+import io.gravitee.am.gateway.handler.scim.model.BulkRequest;
+import io.gravitee.am.gateway.handler.scim.model.ComplexType;
+import io.gravitee.am.gateway.handler.scim.service.BulkService;
+import io.gravitee.am.gateway.handler.scim.service.ServiceProviderConfigService;
+import io.gravitee.common.http.HttpHeaders;
+import io.gravitee.common.http.MediaType;
+import io.reactivex.Single;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.Json;
+import io.vertx.reactivex.core.http.HttpServerRequest;
+import io.vertx.reactivex.ext.web.RoutingContext;
+import io.vertx.reactivex.ext.web.handler.BodyHandler;
+
+/**
+ * The service provider bulk endpoint, the limits of the bulk requests are the ones advertised by the
+ * service provider configuration.
+ *
+ * See <a href="https://tools.ietf.org/html/rfc7644#section-3.7">3.7. Bulk Operations</a>
+ *
+ * @author GraviteeSource Team
+ */
+public class BulkEndpoint {
+
+    private static final String BULK_PATH = "/Bulk";
+
+    private final BulkService bulkService;
+    private final ServiceProviderConfigService serviceProviderConfigService;
+    private final ObjectMapper objectMapper;
+
+    public BulkEndpoint(BulkService bulkService, ServiceProviderConfigService serviceProviderConfigService, ObjectMapper objectMapper) {
+        this.bulkService = bulkService;
+        this.serviceProviderConfigService = serviceProviderConfigService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * The service provider MUST continue performing as many changes as possible and disregard partial failures
+     * unless the number of errors reaches the "failOnErrors" value of the request.
+     *
+     * If the number of operations or the payload size exceeds the service provider limits, the request is rejected
+     * with HTTP status code 413 (Payload Too Large).
+     */
+    public void execute(RoutingContext context) {
+        serviceProviderConfigService.get()
+                .flatMap(serviceProviderConfiguration -> {
+                    final ComplexType bulk = serviceProviderConfiguration.getBulk();
+                    final String body = context.getBodyAsString();
+
+                    if (body != null && bulk.getMaxPayloadSize() != null && context.getBody().length() > bulk.getMaxPayloadSize()) {
+                        return Single.error(new TooLargeException("The size of the bulk operation exceeds the maxPayloadSize (" + bulk.getMaxPayloadSize() + ")."));
+                    }
+
+                    final BulkRequest bulkRequest;
+                    try {
+                        bulkRequest = Json.decodeValue(body, BulkRequest.class);
+                    } catch (DecodeException ex) {
+                        return Single.error(new InvalidSyntaxException("Unable to parse body message", ex));
+                    }
+
+                    // schemas field is REQUIRED and MUST contain the bulk request schema
+                    if (bulkRequest.getSchemas() == null || !bulkRequest.getSchemas().containsAll(BulkRequest.SCHEMAS)) {
+                        return Single.error(new InvalidValueException("Field [schemas] is required"));
+                    }
+
+                    // check operations
+                    if (bulkRequest.getOperations() == null || bulkRequest.getOperations().isEmpty()) {
+                        return Single.error(new InvalidValueException("Field [Operations] is required"));
+                    }
+                    if (bulk.getMaxOperations() != null && bulkRequest.getOperations().size() > bulk.getMaxOperations()) {
+                        return Single.error(new TooLargeException("The number of operations exceeds the maxOperations value (" + bulk.getMaxOperations() + ")."));
+                    }
+
+                    return bulkService.execute(bulkRequest, baseUrl(context.request()));
+                })
+                .subscribe(
+                        bulkResponse -> context.response()
+                                .putHeader(HttpHeaders.CACHE_CONTROL, "no-store")
+                                .putHeader(HttpHeaders.PRAGMA, "no-cache")
+                                .putHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON)
+                                .end(objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(bulkResponse)),
+                        context::fail);
+    }
+
+    /**
+     * Body handler of the bulk requests : the request is rejected with HTTP status code 413 (Payload Too Large)
+     * as soon as the body read exceeds the maxPayloadSize, instead of once the whole payload is buffered.
+     *
+     * @param maxPayloadSize the maxPayloadSize of the service provider configuration, may be <code>null</code> for no limit
+     * @return the body handler to register before any other body handler of the route
+     */
+    public static BodyHandler bodyHandler(Integer maxPayloadSize) {
+        final BodyHandler bodyHandler = BodyHandler.create();
+        return maxPayloadSize == null ? bodyHandler : bodyHandler.setBodyLimit(maxPayloadSize);
+    }
+
+    private String baseUrl(HttpServerRequest request) {
+        final String location = UriBuilderRequest.resolveProxyRequest(request, request.path());
+        return location.endsWith(BULK_PATH) ? location.substring(0, location.length() - BULK_PATH.length()) : location;
+    }
+}
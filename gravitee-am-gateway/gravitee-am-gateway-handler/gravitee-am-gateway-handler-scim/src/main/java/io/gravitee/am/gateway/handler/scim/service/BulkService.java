@@ -0,0 +1,35 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.scim.service;
+
+import io.gravitee.am.gateway.handler.scim.model.BulkRequest;
+import io.gravitee.am.gateway.handler.scim.model.BulkResponse;
+import io.reactivex.Single;
+
+/**
+ * @author GraviteeSource Team
+ */
+public interface BulkService {
+
+    /**
+     * Process the operations of the bulk request in order, consecutive user creations are written together.
+     *
+     * @param bulkRequest the bulk request
+     * @param baseUrl the SCIM root URL the operation paths are relative to
+     * @return the result of each processed operation
+     */
+    Single<BulkResponse> execute(BulkRequest bulkRequest, String baseUrl);
+}
@@ -21,8 +21,11 @@ import io.gravitee.am.gateway.handler.scim.model.User;
 import io.gravitee.am.common.scim.filter.Filter;
 import io.reactivex.Completable;
 import io.reactivex.Maybe;
+import io.reactivex.Notification;
 import io.reactivex.Single;
 
+import java.util.List;
+
 /**
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
  * @author GraviteeSource Team
@@ -35,6 +38,13 @@ public interface UserService {
 
     Single<User> create(User user, String baseUrl);
 
+    /**
+     * Create the given users, writing all the valid ones into the repository at once.
+     *
+     * @return the result of each creation, in the order of the given users
+     */
+    Single<List<Notification<User>>> bulkCreate(List<User> users, String baseUrl);
+
     Single<User> update(String userId, User user, String baseUrl);
 
     Single<User> patch(String userId, PatchOp patchOp, String baseUrl);
@@ -0,0 +1,363 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.scim.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.gravitee.am.gateway.handler.scim.exception.InvalidSyntaxException;
+import io.gravitee.am.gateway.handler.scim.exception.InvalidValueException;
+import io.gravitee.am.gateway.handler.scim.exception.SCIMException;
+import io.gravitee.am.gateway.handler.scim.exception.UnresolvedBulkIdException;
+import io.gravitee.am.gateway.handler.scim.model.*;
+import io.gravitee.am.gateway.handler.scim.model.Error;
+import io.gravitee.am.gateway.handler.scim.service.BulkService;
+import io.gravitee.am.gateway.handler.scim.service.GroupService;
+import io.gravitee.am.gateway.handler.scim.service.UserService;
+import io.gravitee.am.service.exception.AbstractManagementException;
+import io.gravitee.common.http.HttpStatusCode;
+import io.reactivex.Notification;
+import io.reactivex.Single;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Operations are processed in the order of the request. Consecutive user creations are gathered (up to
+ * {@code scim.bulk.batchSize}) and written into the repository at once, the other operations are delegated
+ * one by one to the users and groups services.
+ *
+ * See <a href="https://tools.ietf.org/html/rfc7644#section-3.7">3.7. Bulk Operations</a>
+ *
+ * @author GraviteeSource Team
+ */
+public class BulkServiceImpl implements BulkService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BulkServiceImpl.class);
+    private static final String USERS_PATH = "/Users";
+    private static final String GROUPS_PATH = "/Groups";
+    private static final String BULK_ID_PREFIX = "bulkId:";
+    private static final Pattern BULK_ID_REFERENCE = Pattern.compile(BULK_ID_PREFIX + "([^\"/\\s]+)");
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private GroupService groupService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${scim.bulk.batchSize:100}")
+    private int batchSize = 100;
+
+    @Override
+    public Single<BulkResponse> execute(BulkRequest bulkRequest, String baseUrl) {
+        return Single.defer(() -> {
+            final BulkContext context = new BulkContext(bulkRequest);
+            return Single.defer(() -> next(context, baseUrl))
+                    .repeatUntil(context::isDone)
+                    .ignoreElements()
+                    .andThen(Single.fromCallable(() -> new BulkResponse(context.results)));
+        });
+    }
+
+    private Single<List<BulkOperation>> next(BulkContext context, String baseUrl) {
+        if (context.isDone()) {
+            return Single.just(Collections.emptyList());
+        }
+
+        final int start = context.results.size();
+        final BulkOperation operation = context.operations.get(start);
+        if (!isUserCreation(operation)) {
+            return execute(context, operation, baseUrl)
+                    .map(Collections::singletonList)
+                    .doOnSuccess(context::add);
+        }
+
+        // gather the following user creations, an operation referencing a bulkId starts a new batch as
+        // its reference may target a user of the current one.
+        // The batch never holds more operations than the errors left before failOnErrors is reached so
+        // that no operation is written once the bulk request must be stopped.
+        final int limit = Math.min(batchSize, context.remainingErrors());
+        int end = start + 1;
+        while (end < context.operations.size() && end - start < limit
+                && isUserCreation(context.operations.get(end))
+                && !hasBulkIdReference(context.operations.get(end))) {
+            end++;
+        }
+        return createUsers(context, context.operations.subList(start, end), baseUrl)
+                .doOnSuccess(context::add);
+    }
+
+    private Single<List<BulkOperation>> createUsers(BulkContext context, List<BulkOperation> operations, String baseUrl) {
+        final String usersUrl = baseUrl + USERS_PATH;
+        final List<BulkOperation> results = new ArrayList<>(operations.size());
+        final List<User> users = new ArrayList<>();
+        final List<Integer> positions = new ArrayList<>();
+
+        for (BulkOperation operation : operations) {
+            try {
+                checkBulkId(operation);
+                User user = readValue(context, operation, User.class);
+                checkUser(user);
+                users.add(user);
+                positions.add(results.size());
+                results.add(null);
+            } catch (Exception ex) {
+                results.add(error(operation, ex));
+            }
+        }
+
+        if (users.isEmpty()) {
+            return Single.just(results);
+        }
+
+        return userService.bulkCreate(users, usersUrl)
+                .onErrorReturn(ex -> Collections.nCopies(users.size(), Notification.<User>createOnError(ex)))
+                .map(createdUsers -> {
+                    for (int i = 0; i < createdUsers.size(); i++) {
+                        final int position = positions.get(i);
+                        final BulkOperation operation = operations.get(position);
+                        final Notification<User> createdUser = createdUsers.get(i);
+                        results.set(position, createdUser.isOnNext() ?
+                                success(context, operation, HttpStatusCode.CREATED_201, createdUser.getValue().getMeta().getLocation(), createdUser.getValue().getId()) :
+                                error(operation, createdUser.getError()));
+                    }
+                    return results;
+                });
+    }
+
+    private Single<BulkOperation> execute(BulkContext context, BulkOperation operation, String baseUrl) {
+        return Single.defer(() -> {
+            if (operation.getMethod() == null) {
+                throw new InvalidValueException("Field [method] is required");
+            }
+            if (operation.getPath() == null || operation.getPath().isEmpty()) {
+                throw new InvalidValueException("Field [path] is required");
+            }
+
+            final String method = operation.getMethod().toUpperCase();
+            final String path = resolve(context, operation.getPath());
+            final boolean users = path.startsWith(USERS_PATH);
+            final String resourcePath = users ? USERS_PATH : GROUPS_PATH;
+            if (!users && !path.startsWith(GROUPS_PATH)) {
+                throw new InvalidValueException("Unsupported bulk operation path [" + operation.getPath() + "]");
+            }
+            final String resourceId = path.length() > resourcePath.length() + 1 && path.charAt(resourcePath.length()) == '/' ?
+                    path.substring(resourcePath.length() + 1) : null;
+            if (resourceId == null && !path.equals(resourcePath) || "POST".equals(method) == (resourceId != null)) {
+                throw new InvalidValueException("Unsupported bulk operation path [" + operation.getPath() + "] for method [" + operation.getMethod() + "]");
+            }
+            final String resourceUrl = baseUrl + path;
+
+            switch (method) {
+                case "POST":
+                    // user creations are gathered into batches, only group creations are left here
+                    checkBulkId(operation);
+                    Group newGroup = readValue(context, operation, Group.class);
+                    checkGroup(newGroup);
+                    return groupService.create(newGroup, resourceUrl)
+                            .map(group -> success(context, operation, HttpStatusCode.CREATED_201, group.getMeta().getLocation(), group.getId()));
+                case "PUT":
+                    if (users) {
+                        User user = readValue(context, operation, User.class);
+                        checkUser(user);
+                        return userService.update(resourceId, user, resourceUrl)
+                                .map(user1 -> success(context, operation, HttpStatusCode.OK_200, user1.getMeta().getLocation(), user1.getId()));
+                    }
+                    Group group = readValue(context, operation, Group.class);
+                    checkGroup(group);
+                    return groupService.update(resourceId, group, resourceUrl)
+                            .map(group1 -> success(context, operation, HttpStatusCode.OK_200, group1.getMeta().getLocation(), group1.getId()));
+                case "PATCH":
+                    PatchOp patchOp = readValue(context, operation, PatchOp.class);
+                    checkSchemas(patchOp.getSchemas(), PatchOp.SCHEMAS);
+                    if (patchOp.getOperations() == null || patchOp.getOperations().isEmpty()) {
+                        throw new InvalidValueException("Field [Operations] is required");
+                    }
+                    return users ?
+                            userService.patch(resourceId, patchOp, resourceUrl)
+                                    .map(user1 -> success(context, operation, HttpStatusCode.OK_200, user1.getMeta().getLocation(), user1.getId())) :
+                            groupService.patch(resourceId, patchOp, resourceUrl)
+                                    .map(group1 -> success(context, operation, HttpStatusCode.OK_200, group1.getMeta().getLocation(), group1.getId()));
+                case "DELETE":
+                    return (users ? userService.delete(resourceId) : groupService.delete(resourceId))
+                            .andThen(Single.fromCallable(() -> success(context, operation, HttpStatusCode.NO_CONTENT_204, resourceUrl, resourceId)));
+                default:
+                    throw new InvalidValueException("Unsupported bulk operation method [" + operation.getMethod() + "]");
+            }
+        }).onErrorReturn(ex -> error(operation, ex));
+    }
+
+    private boolean isUserCreation(BulkOperation operation) {
+        return "POST".equalsIgnoreCase(operation.getMethod()) && USERS_PATH.equals(operation.getPath());
+    }
+
+    private boolean hasBulkIdReference(BulkOperation operation) {
+        return operation.getData() != null && operation.getData().toString().contains(BULK_ID_PREFIX);
+    }
+
+    private void checkBulkId(BulkOperation operation) {
+        // bulkId is REQUIRED for POST operations
+        if (operation.getBulkId() == null || operation.getBulkId().isEmpty()) {
+            throw new InvalidValueException("Field [bulkId] is required");
+        }
+    }
+
+    private void checkUser(User user) {
+        // username is required
+        if (user.getUserName() == null || user.getUserName().isEmpty()) {
+            throw new InvalidValueException("Field [userName] is required");
+        }
+        checkSchemas(user.getSchemas(), EnterpriseUser.SCHEMAS);
+    }
+
+    private void checkGroup(Group group) {
+        // display name is required
+        if (group.getDisplayName() == null || group.getDisplayName().isEmpty()) {
+            throw new InvalidValueException("Field [displayName] is required");
+        }
+        checkSchemas(group.getSchemas(), Group.SCHEMAS);
+    }
+
+    private void checkSchemas(List<String> schemas, List<String> restrictedSchemas) {
+        if (schemas == null || schemas.isEmpty()) {
+            throw new InvalidValueException("Field [schemas] is required");
+        }
+        // check duplicate and check if values are supported
+        Set<String> schemaSet = new HashSet<>();
+        schemas.forEach(schema -> {
+            if (!schemaSet.add(schema)) {
+                throw new InvalidSyntaxException("Duplicate 'schemas' values are forbidden");
+            }
+            if (!restrictedSchemas.contains(schema)) {
+                throw new InvalidSyntaxException("The 'schemas' attribute MUST only contain values defined as 'schema' and 'schemaExtensions' for the resource's defined type");
+            }
+        });
+    }
+
+    private <T> T readValue(BulkContext context, BulkOperation operation, Class<T> type) {
+        if (operation.getData() == null) {
+            throw new InvalidValueException("Field [data] is required");
+        }
+        try {
+            JsonNode data = operation.getData();
+            if (hasBulkIdReference(operation)) {
+                data = objectMapper.readTree(resolve(context, objectMapper.writeValueAsString(data)));
+            }
+            return objectMapper.treeToValue(data, type);
+        } catch (JsonProcessingException ex) {
+            throw new InvalidSyntaxException("Unable to parse operation data", ex);
+        }
+    }
+
+    /**
+     * Replace the bulkId references by the identifiers of the resources created by the previous operations.
+     */
+    private String resolve(BulkContext context, String value) {
+        if (!value.contains(BULK_ID_PREFIX)) {
+            return value;
+        }
+        Matcher matcher = BULK_ID_REFERENCE.matcher(value);
+        StringBuffer resolved = new StringBuffer();
+        while (matcher.find()) {
+            String id = context.bulkIds.get(matcher.group(1));
+            if (id == null) {
+                throw new UnresolvedBulkIdException("Unable to resolve the bulkId [" + matcher.group(1) + "]");
+            }
+            matcher.appendReplacement(resolved, Matcher.quoteReplacement(id));
+        }
+        matcher.appendTail(resolved);
+        return resolved.toString();
+    }
+
+    private BulkOperation success(BulkContext context, BulkOperation operation, int status, String location, String id) {
+        if (operation.getBulkId() != null) {
+            context.bulkIds.put(operation.getBulkId(), id);
+        }
+        BulkOperation result = result(operation);
+        result.setLocation(location);
+        result.setStatus(String.valueOf(status));
+        return result;
+    }
+
+    private BulkOperation error(BulkOperation operation, Throwable throwable) {
+        int status;
+        ScimType scimType = null;
+        if (throwable instanceof SCIMException) {
+            status = ((SCIMException) throwable).getHttpStatusCode();
+            scimType = ((SCIMException) throwable).getScimType();
+        } else if (throwable instanceof AbstractManagementException) {
+            status = ((AbstractManagementException) throwable).getHttpStatusCode();
+        } else {
+            LOGGER.error("An error occurs while processing a bulk operation", throwable);
+            status = HttpStatusCode.INTERNAL_SERVER_ERROR_500;
+        }
+        if (scimType == null && status == HttpStatusCode.BAD_REQUEST_400) {
+            scimType = ScimType.INVALID_VALUE;
+        }
+
+        Error error = new Error();
+        error.setStatus(String.valueOf(status));
+        error.setDetail(throwable.getMessage());
+        error.setScimType(scimType != null ? scimType.value() : null);
+
+        BulkOperation result = result(operation);
+        result.setStatus(error.getStatus());
+        result.setResponse(error);
+        return result;
+    }
+
+    private BulkOperation result(BulkOperation operation) {
+        BulkOperation result = new BulkOperation();
+        result.setMethod(operation.getMethod());
+        result.setBulkId(operation.getBulkId());
+        result.setVersion(operation.getVersion());
+        return result;
+    }
+
+    private static class BulkContext {
+        private final List<BulkOperation> operations;
+        private final Integer failOnErrors;
+        private final Map<String, String> bulkIds = new HashMap<>();
+        private final List<BulkOperation> results = new ArrayList<>();
+        private int errors;
+
+        BulkContext(BulkRequest bulkRequest) {
+            this.operations = bulkRequest.getOperations() != null ? bulkRequest.getOperations() : Collections.emptyList();
+            this.failOnErrors = bulkRequest.getFailOnErrors() != null && bulkRequest.getFailOnErrors() > 0 ? bulkRequest.getFailOnErrors() : null;
+        }
+
+        void add(List<BulkOperation> processed) {
+            results.addAll(processed);
+            errors += processed.stream().filter(result -> Integer.parseInt(result.getStatus()) >= HttpStatusCode.BAD_REQUEST_400).count();
+        }
+
+        int remainingErrors() {
+            return failOnErrors == null ? Integer.MAX_VALUE : failOnErrors - errors;
+        }
+
+        boolean isDone() {
+            return results.size() >= operations.size() || remainingErrors() <= 0;
+        }
+    }
+}
@@ -17,6 +17,7 @@ package io.gravitee.am.gateway.handler.scim.service.impl;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.gravitee.am.common.scim.filter.Filter;
 import io.gravitee.am.common.utils.RandomString;
 import io.gravitee.am.gateway.handler.scim.exception.SCIMException;
 import io.gravitee.am.gateway.handler.scim.exception.UniquenessException;
@@ -34,9 +35,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -47,6 +51,8 @@ import java.util.stream.Collectors;
 public class GroupServiceImpl implements GroupService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(GroupServiceImpl.class);
+    private static final String MEMBERS = "members";
+    private static final String MEMBER_VALUE = "value";
 
     @Autowired
     private GroupRepository groupRepository;
@@ -192,13 +198,16 @@ public class GroupServiceImpl implements GroupService {
     @Override
     public Single<Group> patch(String groupId, PatchOp patchOp, String baseUrl) {
         LOGGER.debug("Patch a group {} for domain {}", groupId, domain.getName());
-        return get(groupId, baseUrl)
-                .switchIfEmpty(Single.error(new GroupNotFoundException(groupId)))
-                .flatMap(group -> {
-                    ObjectNode node = objectMapper.convertValue(group, ObjectNode.class);
-                    patchOp.getOperations().forEach(operation -> operation.apply(node));
-                    return update(groupId, objectMapper.treeToValue(node, Group.class), baseUrl);
-                })
+        // membership changes only add or remove rows of the group members, the group isn't rewritten
+        Single<Group> patchAction = isMembersPatch(patchOp) ? patchMembers(groupId, patchOp, baseUrl) :
+                get(groupId, baseUrl)
+                        .switchIfEmpty(Single.error(new GroupNotFoundException(groupId)))
+                        .flatMap(group -> {
+                            ObjectNode node = objectMapper.convertValue(group, ObjectNode.class);
+                            patchOp.getOperations().forEach(operation -> operation.apply(node));
+                            return update(groupId, objectMapper.treeToValue(node, Group.class), baseUrl);
+                        });
+        return patchAction
                 .onErrorResumeNext(ex -> {
                     if (ex instanceof AbstractManagementException) {
                         return Single.error(ex);
@@ -227,6 +236,60 @@ public class GroupServiceImpl implements GroupService {
                 });
     }
 
+    private Single<Group> patchMembers(String groupId, PatchOp patchOp, String baseUrl) {
+        return groupRepository.findById(groupId)
+                .switchIfEmpty(Single.error(new GroupNotFoundException(groupId)))
+                .flatMap(existingGroup -> {
+                    // members are only identified by their value, no need to resolve them before applying the operations
+                    ObjectNode node = objectMapper.convertValue(convert(existingGroup, baseUrl, false), ObjectNode.class);
+                    patchOp.getOperations().forEach(operation -> operation.apply(node));
+                    Group patchedGroup = objectMapper.treeToValue(node, Group.class);
+
+                    Set<String> existingMembers = existingGroup.getMembers() == null ? Collections.emptySet() : new HashSet<>(existingGroup.getMembers());
+                    Set<String> members = patchedGroup.getMembers() == null ? Collections.emptySet() : patchedGroup.getMembers()
+                            .stream()
+                            .map(Member::getValue)
+                            .filter(Objects::nonNull)
+                            .collect(Collectors.toCollection(LinkedHashSet::new));
+                    List<String> removedMembers = existingMembers.stream().filter(member -> !members.contains(member)).collect(Collectors.toList());
+                    List<String> addedMembers = members.stream().filter(member -> !existingMembers.contains(member)).collect(Collectors.toList());
+
+                    // nothing has changed, the modify timestamp of the group is kept
+                    if (removedMembers.isEmpty() && addedMembers.isEmpty()) {
+                        return Single.just(existingGroup);
+                    }
+
+                    // only existing users can become members of the group
+                    Single<List<String>> addedUsers = addedMembers.isEmpty() ? Single.just(Collections.emptyList()) :
+                            userRepository.findByIdIn(addedMembers).map(io.gravitee.am.model.User::getId).toList();
+                    return addedUsers
+                            .flatMapCompletable(users -> groupRepository.updateMembers(groupId, users, removedMembers, new Date()))
+                            .andThen(groupRepository.findById(groupId).switchIfEmpty(Single.error(new GroupNotFoundException(groupId))));
+                })
+                .map(group -> convert(group, baseUrl, false))
+                // set members
+                .flatMap(group -> setMembers(group, baseUrl));
+    }
+
+    private static boolean isMembersPatch(PatchOp patchOp) {
+        return patchOp.getOperations() != null
+                && !patchOp.getOperations().isEmpty()
+                && patchOp.getOperations().stream().allMatch(operation -> {
+                    Path path = operation.getPath();
+                    return path != null
+                            && MEMBERS.equals(path.getAttributePath())
+                            && path.getSubAttribute() == null
+                            && (path.getValuePath() == null || isValueFilter(path.getValuePath()));
+                });
+    }
+
+    private static boolean isValueFilter(Filter filter) {
+        if (filter.getFilterComponents() != null && !filter.getFilterComponents().isEmpty()) {
+            return filter.getFilterComponents().stream().allMatch(GroupServiceImpl::isValueFilter);
+        }
+        return filter.getFilterAttribute() != null && MEMBER_VALUE.equals(filter.getFilterAttribute().getAttributeName());
+    }
+
     private Single<Group> setMembers(Group group, String baseUrl) {
         Set<Member> members = group.getMembers() != null ? new HashSet<>(group.getMembers()) : null;
         if (members != null && !members.isEmpty()) {
@@ -20,6 +20,7 @@ import io.gravitee.am.gateway.handler.scim.model.ComplexType;
 import io.gravitee.am.gateway.handler.scim.model.ServiceProviderConfiguration;
 import io.gravitee.am.gateway.handler.scim.service.ServiceProviderConfigService;
 import io.reactivex.Single;
+import org.springframework.beans.factory.annotation.Value;
 
 import java.util.Collections;
 
@@ -29,11 +30,20 @@ import java.util.Collections;
  */
 public class ServiceProviderConfigServiceImpl implements ServiceProviderConfigService {
 
+    @Value("${scim.bulk.maxOperations:1000}")
+    private int bulkMaxOperations = 1000;
+
+    @Value("${scim.bulk.maxPayloadSize:1048576}")
+    private int bulkMaxPayloadSize = 1048576;
+
     @Override
     public Single<ServiceProviderConfiguration> get() {
         ServiceProviderConfiguration serviceProviderConfiguration = new ServiceProviderConfiguration();
         serviceProviderConfiguration.setPatch(new ComplexType(true));
-        serviceProviderConfiguration.setBulk(new ComplexType(false));
+        ComplexType bulk = new ComplexType(true);
+        bulk.setMaxOperations(bulkMaxOperations);
+        bulk.setMaxPayloadSize(bulkMaxPayloadSize);
+        serviceProviderConfiguration.setBulk(bulk);
         serviceProviderConfiguration.setFilter(new ComplexType(true));
         serviceProviderConfiguration.setChangePassword(new ComplexType(false));
         serviceProviderConfiguration.setSort(new ComplexType(false));
@@ -32,6 +32,7 @@ import io.gravitee.am.model.Domain;
 import io.gravitee.am.model.ReferenceType;
 import io.gravitee.am.model.Role;
 import io.gravitee.am.model.common.Page;
+import io.gravitee.am.repository.exceptions.BulkWriteException;
 import io.gravitee.am.repository.management.api.UserRepository;
 import io.gravitee.am.repository.management.api.search.FilterCriteria;
 import io.gravitee.am.service.RoleService;
@@ -40,7 +41,9 @@ import io.gravitee.am.service.utils.UserFactorUpdater;
 import io.gravitee.am.service.validators.PasswordValidator;
 import io.gravitee.am.service.validators.UserValidator;
 import io.reactivex.Completable;
+import io.reactivex.Flowable;
 import io.reactivex.Maybe;
+import io.reactivex.Notification;
 import io.reactivex.Observable;
 import io.reactivex.Single;
 import org.slf4j.Logger;
@@ -48,6 +51,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.*;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -129,6 +133,67 @@ public class UserServiceImpl implements UserService {
     public Single<User> create(User user, String baseUrl) {
         LOGGER.debug("Create a new user {} for domain {}", user.getUserName(), domain.getName());
 
+        return prepare(user)
+                .flatMap(userRepository::create)
+                .map(user1 -> convert(user1, baseUrl, true))
+                .onErrorResumeNext(ex -> Single.error(createError(ex)));
+    }
+
+    @Override
+    public Single<List<Notification<User>>> bulkCreate(List<User> users, String baseUrl) {
+        LOGGER.debug("Create {} users for domain {}", users.size(), domain.getName());
+
+        // usernames of the batch, the repository can't check the uniqueness of the users not written yet
+        final Set<String> usernames = new HashSet<>();
+        return Flowable.fromIterable(users)
+                .concatMapSingle(user -> {
+                    final String source = user.getSource() == null ? DEFAULT_IDP_PREFIX + domain.getId() : user.getSource();
+                    if (!usernames.add(source + ":" + user.getUserName())) {
+                        return Single.just(Notification.<io.gravitee.am.model.User>createOnError(
+                                new UniquenessException("User with username [" + user.getUserName() + "] already exists")));
+                    }
+                    return prepare(user)
+                            .map(Notification::createOnNext)
+                            .onErrorReturn(ex -> Notification.createOnError(createError(ex)));
+                })
+                .toList()
+                .flatMap(prepared -> {
+                    List<io.gravitee.am.model.User> usersToCreate = prepared.stream()
+                            .filter(Notification::isOnNext)
+                            .map(Notification::getValue)
+                            .collect(Collectors.toList());
+                    if (usersToCreate.isEmpty()) {
+                        return Single.just(prepared);
+                    }
+                    return userRepository.bulkWrite(usersToCreate)
+                            .andThen(Single.just(prepared))
+                            .onErrorResumeNext(ex -> {
+                                // a partial write only fails the users listed by the repository
+                                final Predicate<io.gravitee.am.model.User> failed = ex instanceof BulkWriteException ?
+                                        user -> ((BulkWriteException) ex).getFailedIds().contains(user.getId()) :
+                                        user -> true;
+                                final List<io.gravitee.am.model.User> failedUsers = usersToCreate.stream().filter(failed).collect(Collectors.toList());
+                                LOGGER.error("An error occurs while trying to create {} users", failedUsers.size(), ex);
+                                TechnicalManagementException error = new TechnicalManagementException("An error occurs while trying to create a user", ex);
+                                List<Notification<io.gravitee.am.model.User>> results = prepared.stream()
+                                        .map(notification -> notification.isOnNext() && failed.test(notification.getValue()) ?
+                                                Notification.<io.gravitee.am.model.User>createOnError(error) : notification)
+                                        .collect(Collectors.toList());
+                                // the users are already stored in their identity provider, remove them so that they can be created again
+                                return deleteFromUserProviders(failedUsers).andThen(Single.just(results));
+                            });
+                })
+                .map(results -> results.stream()
+                        .map(notification -> notification.isOnNext() ?
+                                Notification.createOnNext(convert(notification.getValue(), baseUrl, true)) :
+                                Notification.<User>createOnError(notification.getError()))
+                        .collect(Collectors.toList()));
+    }
+
+    /**
+     * Check the user and store it into its identity provider, the returned user is ready to be written into the repository.
+     */
+    private Single<io.gravitee.am.model.User> prepare(User user) {
         // set user idp source
         final String source = user.getSource() == null ? DEFAULT_IDP_PREFIX + domain.getId() : user.getSource();
 
@@ -165,13 +230,13 @@ public class UserServiceImpl implements UserService {
 
                     // store user in its identity provider
                     return userValidator.validate(userModel).andThen(userProvider.create(convert(userModel))
-                            .flatMap(idpUser -> {
+                            .map(idpUser -> {
                                 // AM 'users' collection is not made for authentication (but only management stuff)
                                 // clear password
                                 userModel.setPassword(null);
                                 // set external id
                                 userModel.setExternalId(idpUser.getId());
-                                return userRepository.create(userModel);
+                                return userModel;
                             })
                             .onErrorResumeNext(ex -> {
                                 if (ex instanceof UserAlreadyExistsException) {
@@ -179,20 +244,28 @@ public class UserServiceImpl implements UserService {
                                 }
                                 return Single.error(ex);
                             }));
-                })
-                .map(user1 -> convert(user1, baseUrl, true))
-                .onErrorResumeNext(ex -> {
-                    if (ex instanceof AbstractNotFoundException) {
-                        return Single.error(new InvalidValueException(ex.getMessage()));
-                    }
+                });
+    }
 
-                    if (ex instanceof SCIMException || ex instanceof AbstractManagementException) {
-                        return Single.error(ex);
-                    }
+    private Completable deleteFromUserProviders(List<io.gravitee.am.model.User> users) {
+        return Flowable.fromIterable(users)
+                .concatMapCompletable(user -> identityProviderManager.getUserProvider(user.getSource())
+                        .flatMapCompletable(userProvider -> userProvider.delete(user.getExternalId()))
+                        .doOnError(ex -> LOGGER.error("Unable to remove user {} from its identity provider {}", user.getUsername(), user.getSource(), ex))
+                        .onErrorComplete());
+    }
 
-                    LOGGER.error("An error occurs while trying to create a user", ex);
-                    return Single.error(new TechnicalManagementException("An error occurs while trying to create a user", ex));
-                });
+    private Throwable createError(Throwable ex) {
+        if (ex instanceof AbstractNotFoundException) {
+            return new InvalidValueException(ex.getMessage());
+        }
+
+        if (ex instanceof SCIMException || ex instanceof AbstractManagementException) {
+            return ex;
+        }
+
+        LOGGER.error("An error occurs while trying to create a user", ex);
+        return new TechnicalManagementException("An error occurs while trying to create a user", ex);
     }
 
     @Override
@@ -16,9 +16,11 @@
 package io.gravitee.am.gateway.handler.scim.spring;
 
 import io.gravitee.am.gateway.handler.api.ProtocolConfiguration;
+import io.gravitee.am.gateway.handler.scim.service.BulkService;
 import io.gravitee.am.gateway.handler.scim.service.GroupService;
 import io.gravitee.am.gateway.handler.scim.service.ServiceProviderConfigService;
 import io.gravitee.am.gateway.handler.scim.service.UserService;
+import io.gravitee.am.gateway.handler.scim.service.impl.BulkServiceImpl;
 import io.gravitee.am.gateway.handler.scim.service.impl.GroupServiceImpl;
 import io.gravitee.am.gateway.handler.scim.service.impl.ServiceProviderConfigServiceImpl;
 import io.gravitee.am.gateway.handler.scim.service.impl.UserServiceImpl;
@@ -42,6 +44,11 @@ public class SCIMConfiguration implements ProtocolConfiguration {
         return new GroupServiceImpl();
     }
 
+    @Bean
+    public BulkService bulkService() {
+        return new BulkServiceImpl();
+    }
+
     @Bean
     public ServiceProviderConfigService serviceProviderConfigService() {
         return new ServiceProviderConfigServiceImpl();
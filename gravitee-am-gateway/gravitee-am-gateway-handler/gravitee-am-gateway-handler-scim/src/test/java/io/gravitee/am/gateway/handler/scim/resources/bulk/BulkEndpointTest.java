@@ -0,0 +1,150 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.scim.resources.bulk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.gravitee.am.gateway.handler.common.vertx.RxWebTestBase;
+import io.gravitee.am.gateway.handler.scim.model.BulkResponse;
+import io.gravitee.am.gateway.handler.scim.model.ComplexType;
+import io.gravitee.am.gateway.handler.scim.model.ServiceProviderConfiguration;
+import io.gravitee.am.gateway.handler.scim.resources.ErrorHandler;
+import io.gravitee.am.gateway.handler.scim.service.BulkService;
+import io.gravitee.am.gateway.handler.scim.service.ServiceProviderConfigService;
+import io.reactivex.Single;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.reactivex.ext.web.handler.BodyHandler;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Collections;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class BulkEndpointTest extends RxWebTestBase {
+
+    private static final String BULK_REQUEST = "{\"schemas\":[\"urn:ietf:params:scim:api:messages:2.0:BulkRequest\"],\"Operations\":[" +
+            "{\"method\":\"DELETE\",\"path\":\"/Users/user-1\"}," +
+            "{\"method\":\"DELETE\",\"path\":\"/Users/user-2\"}]}";
+
+    @Mock
+    private BulkService bulkService;
+
+    @Mock
+    private ServiceProviderConfigService serviceProviderConfigService;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+
+        BulkEndpoint bulkEndpoint = new BulkEndpoint(bulkService, serviceProviderConfigService, new ObjectMapper());
+        router.route("/Bulk")
+                .handler(BodyHandler.create())
+                .handler(bulkEndpoint::execute)
+                .failureHandler(new ErrorHandler());
+        router.route("/LimitedBulk")
+                .handler(BulkEndpoint.bodyHandler(16))
+                .handler(bulkEndpoint::execute);
+    }
+
+    @Test
+    public void shouldExecuteBulkRequest() throws Exception {
+        when(serviceProviderConfigService.get()).thenReturn(Single.just(configuration(10, 1024)));
+        when(bulkService.execute(any(), anyString())).thenReturn(Single.just(new BulkResponse(Collections.emptyList())));
+
+        testRequest(
+                HttpMethod.POST,
+                "/Bulk",
+                req -> {
+                    req.setChunked(true);
+                    req.write(BULK_REQUEST);
+                },
+                200,
+                "OK",
+                null);
+
+        verify(bulkService).execute(argThat(bulkRequest -> bulkRequest.getOperations().size() == 2), anyString());
+    }
+
+    @Test
+    public void shouldRejectTooManyOperations() throws Exception {
+        when(serviceProviderConfigService.get()).thenReturn(Single.just(configuration(1, 1024)));
+
+        testRequest(
+                HttpMethod.POST,
+                "/Bulk",
+                req -> {
+                    req.setChunked(true);
+                    req.write(BULK_REQUEST);
+                },
+                413,
+                "Request Entity Too Large",
+                null);
+
+        verify(bulkService, never()).execute(any(), anyString());
+    }
+
+    @Test
+    public void shouldRejectTooLargePayload() throws Exception {
+        when(serviceProviderConfigService.get()).thenReturn(Single.just(configuration(10, 16)));
+
+        testRequest(
+                HttpMethod.POST,
+                "/Bulk",
+                req -> {
+                    req.setChunked(true);
+                    req.write(BULK_REQUEST);
+                },
+                413,
+                "Request Entity Too Large",
+                null);
+
+        verify(bulkService, never()).execute(any(), anyString());
+    }
+
+    @Test
+    public void shouldRejectTooLargePayload_whileReading() throws Exception {
+        testRequest(
+                HttpMethod.POST,
+                "/LimitedBulk",
+                req -> {
+                    req.setChunked(true);
+                    req.write(BULK_REQUEST);
+                },
+                413,
+                "Request Entity Too Large",
+                null);
+
+        verify(serviceProviderConfigService, never()).get();
+        verify(bulkService, never()).execute(any(), anyString());
+    }
+
+    private ServiceProviderConfiguration configuration(int maxOperations, int maxPayloadSize) {
+        ComplexType bulk = new ComplexType(true);
+        bulk.setMaxOperations(maxOperations);
+        bulk.setMaxPayloadSize(maxPayloadSize);
+        ServiceProviderConfiguration configuration = new ServiceProviderConfiguration();
+        configuration.setBulk(bulk);
+        return configuration;
+    }
+}
@@ -0,0 +1,172 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.scim.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.gravitee.am.gateway.handler.scim.model.*;
+import io.gravitee.am.gateway.handler.scim.model.Error;
+import io.gravitee.am.gateway.handler.scim.service.impl.BulkServiceImpl;
+import io.gravitee.am.service.exception.UserNotFoundException;
+import io.reactivex.Completable;
+import io.reactivex.Notification;
+import io.reactivex.Single;
+import io.reactivex.observers.TestObserver;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class BulkServiceTest {
+
+    private static final String BASE_URL = "https://am/domain/scim";
+
+    @InjectMocks
+    private BulkService bulkService = new BulkServiceImpl();
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private GroupService groupService;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void shouldBatchUserCreations() throws Exception {
+        when(userService.bulkCreate(anyList(), eq(BASE_URL + "/Users"))).thenAnswer(invocation -> {
+            List<User> users = invocation.getArgument(0);
+            return Single.just(Arrays.asList(
+                    Notification.createOnNext(createdUser("user-1")),
+                    Notification.createOnNext(createdUser("user-2")),
+                    Notification.createOnNext(createdUser("user-3"))).subList(0, users.size()));
+        });
+
+        BulkRequest bulkRequest = bulkRequest(null,
+                operation("POST", "/Users", "u1", user("alice")),
+                operation("POST", "/Users", "u2", user("bob")),
+                operation("POST", "/Users", "u3", user("carol")));
+
+        TestObserver<BulkResponse> testObserver = bulkService.execute(bulkRequest, BASE_URL).test();
+        testObserver.awaitTerminalEvent();
+        testObserver.assertComplete();
+        testObserver.assertValue(bulkResponse -> bulkResponse.getOperations().size() == 3
+                && bulkResponse.getOperations().stream().allMatch(result -> "201".equals(result.getStatus()))
+                && "u2".equals(bulkResponse.getOperations().get(1).getBulkId())
+                && (BASE_URL + "/Users/user-2").equals(bulkResponse.getOperations().get(1).getLocation()));
+
+        verify(userService, times(1)).bulkCreate(argThat(users -> users.size() == 3), anyString());
+    }
+
+    @Test
+    public void shouldResolveBulkIdReferences() throws Exception {
+        when(userService.bulkCreate(anyList(), anyString())).thenReturn(Single.just(Arrays.asList(Notification.createOnNext(createdUser("user-1")))));
+        when(groupService.create(any(), anyString())).thenAnswer(invocation -> {
+            Group group = invocation.getArgument(0);
+            group.setId("group-1");
+            Meta meta = new Meta();
+            meta.setLocation(BASE_URL + "/Groups/group-1");
+            group.setMeta(meta);
+            return Single.just(group);
+        });
+
+        BulkRequest bulkRequest = bulkRequest(null,
+                operation("POST", "/Users", "u1", user("alice")),
+                operation("POST", "/Groups", "g1", "{\"schemas\":[\"urn:ietf:params:scim:schemas:core:2.0:Group\"],\"displayName\":\"Admins\",\"members\":[{\"value\":\"bulkId:u1\"}]}"));
+
+        TestObserver<BulkResponse> testObserver = bulkService.execute(bulkRequest, BASE_URL).test();
+        testObserver.awaitTerminalEvent();
+        testObserver.assertComplete();
+        testObserver.assertValue(bulkResponse -> "201".equals(bulkResponse.getOperations().get(1).getStatus()));
+
+        ArgumentCaptor<Group> groupCaptor = ArgumentCaptor.forClass(Group.class);
+        verify(groupService).create(groupCaptor.capture(), eq(BASE_URL + "/Groups"));
+        assertEquals("user-1", groupCaptor.getValue().getMembers().get(0).getValue());
+    }
+
+    @Test
+    public void shouldFailUnresolvedBulkIdReference() throws Exception {
+        BulkRequest bulkRequest = bulkRequest(null,
+                operation("DELETE", "/Groups/bulkId:unknown", null, null));
+
+        TestObserver<BulkResponse> testObserver = bulkService.execute(bulkRequest, BASE_URL).test();
+        testObserver.awaitTerminalEvent();
+        testObserver.assertValue(bulkResponse -> "409".equals(bulkResponse.getOperations().get(0).getStatus())
+                && "invalidValue".equals(((Error) bulkResponse.getOperations().get(0).getResponse()).getScimType()));
+
+        verify(groupService, never()).delete(anyString());
+    }
+
+    @Test
+    public void shouldStopWhenFailOnErrorsIsReached() throws Exception {
+        when(userService.delete("unknown")).thenReturn(Completable.error(new UserNotFoundException("unknown")));
+
+        BulkRequest bulkRequest = bulkRequest(1,
+                operation("DELETE", "/Users/unknown", null, null),
+                operation("POST", "/Users", "u1", user("alice")));
+
+        TestObserver<BulkResponse> testObserver = bulkService.execute(bulkRequest, BASE_URL).test();
+        testObserver.awaitTerminalEvent();
+        testObserver.assertValue(bulkResponse -> bulkResponse.getOperations().size() == 1
+                && "404".equals(bulkResponse.getOperations().get(0).getStatus()));
+
+        verify(userService, never()).bulkCreate(anyList(), anyString());
+    }
+
+    private BulkRequest bulkRequest(Integer failOnErrors, BulkOperation... operations) {
+        BulkRequest bulkRequest = new BulkRequest();
+        bulkRequest.setSchemas(BulkRequest.SCHEMAS);
+        bulkRequest.setFailOnErrors(failOnErrors);
+        bulkRequest.setOperations(Arrays.asList(operations));
+        return bulkRequest;
+    }
+
+    private BulkOperation operation(String method, String path, String bulkId, String data) throws Exception {
+        BulkOperation operation = new BulkOperation();
+        operation.setMethod(method);
+        operation.setPath(path);
+        operation.setBulkId(bulkId);
+        operation.setData(data != null ? objectMapper.readTree(data) : null);
+        return operation;
+    }
+
+    private String user(String username) {
+        return "{\"schemas\":[\"urn:ietf:params:scim:schemas:core:2.0:User\"],\"userName\":\"" + username + "\"}";
+    }
+
+    private User createdUser(String id) {
+        User user = new User();
+        user.setId(id);
+        Meta meta = new Meta();
+        meta.setLocation(BASE_URL + "/Users/" + id);
+        user.setMeta(meta);
+        return user;
+    }
+}
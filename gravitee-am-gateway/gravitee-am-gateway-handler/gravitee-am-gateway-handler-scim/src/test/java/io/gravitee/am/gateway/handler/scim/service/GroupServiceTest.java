@@ -29,6 +29,7 @@ import io.gravitee.am.model.ReferenceType;
 import io.gravitee.am.model.User;
 import io.gravitee.am.repository.management.api.GroupRepository;
 import io.gravitee.am.repository.management.api.UserRepository;
+import io.reactivex.Completable;
 import io.reactivex.Flowable;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
@@ -40,7 +41,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -172,4 +176,47 @@ public class GroupServiceTest {
         testObserver.assertComplete();
         testObserver.assertValue(g -> "my group 2".equals(g.getDisplayName()));
     }
+
+    @Test
+    public void shouldPatchGroup_membersOnly() throws Exception {
+        final String groupId = "groupId";
+        final ObjectMapper mapper = new ObjectMapper();
+
+        PatchOp patchOp = mapper.readValue("{\"schemas\":[\"urn:ietf:params:scim:api:messages:2.0:PatchOp\"],\"Operations\":[" +
+                "{\"op\":\"add\",\"path\":\"members\",\"value\":[{\"value\":\"m3\"}]}," +
+                "{\"op\":\"remove\",\"path\":\"members[value eq \\\"m1\\\"]\"}]}", PatchOp.class);
+
+        io.gravitee.am.model.Group existingGroup = new io.gravitee.am.model.Group();
+        existingGroup.setId(groupId);
+        existingGroup.setName("my group");
+        existingGroup.setMembers(Arrays.asList("m1", "m2"));
+
+        io.gravitee.am.model.Group patchedGroup = new io.gravitee.am.model.Group();
+        patchedGroup.setId(groupId);
+        patchedGroup.setName("my group");
+        patchedGroup.setMembers(Arrays.asList("m2", "m3"));
+
+        when(domain.getName()).thenReturn("domainName");
+        when(objectMapper.convertValue(any(), eq(ObjectNode.class))).thenAnswer(invocation -> mapper.convertValue(invocation.getArgument(0), ObjectNode.class));
+        when(objectMapper.treeToValue(any(ObjectNode.class), eq(Group.class))).thenAnswer(invocation -> mapper.treeToValue(invocation.getArgument(0), Group.class));
+        when(groupRepository.findById(groupId)).thenReturn(Maybe.just(existingGroup), Maybe.just(patchedGroup));
+        when(userRepository.findByIdIn(any())).thenAnswer(invocation -> {
+            List<String> ids = invocation.getArgument(0);
+            return Flowable.fromIterable(ids.stream().map(id -> {
+                User user = new User();
+                user.setId(id);
+                user.setUsername(id);
+                return user;
+            }).collect(Collectors.toList()));
+        });
+        when(groupRepository.updateMembers(eq(groupId), eq(Collections.singletonList("m3")), eq(Collections.singletonList("m1")), any())).thenReturn(Completable.complete());
+
+        TestObserver<Group> testObserver = groupService.patch(groupId, patchOp, "https://mydomain/scim/Groups").test();
+        testObserver.assertNoErrors();
+        testObserver.assertComplete();
+        testObserver.assertValue(g -> g.getMembers().size() == 2
+                && g.getMembers().stream().map(Member::getValue).collect(Collectors.toList()).containsAll(Arrays.asList("m2", "m3")));
+        verify(groupRepository, times(1)).updateMembers(eq(groupId), any(), any(), any());
+        verify(groupRepository, never()).update(any());
+    }
 }
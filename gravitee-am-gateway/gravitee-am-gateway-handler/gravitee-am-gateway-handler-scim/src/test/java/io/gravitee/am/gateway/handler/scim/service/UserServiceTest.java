@@ -20,6 +20,7 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
 import io.gravitee.am.gateway.handler.common.auth.idp.IdentityProviderManager;
 import io.gravitee.am.gateway.handler.scim.exception.InvalidValueException;
+import io.gravitee.am.gateway.handler.scim.exception.UniquenessException;
 import io.gravitee.am.gateway.handler.scim.model.Operation;
 import io.gravitee.am.gateway.handler.scim.model.PatchOp;
 import io.gravitee.am.gateway.handler.scim.model.User;
@@ -28,12 +29,17 @@ import io.gravitee.am.identityprovider.api.UserProvider;
 import io.gravitee.am.model.Domain;
 import io.gravitee.am.model.ReferenceType;
 import io.gravitee.am.model.Role;
+import io.gravitee.am.repository.exceptions.BulkWriteException;
+import io.gravitee.am.repository.exceptions.TechnicalException;
 import io.gravitee.am.repository.management.api.UserRepository;
 import io.gravitee.am.service.RoleService;
+import io.gravitee.am.service.exception.TechnicalManagementException;
 import io.gravitee.am.service.validators.PasswordValidator;
 import io.gravitee.am.service.validators.UserValidator;
+import io.reactivex.Completable;
 import io.reactivex.Flowable;
 import io.reactivex.Maybe;
+import io.reactivex.Notification;
 import io.reactivex.Single;
 import io.reactivex.observers.TestObserver;
 import org.junit.Assert;
@@ -48,6 +54,7 @@ import org.mockito.runners.MockitoJUnitRunner;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import static org.junit.Assert.assertTrue;
@@ -159,6 +166,112 @@ public class UserServiceTest {
         testObserver.assertComplete();
     }
 
+    @Test
+    public void shouldCreateUsers_singleRepositoryWrite() {
+        final String domainId = "domain";
+
+        User newUser = mock(User.class);
+        when(newUser.getSource()).thenReturn("idp");
+        when(newUser.getUserName()).thenReturn("username");
+        User duplicateUser = mock(User.class);
+        when(duplicateUser.getSource()).thenReturn("idp");
+        when(duplicateUser.getUserName()).thenReturn("username");
+        User otherUser = mock(User.class);
+        when(otherUser.getSource()).thenReturn("idp");
+        when(otherUser.getUserName()).thenReturn("other");
+
+        io.gravitee.am.identityprovider.api.User idpUser = mock(io.gravitee.am.identityprovider.api.User.class);
+        UserProvider userProvider = mock(UserProvider.class);
+        when(userProvider.create(any())).thenReturn(Single.just(idpUser));
+
+        when(domain.getId()).thenReturn(domainId);
+        when(userRepository.findByUsernameAndSource(eq(ReferenceType.DOMAIN), anyString(), anyString(), anyString())).thenReturn(Maybe.empty());
+        when(userRepository.bulkWrite(anyList())).thenReturn(Completable.complete());
+        when(identityProviderManager.getUserProvider(anyString())).thenReturn(Maybe.just(userProvider));
+
+        TestObserver<List<Notification<User>>> testObserver = userService.bulkCreate(Arrays.asList(newUser, duplicateUser, otherUser), "/").test();
+        testObserver.assertNoErrors();
+        testObserver.assertComplete();
+        testObserver.assertValue(results -> results.size() == 3
+                && results.get(0).isOnNext()
+                && results.get(1).getError() instanceof UniquenessException
+                && results.get(2).isOnNext());
+
+        verify(userRepository, times(1)).bulkWrite(argThat(users -> users.size() == 2));
+        verify(userRepository, never()).create(any());
+    }
+
+    @Test
+    public void shouldCreateUsers_repositoryError_removeIdpUsers() {
+        final String domainId = "domain";
+
+        User newUser = mock(User.class);
+        when(newUser.getSource()).thenReturn("idp");
+        when(newUser.getUserName()).thenReturn("username");
+        User otherUser = mock(User.class);
+        when(otherUser.getSource()).thenReturn("idp");
+        when(otherUser.getUserName()).thenReturn("other");
+
+        io.gravitee.am.identityprovider.api.User idpUser = mock(io.gravitee.am.identityprovider.api.User.class);
+        when(idpUser.getId()).thenReturn("idp-user-id");
+        UserProvider userProvider = mock(UserProvider.class);
+        when(userProvider.create(any())).thenReturn(Single.just(idpUser));
+        when(userProvider.delete("idp-user-id")).thenReturn(Completable.complete());
+
+        when(domain.getId()).thenReturn(domainId);
+        when(userRepository.findByUsernameAndSource(eq(ReferenceType.DOMAIN), anyString(), anyString(), anyString())).thenReturn(Maybe.empty());
+        when(userRepository.bulkWrite(anyList())).thenReturn(Completable.error(new TechnicalException()));
+        when(identityProviderManager.getUserProvider(anyString())).thenReturn(Maybe.just(userProvider));
+
+        TestObserver<List<Notification<User>>> testObserver = userService.bulkCreate(Arrays.asList(newUser, otherUser), "/").test();
+        testObserver.assertNoErrors();
+        testObserver.assertComplete();
+        testObserver.assertValue(results -> results.size() == 2
+                && results.get(0).getError() instanceof TechnicalManagementException
+                && results.get(1).getError() instanceof TechnicalManagementException);
+
+        verify(userProvider, times(2)).delete("idp-user-id");
+    }
+
+    @Test
+    public void shouldCreateUsers_partialWrite_removeFailedIdpUsers() {
+        final String domainId = "domain";
+
+        User newUser = mock(User.class);
+        when(newUser.getSource()).thenReturn("idp");
+        when(newUser.getUserName()).thenReturn("username");
+        User otherUser = mock(User.class);
+        when(otherUser.getSource()).thenReturn("idp");
+        when(otherUser.getUserName()).thenReturn("other");
+
+        io.gravitee.am.identityprovider.api.User idpUser = mock(io.gravitee.am.identityprovider.api.User.class);
+        when(idpUser.getId()).thenReturn("idp-user-id");
+        io.gravitee.am.identityprovider.api.User otherIdpUser = mock(io.gravitee.am.identityprovider.api.User.class);
+        when(otherIdpUser.getId()).thenReturn("other-idp-user-id");
+        UserProvider userProvider = mock(UserProvider.class);
+        when(userProvider.create(any())).thenReturn(Single.just(idpUser), Single.just(otherIdpUser));
+        when(userProvider.delete("other-idp-user-id")).thenReturn(Completable.complete());
+
+        when(domain.getId()).thenReturn(domainId);
+        when(userRepository.findByUsernameAndSource(eq(ReferenceType.DOMAIN), anyString(), anyString(), anyString())).thenReturn(Maybe.empty());
+        // only the second user is not written
+        when(userRepository.bulkWrite(anyList())).thenAnswer(invocation -> {
+            List<io.gravitee.am.model.User> users = invocation.getArgument(0);
+            return Completable.error(new BulkWriteException(Collections.singleton(users.get(1).getId()), new RuntimeException()));
+        });
+        when(identityProviderManager.getUserProvider(anyString())).thenReturn(Maybe.just(userProvider));
+
+        TestObserver<List<Notification<User>>> testObserver = userService.bulkCreate(Arrays.asList(newUser, otherUser), "/").test();
+        testObserver.assertNoErrors();
+        testObserver.assertComplete();
+        testObserver.assertValue(results -> results.size() == 2
+                && results.get(0).isOnNext()
+                && results.get(1).getError() instanceof TechnicalManagementException);
+
+        verify(userProvider, times(1)).delete("other-idp-user-id");
+        verify(userProvider, never()).delete("idp-user-id");
+    }
+
     @Test
     public void shouldUpdateUser_status_enabled() {
         io.gravitee.am.model.User existingUser = mock(io.gravitee.am.model.User.class);
@@ -30,5 +30,9 @@ public interface Reactor extends Service {
 
     void mountDomain(VertxSecurityDomainHandler domainHandler);
 
+    void mountDomain(Domain domain, Router domainRouter);
+
     void unMountDomain(VertxSecurityDomainHandler domainHandler);
+
+    void unMountDomain(Domain domain, Router domainRouter);
 }
@@ -38,6 +38,8 @@ import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.env.Environment;
 
+import java.util.*;
+
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
@@ -59,6 +61,9 @@ public class DefaultReactor extends AbstractService implements Reactor, EventLis
 
     private Router router;
 
+    // routes mounted on the root router for each domain router, removed when the domain is unmounted
+    private final Map<io.vertx.ext.web.Router, List<io.vertx.ext.web.Route>> mountedRoutes = new HashMap<>();
+
     @Autowired
     private TransactionProcessorFactory transactionHandlerFactory;
 
@@ -98,15 +103,24 @@ public class DefaultReactor extends AbstractService implements Reactor, EventLis
 
     @Override
     public void mountDomain(VertxSecurityDomainHandler domainHandler) {
+        mountDomain(domainHandler.getDomain(), domainHandler.router());
+    }
 
-        Domain domain = domainHandler.getDomain();
+    @Override
+    public synchronized void mountDomain(Domain domain, Router domainRouter) {
+        final Set<io.vertx.ext.web.Route> existingRoutes = new HashSet<>(this.router.getDelegate().getRoutes());
 
         if (domain.isVhostMode()) {
             // Mount the same router for each virtual host / path.
-            domain.getVhosts().forEach(virtualHost -> this.router.mountSubRouter(sanitizePath(virtualHost.getPath()), VHostRouter.router(domain, virtualHost, domainHandler.router())));
+            domain.getVhosts().forEach(virtualHost -> this.router.mountSubRouter(sanitizePath(virtualHost.getPath()), VHostRouter.router(domain, virtualHost, domainRouter)));
         } else {
-            this.router.mountSubRouter(sanitizePath(domain.getPath()), VHostRouter.router(domain, domainHandler.router()));
+            this.router.mountSubRouter(sanitizePath(domain.getPath()), VHostRouter.router(domain, domainRouter));
         }
+
+        final List<io.vertx.ext.web.Route> routes = mountedRoutes.computeIfAbsent(domainRouter.getDelegate(), key -> new ArrayList<>());
+        this.router.getDelegate().getRoutes().stream()
+                .filter(route -> !existingRoutes.contains(route))
+                .forEach(routes::add);
     }
 
     private String sanitizePath(String path) {
@@ -120,13 +134,21 @@ public class DefaultReactor extends AbstractService implements Reactor, EventLis
 
     @Override
     public void unMountDomain(VertxSecurityDomainHandler domainHandler) {
-
+        unMountDomain(domainHandler.getDomain(), domainHandler.router());
 
         domainHandler.router()
                 .getRoutes()
                 .forEach(Route::remove);
     }
 
+    @Override
+    public synchronized void unMountDomain(Domain domain, Router domainRouter) {
+        final List<io.vertx.ext.web.Route> routes = mountedRoutes.remove(domainRouter.getDelegate());
+        if (routes != null) {
+            routes.forEach(io.vertx.ext.web.Route::remove);
+        }
+    }
+
     @Override
     public void afterPropertiesSet() {
         router = Router.router(vertx);
@@ -16,18 +16,27 @@
 package io.gravitee.am.gateway.reactor.impl;
 
 import io.gravitee.am.gateway.handler.SecurityDomainRouterFactory;
+import io.gravitee.am.gateway.handler.common.metrics.TimeToFirstTokenRecorder;
 import io.gravitee.am.gateway.handler.vertx.VertxSecurityDomainHandler;
 import io.gravitee.am.gateway.reactor.Reactor;
 import io.gravitee.am.gateway.reactor.SecurityDomainHandlerRegistry;
+import io.gravitee.am.gateway.reactor.impl.router.LazyDomainRouter;
 import io.gravitee.am.model.Domain;
+import io.gravitee.am.service.utils.MetricsUtils;
+import io.micrometer.core.instrument.Timer;
+import io.vertx.reactivex.core.Vertx;
+import io.vertx.reactivex.ext.web.Router;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
@@ -36,7 +45,10 @@ import java.util.concurrent.ConcurrentMap;
 public class DefaultSecurityDomainHandlerRegistry implements SecurityDomainHandlerRegistry {
 
     private static final Logger logger = LoggerFactory.getLogger(DefaultSecurityDomainHandlerRegistry.class);
+    private static final String MODE_EAGER = "eager";
+    private static final String MODE_LAZY = "lazy";
     private final ConcurrentMap<String, VertxSecurityDomainHandler> handlers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LazyDomainRouter> lazyRouters = new ConcurrentHashMap<>();
 
     @Autowired
     private SecurityDomainRouterFactory securityDomainRouterFactory;
@@ -44,6 +56,19 @@ public class DefaultSecurityDomainHandlerRegistry implements SecurityDomainHandl
     @Autowired
     private Reactor reactor;
 
+    @Autowired
+    private Vertx vertx;
+
+    @Autowired
+    private TimeToFirstTokenRecorder timeToFirstTokenRecorder;
+
+    @Value("${domains.deployment.lazy:false}")
+    private boolean lazy;
+
+    // ids or hrids of the domains deployed in lazy mode when it is not enabled for all of them
+    @Value("${domains.deployment.lazyDomains:}")
+    private String lazyDomains;
+
     @Override
     public void create(Domain domain) {
 
@@ -52,12 +77,20 @@ public class DefaultSecurityDomainHandlerRegistry implements SecurityDomainHandl
         } else {
             logger.info("Register a new domain [{}] on path [{}]", domain.getId(), domain.getPath());
         }
+        timeToFirstTokenRecorder.deployed(domain.getId());
+
+        if (isLazy(domain)) {
+            // only mount a placeholder, the domain handler is created by the first request targeting the domain
+            Router router = LazyDomainRouter.router(vertx, domain, this::materialize);
+            lazyRouters.put(domain.getId(), (LazyDomainRouter) router.getDelegate());
+            reactor.mountDomain(domain, router);
+            logger.info("Security domain [{}] will be deployed on its first request", domain.getId());
+            return;
+        }
 
-        VertxSecurityDomainHandler handler = create0(domain);
+        VertxSecurityDomainHandler handler = start(domain, null);
         if (handler != null) {
             try {
-                handler.start();
-                handlers.putIfAbsent(domain.getId(), handler);
                 reactor.mountDomain(handler);
             } catch (Exception ex) {
                 logger.error("Unable to register handler", ex);
@@ -69,7 +102,7 @@ public class DefaultSecurityDomainHandlerRegistry implements SecurityDomainHandl
     public void update(Domain domain) {
 
         VertxSecurityDomainHandler handler = handlers.get(domain.getId());
-        if (handler != null) {
+        if (handler != null || lazyRouters.containsKey(domain.getId())) {
             remove(domain);
             create(domain);
         } else {
@@ -80,6 +113,12 @@ public class DefaultSecurityDomainHandlerRegistry implements SecurityDomainHandl
     @Override
     public void remove(Domain domain) {
 
+        LazyDomainRouter lazyRouter = lazyRouters.remove(domain.getId());
+        if (lazyRouter != null) {
+            lazyRouter.discard();
+            reactor.unMountDomain(domain, Router.newInstance(lazyRouter));
+        }
+
         VertxSecurityDomainHandler handler = handlers.remove(domain.getId());
         if (handler != null) {
             try {
@@ -95,6 +134,11 @@ public class DefaultSecurityDomainHandlerRegistry implements SecurityDomainHandl
 
     @Override
     public void clear() {
+        lazyRouters.forEach((s, lazyRouter) -> {
+            lazyRouter.discard();
+            reactor.unMountDomain(lazyRouter.getDomain(), Router.newInstance(lazyRouter));
+        });
+        lazyRouters.clear();
         handlers.forEach((s, handler) -> {
             try {
                 handler.stop();
@@ -110,6 +154,62 @@ public class DefaultSecurityDomainHandlerRegistry implements SecurityDomainHandl
         return handlers.values();
     }
 
+    private Router materialize(LazyDomainRouter lazyRouter) {
+        VertxSecurityDomainHandler handler = start(lazyRouter.getDomain(), lazyRouter);
+        return handler != null ? handler.router() : null;
+    }
+
+    /**
+     * @param lazyRouter the placeholder deploying the domain, <code>null</code> in eager mode
+     */
+    private VertxSecurityDomainHandler start(Domain domain, LazyDomainRouter lazyRouter) {
+        final long start = System.nanoTime();
+        VertxSecurityDomainHandler handler = create0(domain);
+        if (handler != null) {
+            try {
+                handler.start();
+
+                // a lazy deployment may complete after the domain has been removed or deployed again
+                final AtomicBoolean registered = new AtomicBoolean();
+                handlers.compute(domain.getId(), (id, existing) -> {
+                    if (existing == null && (lazyRouter == null || lazyRouters.get(id) == lazyRouter)) {
+                        registered.set(true);
+                        return handler;
+                    }
+                    return existing;
+                });
+                if (!registered.get()) {
+                    logger.info("Security domain [{}] is no longer mounted, its handler is stopped", domain.getId());
+                    handler.stop();
+                    return null;
+                }
+
+                final long duration = System.nanoTime() - start;
+                Timer.builder("am_domain_deployment")
+                        .description("Time spent to deploy a security domain")
+                        .tag(MetricsUtils.TAG_DOMAIN, domain.getId())
+                        .tag("mode", lazyRouter == null ? MODE_EAGER : MODE_LAZY)
+                        .register(MetricsUtils.registry())
+                        .record(duration, TimeUnit.NANOSECONDS);
+                logger.info("Security domain [{}] is ready, deployed in {} ms", domain.getId(), TimeUnit.NANOSECONDS.toMillis(duration));
+                return handler;
+            } catch (Exception ex) {
+                logger.error("Unable to register handler", ex);
+            }
+        }
+        return null;
+    }
+
+    private boolean isLazy(Domain domain) {
+        if (lazy) {
+            return true;
+        }
+        return lazyDomains != null && Arrays.stream(lazyDomains.split(","))
+                .map(String::trim)
+                .filter(lazyDomain -> !lazyDomain.isEmpty())
+                .anyMatch(lazyDomain -> lazyDomain.equals(domain.getId()) || lazyDomain.equals(domain.getHrid()));
+    }
+
     private VertxSecurityDomainHandler create0(Domain domain) {
         return securityDomainRouterFactory.create(domain);
     }
@@ -24,8 +24,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
@@ -38,7 +38,7 @@ public class DefaultSecurityDomainManager implements SecurityDomainManager {
     @Autowired
     private EventManager eventManager;
 
-    private final Map<String, Domain> domains = new HashMap<>();
+    private final Map<String, Domain> domains = new ConcurrentHashMap<>();
 
 
     @Override
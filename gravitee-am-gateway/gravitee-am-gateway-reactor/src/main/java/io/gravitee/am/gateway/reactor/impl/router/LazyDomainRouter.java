@@ -0,0 +1,153 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.reactor.impl.router;
+
+import io.gravitee.am.model.Domain;
+import io.gravitee.common.http.HttpStatusCode;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.impl.RouterImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Placeholder router mounted for a security domain deployed in lazy mode.
+ * The domain handler is only created when the first request targets the domain, this request and the following ones
+ * are then delegated to the router of the domain handler.
+ *
+ * The requests received while the domain is deployed wait for the same deployment. When the deployment fails, the
+ * requests are rejected (HTTP status code 503) until the next attempt, which is delayed longer after each failure.
+ *
+ * @author GraviteeSource Team
+ */
+public class LazyDomainRouter extends RouterImpl {
+
+    private static final Logger logger = LoggerFactory.getLogger(LazyDomainRouter.class);
+    static final long MIN_RETRY_DELAY = TimeUnit.SECONDS.toMillis(1);
+    static final long MAX_RETRY_DELAY = TimeUnit.MINUTES.toMillis(1);
+
+    private final Vertx vertx;
+    private final Domain domain;
+    private final Function<LazyDomainRouter, Router> deployer;
+    private final AtomicReference<Promise<Router>> deployment = new AtomicReference<>();
+    private volatile Router target;
+    private volatile boolean discarded;
+    private volatile long retryAt;
+    private volatile long retryDelay = MIN_RETRY_DELAY;
+
+    public LazyDomainRouter(Vertx vertx, Domain domain, Function<LazyDomainRouter, Router> deployer) {
+        super(vertx);
+        this.vertx = vertx;
+        this.domain = domain;
+        this.deployer = deployer;
+    }
+
+    public static io.vertx.reactivex.ext.web.Router router(io.vertx.reactivex.core.Vertx vertx, Domain domain, Function<LazyDomainRouter, io.vertx.reactivex.ext.web.Router> deployer) {
+        return io.vertx.reactivex.ext.web.Router.newInstance(new LazyDomainRouter(vertx.getDelegate(), domain, lazyRouter -> {
+            io.vertx.reactivex.ext.web.Router router = deployer.apply(lazyRouter);
+            return router == null ? null : router.getDelegate();
+        }));
+    }
+
+    @Override
+    public void handleContext(RoutingContext context) {
+        Router router = target;
+        if (discarded) {
+            context.next();
+        } else if (router != null) {
+            router.handleContext(context);
+        } else if (System.currentTimeMillis() < retryAt) {
+            // the last deployment has failed, do not try again for each request
+            context.fail(HttpStatusCode.SERVICE_UNAVAILABLE_503);
+        } else {
+            // the domain is deployed on a worker thread, hold the request body until the domain router is ready
+            final Context requestContext = vertx.getOrCreateContext();
+            context.request().pause();
+            deploy().onComplete(ar -> requestContext.runOnContext(v -> {
+                context.request().resume();
+                if (discarded) {
+                    context.next();
+                } else if (ar.succeeded()) {
+                    ar.result().handleContext(context);
+                } else {
+                    context.fail(HttpStatusCode.SERVICE_UNAVAILABLE_503);
+                }
+            }));
+        }
+    }
+
+    @Override
+    public void handleFailure(RoutingContext context) {
+        Router router = target;
+        if (!discarded && router != null) {
+            router.handleFailure(context);
+        } else {
+            context.next();
+        }
+    }
+
+    public Domain getDomain() {
+        return domain;
+    }
+
+    public boolean isMaterialized() {
+        return target != null;
+    }
+
+    /**
+     * Prevent the domain from being deployed by the next requests, they are passed to the next routes.
+     */
+    public void discard() {
+        discarded = true;
+    }
+
+    /**
+     * @return the deployment in progress, started by the calling request if there is none
+     */
+    private Future<Router> deploy() {
+        final Promise<Router> promise = Promise.promise();
+        Promise<Router> current;
+        while ((current = deployment.get()) == null) {
+            if (deployment.compareAndSet(null, promise)) {
+                vertx.<Router>executeBlocking(p -> p.complete(deployer.apply(this)), false, ar -> {
+                    if (ar.succeeded() && ar.result() != null) {
+                        target = ar.result();
+                        retryDelay = MIN_RETRY_DELAY;
+                        promise.complete(ar.result());
+                    } else {
+                        if (!discarded) {
+                            logger.error("Unable to deploy security domain [{}], next attempt in {} ms", domain.getId(), retryDelay, ar.cause());
+                        }
+                        retryAt = System.currentTimeMillis() + retryDelay;
+                        retryDelay = Math.min(retryDelay * 2, MAX_RETRY_DELAY);
+                        promise.fail(ar.failed() ? ar.cause() : new IllegalStateException("Security domain [" + domain.getId() + "] not deployed"));
+                    }
+                    deployment.set(null);
+                });
+                return promise.future();
+            }
+        }
+        return current.future();
+    }
+}
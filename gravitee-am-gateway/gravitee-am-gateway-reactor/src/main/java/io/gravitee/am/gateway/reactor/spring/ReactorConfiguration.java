@@ -17,6 +17,11 @@ package io.gravitee.am.gateway.reactor.spring;
 
 import io.gravitee.am.gateway.certificate.spring.CertificateConfiguration;
 import io.gravitee.am.gateway.handler.SecurityDomainRouterFactory;
+import io.gravitee.am.gateway.handler.common.alert.AlertEventDispatcher;
+import io.gravitee.am.gateway.handler.common.jwt.JWTSignerPool;
+import io.gravitee.am.gateway.handler.common.oauth2.RevokedTokenHistory;
+import io.gravitee.am.gateway.handler.common.oauth2.impl.RevokedTokenHistoryImpl;
+import io.gravitee.am.gateway.handler.spring.SharedHandlerConfiguration;
 import io.gravitee.am.gateway.reactor.Reactor;
 import io.gravitee.am.gateway.reactor.SecurityDomainHandlerRegistry;
 import io.gravitee.am.gateway.reactor.SecurityDomainManager;
@@ -33,7 +38,7 @@ import org.springframework.context.annotation.Import;
  * @author GraviteeSource Team
  */
 @Configuration
-@Import(CertificateConfiguration.class)
+@Import({CertificateConfiguration.class, SharedHandlerConfiguration.class})
 public class ReactorConfiguration {
 
     @Bean
@@ -60,4 +65,19 @@ public class ReactorConfiguration {
     public SecurityDomainManager securityDomainManager() {
         return new DefaultSecurityDomainManager();
     }
+
+    @Bean
+    public JWTSignerPool jwtSignerPool() {
+        return new JWTSignerPool();
+    }
+
+    @Bean
+    public RevokedTokenHistory revokedTokenHistory() {
+        return new RevokedTokenHistoryImpl();
+    }
+
+    @Bean
+    public AlertEventDispatcher alertEventDispatcher() {
+        return new AlertEventDispatcher();
+    }
 }
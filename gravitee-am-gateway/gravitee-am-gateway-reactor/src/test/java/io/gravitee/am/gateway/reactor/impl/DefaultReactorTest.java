@@ -0,0 +1,67 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.reactor.impl;
+
+import io.gravitee.am.gateway.reactor.impl.transaction.TransactionProcessorFactory;
+import io.gravitee.am.model.Domain;
+import io.vertx.reactivex.core.Vertx;
+import io.vertx.reactivex.ext.web.Router;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class DefaultReactorTest {
+
+    private DefaultReactor reactor;
+
+    private Vertx vertx;
+
+    @Before
+    public void setUp() {
+        vertx = Vertx.vertx();
+        reactor = new DefaultReactor();
+        ReflectionTestUtils.setField(reactor, "vertx", vertx);
+        ReflectionTestUtils.setField(reactor, "transactionHandlerFactory", new TransactionProcessorFactory());
+        reactor.afterPropertiesSet();
+    }
+
+    @After
+    public void tearDown() {
+        vertx.close();
+    }
+
+    @Test
+    public void shouldRemoveRootRoutes_unmount() {
+        final int initialRoutes = reactor.route().getDelegate().getRoutes().size();
+        final Domain domain = new Domain();
+        domain.setId("domain-id");
+        domain.setPath("/test");
+        final Router domainRouter = Router.router(vertx);
+
+        reactor.mountDomain(domain, domainRouter);
+        assertEquals(initialRoutes + 1, reactor.route().getDelegate().getRoutes().size());
+
+        // an other wrapper of the same domain router
+        reactor.unMountDomain(domain, Router.newInstance(domainRouter.getDelegate()));
+        assertEquals(initialRoutes, reactor.route().getDelegate().getRoutes().size());
+    }
+}
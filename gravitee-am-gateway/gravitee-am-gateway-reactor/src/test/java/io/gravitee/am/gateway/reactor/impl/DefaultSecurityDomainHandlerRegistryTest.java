@@ -0,0 +1,200 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.reactor.impl;
+
+import io.gravitee.am.gateway.handler.SecurityDomainRouterFactory;
+import io.gravitee.am.gateway.handler.common.metrics.TimeToFirstTokenRecorder;
+import io.gravitee.am.gateway.handler.vertx.VertxSecurityDomainHandler;
+import io.gravitee.am.gateway.reactor.Reactor;
+import io.gravitee.am.gateway.reactor.impl.router.LazyDomainRouter;
+import io.gravitee.am.model.Domain;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.reactivex.core.Vertx;
+import io.vertx.reactivex.ext.web.Router;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class DefaultSecurityDomainHandlerRegistryTest {
+
+    @InjectMocks
+    private DefaultSecurityDomainHandlerRegistry registry = new DefaultSecurityDomainHandlerRegistry();
+
+    @Mock
+    private SecurityDomainRouterFactory securityDomainRouterFactory;
+
+    @Mock
+    private Reactor reactor;
+
+    @Mock
+    private TimeToFirstTokenRecorder timeToFirstTokenRecorder;
+
+    @Mock
+    private VertxSecurityDomainHandler handler;
+
+    @Mock
+    private Router handlerRouter;
+
+    @Mock
+    private io.vertx.ext.web.Router handlerRouterDelegate;
+
+    @Mock
+    private RoutingContext context;
+
+    @Mock
+    private HttpServerRequest request;
+
+    private Vertx vertx;
+
+    private Domain domain;
+
+    @Before
+    public void setUp() {
+        vertx = Vertx.vertx();
+        ReflectionTestUtils.setField(registry, "vertx", vertx);
+        ReflectionTestUtils.setField(registry, "lazy", true);
+
+        domain = new Domain();
+        domain.setId("domain-id");
+        domain.setPath("/test");
+    }
+
+    @After
+    public void tearDown() {
+        vertx.close();
+    }
+
+    @Test
+    public void shouldMountPlaceholder_lazy() {
+        registry.create(domain);
+
+        verify(timeToFirstTokenRecorder).deployed("domain-id");
+        verify(reactor).mountDomain(eq(domain), any(Router.class));
+        verify(securityDomainRouterFactory, never()).create(any());
+        assertTrue(registry.getSecurityDomainHandlers().isEmpty());
+    }
+
+    @Test
+    public void shouldDeployOnFirstRequest_lazy() throws Exception {
+        when(securityDomainRouterFactory.create(domain)).thenReturn(handler);
+        when(handler.router()).thenReturn(handlerRouter);
+        when(handlerRouter.getDelegate()).thenReturn(handlerRouterDelegate);
+        when(context.request()).thenReturn(request);
+
+        registry.create(domain);
+        LazyDomainRouter lazyRouter = mountedRouter();
+        lazyRouter.handleContext(context);
+
+        verify(handlerRouterDelegate, timeout(5000)).handleContext(context);
+        verify(handler).start();
+        assertTrue(lazyRouter.isMaterialized());
+        assertEquals(1, registry.getSecurityDomainHandlers().size());
+    }
+
+    @Test
+    public void shouldUnmountPlaceholder_redeploy() throws Exception {
+        when(securityDomainRouterFactory.create(domain)).thenReturn(handler);
+        when(handler.router()).thenReturn(handlerRouter);
+        when(handlerRouter.getDelegate()).thenReturn(handlerRouterDelegate);
+        when(context.request()).thenReturn(request);
+
+        registry.create(domain);
+        LazyDomainRouter lazyRouter = mountedRouter();
+        lazyRouter.handleContext(context);
+        verify(handlerRouterDelegate, timeout(5000)).handleContext(context);
+
+        registry.update(domain);
+
+        ArgumentCaptor<Router> unmounted = ArgumentCaptor.forClass(Router.class);
+        verify(reactor).unMountDomain(eq(domain), unmounted.capture());
+        assertSame(lazyRouter, unmounted.getValue().getDelegate());
+        verify(handler).stop();
+        verify(reactor).unMountDomain(handler);
+        verify(reactor, times(2)).mountDomain(eq(domain), any(Router.class));
+
+        // the discarded placeholder no longer deploys the domain
+        lazyRouter.handleContext(context);
+        verify(context).next();
+        verify(securityDomainRouterFactory, times(1)).create(domain);
+    }
+
+    @Test
+    public void shouldStopHandler_removedDuringDeployment() throws Exception {
+        when(securityDomainRouterFactory.create(domain)).thenReturn(handler);
+        when(context.request()).thenReturn(request);
+        // the domain is removed while its handler is starting
+        doAnswer(invocation -> {
+            registry.remove(domain);
+            return handler;
+        }).when(handler).start();
+
+        registry.create(domain);
+        LazyDomainRouter lazyRouter = mountedRouter();
+        lazyRouter.handleContext(context);
+
+        verify(context, timeout(5000)).next();
+        verify(handler).stop();
+        assertFalse(lazyRouter.isMaterialized());
+        assertTrue(registry.getSecurityDomainHandlers().isEmpty());
+    }
+
+    @Test
+    public void shouldMountPlaceholder_lazyDomain() {
+        ReflectionTestUtils.setField(registry, "lazy", false);
+        ReflectionTestUtils.setField(registry, "lazyDomains", "other-domain, domain-hrid");
+        domain.setHrid("domain-hrid");
+
+        registry.create(domain);
+
+        verify(reactor).mountDomain(eq(domain), any(Router.class));
+        verify(securityDomainRouterFactory, never()).create(any());
+    }
+
+    @Test
+    public void shouldDeployEagerly_notLazyDomain() throws Exception {
+        ReflectionTestUtils.setField(registry, "lazy", false);
+        ReflectionTestUtils.setField(registry, "lazyDomains", "other-domain");
+        when(securityDomainRouterFactory.create(domain)).thenReturn(handler);
+
+        registry.create(domain);
+
+        verify(handler).start();
+        verify(reactor).mountDomain(handler);
+        verify(reactor, never()).mountDomain(eq(domain), any(Router.class));
+        assertEquals(1, registry.getSecurityDomainHandlers().size());
+    }
+
+    private LazyDomainRouter mountedRouter() {
+        ArgumentCaptor<Router> mounted = ArgumentCaptor.forClass(Router.class);
+        verify(reactor, atLeastOnce()).mountDomain(eq(domain), mounted.capture());
+        return (LazyDomainRouter) mounted.getValue().getDelegate();
+    }
+}
@@ -0,0 +1,159 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.reactor.impl.router;
+
+import io.gravitee.am.model.Domain;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class LazyDomainRouterTest {
+
+    @Mock
+    private Router domainRouter;
+
+    @Mock
+    private RoutingContext context;
+
+    @Mock
+    private HttpServerRequest request;
+
+    private Vertx vertx;
+
+    private Domain domain;
+
+    @Before
+    public void setUp() {
+        vertx = Vertx.vertx();
+        domain = new Domain();
+        domain.setId("domain-id");
+        domain.setPath("/test");
+    }
+
+    @After
+    public void tearDown() {
+        vertx.close();
+    }
+
+    @Test
+    public void shouldDeployOnFirstRequestOnly() {
+        when(context.request()).thenReturn(request);
+        final AtomicInteger deployments = new AtomicInteger();
+        LazyDomainRouter lazyRouter = new LazyDomainRouter(vertx, domain, d -> {
+            deployments.incrementAndGet();
+            return domainRouter;
+        });
+
+        assertFalse(lazyRouter.isMaterialized());
+        lazyRouter.handleContext(context);
+        verify(domainRouter, timeout(5000)).handleContext(context);
+        verify(request).pause();
+        verify(request).resume();
+        assertTrue(lazyRouter.isMaterialized());
+
+        lazyRouter.handleContext(context);
+        verify(domainRouter, timeout(5000).times(2)).handleContext(context);
+        assertEquals(1, deployments.get());
+        verify(context, never()).next();
+    }
+
+    @Test
+    public void shouldPassToNextRoute_discarded() {
+        Function<LazyDomainRouter, Router> deployer = mock(Function.class);
+        LazyDomainRouter lazyRouter = new LazyDomainRouter(vertx, domain, deployer);
+
+        lazyRouter.discard();
+        lazyRouter.handleContext(context);
+
+        verify(context).next();
+        verify(deployer, never()).apply(any());
+        assertFalse(lazyRouter.isMaterialized());
+    }
+
+    @Test
+    public void shouldRejectRequest_deploymentFailed() {
+        when(context.request()).thenReturn(request);
+        LazyDomainRouter lazyRouter = new LazyDomainRouter(vertx, domain, d -> null);
+
+        lazyRouter.handleContext(context);
+
+        verify(context, timeout(5000)).fail(503);
+        verify(request).resume();
+        verify(context, never()).next();
+        assertFalse(lazyRouter.isMaterialized());
+    }
+
+    @Test
+    public void shouldNotDeployAgain_untilRetryDelay() {
+        when(context.request()).thenReturn(request);
+        final AtomicInteger deployments = new AtomicInteger();
+        LazyDomainRouter lazyRouter = new LazyDomainRouter(vertx, domain, d -> {
+            deployments.incrementAndGet();
+            throw new IllegalStateException("deployment failure");
+        });
+
+        lazyRouter.handleContext(context);
+        verify(context, timeout(5000)).fail(503);
+
+        // the next request fails fast, without waiting for another deployment
+        lazyRouter.handleContext(context);
+        verify(context, times(2)).fail(503);
+        verify(request, times(1)).pause();
+        assertEquals(1, deployments.get());
+    }
+
+    @Test
+    public void shouldShareDeployment_concurrentRequests() throws Exception {
+        when(context.request()).thenReturn(request);
+        final CountDownLatch deploying = new CountDownLatch(1);
+        final AtomicInteger deployments = new AtomicInteger();
+        LazyDomainRouter lazyRouter = new LazyDomainRouter(vertx, domain, d -> {
+            deployments.incrementAndGet();
+            try {
+                deploying.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return domainRouter;
+        });
+
+        lazyRouter.handleContext(context);
+        lazyRouter.handleContext(context);
+        deploying.countDown();
+
+        verify(domainRouter, timeout(5000).times(2)).handleContext(context);
+        assertEquals(1, deployments.get());
+    }
+}
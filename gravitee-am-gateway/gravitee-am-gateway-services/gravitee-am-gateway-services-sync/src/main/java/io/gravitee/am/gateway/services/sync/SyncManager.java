@@ -24,22 +24,28 @@ import io.gravitee.am.repository.management.api.DomainRepository;
 import io.gravitee.am.repository.management.api.EnvironmentRepository;
 import io.gravitee.am.repository.management.api.EventRepository;
 import io.gravitee.am.repository.management.api.OrganizationRepository;
+import io.gravitee.am.service.sync.EventLogReader;
+import io.gravitee.am.service.utils.MetricsUtils;
 import io.gravitee.common.event.EventManager;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.reactivex.Completable;
+import io.reactivex.Flowable;
+import io.reactivex.schedulers.Schedulers;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.core.env.Environment;
 
 import java.text.Collator;
 import java.util.*;
-import java.util.function.BinaryOperator;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
-import static java.util.Comparator.comparing;
-import static java.util.stream.Collectors.toMap;
-
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
@@ -62,6 +68,15 @@ public class SyncManager implements InitializingBean {
     @Autowired
     private Environment environment;
 
+    @Value("${domains.deployment.parallelism:0}")
+    private int deploymentParallelism;
+
+    @Value("${services.sync.batchSize:1000}")
+    private int batchSize;
+
+    @Value("${services.sync.gapTimeout:10000}")
+    private long gapTimeout;
+
     @Lazy
     @Autowired
     private DomainRepository domainRepository;
@@ -86,12 +101,22 @@ public class SyncManager implements InitializingBean {
 
     private List<String> environmentIds;
 
-    private long lastRefreshAt = -1;
+    private EventLogReader eventLogReader;
+
+    private boolean initialized;
+
+    private volatile long lastSyncAt;
 
-    private long lastDelay = 0;
+    private Timer successTimer;
+
+    private Timer errorTimer;
+
+    private Timer eventLagTimer;
 
     @Override
     public void afterPropertiesSet() throws Exception {
+        this.eventLogReader = new EventLogReader(gapTimeout);
+        this.initMetrics();
         logger.info("Starting gateway tags initialization ...");
         this.initShardingTags();
         this.initEnvironments();
@@ -104,39 +129,50 @@ public class SyncManager implements InitializingBean {
 
     public void refresh() {
         logger.debug("Refreshing sync state...");
-        long nextLastRefreshAt = System.currentTimeMillis();
 
+        final long start = System.nanoTime();
         try {
-            if (lastRefreshAt == -1) {
+            if (!initialized) {
                 logger.debug("Initial synchronization");
+                // the position is taken before loading the domains, the changes made meanwhile are read from the event log
+                eventLogReader.setPosition(eventRepository.findLastSequence().blockingGet());
                 deployDomains();
+                initialized = true;
             } else {
-                // search for events and compute them
-                logger.debug("Events synchronization");
-
-                List<Event> events = eventRepository.findByTimeFrame(lastRefreshAt - lastDelay, nextLastRefreshAt).toList().blockingGet();
-
-                if (events != null && !events.isEmpty()) {
-                    // Extract only the latest events by type and id
-                    Map<AbstractMap.SimpleEntry, Event> sortedEvents = events
-                            .stream()
-                            .collect(
-                                    toMap(
-                                            event -> new AbstractMap.SimpleEntry<>(event.getType(), event.getPayload().getId()),
-                                            event -> event, BinaryOperator.maxBy(comparing(Event::getCreatedAt)), LinkedHashMap::new));
-                    computeEvents(sortedEvents.values());
-                }
-
+                // read the events after the last position and compute them
+                logger.debug("Events synchronization from sequence {}", eventLogReader.getPosition());
+
+                long after = eventLogReader.getPosition();
+                List<Event> events;
+                do {
+                    events = eventRepository.findAfterSequence(after, batchSize).toList().blockingGet();
+
+                    // Extract only the latest events by type and id, skipping the entity versions already propagated
+                    final EventLogReader.Checkpoint checkpoint = eventLogReader.checkpoint();
+                    List<Event> changes = eventLogReader.read(events);
+                    try {
+                        if (!changes.isEmpty()) {
+                            computeEvents(changes);
+                        }
+                    } catch (RuntimeException ex) {
+                        // the events of this page are read again by the next refresh, the ones already applied only reload their entity
+                        eventLogReader.restore(checkpoint);
+                        throw ex;
+                    }
+                    after = EventLogReader.nextPage(events, after);
+                } while (events.size() == batchSize);
             }
-            lastRefreshAt = nextLastRefreshAt;
-            lastDelay = System.currentTimeMillis() - nextLastRefreshAt;
+            lastSyncAt = System.currentTimeMillis();
+            successTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         } catch (Exception ex) {
+            errorTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
             logger.error("An error has occurred during synchronization", ex);
         }
     }
 
     private void deployDomains() {
         logger.info("Starting security domains initialization ...");
+        final long start = System.currentTimeMillis();
         List<Domain> domains = domainRepository.findAll()
                 // remove disabled domains
                 .filter(Domain::isEnabled)
@@ -145,14 +181,24 @@ public class SyncManager implements InitializingBean {
                 .toList()
                 .blockingGet();
 
-        // deploy security domains
-        domains.stream().forEach(domain -> securityDomainManager.deploy(domain));
-        logger.info("Security domains initialization done");
+        // deploy security domains, several at once as each of them loads its own applications, identity providers, ...
+        final int parallelism = deploymentParallelism > 0 ? deploymentParallelism : Runtime.getRuntime().availableProcessors();
+        Flowable.fromIterable(domains)
+                .flatMapCompletable(domain -> Completable.fromAction(() -> securityDomainManager.deploy(domain))
+                        .subscribeOn(Schedulers.io())
+                        .doOnError(error -> logger.error("Unable to deploy security domain {}", domain.getId(), error))
+                        .onErrorComplete(), false, parallelism)
+                .blockingAwait();
+        logger.info("Security domains initialization done, {} domains deployed in {} ms", domains.size(), System.currentTimeMillis() - start);
     }
 
     private void computeEvents(Collection<Event> events) {
+        final long now = System.currentTimeMillis();
         events.forEach(event -> {
             logger.debug("Compute event id : {}, with type : {} and timestamp : {} and payload : {}", event.getId(), event.getType(), event.getCreatedAt(), event.getPayload());
+            if (event.getCreatedAt() != null) {
+                eventLagTimer.record(Math.max(0, now - event.getCreatedAt().getTime()), TimeUnit.MILLISECONDS);
+            }
             switch (event.getType()) {
                 case DOMAIN:
                     synchronizeDomain(event);
@@ -169,6 +215,12 @@ public class SyncManager implements InitializingBean {
         switch (action) {
             case CREATE:
             case UPDATE:
+                // no need to fetch the domain if the deployed one is already up to date
+                Domain deployedVersion = securityDomainManager.get(domainId);
+                if (deployedVersion != null && EventLogReader.isUpToDate(event.getPayload(), deployedVersion.getUpdatedAt())) {
+                    logger.debug("Security domain {} is already up to date", domainId);
+                    break;
+                }
                 Domain domain = domainRepository.findById(domainId).blockingGet();
                 if (domain != null) {
                     // Get deployed domain
@@ -235,6 +287,32 @@ public class SyncManager implements InitializingBean {
         return environmentIds.contains(domain.getReferenceId());
     }
 
+    private void initMetrics() {
+        final MeterRegistry registry = MetricsUtils.registry();
+        successTimer = refreshTimer(registry, MetricsUtils.RESULT_SUCCESS);
+        errorTimer = refreshTimer(registry, MetricsUtils.RESULT_ERROR);
+        eventLagTimer = Timer.builder("am_sync_event_lag")
+                .description("Time between the creation of an event and its propagation by the gateway")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry);
+        Gauge.builder("am_sync_lag", this, SyncManager::lag)
+                .description("Time elapsed since the last successful synchronization")
+                .baseUnit("milliseconds")
+                .register(registry);
+    }
+
+    private static Timer refreshTimer(MeterRegistry registry, String result) {
+        return Timer.builder("am_sync_refresh")
+                .description("Duration of a synchronization with the event log")
+                .tag(MetricsUtils.TAG_RESULT, result)
+                .register(registry);
+    }
+
+    private double lag() {
+        final long syncAt = lastSyncAt;
+        return syncAt == 0 ? 0 : System.currentTimeMillis() - syncAt;
+    }
+
     private void initShardingTags() {
         shardingTags = getSystemValues(SHARDING_TAGS_SYSTEM_PROPERTY);
     }
@@ -23,11 +23,14 @@ import io.gravitee.am.model.Organization;
 import io.gravitee.am.model.ReferenceType;
 import io.gravitee.am.model.common.event.Event;
 import io.gravitee.am.model.common.event.Payload;
+import io.gravitee.am.repository.exceptions.TechnicalException;
 import io.gravitee.am.repository.management.api.DomainRepository;
 import io.gravitee.am.repository.management.api.EnvironmentRepository;
 import io.gravitee.am.repository.management.api.EventRepository;
 import io.gravitee.am.repository.management.api.OrganizationRepository;
 import io.gravitee.common.event.EventManager;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.reactivex.Flowable;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
@@ -38,13 +41,20 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.core.env.Environment;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -84,6 +94,8 @@ public class SyncManagerTest {
 
     @Before
     public void before() throws Exception {
+        ReflectionTestUtils.setField(syncManager, "batchSize", 1000);
+        lenient().when(eventRepository.findLastSequence()).thenReturn(Single.just(0L));
         syncManager.afterPropertiesSet();
     }
 
@@ -132,6 +144,34 @@ public class SyncManagerTest {
         verify(securityDomainManager, never()).undeploy(any(String.class));
     }
 
+    @Test
+    public void init_test_domains_deployedInParallel() {
+        ReflectionTestUtils.setField(syncManager, "deploymentParallelism", 2);
+        final Domain domain = new Domain();
+        domain.setId("domain-1");
+        domain.setEnabled(true);
+        final Domain domain2 = new Domain();
+        domain2.setId("domain-2");
+        domain2.setEnabled(true);
+        when(domainRepository.findAll()).thenReturn(Flowable.just(domain, domain2));
+
+        // each deployment waits for the other one, it can only succeed if both are running at the same time
+        final CountDownLatch latch = new CountDownLatch(2);
+        final AtomicInteger concurrentDeployments = new AtomicInteger();
+        doAnswer(invocation -> {
+            latch.countDown();
+            if (latch.await(5, TimeUnit.SECONDS)) {
+                concurrentDeployments.incrementAndGet();
+            }
+            return null;
+        }).when(securityDomainManager).deploy(any(Domain.class));
+
+        syncManager.refresh();
+
+        assertEquals(2, concurrentDeployments.get());
+        verify(securityDomainManager, times(2)).deploy(any(Domain.class));
+    }
+
     @Test
     public void init_test_multiple_domains_oneDisabled() {
         final Domain domain = new Domain();
@@ -169,7 +209,7 @@ public class SyncManagerTest {
         event.setType(Type.DOMAIN);
         event.setPayload(new Payload("domain-1", ReferenceType.DOMAIN, "domain-1", Action.DELETE));
 
-        when(eventRepository.findByTimeFrame(any(Long.class), any(Long.class))).thenReturn(Flowable.just(event));
+        when(eventRepository.findAfterSequence(anyLong(), anyInt())).thenReturn(Flowable.just(event));
 
         syncManager.refresh();
 
@@ -199,7 +239,7 @@ public class SyncManagerTest {
         domainToUpdate.setEnabled(true);
         domainToUpdate.setUpdatedAt(new Date());
 
-        when(eventRepository.findByTimeFrame(any(Long.class), any(Long.class))).thenReturn(Flowable.just(event));
+        when(eventRepository.findAfterSequence(anyLong(), anyInt())).thenReturn(Flowable.just(event));
         when(domainRepository.findById(domainToUpdate.getId())).thenReturn(Maybe.just(domainToUpdate));
         when(securityDomainManager.get(domainToUpdate.getId())).thenReturn(domain);
 
@@ -210,6 +250,187 @@ public class SyncManagerTest {
         verify(securityDomainManager, never()).undeploy(domain.getId());
     }
 
+    @Test
+    public void test_twiceWithTwoDomains_domainUpToDate() throws Exception {
+        final Domain domain = new Domain();
+        domain.setId("domain-1");
+        domain.setReferenceId("env-1");
+        domain.setEnabled(true);
+        domain.setUpdatedAt(new Date());
+        when(domainRepository.findAll()).thenReturn(Flowable.just(domain));
+
+        syncManager.refresh();
+
+        Event event = new Event();
+        event.setType(Type.DOMAIN);
+        event.setPayload(new Payload("domain-1", ReferenceType.DOMAIN, "domain-1", Action.UPDATE, domain.getUpdatedAt()));
+
+        when(eventRepository.findAfterSequence(anyLong(), anyInt())).thenReturn(Flowable.just(event));
+        when(securityDomainManager.get(domain.getId())).thenReturn(domain);
+
+        syncManager.refresh();
+
+        verify(domainRepository, never()).findById(any());
+        verify(securityDomainManager, times(1)).deploy(any());
+        verify(securityDomainManager, never()).update(any());
+        verify(securityDomainManager, never()).undeploy(domain.getId());
+    }
+
+    @Test
+    public void shouldPropagateEvents_latestVersionOnly() {
+        when(domainRepository.findAll()).thenReturn(Flowable.empty());
+        syncManager.refresh();
+
+        Event event = new Event();
+        event.setId("event-1");
+        event.setSequence(1L);
+        event.setType(Type.IDENTITY_PROVIDER);
+        event.setCreatedAt(new Date(1000L));
+        event.setPayload(new Payload("idp-1", ReferenceType.DOMAIN, "domain-1", Action.UPDATE, new Date(1000L)));
+        Event event2 = new Event();
+        event2.setId("event-2");
+        event2.setSequence(2L);
+        event2.setType(Type.IDENTITY_PROVIDER);
+        event2.setCreatedAt(new Date(2000L));
+        event2.setPayload(new Payload("idp-1", ReferenceType.DOMAIN, "domain-1", Action.UPDATE, new Date(2000L)));
+
+        when(eventRepository.findAfterSequence(anyLong(), anyInt())).thenReturn(Flowable.just(event, event2));
+
+        // second refresh reads the same events again
+        syncManager.refresh();
+        syncManager.refresh();
+
+        verify(eventManager, times(1)).publishEvent(any(), eq(event2.getPayload()));
+        verify(eventManager, never()).publishEvent(any(), eq(event.getPayload()));
+    }
+
+    @Test
+    public void shouldResumeFromLastSequence() {
+        ReflectionTestUtils.setField(syncManager, "batchSize", 2);
+        when(eventRepository.findLastSequence()).thenReturn(Single.just(42L));
+        when(domainRepository.findAll()).thenReturn(Flowable.empty());
+        syncManager.refresh();
+
+        final Date past = new Date(System.currentTimeMillis() - 60 * 1000);
+        Event event = new Event();
+        event.setId("event-1");
+        event.setSequence(43L);
+        event.setType(Type.IDENTITY_PROVIDER);
+        event.setCreatedAt(past);
+        event.setPayload(new Payload("idp-1", ReferenceType.DOMAIN, "domain-1", Action.UPDATE));
+        Event event2 = new Event();
+        event2.setId("event-2");
+        event2.setSequence(44L);
+        event2.setType(Type.CERTIFICATE);
+        event2.setCreatedAt(past);
+        event2.setPayload(new Payload("cert-1", ReferenceType.DOMAIN, "domain-1", Action.UPDATE));
+
+        // the first page is full, the next one is read by the same refresh
+        when(eventRepository.findAfterSequence(42L, 2)).thenReturn(Flowable.just(event, event2));
+        when(eventRepository.findAfterSequence(44L, 2)).thenReturn(Flowable.empty());
+
+        syncManager.refresh();
+        syncManager.refresh();
+
+        verify(eventRepository, times(1)).findAfterSequence(42L, 2);
+        verify(eventRepository, times(2)).findAfterSequence(44L, 2);
+        verify(eventManager, times(1)).publishEvent(any(), eq(event.getPayload()));
+        verify(eventManager, times(1)).publishEvent(any(), eq(event2.getPayload()));
+    }
+
+    @Test
+    public void shouldReadMissingEventAgain() throws Exception {
+        ReflectionTestUtils.setField(syncManager, "gapTimeout", 60000L);
+        syncManager.afterPropertiesSet();
+        when(eventRepository.findLastSequence()).thenReturn(Single.just(42L));
+        when(domainRepository.findAll()).thenReturn(Flowable.empty());
+        syncManager.refresh();
+
+        Event event = new Event();
+        event.setId("event-1");
+        event.setSequence(43L);
+        event.setType(Type.IDENTITY_PROVIDER);
+        event.setPayload(new Payload("idp-1", ReferenceType.DOMAIN, "domain-1", Action.UPDATE));
+        Event event2 = new Event();
+        event2.setId("event-2");
+        event2.setSequence(44L);
+        event2.setType(Type.CERTIFICATE);
+        event2.setPayload(new Payload("cert-1", ReferenceType.DOMAIN, "domain-1", Action.UPDATE));
+
+        // event-1 is not visible yet when event-2 is read
+        when(eventRepository.findAfterSequence(42L, 1000)).thenReturn(Flowable.just(event2), Flowable.just(event, event2));
+        when(eventRepository.findAfterSequence(44L, 1000)).thenReturn(Flowable.empty());
+
+        syncManager.refresh();
+        syncManager.refresh();
+        syncManager.refresh();
+
+        verify(eventRepository, times(2)).findAfterSequence(42L, 1000);
+        verify(eventRepository, times(1)).findAfterSequence(44L, 1000);
+        verify(eventManager, times(1)).publishEvent(any(), eq(event.getPayload()));
+        verify(eventManager, times(1)).publishEvent(any(), eq(event2.getPayload()));
+    }
+
+    @Test
+    public void shouldReadEventsAgain_afterSynchronizationFailure() {
+        when(eventRepository.findLastSequence()).thenReturn(Single.just(42L));
+        when(domainRepository.findAll()).thenReturn(Flowable.empty());
+        syncManager.refresh();
+
+        Event event = new Event();
+        event.setId("event-1");
+        event.setSequence(43L);
+        event.setType(Type.DOMAIN);
+        event.setPayload(new Payload("domain-1", ReferenceType.DOMAIN, "domain-1", Action.UPDATE));
+
+        final Domain domain = new Domain();
+        domain.setId("domain-1");
+        domain.setReferenceId("env-1");
+        domain.setEnabled(true);
+
+        when(eventRepository.findAfterSequence(42L, 1000)).thenReturn(Flowable.just(event));
+        when(eventRepository.findAfterSequence(43L, 1000)).thenReturn(Flowable.empty());
+        when(domainRepository.findById("domain-1"))
+                .thenReturn(Maybe.error(new TechnicalException("error")))
+                .thenReturn(Maybe.just(domain));
+
+        syncManager.refresh();
+        verify(securityDomainManager, never()).deploy(any());
+
+        // the position has not moved, the event is read again by the next refresh
+        syncManager.refresh();
+        syncManager.refresh();
+
+        verify(eventRepository, times(2)).findAfterSequence(42L, 1000);
+        verify(eventRepository, times(1)).findAfterSequence(43L, 1000);
+        verify(securityDomainManager, times(1)).deploy(domain);
+    }
+
+    @Test
+    public void shouldRecordSyncMetrics() {
+        final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Metrics.globalRegistry.add(registry);
+        try {
+            when(domainRepository.findAll()).thenReturn(Flowable.empty());
+            syncManager.refresh();
+
+            Event event = new Event();
+            event.setId("event-1");
+            event.setSequence(1L);
+            event.setType(Type.IDENTITY_PROVIDER);
+            event.setCreatedAt(new Date(System.currentTimeMillis() - 60 * 1000));
+            event.setPayload(new Payload("idp-1", ReferenceType.DOMAIN, "domain-1", Action.UPDATE));
+            when(eventRepository.findAfterSequence(0L, 1000)).thenReturn(Flowable.just(event));
+            syncManager.refresh();
+
+            assertEquals(2, registry.get("am_sync_refresh").tag("result", "success").timer().count());
+            assertEquals(1, registry.get("am_sync_event_lag").timer().count());
+            assertTrue(registry.get("am_sync_event_lag").timer().max(TimeUnit.SECONDS) >= 60);
+        } finally {
+            Metrics.globalRegistry.remove(registry);
+        }
+    }
+
     @Test
     public void shouldPropagateEvents() {
         when(domainRepository.findAll()).thenReturn(Flowable.empty());
@@ -219,7 +440,7 @@ public class SyncManagerTest {
         event.setType(Type.IDENTITY_PROVIDER);
         event.setPayload(new Payload("idp-1", ReferenceType.DOMAIN, "domain-1", Action.UPDATE));
 
-        when(eventRepository.findByTimeFrame(any(Long.class), any(Long.class))).thenReturn(Flowable.just(event));
+        when(eventRepository.findAfterSequence(anyLong(), anyInt())).thenReturn(Flowable.just(event));
 
         syncManager.refresh();
 
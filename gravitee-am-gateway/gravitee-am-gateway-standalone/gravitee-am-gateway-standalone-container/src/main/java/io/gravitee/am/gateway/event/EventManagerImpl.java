@@ -31,7 +31,7 @@ import org.slf4j.LoggerFactory;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Override default event manager to enable concurrent access
@@ -100,11 +100,8 @@ public class EventManagerImpl implements EventManager {
     public <T extends Enum> void unsubscribeForCrossEvents(EventListener<T, ?> eventListener, Class<T> events, String domain) {
         List<EventListenerWrapper> listeners = this.listenersMap.get(new ComparableEventType(events, domain));
         if (listeners != null) {
-            List<EventListenerWrapper> filteredList = listeners
-                    .stream()
-                    .filter(listenerWrapper -> !eventListener.equals(listenerWrapper.eventListener()))
-                    .collect(Collectors.toList());
-            this.listenersMap.put(new ComparableEventType(events, domain), filteredList);
+            // the list is updated in place (atomically), the listeners registered meanwhile for the same event type are kept
+            listeners.removeIf(listenerWrapper -> eventListener.equals(listenerWrapper.eventListener()));
         }
     }
 
@@ -125,8 +122,8 @@ public class EventManagerImpl implements EventManager {
         }
 
         if (listeners == null) {
-            listeners = new ArrayList<>();
-            this.listenersMap.put(new ComparableEventType(eventType, domain), listeners);
+            // security domains are deployed concurrently, their listeners may register for the same event type at once
+            listeners = this.listenersMap.computeIfAbsent(new ComparableEventType(eventType, domain), key -> new CopyOnWriteArrayList<>());
         }
 
         return listeners;
@@ -15,6 +15,9 @@
  */
 package io.gravitee.am.gateway.node;
 
+import io.gravitee.am.gateway.handler.common.alert.AlertEventDispatcher;
+import io.gravitee.am.gateway.handler.common.audit.AuditReporterLauncher;
+import io.gravitee.am.gateway.handler.common.jwt.JWTSignerPool;
 import io.gravitee.am.gateway.reactor.Reactor;
 import io.gravitee.am.gateway.vertx.VertxEmbeddedContainer;
 import io.gravitee.common.component.LifecycleComponent;
@@ -46,6 +49,9 @@ public class GatewayNode extends AbstractNode {
     public List<Class<? extends LifecycleComponent>> components() {
         List<Class<? extends LifecycleComponent>> components = super.components();
 
+        components.add(JWTSignerPool.class);
+        components.add(AlertEventDispatcher.class);
+        components.add(AuditReporterLauncher.class);
         components.add(Reactor.class);
         components.add(VertxEmbeddedContainer.class);
         components.add(AlertEventProducerManager.class);
@@ -16,12 +16,14 @@
 package io.gravitee.am.identityprovider.jdbc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.gravitee.am.common.pool.SharedPoolRegistry;
 import io.gravitee.am.identityprovider.jdbc.configuration.JdbcIdentityProviderConfiguration;
 import io.gravitee.am.identityprovider.jdbc.utils.ObjectUtils;
 import io.gravitee.am.service.authentication.crypto.password.PasswordEncoder;
 import io.gravitee.common.component.LifecycleComponent;
 import io.gravitee.common.service.AbstractService;
 import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.PoolMetrics;
 import io.r2dbc.pool.PoolingConnectionFactoryProvider;
 import io.r2dbc.spi.ConnectionFactories;
 import io.r2dbc.spi.ConnectionFactoryOptions;
@@ -54,6 +56,8 @@ public class JdbcAbstractProvider<T extends LifecycleComponent> extends Abstract
 
     protected ConnectionPool connectionPool;
 
+    private SharedPoolRegistry.Lease<ConnectionPool> connectionPoolLease;
+
     protected final ObjectMapper objectMapper = new ObjectMapper();
 
     public void setConnectionPool(ConnectionPool connectionPool) {
@@ -102,7 +106,19 @@ public class JdbcAbstractProvider<T extends LifecycleComponent> extends Abstract
             });
         }
 
-        connectionPool = (ConnectionPool) ConnectionFactories.get(builder.build());
+        // pools are shared between the identity providers of all the domains targeting the same database
+        final ConnectionFactoryOptions connectionFactoryOptions = builder.build();
+        connectionPoolLease = SharedPoolRegistry.getInstance().acquire("idp-jdbc", connectionFactoryOptions,
+                maxSize(connectionFactoryOptions),
+                () -> (ConnectionPool) ConnectionFactories.get(connectionFactoryOptions),
+                pool -> {
+                    if (!pool.isDisposed()) {
+                        pool.disposeLater().subscribe();
+                        LOGGER.info("Connection pool disposed for database server {} on host {}", configuration.getProtocol(), configuration.getHost());
+                    }
+                },
+                pool -> pool.getMetrics().map(PoolMetrics::acquiredSize).orElse(-1));
+        connectionPool = connectionPoolLease.get();
         LOGGER.info("Connection pool created for database server {} on host {}", configuration.getProtocol(), configuration.getHost());
     }
 
@@ -111,7 +127,10 @@ public class JdbcAbstractProvider<T extends LifecycleComponent> extends Abstract
         super.doStop();
         try {
             LOGGER.info("Disposing connection pool for database server {} on host {}", configuration.getProtocol(), configuration.getHost());
-            if (!connectionPool.isDisposed()) {
+            if (connectionPoolLease != null) {
+                // the pool is only disposed once no identity provider uses it anymore
+                connectionPoolLease.release();
+            } else if (!connectionPool.isDisposed()) {
                 connectionPool.disposeLater().subscribe();
                 LOGGER.info("Connection pool disposed for database server {} on host {}", configuration.getProtocol(), configuration.getHost());
             }
@@ -120,6 +139,15 @@ public class JdbcAbstractProvider<T extends LifecycleComponent> extends Abstract
         }
     }
 
+    private static int maxSize(ConnectionFactoryOptions options) {
+        Object maxSize = options.getValue(PoolingConnectionFactoryProvider.MAX_SIZE);
+        try {
+            return Integer.parseInt(String.valueOf(maxSize));
+        } catch (NumberFormatException e) {
+            return 10;
+        }
+    }
+
     protected void computeMetadata(Map<String, Object> claims) {
         Object metadata = claims.get(configuration.getMetadataAttribute());
         if (metadata == null) {
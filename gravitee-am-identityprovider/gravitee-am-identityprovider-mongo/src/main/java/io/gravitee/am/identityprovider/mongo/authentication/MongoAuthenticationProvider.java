@@ -19,6 +19,7 @@ import com.mongodb.reactivestreams.client.MongoClient;
 import com.mongodb.reactivestreams.client.MongoCollection;
 import io.gravitee.am.common.exception.authentication.BadCredentialsException;
 import io.gravitee.am.common.oidc.StandardClaims;
+import io.gravitee.am.common.pool.SharedPoolRegistry;
 import io.gravitee.am.identityprovider.api.*;
 import io.gravitee.am.identityprovider.mongo.MongoIdentityProviderConfiguration;
 import io.gravitee.am.identityprovider.mongo.authentication.spring.MongoAuthenticationProviderConfiguration;
@@ -68,6 +69,16 @@ public class MongoAuthenticationProvider implements AuthenticationProvider {
     @Autowired
     private MongoClient mongoClient;
 
+    @Autowired
+    private SharedPoolRegistry.Lease<MongoClient> mongoClientLease;
+
+    @Override
+    public AuthenticationProvider stop() throws Exception {
+        // the client is only closed once no identity provider uses it anymore
+        mongoClientLease.release();
+        return this;
+    }
+
     public Maybe<User> loadUserByUsername(Authentication authentication) {
         String username = ((String) authentication.getPrincipal()).toLowerCase();
         return findUserByMultipleField(username)
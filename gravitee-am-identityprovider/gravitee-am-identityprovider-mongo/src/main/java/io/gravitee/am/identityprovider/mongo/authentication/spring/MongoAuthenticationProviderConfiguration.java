@@ -15,12 +15,17 @@
  */
 package io.gravitee.am.identityprovider.mongo.authentication.spring;
 
+import com.mongodb.ConnectionString;
 import com.mongodb.MongoClientSettings;
 import com.mongodb.MongoCredential;
 import com.mongodb.ServerAddress;
 import com.mongodb.connection.ClusterSettings;
+import com.mongodb.event.ConnectionCheckedInEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionPoolListener;
 import com.mongodb.reactivestreams.client.MongoClient;
 import com.mongodb.reactivestreams.client.MongoClients;
+import io.gravitee.am.common.pool.SharedPoolRegistry;
 import io.gravitee.am.identityprovider.api.encoding.Base64Encoder;
 import io.gravitee.am.identityprovider.api.encoding.BinaryToTextEncoder;
 import io.gravitee.am.identityprovider.api.encoding.HexEncoder;
@@ -32,6 +37,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static io.gravitee.am.identityprovider.mongo.utils.PasswordEncoder.*;
 import static java.util.Arrays.asList;
 
@@ -46,14 +54,16 @@ public class MongoAuthenticationProviderConfiguration {
     private MongoIdentityProviderConfiguration configuration;
 
     @Bean
-    public MongoClient mongoClient() {
-        MongoClient mongoClient;
+    public SharedPoolRegistry.Lease<MongoClient> mongoClientLease() {
+        final ConnectionCounter connectionCounter = new ConnectionCounter();
+        final MongoClientSettings.Builder settings = MongoClientSettings.builder()
+                .applyToConnectionPoolSettings(poolBuilder -> poolBuilder.addConnectionPoolListener(connectionCounter));
         if ((this.configuration.getUri() != null) && (!this.configuration.getUri().isEmpty())) {
-            mongoClient = MongoClients.create(this.configuration.getUri());
+            settings.applyConnectionString(new ConnectionString(this.configuration.getUri()));
         } else {
             ServerAddress serverAddress = new ServerAddress(this.configuration.getHost(), this.configuration.getPort());
             ClusterSettings clusterSettings = ClusterSettings.builder().hosts(asList(serverAddress)).build();
-            MongoClientSettings.Builder settings = MongoClientSettings.builder().applyToClusterSettings(clusterBuilder -> clusterBuilder.applySettings(clusterSettings));
+            settings.applyToClusterSettings(clusterBuilder -> clusterBuilder.applySettings(clusterSettings));
             if (this.configuration.isEnableCredentials()) {
                 MongoCredential credential = MongoCredential.createCredential(this.configuration
                         .getUsernameCredentials(), this.configuration
@@ -61,9 +71,23 @@ public class MongoAuthenticationProviderConfiguration {
                         .getPasswordCredentials().toCharArray());
                 settings.credential(credential);
             }
-            mongoClient = MongoClients.create(settings.build());
         }
-        return mongoClient;
+
+        // clients are shared between the identity providers of all the domains targeting the same server
+        final MongoClientSettings clientSettings = settings.build();
+        final List<Object> sharingKey = asList(configuration.getUri(), configuration.getHost(), configuration.getPort(),
+                configuration.isEnableCredentials(), configuration.getUsernameCredentials(),
+                configuration.getDatabaseCredentials(), configuration.getPasswordCredentials());
+
+        return SharedPoolRegistry.getInstance().acquire("idp-mongodb", sharingKey,
+                clientSettings.getConnectionPoolSettings().getMaxSize(),
+                () -> MongoClients.create(clientSettings), MongoClient::close, client -> connectionCounter.get());
+    }
+
+    @Bean(destroyMethod = "")
+    public MongoClient mongoClient(SharedPoolRegistry.Lease<MongoClient> mongoClientLease) {
+        // the client is closed by the pool registry once no identity provider uses it anymore
+        return mongoClientLease.get();
     }
 
     @Bean
@@ -105,4 +129,20 @@ public class MongoAuthenticationProviderConfiguration {
 
         return new HexEncoder();
     }
+
+    /**
+     * Count the connections checked out of the client pool.
+     */
+    private static class ConnectionCounter extends AtomicInteger implements ConnectionPoolListener {
+
+        @Override
+        public void connectionCheckedOut(ConnectionCheckedOutEvent event) {
+            incrementAndGet();
+        }
+
+        @Override
+        public void connectionCheckedIn(ConnectionCheckedInEvent event) {
+            decrementAndGet();
+        }
+    }
 }
@@ -18,6 +18,7 @@ package io.gravitee.am.identityprovider.mongo.user;
 import com.mongodb.reactivestreams.client.MongoClient;
 import com.mongodb.reactivestreams.client.MongoCollection;
 import io.gravitee.am.common.oidc.StandardClaims;
+import io.gravitee.am.common.pool.SharedPoolRegistry;
 import io.gravitee.am.common.utils.RandomString;
 import io.gravitee.am.identityprovider.api.DefaultUser;
 import io.gravitee.am.identityprovider.api.User;
@@ -65,6 +66,9 @@ public class MongoUserProvider implements UserProvider, InitializingBean {
     @Autowired
     private MongoClient mongoClient;
 
+    @Autowired
+    private SharedPoolRegistry.Lease<MongoClient> mongoClientLease;
+
     @Autowired
     private MongoIdentityProviderConfiguration configuration;
 
@@ -165,6 +169,13 @@ public class MongoUserProvider implements UserProvider, InitializingBean {
                 .flatMapCompletable(idpUser -> Completable.fromPublisher(usersCollection.deleteOne(eq(FIELD_ID, id))));
     }
 
+    @Override
+    public UserProvider stop() throws Exception {
+        // the client is only closed once no identity provider uses it anymore
+        mongoClientLease.release();
+        return this;
+    }
+
     @Override
     public void afterPropertiesSet() {
         // init users collection
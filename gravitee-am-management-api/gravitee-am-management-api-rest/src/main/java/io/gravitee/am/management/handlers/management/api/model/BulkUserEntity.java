@@ -0,0 +1,504 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.management.handlers.management.api.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.gravitee.am.model.User;
+import io.gravitee.am.model.scim.Address;
+import io.gravitee.am.model.scim.Attribute;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * User exchanged by the bulk export and import of a security domain.
+ *
+ * Only the listed fields are exported and accepted by the import, the secrets of the user (enrolled factors,
+ * registration token, certificates) are left out. The password is only read by the import, it is checked
+ * against the password policy and stored by the identity provider.
+ *
+ * @author GraviteeSource Team
+ */
+public class BulkUserEntity {
+
+    private String id;
+
+    private String externalId;
+
+    private String username;
+
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
+    private String password;
+
+    private String email;
+
+    private String displayName;
+
+    private String nickName;
+
+    private String firstName;
+
+    private String lastName;
+
+    private String title;
+
+    private String type;
+
+    private String preferredLanguage;
+
+    private String picture;
+
+    private List<Attribute> emails;
+
+    private List<Attribute> phoneNumbers;
+
+    private List<Attribute> ims;
+
+    private List<Attribute> photos;
+
+    private List<String> entitlements;
+
+    private List<Address> addresses;
+
+    private List<String> roles;
+
+    private boolean accountNonExpired = true;
+
+    private boolean accountNonLocked = true;
+
+    private Date accountLockedAt;
+
+    private Date accountLockedUntil;
+
+    private boolean credentialsNonExpired = true;
+
+    private boolean enabled = true;
+
+    private boolean internal;
+
+    private boolean preRegistration;
+
+    private boolean registrationCompleted;
+
+    private Boolean newsletter;
+
+    private String source;
+
+    private String client;
+
+    private Long loginsCount;
+
+    private Map<String, Object> additionalInformation;
+
+    private Date loggedAt;
+
+    private Date lastPasswordReset;
+
+    private Date createdAt;
+
+    private Date updatedAt;
+
+    public BulkUserEntity() {
+    }
+
+    public BulkUserEntity(User user) {
+        this.id = user.getId();
+        this.externalId = user.getExternalId();
+        this.username = user.getUsername();
+        this.email = user.getEmail();
+        this.displayName = user.getDisplayName();
+        this.nickName = user.getNickName();
+        this.firstName = user.getFirstName();
+        this.lastName = user.getLastName();
+        this.title = user.getTitle();
+        this.type = user.getType();
+        this.preferredLanguage = user.getPreferredLanguage();
+        this.picture = user.getPicture();
+        this.emails = user.getEmails();
+        this.phoneNumbers = user.getPhoneNumbers();
+        this.ims = user.getIms();
+        this.photos = user.getPhotos();
+        this.entitlements = user.getEntitlements();
+        this.addresses = user.getAddresses();
+        this.roles = user.getRoles();
+        this.accountNonExpired = !Boolean.FALSE.equals(user.isAccountNonExpired());
+        this.accountNonLocked = !Boolean.FALSE.equals(user.isAccountNonLocked());
+        this.accountLockedAt = user.getAccountLockedAt();
+        this.accountLockedUntil = user.getAccountLockedUntil();
+        this.credentialsNonExpired = !Boolean.FALSE.equals(user.isCredentialsNonExpired());
+        this.enabled = !Boolean.FALSE.equals(user.isEnabled());
+        this.internal = Boolean.TRUE.equals(user.isInternal());
+        this.preRegistration = Boolean.TRUE.equals(user.isPreRegistration());
+        this.registrationCompleted = Boolean.TRUE.equals(user.isRegistrationCompleted());
+        this.newsletter = user.isNewsletter();
+        this.source = user.getSource();
+        this.client = user.getClient();
+        this.loginsCount = user.getLoginsCount();
+        this.additionalInformation = user.getAdditionalInformation();
+        this.loggedAt = user.getLoggedAt();
+        this.lastPasswordReset = user.getLastPasswordReset();
+        this.createdAt = user.getCreatedAt();
+        this.updatedAt = user.getUpdatedAt();
+    }
+
+    public User toUser() {
+        User user = new User();
+        user.setId(id);
+        user.setExternalId(externalId);
+        user.setUsername(username);
+        user.setPassword(password);
+        user.setEmail(email);
+        user.setDisplayName(displayName);
+        user.setNickName(nickName);
+        user.setFirstName(firstName);
+        user.setLastName(lastName);
+        user.setTitle(title);
+        user.setType(type);
+        user.setPreferredLanguage(preferredLanguage);
+        user.setPicture(picture);
+        user.setEmails(emails);
+        user.setPhoneNumbers(phoneNumbers);
+        user.setIms(ims);
+        user.setPhotos(photos);
+        user.setEntitlements(entitlements);
+        user.setAddresses(addresses);
+        user.setRoles(roles);
+        user.setAccountNonExpired(accountNonExpired);
+        user.setAccountNonLocked(accountNonLocked);
+        user.setAccountLockedAt(accountLockedAt);
+        user.setAccountLockedUntil(accountLockedUntil);
+        user.setCredentialsNonExpired(credentialsNonExpired);
+        user.setEnabled(enabled);
+        user.setInternal(internal);
+        user.setPreRegistration(preRegistration);
+        user.setRegistrationCompleted(registrationCompleted);
+        user.setNewsletter(newsletter);
+        user.setSource(source);
+        user.setClient(client);
+        user.setLoginsCount(loginsCount == null ? 0L : loginsCount);
+        user.setAdditionalInformation(additionalInformation);
+        user.setLoggedAt(loggedAt);
+        user.setLastPasswordReset(lastPasswordReset);
+        user.setCreatedAt(createdAt);
+        user.setUpdatedAt(updatedAt);
+        return user;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getExternalId() {
+        return externalId;
+    }
+
+    public void setExternalId(String externalId) {
+        this.externalId = externalId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public void setDisplayName(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getNickName() {
+        return nickName;
+    }
+
+    public void setNickName(String nickName) {
+        this.nickName = nickName;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getPreferredLanguage() {
+        return preferredLanguage;
+    }
+
+    public void setPreferredLanguage(String preferredLanguage) {
+        this.preferredLanguage = preferredLanguage;
+    }
+
+    public String getPicture() {
+        return picture;
+    }
+
+    public void setPicture(String picture) {
+        this.picture = picture;
+    }
+
+    public List<Attribute> getEmails() {
+        return emails;
+    }
+
+    public void setEmails(List<Attribute> emails) {
+        this.emails = emails;
+    }
+
+    public List<Attribute> getPhoneNumbers() {
+        return phoneNumbers;
+    }
+
+    public void setPhoneNumbers(List<Attribute> phoneNumbers) {
+        this.phoneNumbers = phoneNumbers;
+    }
+
+    public List<Attribute> getIms() {
+        return ims;
+    }
+
+    public void setIms(List<Attribute> ims) {
+        this.ims = ims;
+    }
+
+    public List<Attribute> getPhotos() {
+        return photos;
+    }
+
+    public void setPhotos(List<Attribute> photos) {
+        this.photos = photos;
+    }
+
+    public List<String> getEntitlements() {
+        return entitlements;
+    }
+
+    public void setEntitlements(List<String> entitlements) {
+        this.entitlements = entitlements;
+    }
+
+    public List<Address> getAddresses() {
+        return addresses;
+    }
+
+    public void setAddresses(List<Address> addresses) {
+        this.addresses = addresses;
+    }
+
+    public List<String> getRoles() {
+        return roles;
+    }
+
+    public void setRoles(List<String> roles) {
+        this.roles = roles;
+    }
+
+    public boolean isAccountNonExpired() {
+        return accountNonExpired;
+    }
+
+    public void setAccountNonExpired(boolean accountNonExpired) {
+        this.accountNonExpired = accountNonExpired;
+    }
+
+    public boolean isAccountNonLocked() {
+        return accountNonLocked;
+    }
+
+    public void setAccountNonLocked(boolean accountNonLocked) {
+        this.accountNonLocked = accountNonLocked;
+    }
+
+    public Date getAccountLockedAt() {
+        return accountLockedAt;
+    }
+
+    public void setAccountLockedAt(Date accountLockedAt) {
+        this.accountLockedAt = accountLockedAt;
+    }
+
+    public Date getAccountLockedUntil() {
+        return accountLockedUntil;
+    }
+
+    public void setAccountLockedUntil(Date accountLockedUntil) {
+        this.accountLockedUntil = accountLockedUntil;
+    }
+
+    public boolean isCredentialsNonExpired() {
+        return credentialsNonExpired;
+    }
+
+    public void setCredentialsNonExpired(boolean credentialsNonExpired) {
+        this.credentialsNonExpired = credentialsNonExpired;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isInternal() {
+        return internal;
+    }
+
+    public void setInternal(boolean internal) {
+        this.internal = internal;
+    }
+
+    public boolean isPreRegistration() {
+        return preRegistration;
+    }
+
+    public void setPreRegistration(boolean preRegistration) {
+        this.preRegistration = preRegistration;
+    }
+
+    public boolean isRegistrationCompleted() {
+        return registrationCompleted;
+    }
+
+    public void setRegistrationCompleted(boolean registrationCompleted) {
+        this.registrationCompleted = registrationCompleted;
+    }
+
+    public Boolean getNewsletter() {
+        return newsletter;
+    }
+
+    public void setNewsletter(Boolean newsletter) {
+        this.newsletter = newsletter;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public void setSource(String source) {
+        this.source = source;
+    }
+
+    public String getClient() {
+        return client;
+    }
+
+    public void setClient(String client) {
+        this.client = client;
+    }
+
+    public Long getLoginsCount() {
+        return loginsCount;
+    }
+
+    public void setLoginsCount(Long loginsCount) {
+        this.loginsCount = loginsCount;
+    }
+
+    public Map<String, Object> getAdditionalInformation() {
+        return additionalInformation;
+    }
+
+    public void setAdditionalInformation(Map<String, Object> additionalInformation) {
+        this.additionalInformation = additionalInformation;
+    }
+
+    public Date getLoggedAt() {
+        return loggedAt;
+    }
+
+    public void setLoggedAt(Date loggedAt) {
+        this.loggedAt = loggedAt;
+    }
+
+    public Date getLastPasswordReset() {
+        return lastPasswordReset;
+    }
+
+    public void setLastPasswordReset(Date lastPasswordReset) {
+        this.lastPasswordReset = lastPasswordReset;
+    }
+
+    public Date getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Date createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Date getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Date updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -15,6 +15,11 @@
  */
 package io.gravitee.am.management.handlers.management.api.resources.organizations.environments.domains;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import io.gravitee.am.management.handlers.management.api.model.BulkUserEntity;
 import io.gravitee.am.management.handlers.management.api.resources.AbstractUsersResource;
 import io.gravitee.am.model.Acl;
 import io.gravitee.am.model.ReferenceType;
@@ -23,12 +28,16 @@ import io.gravitee.am.model.common.Page;
 import io.gravitee.am.model.permissions.Permission;
 import io.gravitee.am.service.DomainService;
 import io.gravitee.am.service.IdentityProviderService;
+import io.gravitee.am.service.exception.AbstractManagementException;
 import io.gravitee.am.service.exception.DomainNotFoundException;
+import io.gravitee.am.service.exception.InvalidUserException;
 import io.gravitee.am.service.model.NewUser;
 import io.gravitee.common.http.MediaType;
+import io.reactivex.Flowable;
 import io.reactivex.Maybe;
 import io.reactivex.Observable;
 import io.reactivex.Single;
+import io.reactivex.schedulers.Schedulers;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
@@ -51,8 +60,19 @@ import javax.ws.rs.container.ResourceContext;
 import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import javax.ws.rs.ext.Providers;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
@@ -61,9 +81,15 @@ import java.util.Comparator;
 @Api(tags = {"user"})
 public class UsersResource extends AbstractUsersResource {
 
+    private static final String APPLICATION_NDJSON = "application/x-ndjson";
+    private static final int MAX_USERS_BULK_SIZE = 1000;
+
     @Context
     private ResourceContext resourceContext;
 
+    @Context
+    private Providers providers;
+
     @Autowired
     private DomainService domainService;
 
@@ -137,6 +163,100 @@ public class UsersResource extends AbstractUsersResource {
                 .subscribe(response::resume, response::resume);
     }
 
+    @GET
+    @Path("_export")
+    @Produces(APPLICATION_NDJSON)
+    @ApiOperation(value = "Export the users of a security domain",
+            notes = "User must have the DOMAIN_USER[READ] permission on the specified domain " +
+                    "or DOMAIN_USER[READ] permission on the specified environment " +
+                    "or DOMAIN_USER[READ] permission on the specified organization. " +
+                    "Users are streamed as newline delimited JSON, ordered by id. " +
+                    "Passwords, enrolled factors and registration tokens are not exported. " +
+                    "An interrupted export is resumed by giving the id of the last received user as the 'after' parameter.")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "Users of the security domain, one JSON document per line"),
+            @ApiResponse(code = 500, message = "Internal server error")})
+    public void exportUsers(
+            @PathParam("organizationId") String organizationId,
+            @PathParam("environmentId") String environmentId,
+            @PathParam("domain") String domain,
+            @QueryParam("after") String after,
+            @QueryParam("batchSize") @DefaultValue("1000") int batchSize,
+            @Suspended final AsyncResponse response) {
+
+        final ObjectMapper objectMapper = objectMapper();
+
+        checkAnyPermission(organizationId, environmentId, domain, Permission.DOMAIN_USER, Acl.READ)
+                .andThen(domainService.findById(domain)
+                        .switchIfEmpty(Maybe.error(new DomainNotFoundException(domain))))
+                // the users are written by a blocking stream, keep it away from the event loops
+                .observeOn(Schedulers.io())
+                .map(__ -> Response.ok((StreamingOutput) output -> {
+                    Flowable<User> users = userService.streamAll(ReferenceType.DOMAIN, domain, after, Integer.min(batchSize, MAX_USERS_BULK_SIZE));
+                    for (User user : users.blockingIterable()) {
+                        writeLine(output, objectMapper, new BulkUserEntity(user));
+                    }
+                }).type(APPLICATION_NDJSON).build())
+                .subscribe(response::resume, response::resume);
+    }
+
+    @POST
+    @Path("_import")
+    @Consumes(APPLICATION_NDJSON)
+    @Produces(APPLICATION_NDJSON)
+    @ApiOperation(value = "Import users into a security domain",
+            notes = "User must have the DOMAIN_USER[CREATE] and DOMAIN_USER[UPDATE] permission on the specified domain " +
+                    "or DOMAIN_USER[CREATE] and DOMAIN_USER[UPDATE] permission on the specified environment " +
+                    "or DOMAIN_USER[CREATE] and DOMAIN_USER[UPDATE] permission on the specified organization. " +
+                    "Users are read as newline delimited JSON (as produced by the export) and created or replaced by batches. " +
+                    "A progress line holding the number of imported users and a resume token is written after each batch; " +
+                    "an interrupted import is resumed by sending the same content with the last received resume token. " +
+                    "Only the exported fields are accepted, a user holding any other field (enrolled factors, registration token...) is rejected. " +
+                    "A password may be given, it must comply with the password policy and is stored by the identity provider of the user.")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "Import progress, one JSON document per batch"),
+            @ApiResponse(code = 500, message = "Internal server error")})
+    public void importUsers(
+            @PathParam("organizationId") String organizationId,
+            @PathParam("environmentId") String environmentId,
+            @PathParam("domain") String domain,
+            @QueryParam("resumeToken") @DefaultValue("0") long resumeToken,
+            @QueryParam("batchSize") @DefaultValue("500") int batchSize,
+            final InputStream input,
+            @Suspended final AsyncResponse response) {
+
+        final ObjectMapper objectMapper = objectMapper();
+        final ObjectReader userReader = objectMapper.readerFor(BulkUserEntity.class).with(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+        checkAnyPermission(organizationId, environmentId, domain, Permission.DOMAIN_USER, Acl.CREATE, Acl.UPDATE)
+                .andThen(domainService.findById(domain)
+                        .switchIfEmpty(Maybe.error(new DomainNotFoundException(domain))))
+                // the users are read and the progress written by blocking streams, keep them away from the event loops
+                .observeOn(Schedulers.io())
+                .map(securityDomain -> Response.ok((StreamingOutput) output -> {
+                    // the resume token is the number of users already imported
+                    BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+                    Flowable<User> users = Flowable.fromIterable(() -> reader.lines().iterator())
+                            .filter(line -> !line.trim().isEmpty())
+                            .skip(resumeToken)
+                            .map(line -> readUser(userReader, line));
+
+                    AtomicLong imported = new AtomicLong();
+                    try {
+                        userService.bulkImport(securityDomain, users, Integer.min(batchSize, MAX_USERS_BULK_SIZE))
+                                .blockingForEach(total -> {
+                                    imported.set(total);
+                                    writeLine(output, objectMapper, progress(total, resumeToken + total, null));
+                                    output.flush();
+                                });
+                    } catch (RuntimeException ex) {
+                        Throwable cause = ex.getCause() != null && !(ex instanceof AbstractManagementException) ? ex.getCause() : ex;
+                        writeLine(output, objectMapper, progress(imported.get(), resumeToken + imported.get(), cause.getMessage()));
+                    }
+                }).type(APPLICATION_NDJSON).build())
+                .subscribe(response::resume, response::resume);
+    }
+
     @Path("{user}")
     public UserResource getUserResource() {
         return resourceContext.getResource(UserResource.class);
@@ -168,4 +288,35 @@ public class UsersResource extends AbstractUsersResource {
 
         return Single.just(filteredUser);
     }
+
+    private static User readUser(ObjectReader userReader, String line) throws IOException {
+        try {
+            BulkUserEntity user = userReader.readValue(line);
+            if (user.getUsername() == null || user.getUsername().trim().isEmpty()) {
+                throw new InvalidUserException("Field [username] is required");
+            }
+            return user.toUser();
+        } catch (UnrecognizedPropertyException ex) {
+            throw new InvalidUserException(String.format("Field [%s] cannot be imported", ex.getPropertyName()));
+        }
+    }
+
+    private ObjectMapper objectMapper() {
+        return providers.getContextResolver(ObjectMapper.class, javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE).getContext(User.class);
+    }
+
+    private static void writeLine(OutputStream output, ObjectMapper objectMapper, Object value) throws IOException {
+        output.write(objectMapper.writeValueAsBytes(value));
+        output.write('\n');
+    }
+
+    private static Map<String, Object> progress(long imported, long resumeToken, String error) {
+        Map<String, Object> progress = new LinkedHashMap<>();
+        progress.put("imported", imported);
+        progress.put("resumeToken", resumeToken);
+        if (error != null) {
+            progress.put("error", error);
+        }
+        return progress;
+    }
 }
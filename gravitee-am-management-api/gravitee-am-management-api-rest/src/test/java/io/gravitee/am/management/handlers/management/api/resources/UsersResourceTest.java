@@ -20,11 +20,14 @@ import io.gravitee.am.model.Domain;
 import io.gravitee.am.model.ReferenceType;
 import io.gravitee.am.model.User;
 import io.gravitee.am.model.common.Page;
+import io.gravitee.am.model.factor.EnrolledFactor;
+import io.gravitee.am.model.factor.EnrolledFactorSecurity;
 import io.gravitee.am.service.exception.TechnicalManagementException;
 import io.gravitee.am.service.exception.UserProviderNotFoundException;
 import io.gravitee.am.service.model.NewUser;
 import io.gravitee.common.http.HttpStatusCode;
 import io.reactivex.Completable;
+import io.reactivex.Flowable;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
 import org.junit.Before;
@@ -32,12 +35,20 @@ import org.junit.Test;
 
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.core.Response;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 
 /**
@@ -137,5 +148,116 @@ public class UsersResourceTest extends JerseySpringTest {
         assertEquals(HttpStatusCode.NOT_FOUND_404, response.getStatus());
     }
 
+    @Test
+    public void shouldExportUsers() {
+        final String domainId = "domain-1";
+        final Domain mockDomain = new Domain();
+        mockDomain.setId(domainId);
+
+        final User mockUser = new User();
+        mockUser.setId("user-id-1");
+        mockUser.setUsername("username-1");
+        mockUser.setPassword("user-password");
+        mockUser.setRegistrationAccessToken("registration-token");
+        final EnrolledFactor enrolledFactor = new EnrolledFactor();
+        enrolledFactor.setFactorId("factor-id");
+        enrolledFactor.setSecurity(new EnrolledFactorSecurity("SHARED_SECRET", "factor-secret"));
+        mockUser.setFactors(Collections.singletonList(enrolledFactor));
+        final User mockUser2 = new User();
+        mockUser2.setId("user-id-2");
+        mockUser2.setUsername("username-2");
+
+        doReturn(Maybe.just(mockDomain)).when(domainService).findById(domainId);
+        doReturn(Flowable.just(mockUser, mockUser2)).when(userService).streamAll(ReferenceType.DOMAIN, domainId, "user-id-0", 1000);
+
+        final Response response = target("domains")
+                .path(domainId)
+                .path("users")
+                .path("_export")
+                .queryParam("after", "user-id-0")
+                .queryParam("batchSize", 5000)
+                .request()
+                .get();
+
+        assertEquals(HttpStatusCode.OK_200, response.getStatus());
+        String[] lines = response.readEntity(String.class).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"username-1\""));
+        assertTrue(lines[1].contains("\"username-2\""));
+        // the secrets of the users are not exported
+        assertFalse(lines[0].contains("password"));
+        assertFalse(lines[0].contains("factor"));
+        assertFalse(lines[0].contains("registration-token"));
+    }
+
+    @Test
+    public void shouldImportUsers() {
+        final String domainId = "domain-1";
+        final Domain mockDomain = new Domain();
+        mockDomain.setId(domainId);
+
+        doReturn(Maybe.just(mockDomain)).when(domainService).findById(domainId);
+        doReturn(Flowable.just(2L, 3L)).when(userService).bulkImport(eq(mockDomain), any(), anyInt());
+
+        final Response response = target("domains")
+                .path(domainId)
+                .path("users")
+                .path("_import")
+                .queryParam("resumeToken", 10)
+                .request()
+                .post(Entity.entity("{\"username\":\"username-1\"}\n{\"username\":\"username-2\"}\n", "application/x-ndjson"));
+
+        assertEquals(HttpStatusCode.OK_200, response.getStatus());
+        String[] lines = response.readEntity(String.class).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("{\"imported\":3,\"resumeToken\":13}", lines[1]);
+    }
+    @Test
+    public void shouldImportUsers_withPassword() {
+        final String domainId = "domain-1";
+        final Domain mockDomain = new Domain();
+        mockDomain.setId(domainId);
+        final List<User> importedUsers = new ArrayList<>();
+
+        doReturn(Maybe.just(mockDomain)).when(domainService).findById(domainId);
+        doAnswer(invocation -> invocation.<Flowable<User>>getArgument(1)
+                .doOnNext(importedUsers::add)
+                .count()
+                .toFlowable())
+                .when(userService).bulkImport(eq(mockDomain), any(), anyInt());
+
+        final Response response = target("domains")
+                .path(domainId)
+                .path("users")
+                .path("_import")
+                .request()
+                .post(Entity.entity("{\"username\":\"username-1\",\"password\":\"user-password\"}\n", "application/x-ndjson"));
+
+        assertEquals(HttpStatusCode.OK_200, response.getStatus());
+        assertEquals("{\"imported\":1,\"resumeToken\":1}", response.readEntity(String.class).trim());
+        // the password is handed over to the service to be checked and stored by the identity provider
+        assertEquals(1, importedUsers.size());
+        assertEquals("user-password", importedUsers.get(0).getPassword());
+    }
+
+    @Test
+    public void shouldNotImportUsers_secretField() {
+        final String domainId = "domain-1";
+        final Domain mockDomain = new Domain();
+        mockDomain.setId(domainId);
+
+        doReturn(Maybe.just(mockDomain)).when(domainService).findById(domainId);
+        doAnswer(invocation -> invocation.<Flowable<User>>getArgument(1).count().toFlowable())
+                .when(userService).bulkImport(eq(mockDomain), any(), anyInt());
+
+        final Response response = target("domains")
+                .path(domainId)
+                .path("users")
+                .path("_import")
+                .request()
+                .post(Entity.entity("{\"username\":\"username-1\",\"factors\":[{\"factorId\":\"factor-id\",\"security\":{\"type\":\"SHARED_SECRET\",\"value\":\"factor-secret\"}}]}\n", "application/x-ndjson"));
 
+        assertEquals(HttpStatusCode.OK_200, response.getStatus());
+        assertEquals("{\"imported\":0,\"resumeToken\":0,\"error\":\"Field [factors] cannot be imported\"}", response.readEntity(String.class).trim());
+    }
 }
@@ -17,6 +17,7 @@ package io.gravitee.am.management.service;
 
 import io.gravitee.alert.api.trigger.Trigger;
 import io.gravitee.alert.api.trigger.TriggerProvider;
+import io.gravitee.am.common.event.Action;
 import io.gravitee.am.common.event.AlertNotifierEvent;
 import io.gravitee.am.common.event.AlertTriggerEvent;
 import io.gravitee.am.common.event.DomainEvent;
@@ -32,6 +33,7 @@ import io.gravitee.am.repository.management.api.search.DomainCriteria;
 import io.gravitee.am.service.AlertNotifierService;
 import io.gravitee.am.service.AlertTriggerService;
 import io.gravitee.am.service.DomainService;
+import io.gravitee.am.service.sync.EventLogReader;
 import io.gravitee.common.event.Event;
 import io.gravitee.common.event.EventManager;
 import io.gravitee.common.service.AbstractService;
@@ -43,6 +45,9 @@ import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
 
 import java.util.Collections;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author Jeoffrey HAEYAERT (jeoffrey.haeyaert at graviteesource.com)
@@ -61,6 +66,10 @@ public class AlertTriggerManager extends AbstractService<CertificateManager> {
     private final Environment environment;
     private final ResolvePropertyCommandHandler resolvePropertyCommandHandler;
     private final AlertNotificationCommandHandler alertNotificationCommandHandler;
+    // versions of the domains, alert triggers and alert notifiers already pushed to the alerting system
+    private final Map<String, Date> domainVersions = new ConcurrentHashMap<>();
+    private final Map<String, Date> alertTriggerVersions = new ConcurrentHashMap<>();
+    private final Map<String, Date> alertNotifierVersions = new ConcurrentHashMap<>();
 
     public AlertTriggerManager(TriggerProvider triggerProvider, AlertTriggerService alertTriggerService, AlertNotifierService alertNotifierService, DomainService domainService, EventManager eventManager, Environment environment, ResolvePropertyCommandHandler resolvePropertyCommandHandler, AlertNotificationCommandHandler alertNotificationCommandHandler) {
         this.triggerProvider = triggerProvider;
@@ -90,9 +99,12 @@ public class AlertTriggerManager extends AbstractService<CertificateManager> {
 
     void doOnConnect() {
         LOGGER.info("Connected to alerting system. Sync alert triggers...");
+        domainVersions.clear();
+        alertTriggerVersions.clear();
+        alertNotifierVersions.clear();
         domainService.findAllByCriteria(new DomainCriteria())
                 .doOnNext(domain -> LOGGER.info("Sending alert triggers for domain {}", domain.getName()))
-                .flatMap(this::prepareAETriggers)
+                .flatMap(this::prepareDomainAETriggers)
                 .flatMapSingle(this::registerAETrigger)
                 .count()
                 .subscribe(count -> LOGGER.info("{} alert triggers synchronized with the alerting system.", count),
@@ -106,8 +118,15 @@ public class AlertTriggerManager extends AbstractService<CertificateManager> {
     void onDomainEvent(Event<DomainEvent, ?> event) {
 
         final Payload payload = (Payload) event.content();
+        if (payload.getAction() == Action.DELETE) {
+            domainVersions.remove(payload.getReferenceId());
+        } else if (EventLogReader.isUpToDate(payload, domainVersions.get(payload.getReferenceId()))) {
+            LOGGER.debug("Alert triggers of domain [{}] are already synchronized with the alerting system.", payload.getReferenceId());
+            return;
+        }
+
         domainService.findById(payload.getReferenceId())
-                .flatMapPublisher(this::prepareAETriggers)
+                .flatMapPublisher(this::prepareDomainAETriggers)
                 .flatMapSingle(this::registerAETrigger)
                 .count()
                 .subscribe(count -> LOGGER.info("{} alert triggers synchronized with the alerting system for domain [{}].", count, payload.getReferenceId()),
@@ -119,6 +138,13 @@ public class AlertTriggerManager extends AbstractService<CertificateManager> {
         LOGGER.debug("Received alert trigger event {}", event);
 
         final Payload payload = (Payload) event.content();
+        if (payload.getAction() == Action.DELETE) {
+            alertTriggerVersions.remove(payload.getId());
+        } else if (EventLogReader.isUpToDate(payload, alertTriggerVersions.get(payload.getId()))) {
+            LOGGER.debug("Alert trigger [{}] is already synchronized with the alerting system.", payload.getId());
+            return;
+        }
+
         domainService.findById(payload.getReferenceId())
                 .flatMapSingle(domain -> alertTriggerService.getById(payload.getId())
                         .flatMap(alertTrigger -> this.prepareAETrigger(domain, alertTrigger))
@@ -132,6 +158,15 @@ public class AlertTriggerManager extends AbstractService<CertificateManager> {
         LOGGER.debug("Received alert notifier event {}", event);
 
         final Payload payload = (Payload) event.content();
+        if (payload.getAction() == Action.DELETE) {
+            alertNotifierVersions.remove(payload.getId());
+        } else if (EventLogReader.isUpToDate(payload, alertNotifierVersions.get(payload.getId()))) {
+            LOGGER.debug("Alert triggers of alert notifier [{}] are already synchronized with the alerting system.", payload.getId());
+            return;
+        } else if (payload.getVersion() != null) {
+            alertNotifierVersions.put(payload.getId(), new Date(payload.getVersion()));
+        }
+
         final AlertTriggerCriteria alertTriggerCriteria = new AlertTriggerCriteria();
         alertTriggerCriteria.setEnabled(true);
         alertTriggerCriteria.setAlertNotifierIds(Collections.singletonList(payload.getId()));
@@ -154,9 +189,14 @@ public class AlertTriggerManager extends AbstractService<CertificateManager> {
         });
     }
 
-    private Flowable<Trigger> prepareAETriggers(Domain domain) {
+    private Flowable<Trigger> prepareDomainAETriggers(Domain domain) {
         return alertTriggerService.findByDomainAndCriteria(domain.getId(), new AlertTriggerCriteria())
-                .flatMapSingle(alertTrigger -> this.prepareAETrigger(domain, alertTrigger));
+                .flatMapSingle(alertTrigger -> this.prepareAETrigger(domain, alertTrigger))
+                .doOnComplete(() -> {
+                    if (domain.getUpdatedAt() != null) {
+                        domainVersions.put(domain.getId(), domain.getUpdatedAt());
+                    }
+                });
     }
 
     private Single<Trigger> prepareAETrigger(Domain domain, AlertTrigger alertTrigger) {
@@ -167,6 +207,11 @@ public class AlertTriggerManager extends AbstractService<CertificateManager> {
         return alertNotifierService.findByReferenceAndCriteria(alertTrigger.getReferenceType(), alertTrigger.getReferenceId(), alertNotifierCriteria)
                 .toList()
                 .map(alertNotifiers -> AlertTriggerFactory.create(alertTrigger, alertNotifiers, environment))
-                .doOnSuccess(trigger -> trigger.setEnabled(domain.isEnabled() && domain.isAlertEnabled() && trigger.isEnabled()));
+                .doOnSuccess(trigger -> {
+                    trigger.setEnabled(domain.isEnabled() && domain.isAlertEnabled() && trigger.isEnabled());
+                    if (alertTrigger.getId() != null && alertTrigger.getUpdatedAt() != null) {
+                        alertTriggerVersions.put(alertTrigger.getId(), alertTrigger.getUpdatedAt());
+                    }
+                });
     }
 }
@@ -15,20 +15,33 @@
  */
 package io.gravitee.am.management.service;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.gravitee.am.common.event.ApplicationEvent;
+import io.gravitee.am.common.event.DomainEvent;
+import io.gravitee.am.common.event.GroupEvent;
+import io.gravitee.am.common.event.MembershipEvent;
+import io.gravitee.am.common.event.RoleEvent;
 import io.gravitee.am.identityprovider.api.User;
 import io.gravitee.am.management.service.permissions.PermissionAcls;
 import io.gravitee.am.model.*;
+import io.gravitee.am.model.common.event.Payload;
 import io.gravitee.am.model.permissions.Permission;
 import io.gravitee.am.repository.management.api.search.MembershipCriteria;
 import io.gravitee.am.service.*;
 import io.gravitee.am.service.exception.InvalidUserException;
+import io.gravitee.am.service.utils.MetricsUtils;
+import io.gravitee.common.event.EventListener;
+import io.gravitee.common.event.EventManager;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
 import io.reactivex.Flowable;
 import io.reactivex.Single;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -45,21 +58,61 @@ public class PermissionService {
     private final EnvironmentService environmentService;
     private final DomainService domainService;
     private final ApplicationService applicationService;
-    private final Map<String, Boolean> consistencyCache;
+
+    /**
+     * Consistency of the [application, domain, environment, organization] tuples, evicted when a domain or an
+     * application is deleted.
+     */
+    private final Cache<String, Boolean> consistencyCache;
+
+    /**
+     * Permissions of a user on a reference (type#id#userId), evicted when the memberships of the reference change,
+     * or entirely when a role or a group changes (membership, role and group events are published right away on the node
+     * making the change and synchronized across the other nodes).
+     */
+    private final Cache<String, Map<Membership, Map<Permission, Set<Acl>>>> permissionsCache;
 
     public PermissionService(MembershipService membershipService,
                              GroupService groupService,
                              RoleService roleService,
                              EnvironmentService environmentService,
                              DomainService domainService,
-                             ApplicationService applicationService) {
+                             ApplicationService applicationService,
+                             EventManager eventManager,
+                             @Value("${permissions.cache.maxSize:10000}") int cacheMaxSize,
+                             @Value("${permissions.cache.ttl:60}") int cacheTtlSeconds) {
         this.membershipService = membershipService;
         this.groupService = groupService;
         this.roleService = roleService;
         this.environmentService = environmentService;
         this.domainService = domainService;
         this.applicationService = applicationService;
-        this.consistencyCache = new ConcurrentHashMap<>();
+        this.consistencyCache = CacheBuilder.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .recordStats()
+                .build();
+        this.permissionsCache = CacheBuilder.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(cacheTtlSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+
+        GuavaCacheMetrics.monitor(MetricsUtils.registry(), consistencyCache, "am_permission_consistency");
+        GuavaCacheMetrics.monitor(MetricsUtils.registry(), permissionsCache, "am_permission_acls");
+
+        eventManager.subscribeForEvents((EventListener<MembershipEvent, Payload>) event -> evictPermissions(event.content()), MembershipEvent.class);
+        eventManager.subscribeForEvents((EventListener<RoleEvent, Payload>) event -> permissionsCache.invalidateAll(), RoleEvent.class);
+        eventManager.subscribeForEvents((EventListener<GroupEvent, Payload>) event -> permissionsCache.invalidateAll(), GroupEvent.class);
+        eventManager.subscribeForEvents((EventListener<DomainEvent, Payload>) event -> {
+            if (event.type() == DomainEvent.UNDEPLOY) {
+                consistencyCache.invalidateAll();
+            }
+        }, DomainEvent.class);
+        eventManager.subscribeForEvents((EventListener<ApplicationEvent, Payload>) event -> {
+            if (event.type() == ApplicationEvent.UNDEPLOY) {
+                consistencyCache.invalidateAll();
+            }
+        }, ApplicationEvent.class);
     }
 
     public Single<Map<Permission, Set<Acl>>> findAllPermissions(User user, ReferenceType referenceType, String referenceId) {
@@ -99,8 +152,9 @@ public class PermissionService {
 
             String key = StringUtils.arrayToDelimitedString(new String[]{applicationId, domainId, environmentId, organizationId}, "#");
 
-            if(consistencyCache.containsKey(key)) {
-                return Single.just(consistencyCache.get(key));
+            Boolean cachedConsistency = consistencyCache.getIfPresent(key);
+            if (cachedConsistency != null) {
+                return Single.just(cachedConsistency);
             }
 
             List<Single<Boolean>> obs = new ArrayList<>();
@@ -177,6 +231,21 @@ public class PermissionService {
             return Single.error(new InvalidUserException("Specified user is invalid"));
         }
 
+        Map<Membership, Map<Permission, Set<Acl>>> permissions = new HashMap<>();
+        List<Map.Entry<ReferenceType, String>> missingReferences = new ArrayList<>();
+        referenceStream.forEach(reference -> {
+            Map<Membership, Map<Permission, Set<Acl>>> cachedPermissions = permissionsCache.getIfPresent(permissionsKey(reference.getKey(), reference.getValue(), user.getId()));
+            if (cachedPermissions != null) {
+                permissions.putAll(cachedPermissions);
+            } else {
+                missingReferences.add(reference);
+            }
+        });
+
+        if (missingReferences.isEmpty()) {
+            return Single.just(permissions);
+        }
+
         return groupService.findByMember(user.getId())
                 .map(Group::getId)
                 .toList()
@@ -186,18 +255,29 @@ public class PermissionService {
                     criteria.setGroupIds(userGroupIds.isEmpty() ? null : userGroupIds);
                     criteria.setLogicalOR(true);
 
-                    // Get all user and group memberships.
-                    return Flowable.merge(referenceStream.map(p -> membershipService.findByCriteria(p.getKey(), p.getValue(), criteria)).collect(Collectors.toList()))
+                    // Get all user and group memberships, per reference.
+                    return Flowable.fromIterable(missingReferences)
+                            .flatMapSingle(reference -> membershipService.findByCriteria(reference.getKey(), reference.getValue(), criteria)
+                                    .toList()
+                                    .map(memberships -> new AbstractMap.SimpleEntry<>(reference, memberships)))
                             .toList()
-                            .flatMap(allMemberships -> {
+                            .flatMap(membershipsPerReference -> {
 
-                                if (allMemberships.isEmpty()) {
-                                    return Single.just(Collections.emptyMap());
-                                }
+                                List<String> roleIds = membershipsPerReference.stream()
+                                        .flatMap(entry -> entry.getValue().stream())
+                                        .map(Membership::getRoleId)
+                                        .collect(Collectors.toList());
 
                                 // Get all roles.
-                                return roleService.findByIdIn(allMemberships.stream().map(Membership::getRoleId).collect(Collectors.toList()))
-                                        .map(allRoles -> permissionsPerMembership(allMemberships, allRoles));
+                                Single<Set<Role>> allRoles = roleIds.isEmpty() ? Single.just(Collections.emptySet()) : roleService.findByIdIn(roleIds);
+                                return allRoles.map(roles -> {
+                                    membershipsPerReference.forEach(entry -> {
+                                        Map<Membership, Map<Permission, Set<Acl>>> referencePermissions = permissionsPerMembership(entry.getValue(), roles);
+                                        permissionsCache.put(permissionsKey(entry.getKey().getKey(), entry.getKey().getValue(), user.getId()), referencePermissions);
+                                        permissions.putAll(referencePermissions);
+                                    });
+                                    return permissions;
+                                });
                             });
                 });
     }
@@ -216,7 +296,7 @@ public class PermissionService {
 
                 // Compute membership permission acls.
                 rolePermissions.forEach((permission, acls) -> {
-                    permissions.merge(permission, acls, (acls1, acls2) -> {
+                    permissions.merge(permission, new HashSet<>(acls), (acls1, acls2) -> {
                         acls1.addAll(acls2);
                         return acls1;
                     });
@@ -244,4 +324,17 @@ public class PermissionService {
 
         return permissions;
     }
-}
\ No newline at end of file
+
+    private void evictPermissions(Payload membership) {
+        if (membership.getReferenceType() == null || membership.getReferenceId() == null) {
+            permissionsCache.invalidateAll();
+            return;
+        }
+        String prefix = permissionsKey(membership.getReferenceType(), membership.getReferenceId(), "");
+        permissionsCache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    private static String permissionsKey(ReferenceType referenceType, String referenceId, String userId) {
+        return referenceType + "#" + referenceId + "#" + userId;
+    }
+}
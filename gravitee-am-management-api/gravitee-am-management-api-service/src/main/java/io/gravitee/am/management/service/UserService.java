@@ -24,6 +24,7 @@ import io.gravitee.am.repository.management.api.search.FilterCriteria;
 import io.gravitee.am.service.model.NewUser;
 import io.gravitee.am.service.model.UpdateUser;
 import io.reactivex.Completable;
+import io.reactivex.Flowable;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
 
@@ -43,6 +44,16 @@ public interface UserService {
 
     Single<Page<User>> findByDomain(String domain, int page, int size);
 
+    Flowable<User> streamAll(ReferenceType referenceType, String referenceId, String lastId, int batchSize);
+
+    /**
+     * Write the given users of a domain by batches.
+     * The passwords are checked against the password policy and stored by the identity provider of the users, never by AM.
+     *
+     * @return the total number of written users, emitted after each batch
+     */
+    Flowable<Long> bulkImport(Domain domain, Flowable<User> users, int batchSize);
+
     Single<User> findById(ReferenceType referenceType, String referenceId, String id);
 
     Maybe<User> findById(String id);
@@ -31,6 +31,7 @@ import io.gravitee.am.service.exception.ReporterNotFoundForDomainException;
 import io.gravitee.am.service.impl.ReporterServiceImpl;
 import io.gravitee.am.service.reporter.impl.AuditReporterVerticle;
 import io.gravitee.am.service.reporter.vertx.EventBusReporterWrapper;
+import io.gravitee.am.service.sync.EventLogReader;
 import io.gravitee.common.event.Event;
 import io.gravitee.common.event.EventListener;
 import io.gravitee.common.event.EventManager;
@@ -198,6 +199,11 @@ public class AuditReporterManagerImpl extends AbstractService<AuditReporterManag
 
     @Override
     public void onEvent(Event<ReporterEvent, Payload> event) {
+        if (event.type() != ReporterEvent.UNDEPLOY && isUpToDate(event.content())) {
+            logger.debug("Reporter {} is already up to date", event.content().getId());
+            return;
+        }
+
         switch (event.type()) {
             case DEPLOY:
                 deployReporter(event.content().getId());
@@ -261,6 +267,14 @@ public class AuditReporterManagerImpl extends AbstractService<AuditReporterManag
         }
     }
 
+    private boolean isUpToDate(Payload payload) {
+        return auditReporters
+                .keySet()
+                .stream()
+                .filter(reporter -> payload.getId().equals(reporter.getId()))
+                .anyMatch(reporter -> EventLogReader.isUpToDate(payload, reporter.getUpdatedAt()));
+    }
+
     private void deployReporter(String reporterId) {
         logger.info("Management API has received a deploy reporter event for {}", reporterId);
         reporterService.findById(reporterId)
@@ -22,6 +22,7 @@ import io.gravitee.am.model.Certificate;
 import io.gravitee.am.model.common.event.Payload;
 import io.gravitee.am.plugins.certificate.core.CertificatePluginManager;
 import io.gravitee.am.service.CertificateService;
+import io.gravitee.am.service.sync.EventLogReader;
 import io.gravitee.common.event.Event;
 import io.gravitee.common.event.EventListener;
 import io.gravitee.common.event.EventManager;
@@ -32,6 +33,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.Date;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -45,6 +47,7 @@ public class CertificateManagerImpl extends AbstractService<CertificateManager>
     private static final Logger logger = LoggerFactory.getLogger(CertificateManagerImpl.class);
     private static final long retryTimeout = 10000;
     private ConcurrentMap<String, CertificateProvider> certificateProviders = new ConcurrentHashMap<>();
+    private ConcurrentMap<String, Date> certificateVersions = new ConcurrentHashMap<>();
 
     @Autowired
     private CertificatePluginManager certificatePluginManager;
@@ -74,6 +77,10 @@ public class CertificateManagerImpl extends AbstractService<CertificateManager>
         switch (event.type()) {
             case DEPLOY:
             case UPDATE:
+                if (EventLogReader.isUpToDate(event.content(), certificateVersions.get(event.content().getId()))) {
+                    logger.debug("Certificate {} is already up to date", event.content().getId());
+                    break;
+                }
                 deployCertificate(event.content().getId());
                 break;
             case UNDEPLOY:
@@ -124,6 +131,7 @@ public class CertificateManagerImpl extends AbstractService<CertificateManager>
 
     private void removeCertificate(String certificateId) {
         logger.info("Management API has received a undeploy certificate event for {}", certificateId);
+        certificateVersions.remove(certificateId);
         certificateProviders.remove(certificateId);
     }
 
@@ -136,8 +144,12 @@ public class CertificateManagerImpl extends AbstractService<CertificateManager>
             } else {
                 certificateProviders.remove(certificate.getId());
             }
+            if (certificate.getUpdatedAt() != null) {
+                certificateVersions.put(certificate.getId(), certificate.getUpdatedAt());
+            }
         } catch (Exception ex) {
             logger.error("An error has occurred while loading certificate: {} [{}]", certificate.getName(), certificate.getType(), ex);
+            certificateVersions.remove(certificate.getId());
             certificateProviders.remove(certificate.getId());
         }
     }
@@ -113,8 +113,9 @@ public class EmailServiceImpl implements EmailService {
                 final Email emailToSend = new Email(email);
                 emailToSend.setSubject(subject);
                 emailToSend.setContent(content);
-                emailService.send(emailToSend);
-                auditService.report(AuditBuilder.builder(EmailAuditBuilder.class).domain(user.getReferenceId()).client(ADMIN_CLIENT).email(email).user(user));
+                emailService.sendAsync(emailToSend).subscribe(
+                        () -> auditService.report(AuditBuilder.builder(EmailAuditBuilder.class).domain(user.getReferenceId()).client(ADMIN_CLIENT).email(email).user(user)),
+                        error -> auditService.report(AuditBuilder.builder(EmailAuditBuilder.class).domain(user.getReferenceId()).client(ADMIN_CLIENT).email(email).throwable(error)));
             } catch (final Exception ex) {
                 auditService.report(AuditBuilder.builder(EmailAuditBuilder.class).domain(user.getReferenceId()).client(ADMIN_CLIENT).email(email).throwable(ex));
             }
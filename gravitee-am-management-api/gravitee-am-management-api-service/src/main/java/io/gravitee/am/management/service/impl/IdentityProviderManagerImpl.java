@@ -25,6 +25,7 @@ import io.gravitee.am.model.common.event.Payload;
 import io.gravitee.am.plugins.idp.core.IdentityProviderPluginManager;
 import io.gravitee.am.service.IdentityProviderService;
 import io.gravitee.am.service.model.NewIdentityProvider;
+import io.gravitee.am.service.sync.EventLogReader;
 import io.gravitee.common.event.Event;
 import io.gravitee.common.event.EventListener;
 import io.gravitee.common.event.EventManager;
@@ -39,6 +40,7 @@ import org.springframework.stereotype.Component;
 
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Date;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -57,6 +59,7 @@ public class IdentityProviderManagerImpl extends AbstractService<IdentityProvide
     // set to 50 in order to also check the length of the ID field (max 64 with prefix of 12)
     public static final int TABLE_NAME_MAX_LENGTH = 50;
     private ConcurrentMap<String, UserProvider> userProviders = new ConcurrentHashMap<>();
+    private ConcurrentMap<String, Date> userProviderVersions = new ConcurrentHashMap<>();
 
     @Value("${management.mongodb.uri:mongodb://localhost:27017}")
     private String mongoUri;
@@ -123,6 +126,10 @@ public class IdentityProviderManagerImpl extends AbstractService<IdentityProvide
         switch (event.type()) {
             case DEPLOY:
             case UPDATE:
+                if (EventLogReader.isUpToDate(event.content(), userProviderVersions.get(event.content().getId()))) {
+                    logger.debug("User provider {} is already up to date", event.content().getId());
+                    break;
+                }
                 deployUserProvider(event.content().getId());
                 break;
             case UNDEPLOY:
@@ -215,7 +222,11 @@ public class IdentityProviderManagerImpl extends AbstractService<IdentityProvide
 
     private void removeUserProvider(String identityProviderId) {
         logger.info("Management API has received a undeploy identity provider event for {}", identityProviderId);
-        UserProvider userProvider = userProviders.remove(identityProviderId);
+        userProviderVersions.remove(identityProviderId);
+        stopUserProvider(identityProviderId, userProviders.remove(identityProviderId));
+    }
+
+    private void stopUserProvider(String identityProviderId, UserProvider userProvider) {
         if (userProvider != null) {
             // stop the user provider
             try {
@@ -232,13 +243,20 @@ public class IdentityProviderManagerImpl extends AbstractService<IdentityProvide
             if (userProvider != null) {
                 logger.info("Initializing user provider : {}", identityProvider.getId());
                 userProvider.start();
-                userProviders.put(identityProvider.getId(), userProvider);
+                UserProvider previousUserProvider = userProviders.put(identityProvider.getId(), userProvider);
+                if (previousUserProvider != null && previousUserProvider != userProvider) {
+                    stopUserProvider(identityProvider.getId(), previousUserProvider);
+                }
             } else {
-                userProviders.remove(identityProvider.getId());
+                stopUserProvider(identityProvider.getId(), userProviders.remove(identityProvider.getId()));
+            }
+            if (identityProvider.getUpdatedAt() != null) {
+                userProviderVersions.put(identityProvider.getId(), identityProvider.getUpdatedAt());
             }
         } catch (Exception ex) {
             logger.error("An error has occurred while loading user provider: {} [{}]", identityProvider.getName(), identityProvider.getType(), ex);
-            userProviders.remove(identityProvider.getId());
+            userProviderVersions.remove(identityProvider.getId());
+            stopUserProvider(identityProvider.getId(), userProviders.remove(identityProvider.getId()));
         }
     }
 }
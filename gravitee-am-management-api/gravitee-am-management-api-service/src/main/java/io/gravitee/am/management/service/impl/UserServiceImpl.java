@@ -41,8 +41,11 @@ import io.gravitee.am.service.reporter.builder.management.UserAuditBuilder;
 import io.gravitee.am.service.validators.PasswordValidator;
 import io.gravitee.am.service.validators.UserValidator;
 import io.reactivex.Completable;
+import io.reactivex.Flowable;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
@@ -59,6 +62,7 @@ import java.util.stream.Collectors;
 @Component("managementUserService")
 public class UserServiceImpl implements UserService {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(UserServiceImpl.class);
     private static final String DEFAULT_IDP_PREFIX = "default-idp-";
 
     @Value("${user.registration.token.expire-after:86400}")
@@ -95,6 +99,9 @@ public class UserServiceImpl implements UserService {
     @Autowired
     private MembershipService membershipService;
 
+    @Autowired
+    private TokenService tokenService;
+
     @Autowired
     private PasswordValidator passwordValidator;
 
@@ -122,6 +129,60 @@ public class UserServiceImpl implements UserService {
                 .doOnSuccess(userPage -> userPage.getData().forEach(this::setInternalStatus));
     }
 
+    @Override
+    public Flowable<User> streamAll(ReferenceType referenceType, String referenceId, String lastId, int batchSize) {
+        return userService.streamAll(referenceType, referenceId, lastId, batchSize);
+    }
+
+    @Override
+    public Flowable<Long> bulkImport(Domain domain, Flowable<User> users, int batchSize) {
+        return users.buffer(batchSize)
+                .concatMapSingle(batch -> Flowable.fromIterable(batch)
+                        .concatMapCompletable(user -> importPassword(domain, user))
+                        .andThen(Completable.defer(() -> userService.bulkWrite(ReferenceType.DOMAIN, domain.getId(), batch)))
+                        .toSingleDefault((long) batch.size()))
+                .scan((total, written) -> total + written)
+                .doOnNext(total -> LOGGER.info("{} users imported into domain {}", total, domain.getId()));
+    }
+
+    private Completable importPassword(Domain domain, User user) {
+        // set user idp source
+        if (user.getSource() == null) {
+            user.setSource(DEFAULT_IDP_PREFIX + domain.getId());
+        }
+        final String password = user.getPassword();
+        // AM 'users' collection is not made for authentication (but only management stuff)
+        user.setPassword(null);
+        if (password == null) {
+            return Completable.complete();
+        }
+
+        return checkClient(domain.getId(), user.getClient())
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMapSingle(optClient -> {
+                    // check user password
+                    if (isInvalidUserPassword(password, optClient.orElse(null), domain)) {
+                        return Single.error(InvalidPasswordException.of("Field [password] of user [" + user.getUsername() + "] is invalid", "invalid_password_value"));
+                    }
+                    return identityProviderManager.getUserProvider(user.getSource())
+                            .switchIfEmpty(Maybe.error(new UserProviderNotFoundException(user.getSource())))
+                            .flatMapSingle(userProvider -> userProvider.findByUsername(user.getUsername())
+                                    .flatMapSingleElement(idpUser -> {
+                                        // set password, the identity provider encodes it
+                                        ((DefaultUser) idpUser).setCredentials(password);
+                                        return userProvider.update(idpUser.getId(), idpUser);
+                                    })
+                                    .switchIfEmpty(Single.defer(() -> {
+                                        io.gravitee.am.identityprovider.api.User idpUser = convert(user);
+                                        ((DefaultUser) idpUser).setCredentials(password);
+                                        return userProvider.create(idpUser);
+                                    })));
+                })
+                .doOnSuccess(idpUser -> user.setExternalId(idpUser.getId()))
+                .ignoreElement();
+    }
+
     @Override
     public Single<User> findById(ReferenceType referenceType, String referenceId, String id) {
         return userService.findById(referenceType, referenceId, id)
@@ -355,6 +416,8 @@ public class UserServiceImpl implements UserService {
                                         return Completable.error(ex);
                                     });
                         })
+                        // revoke the tokens of the user, including the stateless access tokens
+                        .andThen((ReferenceType.DOMAIN != referenceType) ? Completable.complete() : tokenService.deleteByUserId(userId))
                         .andThen(userService.delete(userId))
                         // remove from memberships if user is an administrative user
                         .andThen((ReferenceType.ORGANIZATION != referenceType) ? Completable.complete() :
@@ -441,7 +504,7 @@ public class UserServiceImpl implements UserService {
                             return checkClient(user.getReferenceId(), user.getClient())
                                     .map(Optional::of)
                                     .defaultIfEmpty(Optional.empty())
-                                    .doOnSuccess(optClient -> new Thread(() -> emailService.send(domain1, optClient.orElse(null), Template.REGISTRATION_CONFIRMATION, user)).start())
+                                    .doOnSuccess(optClient -> emailService.send(domain1, optClient.orElse(null), Template.REGISTRATION_CONFIRMATION, user))
                                     .doOnSuccess(__ -> auditService.report(AuditBuilder.builder(UserAuditBuilder.class).principal(principal).type(EventType.REGISTRATION_CONFIRMATION_REQUESTED).user(user)))
                                     .doOnError(throwable -> auditService.report(AuditBuilder.builder(UserAuditBuilder.class).principal(principal).type(EventType.REGISTRATION_CONFIRMATION_REQUESTED).throwable(throwable)))
                                     .ignoreElement();
@@ -48,6 +48,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.mock.env.MockEnvironment;
 
 import java.util.Collections;
+import java.util.Date;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -152,6 +153,38 @@ public class AlertTriggerManagerTest {
         verify(triggerProvider, times(1)).register(any(Trigger.class));
     }
 
+    @Test
+    public void onDomainEvent_alreadySynchronized() {
+        final Domain domain = new Domain();
+        domain.setId(DOMAIN_ID);
+        domain.setName(DOMAIN_NAME);
+        domain.setUpdatedAt(new Date());
+
+        final DomainEvent domainEvent = DomainEvent.actionOf(Action.UPDATE);
+        final Payload payload = new Payload(DOMAIN_ID, ReferenceType.DOMAIN, DOMAIN_ID, Action.UPDATE, domain.getUpdatedAt());
+        final SimpleEvent<DomainEvent, Payload> event = new SimpleEvent<>(domainEvent, payload);
+
+        final AlertTrigger alertTrigger = new AlertTrigger();
+        alertTrigger.setEnabled(true);
+        alertTrigger.setType(AlertTriggerType.TOO_MANY_LOGIN_FAILURES);
+        alertTrigger.setAlertNotifiers(Collections.singletonList(ALERT_NOTIFIER_ID));
+
+        final AlertNotifierCriteria alertNotifierCriteria = new AlertNotifierCriteria();
+        alertNotifierCriteria.setIds(Collections.singletonList(ALERT_NOTIFIER_ID));
+        alertNotifierCriteria.setEnabled(true);
+
+        when(domainService.findById(domain.getId())).thenReturn(Maybe.just(domain));
+        when(alertTriggerService.findByDomainAndCriteria(DOMAIN_ID, new AlertTriggerCriteria())).thenReturn(Flowable.just(alertTrigger));
+        when(alertNotifierService.findByReferenceAndCriteria(alertTrigger.getReferenceType(), alertTrigger.getReferenceId(), alertNotifierCriteria)).thenReturn(Flowable.just(new AlertNotifier()));
+
+        this.cut.onDomainEvent(event);
+        // same version of the domain, nothing to push
+        this.cut.onDomainEvent(event);
+
+        verify(domainService, times(1)).findById(DOMAIN_ID);
+        verify(triggerProvider, times(1)).register(any(Trigger.class));
+    }
+
     @Test
     public void onAlertTriggerEvent() {
         final AlertTriggerEvent alertTriggerEvent = AlertTriggerEvent.actionOf(Action.CREATE);
@@ -15,13 +15,19 @@
  */
 package io.gravitee.am.management.service;
 
+import io.gravitee.am.common.event.GroupEvent;
+import io.gravitee.am.common.event.MembershipEvent;
 import io.gravitee.am.identityprovider.api.DefaultUser;
 import io.gravitee.am.model.*;
+import io.gravitee.am.model.common.event.Payload;
 import io.gravitee.am.model.membership.MemberType;
 import io.gravitee.am.model.permissions.Permission;
 import io.gravitee.am.repository.management.api.search.MembershipCriteria;
 import io.gravitee.am.service.*;
 import io.gravitee.am.service.exception.EnvironmentNotFoundException;
+import io.gravitee.common.event.EventListener;
+import io.gravitee.common.event.EventManager;
+import io.gravitee.common.event.impl.SimpleEvent;
 import io.reactivex.Flowable;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
@@ -29,6 +35,7 @@ import io.reactivex.observers.TestObserver;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
@@ -78,11 +85,14 @@ public class PermissionServiceTest {
     @Mock
     private ApplicationService applicationService;
 
+    @Mock
+    private EventManager eventManager;
+
     private PermissionService cut;
 
     @Before
     public void before() {
-        cut = new PermissionService(membershipService, groupService, roleService, environmentService, domainService, applicationService);
+        cut = new PermissionService(membershipService, groupService, roleService, environmentService, domainService, applicationService, eventManager, 100, 60);
     }
 
     @Test
@@ -685,4 +695,80 @@ public class PermissionServiceTest {
         verifyNoMoreInteractions(applicationService, domainService, environmentService);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void hasPermission_cachedUntilMembershipEvent() {
+
+        DefaultUser user = new DefaultUser("user");
+        user.setId(USER_ID);
+
+        Membership membership = new Membership();
+        membership.setMemberType(MemberType.USER);
+        membership.setMemberId(USER_ID);
+        membership.setReferenceType(ReferenceType.ORGANIZATION);
+        membership.setReferenceId(ORGANIZATION_ID);
+        membership.setRoleId(ROLE_ID);
+
+        Role role = new Role();
+        role.setId(ROLE_ID);
+        role.setAssignableType(ReferenceType.ORGANIZATION);
+        role.setPermissionAcls(Permission.of(ORGANIZATION, READ));
+
+        when(groupService.findByMember(user.getId())).thenReturn(Flowable.empty());
+        when(membershipService.findByCriteria(eq(ReferenceType.ORGANIZATION), eq(ORGANIZATION_ID), any(MembershipCriteria.class))).thenReturn(Flowable.just(membership));
+        when(roleService.findByIdIn(Arrays.asList(membership.getRoleId()))).thenReturn(Single.just(Collections.singleton(role)));
+
+        cut.hasPermission(user, of(ReferenceType.ORGANIZATION, ORGANIZATION_ID, Permission.ORGANIZATION, READ)).test().assertValue(true);
+        cut.hasPermission(user, of(ReferenceType.ORGANIZATION, ORGANIZATION_ID, Permission.ORGANIZATION, READ)).test().assertValue(true);
+
+        verify(groupService, times(1)).findByMember(user.getId());
+        verify(roleService, times(1)).findByIdIn(anyList());
+
+        // membership of the organization has changed
+        ArgumentCaptor<EventListener> listenerCaptor = ArgumentCaptor.forClass(EventListener.class);
+        verify(eventManager).subscribeForEvents(listenerCaptor.capture(), eq(MembershipEvent.class));
+        listenerCaptor.getValue().onEvent(new SimpleEvent<>(MembershipEvent.UPDATE, new Payload("membership#1", ReferenceType.ORGANIZATION, ORGANIZATION_ID, null)));
+
+        cut.hasPermission(user, of(ReferenceType.ORGANIZATION, ORGANIZATION_ID, Permission.ORGANIZATION, READ)).test().assertValue(true);
+
+        verify(groupService, times(2)).findByMember(user.getId());
+        verify(roleService, times(2)).findByIdIn(anyList());
+    }
+
+    @Test
+    public void hasPermission_evictedOnGroupDeletion() {
+
+        DefaultUser user = new DefaultUser("user");
+        user.setId(USER_ID);
+
+        Group group = new Group();
+        group.setId(GROUP_ID);
+        group.setMembers(Arrays.asList(user.getId()));
+
+        Membership membership = new Membership();
+        membership.setMemberType(MemberType.GROUP);
+        membership.setMemberId(GROUP_ID);
+        membership.setReferenceType(ReferenceType.ORGANIZATION);
+        membership.setReferenceId(ORGANIZATION_ID);
+        membership.setRoleId(ROLE_ID);
+
+        Role role = new Role();
+        role.setId(ROLE_ID);
+        role.setAssignableType(ReferenceType.ORGANIZATION);
+        role.setPermissionAcls(Permission.of(ORGANIZATION, READ));
+
+        when(groupService.findByMember(user.getId())).thenReturn(Flowable.just(group), Flowable.empty());
+        when(membershipService.findByCriteria(eq(ReferenceType.ORGANIZATION), eq(ORGANIZATION_ID), argThat(criteria -> criteria.getGroupIds().isPresent()))).thenReturn(Flowable.just(membership));
+        when(membershipService.findByCriteria(eq(ReferenceType.ORGANIZATION), eq(ORGANIZATION_ID), argThat(criteria -> !criteria.getGroupIds().isPresent()))).thenReturn(Flowable.empty());
+        when(roleService.findByIdIn(Arrays.asList(membership.getRoleId()))).thenReturn(Single.just(Collections.singleton(role)));
+
+        cut.hasPermission(user, of(ReferenceType.ORGANIZATION, ORGANIZATION_ID, Permission.ORGANIZATION, READ)).test().assertValue(true);
+
+        // the group has been deleted
+        ArgumentCaptor<EventListener> listenerCaptor = ArgumentCaptor.forClass(EventListener.class);
+        verify(eventManager).subscribeForEvents(listenerCaptor.capture(), eq(GroupEvent.class));
+        listenerCaptor.getValue().onEvent(new SimpleEvent<>(GroupEvent.UNDEPLOY, new Payload(GROUP_ID, ReferenceType.ORGANIZATION, ORGANIZATION_ID, null)));
+
+        cut.hasPermission(user, of(ReferenceType.ORGANIZATION, ORGANIZATION_ID, Permission.ORGANIZATION, READ)).test().assertValue(false);
+        verify(groupService, times(2)).findByMember(user.getId());
+    }
+}
@@ -35,6 +35,7 @@ import io.reactivex.Flowable;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
 import io.reactivex.observers.TestObserver;
+import io.reactivex.subscribers.TestSubscriber;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -100,6 +101,9 @@ public class UserServiceTest {
     @Mock
     private MembershipService membershipService;
 
+    @Mock
+    private TokenService tokenService;
+
     @Spy
     private UserValidator userValidator = new UserValidator();
 
@@ -608,6 +612,28 @@ public class UserServiceTest {
         verify(membershipService, times(3)).delete(anyString());
     }
 
+    @Test
+    public void shouldDeleteUser_revokeTokens() {
+        String domain = "domain";
+        String userId = "user-id";
+
+        User user = new User();
+        user.setId(userId);
+        user.setSource("source-idp");
+
+        when(commonUserService.findById(any(), any(), any())).thenReturn(Single.just(user));
+        when(identityProviderManager.getUserProvider(any())).thenReturn(Maybe.empty());
+        when(tokenService.deleteByUserId(userId)).thenReturn(Completable.complete());
+        when(commonUserService.delete(anyString())).thenReturn(Completable.complete());
+
+        userService.delete(ReferenceType.DOMAIN, domain, userId)
+                .test()
+                .assertComplete()
+                .assertNoErrors();
+        verify(tokenService, times(1)).deleteByUserId(userId);
+        verify(commonUserService, times(1)).delete(any());
+    }
+
     @Test
     public void shouldUpdateUser_byExternalId() {
 
@@ -760,4 +786,91 @@ public class UserServiceTest {
                 .assertError(InvalidPasswordException.class);
         verify(passwordValidator, times(1)).isValid(password);
     }
+
+    @Test
+    public void shouldBulkImport_byBatches() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            User user = new User();
+            user.setUsername("user" + i);
+            users.add(user);
+        }
+        when(commonUserService.bulkWrite(eq(ReferenceType.DOMAIN), eq(DOMAIN_ID), anyList())).thenReturn(Completable.complete());
+
+        TestSubscriber<Long> testSubscriber = userService.bulkImport(domain(), Flowable.fromIterable(users), 2).test();
+        testSubscriber.awaitTerminalEvent();
+
+        testSubscriber.assertComplete();
+        testSubscriber.assertValues(2L, 4L, 5L);
+
+        verify(commonUserService, times(3)).bulkWrite(eq(ReferenceType.DOMAIN), eq(DOMAIN_ID), anyList());
+    }
+
+    @Test
+    public void shouldBulkImport_stopOnError() {
+        User user = new User();
+        user.setUsername("user");
+        when(commonUserService.bulkWrite(eq(ReferenceType.DOMAIN), eq(DOMAIN_ID), anyList()))
+                .thenReturn(Completable.complete(), Completable.error(new TechnicalManagementException("error")));
+
+        TestSubscriber<Long> testSubscriber = userService.bulkImport(domain(), Flowable.just(user, user, user), 1).test();
+        testSubscriber.awaitTerminalEvent();
+
+        testSubscriber.assertValues(1L);
+        testSubscriber.assertError(TechnicalManagementException.class);
+
+        verify(commonUserService, times(2)).bulkWrite(eq(ReferenceType.DOMAIN), eq(DOMAIN_ID), anyList());
+    }
+
+    @Test
+    public void shouldBulkImport_storePasswordInIdentityProvider() {
+        User user = new User();
+        user.setUsername("user");
+        user.setPassword("password");
+
+        io.gravitee.am.identityprovider.api.User idpUser = mock(DefaultUser.class);
+        when(idpUser.getId()).thenReturn("idp-user-id");
+        UserProvider userProvider = mock(UserProvider.class);
+        when(userProvider.findByUsername("user")).thenReturn(Maybe.empty());
+        when(userProvider.create(any())).thenReturn(Single.just(idpUser));
+        when(identityProviderManager.getUserProvider("default-idp-" + DOMAIN_ID)).thenReturn(Maybe.just(userProvider));
+        doReturn(true).when(passwordValidator).isValid("password");
+        when(commonUserService.bulkWrite(eq(ReferenceType.DOMAIN), eq(DOMAIN_ID), anyList())).thenReturn(Completable.complete());
+
+        TestSubscriber<Long> testSubscriber = userService.bulkImport(domain(), Flowable.just(user), 1).test();
+        testSubscriber.awaitTerminalEvent();
+
+        testSubscriber.assertComplete();
+        testSubscriber.assertValues(1L);
+
+        ArgumentCaptor<io.gravitee.am.identityprovider.api.User> idpUserCaptor = ArgumentCaptor.forClass(io.gravitee.am.identityprovider.api.User.class);
+        verify(userProvider).create(idpUserCaptor.capture());
+        assertEquals("password", idpUserCaptor.getValue().getCredentials());
+        // the password is not written in the AM users
+        Assert.assertNull(user.getPassword());
+        assertEquals("idp-user-id", user.getExternalId());
+    }
+
+    @Test
+    public void shouldNotBulkImport_invalidPassword() {
+        User user = new User();
+        user.setUsername("user");
+        user.setPassword("weak");
+        doReturn(false).when(passwordValidator).isValid("weak");
+
+        TestSubscriber<Long> testSubscriber = userService.bulkImport(domain(), Flowable.just(user), 1).test();
+        testSubscriber.awaitTerminalEvent();
+
+        testSubscriber.assertNoValues();
+        testSubscriber.assertError(InvalidPasswordException.class);
+
+        verify(identityProviderManager, never()).getUserProvider(anyString());
+        verify(commonUserService, never()).bulkWrite(any(), any(), anyList());
+    }
+
+    private static Domain domain() {
+        Domain domain = new Domain();
+        domain.setId(DOMAIN_ID);
+        return domain;
+    }
 }
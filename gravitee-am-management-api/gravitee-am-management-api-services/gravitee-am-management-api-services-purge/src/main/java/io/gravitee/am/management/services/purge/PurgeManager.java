@@ -16,6 +16,7 @@
 package io.gravitee.am.management.services.purge;
 
 import io.gravitee.am.repository.management.api.AuthenticationFlowContextRepository;
+import io.gravitee.am.repository.management.api.EventRepository;
 import io.gravitee.am.repository.management.api.LoginAttemptRepository;
 import io.gravitee.am.repository.management.api.PermissionTicketRepository;
 import io.gravitee.am.repository.oauth2.api.AccessTokenRepository;
@@ -23,13 +24,20 @@ import io.gravitee.am.repository.oauth2.api.AuthorizationCodeRepository;
 import io.gravitee.am.repository.oauth2.api.RefreshTokenRepository;
 import io.gravitee.am.repository.oauth2.api.ScopeApprovalRepository;
 import io.gravitee.am.repository.oidc.api.RequestObjectRepository;
+import io.gravitee.am.service.utils.MetricsUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.reactivex.Single;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
 
 import javax.inject.Singleton;
+import java.util.Date;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static java.util.Arrays.asList;
@@ -37,12 +45,16 @@ import static java.util.Collections.emptyList;
 import static java.util.Optional.ofNullable;
 
 /**
+ * Purge the expired data table by table. Each table is purged by bounded batches, throttled by the configured rate,
+ * and the whole purge stops once the time budget is exhausted (remaining tables are processed by the next run).
+ *
  * @author Eric LELEU (eric.leleu at graviteesource.com)
  * @author GraviteeSource Team
  */
 @Singleton
 public class PurgeManager {
     private static final Logger LOGGER = LoggerFactory.getLogger(PurgeManager.class);
+    private static final String TAG_TABLE = "table";
 
     @Lazy
     @Autowired
@@ -68,6 +80,31 @@ public class PurgeManager {
     @Lazy
     @Autowired
     protected AuthenticationFlowContextRepository authenticationFlowContextRepository;
+    @Lazy
+    @Autowired
+    protected EventRepository eventRepository;
+
+    @Value("${services.purge.batchSize:1000}")
+    protected int batchSize = 1000;
+
+    // maximum number of deleted rows per second, 0 means unlimited
+    @Value("${services.purge.rate:0}")
+    protected int rate;
+
+    // maximum duration of a purge run in seconds, 0 means unlimited
+    @Value("${services.purge.timeBudget:0}")
+    protected long timeBudget;
+
+    @Value("${services.purge.retry.max:3}")
+    protected int maxRetries = 3;
+
+    // initial delay in milliseconds before retrying a failed batch, doubled on each attempt
+    @Value("${services.purge.retry.delay:1000}")
+    protected long retryDelay = 1000;
+
+    // age in seconds after which the events superseded by a newer event of the same entity are removed from the event log
+    @Value("${services.purge.events.retention:3600}")
+    protected long eventsRetention = 3600;
 
     protected List<TableName> tables = asList(TableName.values());
 
@@ -76,34 +113,102 @@ public class PurgeManager {
                 .filter(t -> !ofNullable(exclude).orElse(emptyList()).contains(t))
                 .collect(Collectors.toList());
 
-        for (TableName toProcess : tableToProcess) {
-            LOGGER.debug("Purging expired data for table '{}'", toProcess);
-            switch (toProcess) {
-                case access_tokens:
-                    accessTokenRepository.purgeExpiredData().subscribe();
-                    break;
-                case authorization_codes:
-                    authorizationCodeRepository.purgeExpiredData().subscribe();
-                    break;
-                case refresh_tokens:
-                    refreshTokenRepository.purgeExpiredData().subscribe();
-                    break;
-                case request_objects:
-                    requestObjectRepository.purgeExpiredData().subscribe();
-                    break;
-                case scope_approvals:
-                    scopeApprovalRepository.purgeExpiredData().subscribe();
-                    break;
-                case login_attempts:
-                    loginAttemptRepository.purgeExpiredData().subscribe();
-                    break;
-                case uma_permission_ticket:
-                    permissionTicketRepository.purgeExpiredData().subscribe();
-                    break;
-                case auth_flow_ctx:
-                    authenticationFlowContextRepository.purgeExpiredData().subscribe();
+        final long deadline = timeBudget > 0 ? System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(timeBudget) : Long.MAX_VALUE;
+        for (int i = 0; i < tableToProcess.size(); i++) {
+            if (System.currentTimeMillis() >= deadline) {
+                LOGGER.info("Purge time budget exhausted, tables {} will be purged during the next run", tableToProcess.subList(i, tableToProcess.size()));
+                return;
+            }
+            if (!purge(tableToProcess.get(i), deadline)) {
+                // purge has been interrupted
+                return;
+            }
+        }
+    }
+
+    /**
+     * Purge the given table by batches until there is no more expired data, the deadline is reached
+     * or the batch has failed too many times.
+     *
+     * @return false if the thread has been interrupted, true otherwise
+     */
+    private boolean purge(TableName table, long deadline) {
+        LOGGER.debug("Purging expired data for table '{}'", table);
+        final long start = System.currentTimeMillis();
+        long purged = 0;
+        int failures = 0;
+        boolean interrupted = false;
+
+        while (!interrupted) {
+            final long batchStart = System.currentTimeMillis();
+            final long rows;
+            try {
+                rows = purgeBatch(table).blockingGet();
+                failures = 0;
+            } catch (RuntimeException e) {
+                if (++failures > maxRetries) {
+                    LOGGER.error("Unable to purge expired data for table '{}' after {} attempts, table skipped until the next run", table, failures, e);
                     break;
+                }
+                final long backoff = retryDelay << (failures - 1);
+                LOGGER.warn("Purge of table '{}' failed, retrying in {} ms ({}/{})", table, backoff, failures, maxRetries);
+                interrupted = !pause(backoff);
+                continue;
+            }
+
+            purged += rows;
+            if (rows < batchSize || System.currentTimeMillis() >= deadline) {
+                break;
+            }
+            if (rate > 0) {
+                interrupted = !pause(rows * 1000 / rate - (System.currentTimeMillis() - batchStart));
             }
         }
+
+        final long duration = System.currentTimeMillis() - start;
+        LOGGER.info("{} expired rows purged from table '{}' in {} ms", purged, table, duration);
+        final MeterRegistry registry = MetricsUtils.registry();
+        registry.counter("am_purge_rows", TAG_TABLE, table.name()).increment(purged);
+        Timer.builder("am_purge_duration").tag(TAG_TABLE, table.name()).register(registry).record(duration, TimeUnit.MILLISECONDS);
+        return !interrupted;
+    }
+
+    private Single<Long> purgeBatch(TableName table) {
+        switch (table) {
+            case access_tokens:
+                return accessTokenRepository.purgeExpiredData(batchSize);
+            case authorization_codes:
+                return authorizationCodeRepository.purgeExpiredData(batchSize);
+            case refresh_tokens:
+                return refreshTokenRepository.purgeExpiredData(batchSize);
+            case request_objects:
+                return requestObjectRepository.purgeExpiredData(batchSize);
+            case scope_approvals:
+                return scopeApprovalRepository.purgeExpiredData(batchSize);
+            case login_attempts:
+                return loginAttemptRepository.purgeExpiredData(batchSize);
+            case uma_permission_ticket:
+                return permissionTicketRepository.purgeExpiredData(batchSize);
+            case auth_flow_ctx:
+                return authenticationFlowContextRepository.purgeExpiredData(batchSize);
+            case events:
+                return eventRepository.compact(new Date(System.currentTimeMillis() - TimeUnit.SECONDS.toMillis(eventsRetention)), batchSize);
+            default:
+                return Single.just(0L);
+        }
+    }
+
+    private boolean pause(long millis) {
+        if (millis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            LOGGER.warn("Purge of expired data has been interrupted");
+            Thread.currentThread().interrupt();
+            return false;
+        }
     }
 }
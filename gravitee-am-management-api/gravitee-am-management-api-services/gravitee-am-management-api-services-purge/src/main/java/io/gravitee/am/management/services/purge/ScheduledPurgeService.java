@@ -27,6 +27,7 @@ import org.springframework.stereotype.Component;
 
 import java.time.Instant;
 import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
@@ -65,7 +66,7 @@ public class ScheduledPurgeService extends AbstractService implements Runnable {
 
     @Override
     protected void doStart() throws Exception {
-        if (enabled && "jdbc".equalsIgnoreCase(repositoryType)) { // even if enabled, useless for Mongo implementation
+        if (enabled) {
             super.doStart();
             logger.info("Purge service has been initialized with cron [{}]", cronTrigger);
             // Sync must start only when doStart() is invoked, that's the reason why we are not
@@ -87,12 +88,20 @@ public class ScheduledPurgeService extends AbstractService implements Runnable {
      */
     private void doPurgeExpiredData() {
         logger.debug("Cleaning expired data #{} started at {}", counter.incrementAndGet(), Instant.now().toString());
-        this.purgeManager.purge(Arrays.asList(exclude.split(","))
+        final List<TableName> excludedTables = Arrays.asList(exclude.split(","))
                 .stream()
                 .map(String::trim)
                 .filter(value -> !value.isEmpty())
                 .map(TableName::valueOf)
-                .collect(Collectors.toList()));
+                .collect(Collectors.toList());
+        if ("jdbc".equalsIgnoreCase(repositoryType)) {
+            this.purgeManager.purge(excludedTables);
+        } else {
+            // expired data are removed by the TTL indexes of the Mongo implementation, only the event log has to be compacted
+            this.purgeManager.purge(Arrays.stream(TableName.values())
+                    .filter(table -> table != TableName.events || excludedTables.contains(table))
+                    .collect(Collectors.toList()));
+        }
         logger.debug("Cleaning expired data #{} ended at {}", counter.get(), Instant.now().toString());
     }
 
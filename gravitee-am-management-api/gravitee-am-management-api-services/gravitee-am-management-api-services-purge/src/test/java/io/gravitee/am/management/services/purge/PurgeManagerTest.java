@@ -16,6 +16,7 @@
 package io.gravitee.am.management.services.purge;
 
 import io.gravitee.am.repository.management.api.AuthenticationFlowContextRepository;
+import io.gravitee.am.repository.management.api.EventRepository;
 import io.gravitee.am.repository.management.api.LoginAttemptRepository;
 import io.gravitee.am.repository.management.api.PermissionTicketRepository;
 import io.gravitee.am.repository.oauth2.api.AccessTokenRepository;
@@ -23,7 +24,7 @@ import io.gravitee.am.repository.oauth2.api.AuthorizationCodeRepository;
 import io.gravitee.am.repository.oauth2.api.RefreshTokenRepository;
 import io.gravitee.am.repository.oauth2.api.ScopeApprovalRepository;
 import io.gravitee.am.repository.oidc.api.RequestObjectRepository;
-import io.reactivex.Completable;
+import io.reactivex.Single;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -33,7 +34,10 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Date;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 /**
@@ -70,57 +74,115 @@ public class PurgeManagerTest {
     @Mock
     private AuthenticationFlowContextRepository authenticationFlowContextRepository;
 
+    @Mock
+    private EventRepository eventRepository;
+
     @Before
     public void prepare() {
-        when(accessTokenRepository.purgeExpiredData()).thenReturn(Completable.complete());
-        when(loginAttemptRepository.purgeExpiredData()).thenReturn(Completable.complete());
-        when(permissionTicketRepository.purgeExpiredData()).thenReturn(Completable.complete());
-        when(authorizationCodeRepository.purgeExpiredData()).thenReturn(Completable.complete());
-        when(scopeApprovalRepository.purgeExpiredData()).thenReturn(Completable.complete());
-        when(refreshTokenRepository.purgeExpiredData()).thenReturn(Completable.complete());
-        when(requestObjectRepository.purgeExpiredData()).thenReturn(Completable.complete());
-        when(authenticationFlowContextRepository.purgeExpiredData()).thenReturn(Completable.complete());
+        manager.batchSize = 10;
+        manager.retryDelay = 0;
+        when(accessTokenRepository.purgeExpiredData(anyInt())).thenReturn(Single.just(0L));
+        when(loginAttemptRepository.purgeExpiredData(anyInt())).thenReturn(Single.just(0L));
+        when(permissionTicketRepository.purgeExpiredData(anyInt())).thenReturn(Single.just(0L));
+        when(authorizationCodeRepository.purgeExpiredData(anyInt())).thenReturn(Single.just(0L));
+        when(scopeApprovalRepository.purgeExpiredData(anyInt())).thenReturn(Single.just(0L));
+        when(refreshTokenRepository.purgeExpiredData(anyInt())).thenReturn(Single.just(0L));
+        when(requestObjectRepository.purgeExpiredData(anyInt())).thenReturn(Single.just(0L));
+        when(authenticationFlowContextRepository.purgeExpiredData(anyInt())).thenReturn(Single.just(0L));
+        when(eventRepository.compact(any(), anyInt())).thenReturn(Single.just(0L));
     }
 
     @Test
     public void testNullExclude() {
         manager.purge(null);
 
-        verify(accessTokenRepository).purgeExpiredData();
-        verify(loginAttemptRepository).purgeExpiredData();
-        verify(permissionTicketRepository).purgeExpiredData();
-        verify(authorizationCodeRepository).purgeExpiredData();
-        verify(scopeApprovalRepository).purgeExpiredData();
-        verify(refreshTokenRepository).purgeExpiredData();
-        verify(requestObjectRepository).purgeExpiredData();
-        verify(authenticationFlowContextRepository).purgeExpiredData();
+        verify(accessTokenRepository).purgeExpiredData(anyInt());
+        verify(loginAttemptRepository).purgeExpiredData(anyInt());
+        verify(permissionTicketRepository).purgeExpiredData(anyInt());
+        verify(authorizationCodeRepository).purgeExpiredData(anyInt());
+        verify(scopeApprovalRepository).purgeExpiredData(anyInt());
+        verify(refreshTokenRepository).purgeExpiredData(anyInt());
+        verify(requestObjectRepository).purgeExpiredData(anyInt());
+        verify(authenticationFlowContextRepository).purgeExpiredData(anyInt());
     }
 
     @Test
     public void testEmptyExclude() {
         manager.purge(Collections.emptyList());
 
-        verify(accessTokenRepository).purgeExpiredData();
-        verify(loginAttemptRepository).purgeExpiredData();
-        verify(permissionTicketRepository).purgeExpiredData();
-        verify(authorizationCodeRepository).purgeExpiredData();
-        verify(scopeApprovalRepository).purgeExpiredData();
-        verify(refreshTokenRepository).purgeExpiredData();
-        verify(requestObjectRepository).purgeExpiredData();
-        verify(authenticationFlowContextRepository).purgeExpiredData();
+        verify(accessTokenRepository).purgeExpiredData(anyInt());
+        verify(loginAttemptRepository).purgeExpiredData(anyInt());
+        verify(permissionTicketRepository).purgeExpiredData(anyInt());
+        verify(authorizationCodeRepository).purgeExpiredData(anyInt());
+        verify(scopeApprovalRepository).purgeExpiredData(anyInt());
+        verify(refreshTokenRepository).purgeExpiredData(anyInt());
+        verify(requestObjectRepository).purgeExpiredData(anyInt());
+        verify(authenticationFlowContextRepository).purgeExpiredData(anyInt());
     }
 
     @Test
     public void testExclude_AccessToken() {
         manager.purge(Arrays.asList(TableName.access_tokens));
 
-        verify(accessTokenRepository, never()).purgeExpiredData();
-        verify(loginAttemptRepository).purgeExpiredData();
-        verify(permissionTicketRepository).purgeExpiredData();
-        verify(authorizationCodeRepository).purgeExpiredData();
-        verify(scopeApprovalRepository).purgeExpiredData();
-        verify(refreshTokenRepository).purgeExpiredData();
-        verify(requestObjectRepository).purgeExpiredData();
-        verify(authenticationFlowContextRepository).purgeExpiredData();
+        verify(accessTokenRepository, never()).purgeExpiredData(anyInt());
+        verify(loginAttemptRepository).purgeExpiredData(anyInt());
+        verify(permissionTicketRepository).purgeExpiredData(anyInt());
+        verify(authorizationCodeRepository).purgeExpiredData(anyInt());
+        verify(scopeApprovalRepository).purgeExpiredData(anyInt());
+        verify(refreshTokenRepository).purgeExpiredData(anyInt());
+        verify(requestObjectRepository).purgeExpiredData(anyInt());
+        verify(authenticationFlowContextRepository).purgeExpiredData(anyInt());
+    }
+
+    @Test
+    public void testCompactEvents() {
+        manager.eventsRetention = 60;
+        when(eventRepository.compact(any(), eq(10))).thenReturn(Single.just(10L), Single.just(4L));
+
+        final long before = System.currentTimeMillis() - 60000;
+        manager.purge(null);
+
+        verify(eventRepository, times(2)).compact(argThat(date -> date.getTime() >= before && date.getTime() <= System.currentTimeMillis() - 60000), eq(10));
+    }
+
+    @Test
+    public void testExclude_Events() {
+        manager.purge(Arrays.asList(TableName.events));
+
+        verify(eventRepository, never()).compact(any(Date.class), anyInt());
+        verify(accessTokenRepository).purgeExpiredData(anyInt());
+    }
+
+    @Test
+    public void testBatches_untilNoMoreExpiredData() {
+        when(accessTokenRepository.purgeExpiredData(10)).thenReturn(Single.just(10L), Single.just(10L), Single.just(3L));
+
+        manager.purge(null);
+
+        verify(accessTokenRepository, times(3)).purgeExpiredData(10);
+        verify(refreshTokenRepository).purgeExpiredData(10);
+    }
+
+    @Test
+    public void testBatches_retryOnError() {
+        when(accessTokenRepository.purgeExpiredData(10)).thenReturn(Single.error(new IllegalStateException("lock timeout")), Single.just(2L));
+
+        manager.purge(null);
+
+        verify(accessTokenRepository, times(2)).purgeExpiredData(10);
+        verify(refreshTokenRepository).purgeExpiredData(10);
+    }
+
+    @Test
+    public void testBatches_skipTableAfterMaxRetries() {
+        manager.maxRetries = 2;
+        when(accessTokenRepository.purgeExpiredData(10)).thenReturn(Single.error(new IllegalStateException("lock timeout")));
+
+        manager.purge(null);
+
+        verify(accessTokenRepository, times(3)).purgeExpiredData(10);
+        verify(loginAttemptRepository).purgeExpiredData(10);
+        verify(refreshTokenRepository).purgeExpiredData(10);
+        verify(authenticationFlowContextRepository).purgeExpiredData(10);
     }
 }
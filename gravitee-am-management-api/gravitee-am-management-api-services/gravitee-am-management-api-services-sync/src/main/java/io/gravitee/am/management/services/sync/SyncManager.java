@@ -17,34 +17,58 @@ package io.gravitee.am.management.services.sync;
 
 import io.gravitee.am.model.common.event.Event;
 import io.gravitee.am.service.EventService;
+import io.gravitee.am.service.sync.EventLogReader;
 import io.gravitee.common.event.EventManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 
-import java.util.*;
-import java.util.function.BinaryOperator;
-
-import static java.util.Comparator.comparing;
-import static java.util.stream.Collectors.toMap;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
  * @author GraviteeSource Team
  */
-public class SyncManager {
+public class SyncManager implements InitializingBean {
 
     private final Logger logger = LoggerFactory.getLogger(SyncManager.class);
 
-    @Autowired
-    private EventService eventService;
+    private final EventService eventService;
 
     @Autowired
     private EventManager eventManager;
 
-    private long lastRefreshAt = System.currentTimeMillis();
+    @Value("${services.sync.batchSize:1000}")
+    private int batchSize;
+
+    @Value("${services.sync.gapTimeout:10000}")
+    private long gapTimeout;
+
+    private final long initialPosition;
 
-    private long lastDelay = 0;
+    private EventLogReader eventLogReader;
+
+    /**
+     * The position is taken when the bean is created, before the managers load their entities, so that the changes made
+     * meanwhile are read from the event log. Starting without it would silently skip these changes.
+     */
+    public SyncManager(EventService eventService) {
+        this.eventService = eventService;
+        try {
+            this.initialPosition = eventService.findLastSequence().blockingGet();
+        } catch (Exception ex) {
+            throw new IllegalStateException("Unable to read the last sequence of the event log", ex);
+        }
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        eventLogReader = new EventLogReader(gapTimeout);
+        eventLogReader.setPosition(initialPosition);
+    }
 
     public void refresh() {
         logger.debug("Refreshing sync state...");
@@ -57,27 +81,28 @@ public class SyncManager {
     }
 
     private void processEvents() {
-
-        long nextLastRefreshAt = System.currentTimeMillis();
-
-        // search for events and compute them
-        logger.debug("Events synchronization");
-        List<Event> events = eventService.findByTimeFrame(lastRefreshAt - lastDelay, nextLastRefreshAt).blockingGet();
-
-        if (events != null && !events.isEmpty()) {
-            // Extract only the latest events by type and id
-            Map<AbstractMap.SimpleEntry, Event> sortedEvents = events
-                    .stream()
-                    .collect(
-                            toMap(
-                                    event -> new AbstractMap.SimpleEntry<>(event.getType(), event.getPayload().getId()),
-                                    event -> event, BinaryOperator.maxBy(comparing(Event::getCreatedAt)), LinkedHashMap::new));
-            computeEvents(sortedEvents.values());
-        }
-
-        lastRefreshAt = nextLastRefreshAt;
-        lastDelay = System.currentTimeMillis() - nextLastRefreshAt;
-
+        // read the events after the last position and compute them
+        logger.debug("Events synchronization from sequence {}", eventLogReader.getPosition());
+
+        long after = eventLogReader.getPosition();
+        List<Event> events;
+        do {
+            events = eventService.findAfterSequence(after, batchSize).blockingGet();
+
+            // Extract only the latest events by type and id, skipping the entity versions already propagated
+            final EventLogReader.Checkpoint checkpoint = eventLogReader.checkpoint();
+            List<Event> changes = eventLogReader.read(events);
+            try {
+                if (!changes.isEmpty()) {
+                    computeEvents(changes);
+                }
+            } catch (RuntimeException ex) {
+                // the events of this page are read again by the next refresh, the ones already applied only reload their entity
+                eventLogReader.restore(checkpoint);
+                throw ex;
+            }
+            after = EventLogReader.nextPage(events, after);
+        } while (events.size() == batchSize);
     }
 
     private void computeEvents(Collection<Event> events) {
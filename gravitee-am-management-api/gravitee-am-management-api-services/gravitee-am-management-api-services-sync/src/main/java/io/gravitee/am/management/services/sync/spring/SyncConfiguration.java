@@ -16,6 +16,7 @@
 package io.gravitee.am.management.services.sync.spring;
 
 import io.gravitee.am.management.services.sync.SyncManager;
+import io.gravitee.am.service.EventService;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.TaskScheduler;
@@ -29,8 +30,8 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 public class SyncConfiguration {
 
     @Bean
-    public SyncManager syncStateManager() {
-        return new SyncManager();
+    public SyncManager syncStateManager(EventService eventService) {
+        return new SyncManager(eventService);
     }
 
     @Bean
@@ -0,0 +1,154 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.management.services.sync;
+
+import io.gravitee.am.common.event.Action;
+import io.gravitee.am.common.event.Type;
+import io.gravitee.am.model.ReferenceType;
+import io.gravitee.am.model.common.event.Event;
+import io.gravitee.am.model.common.event.Payload;
+import io.gravitee.am.service.EventService;
+import io.gravitee.am.service.exception.TechnicalManagementException;
+import io.gravitee.common.event.EventManager;
+import io.reactivex.Single;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class SyncManagerTest {
+
+    @Mock
+    private EventService eventService;
+
+    @Mock
+    private EventManager eventManager;
+
+    private SyncManager syncManager;
+
+    @Test
+    public void shouldStartFromLastSequence() {
+        when(eventService.findLastSequence()).thenReturn(Single.just(42L));
+        when(eventService.findAfterSequence(42L, 2)).thenReturn(Single.just(Collections.emptyList()));
+
+        syncManager = newSyncManager();
+        syncManager.refresh();
+
+        verify(eventService, times(1)).findLastSequence();
+        verify(eventService, times(1)).findAfterSequence(42L, 2);
+        verify(eventManager, never()).publishEvent(any(), any());
+    }
+
+    @Test
+    public void shouldReadAllPages() {
+        Event event1 = event(43L, Type.IDENTITY_PROVIDER, "idp-1");
+        Event event2 = event(44L, Type.CERTIFICATE, "cert-1");
+        Event event3 = event(45L, Type.REPORTER, "reporter-1");
+        when(eventService.findLastSequence()).thenReturn(Single.just(42L));
+        when(eventService.findAfterSequence(42L, 2)).thenReturn(Single.just(Arrays.asList(event1, event2)));
+        when(eventService.findAfterSequence(44L, 2)).thenReturn(Single.just(Collections.singletonList(event3)));
+        when(eventService.findAfterSequence(45L, 2)).thenReturn(Single.just(Collections.emptyList()));
+
+        syncManager = newSyncManager();
+        // the first page is full, the next one is read by the same refresh
+        syncManager.refresh();
+        syncManager.refresh();
+
+        verify(eventService, times(1)).findAfterSequence(42L, 2);
+        verify(eventService, times(1)).findAfterSequence(44L, 2);
+        verify(eventService, times(1)).findAfterSequence(45L, 2);
+        verify(eventManager, times(1)).publishEvent(io.gravitee.am.common.event.Event.valueOf(Type.IDENTITY_PROVIDER, Action.UPDATE), event1.getPayload());
+        verify(eventManager, times(1)).publishEvent(io.gravitee.am.common.event.Event.valueOf(Type.CERTIFICATE, Action.UPDATE), event2.getPayload());
+        verify(eventManager, times(1)).publishEvent(io.gravitee.am.common.event.Event.valueOf(Type.REPORTER, Action.UPDATE), event3.getPayload());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldNotStart_lastSequenceUnavailable() {
+        when(eventService.findLastSequence()).thenReturn(Single.error(new TechnicalManagementException("error")));
+
+        new SyncManager(eventService);
+    }
+
+    @Test
+    public void shouldReadEventsAgain_afterPublishFailure() {
+        Event event = event(43L, Type.IDENTITY_PROVIDER, "idp-1");
+        when(eventService.findLastSequence()).thenReturn(Single.just(42L));
+        when(eventService.findAfterSequence(42L, 2)).thenReturn(Single.just(Collections.singletonList(event)));
+        when(eventService.findAfterSequence(43L, 2)).thenReturn(Single.just(Collections.emptyList()));
+        doThrow(new IllegalStateException("error")).doNothing().when(eventManager).publishEvent(any(), eq(event.getPayload()));
+
+        syncManager = newSyncManager();
+        syncManager.refresh();
+
+        // the position has not moved, the event is read again by the next refresh
+        syncManager.refresh();
+        syncManager.refresh();
+
+        verify(eventService, times(2)).findAfterSequence(42L, 2);
+        verify(eventService, times(1)).findAfterSequence(43L, 2);
+        verify(eventManager, times(2)).publishEvent(any(), eq(event.getPayload()));
+    }
+
+    @Test
+    public void shouldReadPageAgain_afterFailure() {
+        Event event = event(43L, Type.IDENTITY_PROVIDER, "idp-1");
+        when(eventService.findLastSequence()).thenReturn(Single.just(42L));
+        when(eventService.findAfterSequence(42L, 2))
+                .thenReturn(Single.error(new TechnicalManagementException("error")))
+                .thenReturn(Single.just(Collections.singletonList(event)));
+        when(eventService.findAfterSequence(43L, 2)).thenReturn(Single.just(Collections.emptyList()));
+
+        syncManager = newSyncManager();
+        syncManager.refresh();
+        verify(eventManager, never()).publishEvent(any(), any());
+
+        // the position has not moved, the events are read by the next refresh
+        syncManager.refresh();
+        syncManager.refresh();
+
+        verify(eventService, times(2)).findAfterSequence(42L, 2);
+        verify(eventService, times(1)).findAfterSequence(43L, 2);
+        verify(eventManager, times(1)).publishEvent(any(), eq(event.getPayload()));
+    }
+
+    private SyncManager newSyncManager() {
+        SyncManager syncManager = new SyncManager(eventService);
+        ReflectionTestUtils.setField(syncManager, "eventManager", eventManager);
+        ReflectionTestUtils.setField(syncManager, "batchSize", 2);
+        ReflectionTestUtils.setField(syncManager, "gapTimeout", 60000L);
+        syncManager.afterPropertiesSet();
+        return syncManager;
+    }
+
+    private static Event event(long sequence, Type type, String entityId) {
+        Event event = new Event(type, new Payload(entityId, ReferenceType.DOMAIN, "domain-1", Action.UPDATE));
+        event.setId("event-" + sequence);
+        event.setSequence(sequence);
+        return event;
+    }
+}
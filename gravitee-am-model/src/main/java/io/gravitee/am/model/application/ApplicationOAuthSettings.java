@@ -262,6 +262,11 @@ public class ApplicationOAuthSettings {
      */
     private boolean forcePKCE;
 
+    /**
+     * Do not persist issued access tokens, rely on the JWT validity and the revocation list instead
+     */
+    private boolean statelessAccessToken;
+
     /**
      * Array of URLs supplied by the RP to which it MAY request that the End-User's User Agent be redirected using the post_logout_redirect_uri parameter after a logout has been performed.
      */
@@ -327,6 +332,7 @@ public class ApplicationOAuthSettings {
         this.authorizationEncryptedResponseAlg = other.authorizationEncryptedResponseAlg;
         this.authorizationEncryptedResponseEnc = other.authorizationEncryptedResponseEnc;
         this.forcePKCE = other.forcePKCE;
+        this.statelessAccessToken = other.statelessAccessToken;
         this.postLogoutRedirectUris = other.postLogoutRedirectUris;
     }
 
@@ -778,6 +784,14 @@ public class ApplicationOAuthSettings {
         this.forcePKCE = forcePKCE;
     }
 
+    public boolean isStatelessAccessToken() {
+        return statelessAccessToken;
+    }
+
+    public void setStatelessAccessToken(boolean statelessAccessToken) {
+        this.statelessAccessToken = statelessAccessToken;
+    }
+
     public List<String> getPostLogoutRedirectUris() {
         return postLogoutRedirectUris;
     }
@@ -842,6 +856,7 @@ public class ApplicationOAuthSettings {
         client.setAuthorizationEncryptedResponseAlg(this.authorizationEncryptedResponseAlg);
         client.setAuthorizationEncryptedResponseEnc(this.authorizationEncryptedResponseEnc);
         client.setForcePKCE(this.forcePKCE);
+        client.setStatelessAccessToken(this.statelessAccessToken);
         client.setPostLogoutRedirectUris(this.postLogoutRedirectUris);
     }
 }
@@ -26,6 +26,7 @@ import java.util.Date;
 public class Event {
 
     private String id;
+    private Long sequence;
     private Type type;
     private Payload payload;
     private Date createdAt;
@@ -46,6 +47,17 @@ public class Event {
         this.id = id;
     }
 
+    /**
+     * @return the position of the event in the event log, assigned by the repository when the event is created
+     */
+    public Long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(Long sequence) {
+        this.sequence = sequence;
+    }
+
     public Type getType() {
         return type;
     }
@@ -82,6 +94,7 @@ public class Event {
     public String toString() {
         return "{\"_class\":\"Event\", " +
                 "\"id\":" + (id == null ? "null" : "\"" + id + "\"") + ", " +
+                "\"sequence\":" + (sequence == null ? "null" : sequence) + ", " +
                 "\"type\":" + (type == null ? "null" : type) + ", " +
                 "\"payload\":" + (payload == null ? "null" : payload) + ", " +
                 "\"createdAt\":" + (createdAt == null ? "null" : createdAt) + ", " +
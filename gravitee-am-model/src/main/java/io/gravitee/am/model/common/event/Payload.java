@@ -18,6 +18,7 @@ package io.gravitee.am.model.common.event;
 import io.gravitee.am.common.event.Action;
 import io.gravitee.am.model.ReferenceType;
 
+import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -31,6 +32,7 @@ public class Payload extends HashMap<String, Object> {
     private static final String REFERENCE_TYPE = "referenceType";
     private static final String REFERENCE_ID = "referenceId";
     private static final String ACTION = "action";
+    private static final String VERSION = "version";
 
     public Payload(String id, ReferenceType referenceType, String referenceId, Action action) {
         put(ID, id);
@@ -41,6 +43,13 @@ public class Payload extends HashMap<String, Object> {
         put(ACTION, action);
     }
 
+    public Payload(String id, ReferenceType referenceType, String referenceId, Action action, Date version) {
+        this(id, referenceType, referenceId, action);
+        if (version != null) {
+            put(VERSION, version.getTime());
+        }
+    }
+
     public Payload(Map<? extends String, ?> m) {
         super(m);
     }
@@ -65,4 +74,13 @@ public class Payload extends HashMap<String, Object> {
     public Action getAction() {
         return (Action) get(ACTION);
     }
+
+    /**
+     * @return the last update date (in milliseconds) of the entity targeted by the event,
+     * or <code>null</code> if the event doesn't carry the version of the entity (deletion, old events, ...)
+     */
+    public Long getVersion() {
+        Object version = get(VERSION);
+        return version instanceof Number ? ((Number) version).longValue() : null;
+    }
 }
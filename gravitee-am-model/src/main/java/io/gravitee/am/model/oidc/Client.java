@@ -200,6 +200,8 @@ public class Client implements Cloneable, Resource, PasswordSettingsAware {
 
     private boolean forcePKCE;
 
+    private boolean statelessAccessToken;
+
     private List<String> postLogoutRedirectUris;
 
     private boolean flowsInherited;
@@ -274,6 +276,7 @@ public class Client implements Cloneable, Resource, PasswordSettingsAware {
         this.authorizationEncryptedResponseAlg = other.authorizationEncryptedResponseAlg;
         this.authorizationEncryptedResponseEnc = other.authorizationEncryptedResponseEnc;
         this.forcePKCE = other.forcePKCE;
+        this.statelessAccessToken = other.statelessAccessToken;
         this.postLogoutRedirectUris = other.postLogoutRedirectUris;
         this.flowsInherited = other.flowsInherited;
         this.mfaSettings = other.mfaSettings;
@@ -836,6 +839,14 @@ public class Client implements Cloneable, Resource, PasswordSettingsAware {
         this.forcePKCE = forcePKCE;
     }
 
+    public boolean isStatelessAccessToken() {
+        return statelessAccessToken;
+    }
+
+    public void setStatelessAccessToken(boolean statelessAccessToken) {
+        this.statelessAccessToken = statelessAccessToken;
+    }
+
     public List<String> getPostLogoutRedirectUris() {
         return postLogoutRedirectUris;
     }
@@ -19,6 +19,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.google.common.base.CaseFormat;
 import io.gravitee.am.common.analytics.Type;
 import io.gravitee.am.common.audit.Status;
+import io.gravitee.am.common.pool.SharedPoolRegistry;
 import io.gravitee.am.model.ReferenceType;
 import io.gravitee.am.model.common.Page;
 import io.gravitee.am.reporter.api.audit.AuditReportableCriteria;
@@ -38,7 +39,6 @@ import io.gravitee.am.reporter.jdbc.spring.JdbcReporterSpringConfiguration;
 import io.gravitee.am.reporter.jdbc.utils.JSONMapper;
 import io.gravitee.common.service.AbstractService;
 import io.gravitee.reporter.api.Reportable;
-import io.r2dbc.pool.ConnectionPool;
 import io.r2dbc.spi.ConnectionFactory;
 import io.reactivex.Flowable;
 import io.reactivex.Maybe;
@@ -108,7 +108,7 @@ public class JdbcAuditReporter extends AbstractService implements AuditReporter,
     private DialectHelper dialectHelper;
 
     @Autowired
-    private ConnectionFactory connectionFactory;
+    private SharedPoolRegistry.Lease<ConnectionFactory> connectionFactoryLease;
 
     private final PublishProcessor<Audit> bulkProcessor = PublishProcessor.create();
 
@@ -556,15 +556,11 @@ public class JdbcAuditReporter extends AbstractService implements AuditReporter,
                 }
             }
 
-            if (this.connectionFactory != null && this.connectionFactory instanceof ConnectionPool) {
-                ConnectionPool connectionFactory = (ConnectionPool) this.connectionFactory;
-                if (!connectionFactory.isDisposed()) {
-                    // dispose is a blocking call, use the non blocking one to avoid error
-                    connectionFactory.disposeLater().subscribe();
-                }
+            if (this.connectionFactoryLease != null) {
+                this.connectionFactoryLease.release();
             }
         } catch (Exception ex) {
-            LOGGER.error("Failed to close JDBC client", ex);
+            LOGGER.error("Failed to release JDBC client", ex);
         }
     }
 }
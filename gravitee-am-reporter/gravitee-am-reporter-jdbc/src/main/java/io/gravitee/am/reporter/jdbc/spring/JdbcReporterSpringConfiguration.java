@@ -15,9 +15,11 @@
  */
 package io.gravitee.am.reporter.jdbc.spring;
 
+import io.gravitee.am.common.pool.SharedPoolRegistry;
 import io.gravitee.am.reporter.jdbc.JdbcReporterConfiguration;
 import io.gravitee.am.reporter.jdbc.dialect.*;
 import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.PoolMetrics;
 import io.r2dbc.pool.PoolingConnectionFactoryProvider;
 import io.r2dbc.spi.ConnectionFactories;
 import io.r2dbc.spi.ConnectionFactory;
@@ -37,6 +39,8 @@ import org.springframework.transaction.ReactiveTransactionManager;
 
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
 import static io.r2dbc.spi.ConnectionFactoryOptions.*;
@@ -79,10 +83,40 @@ public class JdbcReporterSpringConfiguration extends AbstractR2dbcConfiguration
         return dialect;
     }
 
-    @Override
     @Bean
+    public SharedPoolRegistry.Lease<ConnectionFactory> connectionFactoryLease() {
+        // pools are shared between the reporters of all the domains targeting the same database
+        final List<Object> sharingKey = Arrays.asList(configuration.getDriver(), configuration.getHost(),
+                configuration.getPort(), configuration.getUsername(), configuration.getPassword(),
+                configuration.getDatabase(), configuration.getAcquireRetry(), configuration.getInitialSize(),
+                configuration.getMaxSize(), configuration.getMaxIdleTime(), configuration.getMaxLifeTime(),
+                configuration.getMaxAcquireTime(), configuration.getMaxCreateConnectionTime(),
+                configuration.getValidationQuery());
+
+        return SharedPoolRegistry.getInstance().acquire("reporter-jdbc", sharingKey,
+                Optional.ofNullable(configuration.getMaxSize()).orElse(10),
+                this::buildConnectionFactory, this::disposeConnectionFactory, this::acquiredConnections);
+    }
+
+    @Override
+    @Bean(destroyMethod = "")
     public ConnectionFactory connectionFactory() {
-        return buildConnectionFactory();
+        // the pool is disposed by the pool registry once no reporter uses it anymore
+        return connectionFactoryLease().get();
+    }
+
+    private void disposeConnectionFactory(ConnectionFactory connectionFactory) {
+        if (connectionFactory instanceof ConnectionPool && !((ConnectionPool) connectionFactory).isDisposed()) {
+            // dispose is a blocking call, use the non blocking one to avoid error
+            ((ConnectionPool) connectionFactory).disposeLater().subscribe();
+        }
+    }
+
+    private int acquiredConnections(ConnectionFactory connectionFactory) {
+        if (connectionFactory instanceof ConnectionPool) {
+            return ((ConnectionPool) connectionFactory).getMetrics().map(PoolMetrics::acquiredSize).orElse(-1);
+        }
+        return -1;
     }
 
     protected ConnectionFactory buildConnectionFactory() {
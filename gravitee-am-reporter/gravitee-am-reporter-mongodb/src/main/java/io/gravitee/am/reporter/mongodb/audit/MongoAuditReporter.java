@@ -24,6 +24,7 @@ import com.mongodb.reactivestreams.client.MongoClient;
 import com.mongodb.reactivestreams.client.MongoCollection;
 import io.gravitee.am.common.analytics.Type;
 import io.gravitee.am.common.audit.Status;
+import io.gravitee.am.common.pool.SharedPoolRegistry;
 import io.gravitee.am.model.ReferenceType;
 import io.gravitee.am.model.common.Page;
 import io.gravitee.am.reporter.api.audit.AuditReportableCriteria;
@@ -39,12 +40,16 @@ import io.gravitee.am.reporter.mongodb.audit.model.AuditMongo;
 import io.gravitee.am.reporter.mongodb.audit.model.AuditOutcomeMongo;
 import io.gravitee.common.service.AbstractService;
 import io.gravitee.reporter.api.Reportable;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import io.reactivex.Flowable;
 import io.reactivex.Maybe;
 import io.reactivex.Observable;
 import io.reactivex.Single;
 import io.reactivex.disposables.Disposable;
 import io.reactivex.processors.PublishProcessor;
+import io.vertx.micrometer.backends.BackendRegistries;
 import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.slf4j.Logger;
@@ -57,6 +62,7 @@ import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import static com.mongodb.client.model.Filters.*;
@@ -82,6 +88,9 @@ public class MongoAuditReporter extends AbstractService implements AuditReporter
     @Autowired
     private MongoClient mongoClient;
 
+    @Autowired
+    private SharedPoolRegistry.Lease<MongoClient> mongoClientLease;
+
     @Autowired
     private MongoReporterConfiguration configuration;
 
@@ -91,6 +100,13 @@ public class MongoAuditReporter extends AbstractService implements AuditReporter
 
     private Disposable disposable;
 
+    /**
+     * Audits reported but not handed to the bulk processor yet.
+     */
+    private final AtomicLong pendingAudits = new AtomicLong();
+
+    private Gauge pendingAuditsGauge;
+
     @Override
     public boolean canSearch() {
         return true;
@@ -129,6 +145,7 @@ public class MongoAuditReporter extends AbstractService implements AuditReporter
 
     @Override
     public void report(Reportable reportable) {
+        pendingAudits.incrementAndGet();
         bulkProcessor
                 .onNext((Audit) reportable);
     }
@@ -143,9 +160,16 @@ public class MongoAuditReporter extends AbstractService implements AuditReporter
                 configuration.getFlushInterval(),
                 TimeUnit.SECONDS,
                 configuration.getBulkActions())
+                .doOnNext(audits -> pendingAudits.addAndGet(-audits.size()))
                 .flatMap(this::bulk)
                 .doOnError(throwable -> logger.error("An error occurs while indexing data into MongoDB", throwable))
                 .subscribe();
+
+        pendingAuditsGauge = Gauge.builder("am_reporter_queue_size", pendingAudits, AtomicLong::get)
+                .description("Audits waiting to be written by the bulk processor")
+                .tag("reporter", "mongodb")
+                .tag("collection", configuration.getReportableCollection())
+                .register(registry());
     }
 
     @Override
@@ -166,12 +190,20 @@ public class MongoAuditReporter extends AbstractService implements AuditReporter
                 logger.debug("The bulk processor is processing data, wait.");
             }
 
-            mongoClient.close();
+            registry().remove(pendingAuditsGauge);
+
+            mongoClientLease.release();
         } catch (Exception ex) {
-            logger.error("Failed to close mongoDB client", ex);
+            logger.error("Failed to release mongoDB client", ex);
         }
     }
 
+    private static MeterRegistry registry() {
+        // the node registry, exposed by the node monitoring endpoint when metrics are enabled
+        MeterRegistry registry = BackendRegistries.getDefaultNow();
+        return registry != null ? registry : Metrics.globalRegistry;
+    }
+
     private Single<Map<Object, Object>> executeHistogram(AuditReportableCriteria criteria, Bson query) {
         // NOTE : MongoDB does not return count : 0 if there is no matching document in the given time range, we need to add it by hand
         Map<Long, Long> intervals = intervals(criteria);
@@ -20,14 +20,21 @@ import com.mongodb.MongoCredential;
 import com.mongodb.ServerAddress;
 import com.mongodb.WriteConcern;
 import com.mongodb.connection.ClusterSettings;
+import com.mongodb.event.ConnectionCheckedInEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionPoolListener;
 import com.mongodb.reactivestreams.client.MongoClient;
 import com.mongodb.reactivestreams.client.MongoClients;
+import io.gravitee.am.common.pool.SharedPoolRegistry;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.codecs.pojo.PojoCodecProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static java.util.Arrays.asList;
 import static org.bson.codecs.configuration.CodecRegistries.fromProviders;
 import static org.bson.codecs.configuration.CodecRegistries.fromRegistries;
@@ -43,10 +50,30 @@ public class MongoReporterConfiguration {
     private io.gravitee.am.reporter.mongodb.MongoReporterConfiguration configuration;
 
     @Bean
-    public MongoClient mongoClient() {
+    public SharedPoolRegistry.Lease<MongoClient> mongoClientLease() {
+        final ConnectionCounter connectionCounter = new ConnectionCounter();
+        final com.mongodb.MongoClientSettings settings = mongoClientSettings(connectionCounter);
+        // clients are shared between the reporters of all the domains targeting the same server
+        final List<Object> sharingKey = asList(configuration.getUri(), configuration.getHost(), configuration.getPort(),
+                configuration.isEnableCredentials(), configuration.getUsernameCredentials(),
+                configuration.getDatabaseCredentials(), configuration.getPasswordCredentials());
+
+        return SharedPoolRegistry.getInstance().acquire("reporter-mongodb", sharingKey,
+                settings.getConnectionPoolSettings().getMaxSize(),
+                () -> MongoClients.create(settings), MongoClient::close, client -> connectionCounter.get());
+    }
+
+    @Bean(destroyMethod = "")
+    public MongoClient mongoClient(SharedPoolRegistry.Lease<MongoClient> mongoClientLease) {
+        // the client is closed by the pool registry once no reporter uses it anymore
+        return mongoClientLease.get();
+    }
+
+    private com.mongodb.MongoClientSettings mongoClientSettings(ConnectionPoolListener connectionPoolListener) {
         // Client settings
         com.mongodb.MongoClientSettings.Builder builder = com.mongodb.MongoClientSettings.builder();
         builder.writeConcern(WriteConcern.ACKNOWLEDGED);
+        builder.applyToConnectionPoolSettings(builder1 -> builder1.addConnectionPoolListener(connectionPoolListener));
 
         // codec configuration for pojo mapping
         CodecRegistry pojoCodecRegistry = fromRegistries(MongoClients.getDefaultCodecRegistry(),
@@ -56,12 +83,10 @@ public class MongoReporterConfiguration {
         if ((this.configuration.getUri() != null) && (!this.configuration.getUri().isEmpty())) {
             // The builder can be configured with default options, which may be overridden by options specified in
             // the URI string.
-            com.mongodb.MongoClientSettings settings = builder
+            return builder
                     .codecRegistry(pojoCodecRegistry)
                     .applyConnectionString(new ConnectionString(this.configuration.getUri()))
                     .build();
-
-            return MongoClients.create(settings);
         } else {
             // Manual configuration
             // Servers host
@@ -77,10 +102,25 @@ public class MongoReporterConfiguration {
                 builder.credential(credential);
             }
 
-            com.mongodb.MongoClientSettings settings = builder
+            return builder
                     .applyToClusterSettings(builder1 -> builder1.applySettings(clusterSettings))
                     .build();
-            return MongoClients.create(settings);
+        }
+    }
+
+    /**
+     * Count the connections checked out of the client pool.
+     */
+    private static class ConnectionCounter extends AtomicInteger implements ConnectionPoolListener {
+
+        @Override
+        public void connectionCheckedOut(ConnectionCheckedOutEvent event) {
+            incrementAndGet();
+        }
+
+        @Override
+        public void connectionCheckedIn(ConnectionCheckedInEvent event) {
+            decrementAndGet();
         }
     }
 }
@@ -0,0 +1,43 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.common;
+
+import io.reactivex.Completable;
+import io.reactivex.Single;
+
+/**
+ * Repository of data having an expiration date, deleted by the purge service when the backend is not able to expire
+ * them by itself.
+ *
+ * @author GraviteeSource Team
+ */
+public interface ExpiredDataSweeper {
+
+    default Completable purgeExpiredData() {
+        return Completable.complete();
+    }
+
+    /**
+     * Delete a bounded batch of expired data, so that the purge does not hold locks on the whole table.
+     * By default all the expired data are deleted at once and no count is reported.
+     *
+     * @param batchSize maximum number of entries to delete
+     * @return the number of deleted entries, lower than the batch size once no more expired data remain
+     */
+    default Single<Long> purgeExpiredData(int batchSize) {
+        return purgeExpiredData().toSingleDefault(0L);
+    }
+}
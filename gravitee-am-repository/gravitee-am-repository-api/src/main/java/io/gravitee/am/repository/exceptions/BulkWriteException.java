@@ -0,0 +1,40 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.exceptions;
+
+import java.util.Set;
+
+/**
+ * A bulk write which has been partially applied, the entries which are not listed have been written.
+ *
+ * @author GraviteeSource Team
+ */
+public class BulkWriteException extends TechnicalException {
+
+    private final Set<String> failedIds;
+
+    public BulkWriteException(Set<String> failedIds, Throwable cause) {
+        super("Unable to write " + failedIds.size() + " entries of the bulk operation", cause);
+        this.failedIds = failedIds;
+    }
+
+    /**
+     * @return the ids of the entries which have not been written
+     */
+    public Set<String> getFailedIds() {
+        return failedIds;
+    }
+}
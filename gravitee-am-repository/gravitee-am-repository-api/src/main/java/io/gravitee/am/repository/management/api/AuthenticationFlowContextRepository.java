@@ -16,6 +16,7 @@
 package io.gravitee.am.repository.management.api;
 
 import io.gravitee.am.model.AuthenticationFlowContext;
+import io.gravitee.am.repository.common.ExpiredDataSweeper;
 import io.reactivex.Completable;
 import io.reactivex.Flowable;
 import io.reactivex.Maybe;
@@ -26,7 +27,7 @@ import io.reactivex.Single;
  * @author Eric LELEU (eric.leleu at graviteesource.com)
  * @author GraviteeSource Team
  */
-public interface AuthenticationFlowContextRepository {
+public interface AuthenticationFlowContextRepository extends ExpiredDataSweeper {
     Maybe<AuthenticationFlowContext> findById(String id);
     /**
      * Find last context data for given sessionId
@@ -64,8 +65,4 @@ public interface AuthenticationFlowContextRepository {
      * @return acknowledge of the operation
      */
     Completable delete(String transactionId, int version);
-
-    default Completable purgeExpiredData() {
-        return Completable.complete();
-    }
 }
@@ -20,7 +20,7 @@ import io.gravitee.am.repository.common.CrudRepository;
 import io.reactivex.Flowable;
 import io.reactivex.Single;
 
-import java.util.List;
+import java.util.Date;
 
 /**
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
@@ -30,4 +30,27 @@ public interface EventRepository extends CrudRepository<Event, String> {
 
     Flowable<Event> findByTimeFrame(long from, long to);
 
+    /**
+     * Find the events written in the event log after the given sequence.
+     *
+     * @param sequence sequence of the last event already read
+     * @param limit maximum number of events to return
+     * @return the events ordered by sequence
+     */
+    Flowable<Event> findAfterSequence(long sequence, int limit);
+
+    /**
+     * @return the sequence of the last event written in the event log, 0 if the event log is empty
+     */
+    Single<Long> findLastSequence();
+
+    /**
+     * Delete a bounded batch of the events created before the given date and superseded by a more recent event
+     * targeting the same entity (same type and payload id), so that only the latest event of each entity is kept.
+     *
+     * @param before only the events created before this date are deleted
+     * @param batchSize maximum number of events to delete
+     * @return the number of deleted events, lower than the batch size once no more superseded events remain
+     */
+    Single<Long> compact(Date before, int batchSize);
 }
@@ -19,10 +19,12 @@ import io.gravitee.am.model.Group;
 import io.gravitee.am.model.ReferenceType;
 import io.gravitee.am.model.common.Page;
 import io.gravitee.am.repository.common.CrudRepository;
+import io.reactivex.Completable;
 import io.reactivex.Flowable;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
 
+import java.util.Date;
 import java.util.List;
 
 /**
@@ -42,4 +44,17 @@ public interface GroupRepository extends CrudRepository<Group, String> {
     Maybe<Group> findByName(ReferenceType referenceType, String referenceId, String groupName);
 
     Maybe<Group> findById(ReferenceType referenceType, String referenceId, String group);
+
+    /**
+     * Add and remove members of a group without rewriting the whole group, so that the cost of the operation
+     * depends on the number of changed members and not on the size of the group.
+     * Adding an existing member or removing an unknown member has no effect.
+     *
+     * @param groupId group to update
+     * @param addedMembers members to add to the group
+     * @param removedMembers members to remove from the group
+     * @param updatedAt new last update date of the group
+     * @return acknowledge of the operation
+     */
+    Completable updateMembers(String groupId, List<String> addedMembers, List<String> removedMembers, Date updatedAt);
 }
@@ -17,16 +17,12 @@ package io.gravitee.am.repository.management.api;
 
 import io.gravitee.am.model.uma.PermissionTicket;
 import io.gravitee.am.repository.common.CrudRepository;
-import io.reactivex.Completable;
+import io.gravitee.am.repository.common.ExpiredDataSweeper;
 import io.reactivex.Maybe;
 
 /**
  * @author Alexandre FARIA (contact at alexandrefaria.net)
  * @author GraviteeSource Team
  */
-public interface PermissionTicketRepository  extends CrudRepository<PermissionTicket, String> {
-
-    default Completable purgeExpiredData() {
-        return Completable.complete();
-    }
+public interface PermissionTicketRepository extends CrudRepository<PermissionTicket, String>, ExpiredDataSweeper {
 }
@@ -21,6 +21,7 @@ import io.gravitee.am.model.analytics.AnalyticsQuery;
 import io.gravitee.am.model.common.Page;
 import io.gravitee.am.repository.common.CrudRepository;
 import io.gravitee.am.repository.management.api.search.FilterCriteria;
+import io.reactivex.Completable;
 import io.reactivex.Flowable;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
@@ -39,6 +40,27 @@ public interface UserRepository extends CrudRepository<User, String> {
 
     Single<Page<User>> findAll(ReferenceType referenceType, String referenceId, int page, int size);
 
+    /**
+     * Keyset pagination over the users of a reference: users are ordered by id and no total count is computed,
+     * so that walking through a large reference does not degrade page after page.
+     *
+     * @param lastId id of the last user of the previous page, <code>null</code> for the first page
+     * @param size maximum number of users to return
+     * @return the users having an id greater than <code>lastId</code>, ordered by id
+     */
+    Flowable<User> findAllAfter(ReferenceType referenceType, String referenceId, String lastId, int size);
+
+    /**
+     * Create or replace the given users (matched by reference and id) in a single bulk operation.
+     * The operation fails if an id is already used by a user of another reference.
+     * When only some of the users have been written, the operation fails with a
+     * {@link io.gravitee.am.repository.exceptions.BulkWriteException} listing the ids of the others.
+     *
+     * @param users users to write, their id must be set
+     * @return acknowledge of the operation
+     */
+    Completable bulkWrite(List<User> users);
+
     Single<Page<User>> search(ReferenceType referenceType, String referenceId, String query, int page, int size);
 
     Single<Page<User>> search(ReferenceType referenceType, String referenceId, FilterCriteria criteria, int page, int size);
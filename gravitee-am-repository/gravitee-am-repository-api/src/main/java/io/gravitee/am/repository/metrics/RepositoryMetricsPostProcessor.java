@@ -0,0 +1,180 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.reactivex.Completable;
+import io.reactivex.Flowable;
+import io.reactivex.Maybe;
+import io.reactivex.Single;
+import io.vertx.micrometer.backends.BackendRegistries;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Time the calls made to the repositories of a repository plugin, by repository and method.
+ *
+ * The repositories are wrapped with a proxy implementing the same interfaces, each method returning a reactive type
+ * records its latency from the subscription to the termination (or cancellation) of the returned source.
+ * Timers are created on the first call of a method (the number of meters is bounded by the repository API) and the
+ * node registry is looked up on each call: the plugins are loaded before the node registry is available.
+ *
+ * This post processor has to be declared by the plugin application context: repositories are registered as singletons
+ * in the node context, where they are not post processed anymore.
+ *
+ * @author GraviteeSource Team
+ */
+public class RepositoryMetricsPostProcessor implements BeanPostProcessor {
+
+    private static final Set<String> API_PACKAGES = new HashSet<>(Arrays.asList(
+            "io.gravitee.am.repository.management.api",
+            "io.gravitee.am.repository.oauth2.api",
+            "io.gravitee.am.repository.oidc.api"));
+
+    private final String scope;
+
+    private final Supplier<MeterRegistry> registry;
+
+    /**
+     * @param scope the repository scope (management, oauth2), used to tag the timers
+     */
+    public RepositoryMetricsPostProcessor(String scope) {
+        this(scope, RepositoryMetricsPostProcessor::registry);
+    }
+
+    RepositoryMetricsPostProcessor(String scope, Supplier<MeterRegistry> registry) {
+        this.scope = scope;
+        this.registry = registry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!beanName.endsWith("Repository")) {
+            return bean;
+        }
+        final Class<?>[] interfaces = ClassUtils.getAllInterfacesForClass(bean.getClass(), bean.getClass().getClassLoader());
+        final Class<?> repositoryInterface = Arrays.stream(interfaces)
+                .filter(type -> API_PACKAGES.contains(type.getPackage().getName()))
+                .findFirst()
+                .orElse(null);
+        if (repositoryInterface == null) {
+            return bean;
+        }
+        return Proxy.newProxyInstance(bean.getClass().getClassLoader(), interfaces,
+                new MeteredRepositoryHandler(bean, repositoryInterface.getSimpleName(), scope, registry));
+    }
+
+    private static MeterRegistry registry() {
+        // the node registry, exposed by the node monitoring endpoint when metrics are enabled
+        MeterRegistry registry = BackendRegistries.getDefaultNow();
+        return registry != null ? registry : Metrics.globalRegistry;
+    }
+
+    private static class MeteredRepositoryHandler implements InvocationHandler {
+
+        private final Object target;
+        private final String repository;
+        private final String scope;
+        private final Supplier<MeterRegistry> registry;
+        private final Map<Method, RegisteredTimer> timers = new ConcurrentHashMap<>();
+
+        MeteredRepositoryHandler(Object target, String repository, String scope, Supplier<MeterRegistry> registry) {
+            this.target = target;
+            this.repository = repository;
+            this.scope = scope;
+            this.registry = registry;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            final Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getCause();
+            }
+
+            if (result instanceof Single) {
+                final Timer timer = timer(method);
+                return Single.defer(() -> {
+                    final long start = System.nanoTime();
+                    return ((Single<?>) result).doFinally(() -> timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+                });
+            } else if (result instanceof Maybe) {
+                final Timer timer = timer(method);
+                return Maybe.defer(() -> {
+                    final long start = System.nanoTime();
+                    return ((Maybe<?>) result).doFinally(() -> timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+                });
+            } else if (result instanceof Completable) {
+                final Timer timer = timer(method);
+                return Completable.defer(() -> {
+                    final long start = System.nanoTime();
+                    return ((Completable) result).doFinally(() -> timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+                });
+            } else if (result instanceof Flowable) {
+                final Timer timer = timer(method);
+                return Flowable.defer(() -> {
+                    final long start = System.nanoTime();
+                    return ((Flowable<?>) result).doFinally(() -> timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+                });
+            }
+            return result;
+        }
+
+        private Timer timer(Method method) {
+            final MeterRegistry meterRegistry = registry.get();
+            final RegisteredTimer timer = timers.get(method);
+            if (timer != null && timer.registry == meterRegistry) {
+                return timer.timer;
+            }
+            // first call of the method, or the node registry has been set up since the timer was registered
+            final RegisteredTimer registeredTimer = new RegisteredTimer(meterRegistry, Timer.builder("am_repository_calls")
+                    .description("Repository call latency")
+                    .tag("scope", scope)
+                    .tag("repository", repository)
+                    .tag("method", method.getName())
+                    .register(meterRegistry));
+            timers.put(method, registeredTimer);
+            return registeredTimer.timer;
+        }
+    }
+
+    private static final class RegisteredTimer {
+
+        private final MeterRegistry registry;
+        private final Timer timer;
+
+        private RegisteredTimer(MeterRegistry registry, Timer timer) {
+            this.registry = registry;
+            this.timer = timer;
+        }
+    }
+}
@@ -15,6 +15,7 @@
  */
 package io.gravitee.am.repository.oauth2.api;
 
+import io.gravitee.am.repository.common.ExpiredDataSweeper;
 import io.gravitee.am.repository.oauth2.model.AccessToken;
 import io.reactivex.*;
 
@@ -25,7 +26,7 @@ import java.util.List;
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
  * @author GraviteeSource Team
  */
-public interface AccessTokenRepository {
+public interface AccessTokenRepository extends ExpiredDataSweeper {
     /**
      * Find access token by id
      * @param token access token's id
@@ -100,8 +101,4 @@ public interface AccessTokenRepository {
     Completable deleteByDomainIdClientIdAndUserId(String domainId, String clientId, String userId);
 
     Completable deleteByDomainIdAndUserId(String domainId, String userId);
-
-    default Completable purgeExpiredData() {
-        return Completable.complete();
-    }
 }
@@ -15,8 +15,8 @@
  */
 package io.gravitee.am.repository.oauth2.api;
 
+import io.gravitee.am.repository.common.ExpiredDataSweeper;
 import io.gravitee.am.repository.oauth2.model.AuthorizationCode;
-import io.reactivex.Completable;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
 
@@ -24,7 +24,7 @@ import io.reactivex.Single;
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
  * @author GraviteeSource Team
  */
-public interface AuthorizationCodeRepository {
+public interface AuthorizationCodeRepository extends ExpiredDataSweeper {
 
     /**
      * Store an authorization code.
@@ -48,8 +48,4 @@ public interface AuthorizationCodeRepository {
      * @return
      */
     Maybe<AuthorizationCode> findByCode(String code);
-
-    default Completable purgeExpiredData() {
-        return Completable.complete();
-    }
 }
@@ -15,6 +15,7 @@
  */
 package io.gravitee.am.repository.oauth2.api;
 
+import io.gravitee.am.repository.common.ExpiredDataSweeper;
 import io.gravitee.am.repository.oauth2.model.RefreshToken;
 import io.reactivex.Completable;
 import io.reactivex.Maybe;
@@ -26,7 +27,7 @@ import java.util.List;
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
  * @author GraviteeSource Team
  */
-public interface RefreshTokenRepository {
+public interface RefreshTokenRepository extends ExpiredDataSweeper {
 
     Maybe<RefreshToken> findByToken(String token);
 
@@ -41,8 +42,4 @@ public interface RefreshTokenRepository {
     Completable deleteByDomainIdClientIdAndUserId(String domainId, String clientId, String userId);
 
     Completable deleteByDomainIdAndUserId(String domainId, String userId);
-
-    default Completable purgeExpiredData() {
-        return Completable.complete();
-    }
 }
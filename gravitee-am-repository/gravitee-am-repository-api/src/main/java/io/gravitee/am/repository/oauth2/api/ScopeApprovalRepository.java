@@ -17,6 +17,7 @@ package io.gravitee.am.repository.oauth2.api;
 
 import io.gravitee.am.model.oauth2.ScopeApproval;
 import io.gravitee.am.repository.common.CrudRepository;
+import io.gravitee.am.repository.common.ExpiredDataSweeper;
 import io.reactivex.Completable;
 import io.reactivex.Flowable;
 import io.reactivex.Single;
@@ -28,7 +29,7 @@ import java.util.Set;
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
  * @author GraviteeSource Team
  */
-public interface ScopeApprovalRepository extends CrudRepository<ScopeApproval, String> {
+public interface ScopeApprovalRepository extends CrudRepository<ScopeApproval, String>, ExpiredDataSweeper {
 
     Flowable<ScopeApproval> findByDomainAndUserAndClient(String domain, String userId, String clientId);
 
@@ -41,9 +42,4 @@ public interface ScopeApprovalRepository extends CrudRepository<ScopeApproval, S
     Completable deleteByDomainAndUserAndClient(String domain, String user, String client);
 
     Completable deleteByDomainAndUser(String domain, String user);
-
-    default Completable purgeExpiredData() {
-        return Completable.complete();
-    }
-
 }
@@ -15,6 +15,7 @@
  */
 package io.gravitee.am.repository.oidc.api;
 
+import io.gravitee.am.repository.common.ExpiredDataSweeper;
 import io.gravitee.am.repository.oidc.model.RequestObject;
 import io.reactivex.Completable;
 import io.reactivex.Maybe;
@@ -24,15 +25,11 @@ import io.reactivex.Single;
  * @author David BRASSELY (david.brassely at graviteesource.com)
  * @author GraviteeSource Team
  */
-public interface RequestObjectRepository {
+public interface RequestObjectRepository extends ExpiredDataSweeper {
 
     Maybe<RequestObject> findById(String id);
 
     Single<RequestObject> create(RequestObject requestObject);
 
     Completable delete(String id);
-
-    default Completable purgeExpiredData() {
-        return Completable.complete();
-    }
 }
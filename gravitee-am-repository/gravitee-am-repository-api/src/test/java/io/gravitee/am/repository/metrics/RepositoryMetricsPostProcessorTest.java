@@ -0,0 +1,131 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.metrics;
+
+import io.gravitee.am.model.common.event.Event;
+import io.gravitee.am.repository.management.api.EventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.reactivex.Completable;
+import io.reactivex.Flowable;
+import io.reactivex.Maybe;
+import io.reactivex.Single;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class RepositoryMetricsPostProcessorTest {
+
+    private final AtomicReference<MeterRegistry> registry = new AtomicReference<>();
+
+    private RepositoryMetricsPostProcessor postProcessor;
+
+    private EventRepository target;
+
+    private EventRepository eventRepository;
+
+    @Before
+    public void setUp() {
+        registry.set(new SimpleMeterRegistry());
+        postProcessor = new RepositoryMetricsPostProcessor("management", registry::get);
+        target = mock(EventRepository.class);
+        eventRepository = (EventRepository) postProcessor.postProcessAfterInitialization(target, "eventRepository");
+    }
+
+    @Test
+    public void shouldTimeReactiveCalls() {
+        when(target.findLastSequence()).thenReturn(Single.just(1L));
+        when(target.findById("event-1")).thenReturn(Maybe.just(new Event()));
+        when(target.findAfterSequence(1L, 10)).thenReturn(Flowable.just(new Event(), new Event()));
+        when(target.delete("event-1")).thenReturn(Completable.complete());
+
+        Single<Long> lastSequence = eventRepository.findLastSequence();
+        // nothing is recorded until the source is subscribed
+        assertEquals(0, count("findLastSequence"));
+
+        lastSequence.test().assertValue(1L);
+        lastSequence.test().assertValue(1L);
+        eventRepository.findById("event-1").test().assertValueCount(1);
+        eventRepository.findAfterSequence(1L, 10).test().assertValueCount(2);
+        eventRepository.delete("event-1").test().assertComplete();
+
+        assertEquals(2, count("findLastSequence"));
+        assertEquals(1, count("findById"));
+        assertEquals(1, count("findAfterSequence"));
+        assertEquals(1, count("delete"));
+    }
+
+    @Test
+    public void shouldTimeFailedCalls() {
+        when(target.findLastSequence()).thenReturn(Single.error(new IllegalStateException()));
+
+        eventRepository.findLastSequence().test().assertError(IllegalStateException.class);
+
+        assertEquals(1, count("findLastSequence"));
+    }
+
+    @Test
+    public void shouldRethrowSynchronousErrors() {
+        when(target.findLastSequence()).thenThrow(new IllegalStateException());
+
+        try {
+            eventRepository.findLastSequence();
+            fail("The error of the repository should have been thrown");
+        } catch (IllegalStateException ex) {
+            // expected
+        }
+    }
+
+    @Test
+    public void shouldResolveRegistryOnEachCall() {
+        when(target.findLastSequence()).thenReturn(Single.just(1L));
+        eventRepository.findLastSequence().test();
+
+        // the node registry is set up after the repository plugin has been loaded
+        final MeterRegistry nodeRegistry = new SimpleMeterRegistry();
+        registry.set(nodeRegistry);
+        eventRepository.findLastSequence().test();
+
+        assertEquals(1, nodeRegistry.get("am_repository_calls").tag("method", "findLastSequence").timer().count());
+    }
+
+    @Test
+    public void shouldNotWrapOtherBeans() {
+        final Object bean = new Object();
+        final Runnable runnable = () -> { };
+
+        assertSame(bean, postProcessor.postProcessAfterInitialization(bean, "configRepository"));
+        assertSame(runnable, postProcessor.postProcessAfterInitialization(runnable, "taskRepository"));
+        assertSame(target, postProcessor.postProcessAfterInitialization(target, "eventRepositoryFactory"));
+    }
+
+    private long count(String method) {
+        return registry.get().get("am_repository_calls")
+                .tag("scope", "management")
+                .tag("repository", "EventRepository")
+                .tag("method", method)
+                .timer()
+                .count();
+    }
+}
@@ -19,16 +19,29 @@ import com.github.dozermapper.core.DozerBeanMapperBuilder;
 import com.github.dozermapper.core.Mapper;
 import io.gravitee.am.repository.jdbc.management.api.model.mapper.LocalDateConverter;
 import io.gravitee.am.repository.jdbc.common.dialect.DatabaseDialectHelper;
+import io.reactivex.Flowable;
+import io.reactivex.Single;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.r2dbc.core.DatabaseClient;
 import org.springframework.data.r2dbc.core.DatabaseClient.GenericInsertSpec;
+import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.transaction.ReactiveTransactionManager;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
-import java.util.Arrays;
-import java.util.Map;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static java.time.ZoneOffset.UTC;
+import static org.springframework.data.relational.core.query.Criteria.where;
+import static reactor.adapter.rxjava.RxJava2Adapter.monoToSingle;
 
 /**
  * @author Eric LELEU (eric.leleu at graviteesource.com)
@@ -48,6 +61,11 @@ public abstract class AbstractJdbcRepository {
 
     protected LocalDateConverter dateConverter = new LocalDateConverter();
 
+    /**
+     * Maximum number of parent entities whose child rows are loaded by a single query.
+     */
+    protected static final int CHILDREN_BATCH_SIZE = 500;
+
     protected static final Mapper mapper = DozerBeanMapperBuilder.create().withMappingFiles(Arrays.asList("dozer.xml")).build();
 
     protected <T> GenericInsertSpec<Map<String, Object>> addQuotedField(GenericInsertSpec<Map<String, Object>> spec, String name, Object value, Class<T> type) {
@@ -58,4 +76,97 @@ public abstract class AbstractJdbcRepository {
         spec.put(SqlIdentifier.quoted(name), value);
         return spec;
     }
+
+    /**
+     * Complete the given entities by batches of {@link #CHILDREN_BATCH_SIZE}: the completer receives a whole batch
+     * so that the child rows of the batch are read with one <code>IN (...)</code> query per child table instead of
+     * one query per entity. The order of the entities is kept.
+     */
+    protected <T> Flowable<T> completeByBatches(Flowable<T> entities, io.reactivex.functions.Function<List<T>, Single<List<T>>> completer) {
+        return entities
+                .buffer(CHILDREN_BATCH_SIZE)
+                .concatMapSingle(completer)
+                .concatMapIterable(batch -> batch);
+    }
+
+    /**
+     * Group child rows by the id of their parent entity.
+     */
+    protected static <C, V> Map<String, List<V>> groupByParent(List<C> rows, Function<C, String> parentIdGetter, Function<C, V> valueGetter) {
+        return rows.stream().collect(Collectors.groupingBy(parentIdGetter, Collectors.mapping(valueGetter, Collectors.toList())));
+    }
+
+    /**
+     * Delete a batch of expired rows. The oldest expired rows are selected first then deleted by id, so that the
+     * delete statement only locks a bounded number of rows.
+     *
+     * @return the number of deleted rows
+     */
+    protected Single<Long> deleteExpiredData(String table, String expireColumn, int batchSize) {
+        final LocalDateTime now = LocalDateTime.now(UTC);
+        return monoToSingle(dbClient.select()
+                .from(table)
+                .project("id")
+                .matching(where(expireColumn).lessThan(now))
+                .orderBy(Sort.Order.asc(expireColumn))
+                .page(PageRequest.of(0, batchSize))
+                .map(row -> row.get("id", String.class))
+                .all()
+                .collectList()
+                .flatMap(ids -> ids.isEmpty() ? Mono.just(0) : dbClient.delete()
+                        .from(table)
+                        .matching(where("id").in(ids))
+                        .fetch()
+                        .rowsUpdated()))
+                .map(Integer::longValue);
+    }
+
+    /**
+     * Synchronize a child table holding a single value per row (roles, members...) with the expected values:
+     * only the values which are no longer expected are deleted and only the missing values are inserted,
+     * the rows of the unchanged values are left untouched.
+     *
+     * @param parentCriteria criteria selecting the rows of the parent entity
+     * @param valueColumn column holding the value
+     * @return the number of deleted and inserted rows
+     */
+    protected <T> Mono<Integer> updateChildValues(Class<T> table, Criteria parentCriteria, String valueColumn, Function<T, String> valueGetter, Collection<String> values, Function<String, T> toRow) {
+        return dbClient.select().from(table).matching(parentCriteria).fetch().all()
+                .map(valueGetter)
+                .collect(Collectors.toSet())
+                .flatMap(existingValues -> {
+                    final Set<String> expectedValues = values == null ? Collections.emptySet() : new LinkedHashSet<>(values);
+                    final List<String> removedValues = existingValues.stream().filter(value -> !expectedValues.contains(value)).collect(Collectors.toList());
+                    final List<T> addedRows = expectedValues.stream().filter(value -> !existingValues.contains(value)).map(toRow).collect(Collectors.toList());
+                    return deleteAndInsertRows(table, removedValues.isEmpty() ? null : parentCriteria.and(valueColumn).in(removedValues), addedRows);
+                });
+    }
+
+    /**
+     * Replace the rows of a child table matching the given criteria only if they differ from the expected rows,
+     * rows classes have to implement equals and hashCode.
+     *
+     * @return the number of deleted and inserted rows
+     */
+    protected <T> Mono<Integer> updateChildRows(Class<T> table, Criteria criteria, Collection<T> rows) {
+        return dbClient.select().from(table).matching(criteria).fetch().all()
+                .collectList()
+                .flatMap(existingRows -> {
+                    final List<T> expectedRows = rows == null ? Collections.emptyList() : new ArrayList<>(rows);
+                    if (existingRows.size() == expectedRows.size() && new HashSet<>(existingRows).equals(new HashSet<>(expectedRows))) {
+                        return Mono.just(0);
+                    }
+                    return deleteAndInsertRows(table, existingRows.isEmpty() ? null : criteria, expectedRows);
+                });
+    }
+
+    private <T> Mono<Integer> deleteAndInsertRows(Class<T> table, Criteria deleteCriteria, List<T> rows) {
+        Mono<Integer> action = deleteCriteria == null ? Mono.just(0) : dbClient.delete().from(table).matching(deleteCriteria).fetch().rowsUpdated();
+        if (rows.isEmpty()) {
+            return action;
+        }
+        return action.flatMap(deleted -> Flux.fromIterable(rows)
+                .concatMap(row -> dbClient.insert().into(table).using(row).fetch().rowsUpdated())
+                .reduce(deleted, Integer::sum));
+    }
 }
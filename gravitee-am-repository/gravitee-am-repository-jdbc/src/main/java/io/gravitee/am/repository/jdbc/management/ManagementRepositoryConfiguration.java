@@ -15,10 +15,12 @@
  */
 package io.gravitee.am.repository.jdbc.management;
 
+import io.gravitee.am.repository.Scope;
 import io.gravitee.am.repository.jdbc.common.AbstractRepositoryConfiguration;
 import io.gravitee.am.repository.jdbc.common.ConnectionFactoryProvider;
 import io.gravitee.am.repository.jdbc.common.dialect.DatabaseDialectHelper;
 import io.gravitee.am.repository.jdbc.exceptions.RepositoryInitializationException;
+import io.gravitee.am.repository.metrics.RepositoryMetricsPostProcessor;
 import io.r2dbc.spi.ConnectionFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
@@ -50,6 +52,11 @@ public class ManagementRepositoryConfiguration extends AbstractRepositoryConfigu
     @Autowired
     private DatabaseDialectHelper databaseDialectHelper;
 
+    @Bean
+    public static RepositoryMetricsPostProcessor repositoryMetricsPostProcessor() {
+        return new RepositoryMetricsPostProcessor(Scope.MANAGEMENT.getName());
+    }
+
     @Bean
     public ConnectionFactoryProvider connectionFactoryProvider() {
         return new ConnectionFactoryProvider(environment, "management");
@@ -43,6 +43,7 @@ import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.stream.Collectors;
 
 import static org.springframework.data.relational.core.query.Criteria.where;
 import static org.springframework.data.relational.core.query.CriteriaDefinition.from;
@@ -87,12 +88,35 @@ public class JdbcApplicationRepository extends AbstractJdbcRepository implements
         );// do not read grant tables, information already present into the settings object
     }
 
+    private Flowable<Application> completeApplications(Flowable<Application> applications) {
+        return completeByBatches(applications, this::completeApplications);
+    }
+
+    private Single<List<Application>> completeApplications(List<Application> applications) {
+        if (applications.isEmpty()) {
+            return Single.just(applications);
+        }
+        final List<String> ids = applications.stream().map(Application::getId).collect(Collectors.toList());
+        Single<Map<String, List<String>>> identities = identityRepository.findAllByApplicationIdIn(ids).toList()
+                .map(rows -> groupByParent(rows, JdbcApplication.Identity::getApplicationId, JdbcApplication.Identity::getIdentity));
+        Single<Map<String, List<String>>> factors = factorRepository.findAllByApplicationIdIn(ids).toList()
+                .map(rows -> groupByParent(rows, JdbcApplication.Factor::getApplicationId, JdbcApplication.Factor::getFactor));
+        // do not read grant tables, information already present into the settings object
+        return Single.zip(identities, factors, (idps, appFactors) -> {
+            applications.forEach(app -> {
+                app.setIdentities(new HashSet<>(idps.getOrDefault(app.getId(), Collections.emptyList())));
+                app.setFactors(new HashSet<>(appFactors.getOrDefault(app.getId(), Collections.emptyList())));
+            });
+            return applications;
+        });
+    }
+
     @Override
     public Flowable<Application> findAll() {
         LOGGER.debug("findAll()");
         return applicationRepository.findAll()
                 .map(this::toEntity)
-                .flatMap(app -> completeApplication(app).toFlowable());
+                .compose(this::completeApplications);
     }
 
     @Override
@@ -104,7 +128,7 @@ public class JdbcApplicationRepository extends AbstractJdbcRepository implements
                 .as(JdbcApplication.class)
                 .all())
                 .map(this::toEntity)
-                .flatMap(app -> completeApplication(app).toFlowable(), MAX_CONCURRENCY)
+                .compose(this::completeApplications)
                 .toList()
                 .flatMap(data -> applicationRepository.count().map(total -> new Page<Application>(data, page, total)))
                 .doOnError((error) -> LOGGER.error("Unable to retrieve all applications (page={}/size={})", page, size, error));
@@ -115,7 +139,7 @@ public class JdbcApplicationRepository extends AbstractJdbcRepository implements
         LOGGER.debug("findByDomain({})",domain);
         return applicationRepository.findByDomain(domain)
                 .map(this::toEntity)
-                .flatMap(app -> completeApplication(app).toFlowable());
+                .compose(this::completeApplications);
     }
 
     @Override
@@ -128,7 +152,7 @@ public class JdbcApplicationRepository extends AbstractJdbcRepository implements
                 .as(JdbcApplication.class)
                 .all())
                 .map(this::toEntity)
-                .flatMap(app -> completeApplication(app).toFlowable(), MAX_CONCURRENCY)
+                .compose(this::completeApplications)
                 .toList()
                 .flatMap(data -> applicationRepository.countByDomain(domain).map(total -> new Page<Application>(data, page, total)))
                 .doOnError((error) -> LOGGER.error("Unable to retrieve all applications with domain {} (page={}/size={})", domain, page, size, error));
@@ -151,7 +175,7 @@ public class JdbcApplicationRepository extends AbstractJdbcRepository implements
                 .fetch()
                 .all())
                 .map(this::toEntity)
-                .flatMap(app -> completeApplication(app).toFlowable())
+                .compose(this::completeApplications)
                 .toList()
                 .flatMap(data -> monoToSingle(dbClient.execute(count)
                         .bind("domain", domain)
@@ -168,7 +192,7 @@ public class JdbcApplicationRepository extends AbstractJdbcRepository implements
         LOGGER.debug("findByCertificate({})", certificate);
         return applicationRepository.findByCertificate(certificate)
                 .map(this::toEntity)
-                .flatMap(app -> completeApplication(app).toFlowable());
+                .compose(this::completeApplications);
     }
 
     @Override
@@ -180,7 +204,7 @@ public class JdbcApplicationRepository extends AbstractJdbcRepository implements
                 databaseDialectHelper.toSql(SqlIdentifier.quoted("identity")) + " = :identity")
                 .bind("identity", identityProvider).as(JdbcApplication.class).fetch().all())
                 .map(this::toEntity)
-                .flatMap(app -> completeApplication(app).toFlowable());
+                .compose(this::completeApplications);
     }
 
     @Override
@@ -188,7 +212,7 @@ public class JdbcApplicationRepository extends AbstractJdbcRepository implements
         LOGGER.debug("findByFactor({})", factor);
         return applicationRepository.findAllByFactor(factor)
                 .map(this::toEntity)
-                .flatMap(app -> completeApplication(app).toFlowable());
+                .compose(this::completeApplications);
     }
 
     @Override
@@ -196,7 +220,7 @@ public class JdbcApplicationRepository extends AbstractJdbcRepository implements
         LOGGER.debug("findByDomainAndExtensionGrant({}, {})", domain, extensionGrant);
         return applicationRepository.findAllByDomainAndGrant(domain, extensionGrant)
                 .map(this::toEntity)
-                .flatMap(app -> completeApplication(app).toFlowable());
+                .compose(this::completeApplications);
     }
 
     @Override
@@ -207,7 +231,7 @@ public class JdbcApplicationRepository extends AbstractJdbcRepository implements
         }
         return applicationRepository.findByIdIn(ids)
                 .map(this::toEntity)
-                .flatMap(app -> completeApplication(app).toFlowable());
+                .compose(this::completeApplications);
     }
 
     @Override
@@ -230,7 +254,7 @@ public class JdbcApplicationRepository extends AbstractJdbcRepository implements
                 .fetch()
                 .all())
                 .map(this::toEntity)
-                .flatMap(app -> completeApplication(app).toFlowable())
+                .compose(this::completeApplications)
                 .firstElement();
     }
 
@@ -135,4 +135,10 @@ public class JdbcAuthenticationFlowContextRepository extends AbstractJdbcReposit
         LocalDateTime now = LocalDateTime.now(UTC);
         return monoToCompletable(dbClient.delete().from(JdbcAuthenticationFlowContext.class).matching(where("expire_at").lessThan(now)).then()).doOnError(error -> LOGGER.error("Unable to purge authentication contexts", error));
     }
+
+    @Override
+    public Single<Long> purgeExpiredData(int batchSize) {
+        LOGGER.debug("purgeExpiredData({})", batchSize);
+        return deleteExpiredData("auth_flow_ctx", "expire_at", batchSize).doOnError(error -> LOGGER.error("Unable to purge authentication contexts", error));
+    }
 }
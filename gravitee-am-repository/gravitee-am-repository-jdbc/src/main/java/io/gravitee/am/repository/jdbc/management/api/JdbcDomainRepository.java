@@ -38,10 +38,8 @@ import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.util.Collection;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
+import java.util.stream.Collectors;
 
 import static org.springframework.data.relational.core.query.Criteria.where;
 import static org.springframework.data.relational.core.query.CriteriaDefinition.from;
@@ -83,7 +81,7 @@ public class JdbcDomainRepository extends AbstractJdbcRepository implements Doma
     public Flowable<Domain> findAll() {
         LOGGER.debug("findAll()");
         Flowable<Domain> domains = domainRepository.findAll().map(this::toDomain);
-        return domains.flatMap(this::completeDomain);
+        return domains.compose(this::completeDomains);
     }
 
     @Override
@@ -104,7 +102,7 @@ public class JdbcDomainRepository extends AbstractJdbcRepository implements Doma
                 .as(JdbcDomain.class)
                 .all())
                 .map(this::toDomain)
-                .flatMap(this::completeDomain);
+                .compose(this::completeDomains);
     }
 
     @Override
@@ -114,14 +112,14 @@ public class JdbcDomainRepository extends AbstractJdbcRepository implements Doma
             return Flowable.empty();
         }
         Flowable<Domain> domains = domainRepository.findAllById(ids).map(this::toDomain);
-        return domains.flatMap(this::completeDomain);
+        return domains.compose(this::completeDomains);
     }
 
     @Override
     public Flowable<Domain> findAllByReferenceId(String environmentId) {
         LOGGER.debug("findAllByReferenceId({})", environmentId);
         Flowable<Domain> domains = domainRepository.findAllByReferenceId(environmentId, ReferenceType.ENVIRONMENT.name()).map(this::toDomain);
-        return domains.flatMap(this::completeDomain);
+        return domains.compose(this::completeDomains);
     }
 
     @Override
@@ -208,7 +206,7 @@ public class JdbcDomainRepository extends AbstractJdbcRepository implements Doma
                 .fetch()
                 .all())
                 .map(this::toDomain)
-                .flatMap(this::completeDomain);
+                .compose(this::completeDomains);
     }
 
     private Flowable<Domain> completeDomain(Domain entity) {
@@ -230,6 +228,31 @@ public class JdbcDomainRepository extends AbstractJdbcRepository implements Doma
         );
     }
 
+    private Flowable<Domain> completeDomains(Flowable<Domain> domains) {
+        return completeByBatches(domains, this::completeDomains);
+    }
+
+    private Single<List<Domain>> completeDomains(List<Domain> domains) {
+        if (domains.isEmpty()) {
+            return Single.just(domains);
+        }
+        final List<String> ids = domains.stream().map(Domain::getId).collect(Collectors.toList());
+        Single<Map<String, List<String>>> identities = identitiesRepository.findAllByDomainIdIn(ids).toList()
+                .map(rows -> groupByParent(rows, JdbcDomain.Identity::getDomainId, JdbcDomain.Identity::getIdentity));
+        Single<Map<String, List<String>>> tags = tagRepository.findAllByDomainIdIn(ids).toList()
+                .map(rows -> groupByParent(rows, JdbcDomain.Tag::getDomainId, JdbcDomain.Tag::getTag));
+        Single<Map<String, List<VirtualHost>>> vhosts = vHostsRepository.findAllByDomainIdIn(ids).toList()
+                .map(rows -> groupByParent(rows, JdbcDomain.Vhost::getDomainId, this::toVirtualHost));
+        return Single.zip(identities, tags, vhosts, (idps, domainTags, domainVhosts) -> {
+            domains.forEach(domain -> {
+                domain.setIdentities(new HashSet<>(idps.getOrDefault(domain.getId(), Collections.emptyList())));
+                domain.setTags(new HashSet<>(domainTags.getOrDefault(domain.getId(), Collections.emptyList())));
+                domain.setVhosts(new ArrayList<>(domainVhosts.getOrDefault(domain.getId(), Collections.emptyList())));
+            });
+            return domains;
+        });
+    }
+
     private Mono<Integer> persistChildEntities(Mono<Integer> actionFlow, Domain item) {
         final Set<String> identities = item.getIdentities();
         if (identities != null && !identities.isEmpty()) {
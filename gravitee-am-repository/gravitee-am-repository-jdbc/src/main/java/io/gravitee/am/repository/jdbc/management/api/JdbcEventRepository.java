@@ -26,20 +26,25 @@ import io.reactivex.Flowable;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.r2dbc.core.DatabaseClient;
 import org.springframework.data.relational.core.query.Update;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Mono;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 
 import static java.time.ZoneOffset.UTC;
 import static org.springframework.data.relational.core.query.Criteria.where;
 import static org.springframework.data.relational.core.query.CriteriaDefinition.from;
+import static reactor.adapter.rxjava.RxJava2Adapter.fluxToFlowable;
 import static reactor.adapter.rxjava.RxJava2Adapter.monoToSingle;
 
 /**
@@ -49,6 +54,8 @@ import static reactor.adapter.rxjava.RxJava2Adapter.monoToSingle;
 @Repository
 public class JdbcEventRepository extends AbstractJdbcRepository implements EventRepository {
 
+    private static final String EVENTS_SEQUENCE = "events";
+
     @Autowired
     private SpringEventRepository eventRepository;
 
@@ -69,6 +76,65 @@ public class JdbcEventRepository extends AbstractJdbcRepository implements Event
                 .map(this::toEntity);
     }
 
+    @Override
+    public Flowable<Event> findAfterSequence(long sequence, int limit) {
+        LOGGER.debug("findAfterSequence({}, {})", sequence, limit);
+        return fluxToFlowable(dbClient.select()
+                .from(JdbcEvent.class)
+                .project("*")
+                .matching(from(where("sequence").greaterThan(sequence)))
+                .orderBy(Sort.Order.asc("sequence"))
+                .page(PageRequest.of(0, limit))
+                .as(JdbcEvent.class)
+                .all())
+                .map(this::toEntity);
+    }
+
+    @Override
+    public Single<Long> findLastSequence() {
+        LOGGER.debug("findLastSequence()");
+        return monoToSingle(dbClient.select()
+                .from("events")
+                .project("sequence")
+                .matching(where("sequence").isNotNull())
+                .orderBy(Sort.Order.desc("sequence"))
+                .page(PageRequest.of(0, 1))
+                .map(row -> row.get("sequence", Long.class))
+                .first()
+                .defaultIfEmpty(0L));
+    }
+
+    @Override
+    public Single<Long> compact(Date before, int batchSize) {
+        LOGGER.debug("compact({}, {})", before, batchSize);
+        final LocalDateTime beforeDate = dateConverter.convertTo(before, null);
+        // events are read by entity and from the latest to the oldest one, all but the first event of each entity are superseded
+        final String[] entity = new String[1];
+        return monoToSingle(dbClient.select()
+                .from("events")
+                .project("id", "type", "entity_id", "created_at")
+                .matching(where("sequence").isNotNull().and("entity_id").isNotNull())
+                .orderBy(Sort.Order.asc("type"), Sort.Order.asc("entity_id"), Sort.Order.desc("sequence"))
+                .map(row -> {
+                    final String key = row.get("type", String.class) + ":" + row.get("entity_id", String.class);
+                    final boolean superseded = key.equals(entity[0]);
+                    entity[0] = key;
+                    final LocalDateTime createdAt = row.get("created_at", LocalDateTime.class);
+                    return superseded && createdAt != null && createdAt.isBefore(beforeDate) ? row.get("id", String.class) : "";
+                })
+                .all()
+                .filter(id -> !id.isEmpty())
+                .take(batchSize)
+                .collectList()
+                .flatMap(ids -> ids.isEmpty() ? Mono.just(0) : dbClient.delete()
+                        .from("events")
+                        .matching(where("id").in(ids))
+                        .fetch()
+                        .rowsUpdated()))
+                .map(Integer::longValue)
+                .doOnError(error -> LOGGER.error("Unable to compact events", error));
+    }
+
     @Override
     public Maybe<Event> findById(String id) {
         LOGGER.debug("findById({})", id);
@@ -80,18 +146,33 @@ public class JdbcEventRepository extends AbstractJdbcRepository implements Event
         item.setId(item.getId() == null ? RandomString.generate() : item.getId());
         LOGGER.debug("create event with id {}", item.getId());
 
-        DatabaseClient.GenericInsertSpec<Map<String, Object>> insertSpec = dbClient.insert().into("events");
-
-        // doesn't use the class introspection to allow the usage of Json type in PostgreSQL
-        insertSpec = addQuotedField(insertSpec,"id", item.getId(), String.class);
-        insertSpec = addQuotedField(insertSpec,"type", item.getType(), String.class);
-        insertSpec = databaseDialectHelper.addJsonField(insertSpec, "payload", item.getPayload());
-        insertSpec = addQuotedField(insertSpec,"created_at", dateConverter.convertTo(item.getCreatedAt(), null), LocalDateTime.class);
-        insertSpec = addQuotedField(insertSpec,"updated_at", dateConverter.convertTo(item.getUpdatedAt(), null), LocalDateTime.class);
-
-        Mono<Integer> action = insertSpec.fetch().rowsUpdated();
-
-        return monoToSingle(action).flatMap((i) -> this.findById(item.getId()).toSingle());
+        // the sequence row stays locked until the event is inserted, so that events are visible in the order of their sequence
+        TransactionalOperator trx = TransactionalOperator.create(tm);
+        Mono<Integer> action = dbClient.execute("UPDATE sequences SET current_value = current_value + 1 WHERE name = :name")
+                .bind("name", EVENTS_SEQUENCE)
+                .fetch()
+                .rowsUpdated()
+                .then(dbClient.select()
+                        .from("sequences")
+                        .project("current_value")
+                        .matching(where("name").is(EVENTS_SEQUENCE))
+                        .map(row -> row.get("current_value", Long.class))
+                        .one())
+                .flatMap(sequence -> {
+                    DatabaseClient.GenericInsertSpec<Map<String, Object>> insertSpec = dbClient.insert().into("events");
+
+                    // doesn't use the class introspection to allow the usage of Json type in PostgreSQL
+                    insertSpec = addQuotedField(insertSpec,"id", item.getId(), String.class);
+                    insertSpec = addQuotedField(insertSpec,"sequence", sequence, Long.class);
+                    insertSpec = addQuotedField(insertSpec,"type", item.getType(), String.class);
+                    insertSpec = addQuotedField(insertSpec,"entity_id", item.getPayload() == null ? null : item.getPayload().getId(), String.class);
+                    insertSpec = databaseDialectHelper.addJsonField(insertSpec, "payload", item.getPayload());
+                    insertSpec = addQuotedField(insertSpec,"created_at", dateConverter.convertTo(item.getCreatedAt(), null), LocalDateTime.class);
+                    insertSpec = addQuotedField(insertSpec,"updated_at", dateConverter.convertTo(item.getUpdatedAt(), null), LocalDateTime.class);
+                    return insertSpec.fetch().rowsUpdated();
+                });
+
+        return monoToSingle(action.as(trx::transactional)).flatMap((i) -> this.findById(item.getId()).toSingle());
     }
 
     @Override
@@ -101,7 +182,9 @@ public class JdbcEventRepository extends AbstractJdbcRepository implements Event
         final DatabaseClient.GenericUpdateSpec updateSpec = dbClient.update().table("events");
         Map<SqlIdentifier, Object> updateFields = new HashMap<>();
         updateFields = addQuotedField(updateFields,"id", item.getId(), String.class);
+        updateFields = addQuotedField(updateFields,"sequence", item.getSequence(), Long.class);
         updateFields = addQuotedField(updateFields,"type", item.getType(), String.class);
+        updateFields = addQuotedField(updateFields,"entity_id", item.getPayload() == null ? null : item.getPayload().getId(), String.class);
         updateFields = databaseDialectHelper.addJsonField(updateFields, "payload", item.getPayload());
         updateFields = addQuotedField(updateFields,"created_at", dateConverter.convertTo(item.getCreatedAt(), null), LocalDateTime.class);
         updateFields = addQuotedField(updateFields,"updated_at", dateConverter.convertTo(item.getUpdatedAt(), null), LocalDateTime.class);
@@ -32,6 +32,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.r2dbc.core.DatabaseClient;
+import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.data.relational.core.query.Update;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.stereotype.Repository;
@@ -40,9 +41,8 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.stream.Collectors;
 
 import static org.springframework.data.relational.core.query.Criteria.where;
 import static org.springframework.data.relational.core.query.CriteriaDefinition.from;
@@ -282,13 +282,67 @@ public class JdbcGroupRepository extends AbstractJdbcRepository implements Group
 
         Mono<Integer> action = updateSpec.using(Update.from(updateFields)).matching(from(where("id").is(item.getId()))).fetch().rowsUpdated();
 
-        action = deleteChildEntities(item.getId()).then(action);
-        action = persistChildEntities(action, item);
+        action = action.flatMap(rows -> updateChildEntities(item).thenReturn(rows));
 
         return monoToSingle(action.as(trx::transactional))
                 .flatMap((i) -> this.findById(item.getId()).toSingle());
     }
 
+    private Mono<Integer> updateChildEntities(Group item) {
+        final Criteria groupCriteria = where("group_id").is(item.getId());
+
+        Mono<Integer> updateRoles = updateChildValues(JdbcGroup.JdbcRole.class, groupCriteria, "role", JdbcGroup.JdbcRole::getRole, item.getRoles(), roleValue -> {
+            JdbcGroup.JdbcRole role = new JdbcGroup.JdbcRole();
+            role.setRole(roleValue);
+            role.setGroupId(item.getId());
+            return role;
+        });
+
+        Mono<Integer> updateMembers = updateChildValues(JdbcGroup.JdbcMember.class, groupCriteria, "member", JdbcGroup.JdbcMember::getMember, item.getMembers(), memberValue -> toJdbcMember(item.getId(), memberValue));
+
+        return updateRoles.then(updateMembers);
+    }
+
+    @Override
+    public Completable updateMembers(String groupId, List<String> addedMembers, List<String> removedMembers, Date updatedAt) {
+        LOGGER.debug("updateMembers({}, {} added, {} removed)", groupId, addedMembers == null ? 0 : addedMembers.size(), removedMembers == null ? 0 : removedMembers.size());
+        TransactionalOperator trx = TransactionalOperator.create(tm);
+
+        Mono<Integer> action = dbClient.update()
+                .table(databaseDialectHelper.toSql(quoted("groups")))
+                .using(Update.update("updated_at", dateConverter.convertTo(updatedAt, null)))
+                .matching(from(where("id").is(groupId)))
+                .fetch().rowsUpdated();
+
+        if (removedMembers != null && !removedMembers.isEmpty()) {
+            action = action.then(dbClient.delete().from(JdbcGroup.JdbcMember.class)
+                    .matching(from(where("group_id").is(groupId).and("member").in(removedMembers)))
+                    .fetch().rowsUpdated());
+        }
+
+        if (addedMembers != null && !addedMembers.isEmpty()) {
+            // only insert the members which don't belong to the group yet
+            action = action.then(dbClient.select().from(JdbcGroup.JdbcMember.class)
+                    .matching(from(where("group_id").is(groupId).and("member").in(addedMembers)))
+                    .fetch().all()
+                    .map(JdbcGroup.JdbcMember::getMember)
+                    .collect(Collectors.toSet())
+                    .flatMap(existingMembers -> Flux.fromIterable(new LinkedHashSet<>(addedMembers))
+                            .filter(memberValue -> !existingMembers.contains(memberValue))
+                            .concatMap(memberValue -> dbClient.insert().into(JdbcGroup.JdbcMember.class).using(toJdbcMember(groupId, memberValue)).fetch().rowsUpdated())
+                            .reduce(0, Integer::sum)));
+        }
+
+        return monoToCompletable(action.as(trx::transactional));
+    }
+
+    private JdbcGroup.JdbcMember toJdbcMember(String groupId, String memberValue) {
+        JdbcGroup.JdbcMember member = new JdbcGroup.JdbcMember();
+        member.setMember(memberValue);
+        member.setGroupId(groupId);
+        return member;
+    }
+
     private Mono<Integer> deleteChildEntities(String groupId) {
         Mono<Integer> deleteRoles = dbClient.delete().from(JdbcGroup.JdbcRole.class).matching(from(where("group_id").is(groupId))).fetch().rowsUpdated();
         Mono<Integer> deleteMembers = dbClient.delete().from(JdbcGroup.JdbcMember.class).matching(from(where("group_id").is(groupId))).fetch().rowsUpdated();
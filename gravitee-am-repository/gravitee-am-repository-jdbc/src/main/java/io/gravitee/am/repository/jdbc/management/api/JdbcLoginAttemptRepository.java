@@ -20,6 +20,7 @@ import io.gravitee.am.model.LoginAttempt;
 import io.gravitee.am.repository.jdbc.exceptions.RepositoryIllegalQueryException;
 import io.gravitee.am.repository.jdbc.management.AbstractJdbcRepository;
 import io.gravitee.am.repository.jdbc.management.api.model.JdbcLoginAttempt;
+import io.gravitee.am.repository.jdbc.management.api.model.mapper.LoginAttemptMapper;
 import io.gravitee.am.repository.jdbc.management.api.spring.SpringLoginAttemptRepository;
 import io.gravitee.am.repository.management.api.LoginAttemptRepository;
 import io.gravitee.am.repository.management.api.search.LoginAttemptCriteria;
@@ -52,11 +53,11 @@ public class JdbcLoginAttemptRepository extends AbstractJdbcRepository implement
     protected SpringLoginAttemptRepository loginAttemptRepository;
 
     protected LoginAttempt toEntity(JdbcLoginAttempt entity) {
-        return mapper.map(entity, LoginAttempt.class);
+        return LoginAttemptMapper.toEntity(entity);
     }
 
     protected JdbcLoginAttempt toJdbcEntity(LoginAttempt entity) {
-        return mapper.map(entity, JdbcLoginAttempt.class);
+        return LoginAttemptMapper.toJdbcEntity(entity);
     }
 
     @Override
@@ -152,4 +153,10 @@ public class JdbcLoginAttemptRepository extends AbstractJdbcRepository implement
         LocalDateTime now = LocalDateTime.now(UTC);
         return monoToCompletable(dbClient.delete().from(JdbcLoginAttempt.class).matching(where("expire_at").lessThan(now)).then());
     }
+
+    @Override
+    public Single<Long> purgeExpiredData(int batchSize) {
+        LOGGER.debug("purgeExpiredData({})", batchSize);
+        return deleteExpiredData("login_attempts", "expire_at", batchSize).doOnError(error -> LOGGER.error("Unable to purge login attempts", error));
+    }
 }
@@ -121,4 +121,10 @@ public class JdbcPermissionTicketRepository extends AbstractJdbcRepository imple
         LocalDateTime now = LocalDateTime.now(UTC);
         return monoToCompletable(dbClient.delete().from(JdbcPermissionTicket.class).matching(where("expire_at").lessThan(now)).then());
     }
+
+    @Override
+    public Single<Long> purgeExpiredData(int batchSize) {
+        LOGGER.debug("purgeExpiredData({})", batchSize);
+        return deleteExpiredData("uma_permission_ticket", "expire_at", batchSize).doOnError(error -> LOGGER.error("Unable to purge permission tickets", error));
+    }
 }
@@ -40,9 +40,8 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.stream.Collectors;
 
 import static org.springframework.data.relational.core.query.Criteria.where;
 import static org.springframework.data.relational.core.query.CriteriaDefinition.from;
@@ -74,7 +73,7 @@ public class JdbcRoleRepository extends AbstractJdbcRepository implements RoleRe
         LOGGER.debug("findAll({}, {})", referenceType, referenceId);
         return roleRepository.findByReference(referenceType.name(), referenceId)
                 .map(this::toEntity)
-                .flatMap(role -> completeWithScopes(Maybe.just(role), role.getId()).toFlowable());
+                .compose(this::completeWithScopes);
     }
 
     @Override
@@ -88,7 +87,7 @@ public class JdbcRoleRepository extends AbstractJdbcRepository implements RoleRe
                 .page(PageRequest.of(page, size))
                 .as(JdbcRole.class).all())
                 .map(this::toEntity)
-                .flatMap(role -> completeWithScopes(Maybe.just(role), role.getId()).toFlowable())
+                .compose(this::completeWithScopes)
                 .toList()
                 .flatMap(content -> roleRepository.countByReference(referenceType.name(), referenceId)
                         .map((count) -> new Page<Role>(content, page, count)));
@@ -111,7 +110,7 @@ public class JdbcRoleRepository extends AbstractJdbcRepository implements RoleRe
                 .as(JdbcRole.class)
                 .fetch().all())
                 .map(this::toEntity)
-                .flatMap(role -> completeWithScopes(Maybe.just(role), role.getId()).toFlowable())
+                .compose(this::completeWithScopes)
                 .toList()
                 .flatMap(data -> monoToSingle(dbClient.execute(count)
                         .bind("value", wildcardSearch ? wildcardValue : query)
@@ -130,7 +129,7 @@ public class JdbcRoleRepository extends AbstractJdbcRepository implements RoleRe
         }
         return roleRepository.findByIdIn(ids)
                 .map(this::toEntity)
-                .flatMap(role -> completeWithScopes(Maybe.just(role), role.getId()).toFlowable());
+                .compose(this::completeWithScopes);
     }
 
     @Override
@@ -245,6 +244,23 @@ public class JdbcRoleRepository extends AbstractJdbcRepository implements RoleRe
         return monoToCompletable(delete.then(deleteScopes.as(trx::transactional)));
     }
 
+    private Flowable<Role> completeWithScopes(Flowable<Role> roles) {
+        return completeByBatches(roles, this::completeWithScopes);
+    }
+
+    private Single<List<Role>> completeWithScopes(List<Role> roles) {
+        if (roles.isEmpty()) {
+            return Single.just(roles);
+        }
+        final List<String> ids = roles.stream().map(Role::getId).collect(Collectors.toList());
+        return oauthScopeRepository.findAllByRoleIn(ids).toList()
+                .map(rows -> groupByParent(rows, JdbcRole.OAuthScope::getRoleId, JdbcRole.OAuthScope::getScope))
+                .map(scopes -> {
+                    roles.forEach(role -> role.setOauthScopes(new ArrayList<>(scopes.getOrDefault(role.getId(), Collections.emptyList()))));
+                    return roles;
+                });
+    }
+
     private Maybe<Role> completeWithScopes(Maybe<Role> maybeRole, String id) {
         Maybe<List<String>> scopes = oauthScopeRepository.findAllByRole(id)
                 .map(JdbcRole.OAuthScope::getScope)
@@ -26,6 +26,7 @@ import io.gravitee.am.model.scim.Attribute;
 import io.gravitee.am.repository.jdbc.common.dialect.ScimUserSearch;
 import io.gravitee.am.repository.jdbc.management.AbstractJdbcRepository;
 import io.gravitee.am.repository.jdbc.management.api.model.JdbcUser;
+import io.gravitee.am.repository.jdbc.management.api.model.mapper.UserMapper;
 import io.gravitee.am.repository.jdbc.management.api.spring.user.*;
 import io.gravitee.am.repository.management.api.UserRepository;
 import io.gravitee.am.repository.management.api.search.FilterCriteria;
@@ -49,6 +50,7 @@ import reactor.core.publisher.Mono;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static io.gravitee.am.model.ReferenceType.DOMAIN;
@@ -69,8 +71,6 @@ public class JdbcUserRepository extends AbstractJdbcRepository implements UserRe
     private static final String ATTRIBUTE_USER_FIELD_IM = "im";
     private static final String ATTRIBUTE_USER_FIELD_PHONE = "phoneNumber";
 
-    private static short CONCURRENT_FLATMAP = 1;
-
     @Autowired
     protected SpringUserRepository userRepository;
 
@@ -87,7 +87,7 @@ public class JdbcUserRepository extends AbstractJdbcRepository implements UserRe
     protected SpringUserEntitlementRepository entitlementRepository;
 
     protected User toEntity(JdbcUser entity) {
-        return mapper.map(entity, User.class);
+        return UserMapper.toEntity(entity);
     }
 
     protected JdbcUser toJdbcEntity(User entity) {
@@ -99,7 +99,7 @@ public class JdbcUserRepository extends AbstractJdbcRepository implements UserRe
         LOGGER.debug("findByReference({})", referenceId);
         return userRepository.findByReference(referenceType.name(), referenceId)
                 .map(this::toEntity)
-                .flatMap(user -> completeUser(user).toFlowable());
+                .compose(this::completeUsers);
     }
 
     @Override
@@ -113,12 +113,29 @@ public class JdbcUserRepository extends AbstractJdbcRepository implements UserRe
                 .page(PageRequest.of(page, size))
                 .as(JdbcUser.class).all())
                 .map(this::toEntity)
-                .flatMap(user -> completeUser(user).toFlowable(), CONCURRENT_FLATMAP)
+                .compose(this::completeUsers)
                 .toList()
                 .flatMap(content -> userRepository.countByReference(referenceType.name(), referenceId)
                         .map((count) -> new Page<User>(content, page, count)));
     }
 
+    @Override
+    public Flowable<User> findAllAfter(ReferenceType referenceType, String referenceId, String lastId, int size) {
+        LOGGER.debug("findAllAfter({}, {}, {}, {})", referenceType, referenceId, lastId, size);
+        Criteria criteria = where("reference_id").is(referenceId).and(where("reference_type").is(referenceType.name()));
+        if (lastId != null) {
+            criteria = criteria.and(where("id").greaterThan(lastId));
+        }
+        return fluxToFlowable(dbClient.select()
+                .from(JdbcUser.class)
+                .matching(from(criteria))
+                .orderBy(Sort.Order.asc("id"))
+                .page(PageRequest.of(0, size))
+                .as(JdbcUser.class).all())
+                .map(this::toEntity)
+                .compose(this::completeUsers);
+    }
+
     @Override
     public Single<Page<User>> search(ReferenceType referenceType, String referenceId, String query, int page, int size) {
         LOGGER.debug("search({}, {}, {}, {}, {})", referenceType, referenceId, query, page, size);
@@ -136,7 +153,7 @@ public class JdbcUserRepository extends AbstractJdbcRepository implements UserRe
                 .as(JdbcUser.class)
                 .fetch().all())
                 .map(this::toEntity)
-                .flatMap(app -> completeUser(app).toFlowable(), CONCURRENT_FLATMAP) // single thread to keep order
+                .compose(this::completeUsers)
                 .toList()
                 .flatMap(data -> monoToSingle(dbClient.execute(count)
                         .bind("value", wildcardSearch ? wildcardValue : query)
@@ -174,7 +191,7 @@ public class JdbcUserRepository extends AbstractJdbcRepository implements UserRe
 
         return fluxToFlowable(userFlux)
                 .map(this::toEntity)
-                .flatMap(user -> completeUser(user).toFlowable())
+                .compose(this::completeUsers)
                 .toList()
                 .flatMap(list -> monoToSingle(userCount).map(total -> new Page<User>(list, page, total)));
     }
@@ -190,7 +207,7 @@ public class JdbcUserRepository extends AbstractJdbcRepository implements UserRe
                 .fetch()
                 .all())
                 .map(this::toEntity)
-                .flatMap(user -> completeUser(user).toFlowable());
+                .compose(this::completeUsers);
     }
 
     @Override
@@ -225,7 +242,7 @@ public class JdbcUserRepository extends AbstractJdbcRepository implements UserRe
         }
         return userRepository.findByIdIn(ids)
                 .map(this::toEntity)
-                .flatMap(user -> completeUser(user).toFlowable(), CONCURRENT_FLATMAP);
+                .compose(this::completeUsers);
     }
 
     @Override
@@ -325,6 +342,51 @@ public class JdbcUserRepository extends AbstractJdbcRepository implements UserRe
         LOGGER.debug("Create user with id {}", item.getId());
 
         TransactionalOperator trx = TransactionalOperator.create(tm);
+        return monoToSingle(insertUser(item).as(trx::transactional))
+                .flatMap((i) -> this.findById(item.getId()).toSingle());
+    }
+
+    @Override
+    public Completable bulkWrite(List<User> users) {
+        LOGGER.debug("bulkWrite({} users)", users.size());
+        if (users.isEmpty()) {
+            return Completable.complete();
+        }
+
+        // replace the existing users: the whole batch is written in a single transaction
+        // instead of one transaction and one read-back per user
+        // only the users of the same reference are replaced, an id used by another reference makes the insert fail
+        TransactionalOperator trx = TransactionalOperator.create(tm);
+        Map<String, List<User>> usersByReference = users.stream()
+                .collect(Collectors.groupingBy(user -> user.getReferenceType() + ":" + user.getReferenceId()));
+        Mono<Integer> action = Flux.fromIterable(usersByReference.values()).concatMap(this::deleteUsers).then()
+                .then(Flux.fromIterable(users).concatMap(this::insertUser).reduce(Integer::sum));
+
+        return monoToCompletable(action.as(trx::transactional))
+                .doOnError(error -> LOGGER.error("Unable to bulk write users", error));
+    }
+
+    private Mono<Integer> deleteUsers(List<User> sameReferenceUsers) {
+        final User user = sameReferenceUsers.get(0);
+        final List<String> ids = sameReferenceUsers.stream().map(User::getId).collect(Collectors.toList());
+        return dbClient.select()
+                .from("users")
+                .project("id")
+                .matching(from(where("reference_type").is(user.getReferenceType().name())
+                        .and(where("reference_id").is(user.getReferenceId()))
+                        .and(where("id").in(ids))))
+                .map(row -> row.get("id", String.class))
+                .all()
+                .collectList()
+                .flatMap(existingIds -> existingIds.isEmpty() ? Mono.just(0) : dbClient.delete()
+                        .from(JdbcUser.class)
+                        .matching(from(where("id").in(existingIds)))
+                        .fetch()
+                        .rowsUpdated()
+                        .flatMap(deleted -> deleteChildEntities(existingIds).thenReturn(deleted)));
+    }
+
+    private Mono<Integer> insertUser(User item) {
         DatabaseClient.GenericInsertSpec<Map<String, Object>> insertSpec = dbClient.insert().into("users");
 
         // doesn't use the class introspection to handle json objects
@@ -365,10 +427,7 @@ public class JdbcUserRepository extends AbstractJdbcRepository implements UserRe
 
         Mono<Integer> insertAction = insertSpec.fetch().rowsUpdated();
 
-        insertAction = persistChildEntities(insertAction, item);
-
-        return monoToSingle(insertAction.as(trx::transactional))
-                .flatMap((i) -> this.findById(item.getId()).toSingle());
+        return persistChildEntities(insertAction, item);
     }
 
     @Override
@@ -416,8 +475,7 @@ public class JdbcUserRepository extends AbstractJdbcRepository implements UserRe
 
         Mono<Integer> updateAction = updateSpec.using(Update.from(updateFields)).matching(from(where("id").is(item.getId()))).fetch().rowsUpdated();
 
-        updateAction = deleteChildEntities(item.getId()).then(updateAction);
-        updateAction = persistChildEntities(updateAction, item);
+        updateAction = updateAction.flatMap(rows -> updateChildEntities(item).thenReturn(rows));
 
         return monoToSingle(updateAction.as(trx::transactional))
                 .flatMap((i) -> this.findById(item.getId()).toSingle());
@@ -436,8 +494,7 @@ public class JdbcUserRepository extends AbstractJdbcRepository implements UserRe
         final List<Address> addresses = item.getAddresses();
         if (addresses != null && !addresses.isEmpty()) {
             actionFlow = actionFlow.then(Flux.fromIterable(addresses).concatMap(address -> {
-                JdbcUser.Address jdbcAddr = mapper.map(address, JdbcUser.Address.class);
-                jdbcAddr.setUserId(item.getId());
+                JdbcUser.Address jdbcAddr = UserMapper.toJdbcAddress(address, item.getId());
                 return dbClient.insert().into(JdbcUser.Address.class).using(jdbcAddr).fetch().rowsUpdated();
             }).reduce(Integer::sum));
         }
@@ -475,26 +532,119 @@ public class JdbcUserRepository extends AbstractJdbcRepository implements UserRe
         return actionFlow;
     }
 
+    private Mono<Integer> updateChildEntities(User item) {
+        final Criteria userCriteria = where("user_id").is(item.getId());
+
+        Mono<Integer> updateRoles = updateChildValues(JdbcUser.Role.class, userCriteria, "role", JdbcUser.Role::getRole, item.getRoles(), role -> {
+            JdbcUser.Role jdbcRole = new JdbcUser.Role();
+            jdbcRole.setUserId(item.getId());
+            jdbcRole.setRole(role);
+            return jdbcRole;
+        });
+
+        Mono<Integer> updateEntitlements = updateChildValues(JdbcUser.Entitlements.class, userCriteria, "entitlement", JdbcUser.Entitlements::getEntitlement, item.getEntitlements(), entitlement -> {
+            JdbcUser.Entitlements jdbcEntitlement = new JdbcUser.Entitlements();
+            jdbcEntitlement.setUserId(item.getId());
+            jdbcEntitlement.setEntitlement(entitlement);
+            return jdbcEntitlement;
+        });
+
+        List<JdbcUser.Address> addresses = item.getAddresses() == null ? Collections.emptyList() : item.getAddresses().stream()
+                .map(address -> UserMapper.toJdbcAddress(address, item.getId()))
+                .collect(Collectors.toList());
+        Mono<Integer> updateAddresses = updateChildRows(JdbcUser.Address.class, userCriteria, addresses);
+
+        // attributes are compared field by field, so that updating the emails doesn't rewrite the phone numbers
+        Mono<Integer> updateAttributes = Flux.just(ATTRIBUTE_USER_FIELD_EMAIL, ATTRIBUTE_USER_FIELD_PHONE, ATTRIBUTE_USER_FIELD_IM, ATTRIBUTE_USER_FIELD_PHOTO)
+                .concatMap(field -> updateChildRows(JdbcUser.Attribute.class,
+                        userCriteria.and("user_field").is(field),
+                        convertAttributes(item, getAttributes(item, field), field).collect(Collectors.toList())))
+                .reduce(0, Integer::sum);
+
+        return updateRoles.then(updateEntitlements).then(updateAddresses).then(updateAttributes);
+    }
+
+    private List<Attribute> getAttributes(User item, String field) {
+        switch (field) {
+            case ATTRIBUTE_USER_FIELD_EMAIL:
+                return item.getEmails();
+            case ATTRIBUTE_USER_FIELD_PHONE:
+                return item.getPhoneNumbers();
+            case ATTRIBUTE_USER_FIELD_IM:
+                return item.getIms();
+            default:
+                return item.getPhotos();
+        }
+    }
+
     private Stream<JdbcUser.Attribute> convertAttributes(User item, List<Attribute> attributes, String field) {
         if (attributes != null && !attributes.isEmpty()) {
-            return attributes.stream().map(attr -> {
-                JdbcUser.Attribute jdbcAttr = mapper.map(attr, JdbcUser.Attribute.class);
-                jdbcAttr.setUserId(item.getId());
-                jdbcAttr.setUserField(field);
-                return jdbcAttr;
-            });
+            return attributes.stream().map(attr -> UserMapper.toJdbcAttribute(attr, item.getId(), field));
         }
         return Stream.empty();
     }
 
     private Mono<Integer> deleteChildEntities(String userId) {
-        Mono<Integer> deleteRoles = dbClient.delete().from(JdbcUser.Role.class).matching(from(where("user_id").is(userId))).fetch().rowsUpdated();
-        Mono<Integer> deleteAddresses = dbClient.delete().from(JdbcUser.Address.class).matching(from(where("user_id").is(userId))).fetch().rowsUpdated();
-        Mono<Integer> deleteAttributes = dbClient.delete().from(JdbcUser.Attribute.class).matching(from(where("user_id").is(userId))).fetch().rowsUpdated();
-        Mono<Integer> deleteEntitlements = dbClient.delete().from(JdbcUser.Entitlements.class).matching(from(where("user_id").is(userId))).fetch().rowsUpdated();
+        return deleteChildEntities(where("user_id").is(userId));
+    }
+
+    private Mono<Integer> deleteChildEntities(List<String> userIds) {
+        return deleteChildEntities(where("user_id").in(userIds));
+    }
+
+    private Mono<Integer> deleteChildEntities(Criteria userCriteria) {
+        Mono<Integer> deleteRoles = dbClient.delete().from(JdbcUser.Role.class).matching(from(userCriteria)).fetch().rowsUpdated();
+        Mono<Integer> deleteAddresses = dbClient.delete().from(JdbcUser.Address.class).matching(from(userCriteria)).fetch().rowsUpdated();
+        Mono<Integer> deleteAttributes = dbClient.delete().from(JdbcUser.Attribute.class).matching(from(userCriteria)).fetch().rowsUpdated();
+        Mono<Integer> deleteEntitlements = dbClient.delete().from(JdbcUser.Entitlements.class).matching(from(userCriteria)).fetch().rowsUpdated();
         return deleteRoles.then(deleteAddresses).then(deleteAttributes).then(deleteEntitlements);
     }
 
+    private Flowable<User> completeUsers(Flowable<User> users) {
+        return completeByBatches(users, this::completeUsers);
+    }
+
+    private Single<List<User>> completeUsers(List<User> users) {
+        if (users.isEmpty()) {
+            return Single.just(users);
+        }
+        final List<String> ids = users.stream().map(User::getId).collect(Collectors.toList());
+        Single<Map<String, List<String>>> roles = roleRepository.findByUserIdIn(ids).toList()
+                .map(rows -> groupByParent(rows, JdbcUser.Role::getUserId, JdbcUser.Role::getRole));
+        Single<Map<String, List<String>>> entitlements = entitlementRepository.findByUserIdIn(ids).toList()
+                .map(rows -> groupByParent(rows, JdbcUser.Entitlements::getUserId, JdbcUser.Entitlements::getEntitlement));
+        Single<Map<String, List<Address>>> addresses = addressesRepository.findByUserIdIn(ids).toList()
+                .map(rows -> groupByParent(rows, JdbcUser.Address::getUserId, jdbcAddr -> UserMapper.toEntity(jdbcAddr)));
+        Single<Map<String, List<JdbcUser.Attribute>>> attributes = attributesRepository.findByUserIdIn(ids).toList()
+                .map(rows -> groupByParent(rows, JdbcUser.Attribute::getUserId, attr -> attr));
+
+        return Single.zip(roles, entitlements, addresses, attributes, (userRoles, userEntitlements, userAddresses, userAttributes) -> {
+            users.forEach(user -> {
+                user.setRoles(new ArrayList<>(userRoles.getOrDefault(user.getId(), Collections.emptyList())));
+                user.setEntitlements(new ArrayList<>(userEntitlements.getOrDefault(user.getId(), Collections.emptyList())));
+                user.setAddresses(new ArrayList<>(userAddresses.getOrDefault(user.getId(), Collections.emptyList())));
+                setAttributes(user, userAttributes.getOrDefault(user.getId(), Collections.emptyList()));
+            });
+            return users;
+        });
+    }
+
+    private void setAttributes(User user, List<JdbcUser.Attribute> attributes) {
+        Map<String, List<Attribute>> map = attributes.stream().collect(StreamUtils.toMultiMap(JdbcUser.Attribute::getUserField, attr -> UserMapper.toEntity(attr)));
+        if (map.containsKey(ATTRIBUTE_USER_FIELD_EMAIL)) {
+            user.setEmails(map.get(ATTRIBUTE_USER_FIELD_EMAIL));
+        }
+        if (map.containsKey(ATTRIBUTE_USER_FIELD_PHONE)) {
+            user.setPhoneNumbers(map.get(ATTRIBUTE_USER_FIELD_PHONE));
+        }
+        if (map.containsKey(ATTRIBUTE_USER_FIELD_PHOTO)) {
+            user.setPhotos(map.get(ATTRIBUTE_USER_FIELD_PHOTO));
+        }
+        if (map.containsKey(ATTRIBUTE_USER_FIELD_IM)) {
+            user.setIms(map.get(ATTRIBUTE_USER_FIELD_IM));
+        }
+    }
+
     private Single<User> completeUser(User userToComplete) {
         return Single.just(userToComplete)
                 .flatMap(user ->
@@ -509,7 +659,7 @@ public class JdbcUserRepository extends AbstractJdbcRepository implements UserRe
                         }))
                 .flatMap(user ->
                         addressesRepository.findByUserId(user.getId())
-                                .map(jdbcAddr -> mapper.map(jdbcAddr, Address.class))
+                                .map(jdbcAddr -> UserMapper.toEntity(jdbcAddr))
                                 .toList().map(addresses -> {
                             user.setAddresses(addresses);
                             return user;
@@ -518,19 +668,7 @@ public class JdbcUserRepository extends AbstractJdbcRepository implements UserRe
                         attributesRepository.findByUserId(user.getId())
                                 .toList()
                                 .map(attributes -> {
-                                    Map<String, List<Attribute>> map = attributes.stream().collect(StreamUtils.toMultiMap(JdbcUser.Attribute::getUserField, attr -> mapper.map(attr, Attribute.class)));
-                                    if (map.containsKey(ATTRIBUTE_USER_FIELD_EMAIL)) {
-                                        user.setEmails(map.get(ATTRIBUTE_USER_FIELD_EMAIL));
-                                    }
-                                    if (map.containsKey(ATTRIBUTE_USER_FIELD_PHONE)) {
-                                        user.setPhoneNumbers(map.get(ATTRIBUTE_USER_FIELD_PHONE));
-                                    }
-                                    if (map.containsKey(ATTRIBUTE_USER_FIELD_PHOTO)) {
-                                        user.setPhotos(map.get(ATTRIBUTE_USER_FIELD_PHOTO));
-                                    }
-                                    if (map.containsKey(ATTRIBUTE_USER_FIELD_IM)) {
-                                        user.setIms(map.get(ATTRIBUTE_USER_FIELD_IM));
-                                    }
+                                    setAttributes(user, attributes);
                                     return user;
                                 })
                 );
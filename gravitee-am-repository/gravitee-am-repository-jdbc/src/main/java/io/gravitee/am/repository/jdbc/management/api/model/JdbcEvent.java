@@ -29,7 +29,10 @@ import java.time.LocalDateTime;
 public class JdbcEvent {
     @Id
     private String id;
+    private Long sequence;
     private String type;
+    @Column("entity_id")
+    private String entityId;
     private String payload;
     @Column("created_at")
     private LocalDateTime createdAt;
@@ -44,6 +47,14 @@ public class JdbcEvent {
         this.id = id;
     }
 
+    public Long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(Long sequence) {
+        this.sequence = sequence;
+    }
+
     public String getType() {
         return type;
     }
@@ -52,6 +63,14 @@ public class JdbcEvent {
         this.type = type;
     }
 
+    public String getEntityId() {
+        return entityId;
+    }
+
+    public void setEntityId(String entityId) {
+        this.entityId = entityId;
+    }
+
     public String getPayload() {
         return payload;
     }
@@ -20,6 +20,7 @@ import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.Table;
 
 import java.time.LocalDateTime;
+import java.util.Objects;
 
 /**
  * @author Eric LELEU (eric.leleu at graviteesource.com)
@@ -491,6 +492,26 @@ public class JdbcUser {
         public void setPrimary(Boolean primary) {
             this.primary = primary;
         }
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Address address = (Address) o;
+            return Objects.equals(userId, address.userId) &&
+                    Objects.equals(type, address.type) &&
+                    Objects.equals(formatted, address.formatted) &&
+                    Objects.equals(streetAddress, address.streetAddress) &&
+                    Objects.equals(locality, address.locality) &&
+                    Objects.equals(region, address.region) &&
+                    Objects.equals(postalCode, address.postalCode) &&
+                    Objects.equals(country, address.country) &&
+                    Objects.equals(primary, address.primary);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, type, formatted, streetAddress, locality, region, postalCode, country, primary);
+        }
     }
 
     @Table("user_attributes")
@@ -542,5 +563,21 @@ public class JdbcUser {
         public void setPrimary(Boolean primary) {
             this.primary = primary;
         }
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Attribute attribute = (Attribute) o;
+            return Objects.equals(userId, attribute.userId) &&
+                    Objects.equals(userField, attribute.userField) &&
+                    Objects.equals(value, attribute.value) &&
+                    Objects.equals(type, attribute.type) &&
+                    Objects.equals(primary, attribute.primary);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, userField, value, type, primary);
+        }
     }
 }
@@ -42,7 +42,9 @@ public class EventConverter extends DozerConverter<Event, JdbcEvent> {
         if (event != null) {
             result = new JdbcEvent();
             result.setId(event.getId());
+            result.setSequence(event.getSequence());
             result.setType(event.getType() == null ? null : event.getType().name());
+            result.setEntityId(event.getPayload() == null ? null : event.getPayload().getId());
             result.setPayload(JSONMapper.toJson(event.getPayload()));
             result.setCreatedAt(dateConverter.convertTo(event.getCreatedAt(), null));
             result.setUpdatedAt(dateConverter.convertTo(event.getUpdatedAt(), null));
@@ -56,6 +58,7 @@ public class EventConverter extends DozerConverter<Event, JdbcEvent> {
         if (jdbcEvent != null) {
             result = new Event();
             result.setId(jdbcEvent.getId());
+            result.setSequence(jdbcEvent.getSequence());
             result.setType(jdbcEvent.getType() == null ? null : Type.valueOf(jdbcEvent.getType()));
             final HashMap payload = JSONMapper.toBean(jdbcEvent.getPayload(), HashMap.class);
             if (payload != null) {
@@ -0,0 +1,60 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.jdbc.management.api.model.mapper;
+
+import io.gravitee.am.model.LoginAttempt;
+import io.gravitee.am.repository.jdbc.management.api.model.JdbcLoginAttempt;
+
+/**
+ * Hand-written mapping of the login attempts, used instead of Dozer as attempts are read on each login.
+ *
+ * @author GraviteeSource Team
+ */
+public final class LoginAttemptMapper {
+
+    private static final LocalDateConverter DATE_CONVERTER = new LocalDateConverter();
+
+    private LoginAttemptMapper() {
+    }
+
+    public static LoginAttempt toEntity(JdbcLoginAttempt jdbcAttempt) {
+        LoginAttempt attempt = new LoginAttempt();
+        attempt.setId(jdbcAttempt.getId());
+        attempt.setDomain(jdbcAttempt.getDomain());
+        attempt.setClient(jdbcAttempt.getClient());
+        attempt.setIdentityProvider(jdbcAttempt.getIdentityProvider());
+        attempt.setUsername(jdbcAttempt.getUsername());
+        attempt.setAttempts(jdbcAttempt.getAttempts());
+        attempt.setExpireAt(DATE_CONVERTER.convertFrom(jdbcAttempt.getExpireAt(), null));
+        attempt.setCreatedAt(DATE_CONVERTER.convertFrom(jdbcAttempt.getCreatedAt(), null));
+        attempt.setUpdatedAt(DATE_CONVERTER.convertFrom(jdbcAttempt.getUpdatedAt(), null));
+        return attempt;
+    }
+
+    public static JdbcLoginAttempt toJdbcEntity(LoginAttempt attempt) {
+        JdbcLoginAttempt jdbcAttempt = new JdbcLoginAttempt();
+        jdbcAttempt.setId(attempt.getId());
+        jdbcAttempt.setDomain(attempt.getDomain());
+        jdbcAttempt.setClient(attempt.getClient());
+        jdbcAttempt.setIdentityProvider(attempt.getIdentityProvider());
+        jdbcAttempt.setUsername(attempt.getUsername());
+        jdbcAttempt.setAttempts(attempt.getAttempts());
+        jdbcAttempt.setExpireAt(DATE_CONVERTER.convertTo(attempt.getExpireAt(), null));
+        jdbcAttempt.setCreatedAt(DATE_CONVERTER.convertTo(attempt.getCreatedAt(), null));
+        jdbcAttempt.setUpdatedAt(DATE_CONVERTER.convertTo(attempt.getUpdatedAt(), null));
+        return jdbcAttempt;
+    }
+}
@@ -0,0 +1,181 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.jdbc.management.api.model.mapper;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.gravitee.am.model.ReferenceType;
+import io.gravitee.am.model.User;
+import io.gravitee.am.model.factor.EnrolledFactor;
+import io.gravitee.am.model.scim.Address;
+import io.gravitee.am.model.scim.Attribute;
+import io.gravitee.am.model.scim.Certificate;
+import io.gravitee.am.repository.jdbc.common.JSONMapper;
+import io.gravitee.am.repository.jdbc.management.api.model.JdbcUser;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hand-written mapping of the users and of their addresses and attributes, used instead of Dozer as users are read
+ * on each authentication. As with the Dozer mapping (map-null="false"), null columns keep the default values of the user.
+ *
+ * @author GraviteeSource Team
+ */
+public final class UserMapper {
+
+    private static final LocalDateConverter DATE_CONVERTER = new LocalDateConverter();
+    private static final TypeReference<List<Certificate>> CERTIFICATES_TYPE = new TypeReference<List<Certificate>>() {};
+    private static final TypeReference<List<EnrolledFactor>> FACTORS_TYPE = new TypeReference<List<EnrolledFactor>>() {};
+
+    private UserMapper() {
+    }
+
+    public static User toEntity(JdbcUser jdbcUser) {
+        User user = new User();
+        if (jdbcUser.getId() != null) {
+            user.setId(jdbcUser.getId());
+        }
+        if (jdbcUser.getExternalId() != null) {
+            user.setExternalId(jdbcUser.getExternalId());
+        }
+        if (jdbcUser.getUsername() != null) {
+            user.setUsername(jdbcUser.getUsername());
+        }
+        if (jdbcUser.getEmail() != null) {
+            user.setEmail(jdbcUser.getEmail());
+        }
+        if (jdbcUser.getDisplayName() != null) {
+            user.setDisplayName(jdbcUser.getDisplayName());
+        }
+        if (jdbcUser.getNickName() != null) {
+            user.setNickName(jdbcUser.getNickName());
+        }
+        if (jdbcUser.getFirstName() != null) {
+            user.setFirstName(jdbcUser.getFirstName());
+        }
+        if (jdbcUser.getLastName() != null) {
+            user.setLastName(jdbcUser.getLastName());
+        }
+        if (jdbcUser.getTitle() != null) {
+            user.setTitle(jdbcUser.getTitle());
+        }
+        if (jdbcUser.getType() != null) {
+            user.setType(jdbcUser.getType());
+        }
+        if (jdbcUser.getPreferredLanguage() != null) {
+            user.setPreferredLanguage(jdbcUser.getPreferredLanguage());
+        }
+        user.setAccountNonExpired(jdbcUser.isAccountNonExpired());
+        if (jdbcUser.getAccountLockedAt() != null) {
+            user.setAccountLockedAt(DATE_CONVERTER.convertFrom(jdbcUser.getAccountLockedAt(), null));
+        }
+        if (jdbcUser.getAccountLockedUntil() != null) {
+            user.setAccountLockedUntil(DATE_CONVERTER.convertFrom(jdbcUser.getAccountLockedUntil(), null));
+        }
+        user.setAccountNonLocked(jdbcUser.isAccountNonLocked());
+        user.setCredentialsNonExpired(jdbcUser.isCredentialsNonExpired());
+        user.setEnabled(jdbcUser.isEnabled());
+        user.setInternal(jdbcUser.isInternal());
+        user.setPreRegistration(jdbcUser.isPreRegistration());
+        user.setRegistrationCompleted(jdbcUser.isRegistrationCompleted());
+        if (jdbcUser.getNewsletter() != null) {
+            user.setNewsletter(jdbcUser.getNewsletter());
+        }
+        if (jdbcUser.getRegistrationUserUri() != null) {
+            user.setRegistrationUserUri(jdbcUser.getRegistrationUserUri());
+        }
+        if (jdbcUser.getRegistrationAccessToken() != null) {
+            user.setRegistrationAccessToken(jdbcUser.getRegistrationAccessToken());
+        }
+        if (jdbcUser.getReferenceType() != null) {
+            user.setReferenceType(ReferenceType.valueOf(jdbcUser.getReferenceType()));
+        }
+        if (jdbcUser.getReferenceId() != null) {
+            user.setReferenceId(jdbcUser.getReferenceId());
+        }
+        if (jdbcUser.getSource() != null) {
+            user.setSource(jdbcUser.getSource());
+        }
+        if (jdbcUser.getClient() != null) {
+            user.setClient(jdbcUser.getClient());
+        }
+        user.setLoginsCount(jdbcUser.getLoginsCount());
+        if (jdbcUser.getLoggedAt() != null) {
+            user.setLoggedAt(DATE_CONVERTER.convertFrom(jdbcUser.getLoggedAt(), null));
+        }
+        if (jdbcUser.getCreatedAt() != null) {
+            user.setCreatedAt(DATE_CONVERTER.convertFrom(jdbcUser.getCreatedAt(), null));
+        }
+        if (jdbcUser.getUpdatedAt() != null) {
+            user.setUpdatedAt(DATE_CONVERTER.convertFrom(jdbcUser.getUpdatedAt(), null));
+        }
+        if (jdbcUser.getX509Certificates() != null) {
+            user.setX509Certificates(JSONMapper.toCollectionOfBean(jdbcUser.getX509Certificates(), CERTIFICATES_TYPE));
+        }
+        if (jdbcUser.getFactors() != null) {
+            user.setFactors(JSONMapper.toCollectionOfBean(jdbcUser.getFactors(), FACTORS_TYPE));
+        }
+        if (jdbcUser.getAdditionalInformation() != null) {
+            user.setAdditionalInformation(JSONMapper.toBean(jdbcUser.getAdditionalInformation(), Map.class));
+        }
+        return user;
+    }
+
+    public static Address toEntity(JdbcUser.Address jdbcAddress) {
+        Address address = new Address();
+        address.setType(jdbcAddress.getType());
+        address.setFormatted(jdbcAddress.getFormatted());
+        address.setStreetAddress(jdbcAddress.getStreetAddress());
+        address.setLocality(jdbcAddress.getLocality());
+        address.setRegion(jdbcAddress.getRegion());
+        address.setPostalCode(jdbcAddress.getPostalCode());
+        address.setCountry(jdbcAddress.getCountry());
+        address.setPrimary(jdbcAddress.getPrimary());
+        return address;
+    }
+
+    public static JdbcUser.Address toJdbcAddress(Address address, String userId) {
+        JdbcUser.Address jdbcAddress = new JdbcUser.Address();
+        jdbcAddress.setUserId(userId);
+        jdbcAddress.setType(address.getType());
+        jdbcAddress.setFormatted(address.getFormatted());
+        jdbcAddress.setStreetAddress(address.getStreetAddress());
+        jdbcAddress.setLocality(address.getLocality());
+        jdbcAddress.setRegion(address.getRegion());
+        jdbcAddress.setPostalCode(address.getPostalCode());
+        jdbcAddress.setCountry(address.getCountry());
+        jdbcAddress.setPrimary(address.isPrimary());
+        return jdbcAddress;
+    }
+
+    public static Attribute toEntity(JdbcUser.Attribute jdbcAttribute) {
+        Attribute attribute = new Attribute();
+        attribute.setValue(jdbcAttribute.getValue());
+        attribute.setType(jdbcAttribute.getType());
+        attribute.setPrimary(jdbcAttribute.getPrimary());
+        return attribute;
+    }
+
+    public static JdbcUser.Attribute toJdbcAttribute(Attribute attribute, String userId, String userField) {
+        JdbcUser.Attribute jdbcAttribute = new JdbcUser.Attribute();
+        jdbcAttribute.setUserId(userId);
+        jdbcAttribute.setUserField(userField);
+        jdbcAttribute.setValue(attribute.getValue());
+        jdbcAttribute.setType(attribute.getType());
+        jdbcAttribute.setPrimary(attribute.isPrimary());
+        return jdbcAttribute;
+    }
+}
@@ -22,6 +22,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.data.repository.reactive.RxJava2CrudRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+
 /**
  * @author Eric LELEU (eric.leleu at graviteesource.com)
  * @author GraviteeSource Team
@@ -31,4 +33,7 @@ public interface SpringApplicationFactorRepository extends RxJava2CrudRepository
 
     @Query("Select * from application_factors f where f.application_id = :appId")
     Flowable<JdbcApplication.Factor> findAllByApplicationId(@Param("appId") String applicationId);
+
+    @Query("Select * from application_factors f where f.application_id in (:appIds)")
+    Flowable<JdbcApplication.Factor> findAllByApplicationIdIn(@Param("appIds") Collection<String> applicationIds);
 }
@@ -22,6 +22,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.data.repository.reactive.RxJava2CrudRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+
 /**
  * @author Eric LELEU (eric.leleu at graviteesource.com)
  * @author GraviteeSource Team
@@ -32,4 +34,6 @@ public interface SpringApplicationIdentityRepository extends RxJava2CrudReposito
     @Query("Select * from application_identities i where i.application_id = :appId")
     Flowable<JdbcApplication.Identity> findAllByApplicationId(@Param("appId") String applicationId);
 
+    @Query("Select * from application_identities i where i.application_id in (:appIds)")
+    Flowable<JdbcApplication.Identity> findAllByApplicationIdIn(@Param("appIds") Collection<String> applicationIds);
 }
@@ -18,9 +18,12 @@ package io.gravitee.am.repository.jdbc.management.api.spring.domain;
 import io.gravitee.am.repository.jdbc.management.api.model.JdbcDomain;
 import io.reactivex.Flowable;
 import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.repository.reactive.RxJava2CrudRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+
 /**
  * @author Eric LELEU (eric.leleu at graviteesource.com)
  * @author GraviteeSource Team
@@ -29,4 +32,7 @@ import org.springframework.stereotype.Repository;
 public interface SpringDomainIdentitiesRepository extends RxJava2CrudRepository<JdbcDomain.Identity, String> {
     @Query("select * from domain_identities c where c.domain_id = :domainId  ")
     Flowable<JdbcDomain.Identity> findAllByDomainId(String domainId);
+
+    @Query("select * from domain_identities c where c.domain_id in (:domainIds)")
+    Flowable<JdbcDomain.Identity> findAllByDomainIdIn(@Param("domainIds") Collection<String> domainIds);
 }
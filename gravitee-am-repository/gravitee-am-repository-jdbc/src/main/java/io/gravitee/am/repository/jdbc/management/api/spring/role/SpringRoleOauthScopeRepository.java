@@ -22,6 +22,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.data.repository.reactive.RxJava2CrudRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+
 /**
  * @author Eric LELEU (eric.leleu at graviteesource.com)
  * @author GraviteeSource Team
@@ -30,4 +32,7 @@ import org.springframework.stereotype.Repository;
 public interface SpringRoleOauthScopeRepository extends RxJava2CrudRepository<JdbcRole.OAuthScope, String> {
     @Query("select * from role_oauth_scopes s where s.role_id = :roleId")
     Flowable<JdbcRole.OAuthScope> findAllByRole(@Param("roleId")String roleId);
+
+    @Query("select * from role_oauth_scopes s where s.role_id in (:roleIds)")
+    Flowable<JdbcRole.OAuthScope> findAllByRoleIn(@Param("roleIds") Collection<String> roleIds);
 }
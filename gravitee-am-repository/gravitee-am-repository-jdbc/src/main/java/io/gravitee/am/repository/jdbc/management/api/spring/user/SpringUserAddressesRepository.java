@@ -22,6 +22,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.data.repository.reactive.RxJava2CrudRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+
 /**
  * @author Eric LELEU (eric.leleu at graviteesource.com)
  * @author GraviteeSource Team
@@ -30,4 +32,7 @@ import org.springframework.stereotype.Repository;
 public interface SpringUserAddressesRepository extends RxJava2CrudRepository<JdbcUser.Address, String> {
     @Query("select * from user_addresses a where a.user_id = :user")
     Flowable<JdbcUser.Address> findByUserId(@Param("user") String userId);
+
+    @Query("select * from user_addresses a where a.user_id in (:users)")
+    Flowable<JdbcUser.Address> findByUserIdIn(@Param("users") Collection<String> userIds);
 }
@@ -22,6 +22,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.data.repository.reactive.RxJava2CrudRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+
 /**
  * @author Eric LELEU (eric.leleu at graviteesource.com)
  * @author GraviteeSource Team
@@ -30,4 +32,7 @@ import org.springframework.stereotype.Repository;
 public interface SpringUserAttributesRepository extends RxJava2CrudRepository<JdbcUser.Attribute, String> {
     @Query("select * from user_attributes a where a.user_id = :user")
     Flowable<JdbcUser.Attribute> findByUserId(@Param("user") String userId);
+
+    @Query("select * from user_attributes a where a.user_id in (:users)")
+    Flowable<JdbcUser.Attribute> findByUserIdIn(@Param("users") Collection<String> userIds);
 }
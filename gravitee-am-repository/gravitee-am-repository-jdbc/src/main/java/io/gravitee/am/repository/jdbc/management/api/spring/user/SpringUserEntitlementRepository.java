@@ -22,6 +22,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.data.repository.reactive.RxJava2CrudRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+
 /**
  * @author Eric LELEU (eric.leleu at graviteesource.com)
  * @author GraviteeSource Team
@@ -30,4 +32,7 @@ import org.springframework.stereotype.Repository;
 public interface SpringUserEntitlementRepository extends RxJava2CrudRepository<JdbcUser.Entitlements, String> {
     @Query("select * from user_entitlements e where e.user_id = :user")
     Flowable<JdbcUser.Entitlements> findByUserId(@Param("user") String userId);
+
+    @Query("select * from user_entitlements e where e.user_id in (:users)")
+    Flowable<JdbcUser.Entitlements> findByUserIdIn(@Param("users") Collection<String> userIds);
 }
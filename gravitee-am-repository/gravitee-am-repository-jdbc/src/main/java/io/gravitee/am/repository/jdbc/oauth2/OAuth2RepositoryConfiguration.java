@@ -15,10 +15,12 @@
  */
 package io.gravitee.am.repository.jdbc.oauth2;
 
+import io.gravitee.am.repository.Scope;
 import io.gravitee.am.repository.jdbc.common.AbstractRepositoryConfiguration;
 import io.gravitee.am.repository.jdbc.common.ConnectionFactoryProvider;
 import io.gravitee.am.repository.jdbc.common.dialect.DatabaseDialectHelper;
 import io.gravitee.am.repository.jdbc.exceptions.RepositoryInitializationException;
+import io.gravitee.am.repository.metrics.RepositoryMetricsPostProcessor;
 import io.r2dbc.spi.ConnectionFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
@@ -48,6 +50,11 @@ public class OAuth2RepositoryConfiguration extends AbstractRepositoryConfigurati
     @Autowired
     protected ConnectionFactoryProvider connectionFactoryProvider;
 
+    @Bean
+    public static RepositoryMetricsPostProcessor repositoryMetricsPostProcessor() {
+        return new RepositoryMetricsPostProcessor(Scope.OAUTH2.getName());
+    }
+
     @Bean
     public ConnectionFactoryProvider connectionFactoryProvider() {
         return new ConnectionFactoryProvider(environment, "oauth2");
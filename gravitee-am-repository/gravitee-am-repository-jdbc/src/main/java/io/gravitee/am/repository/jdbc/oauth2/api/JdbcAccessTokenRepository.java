@@ -19,6 +19,7 @@ import io.gravitee.am.common.utils.RandomString;
 import io.gravitee.am.repository.jdbc.management.AbstractJdbcRepository;
 import io.gravitee.am.repository.jdbc.management.api.model.JdbcLoginAttempt;
 import io.gravitee.am.repository.jdbc.oauth2.api.model.JdbcAccessToken;
+import io.gravitee.am.repository.jdbc.oauth2.api.model.mapper.TokenMapper;
 import io.gravitee.am.repository.jdbc.oauth2.api.spring.SpringAccessTokenRepository;
 import io.gravitee.am.repository.oauth2.api.AccessTokenRepository;
 import io.gravitee.am.repository.oauth2.model.AccessToken;
@@ -45,11 +46,11 @@ public class JdbcAccessTokenRepository extends AbstractJdbcRepository implements
     private SpringAccessTokenRepository accessTokenRepository;
 
     protected AccessToken toEntity(JdbcAccessToken entity) {
-        return mapper.map(entity, AccessToken.class);
+        return TokenMapper.toAccessToken(entity);
     }
 
     protected JdbcAccessToken toJdbcEntity(AccessToken entity) {
-        return mapper.map(entity, JdbcAccessToken.class);
+        return TokenMapper.toJdbcAccessToken(entity);
     }
 
     @Override
@@ -70,19 +71,18 @@ public class JdbcAccessTokenRepository extends AbstractJdbcRepository implements
                 .using(toJdbcEntity(accessToken))
                 .fetch().rowsUpdated();
 
-        return monoToSingle(action).flatMap((i) -> accessTokenRepository.findById(accessToken.getId()).map(this::toEntity).toSingle())
+        return monoToSingle(action).map(i -> accessToken)
                 .doOnError((error) -> LOGGER.error("Unable to create accessToken with id {}", accessToken.getId(), error));
     }
 
     @Override
     public Completable delete(String token) {
         LOGGER.debug("delete({})", token);
-        return Completable.fromMaybe(findByToken(token).flatMap(accessToken ->
-            monoToMaybe(dbClient.delete()
-                    .from(JdbcAccessToken.class)
-                    .matching(from(where("token").is(token)))
-                    .fetch().rowsUpdated()).map(i -> accessToken)
-        ).doOnError(error -> LOGGER.error("Unable to delete AccessToken", error)));
+        return monoToCompletable(dbClient.delete()
+                .from(JdbcAccessToken.class)
+                .matching(from(where("token").is(token)))
+                .fetch().rowsUpdated())
+                .doOnError(error -> LOGGER.error("Unable to delete AccessToken", error));
     }
 
     @Override
@@ -171,4 +171,10 @@ public class JdbcAccessTokenRepository extends AbstractJdbcRepository implements
         LocalDateTime now = LocalDateTime.now(UTC);
         return monoToCompletable(dbClient.delete().from(JdbcAccessToken.class).matching(where("expire_at").lessThan(now)).then()).doOnError(error -> LOGGER.error("Unable to purge access tokens", error));
     }
+
+    @Override
+    public Single<Long> purgeExpiredData(int batchSize) {
+        LOGGER.debug("purgeExpiredData({})", batchSize);
+        return deleteExpiredData("access_tokens", "expire_at", batchSize).doOnError(error -> LOGGER.error("Unable to purge access tokens", error));
+    }
 }
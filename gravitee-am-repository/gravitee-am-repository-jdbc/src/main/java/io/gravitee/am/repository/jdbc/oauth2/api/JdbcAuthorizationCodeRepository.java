@@ -89,6 +89,8 @@ public class JdbcAuthorizationCodeRepository extends AbstractJdbcRepository impl
                     monoToMaybe(dbClient.delete()
                             .from(JdbcAuthorizationCode.class)
                             .matching(from(where("id").is(id))).fetch().rowsUpdated())
+                            // only the caller which has really deleted the row gets the code back
+                            .filter(rows -> rows > 0)
                             .map(i -> authCode));
     }
 
@@ -105,4 +107,10 @@ public class JdbcAuthorizationCodeRepository extends AbstractJdbcRepository impl
         LocalDateTime now = LocalDateTime.now(UTC);
         return monoToCompletable(dbClient.delete().from(JdbcAuthorizationCode.class).matching(where("expire_at").lessThan(now)).then()).doOnError(error -> LOGGER.error("Unable to purge authorization tokens", error));
     }
+
+    @Override
+    public Single<Long> purgeExpiredData(int batchSize) {
+        LOGGER.debug("purgeExpiredData({})", batchSize);
+        return deleteExpiredData("authorization_codes", "expire_at", batchSize).doOnError(error -> LOGGER.error("Unable to purge authorization codes", error));
+    }
 }
@@ -18,6 +18,7 @@ package io.gravitee.am.repository.jdbc.oauth2.api;
 import io.gravitee.am.common.utils.RandomString;
 import io.gravitee.am.repository.jdbc.management.AbstractJdbcRepository;
 import io.gravitee.am.repository.jdbc.oauth2.api.model.JdbcRefreshToken;
+import io.gravitee.am.repository.jdbc.oauth2.api.model.mapper.TokenMapper;
 import io.gravitee.am.repository.jdbc.oauth2.api.spring.SpringRefreshTokenRepository;
 import io.gravitee.am.repository.oauth2.api.RefreshTokenRepository;
 import io.gravitee.am.repository.oauth2.model.RefreshToken;
@@ -49,11 +50,11 @@ public class JdbcRefreshTokenRepository extends AbstractJdbcRepository implement
     private SpringRefreshTokenRepository refreshTokenRepository;
 
     protected RefreshToken toEntity(JdbcRefreshToken entity) {
-        return mapper.map(entity, RefreshToken.class);
+        return TokenMapper.toRefreshToken(entity);
     }
 
     protected JdbcRefreshToken toJdbcEntity(RefreshToken entity) {
-        return mapper.map(entity, JdbcRefreshToken.class);
+        return TokenMapper.toJdbcRefreshToken(entity);
     }
 
     @Override
@@ -75,7 +76,7 @@ public class JdbcRefreshTokenRepository extends AbstractJdbcRepository implement
                 .fetch().rowsUpdated();
 
         return monoToSingle(action)
-                .flatMap((i) -> refreshTokenRepository.findById(refreshToken.getId()).map(this::toEntity).toSingle())
+                .map(i -> refreshToken)
                 .doOnError((error) -> LOGGER.error("Unable to create refreshToken with id {}", refreshToken.getId(), error));
     }
 
@@ -137,4 +138,10 @@ public class JdbcRefreshTokenRepository extends AbstractJdbcRepository implement
         LocalDateTime now = LocalDateTime.now(UTC);
         return monoToCompletable(dbClient.delete().from(JdbcRefreshToken.class).matching(where("expire_at").lessThan(now)).then()).doOnError(error -> LOGGER.error("Unable to purge refresh tokens", error));
     }
+
+    @Override
+    public Single<Long> purgeExpiredData(int batchSize) {
+        LOGGER.debug("purgeExpiredData({})", batchSize);
+        return deleteExpiredData("refresh_tokens", "expire_at", batchSize).doOnError(error -> LOGGER.error("Unable to purge refresh tokens", error));
+    }
 }
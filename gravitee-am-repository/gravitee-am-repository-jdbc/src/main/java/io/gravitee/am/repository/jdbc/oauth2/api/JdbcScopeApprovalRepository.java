@@ -171,4 +171,10 @@ public class JdbcScopeApprovalRepository extends AbstractJdbcRepository implemen
         LocalDateTime now = LocalDateTime.now(UTC);
         return monoToCompletable(dbClient.delete().from(JdbcScopeApproval.class).matching(where("expires_at").lessThan(now)).then());
     }
+
+    @Override
+    public Single<Long> purgeExpiredData(int batchSize) {
+        LOGGER.debug("purgeExpiredData({})", batchSize);
+        return deleteExpiredData("scope_approvals", "expires_at", batchSize).doOnError(error -> LOGGER.error("Unable to purge scope approvals", error));
+    }
 }
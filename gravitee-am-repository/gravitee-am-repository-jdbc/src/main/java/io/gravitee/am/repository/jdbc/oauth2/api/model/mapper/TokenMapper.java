@@ -0,0 +1,81 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.jdbc.oauth2.api.model.mapper;
+
+import io.gravitee.am.repository.jdbc.management.api.model.mapper.LocalDateConverter;
+import io.gravitee.am.repository.jdbc.oauth2.api.model.JdbcAccessToken;
+import io.gravitee.am.repository.jdbc.oauth2.api.model.JdbcRefreshToken;
+import io.gravitee.am.repository.jdbc.oauth2.api.model.JdbcToken;
+import io.gravitee.am.repository.oauth2.model.AccessToken;
+import io.gravitee.am.repository.oauth2.model.RefreshToken;
+import io.gravitee.am.repository.oauth2.model.Token;
+
+/**
+ * Hand-written mapping of the tokens, used instead of Dozer on the token lookups.
+ *
+ * @author GraviteeSource Team
+ */
+public final class TokenMapper {
+
+    private static final LocalDateConverter DATE_CONVERTER = new LocalDateConverter();
+
+    private TokenMapper() {
+    }
+
+    public static AccessToken toAccessToken(JdbcAccessToken jdbcToken) {
+        AccessToken token = toToken(jdbcToken, new AccessToken());
+        token.setRefreshToken(jdbcToken.getRefreshToken());
+        token.setAuthorizationCode(jdbcToken.getAuthorizationCode());
+        return token;
+    }
+
+    public static JdbcAccessToken toJdbcAccessToken(AccessToken token) {
+        JdbcAccessToken jdbcToken = toJdbcToken(token, new JdbcAccessToken());
+        jdbcToken.setRefreshToken(token.getRefreshToken());
+        jdbcToken.setAuthorizationCode(token.getAuthorizationCode());
+        return jdbcToken;
+    }
+
+    public static RefreshToken toRefreshToken(JdbcRefreshToken jdbcToken) {
+        return toToken(jdbcToken, new RefreshToken());
+    }
+
+    public static JdbcRefreshToken toJdbcRefreshToken(RefreshToken token) {
+        return toJdbcToken(token, new JdbcRefreshToken());
+    }
+
+    private static <T extends Token> T toToken(JdbcToken jdbcToken, T token) {
+        token.setId(jdbcToken.getId());
+        token.setToken(jdbcToken.getToken());
+        token.setDomain(jdbcToken.getDomain());
+        token.setClient(jdbcToken.getClient());
+        token.setSubject(jdbcToken.getSubject());
+        token.setCreatedAt(DATE_CONVERTER.convertFrom(jdbcToken.getCreatedAt(), null));
+        token.setExpireAt(DATE_CONVERTER.convertFrom(jdbcToken.getExpireAt(), null));
+        return token;
+    }
+
+    private static <T extends JdbcToken> T toJdbcToken(Token token, T jdbcToken) {
+        jdbcToken.setId(token.getId());
+        jdbcToken.setToken(token.getToken());
+        jdbcToken.setDomain(token.getDomain());
+        jdbcToken.setClient(token.getClient());
+        jdbcToken.setSubject(token.getSubject());
+        jdbcToken.setCreatedAt(DATE_CONVERTER.convertTo(token.getCreatedAt(), null));
+        jdbcToken.setExpireAt(DATE_CONVERTER.convertTo(token.getExpireAt(), null));
+        return jdbcToken;
+    }
+}
@@ -90,4 +90,10 @@ public class JdbcRequestObjectRepository extends AbstractJdbcRepository implemen
         LocalDateTime now = LocalDateTime.now(UTC);
         return monoToCompletable(dbClient.delete().from(JdbcRequestObject.class).matching(where("expire_at").lessThan(now)).then()).doOnError(error -> LOGGER.error("Unable to purge RequestObjects", error));
     }
+
+    @Override
+    public Single<Long> purgeExpiredData(int batchSize) {
+        LOGGER.debug("purgeExpiredData({})", batchSize);
+        return deleteExpiredData("request_objects", "expire_at", batchSize).doOnError(error -> LOGGER.error("Unable to purge request objects", error));
+    }
 }
@@ -108,7 +108,7 @@ public abstract class AbstractTestRepositoryConfiguration extends AbstractReposi
                 .option(DRIVER, "pool")
                 .option(PROTOCOL, options.getValue(DRIVER))
                 .build();
-        return ConnectionFactories.get(options);
+        return StatementCounter.wrap(ConnectionFactories.get(options));
     }
 
 }
@@ -0,0 +1,66 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.jdbc.common;
+
+import com.github.dozermapper.core.DozerBeanMapperBuilder;
+import com.github.dozermapper.core.Mapper;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Objects;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Compare the hand-written mappers with the Dozer mapping they replace.
+ *
+ * @author GraviteeSource Team
+ */
+public final class MappingAssertions {
+
+    public static final Mapper DOZER_MAPPER = DozerBeanMapperBuilder.create().withMappingFiles(Arrays.asList("dozer.xml")).build();
+
+    private MappingAssertions() {
+    }
+
+    /**
+     * Check that all the fields of the given objects, including the inherited ones, have the same values.
+     * Values without equals method are compared on their JSON representation.
+     */
+    public static void assertSameFields(Object expected, Object actual) {
+        assertEquals(expected.getClass(), actual.getClass());
+        for (Class<?> type = expected.getClass(); type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                field.setAccessible(true);
+                try {
+                    Object expectedValue = field.get(expected);
+                    Object actualValue = field.get(actual);
+                    if (!Objects.equals(expectedValue, actualValue)) {
+                        assertEquals(type.getSimpleName() + "." + field.getName(),
+                                expectedValue == null ? null : JSONMapper.toJson(expectedValue),
+                                actualValue == null ? null : JSONMapper.toJson(actualValue));
+                    }
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.jdbc.common;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Wrapped;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Count the statements sent to the database, so that tests can check the number of queries issued by a repository.
+ *
+ * @author GraviteeSource Team
+ */
+public final class StatementCounter {
+
+    private static final AtomicInteger STATEMENTS = new AtomicInteger();
+
+    private StatementCounter() {
+    }
+
+    public static void reset() {
+        STATEMENTS.set(0);
+    }
+
+    public static int count() {
+        return STATEMENTS.get();
+    }
+
+    public static ConnectionFactory wrap(ConnectionFactory connectionFactory) {
+        return (ConnectionFactory) Proxy.newProxyInstance(StatementCounter.class.getClassLoader(),
+                new Class[]{ConnectionFactory.class, Wrapped.class},
+                (proxy, method, args) -> {
+                    if ("create".equals(method.getName())) {
+                        return Mono.from(connectionFactory.create()).map(StatementCounter::wrap);
+                    }
+                    if ("unwrap".equals(method.getName())) {
+                        return connectionFactory;
+                    }
+                    return invoke(connectionFactory, method, args);
+                });
+    }
+
+    private static Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(StatementCounter.class.getClassLoader(),
+                new Class[]{Connection.class, Wrapped.class},
+                (proxy, method, args) -> {
+                    if ("createStatement".equals(method.getName())) {
+                        STATEMENTS.incrementAndGet();
+                    } else if ("unwrap".equals(method.getName())) {
+                        return connection;
+                    }
+                    return invoke(connection, method, args);
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.jdbc.management.api.model.mapper;
+
+import io.gravitee.am.model.LoginAttempt;
+import io.gravitee.am.repository.jdbc.management.api.model.JdbcLoginAttempt;
+import org.junit.Test;
+
+import java.util.Date;
+
+import static io.gravitee.am.repository.jdbc.common.MappingAssertions.DOZER_MAPPER;
+import static io.gravitee.am.repository.jdbc.common.MappingAssertions.assertSameFields;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class LoginAttemptMapperTest {
+
+    @Test
+    public void shouldMapLoginAttempt_likeDozer() {
+        LoginAttempt attempt = new LoginAttempt();
+        attempt.setId("id");
+        attempt.setDomain("domain");
+        attempt.setClient("client");
+        attempt.setIdentityProvider("idp");
+        attempt.setUsername("username");
+        attempt.setAttempts(3);
+        attempt.setCreatedAt(new Date());
+        attempt.setUpdatedAt(new Date());
+        attempt.setExpireAt(new Date(System.currentTimeMillis() + 60000));
+
+        JdbcLoginAttempt jdbcAttempt = LoginAttemptMapper.toJdbcEntity(attempt);
+        assertSameFields(DOZER_MAPPER.map(attempt, JdbcLoginAttempt.class), jdbcAttempt);
+        assertSameFields(DOZER_MAPPER.map(jdbcAttempt, LoginAttempt.class), LoginAttemptMapper.toEntity(jdbcAttempt));
+    }
+
+    @Test
+    public void shouldMapLoginAttempt_withNullValues_likeDozer() {
+        JdbcLoginAttempt jdbcAttempt = new JdbcLoginAttempt();
+        jdbcAttempt.setId("id");
+
+        assertSameFields(DOZER_MAPPER.map(jdbcAttempt, LoginAttempt.class), LoginAttemptMapper.toEntity(jdbcAttempt));
+    }
+}
@@ -0,0 +1,124 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.jdbc.management.api.model.mapper;
+
+import io.gravitee.am.model.User;
+import io.gravitee.am.model.scim.Address;
+import io.gravitee.am.model.scim.Attribute;
+import io.gravitee.am.repository.jdbc.management.api.model.JdbcUser;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static io.gravitee.am.repository.jdbc.common.MappingAssertions.DOZER_MAPPER;
+import static io.gravitee.am.repository.jdbc.common.MappingAssertions.assertSameFields;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class UserMapperTest {
+
+    @Test
+    public void shouldMapUser_likeDozer() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        JdbcUser jdbcUser = new JdbcUser();
+        jdbcUser.setId("id");
+        jdbcUser.setExternalId("externalId");
+        jdbcUser.setUsername("username");
+        jdbcUser.setEmail("user@acme.fr");
+        jdbcUser.setDisplayName("displayName");
+        jdbcUser.setNickName("nickName");
+        jdbcUser.setFirstName("firstName");
+        jdbcUser.setLastName("lastName");
+        jdbcUser.setTitle("title");
+        jdbcUser.setType("type");
+        jdbcUser.setPreferredLanguage("fr");
+        jdbcUser.setAccountNonExpired(false);
+        jdbcUser.setAccountLockedAt(now);
+        jdbcUser.setAccountLockedUntil(now.plusHours(1));
+        jdbcUser.setAccountNonLocked(false);
+        jdbcUser.setCredentialsNonExpired(false);
+        jdbcUser.setEnabled(false);
+        jdbcUser.setInternal(true);
+        jdbcUser.setPreRegistration(true);
+        jdbcUser.setRegistrationCompleted(true);
+        jdbcUser.setNewsletter(true);
+        jdbcUser.setRegistrationUserUri("http://localhost/register");
+        jdbcUser.setRegistrationAccessToken("registrationToken");
+        jdbcUser.setReferenceType("DOMAIN");
+        jdbcUser.setReferenceId("domain");
+        jdbcUser.setSource("idp");
+        jdbcUser.setClient("client");
+        jdbcUser.setLoginsCount(42);
+        jdbcUser.setLoggedAt(now);
+        jdbcUser.setCreatedAt(now.minusDays(1));
+        jdbcUser.setUpdatedAt(now);
+        jdbcUser.setX509Certificates("[{\"value\":\"certificate\"}]");
+        jdbcUser.setFactors("[{\"factorId\":\"factor\",\"appId\":\"app\",\"status\":\"ACTIVATED\"," +
+                "\"security\":{\"type\":\"SHARED_SECRET\",\"value\":\"secret\",\"additionalData\":{}}," +
+                "\"channel\":{\"type\":\"SMS\",\"target\":\"0102030405\"},\"createdAt\":1600000000000}]");
+        jdbcUser.setAdditionalInformation("{\"key\":\"value\",\"nested\":{\"number\":1}}");
+
+        assertSameFields(DOZER_MAPPER.map(jdbcUser, User.class), UserMapper.toEntity(jdbcUser));
+    }
+
+    @Test
+    public void shouldMapUser_withNullValues_likeDozer() {
+        JdbcUser jdbcUser = new JdbcUser();
+        jdbcUser.setId("id");
+
+        assertSameFields(DOZER_MAPPER.map(jdbcUser, User.class), UserMapper.toEntity(jdbcUser));
+    }
+
+    @Test
+    public void shouldMapAddress_likeDozer() {
+        Address address = new Address();
+        address.setType("work");
+        address.setFormatted("formatted");
+        address.setStreetAddress("street");
+        address.setLocality("locality");
+        address.setRegion("region");
+        address.setPostalCode("postalCode");
+        address.setCountry("country");
+        address.setPrimary(true);
+
+        JdbcUser.Address expected = DOZER_MAPPER.map(address, JdbcUser.Address.class);
+        expected.setUserId("user");
+        // Dozer ignores the Boolean isPrimary() getter and loses the flag
+        expected.setPrimary(true);
+        JdbcUser.Address jdbcAddress = UserMapper.toJdbcAddress(address, "user");
+        assertSameFields(expected, jdbcAddress);
+        assertSameFields(DOZER_MAPPER.map(jdbcAddress, Address.class), UserMapper.toEntity(jdbcAddress));
+    }
+
+    @Test
+    public void shouldMapAttribute_likeDozer() {
+        Attribute attribute = new Attribute();
+        attribute.setValue("user@acme.fr");
+        attribute.setType("work");
+        attribute.setPrimary(false);
+
+        JdbcUser.Attribute expected = DOZER_MAPPER.map(attribute, JdbcUser.Attribute.class);
+        expected.setUserId("user");
+        expected.setUserField("email");
+        // Dozer ignores the Boolean isPrimary() getter and loses the flag
+        expected.setPrimary(false);
+        JdbcUser.Attribute jdbcAttribute = UserMapper.toJdbcAttribute(attribute, "user", "email");
+        assertSameFields(expected, jdbcAttribute);
+        assertSameFields(DOZER_MAPPER.map(jdbcAttribute, Attribute.class), UserMapper.toEntity(jdbcAttribute));
+    }
+}
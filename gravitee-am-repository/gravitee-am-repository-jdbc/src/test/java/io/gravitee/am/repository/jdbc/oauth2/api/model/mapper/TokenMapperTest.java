@@ -0,0 +1,80 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.jdbc.oauth2.api.model.mapper;
+
+import io.gravitee.am.repository.jdbc.oauth2.api.model.JdbcAccessToken;
+import io.gravitee.am.repository.jdbc.oauth2.api.model.JdbcRefreshToken;
+import io.gravitee.am.repository.oauth2.model.AccessToken;
+import io.gravitee.am.repository.oauth2.model.RefreshToken;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+
+import static io.gravitee.am.repository.jdbc.common.MappingAssertions.DOZER_MAPPER;
+import static io.gravitee.am.repository.jdbc.common.MappingAssertions.assertSameFields;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class TokenMapperTest {
+
+    @Test
+    public void shouldMapAccessToken_likeDozer() {
+        JdbcAccessToken jdbcToken = new JdbcAccessToken();
+        jdbcToken.setId("id");
+        jdbcToken.setToken("token");
+        jdbcToken.setDomain("domain");
+        jdbcToken.setClient("client");
+        jdbcToken.setSubject("subject");
+        jdbcToken.setRefreshToken("refresh");
+        jdbcToken.setAuthorizationCode("code");
+        jdbcToken.setCreatedAt(LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS));
+        jdbcToken.setExpireAt(LocalDateTime.now().plusHours(1).truncatedTo(ChronoUnit.MILLIS));
+
+        AccessToken token = TokenMapper.toAccessToken(jdbcToken);
+        assertSameFields(DOZER_MAPPER.map(jdbcToken, AccessToken.class), token);
+        assertSameFields(DOZER_MAPPER.map(token, JdbcAccessToken.class), TokenMapper.toJdbcAccessToken(token));
+    }
+
+    @Test
+    public void shouldMapAccessToken_withNullValues_likeDozer() {
+        JdbcAccessToken jdbcToken = new JdbcAccessToken();
+        jdbcToken.setId("id");
+
+        assertSameFields(DOZER_MAPPER.map(jdbcToken, AccessToken.class), TokenMapper.toAccessToken(jdbcToken));
+        AccessToken token = new AccessToken();
+        token.setId("id");
+        assertSameFields(DOZER_MAPPER.map(token, JdbcAccessToken.class), TokenMapper.toJdbcAccessToken(token));
+    }
+
+    @Test
+    public void shouldMapRefreshToken_likeDozer() {
+        RefreshToken token = new RefreshToken();
+        token.setId("id");
+        token.setToken("token");
+        token.setDomain("domain");
+        token.setClient("client");
+        token.setSubject("subject");
+        token.setCreatedAt(new Date());
+        token.setExpireAt(new Date(System.currentTimeMillis() + 3600000));
+
+        JdbcRefreshToken jdbcToken = TokenMapper.toJdbcRefreshToken(token);
+        assertSameFields(DOZER_MAPPER.map(token, JdbcRefreshToken.class), jdbcToken);
+        assertSameFields(DOZER_MAPPER.map(jdbcToken, RefreshToken.class), TokenMapper.toRefreshToken(jdbcToken));
+    }
+}
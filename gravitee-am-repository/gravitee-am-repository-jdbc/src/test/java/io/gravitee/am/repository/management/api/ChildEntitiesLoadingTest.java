@@ -0,0 +1,110 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.management.api;
+
+import io.gravitee.am.model.Application;
+import io.gravitee.am.model.ReferenceType;
+import io.gravitee.am.model.User;
+import io.gravitee.am.model.application.ApplicationType;
+import io.gravitee.am.model.scim.Attribute;
+import io.gravitee.am.repository.jdbc.common.StatementCounter;
+import io.gravitee.am.repository.management.AbstractManagementTest;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.*;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Check that the child collections of a list of entities are loaded with one query per child table
+ * and not with one query per entity.
+ *
+ * @author GraviteeSource Team
+ */
+public class ChildEntitiesLoadingTest extends AbstractManagementTest {
+
+    private static final int ENTITIES = 20;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    public void shouldLoadApplicationsChildEntities_withOneQueryPerTable() {
+        final String domain = "domain" + UUID.randomUUID();
+        for (int i = 0; i < ENTITIES; i++) {
+            Application app = new Application();
+            app.setName("app" + i);
+            app.setType(ApplicationType.WEB);
+            app.setDomain(domain);
+            app.setIdentities(new HashSet<>(Arrays.asList("idp1" + i, "idp2" + i)));
+            app.setFactors(Collections.singleton("factor" + i));
+            app.setCreatedAt(new Date());
+            app.setUpdatedAt(new Date());
+            applicationRepository.create(app).blockingGet();
+        }
+
+        StatementCounter.reset();
+        List<Application> applications = applicationRepository.findByDomain(domain).toList().blockingGet();
+
+        // applications, identities and factors
+        assertEquals(3, StatementCounter.count());
+        assertEquals(ENTITIES, applications.size());
+        applications.forEach(app -> {
+            String index = app.getName().substring("app".length());
+            assertEquals(new HashSet<>(Arrays.asList("idp1" + index, "idp2" + index)), app.getIdentities());
+            assertEquals(Collections.singleton("factor" + index), app.getFactors());
+        });
+    }
+
+    @Test
+    public void shouldLoadUsersChildEntities_withOneQueryPerTable() {
+        final String domain = "domain" + UUID.randomUUID();
+        for (int i = 0; i < ENTITIES; i++) {
+            User user = new User();
+            user.setUsername("user" + i);
+            user.setReferenceType(ReferenceType.DOMAIN);
+            user.setReferenceId(domain);
+            user.setRoles(Arrays.asList("role1" + i, "role2" + i));
+            user.setEntitlements(Collections.singletonList("entitlement" + i));
+            Attribute email = new Attribute();
+            email.setValue("user" + i + "@acme.com");
+            email.setPrimary(true);
+            user.setEmails(Collections.singletonList(email));
+            user.setCreatedAt(new Date());
+            user.setUpdatedAt(new Date());
+            userRepository.create(user).blockingGet();
+        }
+
+        StatementCounter.reset();
+        List<User> users = userRepository.findAll(ReferenceType.DOMAIN, domain).toList().blockingGet();
+
+        // users, roles, entitlements, addresses and attributes
+        assertEquals(5, StatementCounter.count());
+        assertEquals(ENTITIES, users.size());
+        users.forEach(user -> {
+            String index = user.getUsername().substring("user".length());
+            assertTrue(user.getRoles().containsAll(Arrays.asList("role1" + index, "role2" + index)));
+            assertEquals(Collections.singletonList("entitlement" + index), user.getEntitlements());
+            assertEquals(1, user.getEmails().size());
+            assertEquals("user" + index + "@acme.com", user.getEmails().get(0).getValue());
+        });
+    }
+}
@@ -15,7 +15,18 @@
  */
 package io.gravitee.am.repository.mongodb.common;
 
+import com.mongodb.BasicDBObject;
 import io.gravitee.am.repository.management.api.search.FilterCriteria;
+import org.bson.BsonRegularExpression;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * @author Titouan COMPIEGNE (david.brassely at graviteesource.com)
@@ -29,6 +40,35 @@ public final class FilterCriteriaParser {
         return parse(criteria, new StringBuilder());
     }
 
+    /**
+     * Build the MongoDB query of the criteria, equivalent to <code>BasicDBObject.parse(parse(criteria))</code>
+     * but without going through a JSON string (the filter values are never interpreted as JSON).
+     */
+    public static BasicDBObject parseQuery(FilterCriteria criteria) {
+        if (criteria.getFilterComponents() != null) {
+            String operator = convertOperator(criteria.getOperator());
+            if (!"$and".equals(operator) && !"$or".equals(operator)) {
+                throw new IllegalArgumentException("Unsupported logical operator [" + criteria.getOperator() + "]");
+            }
+            List<BasicDBObject> components = criteria.getFilterComponents()
+                    .stream()
+                    .map(FilterCriteriaParser::parseQuery)
+                    .collect(Collectors.toList());
+            return new BasicDBObject(operator, components);
+        }
+
+        String operator = convertOperator(criteria.getOperator());
+        if (operator == null || !operator.startsWith("$")) {
+            throw new IllegalArgumentException("Unsupported operator [" + criteria.getOperator() + "]");
+        }
+        String filterName = convertFilterName(criteria.getFilterName());
+        if ("$regex".equals(operator)) {
+            Object filterValue = convertFilterValue(criteria, filterName);
+            return new BasicDBObject(filterName, new BsonRegularExpression(filterValue == null ? "" : filterValue.toString(), "i"));
+        }
+        return new BasicDBObject(filterName, new BasicDBObject(operator, "$exists".equals(operator) ? true : convertFilterValue(criteria, filterName)));
+    }
+
     private static String parse(FilterCriteria criteria, final StringBuilder builder) {
         if (criteria.getFilterComponents() != null) {
             builder.append("{");
@@ -152,6 +192,63 @@ public final class FilterCriteriaParser {
         return filterValue;
     }
 
+    private static Object convertFilterValue(FilterCriteria criteria, String filterName) {
+        String filterValue = criteria.getFilterValue();
+        if (filterValue == null) {
+            return null;
+        }
+        if (isDateInput(filterName)) {
+            return parseDate(filterValue);
+        }
+        if ("sw".equals(criteria.getOperator())) {
+            filterValue = "^" + filterValue;
+        }
+        if ("ew".equals(criteria.getOperator())) {
+            filterValue += "$";
+        }
+        return criteria.isQuoteFilterValue() ? filterValue : convertLiteral(filterValue);
+    }
+
+    /**
+     * Unquoted values are JSON literals: booleans, null or numbers.
+     */
+    private static Object convertLiteral(String value) {
+        if ("true".equals(value)) {
+            return Boolean.TRUE;
+        }
+        if ("false".equals(value)) {
+            return Boolean.FALSE;
+        }
+        if ("null".equals(value)) {
+            return null;
+        }
+        try {
+            long longValue = Long.parseLong(value);
+            if (longValue == (int) longValue) {
+                return (int) longValue;
+            }
+            return longValue;
+        } catch (NumberFormatException ex) {
+            try {
+                return Double.valueOf(value);
+            } catch (NumberFormatException ex2) {
+                throw new IllegalArgumentException("Invalid filter value [" + value + "]");
+            }
+        }
+    }
+
+    private static Date parseDate(String value) {
+        try {
+            return Date.from(Instant.parse(value));
+        } catch (DateTimeParseException ex) {
+            try {
+                return Date.from(OffsetDateTime.parse(value).toInstant());
+            } catch (DateTimeParseException ex2) {
+                return Date.from(LocalDate.parse(value).atStartOfDay().toInstant(ZoneOffset.UTC));
+            }
+        }
+    }
+
     private static boolean isDateInput(String filterName) {
         return "createdAt".equals(filterName) ||
                 "updatedAt".equals(filterName);
@@ -18,6 +18,7 @@ package io.gravitee.am.repository.mongodb.management;
 import com.mongodb.reactivestreams.client.MongoClient;
 import com.mongodb.reactivestreams.client.MongoDatabase;
 import io.gravitee.am.repository.Scope;
+import io.gravitee.am.repository.metrics.RepositoryMetricsPostProcessor;
 import io.gravitee.am.repository.mongodb.common.AbstractRepositoryConfiguration;
 import io.gravitee.am.repository.mongodb.common.MongoFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -46,6 +47,11 @@ public class ManagementRepositoryConfiguration extends AbstractRepositoryConfigu
         return new MongoFactory(Scope.MANAGEMENT.getName());
     }
 
+    @Bean
+    public static RepositoryMetricsPostProcessor repositoryMetricsPostProcessor() {
+        return new RepositoryMetricsPostProcessor(Scope.MANAGEMENT.getName());
+    }
+
     @Bean(name = "managementMongoTemplate")
     public MongoDatabase mongoOperations() {
         return mongo.getDatabase(getDatabaseName());
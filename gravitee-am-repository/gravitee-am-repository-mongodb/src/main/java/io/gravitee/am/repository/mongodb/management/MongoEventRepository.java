@@ -15,6 +15,9 @@
  */
 package io.gravitee.am.repository.mongodb.management;
 
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.ReturnDocument;
+import com.mongodb.client.result.DeleteResult;
 import com.mongodb.reactivestreams.client.MongoCollection;
 import io.gravitee.am.common.utils.RandomString;
 import io.gravitee.am.common.event.Action;
@@ -35,6 +38,9 @@ import java.util.List;
 import java.util.Map;
 
 import static com.mongodb.client.model.Filters.*;
+import static com.mongodb.client.model.Projections.include;
+import static com.mongodb.client.model.Sorts.*;
+import static com.mongodb.client.model.Updates.inc;
 
 /**
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
@@ -43,13 +49,25 @@ import static com.mongodb.client.model.Filters.*;
 @Component
 public class MongoEventRepository extends AbstractManagementMongoRepository implements EventRepository {
 
+    private static final String FIELD_SEQUENCE = "sequence";
+    private static final String FIELD_TYPE = "type";
+    private static final String FIELD_PAYLOAD_ID = "payload.content.id";
+    private static final String FIELD_CREATED_AT = "createdAt";
+    private static final String FIELD_VALUE = "value";
+    private static final String EVENTS_SEQUENCE = "events";
+
     private MongoCollection<EventMongo> eventsCollection;
 
+    private MongoCollection<Document> sequencesCollection;
+
     @PostConstruct
     public void init() {
         eventsCollection = mongoOperations.getCollection("events", EventMongo.class);
+        sequencesCollection = mongoOperations.getCollection("sequences");
         super.init(eventsCollection);
         super.createIndex(eventsCollection, new Document(FIELD_UPDATED_AT, 1));
+        super.createIndex(eventsCollection, new Document(FIELD_SEQUENCE, 1));
+        super.createIndex(eventsCollection, new Document(FIELD_TYPE, 1).append(FIELD_PAYLOAD_ID, 1).append(FIELD_SEQUENCE, -1));
     }
 
     @Override
@@ -62,6 +80,39 @@ public class MongoEventRepository extends AbstractManagementMongoRepository impl
         return Flowable.fromPublisher(eventsCollection.find(and(filters))).map(this::convert);
     }
 
+    @Override
+    public Flowable<Event> findAfterSequence(long sequence, int limit) {
+        return Flowable.fromPublisher(eventsCollection.find(gt(FIELD_SEQUENCE, sequence)).sort(ascending(FIELD_SEQUENCE)).limit(limit)).map(this::convert);
+    }
+
+    @Override
+    public Single<Long> findLastSequence() {
+        return Observable.fromPublisher(eventsCollection.find(gt(FIELD_SEQUENCE, 0L)).sort(descending(FIELD_SEQUENCE)).limit(1))
+                .map(EventMongo::getSequence)
+                .first(0L);
+    }
+
+    @Override
+    public Single<Long> compact(Date before, int batchSize) {
+        // events are read by entity and from the latest to the oldest one, all but the first event of each entity are superseded
+        return Flowable.defer(() -> {
+            final String[] entity = new String[1];
+            return Flowable.fromPublisher(eventsCollection.find(gt(FIELD_SEQUENCE, 0L))
+                    .projection(include(FIELD_TYPE, FIELD_PAYLOAD_ID, FIELD_SEQUENCE, FIELD_CREATED_AT))
+                    .sort(orderBy(ascending(FIELD_TYPE, FIELD_PAYLOAD_ID), descending(FIELD_SEQUENCE))))
+                    .filter(event -> {
+                        final String key = entityKey(event);
+                        final boolean superseded = key != null && key.equals(entity[0]);
+                        entity[0] = key;
+                        return superseded && event.getCreatedAt() != null && event.getCreatedAt().before(before);
+                    });
+        })
+                .map(EventMongo::getId)
+                .take(batchSize)
+                .toList()
+                .flatMap(ids -> ids.isEmpty() ? Single.just(0L) : Single.fromPublisher(eventsCollection.deleteMany(in(FIELD_ID, ids))).map(DeleteResult::getDeletedCount));
+    }
+
     @Override
     public Maybe<Event> findById(String id) {
         return Observable.fromPublisher(eventsCollection.find(eq(FIELD_ID, id)).first()).map(this::convert).firstElement();
@@ -71,7 +122,12 @@ public class MongoEventRepository extends AbstractManagementMongoRepository impl
     public Single<Event> create(Event item) {
         EventMongo event = convert(item);
         event.setId(event.getId() == null ? RandomString.generate() : event.getId());
-        return Single.fromPublisher(eventsCollection.insertOne(event)).flatMap(success -> findById(event.getId()).toSingle());
+        return nextSequence()
+                .flatMap(sequence -> {
+                    event.setSequence(sequence);
+                    return Single.fromPublisher(eventsCollection.insertOne(event));
+                })
+                .flatMap(success -> findById(event.getId()).toSingle());
     }
 
     @Override
@@ -85,6 +141,18 @@ public class MongoEventRepository extends AbstractManagementMongoRepository impl
         return Completable.fromPublisher(eventsCollection.deleteOne(eq(FIELD_ID, id)));
     }
 
+    private Single<Long> nextSequence() {
+        return Single.fromPublisher(sequencesCollection.findOneAndUpdate(eq(FIELD_ID, EVENTS_SEQUENCE), inc(FIELD_VALUE, 1L),
+                new FindOneAndUpdateOptions().upsert(true).returnDocument(ReturnDocument.AFTER)))
+                .map(document -> document.getLong(FIELD_VALUE));
+    }
+
+    private static String entityKey(EventMongo event) {
+        final Object content = event.getPayload() != null ? event.getPayload().get("content") : null;
+        final Object id = content instanceof Map ? ((Map<?, ?>) content).get("id") : null;
+        return id != null ? event.getType() + ":" + id : null;
+    }
+
     private EventMongo convert(Event event) {
         if (event == null) {
             return null;
@@ -92,6 +160,7 @@ public class MongoEventRepository extends AbstractManagementMongoRepository impl
 
         EventMongo eventMongo = new EventMongo();
         eventMongo.setId(event.getId());
+        eventMongo.setSequence(event.getSequence());
         eventMongo.setType(event.getType().toString());
         eventMongo.setPayload(convert(event.getPayload()));
         eventMongo.setCreatedAt(event.getCreatedAt());
@@ -106,6 +175,7 @@ public class MongoEventRepository extends AbstractManagementMongoRepository impl
 
         Event event = new Event();
         event.setId(eventMongo.getId());
+        event.setSequence(eventMongo.getSequence());
         event.setType(Type.valueOf(eventMongo.getType()));
         event.setPayload(convert(eventMongo.getPayload()));
         event.setCreatedAt(eventMongo.getCreatedAt());
@@ -16,6 +16,7 @@
 package io.gravitee.am.repository.mongodb.management;
 
 import com.mongodb.BasicDBObject;
+import com.mongodb.client.model.Updates;
 import com.mongodb.reactivestreams.client.MongoCollection;
 import io.gravitee.am.common.utils.RandomString;
 import io.gravitee.am.model.Group;
@@ -28,6 +29,8 @@ import org.bson.Document;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Date;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -108,6 +111,20 @@ public class MongoGroupRepository extends AbstractManagementMongoRepository impl
         return Single.fromPublisher(groupsCollection.replaceOne(eq(FIELD_ID, group.getId()), group)).flatMap(success -> findById(group.getId()).toSingle());
     }
 
+    @Override
+    public Completable updateMembers(String groupId, List<String> addedMembers, List<String> removedMembers, Date updatedAt) {
+        // the same field can't be the target of both $pull and $addToSet within a single update
+        List<Completable> updates = new ArrayList<>();
+        if (removedMembers != null && !removedMembers.isEmpty()) {
+            updates.add(Completable.fromPublisher(groupsCollection.updateOne(eq(FIELD_ID, groupId), Updates.pullAll(FIELD_MEMBERS, removedMembers))));
+        }
+        updates.add(Completable.fromPublisher(groupsCollection.updateOne(eq(FIELD_ID, groupId),
+                addedMembers == null || addedMembers.isEmpty() ?
+                        Updates.set(FIELD_UPDATED_AT, updatedAt) :
+                        Updates.combine(Updates.addEachToSet(FIELD_MEMBERS, addedMembers), Updates.set(FIELD_UPDATED_AT, updatedAt)))));
+        return Completable.concat(updates);
+    }
+
     @Override
     public Completable delete(String id) {
         return Completable.fromPublisher(groupsCollection.deleteOne(eq(FIELD_ID, id)));
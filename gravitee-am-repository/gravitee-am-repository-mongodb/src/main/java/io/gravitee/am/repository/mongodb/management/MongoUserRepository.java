@@ -16,8 +16,14 @@
 package io.gravitee.am.repository.mongodb.management;
 
 import com.mongodb.BasicDBObject;
+import com.mongodb.MongoBulkWriteException;
 import com.mongodb.client.model.Accumulators;
 import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.WriteModel;
 import com.mongodb.reactivestreams.client.MongoCollection;
 import io.gravitee.am.common.analytics.Field;
 import io.gravitee.am.common.utils.RandomString;
@@ -28,6 +34,7 @@ import io.gravitee.am.model.common.Page;
 import io.gravitee.am.model.scim.Address;
 import io.gravitee.am.model.scim.Attribute;
 import io.gravitee.am.model.scim.Certificate;
+import io.gravitee.am.repository.exceptions.BulkWriteException;
 import io.gravitee.am.repository.exceptions.TechnicalException;
 import io.gravitee.am.repository.management.api.UserRepository;
 import io.gravitee.am.repository.management.api.search.FilterCriteria;
@@ -79,6 +86,7 @@ public class MongoUserRepository extends AbstractManagementMongoRepository imple
         usersCollection = mongoOperations.getCollection("users", UserMongo.class);
         super.init(usersCollection);
         super.createIndex(usersCollection, new Document(FIELD_REFERENCE_TYPE, 1).append(FIELD_REFERENCE_ID, 1));
+        super.createIndex(usersCollection, new Document(FIELD_REFERENCE_TYPE, 1).append(FIELD_REFERENCE_ID, 1).append(FIELD_ID, 1));
         super.createIndex(usersCollection, new Document(FIELD_REFERENCE_TYPE, 1).append(FIELD_REFERENCE_ID, 1).append(FIELD_EMAIL, 1));
         super.createIndex(usersCollection, new Document(FIELD_REFERENCE_TYPE, 1).append(FIELD_REFERENCE_ID, 1).append(FIELD_EMAIL_CLAIM, 1));
         super.createIndex(usersCollection, new Document(FIELD_REFERENCE_TYPE, 1).append(FIELD_REFERENCE_ID, 1).append(FIELD_USERNAME, 1));
@@ -102,6 +110,14 @@ public class MongoUserRepository extends AbstractManagementMongoRepository imple
         return Single.zip(countOperation, usersOperation, (count, users) -> new Page<>(users, page, count));
     }
 
+    @Override
+    public Flowable<User> findAllAfter(ReferenceType referenceType, String referenceId, String lastId, int size) {
+        Bson query = lastId == null ?
+                and(eq(FIELD_REFERENCE_TYPE, referenceType.name()), eq(FIELD_REFERENCE_ID, referenceId)) :
+                and(eq(FIELD_REFERENCE_TYPE, referenceType.name()), eq(FIELD_REFERENCE_ID, referenceId), gt(FIELD_ID, lastId));
+        return Flowable.fromPublisher(usersCollection.find(query).sort(Sorts.ascending(FIELD_ID)).limit(size)).map(this::convert);
+    }
+
     @Override
     public Single<Page<User>> search(ReferenceType referenceType, String referenceId, String query, int page, int size) {
         Bson searchQuery = or(
@@ -139,7 +155,7 @@ public class MongoUserRepository extends AbstractManagementMongoRepository imple
     @Override
     public Single<Page<User>> search(ReferenceType referenceType, String referenceId, FilterCriteria criteria, int page, int size) {
         try {
-            BasicDBObject searchQuery = BasicDBObject.parse(FilterCriteriaParser.parse(criteria));
+            BasicDBObject searchQuery = FilterCriteriaParser.parseQuery(criteria);
 
             Bson mongoQuery = and(
                     eq(FIELD_REFERENCE_TYPE, referenceType.name()),
@@ -234,6 +250,30 @@ public class MongoUserRepository extends AbstractManagementMongoRepository imple
         return Completable.fromPublisher(usersCollection.deleteOne(eq(FIELD_ID, id)));
     }
 
+    @Override
+    public Completable bulkWrite(List<User> users) {
+        if (users.isEmpty()) {
+            return Completable.complete();
+        }
+        List<WriteModel<UserMongo>> replacements = users.stream()
+                .map(this::convert)
+                // an id used by another reference does not match the filter and makes the upsert fail on the _id key
+                .map(user -> new ReplaceOneModel<>(and(eq(FIELD_REFERENCE_TYPE, user.getReferenceType()), eq(FIELD_REFERENCE_ID, user.getReferenceId()), eq(FIELD_ID, user.getId())),
+                        user, new ReplaceOptions().upsert(true)))
+                .collect(Collectors.toList());
+        return Completable.fromPublisher(usersCollection.bulkWrite(replacements, new BulkWriteOptions().ordered(false)))
+                .onErrorResumeNext(ex -> {
+                    if (ex instanceof MongoBulkWriteException) {
+                        // unordered bulk write, the operations without write error have been applied
+                        Set<String> failedIds = ((MongoBulkWriteException) ex).getWriteErrors().stream()
+                                .map(error -> users.get(error.getIndex()).getId())
+                                .collect(Collectors.toSet());
+                        return Completable.error(new BulkWriteException(failedIds, ex));
+                    }
+                    return Completable.error(ex);
+                });
+    }
+
     @Override
     public Single<Long> countByReference(ReferenceType referenceType, String referenceId) {
         return Observable.fromPublisher(usersCollection.countDocuments(and(eq(FIELD_REFERENCE_TYPE, referenceType.name()), eq(FIELD_REFERENCE_ID, referenceId)))).first(0l);
@@ -82,6 +82,7 @@ public class ApplicationOAuthSettingsMongo {
     private String authorizationEncryptedResponseAlg;
     private String authorizationEncryptedResponseEnc;
     private boolean forcePKCE;
+    private boolean statelessAccessToken;
     private List<String> postLogoutRedirectUris;
 
     public String getClientId() {
@@ -532,6 +533,14 @@ public class ApplicationOAuthSettingsMongo {
         this.forcePKCE = forcePKCE;
     }
 
+    public boolean isStatelessAccessToken() {
+        return statelessAccessToken;
+    }
+
+    public void setStatelessAccessToken(boolean statelessAccessToken) {
+        this.statelessAccessToken = statelessAccessToken;
+    }
+
     public List<String> getPostLogoutRedirectUris() {
         return postLogoutRedirectUris;
     }
@@ -28,6 +28,8 @@ public class EventMongo extends Auditable {
     @BsonId
     private String id;
 
+    private Long sequence;
+
     private String type;
 
     private Document payload;
@@ -40,6 +42,14 @@ public class EventMongo extends Auditable {
         this.id = id;
     }
 
+    public Long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(Long sequence) {
+        this.sequence = sequence;
+    }
+
     public String getType() {
         return type;
     }
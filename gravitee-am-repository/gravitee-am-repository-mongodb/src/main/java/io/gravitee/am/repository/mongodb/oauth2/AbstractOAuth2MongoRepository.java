@@ -19,17 +19,26 @@ import com.mongodb.client.model.IndexOptions;
 import com.mongodb.reactivestreams.client.MongoCollection;
 import com.mongodb.reactivestreams.client.MongoDatabase;
 import io.gravitee.am.repository.mongodb.common.AbstractMongoRepository;
+import io.reactivex.Completable;
+import io.reactivex.Flowable;
 import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 
+import java.util.function.Predicate;
+
 /**
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
  * @author GraviteeSource Team
  */
 public abstract class AbstractOAuth2MongoRepository extends AbstractMongoRepository {
 
+    private final Logger logger = LoggerFactory.getLogger(AbstractOAuth2MongoRepository.class);
+
     @Autowired
     @Qualifier("oauth2MongoTemplate")
     protected MongoDatabase mongoOperations;
@@ -45,4 +54,25 @@ public abstract class AbstractOAuth2MongoRepository extends AbstractMongoReposit
         // if we set an index options it means that we want to force the index creation
         super.createIndex(collection, document, indexOptions, true);
     }
+
+    protected void createPartialIndex(MongoCollection<?> collection, Document document, Bson partialFilterExpression) {
+        super.createIndex(collection, document, new IndexOptions().partialFilterExpression(partialFilterExpression), ensureIndexOnStart);
+    }
+
+    /**
+     * Drop the indexes of the collection matching the given predicate, used to switch from an index layout to another.
+     * As several nodes may start at the same time, an index already dropped by another node is ignored.
+     */
+    protected void dropIndexes(MongoCollection<?> collection, Predicate<Document> obsolete) {
+        if (ensureIndexOnStart) {
+            Flowable.fromPublisher(collection.listIndexes())
+                    .filter(obsolete::test)
+                    .map(index -> index.getString("name"))
+                    .concatMapCompletable(name -> Completable.fromPublisher(collection.dropIndex(name))
+                            .doOnComplete(() -> logger.debug("Dropped the index named: {}", name))
+                            .doOnError(throwable -> logger.warn("Unable to drop the index named: {}", name, throwable))
+                            .onErrorComplete())
+                    .blockingAwait();
+        }
+    }
 }
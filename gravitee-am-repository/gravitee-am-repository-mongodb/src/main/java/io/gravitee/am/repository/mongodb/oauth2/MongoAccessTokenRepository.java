@@ -23,16 +23,22 @@ import io.gravitee.am.repository.mongodb.oauth2.internal.model.AccessTokenMongo;
 import io.gravitee.am.repository.oauth2.api.AccessTokenRepository;
 import io.gravitee.am.repository.oauth2.model.AccessToken;
 import io.reactivex.*;
+import org.bson.BsonType;
 import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static com.mongodb.client.model.Filters.and;
 import static com.mongodb.client.model.Filters.eq;
+import static com.mongodb.client.model.Filters.or;
+import static com.mongodb.client.model.Filters.type;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -47,41 +53,67 @@ public class MongoAccessTokenRepository extends AbstractOAuth2MongoRepository im
     private static final String FIELD_RESET_TIME = "expire_at";
     private static final String FIELD_SUBJECT = "subject";
     private static final String FIELD_AUTHORIZATION_CODE = "authorization_code";
+    private static final List<String> PARTIAL_INDEXES = Arrays.asList("token_1", "authorization_code_1");
+    private static final List<String> DEFAULT_INDEXES = Arrays.asList("subject_1", "domain_1_client_1_subject_1");
+    private static final List<String> COMPACT_INDEXES = Arrays.asList("subject_1_domain_1_client_1");
+
+    /**
+     * With the compact layout, the JTI of the token is used as document id instead of a random id and the
+     * <code>token</code> field is no longer written. The index on <code>token</code> only keeps the documents
+     * written with the default layout until they expire, and the index on <code>authorization_code</code>
+     * only the tokens issued by the authorization code flow. The index on <code>client</code> stays a full index:
+     * every token has a client and the tokens of an application are counted and listed by client only.
+     */
+    @Value("${oauth2.mongodb.compactTokens:false}")
+    private boolean compactTokens;
 
     @PostConstruct
     public void init() {
         accessTokenCollection = mongoOperations.getCollection("access_tokens", AccessTokenMongo.class);
         super.init(accessTokenCollection);
-        super.createIndex(accessTokenCollection, new Document(FIELD_TOKEN, 1));
-        super.createIndex(accessTokenCollection, new Document(FIELD_CLIENT, 1));
-        super.createIndex(accessTokenCollection, new Document(FIELD_AUTHORIZATION_CODE, 1));
-        super.createIndex(accessTokenCollection, new Document(FIELD_SUBJECT, 1));
-        super.createIndex(accessTokenCollection, new Document(FIELD_DOMAIN, 1).append(FIELD_CLIENT, 1).append(FIELD_SUBJECT, 1));
+        if (compactTokens) {
+            super.dropIndexes(accessTokenCollection, index -> DEFAULT_INDEXES.contains(index.getString("name"))
+                    || (PARTIAL_INDEXES.contains(index.getString("name")) && !index.containsKey("partialFilterExpression")));
+            super.createPartialIndex(accessTokenCollection, new Document(FIELD_TOKEN, 1), type(FIELD_TOKEN, BsonType.STRING));
+            super.createIndex(accessTokenCollection, new Document(FIELD_CLIENT, 1));
+            super.createPartialIndex(accessTokenCollection, new Document(FIELD_AUTHORIZATION_CODE, 1), type(FIELD_AUTHORIZATION_CODE, BsonType.STRING));
+            super.createIndex(accessTokenCollection, new Document(FIELD_SUBJECT, 1).append(FIELD_DOMAIN, 1).append(FIELD_CLIENT, 1));
+        } else {
+            super.dropIndexes(accessTokenCollection, index -> COMPACT_INDEXES.contains(index.getString("name"))
+                    || (PARTIAL_INDEXES.contains(index.getString("name")) && index.containsKey("partialFilterExpression")));
+            super.createIndex(accessTokenCollection, new Document(FIELD_TOKEN, 1));
+            super.createIndex(accessTokenCollection, new Document(FIELD_CLIENT, 1));
+            super.createIndex(accessTokenCollection, new Document(FIELD_AUTHORIZATION_CODE, 1));
+            super.createIndex(accessTokenCollection, new Document(FIELD_SUBJECT, 1));
+            super.createIndex(accessTokenCollection, new Document(FIELD_DOMAIN, 1).append(FIELD_CLIENT, 1).append(FIELD_SUBJECT, 1));
+        }
 
         // expire after index
         super.createIndex(accessTokenCollection, new Document(FIELD_RESET_TIME, 1), new IndexOptions().expireAfter(0L, TimeUnit.SECONDS));
     }
 
-    private Maybe<AccessToken> findById(String id) {
-        return Observable
-                .fromPublisher(accessTokenCollection.find(eq(FIELD_ID, id)).limit(1).first())
-                .firstElement()
-                .map(this::convert);
+    private Bson tokenFilter(String token) {
+        if (compactTokens) {
+            // documents written with the default layout are still looked up by token until they expire
+            return or(eq(FIELD_ID, token), and(type(FIELD_TOKEN, BsonType.STRING), eq(FIELD_TOKEN, token)));
+        }
+        return eq(FIELD_TOKEN, token);
     }
 
     @Override
     public Maybe<AccessToken> findByToken(String token) {
         return Observable
-                .fromPublisher(accessTokenCollection.find(eq(FIELD_TOKEN, token)).limit(1).first())
+                .fromPublisher(accessTokenCollection.find(tokenFilter(token)).limit(1).first())
                 .firstElement()
                 .map(this::convert);
     }
 
     @Override
     public Single<AccessToken> create(AccessToken accessToken) {
+        AccessTokenMongo accessTokenMongo = convert(accessToken);
         return Single
-                .fromPublisher(accessTokenCollection.insertOne(convert(accessToken)))
-                .flatMap(success -> findById(accessToken.getId()).toSingle());
+                .fromPublisher(accessTokenCollection.insertOne(accessTokenMongo))
+                .map(success -> convert(accessTokenMongo));
     }
 
     @Override
@@ -91,7 +123,7 @@ public class MongoAccessTokenRepository extends AbstractOAuth2MongoRepository im
 
     @Override
     public Completable delete(String token) {
-        return Completable.fromPublisher(accessTokenCollection.findOneAndDelete(eq(FIELD_TOKEN, token)));
+        return Completable.fromPublisher(accessTokenCollection.findOneAndDelete(tokenFilter(token)));
     }
 
     @Override
@@ -111,7 +143,7 @@ public class MongoAccessTokenRepository extends AbstractOAuth2MongoRepository im
     @Override
     public Observable<AccessToken> findByAuthorizationCode(String authorizationCode) {
         return Observable
-                .fromPublisher(accessTokenCollection.find(eq(FIELD_AUTHORIZATION_CODE, authorizationCode)))
+                .fromPublisher(accessTokenCollection.find(and(type(FIELD_AUTHORIZATION_CODE, BsonType.STRING), eq(FIELD_AUTHORIZATION_CODE, authorizationCode))))
                 .map(this::convert);
     }
 
@@ -145,8 +177,12 @@ public class MongoAccessTokenRepository extends AbstractOAuth2MongoRepository im
         }
 
         AccessTokenMongo accessTokenMongo = new AccessTokenMongo();
-        accessTokenMongo.setId(accessToken.getId());
-        accessTokenMongo.setToken(accessToken.getToken());
+        if (compactTokens && accessToken.getToken() != null) {
+            accessTokenMongo.setId(accessToken.getToken());
+        } else {
+            accessTokenMongo.setId(accessToken.getId());
+            accessTokenMongo.setToken(accessToken.getToken());
+        }
         accessTokenMongo.setDomain(accessToken.getDomain());
         accessTokenMongo.setClient(accessToken.getClient());
         accessTokenMongo.setSubject(accessToken.getSubject());
@@ -165,7 +201,7 @@ public class MongoAccessTokenRepository extends AbstractOAuth2MongoRepository im
 
         AccessToken accessToken = new AccessToken();
         accessToken.setId(accessTokenMongo.getId());
-        accessToken.setToken(accessTokenMongo.getToken());
+        accessToken.setToken(accessTokenMongo.getToken() == null ? accessTokenMongo.getId() : accessTokenMongo.getToken());
         accessToken.setDomain(accessTokenMongo.getDomain());
         accessToken.setClient(accessTokenMongo.getClient());
         accessToken.setSubject(accessTokenMongo.getSubject());
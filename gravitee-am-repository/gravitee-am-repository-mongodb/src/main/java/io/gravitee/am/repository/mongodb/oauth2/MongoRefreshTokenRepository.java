@@ -27,16 +27,22 @@ import io.reactivex.Completable;
 import io.reactivex.Maybe;
 import io.reactivex.Observable;
 import io.reactivex.Single;
+import org.bson.BsonType;
 import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static com.mongodb.client.model.Filters.and;
 import static com.mongodb.client.model.Filters.eq;
+import static com.mongodb.client.model.Filters.or;
+import static com.mongodb.client.model.Filters.type;
 
 /**
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
@@ -49,30 +55,50 @@ public class MongoRefreshTokenRepository extends AbstractOAuth2MongoRepository i
     private static final String FIELD_RESET_TIME = "expire_at";
     private static final String FIELD_TOKEN = "token";
     private static final String FIELD_SUBJECT = "subject";
+    private static final String TOKEN_INDEX = "token_1";
+    private static final List<String> DEFAULT_INDEXES = Arrays.asList("subject_1", "domain_1_client_1_subject_1");
+    private static final List<String> COMPACT_INDEXES = Arrays.asList("subject_1_domain_1_client_1");
+
+    /**
+     * With the compact layout, the JTI of the token is used as document id and the <code>token</code> field is no longer
+     * written, see {@link MongoAccessTokenRepository}.
+     */
+    @Value("${oauth2.mongodb.compactTokens:false}")
+    private boolean compactTokens;
 
     @PostConstruct
     public void init() {
         refreshTokenCollection = mongoOperations.getCollection("refresh_tokens", RefreshTokenMongo.class);
         super.init(refreshTokenCollection);
-        super.createIndex(refreshTokenCollection, new Document(FIELD_TOKEN, 1));
-        super.createIndex(refreshTokenCollection, new Document(FIELD_SUBJECT, 1));
-        super.createIndex(refreshTokenCollection, new Document(FIELD_DOMAIN, 1).append(FIELD_CLIENT, 1).append(FIELD_SUBJECT, 1));
+        if (compactTokens) {
+            super.dropIndexes(refreshTokenCollection, index -> DEFAULT_INDEXES.contains(index.getString("name"))
+                    || (TOKEN_INDEX.equals(index.getString("name")) && !index.containsKey("partialFilterExpression")));
+            super.createPartialIndex(refreshTokenCollection, new Document(FIELD_TOKEN, 1), type(FIELD_TOKEN, BsonType.STRING));
+            super.createIndex(refreshTokenCollection, new Document(FIELD_SUBJECT, 1).append(FIELD_DOMAIN, 1).append(FIELD_CLIENT, 1));
+        } else {
+            super.dropIndexes(refreshTokenCollection, index -> COMPACT_INDEXES.contains(index.getString("name"))
+                    || (TOKEN_INDEX.equals(index.getString("name")) && index.containsKey("partialFilterExpression")));
+            super.createIndex(refreshTokenCollection, new Document(FIELD_TOKEN, 1));
+            super.createIndex(refreshTokenCollection, new Document(FIELD_SUBJECT, 1));
+            super.createIndex(refreshTokenCollection, new Document(FIELD_DOMAIN, 1).append(FIELD_CLIENT, 1).append(FIELD_SUBJECT, 1));
+        }
 
         // expire after index
         super.createIndex(refreshTokenCollection, new Document(FIELD_RESET_TIME, 1), new IndexOptions().expireAfter(0L, TimeUnit.SECONDS));
     }
 
-    private Maybe<RefreshToken> findById(String id) {
-        return Observable
-                .fromPublisher(refreshTokenCollection.find(eq(FIELD_ID, id)).first())
-                .firstElement()
-                .map(this::convert);
+    private Bson tokenFilter(String token) {
+        if (compactTokens) {
+            // documents written with the default layout are still looked up by token until they expire
+            return or(eq(FIELD_ID, token), and(type(FIELD_TOKEN, BsonType.STRING), eq(FIELD_TOKEN, token)));
+        }
+        return eq(FIELD_TOKEN, token);
     }
 
     @Override
     public Maybe<RefreshToken> findByToken(String token) {
         return Observable
-                .fromPublisher(refreshTokenCollection.find(eq(FIELD_TOKEN, token)).first())
+                .fromPublisher(refreshTokenCollection.find(tokenFilter(token)).first())
                 .firstElement()
                 .map(this::convert);
     }
@@ -83,9 +109,10 @@ public class MongoRefreshTokenRepository extends AbstractOAuth2MongoRepository i
             refreshToken.setId(RandomString.generate());
         }
 
+        RefreshTokenMongo refreshTokenMongo = convert(refreshToken);
         return Single
-                .fromPublisher(refreshTokenCollection.insertOne(convert(refreshToken)))
-                .flatMap(success -> findById(refreshToken.getId()).toSingle());
+                .fromPublisher(refreshTokenCollection.insertOne(refreshTokenMongo))
+                .map(success -> convert(refreshTokenMongo));
     }
 
     @Override
@@ -95,7 +122,7 @@ public class MongoRefreshTokenRepository extends AbstractOAuth2MongoRepository i
 
     @Override
     public Completable delete(String token) {
-        return Completable.fromPublisher(refreshTokenCollection.deleteOne(eq(FIELD_TOKEN, token)));
+        return Completable.fromPublisher(refreshTokenCollection.deleteOne(tokenFilter(token)));
     }
 
     @Override
@@ -123,8 +150,12 @@ public class MongoRefreshTokenRepository extends AbstractOAuth2MongoRepository i
         }
 
         RefreshTokenMongo refreshTokenMongo = new RefreshTokenMongo();
-        refreshTokenMongo.setId(refreshToken.getId());
-        refreshTokenMongo.setToken(refreshToken.getToken());
+        if (compactTokens && refreshToken.getToken() != null) {
+            refreshTokenMongo.setId(refreshToken.getToken());
+        } else {
+            refreshTokenMongo.setId(refreshToken.getId());
+            refreshTokenMongo.setToken(refreshToken.getToken());
+        }
         refreshTokenMongo.setDomain(refreshToken.getDomain());
         refreshTokenMongo.setClient(refreshToken.getClient());
         refreshTokenMongo.setSubject(refreshToken.getSubject());
@@ -141,7 +172,7 @@ public class MongoRefreshTokenRepository extends AbstractOAuth2MongoRepository i
 
         RefreshToken refreshToken = new RefreshToken();
         refreshToken.setId(refreshTokenMongo.getId());
-        refreshToken.setToken(refreshTokenMongo.getToken());
+        refreshToken.setToken(refreshTokenMongo.getToken() == null ? refreshTokenMongo.getId() : refreshTokenMongo.getToken());
         refreshToken.setDomain(refreshTokenMongo.getDomain());
         refreshToken.setClient(refreshTokenMongo.getClient());
         refreshToken.setSubject(refreshTokenMongo.getSubject());
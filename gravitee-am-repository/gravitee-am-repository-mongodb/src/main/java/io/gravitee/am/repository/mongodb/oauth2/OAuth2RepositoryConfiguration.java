@@ -18,6 +18,7 @@ package io.gravitee.am.repository.mongodb.oauth2;
 import com.mongodb.reactivestreams.client.MongoClient;
 import com.mongodb.reactivestreams.client.MongoDatabase;
 import io.gravitee.am.repository.Scope;
+import io.gravitee.am.repository.metrics.RepositoryMetricsPostProcessor;
 import io.gravitee.am.repository.mongodb.common.AbstractRepositoryConfiguration;
 import io.gravitee.am.repository.mongodb.common.MongoFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -49,6 +50,11 @@ public class OAuth2RepositoryConfiguration extends AbstractRepositoryConfigurati
         return new MongoFactory(Scope.OAUTH2.getName());
     }
 
+    @Bean
+    public static RepositoryMetricsPostProcessor repositoryMetricsPostProcessor() {
+        return new RepositoryMetricsPostProcessor(Scope.OAUTH2.getName());
+    }
+
     @Bean(name = "oauth2MongoTemplate")
     public MongoDatabase mongoOperations() {
         return mongo.getDatabase(getDatabaseName());
@@ -15,7 +15,11 @@
  */
 package io.gravitee.am.repository.mongodb.common;
 
+import com.mongodb.BasicDBObject;
+import com.mongodb.MongoClientSettings;
+import io.gravitee.am.common.scim.parser.SCIMFilterParser;
 import io.gravitee.am.repository.management.api.search.FilterCriteria;
+import org.bson.BsonDocument;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -93,4 +97,38 @@ public class FilterCriteriaParserTest {
         String query = FilterCriteriaParser.parse(filterCriteria);
         Assert.assertEquals("{$and:[{\"username\":{$eq:\"Alice\"}},{$or:[{\"email\":{$regex:\"Alice\",$options:\"i\"}},{\"nickname\":{$regex:\"^Alice\",$options:\"i\"}}]}]}", query);
     }
+
+    @Test
+    public void shouldParseQuery_sameAsJsonQuery() {
+        // filters sent by the Okta and Azure AD provisioning clients
+        String[] filters = {
+                "userName eq \"bjensen@example.com\"",
+                "externalId eq \"00u1dhhb1fkIGP7RL1d8\"",
+                "emails.value eq \"bjensen@example.com\" and active eq true",
+                "name.familyName co \"O'Malley\" and (meta.lastModified gt \"2011-05-13T04:42:34Z\" or (title pr and userType ne \"Intern\"))",
+                "userName sw \"bj\" or displayName ew \"Jensen\"",
+                "loginCount ge 5 and loginCount lt 5000000000"
+        };
+
+        for (String filter : filters) {
+            FilterCriteria criteria = FilterCriteria.convert(SCIMFilterParser.parse(filter));
+            Assert.assertEquals(filter, toBson(BasicDBObject.parse(FilterCriteriaParser.parse(criteria))), toBson(FilterCriteriaParser.parseQuery(criteria)));
+        }
+    }
+
+    @Test
+    public void shouldParseQuery_valueNotInterpretedAsJson() {
+        FilterCriteria filterCriteria = new FilterCriteria();
+        filterCriteria.setOperator("eq");
+        filterCriteria.setFilterName("userName");
+        filterCriteria.setFilterValue("Alice\"}, \"$where\": \"true");
+        filterCriteria.setQuoteFilterValue(true);
+
+        BasicDBObject query = FilterCriteriaParser.parseQuery(filterCriteria);
+        Assert.assertEquals("Alice\"}, \"$where\": \"true", ((BasicDBObject) query.get("username")).get("$eq"));
+    }
+
+    private static BsonDocument toBson(BasicDBObject query) {
+        return query.toBsonDocument(BasicDBObject.class, MongoClientSettings.getDefaultCodecRegistry());
+    }
 }
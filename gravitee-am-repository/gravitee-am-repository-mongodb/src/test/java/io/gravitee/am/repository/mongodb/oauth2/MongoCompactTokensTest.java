@@ -0,0 +1,164 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.mongodb.oauth2;
+
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+import io.gravitee.am.repository.oauth2.AbstractOAuthTest;
+import io.gravitee.am.repository.oauth2.model.AccessToken;
+import io.gravitee.am.repository.oauth2.model.RefreshToken;
+import io.reactivex.Completable;
+import io.reactivex.Flowable;
+import io.reactivex.Single;
+import io.reactivex.observers.TestObserver;
+import org.bson.Document;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@TestPropertySource(properties = "oauth2.mongodb.compactTokens=true")
+public class MongoCompactTokensTest extends AbstractOAuthTest {
+
+    @Autowired
+    private MongoAccessTokenRepository accessTokenRepository;
+
+    @Autowired
+    private MongoRefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    @Qualifier("oauth2MongoTemplate")
+    private MongoDatabase mongoDatabase;
+
+    @Test
+    public void shouldUseTokenAsId_accessToken() {
+        AccessToken token = new AccessToken();
+        token.setId("random-id");
+        token.setToken("access-token-jti");
+        token.setClient("my-client");
+        token.setExpireAt(new Date(System.currentTimeMillis() + 60000));
+
+        TestObserver<AccessToken> observer = accessTokenRepository.create(token)
+                .ignoreElement()
+                .andThen(accessTokenRepository.findByToken("access-token-jti"))
+                .test();
+        observer.awaitTerminalEvent();
+        observer.assertValue(accessToken -> "access-token-jti".equals(accessToken.getToken()));
+
+        Document document = findById("access_tokens", "access-token-jti");
+        assertNotNull(document);
+        assertFalse(document.containsKey("token"));
+    }
+
+    @Test
+    public void shouldFindDefaultLayoutToken_accessToken() {
+        insert("access_tokens", new Document("_id", "random-id").append("token", "old-access-token").append("client", "my-client"));
+
+        TestObserver<AccessToken> observer = accessTokenRepository.findByToken("old-access-token").test();
+        observer.awaitTerminalEvent();
+        observer.assertValue(accessToken -> "old-access-token".equals(accessToken.getToken()));
+
+        TestObserver<AccessToken> deleted = accessTokenRepository.delete("old-access-token")
+                .andThen(accessTokenRepository.findByToken("old-access-token"))
+                .test();
+        deleted.awaitTerminalEvent();
+        deleted.assertNoValues();
+    }
+
+    @Test
+    public void shouldUseTokenAsId_refreshToken() {
+        RefreshToken token = new RefreshToken();
+        token.setId("random-id");
+        token.setToken("refresh-token-jti");
+        token.setClient("my-client");
+        token.setExpireAt(new Date(System.currentTimeMillis() + 60000));
+
+        TestObserver<RefreshToken> observer = refreshTokenRepository.create(token)
+                .ignoreElement()
+                .andThen(refreshTokenRepository.findByToken("refresh-token-jti"))
+                .test();
+        observer.awaitTerminalEvent();
+        observer.assertValue(refreshToken -> "refresh-token-jti".equals(refreshToken.getToken()));
+
+        Document document = findById("refresh_tokens", "refresh-token-jti");
+        assertNotNull(document);
+        assertFalse(document.containsKey("token"));
+    }
+
+    @Test
+    public void shouldFindDefaultLayoutToken_refreshToken() {
+        insert("refresh_tokens", new Document("_id", "random-id").append("token", "old-refresh-token").append("client", "my-client"));
+
+        TestObserver<RefreshToken> observer = refreshTokenRepository.findByToken("old-refresh-token").test();
+        observer.awaitTerminalEvent();
+        observer.assertValue(refreshToken -> "old-refresh-token".equals(refreshToken.getToken()));
+
+        TestObserver<RefreshToken> deleted = refreshTokenRepository.delete("old-refresh-token")
+                .andThen(refreshTokenRepository.findByToken("old-refresh-token"))
+                .test();
+        deleted.awaitTerminalEvent();
+        deleted.assertNoValues();
+    }
+
+    @Test
+    public void shouldReplaceDefaultLayoutIndexes() {
+        MongoCollection<Document> collection = mongoDatabase.getCollection("access_tokens");
+        Completable.fromPublisher(collection.dropIndexes()).blockingAwait();
+        // indexes of the default layout
+        createIndex(collection, new Document("token", 1));
+        createIndex(collection, new Document("subject", 1));
+        createIndex(collection, new Document("domain", 1).append("client", 1).append("subject", 1));
+
+        accessTokenRepository.init();
+
+        Map<String, Document> indexes = indexes(collection);
+        assertFalse(indexes.containsKey("subject_1"));
+        assertFalse(indexes.containsKey("domain_1_client_1_subject_1"));
+        assertTrue(indexes.get("token_1").containsKey("partialFilterExpression"));
+        assertTrue(indexes.get("authorization_code_1").containsKey("partialFilterExpression"));
+        assertTrue(indexes.containsKey("subject_1_domain_1_client_1"));
+    }
+
+    private void insert(String collectionName, Document document) {
+        document.append("expire_at", new Date(System.currentTimeMillis() + 60000));
+        Single.fromPublisher(mongoDatabase.getCollection(collectionName).insertOne(document)).blockingGet();
+    }
+
+    private Document findById(String collectionName, String id) {
+        return Flowable.fromPublisher(mongoDatabase.getCollection(collectionName).find(new Document("_id", id)).first()).blockingFirst(null);
+    }
+
+    private static void createIndex(MongoCollection<Document> collection, Document keys) {
+        Single.fromPublisher(collection.createIndex(keys, new IndexOptions())).blockingGet();
+    }
+
+    private static Map<String, Document> indexes(MongoCollection<Document> collection) {
+        List<Document> indexes = Flowable.fromPublisher(collection.listIndexes()).toList().blockingGet();
+        return indexes.stream().collect(Collectors.toMap(index -> index.getString("name"), Function.identity()));
+    }
+}
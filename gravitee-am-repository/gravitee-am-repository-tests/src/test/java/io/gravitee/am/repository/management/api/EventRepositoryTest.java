@@ -24,6 +24,7 @@ import io.gravitee.am.repository.management.AbstractManagementTest;
 import io.gravitee.am.repository.exceptions.TechnicalException;
 import io.reactivex.observers.TestObserver;
 import io.reactivex.subscribers.TestSubscriber;
+import org.junit.Assert;
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -144,4 +145,59 @@ public class EventRepositoryTest extends AbstractManagementTest {
         // fetch event
         eventRepository.findById(eventCreated.getId()).test().assertEmpty();
     }
+
+    @Test
+    public void testFindAfterSequence() throws TechnicalException {
+        final long lastSequence = eventRepository.findLastSequence().blockingGet();
+
+        Event event1 = eventRepository.create(buildEvent("idp-1", Action.CREATE, new Date())).blockingGet();
+        Event event2 = eventRepository.create(buildEvent("idp-2", Action.CREATE, new Date())).blockingGet();
+        Event event3 = eventRepository.create(buildEvent("idp-1", Action.UPDATE, new Date())).blockingGet();
+
+        Assert.assertTrue(event1.getSequence() > lastSequence);
+        Assert.assertTrue(event2.getSequence() > event1.getSequence());
+        Assert.assertTrue(event3.getSequence() > event2.getSequence());
+        Assert.assertEquals(event3.getSequence(), eventRepository.findLastSequence().blockingGet());
+
+        TestSubscriber<Event> testSubscriber = eventRepository.findAfterSequence(event1.getSequence(), 10).test();
+        testSubscriber.awaitTerminalEvent();
+
+        testSubscriber.assertComplete();
+        testSubscriber.assertNoErrors();
+        testSubscriber.assertValueCount(2);
+        testSubscriber.assertValueAt(0, e -> e.getId().equals(event2.getId()));
+        testSubscriber.assertValueAt(1, e -> e.getId().equals(event3.getId()));
+
+        eventRepository.findAfterSequence(lastSequence, 1).test().awaitCount(1).assertValueCount(1);
+    }
+
+    @Test
+    public void testCompact() throws TechnicalException {
+        final Date past = new Date(System.currentTimeMillis() - 3600000);
+        Event superseded = eventRepository.create(buildEvent("compact-idp", Action.CREATE, past)).blockingGet();
+        Event latest = eventRepository.create(buildEvent("compact-idp", Action.UPDATE, past)).blockingGet();
+        Event recent = eventRepository.create(buildEvent("compact-idp-2", Action.CREATE, past)).blockingGet();
+        Event recentUpdate = eventRepository.create(buildEvent("compact-idp-2", Action.UPDATE, new Date())).blockingGet();
+
+        TestObserver<Long> testObserver = eventRepository.compact(new Date(System.currentTimeMillis() - 60000), 100).test();
+        testObserver.awaitTerminalEvent();
+        testObserver.assertComplete();
+        testObserver.assertNoErrors();
+        testObserver.assertValue(1L);
+
+        eventRepository.findById(superseded.getId()).test().assertEmpty();
+        eventRepository.findById(latest.getId()).test().awaitCount(1).assertValueCount(1);
+        // superseded by a recent event, kept until the recent event is old enough
+        eventRepository.findById(recent.getId()).test().awaitCount(1).assertValueCount(1);
+        eventRepository.findById(recentUpdate.getId()).test().awaitCount(1).assertValueCount(1);
+    }
+
+    private Event buildEvent(String entityId, Action action, Date createdAt) {
+        Event event = new Event();
+        event.setType(Type.IDENTITY_PROVIDER);
+        event.setPayload(new Payload(entityId, ReferenceType.DOMAIN, "domain", action));
+        event.setCreatedAt(createdAt);
+        event.setUpdatedAt(createdAt);
+        return event;
+    }
 }
@@ -134,6 +134,55 @@ public class GroupRepositoryTest extends AbstractManagementTest {
         assertEqualsTo(toUpdate, testObserver);
     }
 
+    @Test
+    public void shouldUpdate_keepUnchangedMembers() {
+        Group group = buildGroup();
+        Group createdGroup = repository.create(group).blockingGet();
+
+        Group toUpdate = buildGroup();
+        toUpdate.setId(createdGroup.getId());
+        toUpdate.setMembers(Arrays.asList(createdGroup.getMembers().get(0), "m3"));
+        toUpdate.setRoles(createdGroup.getRoles());
+
+        final TestObserver<Group> testUpdate = repository.update(toUpdate).test();
+        testUpdate.awaitTerminalEvent();
+
+        testUpdate.assertComplete();
+        testUpdate.assertNoErrors();
+        testUpdate.assertValue(g -> g.getMembers().size() == 2
+                && g.getMembers().containsAll(toUpdate.getMembers())
+                && g.getRoles().containsAll(createdGroup.getRoles()));
+    }
+
+    @Test
+    public void shouldUpdateMembers() {
+        Group group = buildGroup();
+        Group createdGroup = repository.create(group).blockingGet();
+        final String removedMember = createdGroup.getMembers().get(0);
+        final String keptMember = createdGroup.getMembers().get(1);
+        final Date updatedAt = new Date(createdGroup.getUpdatedAt().getTime() + 60000);
+
+        final TestObserver<Void> testUpdate = repository.updateMembers(createdGroup.getId(),
+                Arrays.asList(keptMember, "m3", "m4"),
+                Arrays.asList(removedMember, "unknown"),
+                updatedAt).test();
+        testUpdate.awaitTerminalEvent();
+
+        testUpdate.assertComplete();
+        testUpdate.assertNoErrors();
+
+        TestObserver<Group> testObserver = repository.findById(createdGroup.getId()).test();
+        testObserver.awaitTerminalEvent();
+
+        testObserver.assertComplete();
+        testObserver.assertNoErrors();
+        testObserver.assertValue(g -> g.getMembers().size() == 3
+                && g.getMembers().containsAll(Arrays.asList(keptMember, "m3", "m4"))
+                && !g.getMembers().contains(removedMember)
+                && g.getName().equals(createdGroup.getName())
+                && g.getUpdatedAt().getTime() / 1000 == updatedAt.getTime() / 1000);
+    }
+
     @Test
     public void shouldDelete() {
         Group group = buildGroup();
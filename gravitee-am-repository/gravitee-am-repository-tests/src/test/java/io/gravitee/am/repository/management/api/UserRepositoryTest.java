@@ -108,6 +108,79 @@ public class UserRepositoryTest extends AbstractManagementTest {
         testObserver.assertValue(users -> users.getData().size() == 1);
     }
 
+    @Test
+    public void testFindAllAfter() throws TechnicalException {
+        for (int i = 0; i < 5; i++) {
+            User user = new User();
+            user.setId("user#" + i);
+            user.setUsername("testsUsername" + i);
+            user.setReferenceType(ReferenceType.DOMAIN);
+            user.setReferenceId("testFindAllAfter");
+            userRepository.create(user).blockingGet();
+        }
+
+        TestSubscriber<User> testSubscriber = userRepository.findAllAfter(ReferenceType.DOMAIN, "testFindAllAfter", null, 3).test();
+        testSubscriber.awaitTerminalEvent();
+        testSubscriber.assertComplete();
+        testSubscriber.assertNoErrors();
+        testSubscriber.assertValueCount(3);
+        testSubscriber.assertValueAt(2, u -> u.getId().equals("user#2"));
+
+        testSubscriber = userRepository.findAllAfter(ReferenceType.DOMAIN, "testFindAllAfter", "user#2", 3).test();
+        testSubscriber.awaitTerminalEvent();
+        testSubscriber.assertComplete();
+        testSubscriber.assertNoErrors();
+        testSubscriber.assertValueCount(2);
+        testSubscriber.assertValueAt(0, u -> u.getId().equals("user#3"));
+    }
+
+    @Test
+    public void testBulkWrite() throws TechnicalException {
+        User existingUser = buildUser();
+        existingUser.setId("bulk#1");
+        userRepository.create(existingUser).blockingGet();
+
+        User updatedUser = buildUser();
+        updatedUser.setId("bulk#1");
+        updatedUser.setUsername("updatedUsername");
+        updatedUser.setRoles(Arrays.asList("bulk-role"));
+        User newUser = buildUser();
+        newUser.setId("bulk#2");
+
+        TestObserver testObserver = userRepository.bulkWrite(Arrays.asList(updatedUser, newUser)).test();
+        testObserver.awaitTerminalEvent();
+        testObserver.assertComplete();
+        testObserver.assertNoErrors();
+
+        TestSubscriber<User> testSubscriber = userRepository.findByIdIn(Arrays.asList("bulk#1", "bulk#2")).test();
+        testSubscriber.awaitTerminalEvent();
+        testSubscriber.assertValueCount(2);
+
+        TestObserver<User> userObserver = userRepository.findById("bulk#1").test();
+        userObserver.awaitTerminalEvent();
+        userObserver.assertValue(u -> u.getUsername().equals("updatedUsername") && u.getRoles().equals(Arrays.asList("bulk-role")));
+    }
+
+    @Test
+    public void testBulkWrite_idOfAnotherReference() throws TechnicalException {
+        User existingUser = buildUser();
+        existingUser.setId("bulk#foreign");
+        userRepository.create(existingUser).blockingGet();
+
+        User importedUser = buildUser();
+        importedUser.setId("bulk#foreign");
+        importedUser.setReferenceId("anotherDomain");
+        importedUser.setUsername("importedUsername");
+
+        TestObserver testObserver = userRepository.bulkWrite(Arrays.asList(importedUser)).test();
+        testObserver.awaitTerminalEvent();
+        testObserver.assertNotComplete();
+
+        TestObserver<User> userObserver = userRepository.findById("bulk#foreign").test();
+        userObserver.awaitTerminalEvent();
+        userObserver.assertValue(u -> u.getReferenceId().equals(existingUser.getReferenceId()) && u.getUsername().equals(existingUser.getUsername()));
+    }
+
     @Test
     public void testFindById() throws TechnicalException {
         // create user
@@ -23,6 +23,7 @@ import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.Arrays;
+import java.util.Date;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
@@ -65,6 +66,30 @@ public class AccessTokenRepositoryTest extends AbstractOAuthTest {
         observer.assertNoErrors();
     }
 
+    @Test
+    public void shouldCreate() {
+        AccessToken token = new AccessToken();
+        token.setId(RandomString.generate());
+        token.setToken("my-created-token");
+        token.setDomain("domain");
+        token.setClient("client");
+        token.setSubject("subject");
+        token.setCreatedAt(new Date());
+        token.setExpireAt(new Date(System.currentTimeMillis() + 60000));
+
+        TestObserver<AccessToken> observer = accessTokenRepository.create(token).test();
+
+        observer.awaitTerminalEvent();
+
+        observer.assertComplete();
+        observer.assertNoErrors();
+        observer.assertValue(created -> created.getId() != null
+                && "my-created-token".equals(created.getToken())
+                && "domain".equals(created.getDomain())
+                && "client".equals(created.getClient())
+                && "subject".equals(created.getSubject()));
+    }
+
     @Test
     public void shouldDeleteByToken() {
         AccessToken token = new AccessToken();
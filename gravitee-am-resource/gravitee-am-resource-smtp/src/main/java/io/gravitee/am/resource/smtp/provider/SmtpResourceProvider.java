@@ -20,13 +20,12 @@ import io.gravitee.am.resource.api.ResourceProvider;
 import io.gravitee.am.resource.api.email.EmailSenderProvider;
 import io.gravitee.am.resource.smtp.SmtpResourceConfiguration;
 import io.gravitee.am.service.utils.EmailSender;
+import io.gravitee.am.service.utils.PooledJavaMailSender;
 import io.reactivex.Completable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.env.Environment;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.JavaMailSenderImpl;
 import org.springframework.util.StringUtils;
 
 import java.util.Properties;
@@ -48,18 +47,32 @@ public class SmtpResourceProvider implements EmailSenderProvider {
 
     private EmailSender mailSender;
 
+    private PooledJavaMailSender javaMailSender;
+
     @Override
     public ResourceProvider start() throws Exception {
         String templatePath = env.getProperty("templates.path");
         if (StringUtils.isEmpty(templatePath)) {
             templatePath = env.getProperty("gravitee.home") + "/templates";
         }
-        this.mailSender = new EmailSender(createJavaMail(), templatePath);
+        this.javaMailSender = createJavaMail();
+        this.mailSender = new EmailSender(javaMailSender, templatePath);
+        return this;
+    }
+
+    @Override
+    public ResourceProvider stop() throws Exception {
+        if (javaMailSender != null) {
+            // close the SMTP connections kept open between two messages
+            javaMailSender.close();
+        }
         return this;
     }
 
-    private JavaMailSender createJavaMail() {
-        final JavaMailSenderImpl javaMailSender = new JavaMailSenderImpl();
+    private PooledJavaMailSender createJavaMail() {
+        final PooledJavaMailSender javaMailSender = new PooledJavaMailSender(
+                env.getProperty("email.pool.maxIdleConnections", Integer.class, 4),
+                env.getProperty("email.pool.maxIdleTime", Long.class, 30000L));
         javaMailSender.setHost(configuration.getHost());
         try {
             javaMailSender.setPort(configuration.getPort());
@@ -16,6 +16,7 @@
 package io.gravitee.am.service;
 
 import io.gravitee.am.common.email.Email;
+import io.reactivex.Completable;
 
 import javax.mail.internet.MimeMessage;
 
@@ -27,4 +28,13 @@ public interface EmailService {
 
     void send(Email email);
 
+    /**
+     * Queue the email to be sent by the outbound mail workers. When the mail server is unavailable, the email is sent
+     * again with an exponential backoff.
+     *
+     * @return a completable completing once the email has been sent, or failing when the queue is full or all the
+     * attempts failed
+     */
+    Completable sendAsync(Email email);
+
 }
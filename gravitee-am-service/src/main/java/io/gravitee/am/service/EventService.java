@@ -29,4 +29,8 @@ public interface EventService {
     Single<Event> create(Event event);
 
     Single<List<Event>> findByTimeFrame(long from, long to);
+
+    Single<List<Event>> findAfterSequence(long sequence, int limit);
+
+    Single<Long> findLastSequence();
 }
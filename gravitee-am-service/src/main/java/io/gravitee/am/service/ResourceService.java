@@ -55,6 +55,11 @@ public interface ResourceService {
     Single<AccessPolicy> updateAccessPolicy(AccessPolicy accessPolicy, String domain, String client, String user, String resource, String accessPolicyId);
     Completable deleteAccessPolicy(String domain, String client, String user, String resource, String accessPolicy);
 
+    /**
+     * Discard the copy of a resource kept in memory, used when the resource is updated or deleted by another node.
+     */
+    void evict(String resourceId);
+
     default Single<Set<Resource>> findByDomain(String domain) {
         return findByDomain(domain, 0, Integer.MAX_VALUE)
                 .map(pagedResources -> (pagedResources.getData() == null) ? Collections.emptySet() : new HashSet<>(pagedResources.getData()));
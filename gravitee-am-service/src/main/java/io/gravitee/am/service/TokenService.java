@@ -32,5 +32,19 @@ public interface TokenService {
 
     Single<TotalToken> findTotalTokens();
 
+    /**
+     * Delete the stored tokens of the user and revoke the access tokens which are not stored (stateless mode).
+     *
+     * @param userId the user id
+     */
     Completable deleteByUserId(String userId);
+
+    /**
+     * Revoke the access tokens issued so far to the user, including the ones which are not stored (stateless mode).
+     *
+     * @param domain the security domain of the user
+     * @param userId the user id (token subject)
+     * @param clientId the client to which the tokens have been issued, <code>null</code> for all the clients
+     */
+    Completable revokeByUser(String domain, String userId, String clientId);
 }
@@ -42,6 +42,20 @@ public interface UserService {
 
     Single<Page<User>> findAll(ReferenceType referenceType, String referenceId, int page, int size);
 
+    /**
+     * Stream all the users of a reference ordered by id, reading them page after page with a keyset cursor.
+     *
+     * @param lastId id of the last user already read, to resume a previous stream, <code>null</code> to start from the beginning
+     * @param batchSize number of users read per page
+     */
+    Flowable<User> streamAll(ReferenceType referenceType, String referenceId, String lastId, int batchSize);
+
+    /**
+     * Create or replace the given users of a reference in a single bulk operation.
+     * No event is published for the written users.
+     */
+    Completable bulkWrite(ReferenceType referenceType, String referenceId, List<User> users);
+
     Single<Page<User>> findByDomain(String domain, int page, int size);
 
     Single<Page<User>> search(ReferenceType referenceType, String referenceId, String query, int page, int size);
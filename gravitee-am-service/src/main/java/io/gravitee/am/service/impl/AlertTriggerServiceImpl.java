@@ -170,7 +170,7 @@ public class AlertTriggerServiceImpl implements io.gravitee.am.service.AlertTrig
         toCreate.setUpdatedAt(now);
 
         return alertTriggerRepository.create(toCreate)
-                .flatMap(created -> eventService.create(new Event(Type.ALERT_TRIGGER, new Payload(created.getId(), created.getReferenceType(), created.getReferenceId(), Action.CREATE))).ignoreElement().andThen(Single.just(created)))
+                .flatMap(created -> eventService.create(new Event(Type.ALERT_TRIGGER, new Payload(created.getId(), created.getReferenceType(), created.getReferenceId(), Action.CREATE, created.getUpdatedAt()))).ignoreElement().andThen(Single.just(created)))
                 .doOnSuccess(alertTrigger -> auditService.report(AuditBuilder.builder(AlertTriggerAuditBuilder.class).type(EventType.ALERT_TRIGGER_CREATED).alertTrigger(alertTrigger).principal(byUser)))
                 .doOnError(throwable -> auditService.report(AuditBuilder.builder(AlertTriggerAuditBuilder.class).type(EventType.ALERT_TRIGGER_CREATED).alertTrigger(toCreate).principal(byUser).throwable(throwable)));
     }
@@ -180,7 +180,7 @@ public class AlertTriggerServiceImpl implements io.gravitee.am.service.AlertTrig
         alertTrigger.setUpdatedAt(new Date());
 
         return alertTriggerRepository.update(alertTrigger)
-                .flatMap(updated -> eventService.create(new Event(Type.ALERT_TRIGGER, new Payload(updated.getId(), updated.getReferenceType(), updated.getReferenceId(), Action.UPDATE))).ignoreElement().andThen(Single.just(updated)))
+                .flatMap(updated -> eventService.create(new Event(Type.ALERT_TRIGGER, new Payload(updated.getId(), updated.getReferenceType(), updated.getReferenceId(), Action.UPDATE, updated.getUpdatedAt()))).ignoreElement().andThen(Single.just(updated)))
                 .doOnSuccess(updated -> auditService.report(AuditBuilder.builder(AlertTriggerAuditBuilder.class).type(EventType.ALERT_TRIGGER_UPDATED).alertTrigger(updated).principal(updatedBy).oldValue(previous)))
                 .doOnError(throwable -> auditService.report(AuditBuilder.builder(AlertTriggerAuditBuilder.class).type(EventType.ALERT_TRIGGER_UPDATED).alertTrigger(previous).principal(updatedBy).throwable(throwable)));
     }
@@ -193,7 +193,7 @@ public class CertificateServiceImpl implements CertificateService {
                 .flatMap(certificate -> certificateRepository.create(certificate))
                 // create event for sync process
                 .flatMap(certificate -> {
-                    Event event = new Event(Type.CERTIFICATE, new Payload(certificate.getId(), ReferenceType.DOMAIN, certificate.getDomain(), Action.CREATE));
+                    Event event = new Event(Type.CERTIFICATE, new Payload(certificate.getId(), ReferenceType.DOMAIN, certificate.getDomain(), Action.CREATE, certificate.getUpdatedAt()));
                     return eventService.create(event).flatMap(__ -> Single.just(certificate));
                 })
                 .doOnError(ex -> {
@@ -295,7 +295,7 @@ public class CertificateServiceImpl implements CertificateService {
                             .flatMap(certificate -> certificateRepository.update(certificate))
                             // create event for sync process
                             .flatMap(certificate1 -> {
-                                Event event = new Event(Type.CERTIFICATE, new Payload(certificate1.getId(), ReferenceType.DOMAIN, certificate1.getDomain(), Action.UPDATE));
+                                Event event = new Event(Type.CERTIFICATE, new Payload(certificate1.getId(), ReferenceType.DOMAIN, certificate1.getDomain(), Action.UPDATE, certificate1.getUpdatedAt()));
                                 return eventService.create(event).flatMap(__ -> Single.just(certificate1));
                             })
                             .onErrorResumeNext(ex -> {
@@ -316,7 +316,7 @@ public class CertificateServiceImpl implements CertificateService {
                 // create event for sync process
                 .flatMap(certificate1 -> {
                     // Reload domain to take care about certificate update
-                    Event event = new Event(Type.CERTIFICATE, new Payload(certificate1.getId(), ReferenceType.DOMAIN, certificate1.getDomain(), Action.UPDATE));
+                    Event event = new Event(Type.CERTIFICATE, new Payload(certificate1.getId(), ReferenceType.DOMAIN, certificate1.getDomain(), Action.UPDATE, certificate1.getUpdatedAt()));
                     return eventService.create(event).flatMap(__ -> Single.just(certificate1));
                 })
                 .doOnError(ex -> {
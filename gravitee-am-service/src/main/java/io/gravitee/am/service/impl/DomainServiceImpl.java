@@ -272,7 +272,7 @@ public class DomainServiceImpl implements DomainService {
                 })
                 // create event for sync process
                 .flatMap(domain -> {
-                    Event event = new Event(Type.DOMAIN, new Payload(domain.getId(), ReferenceType.DOMAIN, domain.getId(), Action.CREATE));
+                    Event event = new Event(Type.DOMAIN, new Payload(domain.getId(), ReferenceType.DOMAIN, domain.getId(), Action.CREATE, domain.getUpdatedAt()));
                     return eventService.create(event).flatMap(__ -> Single.just(domain));
                 })
                 .onErrorResumeNext(ex -> {
@@ -300,7 +300,7 @@ public class DomainServiceImpl implements DomainService {
                 })
                 // create event for sync process
                 .flatMap(domain1 -> {
-                    Event event = new Event(Type.DOMAIN, new Payload(domain1.getId(), ReferenceType.DOMAIN, domain1.getId(), Action.UPDATE));
+                    Event event = new Event(Type.DOMAIN, new Payload(domain1.getId(), ReferenceType.DOMAIN, domain1.getId(), Action.UPDATE, domain1.getUpdatedAt()));
                     return eventService.create(event).flatMap(__ -> Single.just(domain1));
                 })
                 .onErrorResumeNext(ex -> {
@@ -329,7 +329,7 @@ public class DomainServiceImpl implements DomainService {
                             .andThen(Single.defer(() -> domainRepository.update(toPatch)))
                             // create event for sync process
                             .flatMap(domain1 -> {
-                                Event event = new Event(Type.DOMAIN, new Payload(domain1.getId(), ReferenceType.DOMAIN, domain1.getId(), Action.UPDATE));
+                                Event event = new Event(Type.DOMAIN, new Payload(domain1.getId(), ReferenceType.DOMAIN, domain1.getId(), Action.UPDATE, domain1.getUpdatedAt()));
                                 return eventService.create(event).flatMap(__ -> Single.just(domain1));
                             })
                             .doOnSuccess(domain1 -> auditService.report(AuditBuilder.builder(DomainAuditBuilder.class).principal(principal).type(EventType.DOMAIN_UPDATED).oldValue(oldDomain).domain(domain1)))
@@ -19,36 +19,60 @@ import io.gravitee.am.common.email.Email;
 import io.gravitee.am.service.EmailService;
 import io.gravitee.am.service.exception.TechnicalManagementException;
 import io.gravitee.am.service.utils.EmailSender;
+import io.gravitee.am.service.utils.MetricsUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.reactivex.Completable;
+import io.reactivex.CompletableEmitter;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.select.Elements;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.FileSystemResource;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Component;
 
 import javax.activation.MimetypesFileTypeMap;
+import javax.mail.SendFailedException;
+import javax.mail.internet.AddressException;
 import java.io.File;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
+ * Emails sent asynchronously go through a bounded queue consumed by a fixed number of workers, so that a burst of
+ * emails (e.g. a password reset campaign) neither creates a thread per email nor opens more SMTP connections
+ * than there are workers.
+ *
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
  * @author GraviteeSource Team
  */
 @Component
-public class EmailServiceImpl implements EmailService, InitializingBean {
+public class EmailServiceImpl implements EmailService, InitializingBean, DisposableBean {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(EmailServiceImpl.class);
 
@@ -58,15 +82,160 @@ public class EmailServiceImpl implements EmailService, InitializingBean {
     @Autowired
     private JavaMailSender mailSender;
 
+    @Value("${email.queue.workers:4}")
+    private int workers;
+
+    @Value("${email.queue.capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${email.queue.retries:3}")
+    private int retries;
+
+    @Value("${email.queue.backoff:1000}")
+    private long backoff;
+
     private EmailSender emailSender;
 
+    private ThreadPoolExecutor executor;
+
+    private ScheduledExecutorService retryScheduler;
+
+    private Timer waitTimer;
+
+    private Timer sendTimer;
+
+    private Counter retriedCounter;
+
+    private Counter failedCounter;
+
+    private Counter rejectedCounter;
+
     @Override
     public void afterPropertiesSet() throws Exception {
         this.emailSender = new EmailSender(mailSender, templatesPath);
+
+        final AtomicInteger counter = new AtomicInteger();
+        // threads are only started when the first emails are queued
+        executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "gio-am-email-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "gio-am-email-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        MeterRegistry registry = MetricsUtils.registry();
+        Gauge.builder("am_email_queue_size", executor, e -> e.getQueue().size())
+                .description("Number of emails waiting to be sent")
+                .register(registry);
+        Gauge.builder("am_email_queue_active_workers", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Number of workers currently sending an email")
+                .register(registry);
+        waitTimer = Timer.builder("am_email_queue_wait")
+                .description("Time spent by the emails in the queue")
+                .register(registry);
+        sendTimer = Timer.builder("am_email_send")
+                .description("Time to send an email to the mail server")
+                .register(registry);
+        retriedCounter = Counter.builder("am_email_retried")
+                .description("Number of emails sent again after a mail server failure")
+                .register(registry);
+        failedCounter = Counter.builder("am_email_failed")
+                .description("Number of emails not sent after all the attempts")
+                .register(registry);
+        rejectedCounter = Counter.builder("am_email_rejected")
+                .description("Number of emails rejected because the queue is full")
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        retryScheduler.shutdownNow();
+        executor.shutdown();
     }
 
     @Override
     public void send(Email email) {
         this.emailSender.send(email);
     }
+
+    @Override
+    public Completable sendAsync(Email email) {
+        return Completable.create(emitter -> submit(new SendTask(email, emitter)));
+    }
+
+    private void submit(SendTask task) {
+        try {
+            task.queuedAt = System.nanoTime();
+            executor.execute(task);
+        } catch (RejectedExecutionException ex) {
+            rejectedCounter.increment();
+            LOGGER.warn("Outbound email queue is full, email to {} is dropped", Arrays.toString(task.email.getTo()));
+            task.emitter.onError(new TechnicalManagementException("Outbound email queue is full", ex));
+        }
+    }
+
+    private class SendTask implements Runnable {
+
+        private final Email email;
+        private final CompletableEmitter emitter;
+        private int attempts;
+        private long queuedAt;
+
+        private SendTask(Email email, CompletableEmitter emitter) {
+            this.email = email;
+            this.emitter = emitter;
+        }
+
+        @Override
+        public void run() {
+            waitTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+            attempts++;
+            final long start = System.nanoTime();
+            try {
+                emailSender.send(email);
+                sendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                emitter.onComplete();
+            } catch (Exception ex) {
+                sendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                // only the mail server failures are worth a retry, not the invalid emails
+                if (attempts <= retries && isMailServerFailure(ex.getCause()) && !executor.isShutdown()) {
+                    final long delay = backoff << (attempts - 1);
+                    LOGGER.debug("Unable to send email to {}, retry in {} ms", Arrays.toString(email.getTo()), delay, ex);
+                    retriedCounter.increment();
+                    retryScheduler.schedule(() -> submit(this), delay, TimeUnit.MILLISECONDS);
+                } else {
+                    failedCounter.increment();
+                    emitter.onError(ex);
+                }
+            }
+        }
+    }
+
+    /**
+     * Rejected recipients or invalid addresses fail the same way on every attempt, only the other failures of the mail
+     * server are retried.
+     */
+    private static boolean isMailServerFailure(Throwable ex) {
+        if (!(ex instanceof MailSendException)) {
+            return false;
+        }
+        final MailSendException sendException = (MailSendException) ex;
+        return Stream.concat(Stream.of(sendException.getCause()), sendException.getFailedMessages().values().stream())
+                .noneMatch(EmailServiceImpl::isAddressFailure);
+    }
+
+    private static boolean isAddressFailure(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SendFailedException || cause instanceof AddressException) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -72,4 +72,31 @@ public class EventServiceImpl implements EventService {
                     return Single.error(new TechnicalManagementException("An error occurs while trying to find events by time frame", ex));
                 });
     }
+
+    @Override
+    public Single<List<Event>> findAfterSequence(long sequence, int limit) {
+        LOGGER.debug("Find {} events after sequence {}", limit, sequence);
+        return eventRepository.findAfterSequence(sequence, limit)
+                .toList()
+                .onErrorResumeNext(ex -> {
+                    if (ex instanceof AbstractManagementException) {
+                        return Single.error(ex);
+                    }
+                    LOGGER.error("An error occurs while trying to find events after sequence {}", sequence, ex);
+                    return Single.error(new TechnicalManagementException("An error occurs while trying to find events after sequence " + sequence, ex));
+                });
+    }
+
+    @Override
+    public Single<Long> findLastSequence() {
+        LOGGER.debug("Find the last sequence of the event log");
+        return eventRepository.findLastSequence()
+                .onErrorResumeNext(ex -> {
+                    if (ex instanceof AbstractManagementException) {
+                        return Single.error(ex);
+                    }
+                    LOGGER.error("An error occurs while trying to find the last sequence of the event log", ex);
+                    return Single.error(new TechnicalManagementException("An error occurs while trying to find the last sequence of the event log", ex));
+                });
+    }
 }
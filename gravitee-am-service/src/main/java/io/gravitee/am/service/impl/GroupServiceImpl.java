@@ -17,6 +17,7 @@ package io.gravitee.am.service.impl;
 
 import io.gravitee.am.common.audit.EventType;
 import io.gravitee.am.common.event.Action;
+import io.gravitee.am.common.event.GroupEvent;
 import io.gravitee.am.common.event.Type;
 import io.gravitee.am.common.utils.RandomString;
 import io.gravitee.am.model.Group;
@@ -33,6 +34,7 @@ import io.gravitee.am.service.model.NewGroup;
 import io.gravitee.am.service.model.UpdateGroup;
 import io.gravitee.am.service.reporter.builder.AuditBuilder;
 import io.gravitee.am.service.reporter.builder.management.GroupAuditBuilder;
+import io.gravitee.common.event.EventManager;
 import io.reactivex.Completable;
 import io.reactivex.Flowable;
 import io.reactivex.Maybe;
@@ -74,6 +76,9 @@ public class GroupServiceImpl implements GroupService {
     @Autowired
     private EventService eventService;
 
+    @Autowired
+    private EventManager eventManager;
+
     @Override
     public Single<Page<Group>> findAll(ReferenceType referenceType, String referenceId, int page, int size) {
         LOGGER.debug("Find groups by {}: {}", referenceType, referenceId);
@@ -207,7 +212,7 @@ public class GroupServiceImpl implements GroupService {
                 // create event for sync process
                 .flatMap(group -> {
                     Event event = new Event(Type.GROUP, new Payload(group.getId(), group.getReferenceType(), group.getReferenceId(), Action.CREATE));
-                    return eventService.create(event).flatMap(__ -> Single.just(group));
+                    return createEvent(event).flatMap(__ -> Single.just(group));
                 })
                 .onErrorResumeNext(ex -> {
                     if (ex instanceof AbstractManagementException) {
@@ -256,7 +261,7 @@ public class GroupServiceImpl implements GroupService {
                             // create event for sync process
                             .flatMap(group -> {
                                 Event event = new Event(Type.GROUP, new Payload(group.getId(), group.getReferenceType(), group.getReferenceId(), Action.UPDATE));
-                                return eventService.create(event).flatMap(__ -> Single.just(group));
+                                return createEvent(event).flatMap(__ -> Single.just(group));
                             })
                             .doOnSuccess(group -> auditService.report(AuditBuilder.builder(GroupAuditBuilder.class).principal(principal).type(EventType.GROUP_UPDATED).oldValue(oldGroup).group(group)))
                             .doOnError(throwable -> auditService.report(AuditBuilder.builder(GroupAuditBuilder.class).principal(principal).type(EventType.GROUP_UPDATED).throwable(throwable)));
@@ -284,7 +289,7 @@ public class GroupServiceImpl implements GroupService {
 
         return findById(referenceType, referenceId, groupId)
                 .flatMapCompletable(group -> groupRepository.delete(groupId)
-                        .andThen(Completable.fromSingle(eventService.create(new Event(Type.DOMAIN, new Payload(group.getId(), group.getReferenceType(), group.getReferenceId(), Action.DELETE)))))
+                        .andThen(Completable.fromSingle(createEvent(new Event(Type.GROUP, new Payload(group.getId(), group.getReferenceType(), group.getReferenceId(), Action.DELETE)))))
                         .doOnComplete(() -> auditService.report(AuditBuilder.builder(GroupAuditBuilder.class).principal(principal).type(EventType.GROUP_DELETED).group(group)))
                         .doOnError(throwable -> auditService.report(AuditBuilder.builder(GroupAuditBuilder.class).principal(principal).type(EventType.GROUP_DELETED).throwable(throwable)))
                 )
@@ -354,4 +359,10 @@ public class GroupServiceImpl implements GroupService {
                     return roles1;
                 }).toCompletable();
     }
+
+    private Single<Event> createEvent(Event event) {
+        // publish the change on this node right away, the other nodes get it through the sync process
+        return eventService.create(event)
+                .doOnSuccess(__ -> eventManager.publishEvent(GroupEvent.actionOf(event.getPayload().getAction()), event.getPayload()));
+    }
 }
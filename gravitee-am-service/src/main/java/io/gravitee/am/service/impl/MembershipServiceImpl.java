@@ -17,6 +17,7 @@ package io.gravitee.am.service.impl;
 
 import io.gravitee.am.common.audit.EventType;
 import io.gravitee.am.common.event.Action;
+import io.gravitee.am.common.event.MembershipEvent;
 import io.gravitee.am.common.event.Type;
 import io.gravitee.am.common.utils.RandomString;
 import io.gravitee.am.identityprovider.api.User;
@@ -35,6 +36,7 @@ import io.gravitee.am.service.model.NewMembership;
 import io.gravitee.am.service.reporter.builder.AuditBuilder;
 import io.gravitee.am.service.reporter.builder.management.DomainAuditBuilder;
 import io.gravitee.am.service.reporter.builder.management.MembershipAuditBuilder;
+import io.gravitee.common.event.EventManager;
 import io.reactivex.Completable;
 import io.reactivex.Flowable;
 import io.reactivex.Maybe;
@@ -76,6 +78,9 @@ public class MembershipServiceImpl implements MembershipService {
     @Autowired
     private EventService eventService;
 
+    @Autowired
+    private EventManager eventManager;
+
     @Override
     public Maybe<Membership> findById(String id) {
         LOGGER.debug("Find membership by ID {}", id);
@@ -149,7 +154,7 @@ public class MembershipServiceImpl implements MembershipService {
                                         // create event for sync process
                                         .flatMap(membership1 -> {
                                             Event event = new Event(Type.MEMBERSHIP, new Payload(membership1.getId(), membership1.getReferenceType(), membership1.getReferenceId(), Action.UPDATE));
-                                            return eventService.create(event).flatMap(__ -> Single.just(membership1));
+                                            return createEvent(event).flatMap(__ -> Single.just(membership1));
                                         })
                                         .onErrorResumeNext(ex -> {
                                             if (ex instanceof AbstractManagementException) {
@@ -218,7 +223,7 @@ public class MembershipServiceImpl implements MembershipService {
         return membershipRepository.findById(membershipId)
                 .switchIfEmpty(Maybe.error(new MembershipNotFoundException(membershipId)))
                 .flatMapCompletable(membership -> membershipRepository.delete(membershipId)
-                        .andThen(Completable.fromSingle(eventService.create(new Event(Type.MEMBERSHIP, new Payload(membership.getId(), membership.getReferenceType(), membership.getReferenceId(), Action.DELETE)))))
+                        .andThen(Completable.fromSingle(createEvent(new Event(Type.MEMBERSHIP, new Payload(membership.getId(), membership.getReferenceType(), membership.getReferenceId(), Action.DELETE)))))
                         .doOnComplete(() -> auditService.report(AuditBuilder.builder(MembershipAuditBuilder.class).principal(principal).type(EventType.MEMBERSHIP_DELETED).membership(membership)))
                         .doOnError(throwable -> auditService.report(AuditBuilder.builder(MembershipAuditBuilder.class).principal(principal).type(EventType.MEMBERSHIP_DELETED).throwable(throwable)))
                 )
@@ -276,7 +281,7 @@ public class MembershipServiceImpl implements MembershipService {
                 // create event for sync process
                 .flatMap(membership1 -> {
                     Event event = new Event(Type.MEMBERSHIP, new Payload(membership1.getId(), membership1.getReferenceType(), membership1.getReferenceId(), Action.CREATE));
-                    return eventService.create(event).flatMap(__ -> Single.just(membership1));
+                    return createEvent(event).flatMap(__ -> Single.just(membership1));
                 })
                 .onErrorResumeNext(ex -> {
                     if (ex instanceof AbstractManagementException) {
@@ -373,4 +378,10 @@ public class MembershipServiceImpl implements MembershipService {
                 .switchIfEmpty(Single.error(new InvalidRoleException("Invalid role")))
                 .ignoreElement();
     }
+
+    private Single<Event> createEvent(Event event) {
+        // publish the change on this node right away, the other nodes get it through the sync process
+        return eventService.create(event)
+                .doOnSuccess(__ -> eventManager.publishEvent(MembershipEvent.actionOf(event.getPayload().getAction()), event.getPayload()));
+    }
 }
@@ -218,7 +218,7 @@ public class ReporterServiceImpl implements ReporterService {
                 .flatMap(ignore -> reporterRepository.create(reporter))
                 .flatMap(reporter1 -> {
                     // create event for sync process
-                    Event event = new Event(Type.REPORTER, new Payload(reporter1.getId(), ReferenceType.DOMAIN, reporter1.getDomain(), Action.CREATE));
+                    Event event = new Event(Type.REPORTER, new Payload(reporter1.getId(), ReferenceType.DOMAIN, reporter1.getDomain(), Action.CREATE, reporter1.getUpdatedAt()));
                     return eventService.create(event).flatMap(__ -> Single.just(reporter1));
                 })
                 .onErrorResumeNext(ex -> {
@@ -287,7 +287,7 @@ public class ReporterServiceImpl implements ReporterService {
                                         // create event for sync process
                                         // except for admin domain
                                         if (!ADMIN_DOMAIN.equals(domain)) {
-                                            Event event = new Event(Type.REPORTER, new Payload(reporter1.getId(), ReferenceType.DOMAIN, reporter1.getDomain(), Action.UPDATE));
+                                            Event event = new Event(Type.REPORTER, new Payload(reporter1.getId(), ReferenceType.DOMAIN, reporter1.getDomain(), Action.UPDATE, reporter1.getUpdatedAt()));
                                             return eventService.create(event).flatMap(__ -> Single.just(reporter1));
                                         } else {
                                             return Single.just(reporter1);
@@ -15,33 +15,46 @@
  */
 package io.gravitee.am.service.impl;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.gravitee.am.common.event.Action;
+import io.gravitee.am.common.event.Type;
 import io.gravitee.am.model.Application;
+import io.gravitee.am.model.ReferenceType;
 import io.gravitee.am.model.User;
 import io.gravitee.am.model.common.Page;
+import io.gravitee.am.model.common.event.Event;
+import io.gravitee.am.model.common.event.Payload;
 import io.gravitee.am.model.uma.Resource;
 import io.gravitee.am.model.uma.policy.AccessPolicy;
 import io.gravitee.am.model.uma.policy.AccessPolicyType;
 import io.gravitee.am.repository.management.api.AccessPolicyRepository;
 import io.gravitee.am.repository.management.api.ResourceRepository;
 import io.gravitee.am.service.ApplicationService;
+import io.gravitee.am.service.EventService;
 import io.gravitee.am.service.ResourceService;
 import io.gravitee.am.service.ScopeService;
 import io.gravitee.am.service.UserService;
 import io.gravitee.am.service.exception.*;
 import io.gravitee.am.service.model.NewResource;
+import io.gravitee.am.service.utils.MetricsUtils;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
 import io.reactivex.Completable;
 import io.reactivex.Flowable;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -50,7 +63,7 @@ import java.util.stream.Collectors;
  * @author GraviteeSource Team
  */
 @Component
-public class ResourceServiceImpl implements ResourceService {
+public class ResourceServiceImpl implements ResourceService, InitializingBean {
 
     private final Logger LOGGER = LoggerFactory.getLogger(ResourceServiceImpl.class);
 
@@ -71,6 +84,31 @@ public class ResourceServiceImpl implements ResourceService {
     @Autowired
     private ApplicationService applicationService;
 
+    @Autowired
+    private EventService eventService;
+
+    @Value("${uma.resources.cache.maxSize:10000}")
+    private int resourcesCacheMaxSize;
+
+    @Value("${uma.resources.cache.ttl:30}")
+    private int resourcesCacheTtlSeconds;
+
+    /**
+     * Resource sets looked up by id when issuing requesting party tokens.
+     * Changes made through this service evict the resource and are propagated to the other nodes by an event (see {@link #evict(String)}).
+     */
+    private Cache<String, Resource> resourcesCache;
+
+    @Override
+    public void afterPropertiesSet() {
+        resourcesCache = CacheBuilder.newBuilder()
+                .maximumSize(resourcesCacheMaxSize)
+                .expireAfterWrite(resourcesCacheTtlSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+        GuavaCacheMetrics.monitor(MetricsUtils.registry(), resourcesCache, "am_uma_resources");
+    }
+
     @Override
     public Single<Page<Resource>> findByDomain(String domain, int page, int size) {
         LOGGER.debug("Listing resource for domain {}", domain);
@@ -96,7 +134,16 @@ public class ResourceServiceImpl implements ResourceService {
     @Override
     public Flowable<Resource> findByResources(List<String> resourceIds) {
         LOGGER.debug("Listing resources by ids {}", resourceIds);
-        return repository.findByResources(resourceIds);
+        Map<String, Resource> cachedResources = resourcesCache.getAllPresent(resourceIds);
+        if (!cachedResources.isEmpty() && cachedResources.keySet().containsAll(resourceIds)) {
+            return Flowable.fromIterable(cachedResources.values());
+        }
+        List<String> missingResourceIds = resourceIds.stream()
+                .filter(resourceId -> !cachedResources.containsKey(resourceId))
+                .collect(Collectors.toList());
+        return Flowable.fromIterable(cachedResources.values())
+                .concatWith(repository.findByResources(missingResourceIds)
+                        .doOnNext(resource -> resourcesCache.put(resource.getId(), resource)));
     }
 
     @Override
@@ -183,14 +230,18 @@ public class ResourceServiceImpl implements ResourceService {
                 .map(toUpdate -> toUpdate.setUpdatedAt(new Date()))
                 .flatMap(this::validateScopes)
                 .flatMap(this::validateIconUri)
-                .flatMap(repository::update);
+                .flatMap(repository::update)
+                .doOnSuccess(updated -> resourcesCache.invalidate(resourceId))
+                .flatMap(updated -> resourceChanged(updated.getId(), domain, Action.UPDATE).andThen(Single.just(updated)));
     }
 
     @Override
     public Single<Resource> update(Resource resource) {
         LOGGER.debug("Updating resource id {}", resource.getId());
         resource.setUpdatedAt(new Date());
-        return repository.update(resource);
+        return repository.update(resource)
+                .doOnSuccess(updated -> resourcesCache.invalidate(updated.getId()))
+                .flatMap(updated -> resourceChanged(updated.getId(), updated.getDomain(), Action.UPDATE).andThen(Single.just(updated)));
     }
 
     @Override
@@ -198,7 +249,9 @@ public class ResourceServiceImpl implements ResourceService {
         LOGGER.debug("Deleting resource id {} for resource owner {} and client {}", resourceId, userId, client);
         return findByDomainAndClientAndUserAndResource(domain, client, userId, resourceId)
                 .switchIfEmpty(Maybe.error(new ResourceNotFoundException(resourceId)))
-                .flatMapCompletable(found -> repository.delete(resourceId));
+                .flatMapCompletable(found -> repository.delete(resourceId))
+                .doOnComplete(() -> resourcesCache.invalidate(resourceId))
+                .andThen(Completable.defer(() -> resourceChanged(resourceId, domain, Action.DELETE)));
     }
 
     @Override
@@ -207,7 +260,14 @@ public class ResourceServiceImpl implements ResourceService {
         // delete policies and then the resource
         return accessPolicyRepository.findByDomainAndResource(resource.getDomain(), resource.getId())
                 .flatMapCompletable(accessPolicy -> accessPolicyRepository.delete(accessPolicy.getId()))
-                .andThen(repository.delete(resource.getId()));
+                .andThen(repository.delete(resource.getId()))
+                .doOnComplete(() -> resourcesCache.invalidate(resource.getId()))
+                .andThen(Completable.defer(() -> resourceChanged(resource.getId(), resource.getDomain(), Action.DELETE)));
+    }
+
+    @Override
+    public void evict(String resourceId) {
+        resourcesCache.invalidate(resourceId);
     }
 
     @Override
@@ -337,6 +397,12 @@ public class ResourceServiceImpl implements ResourceService {
                 });
     }
 
+    private Completable resourceChanged(String resourceId, String domain, Action action) {
+        // create event for sync process (gateways keep the resources in cache)
+        Event event = new Event(Type.UMA_RESOURCE, new Payload(resourceId, ReferenceType.DOMAIN, domain, action));
+        return eventService.create(event).ignoreElement();
+    }
+
     private Single<Resource> validateScopes(Resource toValidate) {
         if(toValidate.getResourceScopes()==null || toValidate.getResourceScopes().isEmpty()) {
             return Single.error(new MissingScopeException());
@@ -17,6 +17,7 @@ package io.gravitee.am.service.impl;
 
 import io.gravitee.am.common.audit.EventType;
 import io.gravitee.am.common.event.Action;
+import io.gravitee.am.common.event.RoleEvent;
 import io.gravitee.am.common.event.Type;
 import io.gravitee.am.common.utils.RandomString;
 import io.gravitee.am.identityprovider.api.User;
@@ -39,6 +40,7 @@ import io.gravitee.am.service.model.NewRole;
 import io.gravitee.am.service.model.UpdateRole;
 import io.gravitee.am.service.reporter.builder.AuditBuilder;
 import io.gravitee.am.service.reporter.builder.management.RoleAuditBuilder;
+import io.gravitee.common.event.EventManager;
 import io.reactivex.Observable;
 import io.reactivex.*;
 import org.slf4j.Logger;
@@ -70,6 +72,9 @@ public class RoleServiceImpl implements RoleService {
     @Autowired
     private EventService eventService;
 
+    @Autowired
+    private EventManager eventManager;
+
     @Override
     public Flowable<Role> findAllAssignable(ReferenceType referenceType, String referenceId, ReferenceType assignableType) {
         LOGGER.debug("Find roles by {}: {} assignable to {}", referenceType, referenceId, assignableType);
@@ -182,7 +187,7 @@ public class RoleServiceImpl implements RoleService {
                 // create event for sync process
                 .flatMap(role -> {
                     Event event = new Event(Type.ROLE, new Payload(role.getId(), role.getReferenceType(), role.getReferenceId(), Action.CREATE));
-                    return eventService.create(event).flatMap(__ -> Single.just(role));
+                    return createEvent(event).flatMap(__ -> Single.just(role));
                 })
                 .onErrorResumeNext(ex -> {
                     if (ex instanceof AbstractManagementException) {
@@ -232,7 +237,7 @@ public class RoleServiceImpl implements RoleService {
                                         // create event for sync process
                                         .flatMap(role -> {
                                             Event event = new Event(Type.ROLE, new Payload(role.getId(), role.getReferenceType(), role.getReferenceId(), Action.UPDATE));
-                                            return eventService.create(event).flatMap(__ -> Single.just(role));
+                                            return createEvent(event).flatMap(__ -> Single.just(role));
                                         })
                                         .doOnSuccess(role -> auditService.report(AuditBuilder.builder(RoleAuditBuilder.class).principal(principal).type(EventType.ROLE_UPDATED).oldValue(oldRole).role(role)))
                                         .doOnError(throwable -> auditService.report(AuditBuilder.builder(RoleAuditBuilder.class).principal(principal).type(EventType.ROLE_UPDATED).throwable(throwable)));
@@ -266,7 +271,7 @@ public class RoleServiceImpl implements RoleService {
                     return role;
                 })
                 .flatMapCompletable(role -> roleRepository.delete(roleId)
-                        .andThen(Completable.fromSingle(eventService.create(new Event(Type.ROLE, new Payload(role.getId(), role.getReferenceType(), role.getReferenceId(), Action.DELETE)))))
+                        .andThen(Completable.fromSingle(createEvent(new Event(Type.ROLE, new Payload(role.getId(), role.getReferenceType(), role.getReferenceId(), Action.DELETE)))))
                         .doOnComplete(() -> auditService.report(AuditBuilder.builder(RoleAuditBuilder.class).principal(principal).type(EventType.ROLE_DELETED).role(role)))
                         .doOnError(throwable -> auditService.report(AuditBuilder.builder(RoleAuditBuilder.class).principal(principal).type(EventType.ROLE_DELETED).throwable(throwable)))
                 )
@@ -312,7 +317,7 @@ public class RoleServiceImpl implements RoleService {
                         return roleRepository.create(role)
                                 .flatMap(role1 -> {
                                     Event event = new Event(Type.ROLE, new Payload(role1.getId(), role1.getReferenceType(), role1.getReferenceId(), Action.CREATE));
-                                    return eventService.create(event).flatMap(__ -> Single.just(role1));
+                                    return createEvent(event).flatMap(__ -> Single.just(role1));
                                 })
                                 .onErrorResumeNext(ex -> {
                                     if (ex instanceof AbstractManagementException) {
@@ -338,7 +343,7 @@ public class RoleServiceImpl implements RoleService {
                         return roleRepository.update(role)
                                 .flatMap(role1 -> {
                                     Event event = new Event(Type.ROLE, new Payload(role1.getId(), role1.getReferenceType(), role1.getReferenceId(), Action.UPDATE));
-                                    return eventService.create(event).flatMap(__ -> Single.just(role1));
+                                    return createEvent(event).flatMap(__ -> Single.just(role1));
                                 })
                                 .onErrorResumeNext(ex -> {
                                     if (ex instanceof AbstractManagementException) {
@@ -507,4 +512,10 @@ public class RoleServiceImpl implements RoleService {
 
         return role;
     }
+
+    private Single<Event> createEvent(Event event) {
+        // publish the change on this node right away, the other nodes get it through the sync process
+        return eventService.create(event)
+                .doOnSuccess(__ -> eventManager.publishEvent(RoleEvent.actionOf(event.getPayload().getAction()), event.getPayload()));
+    }
 }
@@ -24,6 +24,7 @@ import io.gravitee.am.repository.oauth2.api.RefreshTokenRepository;
 import io.gravitee.am.repository.oauth2.api.ScopeApprovalRepository;
 import io.gravitee.am.service.AuditService;
 import io.gravitee.am.service.ScopeApprovalService;
+import io.gravitee.am.service.TokenService;
 import io.gravitee.am.service.UserService;
 import io.gravitee.am.service.exception.AbstractManagementException;
 import io.gravitee.am.service.exception.ScopeApprovalNotFoundException;
@@ -70,6 +71,9 @@ public class ScopeApprovalServiceImpl implements ScopeApprovalService {
     @Autowired
     private AuditService auditService;
 
+    @Autowired
+    private TokenService tokenService;
+
     @Override
     public Maybe<ScopeApproval> findById(String id) {
         LOGGER.debug("Find scope approval by id: {}", id);
@@ -105,6 +109,11 @@ public class ScopeApprovalServiceImpl implements ScopeApprovalService {
 
     @Override
     public Single<List<ScopeApproval>> saveConsent(String domain, Client client, List<ScopeApproval> approvals, User principal) {
+        if (approvals == null || approvals.isEmpty()) {
+            // nothing consented (e.g. all the requested scopes have been denied)
+            return Single.just(Collections.emptyList());
+        }
+
         LOGGER.debug("Save approvals for user: {}", approvals.get(0).getUserId());
         return Observable.fromIterable(approvals)
                 .flatMapSingle(approval -> scopeApprovalRepository.upsert(approval))
@@ -130,7 +139,8 @@ public class ScopeApprovalServiceImpl implements ScopeApprovalService {
                                 .doOnComplete(() -> auditService.report(AuditBuilder.builder(UserConsentAuditBuilder.class).type(EventType.USER_CONSENT_REVOKED).domain(domain).principal(principal).user(user).approvals(Collections.singleton(scopeApproval))))
                                 .doOnError(throwable -> auditService.report(AuditBuilder.builder(UserConsentAuditBuilder.class).type(EventType.USER_CONSENT_REVOKED).domain(domain).principal(principal).user(user).throwable(throwable)))
                                 .andThen(Completable.mergeArrayDelayError(accessTokenRepository.deleteByDomainIdClientIdAndUserId(scopeApproval.getDomain(), scopeApproval.getClientId(), scopeApproval.getUserId()),
-                                            refreshTokenRepository.deleteByDomainIdClientIdAndUserId(scopeApproval.getDomain(), scopeApproval.getClientId(), scopeApproval.getUserId())))))
+                                            refreshTokenRepository.deleteByDomainIdClientIdAndUserId(scopeApproval.getDomain(), scopeApproval.getClientId(), scopeApproval.getUserId())))
+                                .andThen(tokenService.revokeByUser(scopeApproval.getDomain(), scopeApproval.getUserId(), scopeApproval.getClientId()))))
                 .onErrorResumeNext(ex -> {
                     if (ex instanceof AbstractManagementException) {
                         return Completable.error(ex);
@@ -152,7 +162,8 @@ public class ScopeApprovalServiceImpl implements ScopeApprovalService {
                                 .doOnComplete(() -> auditService.report(AuditBuilder.builder(UserConsentAuditBuilder.class).type(EventType.USER_CONSENT_REVOKED).domain(domain).principal(principal).user(user1).approvals(scopeApprovals)))
                                 .doOnError(throwable -> auditService.report(AuditBuilder.builder(UserConsentAuditBuilder.class).type(EventType.USER_CONSENT_REVOKED).domain(domain).principal(principal).user(user1).throwable(throwable))))
                         .andThen(Completable.mergeArrayDelayError(accessTokenRepository.deleteByDomainIdAndUserId(domain, user),
-                                refreshTokenRepository.deleteByDomainIdAndUserId(domain, user))))
+                                refreshTokenRepository.deleteByDomainIdAndUserId(domain, user)))
+                        .andThen(tokenService.revokeByUser(domain, user, null)))
                 .onErrorResumeNext(ex -> {
                     if (ex instanceof AbstractManagementException) {
                         return Completable.error(ex);
@@ -175,7 +186,8 @@ public class ScopeApprovalServiceImpl implements ScopeApprovalService {
                                 .doOnComplete(() -> auditService.report(AuditBuilder.builder(UserConsentAuditBuilder.class).type(EventType.USER_CONSENT_REVOKED).domain(domain).principal(principal).user(user1).approvals(scopeApprovals)))
                                 .doOnError(throwable -> auditService.report(AuditBuilder.builder(UserConsentAuditBuilder.class).type(EventType.USER_CONSENT_REVOKED).domain(domain).principal(principal).user(user1).throwable(throwable))))
                         .andThen(Completable.mergeArrayDelayError(accessTokenRepository.deleteByDomainIdClientIdAndUserId(domain, clientId, user),
-                                refreshTokenRepository.deleteByDomainIdClientIdAndUserId(domain, clientId, user))))
+                                refreshTokenRepository.deleteByDomainIdClientIdAndUserId(domain, clientId, user)))
+                        .andThen(tokenService.revokeByUser(domain, user, clientId)))
                 .onErrorResumeNext(ex -> {
                     if (ex instanceof AbstractManagementException) {
                         return Completable.error(ex);
@@ -15,13 +15,22 @@
  */
 package io.gravitee.am.service.impl;
 
+import io.gravitee.am.common.event.Action;
+import io.gravitee.am.common.event.TokenEvent;
+import io.gravitee.am.common.event.Type;
 import io.gravitee.am.model.Application;
+import io.gravitee.am.model.ReferenceType;
+import io.gravitee.am.model.common.event.Event;
+import io.gravitee.am.model.common.event.Payload;
 import io.gravitee.am.repository.oauth2.api.AccessTokenRepository;
 import io.gravitee.am.repository.oauth2.api.RefreshTokenRepository;
 import io.gravitee.am.service.ApplicationService;
+import io.gravitee.am.service.EventService;
 import io.gravitee.am.service.TokenService;
+import io.gravitee.am.service.UserService;
 import io.gravitee.am.service.exception.TechnicalManagementException;
 import io.gravitee.am.service.model.TotalToken;
+import io.gravitee.common.event.EventManager;
 import io.reactivex.Completable;
 import io.reactivex.Observable;
 import io.reactivex.Single;
@@ -43,6 +52,15 @@ public class TokenServiceImpl implements TokenService {
     @Autowired
     private ApplicationService applicationService;
 
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventManager eventManager;
+
     @Lazy
     @Autowired
     private AccessTokenRepository accessTokenRepository;
@@ -109,6 +127,10 @@ public class TokenServiceImpl implements TokenService {
         LOGGER.debug("Delete tokens by user : {}", userId);
         return accessTokenRepository.deleteByUserId(userId)
                 .andThen(refreshTokenRepository.deleteByUserId(userId))
+                // stateless access tokens are not stored, revoke all the tokens issued to the user
+                .andThen(userService.findById(userId)
+                        .filter(user -> user.getReferenceType() == ReferenceType.DOMAIN)
+                        .flatMapCompletable(user -> revokeByUser(user.getReferenceId(), userId, null)))
                 .onErrorResumeNext(ex -> {
                     LOGGER.error("An error occurs while trying to delete tokens by user {}", userId, ex);
                     return Completable.error(new TechnicalManagementException(
@@ -116,6 +138,24 @@ public class TokenServiceImpl implements TokenService {
                 });
     }
 
+    @Override
+    public Completable revokeByUser(String domain, String userId, String clientId) {
+        LOGGER.debug("Revoke tokens of user {} for domain {} and client {}", userId, domain, clientId);
+        return Completable.defer(() -> {
+                    Payload payload = new Payload(TokenEvent.subjectKey(userId, clientId), ReferenceType.DOMAIN, domain, Action.BULK_DELETE);
+                    payload.put(TokenEvent.REVOKED_AT, System.currentTimeMillis());
+                    // create event for sync process and apply the revocation right away on this node
+                    return eventService.create(new Event(Type.TOKEN, payload))
+                            .doOnSuccess(__ -> eventManager.publishEvent(TokenEvent.REVOKE_SUBJECT, payload))
+                            .ignoreElement();
+                })
+                .onErrorResumeNext(ex -> {
+                    LOGGER.error("An error occurs while trying to revoke tokens of user {}", userId, ex);
+                    return Completable.error(new TechnicalManagementException(
+                            String.format("An error occurs while trying to revoke tokens of user: %s", userId), ex));
+                });
+    }
+
     private Single<Long> countByClientId(Application application) {
         if (application.getSettings() == null) {
             return Single.just(0l);
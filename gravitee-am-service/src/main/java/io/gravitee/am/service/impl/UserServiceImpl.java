@@ -29,6 +29,7 @@ import io.gravitee.am.repository.management.api.UserRepository;
 import io.gravitee.am.repository.management.api.search.FilterCriteria;
 import io.gravitee.am.service.*;
 import io.gravitee.am.service.exception.AbstractManagementException;
+import io.gravitee.am.service.exception.InvalidUserException;
 import io.gravitee.am.service.exception.TechnicalManagementException;
 import io.gravitee.am.service.exception.UserAlreadyExistsException;
 import io.gravitee.am.service.exception.UserNotFoundException;
@@ -47,6 +48,7 @@ import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 /**
@@ -98,6 +100,74 @@ public class UserServiceImpl implements UserService {
                 });
     }
 
+    @Override
+    public Flowable<User> streamAll(ReferenceType referenceType, String referenceId, String lastId, int batchSize) {
+        LOGGER.debug("Stream users by {}: {} from {}", referenceType, referenceId, lastId);
+        return Flowable.defer(() -> {
+            final AtomicReference<String> cursor = new AtomicReference<>(lastId);
+            return Flowable.defer(() -> userRepository.findAllAfter(referenceType, referenceId, cursor.get(), batchSize).toList().toFlowable())
+                    .repeat()
+                    .takeUntil(users -> users.size() < batchSize)
+                    .doOnNext(users -> {
+                        if (!users.isEmpty()) {
+                            cursor.set(users.get(users.size() - 1).getId());
+                        }
+                    })
+                    .concatMapIterable(users -> users, 1);
+        }).onErrorResumeNext(ex -> {
+            LOGGER.error("An error occurs while trying to stream users by {} {}", referenceType, referenceId, ex);
+            return Flowable.error(new TechnicalManagementException(String.format("An error occurs while trying to stream users by %s %s", referenceType, referenceId), ex));
+        });
+    }
+
+    @Override
+    public Completable bulkWrite(ReferenceType referenceType, String referenceId, List<User> users) {
+        LOGGER.debug("Bulk write {} users for {} {}", users.size(), referenceType, referenceId);
+        final Date now = new Date();
+        users.forEach(user -> {
+            user.setId(user.getId() == null ? RandomString.generate() : user.getId());
+            user.setReferenceType(referenceType);
+            user.setReferenceId(referenceId);
+            user.setCreatedAt(user.getCreatedAt() == null ? now : user.getCreatedAt());
+            user.setUpdatedAt(now);
+        });
+
+        return Flowable.fromIterable(users)
+                .concatMapCompletable(userValidator::validate)
+                .andThen(checkBulkWrite(referenceType, referenceId, users))
+                .andThen(Completable.defer(() -> userRepository.bulkWrite(users)))
+                .onErrorResumeNext(ex -> {
+                    if (ex instanceof AbstractManagementException) {
+                        return Completable.error(ex);
+                    }
+                    LOGGER.error("An error occurs while trying to bulk write users for {} {}", referenceType, referenceId, ex);
+                    return Completable.error(new TechnicalManagementException(String.format("An error occurs while trying to bulk write users for %s %s", referenceType, referenceId), ex));
+                });
+    }
+
+    private Completable checkBulkWrite(ReferenceType referenceType, String referenceId, List<User> users) {
+        // the users are replaced by id, an id must not be taken from another domain or organization
+        final List<String> ids = users.stream().map(User::getId).collect(Collectors.toList());
+        Completable checkIds = userRepository.findByIdIn(ids)
+                .filter(existingUser -> existingUser.getReferenceType() != referenceType || !referenceId.equals(existingUser.getReferenceId()))
+                .firstElement()
+                .flatMapCompletable(existingUser -> Completable.error(new InvalidUserException(String.format("User [%s] cannot be imported, its id is already used", existingUser.getId()))));
+
+        // same uniqueness rule as a single user creation: one username per source
+        final Set<String> batchKeys = new HashSet<>();
+        Completable checkUsernames = Flowable.fromIterable(users)
+                .concatMapCompletable(user -> {
+                    if (!batchKeys.add(user.getSource() + "#" + user.getUsername())) {
+                        return Completable.error(new UserAlreadyExistsException(user.getUsername()));
+                    }
+                    return userRepository.findByUsernameAndSource(referenceType, referenceId, user.getUsername(), user.getSource())
+                            .filter(existingUser -> !existingUser.getId().equals(user.getId()))
+                            .flatMapCompletable(existingUser -> Completable.error(new UserAlreadyExistsException(user.getUsername())));
+                });
+
+        return checkIds.andThen(checkUsernames);
+    }
+
     @Override
     public Single<Page<User>> findByDomain(String domain, int page, int size) {
         return findAll(ReferenceType.DOMAIN, domain, page, size);
@@ -84,6 +84,7 @@ public class PatchApplicationOAuthSettings {
     private Optional<String> authorizationEncryptedResponseAlg;
     private Optional<String> authorizationEncryptedResponseEnc;
     private Optional<Boolean> forcePKCE;
+    private Optional<Boolean> statelessAccessToken;
     private Optional<List<String>> postLogoutRedirectUris;
 
     public Optional<List<String>> getRedirectUris() {
@@ -510,6 +511,14 @@ public class PatchApplicationOAuthSettings {
         this.forcePKCE = forcePKCE;
     }
 
+    public Optional<Boolean> getStatelessAccessToken() {
+        return statelessAccessToken;
+    }
+
+    public void setStatelessAccessToken(Optional<Boolean> statelessAccessToken) {
+        this.statelessAccessToken = statelessAccessToken;
+    }
+
     public Optional<List<String>> getPostLogoutRedirectUris() {
         return postLogoutRedirectUris;
     }
@@ -577,6 +586,7 @@ public class PatchApplicationOAuthSettings {
         SetterUtils.safeSet(toPatch::setAuthorizationEncryptedResponseAlg, this.getAuthorizationEncryptedResponseAlg());
         SetterUtils.safeSet(toPatch::setAuthorizationEncryptedResponseEnc, this.getAuthorizationEncryptedResponseEnc());
         SetterUtils.safeSet(toPatch::setForcePKCE, this.getForcePKCE());
+        SetterUtils.safeSet(toPatch::setStatelessAccessToken, this.getStatelessAccessToken(), boolean.class);
         SetterUtils.safeSet(toPatch::setPostLogoutRedirectUris, this.getPostLogoutRedirectUris());
 
         return toPatch;
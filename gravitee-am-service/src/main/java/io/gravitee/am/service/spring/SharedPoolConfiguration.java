@@ -0,0 +1,104 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.service.spring;
+
+import io.gravitee.am.common.pool.SharedPoolRegistry;
+import io.gravitee.am.service.utils.MetricsUtils;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Configure the {@link SharedPoolRegistry} used by the reporter and identity provider plugins and expose
+ * the utilization of each shared pool.
+ *
+ * @author GraviteeSource Team
+ */
+@Configuration
+public class SharedPoolConfiguration implements InitializingBean, DisposableBean, SharedPoolRegistry.Listener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SharedPoolConfiguration.class);
+
+    @Value("${pools.shared:true}")
+    private boolean shared;
+
+    @Value("${pools.maxConnections:0}")
+    private int maxConnections;
+
+    private final Map<String, List<Meter>> meters = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterPropertiesSet() {
+        final SharedPoolRegistry registry = SharedPoolRegistry.getInstance();
+        registry.setEnabled(shared);
+        registry.setMaxConnections(maxConnections);
+        registry.addListener(this);
+
+        Gauge.builder("am_pool_connections_total", registry, SharedPoolRegistry::getTotalConnections)
+                .description("Maximum number of connections of all the plugin pools")
+                .register(MetricsUtils.registry());
+
+        LOGGER.info("Plugin connection pools sharing is {}, connection limit: {}",
+                shared ? "enabled" : "disabled", maxConnections > 0 ? maxConnections : "none");
+    }
+
+    @Override
+    public void destroy() {
+        SharedPoolRegistry.getInstance().removeListener(this);
+    }
+
+    @Override
+    public void onCreated(SharedPoolRegistry.Pool<?> pool) {
+        final MeterRegistry registry = MetricsUtils.registry();
+        final Tags tags = Tags.of("pool", pool.getId(), "type", pool.getType());
+        meters.put(pool.getId(), Arrays.asList(
+                Gauge.builder("am_pool_references", pool, SharedPoolRegistry.Pool::getReferences)
+                        .description("Number of plugins using the pool")
+                        .tags(tags)
+                        .register(registry),
+                Gauge.builder("am_pool_connections_max", pool, SharedPoolRegistry.Pool::getMaxConnections)
+                        .description("Maximum number of connections of the pool")
+                        .tags(tags)
+                        .register(registry),
+                Gauge.builder("am_pool_connections_in_use", pool, SharedPoolRegistry.Pool::getConnectionsInUse)
+                        .description("Number of connections of the pool currently in use")
+                        .tags(tags)
+                        .register(registry)));
+        LOGGER.debug("Plugin connection pool {} created with {} connections", pool.getId(), pool.getMaxConnections());
+    }
+
+    @Override
+    public void onDestroyed(SharedPoolRegistry.Pool<?> pool) {
+        final List<Meter> poolMeters = meters.remove(pool.getId());
+        if (poolMeters != null) {
+            final MeterRegistry registry = MetricsUtils.registry();
+            poolMeters.forEach(registry::remove);
+        }
+        LOGGER.debug("Plugin connection pool {} destroyed", pool.getId());
+    }
+}
@@ -15,6 +15,7 @@
  */
 package io.gravitee.am.service.spring.email;
 
+import io.gravitee.am.service.utils.PooledJavaMailSender;
 import io.gravitee.common.util.EnvironmentUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -22,7 +23,6 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.JavaMailSenderImpl;
 
 import java.util.Map;
 import java.util.Properties;
@@ -52,12 +52,18 @@ public class EmailConfiguration {
     @Value("${email.protocol:smtp}")
     private String protocol;
 
+    @Value("${email.pool.maxIdleConnections:4}")
+    private int maxIdleConnections;
+
+    @Value("${email.pool.maxIdleTime:30000}")
+    private long maxIdleTime;
+
     @Autowired
     private ConfigurableEnvironment environment;
 
-    @Bean
+    @Bean(destroyMethod = "close")
     public JavaMailSender mailSender() {
-        final JavaMailSenderImpl javaMailSender = new JavaMailSenderImpl();
+        final PooledJavaMailSender javaMailSender = new PooledJavaMailSender(maxIdleConnections, maxIdleTime);
         javaMailSender.setHost(host);
         try {
             javaMailSender.setPort(Integer.valueOf(this.port));
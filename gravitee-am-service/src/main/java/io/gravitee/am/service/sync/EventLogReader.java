@@ -0,0 +1,268 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.service.sync;
+
+import io.gravitee.am.common.event.Action;
+import io.gravitee.am.model.common.event.Event;
+import io.gravitee.am.model.common.event.Payload;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Turn the events read from the event log into the changes a node has to apply to its in-memory state.
+ *
+ * Nodes load a snapshot of the entities at startup and then apply the deltas read from the event log. For each poll:
+ * <ul>
+ *     <li>events already read by a previous poll (see below) are ignored</li>
+ *     <li>events are coalesced by entity, only the one with the greatest sequence is kept (e.g. a bulk import emitting many
+ *     events for the same entity), creation dates are not compared as they depend on the clock of the node writing the event</li>
+ *     <li>events carrying an entity version (see {@link Payload#getVersion()}) older than or equal to the version already
+ *     propagated for that entity are ignored</li>
+ * </ul>
+ *
+ * The reader also keeps the position of the node in the event log: the sequence up to which all the events have been
+ * read. Sequences are assigned when events are created, an event may become visible after an event with a greater
+ * sequence (slow insert), or never (failed insert, compacted event). The sequences skipped by a poll are remembered as
+ * gaps: the position stays before the first gap so that the next polls read it again, until the missing event shows up
+ * or the gap timeout elapses. The events read again meanwhile are ignored, only the missing ones are propagated.
+ * Gaps are timed with the clock of the node, not with the creation date of the events, so that the clock skew between
+ * the nodes writing the event log has no effect.
+ *
+ * The state of the reader moves forward with each poll, a sync manager failing to apply the events of a poll restores
+ * the state taken before it (see {@link #checkpoint()}) so that these events are read again.
+ *
+ * This class is not thread-safe, each sync manager uses its own instance from its refresh thread.
+ *
+ * @author GraviteeSource Team
+ */
+public class EventLogReader {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventLogReader.class);
+
+    /**
+     * Maximum number of missing sequences waited for, the extra ones are skipped right away.
+     */
+    static final int MAX_GAPS = 10000;
+
+    private final Map<String, PropagatedVersion> versions = new HashMap<>();
+
+    // missing sequence -> time at which the sequence is no longer waited for
+    private final NavigableMap<Long, Long> gaps = new TreeMap<>();
+
+    private final long gapTimeout;
+
+    private final LongSupplier clock;
+
+    // greatest sequence read so far
+    private long lastSequence;
+
+    public EventLogReader() {
+        this(0);
+    }
+
+    /**
+     * @param gapTimeout the delay in ms during which a missing sequence is read again before being skipped
+     */
+    public EventLogReader(long gapTimeout) {
+        this(gapTimeout, () -> TimeUnit.NANOSECONDS.toMillis(System.nanoTime()));
+    }
+
+    EventLogReader(long gapTimeout, LongSupplier clock) {
+        this.gapTimeout = gapTimeout;
+        this.clock = clock;
+    }
+
+    /**
+     * @return the sequence up to which all the events of the event log have been read, the next poll reads the events after it
+     */
+    public long getPosition() {
+        return gaps.isEmpty() ? lastSequence : gaps.firstKey() - 1;
+    }
+
+    public void setPosition(long position) {
+        this.lastSequence = position;
+        this.gaps.clear();
+        this.versions.clear();
+    }
+
+    /**
+     * @return the current state of the reader, to restore if the events read afterwards can't be applied
+     */
+    public Checkpoint checkpoint() {
+        return new Checkpoint(lastSequence, new TreeMap<>(gaps), new HashMap<>(versions));
+    }
+
+    /**
+     * Move the reader back to a previous state, the events read since then are read again by the next poll.
+     *
+     * @param checkpoint a state taken with {@link #checkpoint()}
+     */
+    public void restore(Checkpoint checkpoint) {
+        this.lastSequence = checkpoint.lastSequence;
+        this.gaps.clear();
+        this.gaps.putAll(checkpoint.gaps);
+        this.versions.clear();
+        this.versions.putAll(checkpoint.versions);
+    }
+
+    /**
+     * @param page a page of events read after a given sequence, ordered by sequence
+     * @param after the sequence after which the page has been read
+     * @return the sequence after which the next page has to be read
+     */
+    public static long nextPage(List<Event> page, long after) {
+        for (int i = page.size() - 1; i >= 0; i--) {
+            final Long sequence = page.get(i).getSequence();
+            if (sequence != null) {
+                return Math.max(after, sequence);
+            }
+        }
+        return after;
+    }
+
+    /**
+     * @param events the events read from the event log, ordered by sequence
+     * @return the latest event of each entity which has not been propagated yet, in the order of the event log
+     */
+    public List<Event> read(List<Event> events) {
+        if (events == null || events.isEmpty()) {
+            expireGaps();
+            return Collections.emptyList();
+        }
+
+        // keep only the latest event by type and entity id
+        final Map<String, Event> latestEvents = new LinkedHashMap<>();
+        for (Event event : events) {
+            if (isAlreadyRead(event)) {
+                continue;
+            }
+            latestEvents.merge(key(event), event, (previous, current) -> isBefore(current, previous) ? previous : current);
+        }
+
+        final List<Event> changes = new ArrayList<>(latestEvents.size());
+        latestEvents.forEach((key, event) -> {
+            final Payload payload = event.getPayload();
+            if (payload.getAction() == Action.DELETE) {
+                versions.remove(key);
+                changes.add(event);
+                return;
+            }
+
+            final Long version = payload.getVersion();
+            if (version == null) {
+                changes.add(event);
+                return;
+            }
+
+            final PropagatedVersion propagatedVersion = versions.get(key);
+            if (propagatedVersion == null || propagatedVersion.version < version) {
+                versions.put(key, new PropagatedVersion(version, event.getSequence() != null ? event.getSequence() : lastSequence));
+                changes.add(event);
+            }
+        });
+
+        expireGaps();
+        return changes;
+    }
+
+    /**
+     * Check whether an entity loaded at the given version is already up to date regarding an event.
+     *
+     * @param payload the event payload
+     * @param loadedVersion the last update date of the loaded entity (may be <code>null</code>)
+     * @return <code>true</code> if the event doesn't bring any newer version of the entity
+     */
+    public static boolean isUpToDate(Payload payload, Date loadedVersion) {
+        final Long version = payload.getVersion();
+        return version != null && loadedVersion != null && version <= loadedVersion.getTime();
+    }
+
+    private boolean isAlreadyRead(Event event) {
+        final Long sequence = event.getSequence();
+        if (sequence == null) {
+            return false;
+        }
+        if (sequence <= lastSequence) {
+            // read again because of a gap before it, unless it is the missing event
+            return gaps.remove(sequence) == null;
+        }
+
+        if (sequence > lastSequence + 1) {
+            final long deadline = clock.getAsLong() + gapTimeout;
+            long missing = lastSequence + 1;
+            for (; missing < sequence && gaps.size() < MAX_GAPS; missing++) {
+                gaps.put(missing, deadline);
+            }
+            if (missing < sequence) {
+                logger.warn("Too many missing events in the event log, sequences {} to {} are skipped", missing, sequence - 1);
+            }
+        }
+        lastSequence = sequence;
+        return false;
+    }
+
+    private void expireGaps() {
+        final long now = clock.getAsLong();
+        gaps.values().removeIf(deadline -> deadline <= now);
+
+        // an event read after the position can no longer be superseded by an event with a smaller sequence
+        final long position = getPosition();
+        versions.values().removeIf(propagatedVersion -> propagatedVersion.sequence <= position);
+    }
+
+    private static String key(Event event) {
+        return event.getType() + ":" + event.getPayload().getId();
+    }
+
+    private static boolean isBefore(Event event, Event other) {
+        if (event.getSequence() == null || other.getSequence() == null) {
+            return false;
+        }
+        return event.getSequence() < other.getSequence();
+    }
+
+    public static final class Checkpoint {
+
+        private final long lastSequence;
+
+        private final Map<Long, Long> gaps;
+
+        private final Map<String, PropagatedVersion> versions;
+
+        private Checkpoint(long lastSequence, Map<Long, Long> gaps, Map<String, PropagatedVersion> versions) {
+            this.lastSequence = lastSequence;
+            this.gaps = gaps;
+            this.versions = versions;
+        }
+    }
+
+    private static final class PropagatedVersion {
+
+        private final long version;
+
+        private final long sequence;
+
+        private PropagatedVersion(long version, long sequence) {
+            this.version = version;
+            this.sequence = sequence;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.service.utils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.vertx.micrometer.backends.BackendRegistries;
+
+/**
+ * Give access to the node meter registry (the one exposed by the node monitoring endpoint when
+ * <code>services.metrics.enabled</code> is set).
+ *
+ * If metrics are disabled, the global micrometer registry is returned: meters registered against it are no-op
+ * until a concrete registry is added, so callers never have to check whether metrics are enabled.
+ *
+ * @author GraviteeSource Team
+ */
+public final class MetricsUtils {
+
+    public static final String TAG_DOMAIN = "domain";
+
+    public static final String TAG_RESULT = "result";
+
+    public static final String RESULT_SUCCESS = "success";
+
+    public static final String RESULT_FAILURE = "failure";
+
+    public static final String RESULT_ERROR = "error";
+
+    private MetricsUtils() { }
+
+    public static MeterRegistry registry() {
+        MeterRegistry registry = BackendRegistries.getDefaultNow();
+        return registry != null ? registry : Metrics.globalRegistry;
+    }
+}
@@ -0,0 +1,162 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.service.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import javax.mail.Address;
+import javax.mail.AuthenticationFailedException;
+import javax.mail.MessagingException;
+import javax.mail.SendFailedException;
+import javax.mail.Transport;
+import javax.mail.internet.MimeMessage;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+
+/**
+ * {@link JavaMailSenderImpl} keeping its SMTP connections open between two messages instead of connecting
+ * (TCP, TLS handshake, EHLO and AUTH) for each of them.
+ *
+ * Idle connections are kept up to <code>maxIdleConnections</code> and for at most <code>maxIdleTime</code> milliseconds,
+ * a connection is checked (SMTP NOOP) before being reused and it is dropped after a failure.
+ *
+ * @author GraviteeSource Team
+ */
+public class PooledJavaMailSender extends JavaMailSenderImpl implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PooledJavaMailSender.class);
+    private static final String HEADER_MESSAGE_ID = "Message-ID";
+
+    private final BlockingDeque<IdleTransport> idleTransports;
+    private final long maxIdleTime;
+    private volatile boolean closed;
+
+    public PooledJavaMailSender(int maxIdleConnections, long maxIdleTime) {
+        this.idleTransports = new LinkedBlockingDeque<>(Math.max(1, maxIdleConnections));
+        this.maxIdleTime = maxIdleTime;
+    }
+
+    @Override
+    protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) throws MailException {
+        final Transport transport;
+        try {
+            transport = acquireTransport();
+        } catch (AuthenticationFailedException ex) {
+            throw new MailAuthenticationException(ex);
+        } catch (Exception ex) {
+            Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+            for (int i = 0; i < mimeMessages.length; i++) {
+                failedMessages.put(originalMessages != null ? originalMessages[i] : mimeMessages[i], ex);
+            }
+            throw new MailSendException("Mail server connection failed", ex, failedMessages);
+        }
+
+        Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+        boolean reusable = true;
+        for (int i = 0; i < mimeMessages.length; i++) {
+            MimeMessage mimeMessage = mimeMessages[i];
+            try {
+                if (mimeMessage.getSentDate() == null) {
+                    mimeMessage.setSentDate(new Date());
+                }
+                String messageId = mimeMessage.getMessageID();
+                mimeMessage.saveChanges();
+                if (messageId != null) {
+                    // preserve explicitly specified message id
+                    mimeMessage.setHeader(HEADER_MESSAGE_ID, messageId);
+                }
+                Address[] addresses = mimeMessage.getAllRecipients();
+                transport.sendMessage(mimeMessage, (addresses != null ? addresses : new Address[0]));
+            } catch (SendFailedException ex) {
+                // rejected recipients, the connection is still usable
+                failedMessages.put(originalMessages != null ? originalMessages[i] : mimeMessage, ex);
+            } catch (Exception ex) {
+                reusable = false;
+                failedMessages.put(originalMessages != null ? originalMessages[i] : mimeMessage, ex);
+            }
+        }
+
+        releaseTransport(transport, reusable);
+
+        if (!failedMessages.isEmpty()) {
+            throw new MailSendException(failedMessages);
+        }
+    }
+
+    private Transport acquireTransport() throws MessagingException {
+        IdleTransport idleTransport;
+        while ((idleTransport = idleTransports.pollFirst()) != null) {
+            if (System.currentTimeMillis() - idleTransport.since < maxIdleTime && idleTransport.transport.isConnected()) {
+                return idleTransport.transport;
+            }
+            closeQuietly(idleTransport.transport);
+        }
+        return connectTransport();
+    }
+
+    private void releaseTransport(Transport transport, boolean reusable) {
+        // most recently used connections are reused first, the oldest ones expire at the end of the queue
+        IdleTransport oldest = idleTransports.peekLast();
+        if (oldest != null && System.currentTimeMillis() - oldest.since >= maxIdleTime && idleTransports.removeLastOccurrence(oldest)) {
+            closeQuietly(oldest.transport);
+        }
+        if (reusable && !closed && idleTransports.offerFirst(new IdleTransport(transport))) {
+            return;
+        }
+        closeQuietly(transport);
+    }
+
+    /**
+     * @return the number of open connections currently waiting for a message
+     */
+    public int getIdleConnections() {
+        return idleTransports.size();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        IdleTransport idleTransport;
+        while ((idleTransport = idleTransports.pollFirst()) != null) {
+            closeQuietly(idleTransport.transport);
+        }
+    }
+
+    private static void closeQuietly(Transport transport) {
+        try {
+            transport.close();
+        } catch (MessagingException ex) {
+            LOGGER.debug("Unable to close the SMTP connection", ex);
+        }
+    }
+
+    private static class IdleTransport {
+        private final Transport transport;
+        private final long since = System.currentTimeMillis();
+
+        private IdleTransport(Transport transport) {
+            this.transport = transport;
+        }
+    }
+}
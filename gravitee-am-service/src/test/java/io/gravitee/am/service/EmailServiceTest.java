@@ -0,0 +1,137 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.service;
+
+import io.gravitee.am.common.email.Email;
+import io.gravitee.am.service.exception.TechnicalManagementException;
+import io.gravitee.am.service.impl.EmailServiceImpl;
+import io.reactivex.observers.TestObserver;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.mail.SendFailedException;
+import javax.mail.Session;
+import javax.mail.internet.MimeMessage;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class EmailServiceTest {
+
+    @InjectMocks
+    private EmailServiceImpl emailService = new EmailServiceImpl();
+
+    @Mock
+    private JavaMailSender mailSender;
+
+    @Before
+    public void setUp() throws Exception {
+        ReflectionTestUtils.setField(emailService, "templatesPath", "/tmp");
+        ReflectionTestUtils.setField(emailService, "workers", 1);
+        ReflectionTestUtils.setField(emailService, "queueCapacity", 10);
+        ReflectionTestUtils.setField(emailService, "retries", 2);
+        ReflectionTestUtils.setField(emailService, "backoff", 10L);
+        emailService.afterPropertiesSet();
+
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage(Session.getInstance(new Properties())));
+    }
+
+    @After
+    public void tearDown() {
+        emailService.destroy();
+    }
+
+    @Test
+    public void shouldSendAsync() throws Exception {
+        TestObserver testObserver = emailService.sendAsync(email()).test();
+
+        testObserver.await(5, TimeUnit.SECONDS);
+        testObserver.assertComplete();
+        testObserver.assertNoErrors();
+        verify(mailSender, times(1)).send(any(MimeMessage.class));
+    }
+
+    @Test
+    public void shouldRetryAsync_mailServerFailure() throws Exception {
+        doThrow(new MailSendException("connection refused"))
+                .doNothing()
+                .when(mailSender).send(any(MimeMessage.class));
+
+        TestObserver testObserver = emailService.sendAsync(email()).test();
+
+        testObserver.await(5, TimeUnit.SECONDS);
+        testObserver.assertComplete();
+        testObserver.assertNoErrors();
+        verify(mailSender, times(2)).send(any(MimeMessage.class));
+    }
+
+    @Test
+    public void shouldFailAsync_afterRetries() throws Exception {
+        doThrow(new MailSendException("connection refused")).when(mailSender).send(any(MimeMessage.class));
+
+        TestObserver testObserver = emailService.sendAsync(email()).test();
+
+        testObserver.await(5, TimeUnit.SECONDS);
+        testObserver.assertError(TechnicalManagementException.class);
+        verify(mailSender, times(3)).send(any(MimeMessage.class));
+    }
+
+    @Test
+    public void shouldNotRetryAsync_rejectedRecipient() throws Exception {
+        doThrow(new MailSendException("recipient rejected", new SendFailedException("550 unknown user"))).when(mailSender).send(any(MimeMessage.class));
+
+        TestObserver testObserver = emailService.sendAsync(email()).test();
+
+        testObserver.await(5, TimeUnit.SECONDS);
+        testObserver.assertError(TechnicalManagementException.class);
+        verify(mailSender, times(1)).send(any(MimeMessage.class));
+    }
+
+    @Test
+    public void shouldNotRetryAsync_invalidEmail() throws Exception {
+        Email email = email();
+        email.setFrom("invalid address");
+
+        TestObserver testObserver = emailService.sendAsync(email).test();
+
+        testObserver.await(5, TimeUnit.SECONDS);
+        testObserver.assertError(TechnicalManagementException.class);
+        verify(mailSender, never()).send(any(MimeMessage.class));
+    }
+
+    private static Email email() {
+        Email email = new Email();
+        email.setFrom("no-reply@gravitee.io");
+        email.setTo(new String[]{"john@gravitee.io"});
+        email.setSubject("subject");
+        email.setContent("<html><body>content</body></html>");
+        return email;
+    }
+}
@@ -30,6 +30,8 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.util.List;
+
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -66,6 +68,36 @@ public class EventServiceTest {
         testObserver.assertNotComplete();
     }
 
+    @Test
+    public void shouldFindAfterSequence() {
+        when(eventRepository.findAfterSequence(10L, 100)).thenReturn(Flowable.just(new Event(), new Event()));
+        TestObserver<List<Event>> testObserver = eventService.findAfterSequence(10L, 100).test();
+
+        testObserver.awaitTerminalEvent();
+        testObserver.assertComplete();
+        testObserver.assertNoErrors();
+        testObserver.assertValue(events -> events.size() == 2);
+    }
+
+    @Test
+    public void shouldFindAfterSequence_technicalException() {
+        when(eventRepository.findAfterSequence(10L, 100)).thenReturn(Flowable.error(TechnicalException::new));
+        TestObserver testObserver = eventService.findAfterSequence(10L, 100).test();
+
+        testObserver.assertError(TechnicalManagementException.class);
+        testObserver.assertNotComplete();
+    }
+
+    @Test
+    public void shouldFindLastSequence() {
+        when(eventRepository.findLastSequence()).thenReturn(Single.just(42L));
+        TestObserver<Long> testObserver = eventService.findLastSequence().test();
+
+        testObserver.awaitTerminalEvent();
+        testObserver.assertComplete();
+        testObserver.assertValue(42L);
+    }
+
     @Test
     public void shouldCreate() {
         Event newEvent = Mockito.mock(Event.class);
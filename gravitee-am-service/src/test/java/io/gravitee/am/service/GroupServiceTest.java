@@ -15,6 +15,9 @@
  */
 package io.gravitee.am.service;
 
+import io.gravitee.am.common.event.Action;
+import io.gravitee.am.common.event.GroupEvent;
+import io.gravitee.am.common.event.Type;
 import io.gravitee.am.model.Group;
 import io.gravitee.am.model.ReferenceType;
 import io.gravitee.am.model.Role;
@@ -29,6 +32,7 @@ import io.gravitee.am.service.exception.TechnicalManagementException;
 import io.gravitee.am.service.impl.GroupServiceImpl;
 import io.gravitee.am.service.model.NewGroup;
 import io.gravitee.am.service.model.UpdateGroup;
+import io.gravitee.common.event.EventManager;
 import io.reactivex.Completable;
 import io.reactivex.Flowable;
 import io.reactivex.Maybe;
@@ -69,6 +73,9 @@ public class GroupServiceTest {
     @Mock
     private EventService eventService;
 
+    @Mock
+    private EventManager eventManager;
+
     private final static String DOMAIN = "domain1";
 
     @Test
@@ -256,6 +263,24 @@ public class GroupServiceTest {
         verify(groupRepository, times(1)).delete("my-group");
     }
 
+    @Test
+    public void shouldDelete_groupEvent() {
+        Group group = new Group();
+        group.setId("my-group");
+        group.setReferenceType(ReferenceType.DOMAIN);
+        group.setReferenceId(DOMAIN);
+        when(groupRepository.findById(ReferenceType.DOMAIN, DOMAIN, "my-group")).thenReturn(Maybe.just(group));
+        when(groupRepository.delete("my-group")).thenReturn(Completable.complete());
+        when(eventService.create(any())).thenReturn(Single.just(new Event()));
+
+        TestObserver testObserver = groupService.delete(ReferenceType.DOMAIN, DOMAIN, "my-group").test();
+        testObserver.awaitTerminalEvent();
+        testObserver.assertComplete();
+
+        verify(eventService).create(argThat(event -> event.getType() == Type.GROUP && event.getPayload().getAction() == Action.DELETE));
+        verify(eventManager).publishEvent(eq(GroupEvent.UNDEPLOY), any());
+    }
+
     @Test
     public void shouldDelete_technicalException() {
         when(groupRepository.findById(ReferenceType.DOMAIN, DOMAIN, "my-group")).thenReturn(Maybe.just(new Group()));
@@ -16,6 +16,7 @@
 package io.gravitee.am.service;
 
 import io.gravitee.am.identityprovider.api.DefaultUser;
+import io.gravitee.am.common.event.MembershipEvent;
 import io.gravitee.am.model.*;
 import io.gravitee.am.model.common.event.Event;
 import io.gravitee.am.model.membership.MemberType;
@@ -26,6 +27,7 @@ import io.gravitee.am.repository.management.api.search.MembershipCriteria;
 import io.gravitee.am.service.exception.*;
 import io.gravitee.am.service.impl.MembershipServiceImpl;
 import io.gravitee.am.service.model.NewMembership;
+import io.gravitee.common.event.EventManager;
 import io.reactivex.Flowable;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
@@ -62,6 +64,9 @@ public class MembershipServiceTest {
     @Mock
     private EventService eventService;
 
+    @Mock
+    private EventManager eventManager;
+
     @Mock
     private GroupService groupService;
 
@@ -102,6 +107,9 @@ public class MembershipServiceTest {
 
         testObserver.assertComplete();
         testObserver.assertNoErrors();
+
+        // the permissions of this node are evicted without waiting for the sync process
+        verify(eventManager).publishEvent(eq(MembershipEvent.DEPLOY), any());
     }
 
     @Test
@@ -15,9 +15,12 @@
  */
 package io.gravitee.am.service;
 
+import io.gravitee.am.common.event.Action;
+import io.gravitee.am.common.event.Type;
 import io.gravitee.am.model.Application;
 import io.gravitee.am.model.User;
 import io.gravitee.am.model.common.Page;
+import io.gravitee.am.model.common.event.Event;
 import io.gravitee.am.model.oauth2.Scope;
 import io.gravitee.am.model.uma.Resource;
 import io.gravitee.am.model.uma.policy.AccessPolicy;
@@ -41,6 +44,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.*;
 
@@ -70,6 +74,9 @@ public class ResourceServiceTest {
     @Mock
     private ApplicationService applicationService;
 
+    @Mock
+    private EventService eventService;
+
     @InjectMocks
     private ResourceService service = new ResourceServiceImpl();
 
@@ -81,6 +88,10 @@ public class ResourceServiceTest {
 
     @Before
     public void setUp() {
+        ReflectionTestUtils.setField(service, "resourcesCacheMaxSize", 100);
+        ReflectionTestUtils.setField(service, "resourcesCacheTtlSeconds", 60);
+        ((ResourceServiceImpl) service).afterPropertiesSet();
+
         when(repository.findByDomainAndClientAndUser(DOMAIN_ID, CLIENT_ID, USER_ID)).thenReturn(Flowable.just(new Resource().setId(RESOURCE_ID)));
         when(repository.findByDomainAndClientAndUserAndResource(DOMAIN_ID, CLIENT_ID, USER_ID, RESOURCE_ID)).thenReturn(Maybe.just(new Resource().setId(RESOURCE_ID)));
         when(scopeService.findByDomainAndKeys(DOMAIN_ID, Arrays.asList("scope"))).thenReturn(Single.just(Arrays.asList(new Scope("scope"))));
@@ -97,8 +108,12 @@ public class ResourceServiceTest {
     public void delete_existingResource() {
         when(repository.findByDomainAndClientAndUserAndResource(DOMAIN_ID, CLIENT_ID, USER_ID, RESOURCE_ID)).thenReturn(Maybe.just(new Resource().setId(RESOURCE_ID)));
         when(repository.delete(RESOURCE_ID)).thenReturn(Completable.complete());
+        when(eventService.create(any())).thenReturn(Single.just(new Event()));
         TestObserver testObserver = service.delete(DOMAIN_ID, CLIENT_ID, USER_ID, RESOURCE_ID).test();
         testObserver.assertComplete().assertNoErrors().assertNoValues();
+        verify(eventService, times(1)).create(argThat(event -> Type.UMA_RESOURCE.equals(event.getType())
+                && RESOURCE_ID.equals(event.getPayload().getId())
+                && Action.DELETE.equals(event.getPayload().getAction())));
     }
 
     @Test
@@ -145,8 +160,12 @@ public class ResourceServiceTest {
         Resource exitingRS = new Resource().setId(RESOURCE_ID).setDomain(DOMAIN_ID);
         when(repository.findByDomainAndClientAndUserAndResource(DOMAIN_ID, CLIENT_ID, USER_ID, RESOURCE_ID)).thenReturn(Maybe.just(exitingRS));
         when(repository.update(exitingRS)).thenReturn(Single.just(exitingRS));
+        when(eventService.create(any())).thenReturn(Single.just(new Event()));
         TestObserver<Resource> testObserver = service.update(newResource, DOMAIN_ID, CLIENT_ID, USER_ID, RESOURCE_ID).test();
         testObserver.assertComplete().assertNoErrors().assertValue(this::assertResourceValues);
+        verify(eventService, times(1)).create(argThat(event -> Type.UMA_RESOURCE.equals(event.getType())
+                && RESOURCE_ID.equals(event.getPayload().getId())
+                && Action.UPDATE.equals(event.getPayload().getAction())));
     }
 
     @Test
@@ -207,6 +226,45 @@ public class ResourceServiceTest {
         verify(repository, times(1)).findByResources(Collections.emptyList());
     }
 
+    @Test
+    public void findByResources_cached() {
+        when(repository.findByResources(Arrays.asList(RESOURCE_ID))).thenReturn(Flowable.just(new Resource().setId(RESOURCE_ID)));
+        when(repository.findByResources(Arrays.asList("other-resource"))).thenReturn(Flowable.just(new Resource().setId("other-resource")));
+
+        service.findByResources(Arrays.asList(RESOURCE_ID)).test().assertComplete().assertValueCount(1);
+        service.findByResources(Arrays.asList(RESOURCE_ID)).test().assertComplete().assertValueCount(1);
+        // only the resources not in cache are fetched
+        service.findByResources(Arrays.asList(RESOURCE_ID, "other-resource")).test().assertComplete().assertValueCount(2);
+
+        verify(repository, times(1)).findByResources(Arrays.asList(RESOURCE_ID));
+        verify(repository, times(1)).findByResources(Arrays.asList("other-resource"));
+    }
+
+    @Test
+    public void findByResources_evictedOnDelete() {
+        when(repository.findByResources(Arrays.asList(RESOURCE_ID))).thenReturn(Flowable.just(new Resource().setId(RESOURCE_ID)), Flowable.empty());
+        when(repository.delete(RESOURCE_ID)).thenReturn(Completable.complete());
+        when(eventService.create(any())).thenReturn(Single.just(new Event()));
+
+        service.findByResources(Arrays.asList(RESOURCE_ID)).test().assertComplete().assertValueCount(1);
+        service.delete(DOMAIN_ID, CLIENT_ID, USER_ID, RESOURCE_ID).test().assertComplete();
+        service.findByResources(Arrays.asList(RESOURCE_ID)).test().assertComplete().assertNoValues();
+
+        verify(repository, times(2)).findByResources(Arrays.asList(RESOURCE_ID));
+    }
+
+    @Test
+    public void findByResources_evicted() {
+        when(repository.findByResources(Arrays.asList(RESOURCE_ID))).thenReturn(Flowable.just(new Resource().setId(RESOURCE_ID)));
+
+        service.findByResources(Arrays.asList(RESOURCE_ID)).test().assertComplete().assertValueCount(1);
+        // resource updated on another node
+        service.evict(RESOURCE_ID);
+        service.findByResources(Arrays.asList(RESOURCE_ID)).test().assertComplete().assertValueCount(1);
+
+        verify(repository, times(2)).findByResources(Arrays.asList(RESOURCE_ID));
+    }
+
     @Test
     public void findByDomainAndClient() {
         when(repository.findByDomainAndClient(DOMAIN_ID, CLIENT_ID, 0, Integer.MAX_VALUE)).thenReturn(Single.just(new Page<>(Collections.emptyList(), 0, 0)));
@@ -244,6 +302,7 @@ public class ResourceServiceTest {
         Date now = new Date(System.currentTimeMillis()-1000);
         Resource toUpdate = new Resource().setId(RESOURCE_ID).setDomain(DOMAIN_ID).setUpdatedAt(now);
         when(repository.update(toUpdate)).thenReturn(Single.just(toUpdate));
+        when(eventService.create(any())).thenReturn(Single.just(new Event()));
         TestObserver<Resource> testObserver = service.update(toUpdate).test();
         testObserver.assertComplete().assertNoErrors();
         ArgumentCaptor<Resource> rsCaptor = ArgumentCaptor.forClass(Resource.class);
@@ -256,6 +315,7 @@ public class ResourceServiceTest {
         Resource toDelete = new Resource().setId(RESOURCE_ID).setDomain(DOMAIN_ID);
         when(accessPolicyRepository.findByDomainAndResource(toDelete.getDomain(), toDelete.getId())).thenReturn(Flowable.empty());
         when(repository.delete(RESOURCE_ID)).thenReturn(Completable.complete());
+        when(eventService.create(any())).thenReturn(Single.just(new Event()));
         TestObserver testObserver = service.delete(toDelete).test();
         testObserver.assertComplete().assertNoErrors();
         verify(repository, times(1)).delete(RESOURCE_ID);
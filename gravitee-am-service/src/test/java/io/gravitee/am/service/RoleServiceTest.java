@@ -15,6 +15,7 @@
  */
 package io.gravitee.am.service;
 
+import io.gravitee.am.common.event.RoleEvent;
 import io.gravitee.am.model.Acl;
 import io.gravitee.am.model.ReferenceType;
 import io.gravitee.am.model.Role;
@@ -27,6 +28,7 @@ import io.gravitee.am.service.exception.*;
 import io.gravitee.am.service.impl.RoleServiceImpl;
 import io.gravitee.am.service.model.NewRole;
 import io.gravitee.am.service.model.UpdateRole;
+import io.gravitee.common.event.EventManager;
 import io.reactivex.Completable;
 import io.reactivex.Flowable;
 import io.reactivex.Maybe;
@@ -67,6 +69,9 @@ public class RoleServiceTest {
     @Mock
     private EventService eventService;
 
+    @Mock
+    private EventManager eventManager;
+
     private final static String DOMAIN = "domain1";
 
     @Test
@@ -405,5 +410,6 @@ public class RoleServiceTest {
         testObserver.assertNoErrors();
 
         verify(roleRepository, times(1)).delete("my-role");
+        verify(eventManager).publishEvent(eq(RoleEvent.UNDEPLOY), any());
     }
 }
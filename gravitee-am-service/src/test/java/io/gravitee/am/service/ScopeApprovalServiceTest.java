@@ -17,6 +17,7 @@ package io.gravitee.am.service;
 
 import io.gravitee.am.identityprovider.api.DefaultUser;
 import io.gravitee.am.model.User;
+import io.gravitee.am.model.oidc.Client;
 import io.gravitee.am.model.oauth2.ScopeApproval;
 import io.gravitee.am.repository.exceptions.TechnicalException;
 import io.gravitee.am.repository.oauth2.api.AccessTokenRepository;
@@ -37,9 +38,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -68,6 +72,9 @@ public class ScopeApprovalServiceTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private TokenService tokenService;
+
     private final static String DOMAIN = "domain1";
 
     @Test
@@ -164,6 +171,7 @@ public class ScopeApprovalServiceTest {
         when(userService.findById(anyString())).thenReturn(Maybe.just(new User()));
         when(accessTokenRepository.deleteByDomainIdClientIdAndUserId("my-domain", "client-id", "user-id")).thenReturn(Completable.complete());
         when(refreshTokenRepository.deleteByDomainIdClientIdAndUserId("my-domain", "client-id", "user-id")).thenReturn(Completable.complete());
+        when(tokenService.revokeByUser("my-domain", "user-id", "client-id")).thenReturn(Completable.complete());
 
         ScopeApproval scopeApproval = new ScopeApproval();
         scopeApproval.setClientId("client-id");
@@ -180,6 +188,7 @@ public class ScopeApprovalServiceTest {
         testObserver.assertNoErrors();
 
         verify(scopeApprovalRepository, times(1)).delete("my-consent");
+        verify(tokenService, times(1)).revokeByUser("my-domain", "user-id", "client-id");
         verify(auditService, times(1)).report(any(UserConsentAuditBuilder.class));
     }
 
@@ -196,6 +205,7 @@ public class ScopeApprovalServiceTest {
         when(scopeApprovalRepository.deleteByDomainAndUser("my-domain", "user-id")).thenReturn(Completable.complete());
         when(accessTokenRepository.deleteByDomainIdAndUserId("my-domain", "user-id")).thenReturn(Completable.complete());
         when(refreshTokenRepository.deleteByDomainIdAndUserId("my-domain", "user-id")).thenReturn(Completable.complete());
+        when(tokenService.revokeByUser("my-domain", "user-id", null)).thenReturn(Completable.complete());
 
         TestObserver<Void> testObserver = scopeApprovalService.revokeByUser("my-domain", "user-id", new DefaultUser("user-id")).test();
         testObserver.awaitTerminalEvent();
@@ -203,6 +213,8 @@ public class ScopeApprovalServiceTest {
         testObserver.assertComplete();
         testObserver.assertNoErrors();
 
+        verify(tokenService, times(1)).revokeByUser("my-domain", "user-id", null);
+
         verify(auditService, times(1)).report(any(UserConsentAuditBuilder.class));
     }
 
@@ -228,6 +240,7 @@ public class ScopeApprovalServiceTest {
         when(scopeApprovalRepository.deleteByDomainAndUserAndClient("my-domain", "user-id", "client-id")).thenReturn(Completable.complete());
         when(accessTokenRepository.deleteByDomainIdClientIdAndUserId("my-domain", "client-id", "user-id")).thenReturn(Completable.complete());
         when(refreshTokenRepository.deleteByDomainIdClientIdAndUserId("my-domain", "client-id", "user-id")).thenReturn(Completable.complete());
+        when(tokenService.revokeByUser("my-domain", "user-id", "client-id")).thenReturn(Completable.complete());
 
         TestObserver<Void> testObserver = scopeApprovalService.revokeByUserAndClient("my-domain", "user-id", "client-id", new DefaultUser("user-id")).test();
         testObserver.awaitTerminalEvent();
@@ -235,6 +248,8 @@ public class ScopeApprovalServiceTest {
         testObserver.assertComplete();
         testObserver.assertNoErrors();
 
+        verify(tokenService, times(1)).revokeByUser("my-domain", "user-id", "client-id");
+
         verify(auditService, times(1)).report(any(UserConsentAuditBuilder.class));
     }
 
@@ -246,4 +261,13 @@ public class ScopeApprovalServiceTest {
         TestObserver<Void> testObserver = scopeApprovalService.revokeByUserAndClient("my-domain", "user-id", "client-id", new DefaultUser("user-id")).test();
         testObserver.assertError(UserNotFoundException.class);
     }
+
+    @Test
+    public void shouldSaveConsent_noApproval() {
+        TestObserver<List<ScopeApproval>> testObserver = scopeApprovalService.saveConsent(DOMAIN, new Client(), Collections.emptyList(), new DefaultUser("user-id")).test();
+
+        testObserver.assertComplete();
+        testObserver.assertValue(List::isEmpty);
+        verifyZeroInteractions(scopeApprovalRepository, auditService);
+    }
 }
@@ -15,7 +15,11 @@
  */
 package io.gravitee.am.service;
 
+import io.gravitee.am.common.event.TokenEvent;
+import io.gravitee.am.common.event.Type;
 import io.gravitee.am.model.Application;
+import io.gravitee.am.model.ReferenceType;
+import io.gravitee.am.model.User;
 import io.gravitee.am.model.application.ApplicationOAuthSettings;
 import io.gravitee.am.model.application.ApplicationSettings;
 import io.gravitee.am.repository.exceptions.TechnicalException;
@@ -24,7 +28,9 @@ import io.gravitee.am.repository.oauth2.api.RefreshTokenRepository;
 import io.gravitee.am.service.exception.TechnicalManagementException;
 import io.gravitee.am.service.impl.TokenServiceImpl;
 import io.gravitee.am.service.model.TotalToken;
+import io.gravitee.common.event.EventManager;
 import io.reactivex.Completable;
+import io.reactivex.Maybe;
 import io.reactivex.Single;
 import io.reactivex.observers.TestObserver;
 import org.junit.Test;
@@ -37,6 +43,10 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -58,6 +68,15 @@ public class TokenServiceTest {
     @Mock
     private ApplicationService applicationService;
 
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private EventService eventService;
+
+    @Mock
+    private EventManager eventManager;
+
     private final static String DOMAIN = "domain1";
 
     @Test
@@ -200,10 +219,44 @@ public class TokenServiceTest {
     public void shouldDeleteTokensByUser() {
         when(accessTokenRepository.deleteByUserId("userId")).thenReturn(Completable.complete());
         when(refreshTokenRepository.deleteByUserId("userId")).thenReturn(Completable.complete());
+        when(userService.findById("userId")).thenReturn(Maybe.empty());
+
+        TestObserver testObserver = tokenService.deleteByUserId("userId").test();
+        testObserver.assertComplete();
+        testObserver.assertNoErrors();
+    }
+
+    @Test
+    public void shouldDeleteTokensByUser_revokeSubject() {
+        User user = new User();
+        user.setId("userId");
+        user.setReferenceType(ReferenceType.DOMAIN);
+        user.setReferenceId(DOMAIN);
+        when(accessTokenRepository.deleteByUserId("userId")).thenReturn(Completable.complete());
+        when(refreshTokenRepository.deleteByUserId("userId")).thenReturn(Completable.complete());
+        when(userService.findById("userId")).thenReturn(Maybe.just(user));
+        when(eventService.create(any())).thenAnswer(invocation -> Single.just(invocation.getArgument(0)));
 
         TestObserver testObserver = tokenService.deleteByUserId("userId").test();
         testObserver.assertComplete();
         testObserver.assertNoErrors();
+
+        verify(eventService).create(argThat(event -> event.getType() == Type.TOKEN
+                && "userId".equals(event.getPayload().getId())
+                && DOMAIN.equals(event.getPayload().getReferenceId())));
+        verify(eventManager).publishEvent(eq(TokenEvent.REVOKE_SUBJECT), any());
+    }
+
+    @Test
+    public void shouldRevokeByUser_client() {
+        when(eventService.create(any())).thenAnswer(invocation -> Single.just(invocation.getArgument(0)));
+
+        TestObserver testObserver = tokenService.revokeByUser(DOMAIN, "userId", "clientId").test();
+        testObserver.assertComplete();
+
+        verify(eventService).create(argThat(event -> TokenEvent.subjectKey("userId", "clientId").equals(event.getPayload().getId())
+                && event.getPayload().get(TokenEvent.REVOKED_AT) != null));
+        verify(eventManager).publishEvent(eq(TokenEvent.REVOKE_SUBJECT), any());
     }
 
 }
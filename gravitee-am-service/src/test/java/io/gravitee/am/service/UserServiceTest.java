@@ -41,6 +41,7 @@ import org.mockito.Mockito;
 import org.mockito.Spy;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 import static org.mockito.Matchers.any;
@@ -430,4 +431,120 @@ public class UserServiceTest {
 
         verify(userRepository, never()).delete("my-user");
     }
+
+    @Test
+    public void shouldStreamAll_pageByPage() {
+        User user1 = new User();
+        user1.setId("user#1");
+        User user2 = new User();
+        user2.setId("user#2");
+        User user3 = new User();
+        user3.setId("user#3");
+        when(userRepository.findAllAfter(ReferenceType.DOMAIN, DOMAIN, null, 2)).thenReturn(Flowable.just(user1, user2));
+        when(userRepository.findAllAfter(ReferenceType.DOMAIN, DOMAIN, "user#2", 2)).thenReturn(Flowable.just(user3));
+
+        TestSubscriber<User> testSubscriber = userService.streamAll(ReferenceType.DOMAIN, DOMAIN, null, 2).test();
+        testSubscriber.awaitTerminalEvent();
+
+        testSubscriber.assertComplete();
+        testSubscriber.assertValues(user1, user2, user3);
+        verify(userRepository, times(2)).findAllAfter(eq(ReferenceType.DOMAIN), eq(DOMAIN), any(), eq(2));
+    }
+
+    @Test
+    public void shouldStreamAll_resumeAfterLastId() {
+        when(userRepository.findAllAfter(ReferenceType.DOMAIN, DOMAIN, "user#2", 2)).thenReturn(Flowable.empty());
+
+        TestSubscriber<User> testSubscriber = userService.streamAll(ReferenceType.DOMAIN, DOMAIN, "user#2", 2).test();
+        testSubscriber.awaitTerminalEvent();
+
+        testSubscriber.assertComplete();
+        testSubscriber.assertNoValues();
+    }
+
+    @Test
+    public void shouldBulkWrite() {
+        User user1 = new User();
+        user1.setUsername("user1");
+        User user2 = new User();
+        user2.setId("user#2");
+        user2.setUsername("user2");
+        when(userRepository.findByIdIn(any())).thenReturn(Flowable.empty());
+        when(userRepository.findByUsernameAndSource(eq(ReferenceType.DOMAIN), eq(DOMAIN), any(), any())).thenReturn(Maybe.empty());
+        when(userRepository.bulkWrite(any())).thenReturn(Completable.complete());
+
+        TestObserver testObserver = userService.bulkWrite(ReferenceType.DOMAIN, DOMAIN, Arrays.asList(user1, user2)).test();
+        testObserver.awaitTerminalEvent();
+
+        testObserver.assertComplete();
+        verify(userRepository).bulkWrite(argThat(users -> users.size() == 2
+                && users.stream().allMatch(user -> user.getId() != null && DOMAIN.equals(user.getReferenceId()) && user.getReferenceType() == ReferenceType.DOMAIN)));
+        verify(eventService, never()).create(any());
+    }
+
+    @Test
+    public void shouldNotBulkWrite_technicalException() {
+        User user = new User();
+        user.setUsername("user1");
+        when(userRepository.findByIdIn(any())).thenReturn(Flowable.empty());
+        when(userRepository.findByUsernameAndSource(eq(ReferenceType.DOMAIN), eq(DOMAIN), any(), any())).thenReturn(Maybe.empty());
+        when(userRepository.bulkWrite(any())).thenReturn(Completable.error(TechnicalException::new));
+
+        TestObserver testObserver = userService.bulkWrite(ReferenceType.DOMAIN, DOMAIN, Collections.singletonList(user)).test();
+        testObserver.awaitTerminalEvent();
+
+        testObserver.assertError(TechnicalManagementException.class);
+    }
+
+    @Test
+    public void shouldNotBulkWrite_idOfAnotherDomain() {
+        User foreignUser = new User();
+        foreignUser.setId("user#1");
+        foreignUser.setReferenceType(ReferenceType.DOMAIN);
+        foreignUser.setReferenceId("another-domain");
+        User user = new User();
+        user.setId("user#1");
+        user.setUsername("user1");
+        when(userRepository.findByIdIn(Collections.singletonList("user#1"))).thenReturn(Flowable.just(foreignUser));
+
+        TestObserver testObserver = userService.bulkWrite(ReferenceType.DOMAIN, DOMAIN, Collections.singletonList(user)).test();
+        testObserver.awaitTerminalEvent();
+
+        testObserver.assertError(InvalidUserException.class);
+        verify(userRepository, never()).bulkWrite(any());
+    }
+
+    @Test
+    public void shouldNotBulkWrite_usernameAlreadyExists() {
+        User existingUser = new User();
+        existingUser.setId("user#existing");
+        User user = new User();
+        user.setId("user#1");
+        user.setUsername("user1");
+        user.setSource("idp");
+        when(userRepository.findByIdIn(any())).thenReturn(Flowable.empty());
+        when(userRepository.findByUsernameAndSource(ReferenceType.DOMAIN, DOMAIN, "user1", "idp")).thenReturn(Maybe.just(existingUser));
+
+        TestObserver testObserver = userService.bulkWrite(ReferenceType.DOMAIN, DOMAIN, Collections.singletonList(user)).test();
+        testObserver.awaitTerminalEvent();
+
+        testObserver.assertError(UserAlreadyExistsException.class);
+        verify(userRepository, never()).bulkWrite(any());
+    }
+
+    @Test
+    public void shouldNotBulkWrite_duplicatedUsername() {
+        User user1 = new User();
+        user1.setUsername("user1");
+        User user2 = new User();
+        user2.setUsername("user1");
+        when(userRepository.findByIdIn(any())).thenReturn(Flowable.empty());
+        when(userRepository.findByUsernameAndSource(eq(ReferenceType.DOMAIN), eq(DOMAIN), any(), any())).thenReturn(Maybe.empty());
+
+        TestObserver testObserver = userService.bulkWrite(ReferenceType.DOMAIN, DOMAIN, Arrays.asList(user1, user2)).test();
+        testObserver.awaitTerminalEvent();
+
+        testObserver.assertError(UserAlreadyExistsException.class);
+        verify(userRepository, never()).bulkWrite(any());
+    }
 }
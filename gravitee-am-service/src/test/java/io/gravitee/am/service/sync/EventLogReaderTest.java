@@ -0,0 +1,180 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.service.sync;
+
+import io.gravitee.am.common.event.Action;
+import io.gravitee.am.common.event.Type;
+import io.gravitee.am.model.ReferenceType;
+import io.gravitee.am.model.common.event.Event;
+import io.gravitee.am.model.common.event.Payload;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class EventLogReaderTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final EventLogReader eventLogReader = new EventLogReader(10000, clock::get);
+
+    @Test
+    public void shouldKeepLatestEventByEntity() {
+        Event event1 = event("event-1", 1L, Type.IDENTITY_PROVIDER, "idp-1", Action.UPDATE, 1000L);
+        Event event2 = event("event-2", 2L, Type.CERTIFICATE, "idp-1", Action.UPDATE, 1000L);
+        Event event3 = event("event-3", 3L, Type.IDENTITY_PROVIDER, "idp-1", Action.UPDATE, 2000L);
+
+        List<Event> changes = eventLogReader.read(Arrays.asList(event1, event2, event3));
+
+        assertEquals(Arrays.asList(event3, event2), changes);
+        assertEquals(3L, eventLogReader.getPosition());
+    }
+
+    @Test
+    public void shouldKeepGreatestSequenceByEntity_clockSkew() {
+        Event event1 = event("event-1", 1L, Type.DOMAIN, "domain-1", Action.UPDATE, null);
+        Event event2 = event("event-2", 2L, Type.DOMAIN, "domain-1", Action.DELETE, null);
+        // written by a node whose clock is late
+        event1.setCreatedAt(new Date(2000L));
+        event2.setCreatedAt(new Date(1000L));
+
+        assertEquals(Collections.singletonList(event2), eventLogReader.read(Arrays.asList(event1, event2)));
+    }
+
+    @Test
+    public void shouldIgnoreEventsAlreadyRead() {
+        Event event1 = event("event-1", 1L, Type.DOMAIN, "domain-1", Action.UPDATE, null);
+        Event event2 = event("event-2", 2L, Type.DOMAIN, "domain-2", Action.UPDATE, null);
+
+        assertEquals(Collections.singletonList(event1), eventLogReader.read(Collections.singletonList(event1)));
+        assertEquals(Collections.singletonList(event2), eventLogReader.read(Arrays.asList(event1, event2)));
+    }
+
+    @Test
+    public void shouldIgnoreVersionsAlreadyPropagated() {
+        Event event1 = event("event-1", 2L, Type.IDENTITY_PROVIDER, "idp-1", Action.UPDATE, 2000L);
+        Event event2 = event("event-2", 1L, Type.IDENTITY_PROVIDER, "idp-1", Action.UPDATE, 1000L);
+        Event event3 = event("event-3", 3L, Type.IDENTITY_PROVIDER, "idp-1", Action.UPDATE, 3000L);
+
+        assertEquals(Collections.singletonList(event1), eventLogReader.read(Collections.singletonList(event1)));
+        // event-2 shows up late, it is older than the version already propagated
+        assertTrue(eventLogReader.read(Arrays.asList(event2, event1)).isEmpty());
+        assertEquals(Collections.singletonList(event3), eventLogReader.read(Collections.singletonList(event3)));
+    }
+
+    @Test
+    public void shouldPropagateEntityRecreatedAfterDeletion() {
+        Event event1 = event("event-1", 1L, Type.REPORTER, "reporter-1", Action.CREATE, 1000L);
+        Event event2 = event("event-2", 2L, Type.REPORTER, "reporter-1", Action.DELETE, null);
+        Event event3 = event("event-3", 3L, Type.REPORTER, "reporter-1", Action.CREATE, 1000L);
+
+        assertEquals(Collections.singletonList(event1), eventLogReader.read(Collections.singletonList(event1)));
+        assertEquals(Collections.singletonList(event2), eventLogReader.read(Collections.singletonList(event2)));
+        assertEquals(Collections.singletonList(event3), eventLogReader.read(Collections.singletonList(event3)));
+    }
+
+    @Test
+    public void shouldReadMissingSequencesAgain() {
+        eventLogReader.setPosition(10L);
+        Event event11 = event("event-11", 11L, Type.DOMAIN, "domain-11", Action.UPDATE, null);
+        Event event12 = event("event-12", 12L, Type.DOMAIN, "domain-12", Action.UPDATE, null);
+        Event event13 = event("event-13", 13L, Type.DOMAIN, "domain-13", Action.UPDATE, null);
+
+        // event-12 is not visible yet, the position stops before it
+        assertEquals(Arrays.asList(event11, event13), eventLogReader.read(Arrays.asList(event11, event13)));
+        assertEquals(11L, eventLogReader.getPosition());
+
+        clock.addAndGet(5000);
+        assertTrue(eventLogReader.read(Collections.singletonList(event13)).isEmpty());
+        assertEquals(11L, eventLogReader.getPosition());
+
+        // only the missing event is propagated
+        assertEquals(Collections.singletonList(event12), eventLogReader.read(Arrays.asList(event12, event13)));
+        assertEquals(13L, eventLogReader.getPosition());
+    }
+
+    @Test
+    public void shouldSkipMissingSequencesAfterTimeout() {
+        eventLogReader.setPosition(10L);
+        Event event12 = event("event-12", 12L, Type.DOMAIN, "domain-12", Action.UPDATE, null);
+        Event event13 = event("event-13", 13L, Type.DOMAIN, "domain-13", Action.UPDATE, null);
+
+        assertEquals(Arrays.asList(event12, event13), eventLogReader.read(Arrays.asList(event12, event13)));
+        assertEquals(10L, eventLogReader.getPosition());
+
+        // event-11 has never been inserted (or has been compacted)
+        clock.addAndGet(10000);
+        assertTrue(eventLogReader.read(Arrays.asList(event12, event13)).isEmpty());
+        assertEquals(13L, eventLogReader.getPosition());
+    }
+
+    @Test
+    public void shouldBoundMissingSequences() {
+        Event event = event("event-1", EventLogReader.MAX_GAPS + 10L, Type.DOMAIN, "domain-1", Action.UPDATE, null);
+
+        assertEquals(Collections.singletonList(event), eventLogReader.read(Collections.singletonList(event)));
+        // the sequences after the first MAX_GAPS ones are not waited for
+        assertEquals(0L, eventLogReader.getPosition());
+        clock.addAndGet(10000);
+        eventLogReader.read(Collections.emptyList());
+        assertEquals(EventLogReader.MAX_GAPS + 10L, eventLogReader.getPosition());
+    }
+
+    @Test
+    public void shouldForgetVersionsOncePositionMovesPast() {
+        Event event1 = event("event-1", 1L, Type.IDENTITY_PROVIDER, "idp-1", Action.UPDATE, 2000L);
+        Event event2 = event("event-2", 2L, Type.IDENTITY_PROVIDER, "idp-1", Action.UPDATE, 1000L);
+
+        assertEquals(Collections.singletonList(event1), eventLogReader.read(Collections.singletonList(event1)));
+        // no event can be read before event-1 anymore, the sequence order prevails
+        assertEquals(Collections.singletonList(event2), eventLogReader.read(Collections.singletonList(event2)));
+    }
+
+    @Test
+    public void shouldComputeNextPage() {
+        Event event1 = event("event-1", 11L, Type.DOMAIN, "domain-1", Action.UPDATE, null);
+        Event event2 = event("event-2", 12L, Type.DOMAIN, "domain-2", Action.UPDATE, null);
+
+        assertEquals(12L, EventLogReader.nextPage(Arrays.asList(event1, event2), 10L));
+        assertEquals(10L, EventLogReader.nextPage(Collections.emptyList(), 10L));
+    }
+
+    @Test
+    public void shouldCheckLoadedVersion() {
+        Payload payload = new Payload("idp-1", ReferenceType.DOMAIN, "domain-1", Action.UPDATE, new Date(2000L));
+
+        assertTrue(EventLogReader.isUpToDate(payload, new Date(2000L)));
+        assertFalse(EventLogReader.isUpToDate(payload, new Date(1000L)));
+        assertFalse(EventLogReader.isUpToDate(payload, null));
+        assertFalse(EventLogReader.isUpToDate(new Payload("idp-1", ReferenceType.DOMAIN, "domain-1", Action.UPDATE), new Date(2000L)));
+    }
+
+    private static Event event(String id, long sequence, Type type, String entityId, Action action, Long version) {
+        Event event = new Event(type, new Payload(entityId, ReferenceType.DOMAIN, "domain-1", action, version == null ? null : new Date(version)));
+        event.setId(id);
+        event.setSequence(sequence);
+        event.setCreatedAt(new Date(version == null ? System.currentTimeMillis() : version));
+        return event;
+    }
+}
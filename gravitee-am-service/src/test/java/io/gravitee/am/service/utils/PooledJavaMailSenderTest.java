@@ -0,0 +1,177 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.service.utils;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mail.SimpleMailMessage;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class PooledJavaMailSenderTest {
+
+    private SmtpStub smtpStub;
+    private PooledJavaMailSender mailSender;
+
+    @Before
+    public void setUp() throws IOException {
+        smtpStub = new SmtpStub();
+        mailSender = new PooledJavaMailSender(2, 60_000);
+        mailSender.setHost("localhost");
+        mailSender.setPort(smtpStub.getPort());
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        mailSender.close();
+        smtpStub.close();
+    }
+
+    @Test
+    public void shouldReuseConnection() {
+        for (int i = 0; i < 5; i++) {
+            mailSender.send(message());
+        }
+
+        assertEquals(5, smtpStub.messages.get());
+        assertEquals(1, smtpStub.connections.get());
+        assertEquals(1, mailSender.getIdleConnections());
+    }
+
+    @Test
+    public void shouldNotReuseExpiredConnection() throws Exception {
+        mailSender.close();
+        mailSender = new PooledJavaMailSender(2, 0);
+        mailSender.setHost("localhost");
+        mailSender.setPort(smtpStub.getPort());
+
+        mailSender.send(message());
+        mailSender.send(message());
+
+        assertEquals(2, smtpStub.messages.get());
+        assertEquals(2, smtpStub.connections.get());
+    }
+
+    @Test
+    public void shouldCloseIdleConnections() {
+        mailSender.send(message());
+        mailSender.close();
+
+        assertEquals(0, mailSender.getIdleConnections());
+    }
+
+    private static SimpleMailMessage message() {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom("no-reply@gravitee.io");
+        message.setTo("john@gravitee.io");
+        message.setSubject("subject");
+        message.setText("content");
+        return message;
+    }
+
+    /**
+     * Minimal SMTP server accepting every message, counting connections and received messages.
+     */
+    private static class SmtpStub implements AutoCloseable {
+
+        private final ServerSocket serverSocket;
+        private final AtomicInteger connections = new AtomicInteger();
+        private final AtomicInteger messages = new AtomicInteger();
+
+        SmtpStub() throws IOException {
+            serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+            Thread acceptor = new Thread(this::accept, "smtp-stub");
+            acceptor.setDaemon(true);
+            acceptor.start();
+        }
+
+        int getPort() {
+            return serverSocket.getLocalPort();
+        }
+
+        private void accept() {
+            while (!serverSocket.isClosed()) {
+                try {
+                    Socket socket = serverSocket.accept();
+                    connections.incrementAndGet();
+                    Thread session = new Thread(() -> handle(socket), "smtp-stub-session");
+                    session.setDaemon(true);
+                    session.start();
+                } catch (IOException e) {
+                    // server closed
+                }
+            }
+        }
+
+        private void handle(Socket socket) {
+            try (Socket s = socket;
+                 BufferedReader in = new BufferedReader(new InputStreamReader(s.getInputStream(), StandardCharsets.US_ASCII));
+                 PrintWriter out = new PrintWriter(s.getOutputStream(), true)) {
+                reply(out, "220 localhost ESMTP");
+                boolean data = false;
+                String line;
+                while ((line = in.readLine()) != null) {
+                    if (data) {
+                        if (".".equals(line)) {
+                            data = false;
+                            messages.incrementAndGet();
+                            reply(out, "250 OK");
+                        }
+                        continue;
+                    }
+                    String command = line.length() >= 4 ? line.substring(0, 4).toUpperCase() : line.toUpperCase();
+                    switch (command) {
+                        case "DATA":
+                            data = true;
+                            reply(out, "354 End data with <CR><LF>.<CR><LF>");
+                            break;
+                        case "QUIT":
+                            reply(out, "221 Bye");
+                            return;
+                        default:
+                            reply(out, "250 OK");
+                    }
+                }
+            } catch (IOException e) {
+                // connection closed
+            }
+        }
+
+        private static void reply(PrintWriter out, String response) {
+            out.print(response + "\r\n");
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            serverSocket.close();
+        }
+    }
+}
@@ -226,6 +226,15 @@ export class ApplicationOAuth2Component implements OnInit {
     return this.applicationOauthSettings.forcePKCE;
   }
 
+  statelessAccessToken(event) {
+    this.applicationOauthSettings.statelessAccessToken = event.checked;
+    this.formChanged = true;
+  }
+
+  isStatelessAccessToken() {
+    return this.applicationOauthSettings.statelessAccessToken;
+  }
+
   getScopeApproval(scopeKey) {
     const scopeApproval = this.selectedScopeApprovals[scopeKey];
     return this.getScopeExpiry(scopeApproval);